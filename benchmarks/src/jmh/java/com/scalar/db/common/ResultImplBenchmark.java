@@ -0,0 +1,80 @@
+package com.scalar.db.common;
+
+import com.scalar.db.api.Result;
+import com.scalar.db.api.TableMetadata;
+import com.scalar.db.io.BigIntColumn;
+import com.scalar.db.io.BlobColumn;
+import com.scalar.db.io.BooleanColumn;
+import com.scalar.db.io.Column;
+import com.scalar.db.io.DataType;
+import com.scalar.db.io.DoubleColumn;
+import com.scalar.db.io.IntColumn;
+import com.scalar.db.io.TextColumn;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Benchmarks for the materialization of {@link ResultImpl} and the access to its columns. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResultImplBenchmark {
+  private static final TableMetadata METADATA =
+      TableMetadata.newBuilder()
+          .addColumn("pk", DataType.INT)
+          .addColumn("ck", DataType.TEXT)
+          .addColumn("c_boolean", DataType.BOOLEAN)
+          .addColumn("c_bigint", DataType.BIGINT)
+          .addColumn("c_double", DataType.DOUBLE)
+          .addColumn("c_text", DataType.TEXT)
+          .addColumn("c_blob", DataType.BLOB)
+          .addPartitionKey("pk")
+          .addClusteringKey("ck")
+          .build();
+
+  private Map<String, Column<?>> columns;
+  private Result result;
+
+  @Setup
+  public void setUp() {
+    columns = new HashMap<>();
+    columns.put("pk", IntColumn.of("pk", 1));
+    columns.put("ck", TextColumn.of("ck", "clustering"));
+    columns.put("c_boolean", BooleanColumn.of("c_boolean", true));
+    columns.put("c_bigint", BigIntColumn.of("c_bigint", 100L));
+    columns.put("c_double", DoubleColumn.of("c_double", 1.0));
+    columns.put("c_text", TextColumn.of("c_text", "text"));
+    columns.put("c_blob", BlobColumn.of("c_blob", new byte[128]));
+    result = new ResultImpl(columns, METADATA);
+  }
+
+  @Benchmark
+  public Result materialize() {
+    return new ResultImpl(columns, METADATA);
+  }
+
+  @Benchmark
+  public void readAllColumns(Blackhole blackhole) {
+    blackhole.consume(result.getInt("pk"));
+    blackhole.consume(result.getText("ck"));
+    blackhole.consume(result.getBoolean("c_boolean"));
+    blackhole.consume(result.getBigInt("c_bigint"));
+    blackhole.consume(result.getDouble("c_double"));
+    blackhole.consume(result.getText("c_text"));
+    blackhole.consume(result.getBlobAsBytes("c_blob"));
+  }
+
+  @Benchmark
+  public void readKeys(Blackhole blackhole) {
+    blackhole.consume(result.getPartitionKey());
+    blackhole.consume(result.getClusteringKey());
+  }
+}
@@ -0,0 +1,107 @@
+package com.scalar.db.common.checker;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.scalar.db.api.DistributedStorageAdmin;
+import com.scalar.db.api.Get;
+import com.scalar.db.api.Put;
+import com.scalar.db.api.Scan;
+import com.scalar.db.api.TableMetadata;
+import com.scalar.db.common.TableMetadataManager;
+import com.scalar.db.config.DatabaseConfig;
+import com.scalar.db.exception.storage.ExecutionException;
+import com.scalar.db.io.DataType;
+import com.scalar.db.io.Key;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for {@link OperationChecker#check}, which is called for every storage operation. The
+ * table metadata is served from the cache of {@link TableMetadataManager}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OperationCheckerBenchmark {
+  private static final String NAMESPACE = "ns";
+  private static final String TABLE = "tbl";
+  private static final TableMetadata METADATA =
+      TableMetadata.newBuilder()
+          .addColumn("pk", DataType.INT)
+          .addColumn("ck", DataType.TEXT)
+          .addColumn("c1", DataType.INT)
+          .addColumn("c2", DataType.TEXT)
+          .addColumn("c3", DataType.BIGINT)
+          .addPartitionKey("pk")
+          .addClusteringKey("ck")
+          .build();
+
+  private OperationChecker operationChecker;
+  private Get get;
+  private Scan scan;
+  private Put put;
+
+  @Setup
+  public void setUp() throws ExecutionException {
+    DistributedStorageAdmin admin = mock(DistributedStorageAdmin.class);
+    when(admin.getTableMetadata(NAMESPACE, TABLE)).thenReturn(METADATA);
+    operationChecker =
+        new OperationChecker(
+            new DatabaseConfig(new Properties()), new TableMetadataManager(admin, -1));
+
+    get =
+        Get.newBuilder()
+            .namespace(NAMESPACE)
+            .table(TABLE)
+            .partitionKey(Key.ofInt("pk", 1))
+            .clusteringKey(Key.ofText("ck", "a"))
+            .projections("c1", "c2")
+            .build();
+    scan =
+        Scan.newBuilder()
+            .namespace(NAMESPACE)
+            .table(TABLE)
+            .partitionKey(Key.ofInt("pk", 1))
+            .start(Key.ofText("ck", "a"))
+            .end(Key.ofText("ck", "z"))
+            .ordering(Scan.Ordering.desc("ck"))
+            .limit(100)
+            .build();
+    put =
+        Put.newBuilder()
+            .namespace(NAMESPACE)
+            .table(TABLE)
+            .partitionKey(Key.ofInt("pk", 1))
+            .clusteringKey(Key.ofText("ck", "a"))
+            .intValue("c1", 1)
+            .textValue("c2", "value")
+            .bigIntValue("c3", 100L)
+            .build();
+  }
+
+  @Benchmark
+  public Get checkGet() throws ExecutionException {
+    operationChecker.check(get);
+    return get;
+  }
+
+  @Benchmark
+  public Scan checkScan() throws ExecutionException {
+    operationChecker.check(scan);
+    return scan;
+  }
+
+  @Benchmark
+  public Put checkPut() throws ExecutionException {
+    operationChecker.check(put);
+    return put;
+  }
+}
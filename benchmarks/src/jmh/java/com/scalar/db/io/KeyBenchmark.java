@@ -0,0 +1,66 @@
+package com.scalar.db.io;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Benchmarks for the construction and the comparison of {@link Key} and {@link Column}. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class KeyBenchmark {
+  private Key key1;
+  private Key key2;
+  private Key sameAsKey1;
+  private TextColumn column1;
+  private TextColumn column2;
+
+  @Setup
+  public void setUp() {
+    key1 = Key.of("c1", 1, "c2", "value", "c3", 100L);
+    key2 = Key.of("c1", 1, "c2", "value", "c3", 101L);
+    sameAsKey1 = Key.of("c1", 1, "c2", "value", "c3", 100L);
+    column1 = TextColumn.of("col", "aaaaaaaaaa");
+    column2 = TextColumn.of("col", "aaaaaaaaab");
+  }
+
+  @Benchmark
+  public Key createSingleColumnKey() {
+    return Key.ofInt("c1", 1);
+  }
+
+  @Benchmark
+  public Key createMultipleColumnKeyWithBuilder() {
+    return Key.newBuilder().addInt("c1", 1).addText("c2", "value").addBigInt("c3", 100L).build();
+  }
+
+  @Benchmark
+  public Column<?> createColumn() {
+    return TextColumn.of("col", "value");
+  }
+
+  @Benchmark
+  public int compareKeys() {
+    return key1.compareTo(key2);
+  }
+
+  @Benchmark
+  public boolean equalKeys() {
+    return key1.equals(sameAsKey1);
+  }
+
+  @Benchmark
+  public int hashCodeOfKey() {
+    return key1.hashCode();
+  }
+
+  @Benchmark
+  public int compareColumns() {
+    return column1.compareTo(column2);
+  }
+}
@@ -0,0 +1,57 @@
+package com.scalar.db.storage.dynamo.bytes;
+
+import com.google.common.collect.ImmutableMap;
+import com.scalar.db.api.Scan.Ordering.Order;
+import com.scalar.db.io.Key;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for {@link KeyBytesEncoder}, which encodes the clustering keys of DynamoDB items into
+ * order-preserving bytes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class KeyBytesEncoderBenchmark {
+  private Key singleColumnKey;
+  private Key multipleColumnKey;
+  private Map<String, Order> keyOrders;
+
+  @Setup
+  public void setUp() {
+    singleColumnKey = Key.ofInt("c1", 12345);
+    multipleColumnKey =
+        Key.newBuilder()
+            .addInt("c1", 12345)
+            .addText("c2", "clustering-key-value")
+            .addBigInt("c3", 1234567890L)
+            .addBlob("c4", new byte[] {1, 2, 3, 4, 5, 6, 7, 8})
+            .build();
+    keyOrders =
+        ImmutableMap.of("c1", Order.ASC, "c2", Order.DESC, "c3", Order.ASC, "c4", Order.DESC);
+  }
+
+  @Benchmark
+  public ByteBuffer encodeSingleColumnKey() {
+    return new KeyBytesEncoder().encode(singleColumnKey);
+  }
+
+  @Benchmark
+  public ByteBuffer encodeMultipleColumnKey() {
+    return new KeyBytesEncoder().encode(multipleColumnKey, keyOrders);
+  }
+
+  @Benchmark
+  public byte[] encodeMultipleColumnKeyToBytes() {
+    return new KeyBytesEncoder().encodeToBytes(multipleColumnKey, keyOrders);
+  }
+}
@@ -0,0 +1,92 @@
+package com.scalar.db.storage.jdbc;
+
+import com.scalar.db.api.TableMetadata;
+import com.scalar.db.io.DataType;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link ResultInterpreter} that materializes the rows of an in-memory SQLite
+ * table. The query execution is included in the measured time, so compare the results only with
+ * those of the same number of rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResultInterpreterBenchmark {
+  private static final TableMetadata METADATA =
+      TableMetadata.newBuilder()
+          .addColumn("pk", DataType.INT)
+          .addColumn("ck", DataType.INT)
+          .addColumn("c_boolean", DataType.BOOLEAN)
+          .addColumn("c_bigint", DataType.BIGINT)
+          .addColumn("c_double", DataType.DOUBLE)
+          .addColumn("c_text", DataType.TEXT)
+          .addColumn("c_blob", DataType.BLOB)
+          .addPartitionKey("pk")
+          .addClusteringKey("ck")
+          .build();
+
+  @Param({"1", "100"})
+  public int rows;
+
+  private Connection connection;
+  private PreparedStatement preparedStatement;
+  private ResultInterpreter resultInterpreter;
+
+  @Setup
+  public void setUp() throws SQLException {
+    connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+    try (Statement statement = connection.createStatement()) {
+      statement.execute(
+          "CREATE TABLE tbl(pk INT, ck INT, c_boolean BOOLEAN, c_bigint BIGINT, "
+              + "c_double DOUBLE, c_text TEXT, c_blob BLOB, PRIMARY KEY(pk, ck))");
+    }
+    try (PreparedStatement insert =
+        connection.prepareStatement("INSERT INTO tbl VALUES(?, ?, ?, ?, ?, ?, ?)")) {
+      for (int i = 0; i < rows; i++) {
+        insert.setInt(1, 0);
+        insert.setInt(2, i);
+        insert.setBoolean(3, i % 2 == 0);
+        insert.setLong(4, i);
+        insert.setDouble(5, i);
+        insert.setString(6, "text" + i);
+        insert.setBytes(7, new byte[64]);
+        insert.executeUpdate();
+      }
+    }
+    preparedStatement = connection.prepareStatement("SELECT * FROM tbl WHERE pk = 0");
+    resultInterpreter = new ResultInterpreter(Collections.emptyList(), METADATA);
+  }
+
+  @TearDown
+  public void tearDown() throws SQLException {
+    preparedStatement.close();
+    connection.close();
+  }
+
+  @Benchmark
+  public void interpret(Blackhole blackhole) throws SQLException {
+    try (ResultSet resultSet = preparedStatement.executeQuery()) {
+      while (resultSet.next()) {
+        blackhole.consume(resultInterpreter.interpret(resultSet));
+      }
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package com.scalar.db.transaction.consensuscommit;
+
+import com.scalar.db.config.DatabaseConfig;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Benchmarks for the slot reservation of {@link CoordinatorGroupCommitter} with the default group
+ * commit configuration. Multiple threads reserve slots concurrently as transactions do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class CoordinatorGroupCommitterBenchmark {
+  private CoordinatorGroupCommitter groupCommitter;
+
+  @Setup
+  public void setUp() {
+    groupCommitter =
+        new CoordinatorGroupCommitter(
+            new ConsensusCommitConfig(new DatabaseConfig(new Properties())));
+  }
+
+  @TearDown
+  public void tearDown() {
+    groupCommitter.close();
+  }
+
+  @Benchmark
+  public String reserveAndRemove() {
+    String fullKey = groupCommitter.reserve(UUID.randomUUID().toString());
+    groupCommitter.remove(fullKey);
+    return fullKey;
+  }
+}
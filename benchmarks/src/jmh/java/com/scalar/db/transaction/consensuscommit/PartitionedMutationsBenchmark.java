@@ -0,0 +1,57 @@
+package com.scalar.db.transaction.consensuscommit;
+
+import com.google.common.collect.ImmutableList;
+import com.scalar.db.api.Put;
+import com.scalar.db.io.Key;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for grouping mutations by partition and ordering the partitions with {@link
+ * PartitionedMutations}, which is done in the prepare, commit and rollback phases.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PartitionedMutationsBenchmark {
+  @Param({"10", "1000"})
+  public int mutations;
+
+  @Param({"1", "100"})
+  public int mutationsPerPartition;
+
+  private List<Put> puts;
+
+  @Setup
+  public void setUp() {
+    puts = new ArrayList<>(mutations);
+    for (int i = 0; i < mutations; i++) {
+      puts.add(
+          Put.newBuilder()
+              .namespace("ns")
+              .table("tbl")
+              .partitionKey(Key.ofInt("pk", i / mutationsPerPartition))
+              .clusteringKey(Key.ofInt("ck", i))
+              .intValue("val", i)
+              .build());
+    }
+    // Write sets are hash maps, so the mutations come in no particular order
+    Collections.shuffle(puts, new Random(0));
+  }
+
+  @Benchmark
+  public ImmutableList<PartitionedMutations.Key> partitionAndOrder() {
+    return new PartitionedMutations(puts).getOrderedKeys();
+  }
+}
@@ -0,0 +1,134 @@
+package com.scalar.db.transaction.consensuscommit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.scalar.db.api.DistributedStorageAdmin;
+import com.scalar.db.api.Put;
+import com.scalar.db.api.Scan;
+import com.scalar.db.api.TableMetadata;
+import com.scalar.db.common.ResultImpl;
+import com.scalar.db.exception.storage.ExecutionException;
+import com.scalar.db.exception.transaction.CrudException;
+import com.scalar.db.io.Column;
+import com.scalar.db.io.DataType;
+import com.scalar.db.io.IntColumn;
+import com.scalar.db.io.Key;
+import com.scalar.db.io.TextColumn;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for {@link Snapshot} with large write sets: adding writes, merging a read result with
+ * a write, and verifying a scan against the write set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SnapshotBenchmark {
+  private static final String NAMESPACE = "ns";
+  private static final String TABLE = "tbl";
+  private static final TableMetadata METADATA =
+      TableMetadata.newBuilder()
+          .addColumn("pk", DataType.INT)
+          .addColumn("ck", DataType.INT)
+          .addColumn("val", DataType.TEXT)
+          .addPartitionKey("pk")
+          .addClusteringKey("ck")
+          .build();
+
+  @Param({"10", "1000"})
+  public int writeSetSize;
+
+  private TransactionTableMetadataManager tableMetadataManager;
+  private List<Put> puts;
+  private Snapshot snapshotWithWriteSet;
+  private Snapshot.Key mergedKey;
+  private Optional<TransactionResult> readResult;
+  private Scan scan;
+
+  @Setup
+  public void setUp() throws ExecutionException {
+    DistributedStorageAdmin admin = mock(DistributedStorageAdmin.class);
+    when(admin.getTableMetadata(NAMESPACE, TABLE))
+        .thenReturn(ConsensusCommitUtils.buildTransactionTableMetadata(METADATA));
+    tableMetadataManager = new TransactionTableMetadataManager(admin, -1);
+
+    puts = new ArrayList<>(writeSetSize);
+    for (int i = 0; i < writeSetSize; i++) {
+      // Spread the writes over 10 partitions
+      puts.add(
+          Put.newBuilder()
+              .namespace(NAMESPACE)
+              .table(TABLE)
+              .partitionKey(Key.ofInt("pk", i % 10))
+              .clusteringKey(Key.ofInt("ck", i))
+              .textValue("val", "value" + i)
+              .build());
+    }
+
+    snapshotWithWriteSet = createSnapshot();
+    for (Put put : puts) {
+      snapshotWithWriteSet.put(new Snapshot.Key(put), put);
+    }
+
+    int mergedIndex = writeSetSize / 2;
+    mergedKey = new Snapshot.Key(puts.get(mergedIndex));
+    Map<String, Column<?>> columns = new HashMap<>();
+    columns.put("pk", IntColumn.of("pk", mergedIndex % 10));
+    columns.put("ck", IntColumn.of("ck", mergedIndex));
+    columns.put("val", TextColumn.of("val", "before"));
+    TableMetadata transactionTableMetadata =
+        ConsensusCommitUtils.buildTransactionTableMetadata(METADATA);
+    readResult =
+        Optional.of(new TransactionResult(new ResultImpl(columns, transactionTableMetadata)));
+
+    // Scan a partition that no write targets so that the whole write set is checked
+    scan =
+        Scan.newBuilder()
+            .namespace(NAMESPACE)
+            .table(TABLE)
+            .partitionKey(Key.ofInt("pk", -1))
+            .build();
+    snapshotWithWriteSet.put(scan, Collections.emptyMap());
+  }
+
+  private Snapshot createSnapshot() {
+    // The parallel executor is used only for the validation, which isn't measured here
+    return new Snapshot(
+        "id", Isolation.SERIALIZABLE, SerializableStrategy.EXTRA_READ, tableMetadataManager, null);
+  }
+
+  @Benchmark
+  public Snapshot putWriteSet() {
+    Snapshot snapshot = createSnapshot();
+    for (Put put : puts) {
+      snapshot.put(new Snapshot.Key(put), put);
+    }
+    return snapshot;
+  }
+
+  @Benchmark
+  public Optional<TransactionResult> mergeResult() throws CrudException {
+    return snapshotWithWriteSet.mergeResult(mergedKey, readResult);
+  }
+
+  @Benchmark
+  public Snapshot verifyScan() {
+    snapshotWithWriteSet.verify(scan);
+    return snapshotWithWriteSet;
+  }
+}
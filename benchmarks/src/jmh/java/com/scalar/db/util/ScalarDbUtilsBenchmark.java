@@ -0,0 +1,68 @@
+package com.scalar.db.util;
+
+import static com.scalar.db.api.ConditionBuilder.column;
+
+import com.google.common.collect.ImmutableSet;
+import com.scalar.db.api.Selection.Conjunction;
+import com.scalar.db.io.BigIntColumn;
+import com.scalar.db.io.Column;
+import com.scalar.db.io.IntColumn;
+import com.scalar.db.io.TextColumn;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for {@link ScalarDbUtils#columnsMatchAnyOfConjunctions}, which evaluates the
+ * conditions built with {@code ConditionBuilder} against records for cross-partition scans and
+ * merged results in transactions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ScalarDbUtilsBenchmark {
+  private Map<String, Column<?>> columns;
+  private Set<Conjunction> matchingConjunctions;
+  private Set<Conjunction> nonMatchingConjunctions;
+
+  @Setup
+  public void setUp() {
+    columns = new HashMap<>();
+    columns.put("c1", IntColumn.of("c1", 10));
+    columns.put("c2", TextColumn.of("c2", "scalardb-benchmark"));
+    columns.put("c3", BigIntColumn.of("c3", 1000L));
+
+    // (c1 > 100 AND c2 = 'x') OR (c1 >= 5 AND c2 LIKE 'scalar%' AND c3 < 2000)
+    matchingConjunctions =
+        ImmutableSet.of(
+            Conjunction.of(column("c1").isGreaterThanInt(100), column("c2").isEqualToText("x")),
+            Conjunction.of(
+                column("c1").isGreaterThanOrEqualToInt(5),
+                column("c2").isLikeText("scalar%"),
+                column("c3").isLessThanBigInt(2000L)));
+    // (c1 > 100) OR (c2 = 'x') OR (c3 < 0)
+    nonMatchingConjunctions =
+        ImmutableSet.of(
+            Conjunction.of(column("c1").isGreaterThanInt(100)),
+            Conjunction.of(column("c2").isEqualToText("x")),
+            Conjunction.of(column("c3").isLessThanBigInt(0L)));
+  }
+
+  @Benchmark
+  public boolean matchConjunctions() {
+    return ScalarDbUtils.columnsMatchAnyOfConjunctions(columns, matchingConjunctions);
+  }
+
+  @Benchmark
+  public boolean notMatchConjunctions() {
+    return ScalarDbUtils.columnsMatchAnyOfConjunctions(columns, nonMatchingConjunctions);
+  }
+}
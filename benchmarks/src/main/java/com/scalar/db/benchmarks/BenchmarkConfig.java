@@ -0,0 +1,84 @@
+package com.scalar.db.benchmarks;
+
+import static com.scalar.db.config.ConfigUtils.getBoolean;
+import static com.scalar.db.config.ConfigUtils.getInt;
+import static com.scalar.db.config.ConfigUtils.getString;
+
+import com.google.common.base.MoreObjects;
+import java.util.Locale;
+import java.util.Properties;
+import javax.annotation.concurrent.Immutable;
+
+/** The settings of {@link TransactionBenchmark} other than those of ScalarDB itself. */
+@Immutable
+public class BenchmarkConfig {
+  public static final String PREFIX = "scalar.db.benchmarks.";
+  public static final String WORKLOAD = PREFIX + "workload";
+  public static final String MATRIX = PREFIX + "matrix";
+  public static final String TWO_PHASE_COMMIT = PREFIX + "two_phase_commit";
+  public static final String THREADS = PREFIX + "threads";
+  public static final String WARMUP_SECS = PREFIX + "warmup_secs";
+  public static final String DURATION_SECS = PREFIX + "duration_secs";
+
+  public static final String DEFAULT_WORKLOAD = YcsbWorkload.NAME;
+  public static final int DEFAULT_THREADS = 8;
+  public static final int DEFAULT_WARMUP_SECS = 10;
+  public static final int DEFAULT_DURATION_SECS = 30;
+
+  private final String workload;
+  private final boolean matrix;
+  private final boolean twoPhaseCommit;
+  private final int threads;
+  private final int warmupSecs;
+  private final int durationSecs;
+
+  public BenchmarkConfig(Properties properties) {
+    workload = getString(properties, WORKLOAD, DEFAULT_WORKLOAD).toLowerCase(Locale.ROOT);
+    matrix = getBoolean(properties, MATRIX, false);
+    twoPhaseCommit = getBoolean(properties, TWO_PHASE_COMMIT, false);
+    threads = getInt(properties, THREADS, DEFAULT_THREADS);
+    warmupSecs = getInt(properties, WARMUP_SECS, DEFAULT_WARMUP_SECS);
+    durationSecs = getInt(properties, DURATION_SECS, DEFAULT_DURATION_SECS);
+    if (threads <= 0 || warmupSecs < 0 || durationSecs <= 0) {
+      throw new IllegalArgumentException(
+          "The threads and the duration must be positive, and the warmup must not be negative");
+    }
+  }
+
+  public String getWorkload() {
+    return workload;
+  }
+
+  /** @return whether to run all the supported combinations of the consensus commit settings */
+  public boolean isMatrix() {
+    return matrix;
+  }
+
+  public boolean isTwoPhaseCommit() {
+    return twoPhaseCommit;
+  }
+
+  public int getThreads() {
+    return threads;
+  }
+
+  public int getWarmupSecs() {
+    return warmupSecs;
+  }
+
+  public int getDurationSecs() {
+    return durationSecs;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("workload", workload)
+        .add("matrix", matrix)
+        .add("twoPhaseCommit", twoPhaseCommit)
+        .add("threads", threads)
+        .add("warmupSecs", warmupSecs)
+        .add("durationSecs", durationSecs)
+        .toString();
+  }
+}
@@ -0,0 +1,119 @@
+package com.scalar.db.benchmarks;
+
+import com.scalar.db.util.metrics.HistogramSnapshot;
+import java.util.Locale;
+import java.util.Map;
+import javax.annotation.concurrent.Immutable;
+
+/** The result of a single run of {@link TransactionBenchmark}. */
+@Immutable
+public class BenchmarkResult {
+  private final String label;
+  private final long durationNanos;
+  private final long commitCount;
+  private final long conflictCount;
+  private final long unknownCount;
+  private final long errorCount;
+  private final HistogramSnapshot latencyMillis;
+  private final Map<String, HistogramSnapshot> phaseLatencyMillis;
+
+  public BenchmarkResult(
+      String label,
+      long durationNanos,
+      long commitCount,
+      long conflictCount,
+      long unknownCount,
+      long errorCount,
+      HistogramSnapshot latencyMillis,
+      Map<String, HistogramSnapshot> phaseLatencyMillis) {
+    this.label = label;
+    this.durationNanos = durationNanos;
+    this.commitCount = commitCount;
+    this.conflictCount = conflictCount;
+    this.unknownCount = unknownCount;
+    this.errorCount = errorCount;
+    this.latencyMillis = latencyMillis;
+    this.phaseLatencyMillis = phaseLatencyMillis;
+  }
+
+  public String getLabel() {
+    return label;
+  }
+
+  public long getCommitCount() {
+    return commitCount;
+  }
+
+  public long getConflictCount() {
+    return conflictCount;
+  }
+
+  public long getUnknownCount() {
+    return unknownCount;
+  }
+
+  public long getErrorCount() {
+    return errorCount;
+  }
+
+  /** @return the number of committed transactions per second */
+  public double getThroughput() {
+    return commitCount * 1_000_000_000.0 / durationNanos;
+  }
+
+  /** @return the number of conflicted transactions divided by that of all the transactions */
+  public double getConflictRate() {
+    long total = commitCount + conflictCount + unknownCount + errorCount;
+    return total == 0 ? 0.0 : (double) conflictCount / total;
+  }
+
+  /** @return the latency of the committed transactions in milliseconds */
+  public HistogramSnapshot getLatencyMillis() {
+    return latencyMillis;
+  }
+
+  /** @return a map from the consensus commit operation names to their latency in milliseconds */
+  public Map<String, HistogramSnapshot> getPhaseLatencyMillis() {
+    return phaseLatencyMillis;
+  }
+
+  /** @return a human-readable report of this result */
+  public String toReport() {
+    StringBuilder builder = new StringBuilder();
+    builder
+        .append("== ")
+        .append(label)
+        .append(" ==\n")
+        .append(
+            String.format(
+                Locale.ROOT,
+                "throughput: %.1f tx/s, committed: %d, conflicted: %d (%.2f%%), unknown: %d,"
+                    + " errors: %d%n",
+                getThroughput(),
+                commitCount,
+                conflictCount,
+                getConflictRate() * 100,
+                unknownCount,
+                errorCount))
+        .append(formatLatency("latency", latencyMillis));
+    for (Map.Entry<String, HistogramSnapshot> entry : phaseLatencyMillis.entrySet()) {
+      builder.append(formatLatency("  " + entry.getKey(), entry.getValue()));
+    }
+    return builder.toString();
+  }
+
+  private static String formatLatency(String name, HistogramSnapshot snapshot) {
+    return String.format(
+        Locale.ROOT,
+        "%-20s count: %d, mean: %.2f ms, p50: %.2f ms, p90: %.2f ms, p99: %.2f ms,"
+            + " p99.9: %.2f ms, max: %.2f ms%n",
+        name,
+        snapshot.getCount(),
+        snapshot.getMean(),
+        snapshot.getP50(),
+        snapshot.getP90(),
+        snapshot.getP99(),
+        snapshot.getP999(),
+        snapshot.getMax());
+  }
+}
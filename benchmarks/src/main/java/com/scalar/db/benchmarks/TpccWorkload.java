@@ -0,0 +1,349 @@
+package com.scalar.db.benchmarks;
+
+import static com.scalar.db.config.ConfigUtils.getInt;
+import static com.scalar.db.config.ConfigUtils.getString;
+
+import com.google.common.collect.ImmutableMap;
+import com.scalar.db.api.DistributedTransaction;
+import com.scalar.db.api.DistributedTransactionManager;
+import com.scalar.db.api.Get;
+import com.scalar.db.api.Insert;
+import com.scalar.db.api.Mutation;
+import com.scalar.db.api.Result;
+import com.scalar.db.api.TableMetadata;
+import com.scalar.db.api.TransactionCrudOperable;
+import com.scalar.db.api.Update;
+import com.scalar.db.api.Upsert;
+import com.scalar.db.exception.transaction.CrudException;
+import com.scalar.db.exception.transaction.TransactionException;
+import com.scalar.db.io.DataType;
+import com.scalar.db.io.Key;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Random;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A simplified TPC-C workload that consists of the New-Order and the Payment transactions. The
+ * other transactions and the columns that the two transactions don't touch are omitted, but the
+ * access patterns, including the contention on the district records, are kept.
+ */
+@ThreadSafe
+public class TpccWorkload implements Workload {
+  public static final String NAME = "tpcc";
+  public static final String PREFIX = BenchmarkConfig.PREFIX + NAME + ".";
+  public static final String WAREHOUSES = PREFIX + "warehouses";
+  public static final String CUSTOMERS_PER_DISTRICT = PREFIX + "customers_per_district";
+  public static final String ITEMS = PREFIX + "items";
+  public static final String NEW_ORDER_PROPORTION = PREFIX + "new_order_proportion";
+
+  private static final int DISTRICTS_PER_WAREHOUSE = 10;
+  private static final int MIN_ORDER_LINES = 5;
+  private static final int MAX_ORDER_LINES = 15;
+  private static final int INITIAL_STOCK_QUANTITY = 100;
+  private static final int LOAD_BATCH_SIZE = 100;
+
+  private static final String WAREHOUSE = "warehouse";
+  private static final String DISTRICT = "district";
+  private static final String CUSTOMER = "customer";
+  private static final String STOCK = "stock";
+  private static final String ORDERS = "orders";
+  private static final String ORDER_LINE = "order_line";
+
+  private final int warehouses;
+  private final int customersPerDistrict;
+  private final int items;
+  private final double newOrderProportion;
+
+  public TpccWorkload(Properties properties) {
+    warehouses = getInt(properties, WAREHOUSES, 1);
+    customersPerDistrict = getInt(properties, CUSTOMERS_PER_DISTRICT, 300);
+    items = getInt(properties, ITEMS, 1000);
+    newOrderProportion = Double.parseDouble(getString(properties, NEW_ORDER_PROPORTION, "0.5"));
+  }
+
+  @Override
+  public Map<String, TableMetadata> getTables() {
+    return ImmutableMap.<String, TableMetadata>builder()
+        .put(
+            WAREHOUSE,
+            TableMetadata.newBuilder()
+                .addColumn("w_id", DataType.INT)
+                .addColumn("w_ytd", DataType.DOUBLE)
+                .addPartitionKey("w_id")
+                .build())
+        .put(
+            DISTRICT,
+            TableMetadata.newBuilder()
+                .addColumn("d_w_id", DataType.INT)
+                .addColumn("d_id", DataType.INT)
+                .addColumn("d_next_o_id", DataType.INT)
+                .addColumn("d_ytd", DataType.DOUBLE)
+                .addPartitionKey("d_w_id")
+                .addClusteringKey("d_id")
+                .build())
+        .put(
+            CUSTOMER,
+            TableMetadata.newBuilder()
+                .addColumn("c_w_id", DataType.INT)
+                .addColumn("c_d_id", DataType.INT)
+                .addColumn("c_id", DataType.INT)
+                .addColumn("c_balance", DataType.DOUBLE)
+                .addColumn("c_payment_cnt", DataType.INT)
+                .addPartitionKey("c_w_id")
+                .addPartitionKey("c_d_id")
+                .addClusteringKey("c_id")
+                .build())
+        .put(
+            STOCK,
+            TableMetadata.newBuilder()
+                .addColumn("s_w_id", DataType.INT)
+                .addColumn("s_i_id", DataType.INT)
+                .addColumn("s_quantity", DataType.INT)
+                .addColumn("s_order_cnt", DataType.INT)
+                .addPartitionKey("s_w_id")
+                .addClusteringKey("s_i_id")
+                .build())
+        .put(
+            ORDERS,
+            TableMetadata.newBuilder()
+                .addColumn("o_w_id", DataType.INT)
+                .addColumn("o_d_id", DataType.INT)
+                .addColumn("o_id", DataType.INT)
+                .addColumn("o_c_id", DataType.INT)
+                .addColumn("o_ol_cnt", DataType.INT)
+                .addPartitionKey("o_w_id")
+                .addPartitionKey("o_d_id")
+                .addClusteringKey("o_id")
+                .build())
+        .put(
+            ORDER_LINE,
+            TableMetadata.newBuilder()
+                .addColumn("ol_w_id", DataType.INT)
+                .addColumn("ol_d_id", DataType.INT)
+                .addColumn("ol_o_id", DataType.INT)
+                .addColumn("ol_number", DataType.INT)
+                .addColumn("ol_i_id", DataType.INT)
+                .addColumn("ol_quantity", DataType.INT)
+                .addPartitionKey("ol_w_id")
+                .addPartitionKey("ol_d_id")
+                .addClusteringKey("ol_o_id")
+                .addClusteringKey("ol_number")
+                .build())
+        .build();
+  }
+
+  @Override
+  public void load(DistributedTransactionManager manager) throws TransactionException {
+    List<Mutation> mutations = new ArrayList<>();
+    for (int w = 1; w <= warehouses; w++) {
+      mutations.add(
+          Upsert.newBuilder()
+              .namespace(NAMESPACE)
+              .table(WAREHOUSE)
+              .partitionKey(Key.ofInt("w_id", w))
+              .doubleValue("w_ytd", 0.0)
+              .build());
+      for (int d = 1; d <= DISTRICTS_PER_WAREHOUSE; d++) {
+        mutations.add(
+            Upsert.newBuilder()
+                .namespace(NAMESPACE)
+                .table(DISTRICT)
+                .partitionKey(Key.ofInt("d_w_id", w))
+                .clusteringKey(Key.ofInt("d_id", d))
+                .intValue("d_next_o_id", 1)
+                .doubleValue("d_ytd", 0.0)
+                .build());
+        for (int c = 1; c <= customersPerDistrict; c++) {
+          mutations.add(
+              Upsert.newBuilder()
+                  .namespace(NAMESPACE)
+                  .table(CUSTOMER)
+                  .partitionKey(Key.of("c_w_id", w, "c_d_id", d))
+                  .clusteringKey(Key.ofInt("c_id", c))
+                  .doubleValue("c_balance", 0.0)
+                  .intValue("c_payment_cnt", 0)
+                  .build());
+        }
+      }
+      for (int i = 1; i <= items; i++) {
+        mutations.add(
+            Upsert.newBuilder()
+                .namespace(NAMESPACE)
+                .table(STOCK)
+                .partitionKey(Key.ofInt("s_w_id", w))
+                .clusteringKey(Key.ofInt("s_i_id", i))
+                .intValue("s_quantity", INITIAL_STOCK_QUANTITY)
+                .intValue("s_order_cnt", 0)
+                .build());
+      }
+    }
+
+    for (int start = 0; start < mutations.size(); start += LOAD_BATCH_SIZE) {
+      DistributedTransaction transaction = manager.begin();
+      try {
+        transaction.mutate(
+            mutations.subList(start, Math.min(start + LOAD_BATCH_SIZE, mutations.size())));
+        transaction.commit();
+      } catch (TransactionException e) {
+        transaction.rollback();
+        throw e;
+      }
+    }
+  }
+
+  @Override
+  public void execute(TransactionCrudOperable transaction, Random random) throws CrudException {
+    int warehouseId = random.nextInt(warehouses) + 1;
+    int districtId = random.nextInt(DISTRICTS_PER_WAREHOUSE) + 1;
+    int customerId = random.nextInt(customersPerDistrict) + 1;
+    if (random.nextDouble() < newOrderProportion) {
+      newOrder(transaction, random, warehouseId, districtId, customerId);
+    } else {
+      payment(transaction, random, warehouseId, districtId, customerId);
+    }
+  }
+
+  private void newOrder(
+      TransactionCrudOperable transaction,
+      Random random,
+      int warehouseId,
+      int districtId,
+      int customerId)
+      throws CrudException {
+    Result district = getRequired(transaction, district(warehouseId, districtId));
+    int orderId = district.getInt("d_next_o_id");
+    transaction.update(
+        Update.newBuilder()
+            .namespace(NAMESPACE)
+            .table(DISTRICT)
+            .partitionKey(Key.ofInt("d_w_id", warehouseId))
+            .clusteringKey(Key.ofInt("d_id", districtId))
+            .intValue("d_next_o_id", orderId + 1)
+            .build());
+
+    int orderLineCount = MIN_ORDER_LINES + random.nextInt(MAX_ORDER_LINES - MIN_ORDER_LINES + 1);
+    transaction.insert(
+        Insert.newBuilder()
+            .namespace(NAMESPACE)
+            .table(ORDERS)
+            .partitionKey(Key.of("o_w_id", warehouseId, "o_d_id", districtId))
+            .clusteringKey(Key.ofInt("o_id", orderId))
+            .intValue("o_c_id", customerId)
+            .intValue("o_ol_cnt", orderLineCount)
+            .build());
+
+    for (int number = 1; number <= orderLineCount; number++) {
+      int itemId = random.nextInt(items) + 1;
+      int quantity = random.nextInt(10) + 1;
+      Result stock =
+          getRequired(
+              transaction,
+              Get.newBuilder()
+                  .namespace(NAMESPACE)
+                  .table(STOCK)
+                  .partitionKey(Key.ofInt("s_w_id", warehouseId))
+                  .clusteringKey(Key.ofInt("s_i_id", itemId))
+                  .build());
+      int stockQuantity = stock.getInt("s_quantity");
+      // Restock as TPC-C does when the quantity gets low
+      int newQuantity =
+          stockQuantity - quantity >= 10 ? stockQuantity - quantity : stockQuantity - quantity + 91;
+      transaction.update(
+          Update.newBuilder()
+              .namespace(NAMESPACE)
+              .table(STOCK)
+              .partitionKey(Key.ofInt("s_w_id", warehouseId))
+              .clusteringKey(Key.ofInt("s_i_id", itemId))
+              .intValue("s_quantity", newQuantity)
+              .intValue("s_order_cnt", stock.getInt("s_order_cnt") + 1)
+              .build());
+      transaction.insert(
+          Insert.newBuilder()
+              .namespace(NAMESPACE)
+              .table(ORDER_LINE)
+              .partitionKey(Key.of("ol_w_id", warehouseId, "ol_d_id", districtId))
+              .clusteringKey(Key.of("ol_o_id", orderId, "ol_number", number))
+              .intValue("ol_i_id", itemId)
+              .intValue("ol_quantity", quantity)
+              .build());
+    }
+  }
+
+  private void payment(
+      TransactionCrudOperable transaction,
+      Random random,
+      int warehouseId,
+      int districtId,
+      int customerId)
+      throws CrudException {
+    double amount = 1.0 + random.nextInt(500000) / 100.0;
+
+    Result warehouse =
+        getRequired(
+            transaction,
+            Get.newBuilder()
+                .namespace(NAMESPACE)
+                .table(WAREHOUSE)
+                .partitionKey(Key.ofInt("w_id", warehouseId))
+                .build());
+    transaction.update(
+        Update.newBuilder()
+            .namespace(NAMESPACE)
+            .table(WAREHOUSE)
+            .partitionKey(Key.ofInt("w_id", warehouseId))
+            .doubleValue("w_ytd", warehouse.getDouble("w_ytd") + amount)
+            .build());
+
+    Result district = getRequired(transaction, district(warehouseId, districtId));
+    transaction.update(
+        Update.newBuilder()
+            .namespace(NAMESPACE)
+            .table(DISTRICT)
+            .partitionKey(Key.ofInt("d_w_id", warehouseId))
+            .clusteringKey(Key.ofInt("d_id", districtId))
+            .doubleValue("d_ytd", district.getDouble("d_ytd") + amount)
+            .build());
+
+    Key customerPartitionKey = Key.of("c_w_id", warehouseId, "c_d_id", districtId);
+    Result customer =
+        getRequired(
+            transaction,
+            Get.newBuilder()
+                .namespace(NAMESPACE)
+                .table(CUSTOMER)
+                .partitionKey(customerPartitionKey)
+                .clusteringKey(Key.ofInt("c_id", customerId))
+                .build());
+    transaction.update(
+        Update.newBuilder()
+            .namespace(NAMESPACE)
+            .table(CUSTOMER)
+            .partitionKey(customerPartitionKey)
+            .clusteringKey(Key.ofInt("c_id", customerId))
+            .doubleValue("c_balance", customer.getDouble("c_balance") - amount)
+            .intValue("c_payment_cnt", customer.getInt("c_payment_cnt") + 1)
+            .build());
+  }
+
+  private Get district(int warehouseId, int districtId) {
+    return Get.newBuilder()
+        .namespace(NAMESPACE)
+        .table(DISTRICT)
+        .partitionKey(Key.ofInt("d_w_id", warehouseId))
+        .clusteringKey(Key.ofInt("d_id", districtId))
+        .build();
+  }
+
+  private Result getRequired(TransactionCrudOperable transaction, Get get) throws CrudException {
+    Optional<Result> result = transaction.get(get);
+    if (!result.isPresent()) {
+      // Never happens unless the loaded records are modified outside the benchmark
+      throw new IllegalStateException("The record is not loaded. Get: " + get);
+    }
+    return result.get();
+  }
+}
@@ -0,0 +1,402 @@
+package com.scalar.db.benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import com.scalar.db.api.DistributedTransaction;
+import com.scalar.db.api.DistributedTransactionAdmin;
+import com.scalar.db.api.DistributedTransactionManager;
+import com.scalar.db.api.TableMetadata;
+import com.scalar.db.api.TwoPhaseCommitTransaction;
+import com.scalar.db.api.TwoPhaseCommitTransactionManager;
+import com.scalar.db.config.DatabaseConfig;
+import com.scalar.db.exception.transaction.CommitConflictException;
+import com.scalar.db.exception.transaction.CrudConflictException;
+import com.scalar.db.exception.transaction.PreparationConflictException;
+import com.scalar.db.exception.transaction.RollbackException;
+import com.scalar.db.exception.transaction.TransactionException;
+import com.scalar.db.exception.transaction.UnknownTransactionStatusException;
+import com.scalar.db.exception.transaction.ValidationConflictException;
+import com.scalar.db.service.TransactionFactory;
+import com.scalar.db.transaction.consensuscommit.ConsensusCommitConfig;
+import com.scalar.db.transaction.consensuscommit.Isolation;
+import com.scalar.db.util.metrics.Histogram;
+import com.scalar.db.util.metrics.HistogramSnapshot;
+import com.scalar.db.util.metrics.OperationMetricsFactory;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+/**
+ * An end-to-end benchmark of the consensus commit transactions. It loads a {@link Workload}, runs
+ * it with multiple threads for a fixed duration after a warmup, and reports the throughput, the
+ * latency percentiles, the conflict rate and the latency of each commit phase, which is taken
+ * from the JMX operation metrics of the consensus commit.
+ *
+ * <p>Usage: {@code TransactionBenchmark [<properties file>]}. The {@code scalar.db.*} system
+ * properties override the properties in the file. If no storage is configured, a temporary
+ * SQLite database is used. The in-memory storage can be used as a baseline without any I/O. With
+ * {@link BenchmarkConfig#MATRIX}, the benchmark runs all the combinations of the isolation levels,
+ * the parallel executions and the group commit.
+ */
+public final class TransactionBenchmark {
+  private static final String SYSTEM_PROPERTY_PREFIX = DatabaseConfig.PREFIX;
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+  private static final String PHASE_METRICS_PATTERN =
+      "com.scalar.db:type=Operation,scope=consensus_commit,*";
+
+  private TransactionBenchmark() {}
+
+  public static void main(String[] args) throws Exception {
+    Properties properties = loadProperties(args);
+    BenchmarkConfig config = new BenchmarkConfig(properties);
+    Workload workload = createWorkload(config.getWorkload(), properties);
+    System.out.println("Benchmark config: " + config);
+
+    prepare(properties, workload);
+
+    List<BenchmarkResult> results = new ArrayList<>();
+    for (Map.Entry<String, Properties> run : createRuns(properties, config).entrySet()) {
+      BenchmarkResult result = run(run.getKey(), run.getValue(), config, workload);
+      System.out.print(result.toReport());
+      results.add(result);
+    }
+
+    if (results.size() > 1) {
+      System.out.println("== Summary ==");
+      for (BenchmarkResult result : results) {
+        System.out.printf(
+            "%-60s %10.1f tx/s, p99: %8.2f ms, conflicts: %6.2f%%%n",
+            result.getLabel(),
+            result.getThroughput(),
+            result.getLatencyMillis().getP99(),
+            result.getConflictRate() * 100);
+      }
+    }
+  }
+
+  private static Properties loadProperties(String[] args) throws IOException {
+    Properties properties = new Properties();
+    if (args.length > 0) {
+      try (InputStream stream = Files.newInputStream(Paths.get(args[0]))) {
+        properties.load(stream);
+      }
+    }
+    for (String name : System.getProperties().stringPropertyNames()) {
+      if (name.startsWith(SYSTEM_PROPERTY_PREFIX)) {
+        properties.setProperty(name, System.getProperty(name));
+      }
+    }
+
+    if (!properties.containsKey(DatabaseConfig.STORAGE)) {
+      File file = File.createTempFile("scalardb-benchmark", ".sqlite3");
+      file.deleteOnExit();
+      properties.setProperty(DatabaseConfig.STORAGE, "jdbc");
+      properties.setProperty(
+          DatabaseConfig.CONTACT_POINTS,
+          "jdbc:sqlite:" + file.getAbsolutePath() + "?busy_timeout=50000");
+    }
+    properties.setProperty(
+        DatabaseConfig.TRANSACTION_MANAGER, ConsensusCommitConfig.TRANSACTION_MANAGER_NAME);
+    // The commit phase breakdown is taken from the JMX operation metrics
+    properties.setProperty(DatabaseConfig.METRICS_TYPE, "jmx");
+    return properties;
+  }
+
+  private static Workload createWorkload(String name, Properties properties) {
+    switch (name) {
+      case YcsbWorkload.NAME:
+        return new YcsbWorkload(properties);
+      case TpccWorkload.NAME:
+        return new TpccWorkload(properties);
+      default:
+        throw new IllegalArgumentException("Unknown workload: " + name);
+    }
+  }
+
+  private static void prepare(Properties properties, Workload workload)
+      throws TransactionException {
+    TransactionFactory factory = TransactionFactory.create(properties);
+    DistributedTransactionAdmin admin = factory.getTransactionAdmin();
+    try {
+      admin.createCoordinatorTables(true);
+      admin.createNamespace(Workload.NAMESPACE, true);
+      for (Map.Entry<String, TableMetadata> table : workload.getTables().entrySet()) {
+        admin.createTable(Workload.NAMESPACE, table.getKey(), table.getValue(), true);
+      }
+    } finally {
+      admin.close();
+    }
+
+    DistributedTransactionManager manager = factory.getTransactionManager();
+    try {
+      long start = System.nanoTime();
+      workload.load(manager);
+      System.out.printf(
+          "Loaded the records in %d ms%n",
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    } finally {
+      manager.close();
+    }
+  }
+
+  private static Map<String, Properties> createRuns(Properties properties, BenchmarkConfig config) {
+    if (!config.isMatrix()) {
+      return Collections.singletonMap(describe(properties), properties);
+    }
+
+    List<String[]> isolations =
+        ImmutableList.of(
+            new String[] {"SNAPSHOT", "EXTRA_READ"},
+            new String[] {"SERIALIZABLE", "EXTRA_READ"},
+            new String[] {"SERIALIZABLE", "EXTRA_WRITE"});
+    // The group commit isn't supported with the two-phase commit interface
+    List<Boolean> groupCommits =
+        config.isTwoPhaseCommit() ? ImmutableList.of(false) : ImmutableList.of(false, true);
+
+    Map<String, Properties> runs = new LinkedHashMap<>();
+    for (String[] isolation : isolations) {
+      for (boolean parallel : ImmutableList.of(false, true)) {
+        for (boolean groupCommit : groupCommits) {
+          Properties run = new Properties();
+          run.putAll(properties);
+          run.setProperty(ConsensusCommitConfig.ISOLATION_LEVEL, isolation[0]);
+          run.setProperty(ConsensusCommitConfig.SERIALIZABLE_STRATEGY, isolation[1]);
+          String enabled = String.valueOf(parallel);
+          run.setProperty(ConsensusCommitConfig.PARALLEL_PREPARATION_ENABLED, enabled);
+          run.setProperty(ConsensusCommitConfig.PARALLEL_VALIDATION_ENABLED, enabled);
+          run.setProperty(ConsensusCommitConfig.PARALLEL_COMMIT_ENABLED, enabled);
+          run.setProperty(ConsensusCommitConfig.PARALLEL_ROLLBACK_ENABLED, enabled);
+          run.setProperty(
+              ConsensusCommitConfig.COORDINATOR_GROUP_COMMIT_ENABLED, String.valueOf(groupCommit));
+          runs.put(describe(run), run);
+        }
+      }
+    }
+    return runs;
+  }
+
+  private static String describe(Properties properties) {
+    ConsensusCommitConfig config = new ConsensusCommitConfig(new DatabaseConfig(properties));
+    StringBuilder builder = new StringBuilder().append(config.getIsolation());
+    if (config.getIsolation() == Isolation.SERIALIZABLE) {
+      builder.append('/').append(config.getSerializableStrategy());
+    }
+    builder.append(", parallel: ").append(config.isParallelCommitEnabled());
+    builder.append(", group commit: ").append(config.isCoordinatorGroupCommitEnabled());
+    return builder.toString();
+  }
+
+  private static BenchmarkResult run(
+      String label, Properties properties, BenchmarkConfig config, Workload workload)
+      throws InterruptedException, ExecutionException {
+    TransactionFactory factory = TransactionFactory.create(properties);
+    TransactionRunner runner;
+    AutoCloseable manager;
+    if (config.isTwoPhaseCommit()) {
+      TwoPhaseCommitTransactionManager twoPhaseManager =
+          factory.getTwoPhaseCommitTransactionManager();
+      runner = random -> runTwoPhaseCommitTransaction(twoPhaseManager, workload, random);
+      manager = twoPhaseManager::close;
+    } else {
+      DistributedTransactionManager oneManager = factory.getTransactionManager();
+      runner = random -> runTransaction(oneManager, workload, random);
+      manager = oneManager::close;
+    }
+
+    Counters counters = new Counters();
+    long warmupNanos = TimeUnit.SECONDS.toNanos(config.getWarmupSecs());
+    long durationNanos = TimeUnit.SECONDS.toNanos(config.getDurationSecs());
+    long measurementStart = System.nanoTime() + warmupNanos;
+    long measurementEnd = measurementStart + durationNanos;
+
+    ExecutorService executor = Executors.newFixedThreadPool(config.getThreads());
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < config.getThreads(); i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  ThreadLocalRandom random = ThreadLocalRandom.current();
+                  long now;
+                  while ((now = System.nanoTime()) < measurementEnd) {
+                    boolean measured = now >= measurementStart;
+                    Outcome outcome = execute(runner, random);
+                    if (measured) {
+                      counters.record(outcome, System.nanoTime() - now);
+                    }
+                  }
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+      closeQuietly(manager);
+    }
+
+    BenchmarkResult result =
+        new BenchmarkResult(
+            label,
+            durationNanos,
+            counters.commits.sum(),
+            counters.conflicts.sum(),
+            counters.unknowns.sum(),
+            counters.errors.sum(),
+            counters.latency.snapshot(NANOS_PER_MILLI),
+            collectPhaseLatencyMillis());
+    // Reset the shared operation metrics for the next run
+    OperationMetricsFactory.create(new DatabaseConfig(properties)).close();
+    return result;
+  }
+
+  private static Outcome execute(TransactionRunner runner, ThreadLocalRandom random) {
+    try {
+      runner.run(random);
+      return Outcome.COMMITTED;
+    } catch (CrudConflictException
+        | PreparationConflictException
+        | ValidationConflictException
+        | CommitConflictException e) {
+      return Outcome.CONFLICTED;
+    } catch (UnknownTransactionStatusException e) {
+      return Outcome.UNKNOWN;
+    } catch (TransactionException e) {
+      return Outcome.FAILED;
+    }
+  }
+
+  private static void runTransaction(
+      DistributedTransactionManager manager, Workload workload, ThreadLocalRandom random)
+      throws TransactionException {
+    DistributedTransaction transaction = manager.begin();
+    try {
+      workload.execute(transaction, random);
+      transaction.commit();
+    } catch (UnknownTransactionStatusException e) {
+      throw e;
+    } catch (TransactionException e) {
+      try {
+        transaction.rollback();
+      } catch (RollbackException ignored) {
+        // The transaction is recovered lazily
+      }
+      throw e;
+    }
+  }
+
+  private static void runTwoPhaseCommitTransaction(
+      TwoPhaseCommitTransactionManager manager, Workload workload, ThreadLocalRandom random)
+      throws TransactionException {
+    TwoPhaseCommitTransaction transaction = manager.begin();
+    try {
+      workload.execute(transaction, random);
+      transaction.prepare();
+      transaction.validate();
+      transaction.commit();
+    } catch (UnknownTransactionStatusException e) {
+      throw e;
+    } catch (TransactionException e) {
+      try {
+        transaction.rollback();
+      } catch (RollbackException ignored) {
+        // The transaction is recovered lazily
+      }
+      throw e;
+    }
+  }
+
+  private static Map<String, HistogramSnapshot> collectPhaseLatencyMillis() {
+    Map<String, HistogramSnapshot> phases = new TreeMap<>();
+    MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+    try {
+      for (ObjectName name :
+          mBeanServer.queryNames(new ObjectName(PHASE_METRICS_PATTERN), null)) {
+        String phase = name.getKeyProperty("operation");
+        if (name.getKeyProperty("table") != null) {
+          phase += " (" + ObjectName.unquote(name.getKeyProperty("table")) + ")";
+        }
+        CompositeData latency = (CompositeData) mBeanServer.getAttribute(name, "LatencyMillis");
+        phases.put(
+            phase,
+            new HistogramSnapshot(
+                (Long) latency.get("count"),
+                (Double) latency.get("mean"),
+                (Double) latency.get("p50"),
+                (Double) latency.get("p90"),
+                (Double) latency.get("p99"),
+                (Double) latency.get("p999"),
+                (Double) latency.get("max")));
+      }
+    } catch (JMException e) {
+      System.err.println("Failed to collect the commit phase metrics: " + e);
+    }
+    return phases;
+  }
+
+  private static void closeQuietly(AutoCloseable closeable) {
+    try {
+      closeable.close();
+    } catch (Exception e) {
+      System.err.println("Failed to close the transaction manager: " + e);
+    }
+  }
+
+  @FunctionalInterface
+  private interface TransactionRunner {
+    void run(ThreadLocalRandom random) throws TransactionException;
+  }
+
+  private enum Outcome {
+    COMMITTED,
+    CONFLICTED,
+    UNKNOWN,
+    FAILED
+  }
+
+  private static class Counters {
+    private final LongAdder commits = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder unknowns = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final Histogram latency = new Histogram();
+
+    private void record(Outcome outcome, long latencyNanos) {
+      switch (outcome) {
+        case COMMITTED:
+          commits.increment();
+          latency.record(latencyNanos);
+          break;
+        case CONFLICTED:
+          conflicts.increment();
+          break;
+        case UNKNOWN:
+          unknowns.increment();
+          break;
+        default:
+          errors.increment();
+          break;
+      }
+    }
+  }
+}
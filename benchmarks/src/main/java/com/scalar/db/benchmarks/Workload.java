@@ -0,0 +1,42 @@
+package com.scalar.db.benchmarks;
+
+import com.scalar.db.api.DistributedTransactionManager;
+import com.scalar.db.api.TableMetadata;
+import com.scalar.db.api.TransactionCrudOperable;
+import com.scalar.db.exception.transaction.CrudException;
+import com.scalar.db.exception.transaction.TransactionException;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * A workload run by {@link TransactionBenchmark}. The same workload runs with both the one-phase
+ * and the two-phase commit interfaces, so it only issues CRUD operations and leaves the commit to
+ * the caller.
+ */
+public interface Workload {
+  String NAMESPACE = "benchmarks";
+
+  /**
+   * Returns the tables used by this workload.
+   *
+   * @return a map from the table names in {@link #NAMESPACE} to their metadata
+   */
+  Map<String, TableMetadata> getTables();
+
+  /**
+   * Loads the initial records.
+   *
+   * @param manager a transaction manager
+   * @throws TransactionException if loading fails
+   */
+  void load(DistributedTransactionManager manager) throws TransactionException;
+
+  /**
+   * Executes the CRUD operations of a single transaction.
+   *
+   * @param transaction a transaction to execute the operations in
+   * @param random a random generator owned by the calling thread
+   * @throws CrudException if an operation fails
+   */
+  void execute(TransactionCrudOperable transaction, Random random) throws CrudException;
+}
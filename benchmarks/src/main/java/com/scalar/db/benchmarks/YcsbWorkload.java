@@ -0,0 +1,128 @@
+package com.scalar.db.benchmarks;
+
+import static com.scalar.db.config.ConfigUtils.getInt;
+import static com.scalar.db.config.ConfigUtils.getString;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableMap;
+import com.scalar.db.api.DistributedTransaction;
+import com.scalar.db.api.DistributedTransactionManager;
+import com.scalar.db.api.Get;
+import com.scalar.db.api.Result;
+import com.scalar.db.api.TableMetadata;
+import com.scalar.db.api.TransactionCrudOperable;
+import com.scalar.db.api.Upsert;
+import com.scalar.db.exception.transaction.CrudException;
+import com.scalar.db.exception.transaction.TransactionException;
+import com.scalar.db.io.DataType;
+import com.scalar.db.io.Key;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Random;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A YCSB-like workload on a single table. Each transaction reads {@code ops_per_tx} records and
+ * updates each of them with the probability of {@code 1 - read_proportion}, which corresponds to
+ * YCSB workload A (0.5), B (0.95), C (1.0) and F (read-modify-write) in a transactional manner.
+ */
+@ThreadSafe
+public class YcsbWorkload implements Workload {
+  public static final String NAME = "ycsb";
+  public static final String PREFIX = BenchmarkConfig.PREFIX + NAME + ".";
+  public static final String RECORD_COUNT = PREFIX + "record_count";
+  public static final String OPS_PER_TX = PREFIX + "ops_per_tx";
+  public static final String READ_PROPORTION = PREFIX + "read_proportion";
+  public static final String PAYLOAD_SIZE = PREFIX + "payload_size";
+  public static final String ZIPFIAN_CONSTANT = PREFIX + "zipfian_constant";
+
+  static final String TABLE = "usertable";
+  private static final String KEY = "ycsb_key";
+  private static final String PAYLOAD = "payload";
+  private static final int LOAD_BATCH_SIZE = 100;
+
+  private final int recordCount;
+  private final int opsPerTx;
+  private final double readProportion;
+  private final int payloadSize;
+  @Nullable private final ZipfianGenerator zipfianGenerator;
+
+  public YcsbWorkload(Properties properties) {
+    recordCount = getInt(properties, RECORD_COUNT, 10000);
+    opsPerTx = getInt(properties, OPS_PER_TX, 2);
+    readProportion = Double.parseDouble(getString(properties, READ_PROPORTION, "0.5"));
+    payloadSize = getInt(properties, PAYLOAD_SIZE, 100);
+    double zipfianConstant = Double.parseDouble(getString(properties, ZIPFIAN_CONSTANT, "0.99"));
+    // A non-positive constant means the uniform distribution
+    zipfianGenerator =
+        zipfianConstant > 0.0 ? new ZipfianGenerator(recordCount, zipfianConstant) : null;
+  }
+
+  @Override
+  public Map<String, TableMetadata> getTables() {
+    return ImmutableMap.of(
+        TABLE,
+        TableMetadata.newBuilder()
+            .addColumn(KEY, DataType.INT)
+            .addColumn(PAYLOAD, DataType.TEXT)
+            .addPartitionKey(KEY)
+            .build());
+  }
+
+  @Override
+  public void load(DistributedTransactionManager manager) throws TransactionException {
+    String payload = Strings.repeat("a", payloadSize);
+    for (int start = 0; start < recordCount; start += LOAD_BATCH_SIZE) {
+      DistributedTransaction transaction = manager.begin();
+      try {
+        for (int key = start; key < Math.min(start + LOAD_BATCH_SIZE, recordCount); key++) {
+          transaction.upsert(upsert(key, payload));
+        }
+        transaction.commit();
+      } catch (TransactionException e) {
+        transaction.rollback();
+        throw e;
+      }
+    }
+  }
+
+  @Override
+  public void execute(TransactionCrudOperable transaction, Random random) throws CrudException {
+    for (int i = 0; i < opsPerTx; i++) {
+      int key = nextKey(random);
+      Optional<Result> result =
+          transaction.get(
+              Get.newBuilder()
+                  .namespace(NAMESPACE)
+                  .table(TABLE)
+                  .partitionKey(Key.ofInt(KEY, key))
+                  .build());
+      if (result.isPresent() && random.nextDouble() >= readProportion) {
+        transaction.upsert(upsert(key, randomPayload(random)));
+      }
+    }
+  }
+
+  private int nextKey(Random random) {
+    return zipfianGenerator != null ? zipfianGenerator.next(random) : random.nextInt(recordCount);
+  }
+
+  private String randomPayload(Random random) {
+    char[] chars = new char[payloadSize];
+    for (int i = 0; i < payloadSize; i++) {
+      chars[i] = (char) ('a' + random.nextInt(26));
+    }
+    return new String(chars);
+  }
+
+  private Upsert upsert(int key, String payload) {
+    return Upsert.newBuilder()
+        .namespace(NAMESPACE)
+        .table(TABLE)
+        .partitionKey(Key.ofInt(KEY, key))
+        .textValue(PAYLOAD, payload)
+        .build();
+  }
+}
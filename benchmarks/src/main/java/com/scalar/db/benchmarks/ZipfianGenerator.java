@@ -0,0 +1,65 @@
+package com.scalar.db.benchmarks;
+
+import java.util.Random;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Generates integers in [0, items) following a Zipfian distribution, based on "Quickly Generating
+ * Billion-Record Synthetic Databases" by Gray et al., as YCSB does. The generated values are
+ * scrambled with a hash so that the popular items are spread over the key space.
+ */
+@Immutable
+final class ZipfianGenerator {
+  private static final long FNV_OFFSET_BASIS_64 = 0xCBF29CE484222325L;
+  private static final long FNV_PRIME_64 = 1099511628211L;
+
+  private final int items;
+  private final double theta;
+  private final double zetan;
+  private final double alpha;
+  private final double eta;
+
+  ZipfianGenerator(int items, double theta) {
+    if (items <= 0 || theta <= 0.0 || theta >= 1.0) {
+      throw new IllegalArgumentException(
+          "The number of items must be positive and the constant must be in (0, 1)");
+    }
+    this.items = items;
+    this.theta = theta;
+    zetan = zeta(items, theta);
+    alpha = 1.0 / (1.0 - theta);
+    eta = (1.0 - Math.pow(2.0 / items, 1.0 - theta)) / (1.0 - zeta(2, theta) / zetan);
+  }
+
+  private static double zeta(long n, double theta) {
+    double sum = 0.0;
+    for (long i = 1; i <= n; i++) {
+      sum += 1.0 / Math.pow(i, theta);
+    }
+    return sum;
+  }
+
+  int next(Random random) {
+    double u = random.nextDouble();
+    double uz = u * zetan;
+    long value;
+    if (uz < 1.0) {
+      value = 0;
+    } else if (uz < 1.0 + Math.pow(0.5, theta)) {
+      value = 1;
+    } else {
+      value = (long) (items * Math.pow(eta * u - eta + 1.0, alpha));
+    }
+    return (int) Math.floorMod(fnvHash64(value), (long) items);
+  }
+
+  private static long fnvHash64(long value) {
+    long hash = FNV_OFFSET_BASIS_64;
+    for (int i = 0; i < 8; i++) {
+      hash ^= value & 0xFF;
+      hash *= FNV_PRIME_64;
+      value >>= 8;
+    }
+    return hash;
+  }
+}
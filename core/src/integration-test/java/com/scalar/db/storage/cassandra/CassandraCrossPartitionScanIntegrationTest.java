@@ -4,8 +4,6 @@ import com.scalar.db.api.DistributedStorageCrossPartitionScanIntegrationTestBase
 import java.util.Collections;
 import java.util.Map;
 import java.util.Properties;
-import org.junit.jupiter.api.Disabled;
-import org.junit.jupiter.api.Test;
 
 public class CassandraCrossPartitionScanIntegrationTest
     extends DistributedStorageCrossPartitionScanIntegrationTestBase {
@@ -19,9 +17,4 @@ public class CassandraCrossPartitionScanIntegrationTest
   protected Map<String, String> getCreationOptions() {
     return Collections.singletonMap(CassandraAdmin.REPLICATION_FACTOR, "1");
   }
-
-  @Test
-  @Override
-  @Disabled("Cross partition scan with ordering is not supported in Cassandra")
-  public void scan_WithOrderingForNonPrimaryColumns_ShouldReturnProperResult() {}
 }
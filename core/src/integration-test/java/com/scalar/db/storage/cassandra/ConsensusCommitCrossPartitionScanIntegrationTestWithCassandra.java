@@ -5,8 +5,6 @@ import com.scalar.db.transaction.consensuscommit.ConsensusCommitCrossPartitionSc
 import java.util.Collections;
 import java.util.Map;
 import java.util.Properties;
-import org.junit.jupiter.api.Disabled;
-import org.junit.jupiter.api.Test;
 
 public class ConsensusCommitCrossPartitionScanIntegrationTestWithCassandra
     extends ConsensusCommitCrossPartitionScanIntegrationTestBase {
@@ -22,9 +20,4 @@ public class ConsensusCommitCrossPartitionScanIntegrationTestWithCassandra
   protected Map<String, String> getCreationOptions() {
     return Collections.singletonMap(CassandraAdmin.REPLICATION_FACTOR, "1");
   }
-
-  @Test
-  @Override
-  @Disabled("Cross partition scan with ordering is not supported in Cassandra")
-  public void scan_CrossPartitionScanWithOrderingGivenForCommittedRecord_ShouldReturnRecords() {}
 }
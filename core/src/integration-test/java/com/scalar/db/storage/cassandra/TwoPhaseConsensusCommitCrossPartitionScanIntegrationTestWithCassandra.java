@@ -5,8 +5,6 @@ import com.scalar.db.transaction.consensuscommit.TwoPhaseConsensusCommitCrossPar
 import java.util.Collections;
 import java.util.Map;
 import java.util.Properties;
-import org.junit.jupiter.api.Disabled;
-import org.junit.jupiter.api.Test;
 
 public class TwoPhaseConsensusCommitCrossPartitionScanIntegrationTestWithCassandra
     extends TwoPhaseConsensusCommitCrossPartitionScanIntegrationTestBase {
@@ -22,9 +20,4 @@ public class TwoPhaseConsensusCommitCrossPartitionScanIntegrationTestWithCassand
   protected Map<String, String> getCreationOptions() {
     return Collections.singletonMap(CassandraAdmin.REPLICATION_FACTOR, "1");
   }
-
-  @Test
-  @Override
-  @Disabled("Cross partition scan with ordering is not supported in Cassandra")
-  public void scan_ScanWithOrderingGivenForCommittedRecord_ShouldReturnRecords() {}
 }
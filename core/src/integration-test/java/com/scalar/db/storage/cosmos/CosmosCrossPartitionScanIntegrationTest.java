@@ -3,8 +3,6 @@ package com.scalar.db.storage.cosmos;
 import com.scalar.db.api.DistributedStorageCrossPartitionScanIntegrationTestBase;
 import java.util.Map;
 import java.util.Properties;
-import org.junit.jupiter.api.Disabled;
-import org.junit.jupiter.api.Test;
 
 public class CosmosCrossPartitionScanIntegrationTest
     extends DistributedStorageCrossPartitionScanIntegrationTestBase {
@@ -28,9 +26,4 @@ public class CosmosCrossPartitionScanIntegrationTest
   protected boolean isParallelDdlSupported() {
     return false;
   }
-
-  @Test
-  @Override
-  @Disabled("Cross partition scan with ordering is not supported in Cosmos DB")
-  public void scan_WithOrderingForNonPrimaryColumns_ShouldReturnProperResult() {}
 }
@@ -4,8 +4,6 @@ import com.scalar.db.transaction.consensuscommit.ConsensusCommitConfig;
 import com.scalar.db.transaction.consensuscommit.TwoPhaseConsensusCommitCrossPartitionScanIntegrationTestBase;
 import java.util.Map;
 import java.util.Properties;
-import org.junit.jupiter.api.Disabled;
-import org.junit.jupiter.api.Test;
 
 public class TwoPhaseConsensusCommitCrossPartitionScanIntegrationTestWithCosmos
     extends TwoPhaseConsensusCommitCrossPartitionScanIntegrationTestBase {
@@ -21,9 +19,4 @@ public class TwoPhaseConsensusCommitCrossPartitionScanIntegrationTestWithCosmos
   protected Map<String, String> getCreationOptions() {
     return ConsensusCommitCosmosEnv.getCreationOptions();
   }
-
-  @Test
-  @Override
-  @Disabled("Cross partition scan with ordering is not supported in Cosmos DB")
-  public void scan_ScanWithOrderingGivenForCommittedRecord_ShouldReturnRecords() {}
 }
@@ -4,8 +4,6 @@ import com.scalar.db.transaction.consensuscommit.ConsensusCommitConfig;
 import com.scalar.db.transaction.consensuscommit.ConsensusCommitCrossPartitionScanIntegrationTestBase;
 import java.util.Map;
 import java.util.Properties;
-import org.junit.jupiter.api.Disabled;
-import org.junit.jupiter.api.Test;
 
 public class ConsensusCommitCrossPartitionScanIntegrationTestWithDynamo
     extends ConsensusCommitCrossPartitionScanIntegrationTestBase {
@@ -21,9 +19,4 @@ public class ConsensusCommitCrossPartitionScanIntegrationTestWithDynamo
   protected Map<String, String> getCreationOptions() {
     return ConsensusCommitDynamoEnv.getCreationOptions();
   }
-
-  @Test
-  @Override
-  @Disabled("Cross partition scan with ordering is not supported in DynamoDB")
-  public void scan_CrossPartitionScanWithOrderingGivenForCommittedRecord_ShouldReturnRecords() {}
 }
@@ -3,8 +3,6 @@ package com.scalar.db.storage.dynamo;
 import com.scalar.db.api.DistributedStorageCrossPartitionScanIntegrationTestBase;
 import java.util.Map;
 import java.util.Properties;
-import org.junit.jupiter.api.Disabled;
-import org.junit.jupiter.api.Test;
 
 public class DynamoCrossPartitionScanIntegrationTest
     extends DistributedStorageCrossPartitionScanIntegrationTestBase {
@@ -18,9 +16,4 @@ public class DynamoCrossPartitionScanIntegrationTest
   protected Map<String, String> getCreationOptions() {
     return DynamoEnv.getCreationOptions();
   }
-
-  @Test
-  @Override
-  @Disabled("Cross partition scan with ordering is not supported in DynamoDB")
-  public void scan_WithOrderingForNonPrimaryColumns_ShouldReturnProperResult() {}
 }
@@ -4,6 +4,7 @@ import com.scalar.db.common.error.CoreError;
 import com.scalar.db.exception.storage.ExecutionException;
 import com.scalar.db.io.DataType;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import javax.annotation.Nullable;
@@ -340,6 +341,28 @@ public interface Admin {
    */
   Set<String> getNamespaceTableNames(String namespace) throws ExecutionException;
 
+  /**
+   * Retrieves the table metadata of all the tables belonging to the given namespace. The default
+   * implementation retrieves them table by table, and implementations that can retrieve them at
+   * once override it.
+   *
+   * @param namespace a namespace
+   * @return a map from the table names to their table metadata, an empty map if the namespace
+   *     doesn't exist
+   * @throws ExecutionException if the operation fails
+   */
+  default Map<String, TableMetadata> getTablesMetadata(String namespace)
+      throws ExecutionException {
+    Map<String, TableMetadata> tablesMetadata = new HashMap<>();
+    for (String table : getNamespaceTableNames(namespace)) {
+      TableMetadata tableMetadata = getTableMetadata(namespace, table);
+      if (tableMetadata != null) {
+        tablesMetadata.put(table, tableMetadata);
+      }
+    }
+    return tablesMetadata;
+  }
+
   /**
    * Returns true if the namespace exists.
    *
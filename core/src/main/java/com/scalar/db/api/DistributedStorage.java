@@ -1,7 +1,13 @@
 package com.scalar.db.api;
 
+import com.scalar.db.common.error.CoreError;
 import com.scalar.db.exception.storage.ExecutionException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -143,6 +149,22 @@ public interface DistributedStorage extends AutoCloseable {
    */
   Scanner scan(Scan scan) throws ExecutionException;
 
+  /**
+   * Resumes the specified scan from the position represented by a continuation token that was
+   * returned by {@link Scanner#getContinuationToken()} of a scanner for the same scan. The limit of
+   * the scan is applied to the results after the position.
+   *
+   * @param scan a {@code Scan} command
+   * @param continuationToken a continuation token
+   * @return {@link Scanner} to iterate the results after the position
+   * @throws ExecutionException if the operation fails
+   * @throws UnsupportedOperationException if the storage doesn't support resuming scans
+   */
+  default Scanner scan(Scan scan, String continuationToken) throws ExecutionException {
+    throw new UnsupportedOperationException(
+        CoreError.RESUMING_SCAN_WITH_CONTINUATION_TOKEN_NOT_SUPPORTED.buildMessage());
+  }
+
   /**
    * Inserts an entry into or updates an entry to the underlying storage with the specified {@link
    * Put} command.
@@ -162,6 +184,30 @@ public interface DistributedStorage extends AutoCloseable {
    */
   void put(List<Put> puts) throws ExecutionException;
 
+  /**
+   * Loads the entries of the specified {@link Put} commands into the specified table in bulk, which
+   * is much faster than putting them one by one for initial loads of large tables. The puts are
+   * consumed from the iterator in order, and they are loaded in batches, each of which is applied
+   * atomically. Unlike {@link #put(List)}, the puts are not applied atomically as a whole, so the
+   * entries of the batches loaded before a failure remain.
+   *
+   * <p>The entries must not exist in the table. If a batch contains an entry that already exists,
+   * the batch is not applied and {@code NoMutationException} is thrown. A column that the put of an
+   * entry doesn't specify is null. Puts with conditions are not supported.
+   *
+   * @param namespace a namespace
+   * @param table a table
+   * @param puts an iterator of {@code Put} commands for the table. A put that doesn't specify its
+   *     target is applied to the table
+   * @return the number of loaded entries
+   * @throws ExecutionException if the operation fails
+   * @throws UnsupportedOperationException if the storage doesn't support bulk loading
+   */
+  default long bulkLoad(String namespace, String table, Iterator<Put> puts)
+      throws ExecutionException {
+    throw new UnsupportedOperationException(CoreError.BULK_LOAD_NOT_SUPPORTED.buildMessage());
+  }
+
   /**
    * Deletes an entry from the underlying storage with the specified {@link Delete} command.
    *
@@ -186,6 +232,45 @@ public interface DistributedStorage extends AutoCloseable {
    */
   void mutate(List<? extends Mutation> mutations) throws ExecutionException;
 
+  /**
+   * Mutates entries of the underlying storage with the specified list of {@link Mutation} commands
+   * without atomicity. Unlike {@link #mutate(List)}, the mutations can be for different partitions
+   * and tables, and they are applied individually, so some of them can be applied even if the
+   * others fail. The condition of a mutation is evaluated only for its own entry. The mutations
+   * must be for different entries.
+   *
+   * <p>This is useful when the mutations don't need to be applied atomically and the storage can
+   * apply them more cheaply without atomicity. The default implementation applies the mutations of
+   * each partition atomically with {@link #mutate(List)}.
+   *
+   * @param mutations a list of {@code Mutation} commands
+   * @throws ExecutionException if at least one of the mutations fails. The other mutations might
+   *     or might not be applied
+   */
+  default void mutateNonAtomically(List<? extends Mutation> mutations) throws ExecutionException {
+    Map<List<Object>, List<Mutation>> partitions = new LinkedHashMap<>();
+    for (Mutation mutation : mutations) {
+      List<Object> partition =
+          Arrays.asList(mutation.forNamespace(), mutation.forTable(), mutation.getPartitionKey());
+      partitions.computeIfAbsent(partition, p -> new ArrayList<>()).add(mutation);
+    }
+    for (List<Mutation> partitionMutations : partitions.values()) {
+      mutate(partitionMutations);
+    }
+  }
+
+  /**
+   * Returns whether the storage is ready to serve operations at full speed, for example, whether
+   * the warm-up that it runs in the background at startup is done. A health check can use this to
+   * wait for the storage to be ready. Note that operations can be performed before this returns
+   * true. The default implementation always returns true.
+   *
+   * @return whether the storage is ready
+   */
+  default boolean isReady() {
+    return true;
+  }
+
   /**
    * Closes connections to the cluster. The connections are shared among multiple services such as
    * StorageService and TransactionService, thus this should only be used when closing applications.
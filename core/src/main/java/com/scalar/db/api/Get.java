@@ -171,6 +171,7 @@ public class Get extends Selection {
         .add("projections", getProjections())
         .add("conjunctions", getConjunctions())
         .add("consistency", getConsistency())
+        .add("lockMode", getLockMode())
         .toString();
   }
 }
@@ -11,6 +11,7 @@ import com.scalar.db.api.OperationBuilder.ClearProjections;
 import com.scalar.db.api.OperationBuilder.ClusteringKey;
 import com.scalar.db.api.OperationBuilder.Consistency;
 import com.scalar.db.api.OperationBuilder.IndexKey;
+import com.scalar.db.api.OperationBuilder.LockMode;
 import com.scalar.db.api.OperationBuilder.Or;
 import com.scalar.db.api.OperationBuilder.PartitionKey;
 import com.scalar.db.api.OperationBuilder.PartitionKeyBuilder;
@@ -84,10 +85,14 @@ public class GetBuilder extends SelectionBuilder {
   }
 
   public static class BuildableGet extends Buildable<Get>
-      implements ClusteringKey<BuildableGet>, Consistency<BuildableGet>, Projection<BuildableGet> {
+      implements ClusteringKey<BuildableGet>,
+          Consistency<BuildableGet>,
+          LockMode<BuildableGet>,
+          Projection<BuildableGet> {
     final List<String> projections = new ArrayList<>();
     @Nullable Key clusteringKey;
     @Nullable com.scalar.db.api.Consistency consistency;
+    @Nullable com.scalar.db.api.LockMode lockMode;
 
     private BuildableGet(@Nullable String namespace, String table, Key partitionKey) {
       super(namespace, table, partitionKey);
@@ -98,6 +103,7 @@ public class GetBuilder extends SelectionBuilder {
       this.clusteringKey = buildable.clusteringKey;
       this.projections.addAll(buildable.projections);
       this.consistency = buildable.consistency;
+      this.lockMode = buildable.lockMode;
     }
 
     @Override
@@ -133,6 +139,13 @@ public class GetBuilder extends SelectionBuilder {
       return this;
     }
 
+    @Override
+    public BuildableGet lockMode(com.scalar.db.api.LockMode lockMode) {
+      checkNotNull(lockMode);
+      this.lockMode = lockMode;
+      return this;
+    }
+
     @Override
     public Get build() {
       Get get = new Get(partitionKey, clusteringKey);
@@ -143,6 +156,9 @@ public class GetBuilder extends SelectionBuilder {
       if (consistency != null) {
         get.withConsistency(consistency);
       }
+      if (lockMode != null) {
+        get.withLockMode(lockMode);
+      }
       return get;
     }
   }
@@ -186,6 +202,12 @@ public class GetBuilder extends SelectionBuilder {
       return this;
     }
 
+    @Override
+    public BuildableGetWithPartitionKey lockMode(com.scalar.db.api.LockMode lockMode) {
+      super.lockMode(lockMode);
+      return this;
+    }
+
     @Override
     public BuildableGetWithOngoingWhere where(ConditionalExpression condition) {
       checkNotNull(condition);
@@ -347,6 +369,7 @@ public class GetBuilder extends SelectionBuilder {
 
   public static class BuildableGetWithIndex
       implements Consistency<BuildableGetWithIndex>,
+          LockMode<BuildableGetWithIndex>,
           Projection<BuildableGetWithIndex>,
           OperationBuilder.Where<BuildableGetWithIndexOngoingWhere>,
           WhereAnd<BuildableGetWithIndexOngoingWhereAnd>,
@@ -356,6 +379,7 @@ public class GetBuilder extends SelectionBuilder {
     private final Key indexKey;
     private final List<String> projections = new ArrayList<>();
     @Nullable private com.scalar.db.api.Consistency consistency;
+    @Nullable private com.scalar.db.api.LockMode lockMode;
 
     private BuildableGetWithIndex(@Nullable String namespace, String table, Key indexKey) {
       namespaceName = namespace;
@@ -389,6 +413,13 @@ public class GetBuilder extends SelectionBuilder {
       return this;
     }
 
+    @Override
+    public BuildableGetWithIndex lockMode(com.scalar.db.api.LockMode lockMode) {
+      checkNotNull(lockMode);
+      this.lockMode = lockMode;
+      return this;
+    }
+
     @Override
     public BuildableGetWithIndexOngoingWhere where(ConditionalExpression condition) {
       checkNotNull(condition);
@@ -428,6 +459,9 @@ public class GetBuilder extends SelectionBuilder {
       if (consistency != null) {
         getWithIndex.withConsistency(consistency);
       }
+      if (lockMode != null) {
+        getWithIndex.withLockMode(lockMode);
+      }
       return getWithIndex;
     }
   }
@@ -539,7 +573,9 @@ public class GetBuilder extends SelectionBuilder {
   }
 
   public static class BuildableGetWithIndexWhere
-      implements Consistency<BuildableGetWithIndexWhere>, Projection<BuildableGetWithIndexWhere> {
+      implements Consistency<BuildableGetWithIndexWhere>,
+          LockMode<BuildableGetWithIndexWhere>,
+          Projection<BuildableGetWithIndexWhere> {
 
     BuildableGetWithIndex buildableGetWithIndex;
     final SelectionBuilder.Where where;
@@ -582,6 +618,12 @@ public class GetBuilder extends SelectionBuilder {
       return this;
     }
 
+    @Override
+    public BuildableGetWithIndexWhere lockMode(com.scalar.db.api.LockMode lockMode) {
+      buildableGetWithIndex = buildableGetWithIndex.lockMode(lockMode);
+      return this;
+    }
+
     public Get build() {
       return (Get) addConjunctionsTo(buildableGetWithIndex.build(), where);
     }
@@ -609,6 +651,7 @@ public class GetBuilder extends SelectionBuilder {
       clusteringKey = get.getClusteringKey().orElse(null);
       projections.addAll(get.getProjections());
       consistency = get.getConsistency();
+      lockMode = get.getLockMode();
       isGetWithIndex = get instanceof GetWithIndex;
       if (isGetWithIndex) {
         indexKey = get.getPartitionKey();
@@ -663,6 +706,12 @@ public class GetBuilder extends SelectionBuilder {
       return this;
     }
 
+    @Override
+    public BuildableGetOrGetWithIndexFromExisting lockMode(com.scalar.db.api.LockMode lockMode) {
+      super.lockMode(lockMode);
+      return this;
+    }
+
     @Override
     public BuildableGetOrGetWithIndexFromExisting projection(String projection) {
       super.projection(projection);
@@ -791,6 +840,9 @@ public class GetBuilder extends SelectionBuilder {
       if (consistency != null) {
         get.withConsistency(consistency);
       }
+      if (lockMode != null) {
+        get.withLockMode(lockMode);
+      }
 
       return get;
     }
@@ -803,6 +855,7 @@ public class GetBuilder extends SelectionBuilder {
           ClusteringKey<BuildableGetFromExistingWithWhere>,
           IndexKey<BuildableGetFromExistingWithWhere>,
           Consistency<BuildableGetFromExistingWithWhere>,
+          LockMode<BuildableGetFromExistingWithWhere>,
           Projection<BuildableGetFromExistingWithWhere>,
           ClearProjections<BuildableGetFromExistingWithWhere>,
           ClearNamespace<BuildableGetFromExistingWithWhere> {
@@ -880,6 +933,12 @@ public class GetBuilder extends SelectionBuilder {
       return this;
     }
 
+    @Override
+    public BuildableGetFromExistingWithWhere lockMode(com.scalar.db.api.LockMode lockMode) {
+      BuildableGetFromExisting.lockMode(lockMode);
+      return this;
+    }
+
     @Override
     public BuildableGetFromExistingWithWhere clearProjections() {
       BuildableGetFromExisting.clearProjections();
@@ -0,0 +1,30 @@
+package com.scalar.db.api;
+
+/**
+ * A lock mode set in a {@link Selection}, which makes the selection lock the records it reads until
+ * the end of the transaction, so that concurrent read-modify-write transactions on the same records
+ * wait for each other instead of failing at commit. It's only for the JDBC transaction manager,
+ * which executes operations directly in a transaction of the underlying database. The Consensus
+ * Commit transaction manager ignores it since it guarantees the isolation by itself, and the
+ * storages, including the JDBC storage, reject it since they can't hold the locks until the end of
+ * the transaction.
+ */
+public enum LockMode {
+  /** No lock. The records are read without locking them. */
+  NONE,
+  /**
+   * Shared lock. The records can be read by other transactions but not modified until the end of
+   * the transaction.
+   */
+  SHARED,
+  /**
+   * Exclusive lock. The records can be neither modified nor locked by other transactions until the
+   * end of the transaction.
+   */
+  EXCLUSIVE,
+  /**
+   * Exclusive lock that skips the records locked by other transactions instead of waiting for
+   * them. It's useful to let multiple workers take different records from a queue-like table.
+   */
+  SKIP_LOCKED,
+}
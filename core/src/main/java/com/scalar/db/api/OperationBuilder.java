@@ -81,6 +81,16 @@ public class OperationBuilder {
     E consistency(com.scalar.db.api.Consistency consistency);
   }
 
+  public interface LockMode<T> {
+    /**
+     * Sets the specified lock mode for this operation
+     *
+     * @param lockMode lock mode to set
+     * @return the operation builder
+     */
+    T lockMode(com.scalar.db.api.LockMode lockMode);
+  }
+
   public interface Projection<T> {
     /**
      * Appends the specified column name to the list of projections.
@@ -350,6 +350,7 @@ public class Scan extends Selection {
         .add("projections", getProjections())
         .add("conjunctions", getConjunctions())
         .add("consistency", getConsistency())
+        .add("lockMode", getLockMode())
         .add("startClusteringKey", startClusteringKey)
         .add("startInclusive", startInclusive)
         .add("endClusteringKey", endClusteringKey)
@@ -14,6 +14,7 @@ import com.scalar.db.api.OperationBuilder.ClusteringKeyFiltering;
 import com.scalar.db.api.OperationBuilder.Consistency;
 import com.scalar.db.api.OperationBuilder.IndexKey;
 import com.scalar.db.api.OperationBuilder.Limit;
+import com.scalar.db.api.OperationBuilder.LockMode;
 import com.scalar.db.api.OperationBuilder.Or;
 import com.scalar.db.api.OperationBuilder.Ordering;
 import com.scalar.db.api.OperationBuilder.PartitionKey;
@@ -98,6 +99,7 @@ public class ScanBuilder extends SelectionBuilder {
       implements ClusteringKeyFiltering<BuildableScan>,
           Ordering<BuildableScan>,
           Consistency<BuildableScan>,
+          LockMode<BuildableScan>,
           Projection<BuildableScan>,
           Limit<BuildableScan> {
     final List<Scan.Ordering> orderings = new ArrayList<>();
@@ -108,6 +110,7 @@ public class ScanBuilder extends SelectionBuilder {
     boolean endInclusive;
     int limit = 0;
     @Nullable com.scalar.db.api.Consistency consistency;
+    @Nullable com.scalar.db.api.LockMode lockMode;
 
     private BuildableScan(@Nullable String namespace, String table, Key partitionKey) {
       super(namespace, table, partitionKey);
@@ -123,6 +126,7 @@ public class ScanBuilder extends SelectionBuilder {
       this.endInclusive = buildable.endInclusive;
       this.limit = buildable.limit;
       this.consistency = buildable.consistency;
+      this.lockMode = buildable.lockMode;
     }
 
     @Override
@@ -192,6 +196,13 @@ public class ScanBuilder extends SelectionBuilder {
       return this;
     }
 
+    @Override
+    public BuildableScan lockMode(com.scalar.db.api.LockMode lockMode) {
+      checkNotNull(lockMode);
+      this.lockMode = lockMode;
+      return this;
+    }
+
     @Override
     public Scan build() {
       Scan scan = new Scan(partitionKey);
@@ -212,6 +223,10 @@ public class ScanBuilder extends SelectionBuilder {
         scan.withConsistency(consistency);
       }
 
+      if (lockMode != null) {
+        scan.withLockMode(lockMode);
+      }
+
       return scan;
     }
   }
@@ -296,6 +311,12 @@ public class ScanBuilder extends SelectionBuilder {
       return this;
     }
 
+    @Override
+    public BuildableScanWithPartitionKey lockMode(com.scalar.db.api.LockMode lockMode) {
+      super.lockMode(lockMode);
+      return this;
+    }
+
     @Override
     public BuildableScanWithOngoingWhere where(ConditionalExpression condition) {
       checkNotNull(condition);
@@ -459,6 +480,7 @@ public class ScanBuilder extends SelectionBuilder {
 
   public static class BuildableScanWithIndex
       implements Consistency<BuildableScanWithIndex>,
+          LockMode<BuildableScanWithIndex>,
           Projection<BuildableScanWithIndex>,
           OperationBuilder.Where<BuildableScanWithIndexOngoingWhere>,
           WhereAnd<BuildableScanWithIndexOngoingWhereAnd>,
@@ -470,6 +492,7 @@ public class ScanBuilder extends SelectionBuilder {
     private final List<String> projections = new ArrayList<>();
     private int limit = 0;
     @Nullable private com.scalar.db.api.Consistency consistency;
+    @Nullable private com.scalar.db.api.LockMode lockMode;
 
     private BuildableScanWithIndex(@Nullable String namespaceName, String tableName, Key indexKey) {
       this.namespaceName = namespaceName;
@@ -509,6 +532,13 @@ public class ScanBuilder extends SelectionBuilder {
       return this;
     }
 
+    @Override
+    public BuildableScanWithIndex lockMode(com.scalar.db.api.LockMode lockMode) {
+      checkNotNull(lockMode);
+      this.lockMode = lockMode;
+      return this;
+    }
+
     @Override
     public BuildableScanWithIndexOngoingWhere where(ConditionalExpression condition) {
       checkNotNull(condition);
@@ -551,6 +581,10 @@ public class ScanBuilder extends SelectionBuilder {
         scan.withConsistency(consistency);
       }
 
+      if (lockMode != null) {
+        scan.withLockMode(lockMode);
+      }
+
       return scan;
     }
   }
@@ -663,6 +697,7 @@ public class ScanBuilder extends SelectionBuilder {
 
   public static class BuildableScanWithIndexWhere
       implements Consistency<BuildableScanWithIndexWhere>,
+          LockMode<BuildableScanWithIndexWhere>,
           Projection<BuildableScanWithIndexWhere>,
           Limit<BuildableScanWithIndexWhere> {
 
@@ -713,6 +748,12 @@ public class ScanBuilder extends SelectionBuilder {
       return this;
     }
 
+    @Override
+    public BuildableScanWithIndexWhere lockMode(com.scalar.db.api.LockMode lockMode) {
+      buildableScanWithIndex = buildableScanWithIndex.lockMode(lockMode);
+      return this;
+    }
+
     public Scan build() {
       return (Scan) addConjunctionsTo(buildableScanWithIndex.build(), where);
     }
@@ -721,6 +762,7 @@ public class ScanBuilder extends SelectionBuilder {
   public static class BuildableScanAll
       implements Ordering<BuildableScanAll>,
           Consistency<BuildableScanAll>,
+          LockMode<BuildableScanAll>,
           Projection<BuildableScanAll>,
           OperationBuilder.Where<BuildableScanAllWithOngoingWhere>,
           WhereAnd<BuildableScanAllWithOngoingWhereAnd>,
@@ -732,6 +774,7 @@ public class ScanBuilder extends SelectionBuilder {
     private final List<String> projections = new ArrayList<>();
     private int limit = 0;
     @Nullable private com.scalar.db.api.Consistency consistency;
+    @Nullable private com.scalar.db.api.LockMode lockMode;
 
     private BuildableScanAll(String namespaceName, String tableName) {
       this.namespaceName = namespaceName;
@@ -789,6 +832,13 @@ public class ScanBuilder extends SelectionBuilder {
       return this;
     }
 
+    @Override
+    public BuildableScanAll lockMode(com.scalar.db.api.LockMode lockMode) {
+      checkNotNull(lockMode);
+      this.lockMode = lockMode;
+      return this;
+    }
+
     @Override
     public BuildableScanAllWithOngoingWhere where(ConditionalExpression condition) {
       checkNotNull(condition);
@@ -832,6 +882,10 @@ public class ScanBuilder extends SelectionBuilder {
         scan.withConsistency(consistency);
       }
 
+      if (lockMode != null) {
+        scan.withLockMode(lockMode);
+      }
+
       return scan;
     }
   }
@@ -943,6 +997,7 @@ public class ScanBuilder extends SelectionBuilder {
 
   public static class BuildableScanAllWithWhere
       implements Consistency<BuildableScanAllWithWhere>,
+          LockMode<BuildableScanAllWithWhere>,
           Projection<BuildableScanAllWithWhere>,
           Ordering<BuildableScanAllWithWhere>,
           Limit<BuildableScanAllWithWhere> {
@@ -1011,6 +1066,12 @@ public class ScanBuilder extends SelectionBuilder {
       return this;
     }
 
+    @Override
+    public BuildableScanAllWithWhere lockMode(com.scalar.db.api.LockMode lockMode) {
+      buildableScanAll.lockMode(lockMode);
+      return this;
+    }
+
     public Scan build() {
       return (Scan) addConjunctionsTo(buildableScanAll.build(), where);
     }
@@ -1058,6 +1119,7 @@ public class ScanBuilder extends SelectionBuilder {
       orderings.addAll(scan.getOrderings());
       projections.addAll(scan.getProjections());
       consistency = scan.getConsistency();
+      lockMode = scan.getLockMode();
       conjunctions.addAll(
           scan.getConjunctions().stream()
               .map(Conjunction::getConditions)
@@ -1101,6 +1163,12 @@ public class ScanBuilder extends SelectionBuilder {
       return this;
     }
 
+    @Override
+    public BuildableScanOrScanAllFromExisting lockMode(com.scalar.db.api.LockMode lockMode) {
+      super.lockMode(lockMode);
+      return this;
+    }
+
     @Override
     public BuildableScanOrScanAllFromExisting projection(String projection) {
       super.projection(projection);
@@ -1314,6 +1382,7 @@ public class ScanBuilder extends SelectionBuilder {
           .forTable(tableName)
           .withLimit(limit)
           .withConsistency(consistency);
+      scan.withLockMode(lockMode);
       if (!projections.isEmpty()) {
         scan.withProjections(projections);
       }
@@ -1329,6 +1398,7 @@ public class ScanBuilder extends SelectionBuilder {
           ClusteringKeyFiltering<BuildableScanFromExistingWithWhere>,
           IndexKey<BuildableScanFromExistingWithWhere>,
           Consistency<BuildableScanFromExistingWithWhere>,
+          LockMode<BuildableScanFromExistingWithWhere>,
           Projection<BuildableScanFromExistingWithWhere>,
           Ordering<BuildableScanFromExistingWithWhere>,
           Limit<BuildableScanFromExistingWithWhere>,
@@ -1437,6 +1507,12 @@ public class ScanBuilder extends SelectionBuilder {
       return this;
     }
 
+    @Override
+    public BuildableScanFromExistingWithWhere lockMode(com.scalar.db.api.LockMode lockMode) {
+      buildableScanFromExisting.lockMode(lockMode);
+      return this;
+    }
+
     @Override
     public BuildableScanFromExistingWithWhere clearProjections() {
       buildableScanFromExisting.clearProjections();
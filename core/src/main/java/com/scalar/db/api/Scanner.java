@@ -27,4 +27,18 @@ public interface Scanner extends Closeable, Iterable<Result> {
    * @throws ExecutionException if the operation fails
    */
   List<Result> all() throws ExecutionException;
+
+  /**
+   * Returns an opaque token that represents the position of this scanner, that is, the position
+   * after the last result returned by it. The token can be persisted and passed to {@link
+   * DistributedStorage#scan(Scan, String)} with the same scan to resume the scan from the position,
+   * even after this scanner is closed. Note that the resumed scan sees the records at the time it
+   * fetches them, not at the time the token was taken.
+   *
+   * @return an {@code Optional} with the continuation token, or an empty {@code Optional} if this
+   *     scanner doesn't support resuming or there are no more results
+   */
+  default Optional<String> getContinuationToken() {
+    return Optional.empty();
+  }
 }
@@ -22,6 +22,7 @@ import javax.annotation.concurrent.NotThreadSafe;
 public abstract class Selection extends Operation {
   private final List<String> projections;
   private final Set<Conjunction> conjunctions;
+  private LockMode lockMode;
 
   /**
    * @param partitionKey a partition key
@@ -33,6 +34,7 @@ public abstract class Selection extends Operation {
     super(partitionKey, clusteringKey);
     projections = new ArrayList<>();
     conjunctions = new HashSet<>();
+    lockMode = LockMode.NONE;
   }
 
   /**
@@ -44,6 +46,7 @@ public abstract class Selection extends Operation {
     super(selection);
     projections = new ArrayList<>(selection.projections);
     conjunctions = new HashSet<>(selection.conjunctions);
+    lockMode = selection.lockMode;
   }
 
   /**
@@ -102,6 +105,21 @@ public abstract class Selection extends Operation {
     return ImmutableSet.copyOf(conjunctions);
   }
 
+  Selection withLockMode(LockMode lockMode) {
+    this.lockMode = lockMode;
+    return this;
+  }
+
+  /**
+   * Returns the lock mode of this selection.
+   *
+   * @return the lock mode of this selection
+   */
+  @Nonnull
+  public LockMode getLockMode() {
+    return lockMode;
+  }
+
   /**
    * Indicates whether some other object is "equal to" this object. The other object is considered
    * equal if:
@@ -109,7 +127,7 @@ public abstract class Selection extends Operation {
    * <ul>
    *   <li>both super class instances are equal and
    *   <li>it is also an {@code Selection} and
-   *   <li>both instances have the same projections
+   *   <li>both instances have the same projections, conjunctions, and lock mode
    * </ul>
    *
    * @param o an object to be tested for equality
@@ -127,12 +145,14 @@ public abstract class Selection extends Operation {
       return false;
     }
     Selection other = (Selection) o;
-    return projections.equals(other.projections) && conjunctions.equals(other.conjunctions);
+    return projections.equals(other.projections)
+        && conjunctions.equals(other.conjunctions)
+        && lockMode == other.lockMode;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(super.hashCode(), projections, conjunctions);
+    return Objects.hash(super.hashCode(), projections, conjunctions, lockMode);
   }
 
   /**
@@ -176,6 +176,19 @@ public interface TwoPhaseCommitTransactionManager
     return rollback(txId);
   }
 
+  /**
+   * Returns whether the transaction manager is ready to serve transactions at full speed, for
+   * example, whether the warm-up that the underlying storage runs in the background at startup is
+   * done. A health check can use this to wait for the transaction manager to be ready. Note that
+   * transactions can be performed before this returns true. The default implementation always
+   * returns true.
+   *
+   * @return whether the transaction manager is ready
+   */
+  default boolean isReady() {
+    return true;
+  }
+
   /**
    * Closes connections to the cluster. The connections are shared among multiple services such as
    * StorageService and TransactionService, thus this should only be used when closing applications.
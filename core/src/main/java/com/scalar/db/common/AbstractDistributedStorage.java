@@ -84,4 +84,8 @@ public abstract class AbstractDistributedStorage implements DistributedStorage {
   protected Scan copyAndPrepareForDynamicFiltering(Scan scan) {
     return ScalarDbUtils.copyAndPrepareForDynamicFiltering(scan);
   }
+
+  protected Scan copyAndPrepareForSorting(Scan scan) {
+    return ScalarDbUtils.copyAndPrepareForSorting(scan);
+  }
 }
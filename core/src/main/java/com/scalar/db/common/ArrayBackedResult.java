@@ -0,0 +1,150 @@
+package com.scalar.db.common;
+
+import com.google.common.collect.ImmutableMap;
+import com.scalar.db.api.TableMetadata;
+import com.scalar.db.io.Column;
+import com.scalar.db.io.Key;
+import com.scalar.db.util.ScalarDbUtils;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A result that holds its columns in an array. The positions of the columns in the array are given
+ * by a map shared among all the results of the same query, so creating a result doesn't need to
+ * build a map for each record. A map of the columns is built only when {@link #getColumns()} is
+ * called.
+ */
+@ThreadSafe
+public class ArrayBackedResult extends AbstractResult {
+
+  private final ImmutableMap<String, Integer> columnIndexes;
+  private final Column<?>[] columns;
+  private final TableMetadata metadata;
+
+  // Lazily built by getColumns(). ImmutableMap is safely published, so a race only builds it twice
+  @Nullable private ImmutableMap<String, Column<?>> columnMap;
+
+  /**
+   * Constructs a result.
+   *
+   * @param columnIndexes the positions of the columns in the array, keyed by the column names
+   * @param columns the columns. The array must not be modified after this constructor is called
+   * @param metadata the metadata of the table
+   */
+  @SuppressFBWarnings("EI_EXPOSE_REP2")
+  public ArrayBackedResult(
+      ImmutableMap<String, Integer> columnIndexes, Column<?>[] columns, TableMetadata metadata) {
+    this.columnIndexes = Objects.requireNonNull(columnIndexes);
+    this.columns = Objects.requireNonNull(columns);
+    this.metadata = Objects.requireNonNull(metadata);
+    assert columnIndexes.size() == columns.length;
+  }
+
+  /** @deprecated As of release 3.8.0. Will be removed in release 5.0.0 */
+  @Deprecated
+  @Override
+  public Optional<Key> getPartitionKey() {
+    return Optional.of(ScalarDbUtils.getPartitionKey(this, metadata));
+  }
+
+  /** @deprecated As of release 3.8.0. Will be removed in release 5.0.0 */
+  @Deprecated
+  @Override
+  public Optional<Key> getClusteringKey() {
+    return ScalarDbUtils.getClusteringKey(this, metadata);
+  }
+
+  private Column<?> getColumn(String columnName) {
+    Integer index = columnIndexes.get(columnName);
+    if (index == null) {
+      checkIfExists(columnName);
+    }
+    assert index != null;
+    return columns[index];
+  }
+
+  @Override
+  public boolean isNull(String columnName) {
+    return getColumn(columnName).hasNullValue();
+  }
+
+  @Override
+  public boolean getBoolean(String columnName) {
+    return getColumn(columnName).getBooleanValue();
+  }
+
+  @Override
+  public int getInt(String columnName) {
+    return getColumn(columnName).getIntValue();
+  }
+
+  @Override
+  public long getBigInt(String columnName) {
+    return getColumn(columnName).getBigIntValue();
+  }
+
+  @Override
+  public float getFloat(String columnName) {
+    return getColumn(columnName).getFloatValue();
+  }
+
+  @Override
+  public double getDouble(String columnName) {
+    return getColumn(columnName).getDoubleValue();
+  }
+
+  @Nullable
+  @Override
+  public String getText(String columnName) {
+    return getColumn(columnName).getTextValue();
+  }
+
+  @Nullable
+  @Override
+  public ByteBuffer getBlobAsByteBuffer(String columnName) {
+    return getColumn(columnName).getBlobValueAsByteBuffer();
+  }
+
+  @Nullable
+  @Override
+  public byte[] getBlobAsBytes(String columnName) {
+    return getColumn(columnName).getBlobValueAsBytes();
+  }
+
+  @Nullable
+  @Override
+  public Object getAsObject(String columnName) {
+    return getColumn(columnName).getValueAsObject();
+  }
+
+  @Override
+  public boolean contains(String columnName) {
+    return columnIndexes.containsKey(columnName);
+  }
+
+  @Override
+  public Set<String> getContainedColumnNames() {
+    return columnIndexes.keySet();
+  }
+
+  @Override
+  public Map<String, Column<?>> getColumns() {
+    ImmutableMap<String, Column<?>> ret = columnMap;
+    if (ret == null) {
+      ImmutableMap.Builder<String, Column<?>> builder =
+          ImmutableMap.builderWithExpectedSize(columns.length);
+      for (Map.Entry<String, Integer> entry : columnIndexes.entrySet()) {
+        builder.put(entry.getKey(), columns[entry.getValue()]);
+      }
+      ret = builder.build();
+      columnMap = ret;
+    }
+    return ret;
+  }
+}
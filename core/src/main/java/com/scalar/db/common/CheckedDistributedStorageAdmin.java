@@ -194,6 +194,16 @@ public class CheckedDistributedStorageAdmin implements DistributedStorageAdmin {
     }
   }
 
+  @Override
+  public Map<String, TableMetadata> getTablesMetadata(String namespace) throws ExecutionException {
+    try {
+      return admin.getTablesMetadata(namespace);
+    } catch (ExecutionException e) {
+      throw new ExecutionException(
+          CoreError.GETTING_TABLES_METADATA_IN_NAMESPACE_FAILED.buildMessage(namespace), e);
+    }
+  }
+
   @Override
   public Set<String> getNamespaceTableNames(String namespace) throws ExecutionException {
     try {
@@ -0,0 +1,117 @@
+package com.scalar.db.common;
+
+import com.scalar.db.io.BigIntColumn;
+import com.scalar.db.io.BlobColumn;
+import com.scalar.db.io.BooleanColumn;
+import com.scalar.db.io.Column;
+import com.scalar.db.io.DataType;
+import com.scalar.db.io.DoubleColumn;
+import com.scalar.db.io.FloatColumn;
+import com.scalar.db.io.IntColumn;
+import com.scalar.db.io.TextColumn;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A utility class to write columns to a binary stream and read them back. A column is written as
+ * its name, its data type, whether it's null, and its value.
+ */
+public final class ColumnSerializer {
+
+  private ColumnSerializer() {}
+
+  /**
+   * Writes the specified column to the output.
+   *
+   * @param out an output
+   * @param column a column
+   * @throws IOException if an I/O error occurs
+   */
+  public static void write(DataOutput out, Column<?> column) throws IOException {
+    out.writeUTF(column.getName());
+    out.writeByte(column.getDataType().ordinal());
+    out.writeBoolean(column.hasNullValue());
+    if (column.hasNullValue()) {
+      return;
+    }
+    switch (column.getDataType()) {
+      case BOOLEAN:
+        out.writeBoolean(column.getBooleanValue());
+        break;
+      case INT:
+        out.writeInt(column.getIntValue());
+        break;
+      case BIGINT:
+        out.writeLong(column.getBigIntValue());
+        break;
+      case FLOAT:
+        out.writeFloat(column.getFloatValue());
+        break;
+      case DOUBLE:
+        out.writeDouble(column.getDoubleValue());
+        break;
+      case TEXT:
+        writeBytes(out, column.getTextValue().getBytes(StandardCharsets.UTF_8));
+        break;
+      case BLOB:
+        writeBytes(out, column.getBlobValueAsBytes());
+        break;
+      default:
+        throw new AssertionError();
+    }
+  }
+
+  private static void writeBytes(DataOutput out, byte[] bytes) throws IOException {
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  /**
+   * Reads a column written by {@link #write(DataOutput, Column)} from the input.
+   *
+   * @param in an input
+   * @return the column
+   * @throws IOException if an I/O error occurs or the input is malformed
+   */
+  public static Column<?> read(DataInput in) throws IOException {
+    String name = in.readUTF();
+    int ordinal = in.readByte();
+    if (ordinal < 0 || ordinal >= DataType.values().length) {
+      throw new IOException("Unknown data type: " + ordinal);
+    }
+    DataType dataType = DataType.values()[ordinal];
+    boolean isNull = in.readBoolean();
+    switch (dataType) {
+      case BOOLEAN:
+        return isNull ? BooleanColumn.ofNull(name) : BooleanColumn.of(name, in.readBoolean());
+      case INT:
+        return isNull ? IntColumn.ofNull(name) : IntColumn.of(name, in.readInt());
+      case BIGINT:
+        return isNull ? BigIntColumn.ofNull(name) : BigIntColumn.of(name, in.readLong());
+      case FLOAT:
+        return isNull ? FloatColumn.ofNull(name) : FloatColumn.of(name, in.readFloat());
+      case DOUBLE:
+        return isNull ? DoubleColumn.ofNull(name) : DoubleColumn.of(name, in.readDouble());
+      case TEXT:
+        return isNull
+            ? TextColumn.ofNull(name)
+            : TextColumn.of(name, new String(readBytes(in), StandardCharsets.UTF_8));
+      case BLOB:
+        return isNull ? BlobColumn.ofNull(name) : BlobColumn.of(name, readBytes(in));
+      default:
+        throw new AssertionError();
+    }
+  }
+
+  private static byte[] readBytes(DataInput in) throws IOException {
+    int length = in.readInt();
+    if (length < 0) {
+      throw new IOException("Negative length: " + length);
+    }
+    byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return bytes;
+  }
+}
@@ -152,6 +152,11 @@ public abstract class DecoratedDistributedTransactionAdmin implements Distribute
     return distributedTransactionAdmin.getTableMetadata(namespace, table);
   }
 
+  @Override
+  public Map<String, TableMetadata> getTablesMetadata(String namespace) throws ExecutionException {
+    return distributedTransactionAdmin.getTablesMetadata(namespace);
+  }
+
   @Override
   public Set<String> getNamespaceTableNames(String namespace) throws ExecutionException {
     return distributedTransactionAdmin.getNamespaceTableNames(namespace);
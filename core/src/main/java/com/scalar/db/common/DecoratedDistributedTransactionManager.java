@@ -216,6 +216,11 @@ public abstract class DecoratedDistributedTransactionManager
     return transactionManager.abort(txId);
   }
 
+  @Override
+  public boolean isReady() {
+    return transactionManager.isReady();
+  }
+
   @Override
   public void close() {
     transactionManager.close();
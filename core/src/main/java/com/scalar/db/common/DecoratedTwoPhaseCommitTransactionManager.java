@@ -169,6 +169,11 @@ public abstract class DecoratedTwoPhaseCommitTransactionManager
     return transactionManager.abort(txId);
   }
 
+  @Override
+  public boolean isReady() {
+    return transactionManager.isReady();
+  }
+
   @Override
   public void close() {
     transactionManager.close();
@@ -0,0 +1,169 @@
+package com.scalar.db.common;
+
+import com.scalar.db.api.Delete;
+import com.scalar.db.api.DistributedStorage;
+import com.scalar.db.api.Get;
+import com.scalar.db.api.Mutation;
+import com.scalar.db.api.Operation;
+import com.scalar.db.api.Put;
+import com.scalar.db.api.Result;
+import com.scalar.db.api.Scan;
+import com.scalar.db.api.Scanner;
+import com.scalar.db.exception.storage.ExecutionException;
+import com.scalar.db.util.ThrowableSupplier;
+import com.scalar.db.util.metrics.OperationMetrics;
+import com.scalar.db.util.metrics.OperationRecorder;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A {@link DistributedStorage} that records the latency and the result of each operation of the
+ * underlying storage to {@link OperationMetrics}. The operations are recorded per target table in
+ * the scope {@code storage.<storage name>}. A scan is recorded when its scanner is closed, so the
+ * recorded time includes the time taken to fetch the results.
+ */
+public class MetricsRecordingDistributedStorage implements DistributedStorage {
+
+  private final DistributedStorage storage;
+  private final OperationMetrics metrics;
+  private final String scope;
+
+  @SuppressFBWarnings("EI_EXPOSE_REP2")
+  public MetricsRecordingDistributedStorage(
+      DistributedStorage storage, OperationMetrics metrics, String storageName) {
+    this.storage = storage;
+    this.metrics = metrics;
+    scope = "storage." + storageName;
+  }
+
+  /** @deprecated As of release 3.6.0. Will be removed in release 5.0.0 */
+  @Deprecated
+  @Override
+  public void with(String namespace, String tableName) {
+    storage.with(namespace, tableName);
+  }
+
+  /** @deprecated As of release 3.6.0. Will be removed in release 5.0.0 */
+  @Deprecated
+  @Override
+  public void withNamespace(String namespace) {
+    storage.withNamespace(namespace);
+  }
+
+  /** @deprecated As of release 3.6.0. Will be removed in release 5.0.0 */
+  @Deprecated
+  @Override
+  public Optional<String> getNamespace() {
+    return storage.getNamespace();
+  }
+
+  /** @deprecated As of release 3.6.0. Will be removed in release 5.0.0 */
+  @Deprecated
+  @Override
+  public void withTable(String tableName) {
+    storage.withTable(tableName);
+  }
+
+  /** @deprecated As of release 3.6.0. Will be removed in release 5.0.0 */
+  @Deprecated
+  @Override
+  public Optional<String> getTable() {
+    return storage.getTable();
+  }
+
+  @Override
+  public Optional<Result> get(Get get) throws ExecutionException {
+    return recorder("get", get).time(() -> storage.get(get));
+  }
+
+  @Override
+  public Scanner scan(Scan scan) throws ExecutionException {
+    return openScanner(recorder("scan", scan), () -> storage.scan(scan));
+  }
+
+  @Override
+  public Scanner scan(Scan scan, String continuationToken) throws ExecutionException {
+    return openScanner(recorder("scan", scan), () -> storage.scan(scan, continuationToken));
+  }
+
+  @Override
+  public void put(Put put) throws ExecutionException {
+    recorder("put", put).time(() -> storage.put(put));
+  }
+
+  @Override
+  public void put(List<Put> puts) throws ExecutionException {
+    recorder("put_batch", puts).time(() -> storage.put(puts));
+  }
+
+  @Override
+  public long bulkLoad(String namespace, String table, Iterator<Put> puts)
+      throws ExecutionException {
+    return metrics
+        .getRecorder(scope, "bulk_load", namespace, table)
+        .time(() -> storage.bulkLoad(namespace, table, puts));
+  }
+
+  @Override
+  public void delete(Delete delete) throws ExecutionException {
+    recorder("delete", delete).time(() -> storage.delete(delete));
+  }
+
+  @Override
+  public void delete(List<Delete> deletes) throws ExecutionException {
+    recorder("delete_batch", deletes).time(() -> storage.delete(deletes));
+  }
+
+  @Override
+  public void mutate(List<? extends Mutation> mutations) throws ExecutionException {
+    recorder("mutate", mutations).time(() -> storage.mutate(mutations));
+  }
+
+  @Override
+  public void mutateNonAtomically(List<? extends Mutation> mutations) throws ExecutionException {
+    recorder("mutate_non_atomically", mutations).time(() -> storage.mutateNonAtomically(mutations));
+  }
+
+  @Override
+  public boolean isReady() {
+    return storage.isReady();
+  }
+
+  @Override
+  public void close() {
+    storage.close();
+  }
+
+  private Scanner openScanner(
+      OperationRecorder recorder, ThrowableSupplier<Scanner, ExecutionException> opener)
+      throws ExecutionException {
+    long start = System.nanoTime();
+    Scanner scanner;
+    try {
+      scanner = opener.get();
+    } catch (ExecutionException | RuntimeException e) {
+      recorder.record(System.nanoTime() - start, e);
+      throw e;
+    }
+    return new MetricsRecordingScanner(scanner, recorder, start);
+  }
+
+  private OperationRecorder recorder(String operationName, Operation operation) {
+    return metrics.getRecorder(
+        scope,
+        operationName,
+        operation.forNamespace().orElse(null),
+        operation.forTable().orElse(null));
+  }
+
+  private OperationRecorder recorder(String operationName, List<? extends Operation> operations) {
+    // The mutations in a batch must be for the same partition, so the first one represents the
+    // target table
+    if (operations.isEmpty()) {
+      return metrics.getRecorder(scope, operationName);
+    }
+    return recorder(operationName, operations.get(0));
+  }
+}
@@ -0,0 +1,129 @@
+package com.scalar.db.common;
+
+import com.scalar.db.api.Delete;
+import com.scalar.db.api.DistributedTransaction;
+import com.scalar.db.api.Get;
+import com.scalar.db.api.Insert;
+import com.scalar.db.api.Mutation;
+import com.scalar.db.api.Operation;
+import com.scalar.db.api.Put;
+import com.scalar.db.api.Result;
+import com.scalar.db.api.Scan;
+import com.scalar.db.api.Update;
+import com.scalar.db.api.Upsert;
+import com.scalar.db.exception.transaction.AbortException;
+import com.scalar.db.exception.transaction.CommitException;
+import com.scalar.db.exception.transaction.CrudException;
+import com.scalar.db.exception.transaction.RollbackException;
+import com.scalar.db.exception.transaction.UnknownTransactionStatusException;
+import com.scalar.db.util.metrics.OperationMetrics;
+import com.scalar.db.util.metrics.OperationRecorder;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A {@link DecoratedDistributedTransaction} that records the latency and the result of each
+ * operation of the transaction to {@link OperationMetrics}. CRUD operations are recorded per target
+ * table.
+ */
+public class MetricsRecordingDistributedTransaction extends DecoratedDistributedTransaction {
+
+  private final OperationMetrics metrics;
+  private final String scope;
+
+  public MetricsRecordingDistributedTransaction(
+      DistributedTransaction transaction, OperationMetrics metrics, String scope) {
+    super(transaction);
+    this.metrics = metrics;
+    this.scope = scope;
+  }
+
+  @Override
+  public Optional<Result> get(Get get) throws CrudException {
+    return recorder("get", get).time(() -> super.get(get));
+  }
+
+  @Override
+  public List<Result> scan(Scan scan) throws CrudException {
+    return recorder("scan", scan).time(() -> super.scan(scan));
+  }
+
+  /** @deprecated As of release 3.13.0. Will be removed in release 5.0.0. */
+  @Deprecated
+  @Override
+  public void put(Put put) throws CrudException {
+    recorder("put", put).time(() -> super.put(put));
+  }
+
+  /** @deprecated As of release 3.13.0. Will be removed in release 5.0.0. */
+  @Deprecated
+  @Override
+  public void put(List<Put> puts) throws CrudException {
+    recorder("put_batch", puts).time(() -> super.put(puts));
+  }
+
+  @Override
+  public void delete(Delete delete) throws CrudException {
+    recorder("delete", delete).time(() -> super.delete(delete));
+  }
+
+  /** @deprecated As of release 3.13.0. Will be removed in release 5.0.0. */
+  @Deprecated
+  @Override
+  public void delete(List<Delete> deletes) throws CrudException {
+    recorder("delete_batch", deletes).time(() -> super.delete(deletes));
+  }
+
+  @Override
+  public void insert(Insert insert) throws CrudException {
+    recorder("insert", insert).time(() -> super.insert(insert));
+  }
+
+  @Override
+  public void update(Update update) throws CrudException {
+    recorder("update", update).time(() -> super.update(update));
+  }
+
+  @Override
+  public void upsert(Upsert upsert) throws CrudException {
+    recorder("upsert", upsert).time(() -> super.upsert(upsert));
+  }
+
+  @Override
+  public void mutate(List<? extends Mutation> mutations) throws CrudException {
+    recorder("mutate", mutations).time(() -> super.mutate(mutations));
+  }
+
+  @Override
+  public void commit() throws CommitException, UnknownTransactionStatusException {
+    metrics
+        .getRecorder(scope, "commit")
+        .time(super::commit, CommitException.class, UnknownTransactionStatusException.class);
+  }
+
+  @Override
+  public void rollback() throws RollbackException {
+    metrics.getRecorder(scope, "rollback").time(super::rollback);
+  }
+
+  @Override
+  public void abort() throws AbortException {
+    metrics.getRecorder(scope, "abort").time(super::abort);
+  }
+
+  private OperationRecorder recorder(String operationName, Operation operation) {
+    return metrics.getRecorder(
+        scope,
+        operationName,
+        operation.forNamespace().orElse(null),
+        operation.forTable().orElse(null));
+  }
+
+  private OperationRecorder recorder(String operationName, List<? extends Operation> operations) {
+    if (operations.isEmpty()) {
+      return metrics.getRecorder(scope, operationName);
+    }
+    // Record the operations on multiple tables under the table of the first operation
+    return recorder(operationName, operations.get(0));
+  }
+}
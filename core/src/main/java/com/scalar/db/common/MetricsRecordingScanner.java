@@ -0,0 +1,100 @@
+package com.scalar.db.common;
+
+import com.google.errorprone.annotations.concurrent.LazyInit;
+import com.scalar.db.api.Result;
+import com.scalar.db.api.Scanner;
+import com.scalar.db.exception.storage.ExecutionException;
+import com.scalar.db.util.metrics.OperationRecorder;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A {@link Scanner} that records the scan to an {@link OperationRecorder} when it's closed. The
+ * recorded time spans from the start of the scan to the close of the scanner, so it includes the
+ * time taken to fetch the results, and the scan is recorded as failed if reading the results
+ * failed.
+ */
+@NotThreadSafe
+public class MetricsRecordingScanner implements Scanner {
+
+  private final Scanner scanner;
+  private final OperationRecorder recorder;
+  private final long startNanos;
+  @Nullable private Throwable failure;
+  private boolean recorded;
+  @LazyInit private ScannerIterator scannerIterator;
+
+  /**
+   * Constructs a scanner that records the scan when it's closed.
+   *
+   * @param scanner the underlying scanner
+   * @param recorder a recorder of the scan
+   * @param startNanos the value of {@link System#nanoTime()} when the scan was started
+   */
+  public MetricsRecordingScanner(Scanner scanner, OperationRecorder recorder, long startNanos) {
+    this.scanner = scanner;
+    this.recorder = recorder;
+    this.startNanos = startNanos;
+  }
+
+  @Override
+  public Optional<Result> one() throws ExecutionException {
+    try {
+      return scanner.one();
+    } catch (ExecutionException | RuntimeException e) {
+      setFailureIfNotSet(e);
+      throw e;
+    }
+  }
+
+  @Override
+  public List<Result> all() throws ExecutionException {
+    try {
+      return scanner.all();
+    } catch (ExecutionException | RuntimeException e) {
+      setFailureIfNotSet(e);
+      throw e;
+    }
+  }
+
+  @Override
+  public Optional<String> getContinuationToken() {
+    return scanner.getContinuationToken();
+  }
+
+  @Override
+  @Nonnull
+  public Iterator<Result> iterator() {
+    if (scannerIterator == null) {
+      scannerIterator = new ScannerIterator(this);
+    }
+    return scannerIterator;
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      scanner.close();
+    } catch (IOException | RuntimeException e) {
+      setFailureIfNotSet(e);
+      throw e;
+    } finally {
+      // Record the scan only once even if the scanner is closed more than once
+      if (!recorded) {
+        recorded = true;
+        recorder.record(System.nanoTime() - startNanos, failure);
+      }
+    }
+  }
+
+  private void setFailureIfNotSet(Throwable e) {
+    if (failure == null) {
+      failure = e;
+    }
+  }
+}
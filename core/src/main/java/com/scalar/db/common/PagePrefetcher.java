@@ -0,0 +1,190 @@
+package com.scalar.db.common;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * An iterator over the pages of a scan that fetches the next pages in the background while the
+ * current page is being read. The pages are fetched one at a time from the underlying iterator,
+ * and a page is fetched only while fewer than the specified number of pages are prefetched and
+ * the prefetched pages are within the specified number of bytes. A runtime exception thrown while
+ * fetching a page is rethrown to the reader once the pages before it are read.
+ *
+ * <p>The prefetcher must be closed when the reader stops reading before the last page so that no
+ * more pages are fetched.
+ *
+ * @param <T> the type of a page
+ */
+@ThreadSafe
+public class PagePrefetcher<T> implements Iterator<T>, Closeable {
+
+  private final Iterator<T> pages;
+  private final ToLongFunction<T> pageSizeEstimator;
+  private final int prefetchPages;
+  private final long maxBufferedBytes;
+  private final Executor executor;
+
+  private final Deque<T> buffer = new ArrayDeque<>();
+  private long bufferedBytes;
+  private boolean fetching;
+  private boolean exhausted;
+  @Nullable private RuntimeException error;
+  private boolean closed;
+
+  /**
+   * Constructs a prefetcher and starts fetching the first page.
+   *
+   * @param pages the underlying iterator whose {@code next()} fetches a page
+   * @param pageSizeEstimator a function that estimates the size of a page in bytes
+   * @param prefetchPages the maximum number of pages to prefetch, which must be greater than 0
+   * @param maxBufferedBytes the approximate maximum number of bytes of the prefetched pages
+   * @param executor an executor to fetch the pages with, which is owned by the storage
+   */
+  public PagePrefetcher(
+      Iterator<T> pages,
+      ToLongFunction<T> pageSizeEstimator,
+      int prefetchPages,
+      long maxBufferedBytes,
+      Executor executor) {
+    this.pages = pages;
+    this.pageSizeEstimator = pageSizeEstimator;
+    this.prefetchPages = prefetchPages;
+    this.maxBufferedBytes = maxBufferedBytes;
+    this.executor = executor;
+    fetchIfNeeded();
+  }
+
+  /**
+   * Creates an executor for the prefetchers of a storage. It runs at most the specified number of
+   * fetches at a time and queues the others, and its idle threads time out. The storage must shut
+   * it down when it's closed.
+   *
+   * @param maxThreads the maximum number of threads
+   * @param nameFormat the name format of the threads
+   * @return an executor
+   */
+  public static ExecutorService createExecutor(int maxThreads, String nameFormat) {
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            maxThreads,
+            maxThreads,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat(nameFormat).build());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  private synchronized void fetchIfNeeded() {
+    if (fetching || exhausted || error != null || closed) {
+      return;
+    }
+    // Always allow a page to be fetched when the buffer is empty so that a page larger than the
+    // maximum number of bytes doesn't stop the scan
+    if (!buffer.isEmpty()
+        && (buffer.size() >= prefetchPages || bufferedBytes >= maxBufferedBytes)) {
+      return;
+    }
+    fetching = true;
+    try {
+      executor.execute(this::fetch);
+    } catch (RejectedExecutionException e) {
+      // The storage is closed
+      fetching = false;
+      error = e;
+    }
+  }
+
+  private void fetch() {
+    T page = null;
+    RuntimeException exception = null;
+    try {
+      if (pages.hasNext()) {
+        page = pages.next();
+      }
+    } catch (RuntimeException e) {
+      exception = e;
+    }
+
+    synchronized (this) {
+      fetching = false;
+      if (exception != null) {
+        error = exception;
+      } else if (page == null) {
+        exhausted = true;
+      } else if (!closed) {
+        buffer.addLast(page);
+        bufferedBytes += pageSizeEstimator.applyAsLong(page);
+      }
+      notifyAll();
+      fetchIfNeeded();
+    }
+  }
+
+  @Override
+  public synchronized boolean hasNext() {
+    boolean interrupted = false;
+    try {
+      while (buffer.isEmpty() && !exhausted && error == null && !closed) {
+        fetchIfNeeded();
+        if (!fetching) {
+          // The fetch was rejected, so the error is set
+          continue;
+        }
+        try {
+          wait();
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+      }
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    if (closed) {
+      return false;
+    }
+    if (!buffer.isEmpty()) {
+      return true;
+    }
+    if (error != null) {
+      throw error;
+    }
+    return false;
+  }
+
+  @Override
+  public synchronized T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    T page = buffer.removeFirst();
+    bufferedBytes -= pageSizeEstimator.applyAsLong(page);
+    fetchIfNeeded();
+    return page;
+  }
+
+  @Override
+  public synchronized void close() {
+    closed = true;
+    buffer.clear();
+    bufferedBytes = 0;
+    notifyAll();
+  }
+}
@@ -0,0 +1,414 @@
+package com.scalar.db.common;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.errorprone.annotations.concurrent.LazyInit;
+import com.scalar.db.api.Result;
+import com.scalar.db.api.Scan;
+import com.scalar.db.api.Scanner;
+import com.scalar.db.api.TableMetadata;
+import com.scalar.db.common.error.CoreError;
+import com.scalar.db.exception.storage.ExecutionException;
+import com.scalar.db.io.Column;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A scanner that sorts the results of another scanner by the orderings of a scan. It's used by the
+ * storages that can't order the results of a cross-partition scan on the database side.
+ *
+ * <p>When the limit of the scan fits in the sort buffer, only the top results are kept in a bounded
+ * heap. Otherwise, the results are sorted by an external merge sort, that is, each chunk of the
+ * results that fills the sort buffer is sorted in memory and spilled to a temporary file, and the
+ * sorted chunks are merged while the results are read. To bound the number of files open at once,
+ * the chunks are merged into larger ones beforehand when there are more chunks than the merge
+ * fan-in.
+ */
+@NotThreadSafe
+public class SortingScanner implements Scanner {
+  private static final Logger logger = LoggerFactory.getLogger(SortingScanner.class);
+
+  private static final int DEFAULT_MAX_MERGE_FAN_IN = 64;
+  private static final String TEMP_FILE_PREFIX = "scalardb-sort-";
+  private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+  private final Scanner scanner;
+  private final List<String> projections;
+  private final TableMetadata metadata;
+  private final Comparator<Result> comparator;
+  private final int sortBufferSize;
+  @Nullable private final Path spillDirectory;
+  private final int maxMergeFanIn;
+  @Nullable private Integer left = null;
+  private final List<Run> runs = new ArrayList<>();
+  @Nullable private PriorityQueue<Run> mergeQueue;
+  @Nullable private Exception failure;
+  @LazyInit private ScannerIterator scannerIterator;
+
+  /**
+   * Constructs a scanner.
+   *
+   * @param scan the original scan. Its orderings, limit, and projections are applied to the
+   *     results
+   * @param scanner a scanner that returns the results in any order. The results must contain the
+   *     columns of the orderings
+   * @param metadata the metadata of the table
+   * @param sortBufferSize the maximum number of results held in memory
+   * @param spillDirectory the directory where the temporary files are created. If null, the
+   *     default temporary-file directory is used
+   */
+  public SortingScanner(
+      Scan scan,
+      Scanner scanner,
+      TableMetadata metadata,
+      int sortBufferSize,
+      @Nullable Path spillDirectory) {
+    this(scan, scanner, metadata, sortBufferSize, spillDirectory, DEFAULT_MAX_MERGE_FAN_IN);
+  }
+
+  @VisibleForTesting
+  SortingScanner(
+      Scan scan,
+      Scanner scanner,
+      TableMetadata metadata,
+      int sortBufferSize,
+      @Nullable Path spillDirectory,
+      int maxMergeFanIn) {
+    this.scanner = scanner;
+    this.projections = scan.getProjections();
+    this.metadata = metadata;
+    this.comparator = createComparator(scan.getOrderings());
+    this.sortBufferSize = sortBufferSize;
+    this.spillDirectory = spillDirectory;
+    this.maxMergeFanIn = maxMergeFanIn;
+    if (scan.getLimit() > 0) {
+      left = scan.getLimit();
+    }
+  }
+
+  private static Comparator<Result> createComparator(List<Scan.Ordering> orderings) {
+    return (r1, r2) -> {
+      for (Scan.Ordering ordering : orderings) {
+        int c =
+            compare(
+                r1.getColumns().get(ordering.getColumnName()),
+                r2.getColumns().get(ordering.getColumnName()));
+        if (c != 0) {
+          return ordering.getOrder() == Scan.Ordering.Order.DESC ? -c : c;
+        }
+      }
+      return 0;
+    };
+  }
+
+  @SuppressWarnings("unchecked")
+  private static int compare(Column<?> column1, Column<?> column2) {
+    return ((Column<Object>) column1).compareTo((Column<Object>) column2);
+  }
+
+  @Override
+  public Optional<Result> one() throws ExecutionException {
+    if (failure != null) {
+      // The underlying scanner is partially consumed and the sorted results are incomplete
+      throw new ExecutionException(
+          CoreError.SORTING_SCAN_RESULTS_FAILED.buildMessage(failure.getMessage()), failure);
+    }
+    if (left != null && left == 0) {
+      return Optional.empty();
+    }
+    try {
+      if (mergeQueue == null) {
+        mergeQueue = sort();
+      }
+      Run run = mergeQueue.poll();
+      if (run == null) {
+        return Optional.empty();
+      }
+      Result result = run.head();
+      if (run.advance()) {
+        mergeQueue.add(run);
+      }
+      if (left != null) {
+        left--;
+      }
+      return Optional.of(new ProjectedResult(result, projections));
+    } catch (IOException e) {
+      failure = e;
+      throw new ExecutionException(
+          CoreError.SORTING_SCAN_RESULTS_FAILED.buildMessage(e.getMessage()), e);
+    } catch (ExecutionException | RuntimeException e) {
+      failure = e;
+      throw e;
+    }
+  }
+
+  private PriorityQueue<Run> createMergeQueue() {
+    return new PriorityQueue<>(Comparator.comparing(Run::head, comparator));
+  }
+
+  private PriorityQueue<Run> sort() throws ExecutionException, IOException {
+    PriorityQueue<Run> queue = createMergeQueue();
+
+    if (left != null && left <= sortBufferSize) {
+      // Keep only the top results in a heap whose head is the last of them
+      PriorityQueue<Result> topResults = new PriorityQueue<>(left + 1, comparator.reversed());
+      for (Optional<Result> one = scanner.one(); one.isPresent(); one = scanner.one()) {
+        topResults.add(one.get());
+        if (topResults.size() > left) {
+          topResults.poll();
+        }
+      }
+      addRun(queue, new InMemoryRun(new ArrayList<>(topResults)));
+      return queue;
+    }
+
+    // The spilled runs aren't opened until they are merged
+    Deque<FileRun> spilledRuns = new ArrayDeque<>();
+    List<Result> buffer = new ArrayList<>();
+    for (Optional<Result> one = scanner.one(); one.isPresent(); one = scanner.one()) {
+      buffer.add(one.get());
+      if (buffer.size() >= sortBufferSize) {
+        FileRun run = spill(buffer);
+        runs.add(run);
+        spilledRuns.add(run);
+        buffer = new ArrayList<>();
+      }
+    }
+
+    // Merge the runs in the order they were created so that the runs merged together have similar
+    // sizes
+    while (spilledRuns.size() > maxMergeFanIn) {
+      List<FileRun> group = new ArrayList<>(maxMergeFanIn);
+      for (int i = 0; i < maxMergeFanIn; i++) {
+        group.add(spilledRuns.poll());
+      }
+      FileRun merged = merge(group);
+      runs.add(merged);
+      spilledRuns.add(merged);
+    }
+
+    for (FileRun run : spilledRuns) {
+      if (run.advance()) {
+        queue.add(run);
+      }
+    }
+    // The last chunk doesn't need to be spilled since it's merged right away
+    addRun(queue, new InMemoryRun(buffer));
+    return queue;
+  }
+
+  private void addRun(PriorityQueue<Run> queue, Run run) throws IOException {
+    runs.add(run);
+    if (run.advance()) {
+      queue.add(run);
+    }
+  }
+
+  private FileRun spill(List<Result> buffer) throws IOException {
+    buffer.sort(comparator);
+    Path file = createTempFile();
+    logger.debug("Spilling {} results of the cross-partition scan to {}", buffer.size(), file);
+    try (DataOutputStream out = newOutputStream(file)) {
+      for (Result result : buffer) {
+        writeResult(out, result);
+      }
+    } catch (IOException e) {
+      Files.deleteIfExists(file);
+      throw e;
+    }
+    return new FileRun(file, buffer.size(), metadata);
+  }
+
+  private FileRun merge(List<FileRun> group) throws IOException {
+    Path file = createTempFile();
+    logger.debug("Merging {} spilled runs of the cross-partition scan to {}", group.size(), file);
+    int size = 0;
+    try (DataOutputStream out = newOutputStream(file)) {
+      PriorityQueue<Run> queue = createMergeQueue();
+      for (FileRun run : group) {
+        if (run.advance()) {
+          queue.add(run);
+        }
+      }
+      for (Run run = queue.poll(); run != null; run = queue.poll()) {
+        writeResult(out, run.head());
+        size++;
+        if (run.advance()) {
+          queue.add(run);
+        }
+      }
+    } catch (IOException e) {
+      Files.deleteIfExists(file);
+      throw e;
+    }
+    for (FileRun run : group) {
+      runs.remove(run);
+      run.close();
+    }
+    return new FileRun(file, size, metadata);
+  }
+
+  private Path createTempFile() throws IOException {
+    // Files.createTempFile() creates the file readable and writable only by the owner
+    return spillDirectory == null
+        ? Files.createTempFile(TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX)
+        : Files.createTempFile(spillDirectory, TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX);
+  }
+
+  private static DataOutputStream newOutputStream(Path file) throws IOException {
+    return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+  }
+
+  private static void writeResult(DataOutputStream out, Result result) throws IOException {
+    Map<String, Column<?>> columns = result.getColumns();
+    out.writeInt(columns.size());
+    for (Column<?> column : columns.values()) {
+      ColumnSerializer.write(out, column);
+    }
+  }
+
+  private static Result readResult(DataInputStream in, TableMetadata metadata) throws IOException {
+    int size = in.readInt();
+    Map<String, Column<?>> columns = new LinkedHashMap<>(size * 2);
+    for (int i = 0; i < size; i++) {
+      Column<?> column = ColumnSerializer.read(in);
+      columns.put(column.getName(), column);
+    }
+    return new ResultImpl(columns, metadata);
+  }
+
+  @Override
+  public List<Result> all() throws ExecutionException {
+    List<Result> ret = new ArrayList<>();
+    while (true) {
+      Optional<Result> one = one();
+      if (!one.isPresent()) {
+        break;
+      }
+      ret.add(one.get());
+    }
+    return ret;
+  }
+
+  @Override
+  @Nonnull
+  public Iterator<Result> iterator() {
+    if (scannerIterator == null) {
+      scannerIterator = new ScannerIterator(this);
+    }
+    return scannerIterator;
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      scanner.close();
+    } finally {
+      for (Run run : runs) {
+        try {
+          run.close();
+        } catch (IOException e) {
+          logger.warn("Failed to clean up the sorted results", e);
+        }
+      }
+    }
+  }
+
+  /** A sorted sequence of results. */
+  private abstract static class Run implements Closeable {
+    @Nullable private Result head;
+
+    /**
+     * Moves to the next result.
+     *
+     * @return false if there are no more results
+     */
+    boolean advance() throws IOException {
+      head = next();
+      return head != null;
+    }
+
+    Result head() {
+      assert head != null;
+      return head;
+    }
+
+    @Nullable
+    protected abstract Result next() throws IOException;
+  }
+
+  private class InMemoryRun extends Run {
+    private final Iterator<Result> iterator;
+
+    private InMemoryRun(List<Result> results) {
+      results.sort(comparator);
+      iterator = results.iterator();
+    }
+
+    @Nullable
+    @Override
+    protected Result next() {
+      return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    @Override
+    public void close() {}
+  }
+
+  private static class FileRun extends Run {
+    private final Path file;
+    private final TableMetadata metadata;
+    private int left;
+    @Nullable private DataInputStream in;
+
+    private FileRun(Path file, int size, TableMetadata metadata) {
+      this.file = file;
+      this.left = size;
+      this.metadata = metadata;
+    }
+
+    @Nullable
+    @Override
+    protected Result next() throws IOException {
+      if (left == 0) {
+        return null;
+      }
+      if (in == null) {
+        in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)));
+      }
+      left--;
+      return readResult(in, metadata);
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        if (in != null) {
+          in.close();
+        }
+      } finally {
+        Files.deleteIfExists(file);
+      }
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package com.scalar.db.common;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A utility class for the caches of table metadata, shared by {@link TableMetadataManager} and
+ * {@link com.scalar.db.transaction.consensuscommit.TransactionTableMetadataManager}.
+ *
+ * <p>When the cache expiration time is positive, a cached table metadata that is accessed after the
+ * expiration time is reloaded in the background while the cached one is still returned, so that
+ * the expiration doesn't block operations. A cached table metadata that isn't reloaded within
+ * twice the expiration time since it was loaded, that is, one that isn't accessed in between, is
+ * evicted and loaded again on the next access. So a table metadata returned from a cache is at
+ * most twice the expiration time old.
+ */
+@ThreadSafe
+public final class TableMetadataCacheUtils {
+
+  // Reloads are rare and short, so a few threads shared among all the caches are enough
+  private static final int RELOAD_THREADS = 4;
+  private static final Executor RELOAD_EXECUTOR = createReloadExecutor();
+
+  private TableMetadataCacheUtils() {}
+
+  private static Executor createReloadExecutor() {
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            RELOAD_THREADS,
+            RELOAD_THREADS,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("table-metadata-reloader-%d")
+                .build());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /**
+   * Returns a cache builder that expires and reloads the entries by the specified cache expiration
+   * time.
+   *
+   * @param cacheExpirationTimeSecs the cache expiration time in seconds. A negative value means
+   *     that the entries never expire, and 0 means that the entries aren't cached
+   * @return a cache builder
+   */
+  public static CacheBuilder<Object, Object> newCacheBuilder(long cacheExpirationTimeSecs) {
+    CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder();
+    if (cacheExpirationTimeSecs > 0) {
+      builder
+          .refreshAfterWrite(cacheExpirationTimeSecs, TimeUnit.SECONDS)
+          .expireAfterWrite(cacheExpirationTimeSecs * 2, TimeUnit.SECONDS);
+    } else if (cacheExpirationTimeSecs == 0) {
+      builder.expireAfterWrite(0, TimeUnit.SECONDS);
+    }
+    return builder;
+  }
+
+  /**
+   * Returns a cache loader that reloads the entries with the specified loader on the shared reload
+   * threads.
+   *
+   * @param loader a cache loader
+   * @param <K> the type of the keys
+   * @param <V> the type of the values
+   * @return a cache loader that reloads the entries asynchronously
+   */
+  public static <K, V> CacheLoader<K, V> asyncReloading(CacheLoader<K, V> loader) {
+    return CacheLoader.asyncReloading(loader, RELOAD_EXECUTOR);
+  }
+}
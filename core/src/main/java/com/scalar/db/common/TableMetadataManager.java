@@ -1,6 +1,5 @@
 package com.scalar.db.common;
 
-import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.scalar.db.api.Admin;
@@ -10,40 +9,56 @@ import com.scalar.db.common.error.CoreError;
 import com.scalar.db.exception.storage.ExecutionException;
 import com.scalar.db.util.ScalarDbUtils;
 import com.scalar.db.util.ThrowableFunction;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
-/** A class that manages and caches table metadata */
+/**
+ * A class that manages and caches table metadata. See {@link TableMetadataCacheUtils} for how the
+ * cached table metadata expire.
+ */
 @ThreadSafe
 public class TableMetadataManager {
 
   private final LoadingCache<TableKey, Optional<TableMetadata>> tableMetadataCache;
 
+  @Nullable
+  private final ThrowableFunction<String, Map<String, TableMetadata>, Exception>
+      getTablesMetadataFunc;
+
   public TableMetadataManager(Admin admin, long cacheExpirationTimeSecs) {
     this(
         key -> Optional.ofNullable(admin.getTableMetadata(key.namespace, key.table)),
+        admin::getTablesMetadata,
         cacheExpirationTimeSecs);
   }
 
   public TableMetadataManager(
       ThrowableFunction<TableKey, Optional<TableMetadata>, Exception> getTableMetadataFunc,
       long cacheExpirationTimeSecs) {
-    CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder();
-    if (cacheExpirationTimeSecs >= 0) {
-      builder.expireAfterWrite(cacheExpirationTimeSecs, TimeUnit.SECONDS);
-    }
+    this(getTableMetadataFunc, null, cacheExpirationTimeSecs);
+  }
+
+  public TableMetadataManager(
+      ThrowableFunction<TableKey, Optional<TableMetadata>, Exception> getTableMetadataFunc,
+      @Nullable
+          ThrowableFunction<String, Map<String, TableMetadata>, Exception> getTablesMetadataFunc,
+      long cacheExpirationTimeSecs) {
+    this.getTablesMetadataFunc = getTablesMetadataFunc;
     tableMetadataCache =
-        builder.build(
-            new CacheLoader<TableKey, Optional<TableMetadata>>() {
-              @Nonnull
-              @Override
-              public Optional<TableMetadata> load(@Nonnull TableKey key) throws Exception {
-                return getTableMetadataFunc.apply(key);
-              }
-            });
+        TableMetadataCacheUtils.newCacheBuilder(cacheExpirationTimeSecs)
+            .build(
+                TableMetadataCacheUtils.asyncReloading(
+                    new CacheLoader<TableKey, Optional<TableMetadata>>() {
+                      @Nonnull
+                      @Override
+                      public Optional<TableMetadata> load(@Nonnull TableKey key) throws Exception {
+                        return getTableMetadataFunc.apply(key);
+                      }
+                    }));
   }
 
   /**
@@ -81,6 +96,31 @@ public class TableMetadataManager {
     }
   }
 
+  /**
+   * Loads the table metadata of all the tables in the specified namespace into the cache at once,
+   * which takes a single request to the underlying storage for most of the storages. This does
+   * nothing if the manager isn't given a way to retrieve them at once.
+   *
+   * @param namespace a namespace
+   * @throws ExecutionException if the operation fails
+   */
+  public void loadTablesMetadata(String namespace) throws ExecutionException {
+    if (getTablesMetadataFunc == null) {
+      return;
+    }
+
+    Map<String, TableMetadata> tablesMetadata;
+    try {
+      tablesMetadata = getTablesMetadataFunc.apply(namespace);
+    } catch (Exception e) {
+      throw new ExecutionException(
+          CoreError.GETTING_TABLES_METADATA_IN_NAMESPACE_FAILED.buildMessage(namespace), e);
+    }
+    tablesMetadata.forEach(
+        (table, tableMetadata) ->
+            tableMetadataCache.put(new TableKey(namespace, table), Optional.of(tableMetadata)));
+  }
+
   public static class TableKey {
     public final String namespace;
     public final String table;
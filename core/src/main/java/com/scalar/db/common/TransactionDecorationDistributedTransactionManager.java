@@ -19,6 +19,8 @@ import com.scalar.db.exception.transaction.CrudException;
 import com.scalar.db.exception.transaction.RollbackException;
 import com.scalar.db.exception.transaction.TransactionException;
 import com.scalar.db.exception.transaction.UnknownTransactionStatusException;
+import com.scalar.db.util.metrics.OperationMetrics;
+import com.scalar.db.util.metrics.OperationMetricsFactory;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -35,6 +37,12 @@ public abstract class TransactionDecorationDistributedTransactionManager
 
     // Add the StateManagedTransaction decorator by default
     addTransactionDecorator(StateManagedTransaction::new);
+
+    OperationMetrics metrics = OperationMetricsFactory.create(config);
+    if (metrics.isEnabled()) {
+      String scope = "transaction." + config.getTransactionManager();
+      addTransactionDecorator(t -> new MetricsRecordingDistributedTransaction(t, metrics, scope));
+    }
   }
 
   protected DistributedTransaction decorate(DistributedTransaction transaction)
@@ -21,6 +21,8 @@ import com.scalar.db.exception.transaction.RollbackException;
 import com.scalar.db.exception.transaction.TransactionException;
 import com.scalar.db.exception.transaction.UnknownTransactionStatusException;
 import com.scalar.db.exception.transaction.ValidationException;
+import com.scalar.db.util.metrics.OperationMetrics;
+import com.scalar.db.util.metrics.OperationMetricsFactory;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -37,6 +39,13 @@ public abstract class TransactionDecorationTwoPhaseCommitTransactionManager
 
     // Add the StateManagedTransaction decorator by default
     addTransactionDecorator(StateManagedTransaction::new);
+
+    OperationMetrics metrics = OperationMetricsFactory.create(config);
+    if (metrics.isEnabled()) {
+      String scope = "two_phase_commit_transaction." + config.getTransactionManager();
+      addTransactionDecorator(
+          t -> new MetricsRecordingTwoPhaseCommitTransaction(t, metrics, scope));
+    }
   }
 
   protected TwoPhaseCommitTransaction decorate(TwoPhaseCommitTransaction transaction)
@@ -4,6 +4,7 @@ import com.scalar.db.api.ConditionalExpression;
 import com.scalar.db.api.ConditionalExpression.Operator;
 import com.scalar.db.api.Delete;
 import com.scalar.db.api.Get;
+import com.scalar.db.api.LockMode;
 import com.scalar.db.api.Mutation;
 import com.scalar.db.api.Operation;
 import com.scalar.db.api.Put;
@@ -32,13 +33,30 @@ public class OperationChecker {
 
   private final DatabaseConfig config;
   private final TableMetadataManager tableMetadataManager;
+  private final boolean lockModeSupported;
 
   public OperationChecker(DatabaseConfig config, TableMetadataManager tableMetadataManager) {
+    this(config, tableMetadataManager, false);
+  }
+
+  /**
+   * Constructs an {@code OperationChecker}.
+   *
+   * @param config a database config
+   * @param tableMetadataManager a table metadata manager
+   * @param lockModeSupported whether the selections can have a {@link LockMode} other than {@link
+   *     LockMode#NONE}. The selections with one are rejected if false
+   */
+  public OperationChecker(
+      DatabaseConfig config, TableMetadataManager tableMetadataManager, boolean lockModeSupported) {
     this.config = config;
     this.tableMetadataManager = tableMetadataManager;
+    this.lockModeSupported = lockModeSupported;
   }
 
   public void check(Get get) throws ExecutionException {
+    checkLockMode(get);
+
     TableMetadata metadata = getTableMetadata(get);
 
     checkProjections(get, metadata);
@@ -78,6 +96,8 @@ public class OperationChecker {
   }
 
   public void check(Scan scan) throws ExecutionException {
+    checkLockMode(scan);
+
     if (scan instanceof ScanAll) {
       check((ScanAll) scan);
       return;
@@ -162,6 +182,13 @@ public class OperationChecker {
     checkConjunctions(scanAll, metadata);
   }
 
+  private void checkLockMode(Selection selection) {
+    if (!lockModeSupported && selection.getLockMode() != LockMode.NONE) {
+      throw new IllegalArgumentException(
+          CoreError.OPERATION_CHECK_ERROR_LOCK_MODE_NOT_SUPPORTED.buildMessage(selection));
+    }
+  }
+
   private void checkProjections(Selection selection, TableMetadata metadata) {
     for (String projection : selection.getProjections()) {
       if (!metadata.getColumnNames().contains(projection)) {
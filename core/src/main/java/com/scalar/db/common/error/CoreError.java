@@ -653,6 +653,149 @@ public enum CoreError implements ScalarDbError {
       "ScalarDB Transparent Data Encryption is not enabled. To use ScalarDB Transparent Data Encryption, you must enable it. Note that this feature is supported only in the ScalarDB Enterprise edition",
       "",
       ""),
+  METRICS_TYPE_NOT_FOUND(Category.USER_ERROR, "0144", "Metrics type '%s' is not found", "", ""),
+  IN_MEMORY_IMPORT_NOT_SUPPORTED(
+      Category.USER_ERROR,
+      "0145",
+      "Import-related functionality is not supported in the in-memory storage",
+      "",
+      ""),
+  INVALID_CROSS_PARTITION_SCAN_ORDERING_SORT_BUFFER_SIZE(
+      Category.USER_ERROR,
+      "0146",
+      "The property 'scalar.db.cross_partition_scan.ordering.sort_buffer_size' must be greater "
+          + "than zero",
+      "",
+      ""),
+  RESUMING_SCAN_WITH_CONTINUATION_TOKEN_NOT_SUPPORTED(
+      Category.USER_ERROR,
+      "0147",
+      "Resuming a scan with a continuation token is not supported in this storage",
+      "",
+      ""),
+  JDBC_INVALID_CONTINUATION_TOKEN(
+      Category.USER_ERROR,
+      "0148",
+      "The continuation token is not valid for the scan. Details: %s",
+      "",
+      ""),
+  JDBC_SCAN_NOT_RESUMABLE(
+      Category.USER_ERROR,
+      "0149",
+      "The scan can't be resumed with a continuation token since it's ordered by columns other "
+          + "than the primary-key columns. Scan: %s",
+      "",
+      ""),
+  BULK_LOAD_NOT_SUPPORTED(
+      Category.USER_ERROR, "0150", "Bulk loading is not supported in this storage", "", ""),
+  BULK_LOAD_CONDITIONAL_PUT_NOT_SUPPORTED(
+      Category.USER_ERROR,
+      "0151",
+      "Bulk loading doesn't support Put operations with conditions. Put: %s",
+      "",
+      ""),
+  BULK_LOAD_PUT_FOR_ANOTHER_TABLE(
+      Category.USER_ERROR,
+      "0152",
+      "The Put operation targets a table other than the table being loaded. Table: %s; Put: %s",
+      "",
+      ""),
+  JDBC_LOCK_MODE_NOT_SUPPORTED(
+      Category.USER_ERROR,
+      "0153",
+      "The lock mode is not supported in the RDB engine. Lock mode: %s; RDB engine: %s",
+      "",
+      ""),
+  INVALID_SCAN_PREFETCH_PAGES(
+      Category.USER_ERROR,
+      "0154",
+      "The property 'scalar.db.scan_prefetch.pages' must not be negative",
+      "",
+      ""),
+  INVALID_SCAN_PREFETCH_MAX_BUFFERED_BYTES(
+      Category.USER_ERROR,
+      "0155",
+      "The property 'scalar.db.scan_prefetch.max_buffered_bytes' must be greater than zero",
+      "",
+      ""),
+  DYNAMO_BATCH_WRITE_SIZE_EXCEEDED(
+      Category.USER_ERROR,
+      "0156",
+      "DynamoDB cannot batch-write more than 25 items at once",
+      "",
+      ""),
+  DYNAMO_BATCH_REQUEST_SIZE_EXCEEDED(
+      Category.USER_ERROR,
+      "0157",
+      "DynamoDB cannot batch mutations whose total size exceeds 4 MB at once. Estimated size: %d bytes",
+      "",
+      ""),
+  OPERATION_CHECK_ERROR_LOCK_MODE_NOT_SUPPORTED(
+      Category.USER_ERROR,
+      "0158",
+      "The lock mode is not supported in this storage. Operation: %s",
+      "",
+      ""),
+  JDBC_ORACLE_LOCK_MODE_WITH_LIMIT_NOT_SUPPORTED(
+      Category.USER_ERROR,
+      "0159",
+      "Oracle does not support a lock mode with a limit in a selection. Lock mode: %s; Limit: %d",
+      "",
+      ""),
+  DYNAMO_INVALID_PARALLEL_SCAN_SEGMENTS(
+      Category.USER_ERROR,
+      "0160",
+      "The property 'scalar.db.dynamo.parallel_scan.segments' must be greater than zero",
+      "",
+      ""),
+  DYNAMO_INVALID_PARALLEL_SCAN_MAX_THREADS(
+      Category.USER_ERROR,
+      "0161",
+      "The property 'scalar.db.dynamo.parallel_scan.max_threads' must be greater than zero",
+      "",
+      ""),
+  INVALID_SCAN_PREFETCH_MAX_THREADS(
+      Category.USER_ERROR,
+      "0162",
+      "The property 'scalar.db.scan_prefetch.max_threads' must be greater than zero",
+      "",
+      ""),
+  DYNAMO_INVALID_NON_ATOMIC_MUTATION_PARALLELISM(
+      Category.USER_ERROR,
+      "0163",
+      "The property 'scalar.db.dynamo.non_atomic_mutation.parallelism' must be greater than zero",
+      "",
+      ""),
+  JDBC_INVALID_SCAN_PAGINATION_PAGE_SIZE(
+      Category.USER_ERROR,
+      "0164",
+      "The property 'scalar.db.jdbc.scan_pagination.page_size' must be greater than zero",
+      "",
+      ""),
+  JDBC_INVALID_BULK_LOAD_BATCH_SIZE(
+      Category.USER_ERROR,
+      "0165",
+      "The property 'scalar.db.jdbc.bulk_load.batch_size' must be greater than zero",
+      "",
+      ""),
+  JDBC_INVALID_READ_REPLICA_HEALTH_CHECK_INTERVAL(
+      Category.USER_ERROR,
+      "0166",
+      "The property 'scalar.db.jdbc.read_replica.health_check_interval_millis' must be greater than zero",
+      "",
+      ""),
+  JDBC_INVALID_WARMUP_TABLE(
+      Category.USER_ERROR,
+      "0167",
+      "The property 'scalar.db.jdbc.warmup.tables' must be a comma-separated list of <namespace>.<table>. Table: %s",
+      "",
+      ""),
+  JDBC_INVALID_WARMUP_PARALLELISM(
+      Category.USER_ERROR,
+      "0168",
+      "The property 'scalar.db.jdbc.warmup.parallelism' must be greater than zero",
+      "",
+      ""),
 
   //
   // Errors for the concurrency error category
@@ -898,6 +1041,30 @@ public enum CoreError implements ScalarDbError {
       Category.INTERNAL_ERROR, "0044", "The Upsert operation failed. Details: %s", "", ""),
   JDBC_TRANSACTION_UPDATE_OPERATION_FAILED(
       Category.INTERNAL_ERROR, "0045", "The Update operation failed. Details: %s", "", ""),
+  SORTING_SCAN_RESULTS_FAILED(
+      Category.INTERNAL_ERROR,
+      "0046",
+      "Sorting the results of the cross-partition scan failed. Details: %s",
+      "",
+      ""),
+  JDBC_TRANSACTION_WRITING_BUFFERED_MUTATIONS_FAILED(
+      Category.INTERNAL_ERROR,
+      "0047",
+      "Writing the buffered mutations failed. Details: %s",
+      "",
+      ""),
+  GETTING_TABLES_METADATA_IN_NAMESPACE_FAILED(
+      Category.INTERNAL_ERROR,
+      "0048",
+      "Getting the table metadata of the tables in the namespace failed. Namespace: %s",
+      "",
+      ""),
+  DYNAMO_UNPROCESSED_ITEMS_REMAINED_IN_BATCH_WRITE(
+      Category.INTERNAL_ERROR,
+      "0049",
+      "Some items remained unprocessed after retrying the batch write. Unprocessed items: %d",
+      "",
+      ""),
 
   //
   // Errors for the unknown transaction status error category
@@ -37,7 +37,13 @@ public class DatabaseConfig {
   private boolean crossPartitionScanEnabled;
   private boolean crossPartitionScanFilteringEnabled;
   private boolean crossPartitionScanOrderingEnabled;
+  private int crossPartitionScanOrderingSortBufferSize;
+  @Nullable private String crossPartitionScanOrderingSpillDirectory;
+  private int scanPrefetchPages;
+  private long scanPrefetchMaxBufferedBytes;
+  private int scanPrefetchMaxThreads;
   private String systemNamespaceName;
+  private String metricsType;
 
   public static final String PREFIX = "scalar.db.";
   public static final String CONTACT_POINTS = PREFIX + "contact_points";
@@ -55,9 +61,23 @@ public class DatabaseConfig {
   public static final String CROSS_PARTITION_SCAN = SCAN_PREFIX + "enabled";
   public static final String CROSS_PARTITION_SCAN_FILTERING = SCAN_PREFIX + "filtering.enabled";
   public static final String CROSS_PARTITION_SCAN_ORDERING = SCAN_PREFIX + "ordering.enabled";
+  public static final String CROSS_PARTITION_SCAN_ORDERING_SORT_BUFFER_SIZE =
+      SCAN_PREFIX + "ordering.sort_buffer_size";
+  public static final String CROSS_PARTITION_SCAN_ORDERING_SPILL_DIRECTORY =
+      SCAN_PREFIX + "ordering.spill_directory";
+  public static final String SCAN_PREFETCH_PAGES = PREFIX + "scan_prefetch.pages";
+  public static final String SCAN_PREFETCH_MAX_BUFFERED_BYTES =
+      PREFIX + "scan_prefetch.max_buffered_bytes";
+  public static final String SCAN_PREFETCH_MAX_THREADS = PREFIX + "scan_prefetch.max_threads";
   public static final String SYSTEM_NAMESPACE_NAME = PREFIX + "system_namespace_name";
+  public static final String METRICS_TYPE = PREFIX + "metrics.type";
 
   public static final String DEFAULT_SYSTEM_NAMESPACE_NAME = "scalardb";
+  public static final String DEFAULT_METRICS_TYPE = "none";
+  public static final int DEFAULT_CROSS_PARTITION_SCAN_ORDERING_SORT_BUFFER_SIZE = 10000;
+  public static final int DEFAULT_SCAN_PREFETCH_PAGES = 0;
+  public static final long DEFAULT_SCAN_PREFETCH_MAX_BUFFERED_BYTES = 16L * 1024 * 1024;
+  public static final int DEFAULT_SCAN_PREFETCH_MAX_THREADS = 64;
 
   public DatabaseConfig(File propertiesFile) throws IOException {
     try (FileInputStream stream = new FileInputStream(propertiesFile)) {
@@ -120,7 +140,34 @@ public class DatabaseConfig {
               .buildMessage());
     }
 
+    crossPartitionScanOrderingSortBufferSize =
+        getInt(
+            getProperties(),
+            CROSS_PARTITION_SCAN_ORDERING_SORT_BUFFER_SIZE,
+            DEFAULT_CROSS_PARTITION_SCAN_ORDERING_SORT_BUFFER_SIZE);
+    checkArgument(
+        crossPartitionScanOrderingSortBufferSize > 0,
+        CoreError.INVALID_CROSS_PARTITION_SCAN_ORDERING_SORT_BUFFER_SIZE.buildMessage());
+    crossPartitionScanOrderingSpillDirectory =
+        getString(getProperties(), CROSS_PARTITION_SCAN_ORDERING_SPILL_DIRECTORY, null);
+
+    scanPrefetchPages = getInt(getProperties(), SCAN_PREFETCH_PAGES, DEFAULT_SCAN_PREFETCH_PAGES);
+    checkArgument(scanPrefetchPages >= 0, CoreError.INVALID_SCAN_PREFETCH_PAGES.buildMessage());
+    scanPrefetchMaxBufferedBytes =
+        getLong(
+            getProperties(),
+            SCAN_PREFETCH_MAX_BUFFERED_BYTES,
+            DEFAULT_SCAN_PREFETCH_MAX_BUFFERED_BYTES);
+    checkArgument(
+        scanPrefetchMaxBufferedBytes > 0,
+        CoreError.INVALID_SCAN_PREFETCH_MAX_BUFFERED_BYTES.buildMessage());
+    scanPrefetchMaxThreads =
+        getInt(getProperties(), SCAN_PREFETCH_MAX_THREADS, DEFAULT_SCAN_PREFETCH_MAX_THREADS);
+    checkArgument(
+        scanPrefetchMaxThreads > 0, CoreError.INVALID_SCAN_PREFETCH_MAX_THREADS.buildMessage());
+
     systemNamespaceName = getSystemNamespaceName(getProperties());
+    metricsType = getString(getProperties(), METRICS_TYPE, DEFAULT_METRICS_TYPE);
   }
 
   public List<String> getContactPoints() {
@@ -147,6 +194,15 @@ public class DatabaseConfig {
     return transactionManager;
   }
 
+  /**
+   * Returns the expiration time of the table metadata caches in seconds. A cached table metadata
+   * accessed after this time is reloaded in the background while the cached one is still
+   * returned, and one that isn't accessed until twice this time is evicted. So a table metadata is
+   * cached for up to twice this time. A negative value means that the table metadata never expire,
+   * and 0 means that they aren't cached.
+   *
+   * @return the expiration time of the table metadata caches in seconds
+   */
   public long getMetadataCacheExpirationTimeSecs() {
     return metadataCacheExpirationTimeSecs;
   }
@@ -171,10 +227,66 @@ public class DatabaseConfig {
     return crossPartitionScanOrderingEnabled;
   }
 
+  /**
+   * Returns the maximum number of records held in memory when a storage sorts the results of a
+   * cross-partition scan on the client side. The records exceeding it are spilled to temporary
+   * files.
+   *
+   * @return the sort buffer size
+   */
+  public int getCrossPartitionScanOrderingSortBufferSize() {
+    return crossPartitionScanOrderingSortBufferSize;
+  }
+
+  /**
+   * Returns the directory where the records exceeding the sort buffer are spilled. If it's not
+   * set, the default temporary-file directory of the JVM is used.
+   *
+   * @return the spill directory
+   */
+  public Optional<String> getCrossPartitionScanOrderingSpillDirectory() {
+    return Optional.ofNullable(crossPartitionScanOrderingSpillDirectory);
+  }
+
+  /**
+   * Returns the number of pages of a scan that a storage fetches in the background ahead of the
+   * page being read, so that reading a large scan doesn't stall at every page boundary. 0 disables
+   * the prefetch.
+   *
+   * @return the number of pages to prefetch
+   */
+  public int getScanPrefetchPages() {
+    return scanPrefetchPages;
+  }
+
+  /**
+   * Returns the approximate maximum number of bytes of the prefetched pages of a scan. A page is
+   * prefetched only while the pages already prefetched are within it.
+   *
+   * @return the maximum number of bytes of the prefetched pages
+   */
+  public long getScanPrefetchMaxBufferedBytes() {
+    return scanPrefetchMaxBufferedBytes;
+  }
+
+  /**
+   * Returns the maximum number of threads that a storage uses to prefetch the pages of its scans.
+   * The prefetches beyond it wait for a thread.
+   *
+   * @return the maximum number of threads to prefetch pages with
+   */
+  public int getScanPrefetchMaxThreads() {
+    return scanPrefetchMaxThreads;
+  }
+
   public String getSystemNamespaceName() {
     return systemNamespaceName;
   }
 
+  public String getMetricsType() {
+    return metricsType;
+  }
+
   public static String getTransactionManager(Properties properties) {
     return getString(properties, TRANSACTION_MANAGER, "consensus-commit");
   }
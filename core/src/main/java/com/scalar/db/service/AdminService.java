@@ -69,6 +69,11 @@ public class AdminService implements DistributedStorageAdmin {
     return admin.getTableMetadata(namespace, table);
   }
 
+  @Override
+  public Map<String, TableMetadata> getTablesMetadata(String namespace) throws ExecutionException {
+    return admin.getTablesMetadata(namespace);
+  }
+
   @Override
   public Set<String> getNamespaceTableNames(String namespace) throws ExecutionException {
     return admin.getNamespaceTableNames(namespace);
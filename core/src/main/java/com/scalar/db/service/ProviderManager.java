@@ -8,8 +8,11 @@ import com.scalar.db.api.DistributedTransactionAdmin;
 import com.scalar.db.api.DistributedTransactionManager;
 import com.scalar.db.api.DistributedTransactionProvider;
 import com.scalar.db.api.TwoPhaseCommitTransactionManager;
+import com.scalar.db.common.MetricsRecordingDistributedStorage;
 import com.scalar.db.common.error.CoreError;
 import com.scalar.db.config.DatabaseConfig;
+import com.scalar.db.util.metrics.OperationMetrics;
+import com.scalar.db.util.metrics.OperationMetricsFactory;
 import java.util.Locale;
 import java.util.Map;
 import java.util.ServiceLoader;
@@ -65,7 +68,13 @@ final class ProviderManager {
    * @return an instance of {@link DistributedStorage}
    */
   public static DistributedStorage createDistributedStorage(DatabaseConfig config) {
-    return getDistributedStorageProvider(config.getStorage()).createDistributedStorage(config);
+    DistributedStorage storage =
+        getDistributedStorageProvider(config.getStorage()).createDistributedStorage(config);
+    OperationMetrics metrics = OperationMetricsFactory.create(config);
+    if (!metrics.isEnabled()) {
+      return storage;
+    }
+    return new MetricsRecordingDistributedStorage(storage, metrics, config.getStorage());
   }
 
   /**
@@ -11,6 +11,7 @@ import com.scalar.db.api.Scan;
 import com.scalar.db.api.Scanner;
 import com.scalar.db.exception.storage.ExecutionException;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import javax.annotation.concurrent.ThreadSafe;
@@ -72,6 +73,11 @@ public class StorageService implements DistributedStorage {
     return storage.scan(scan);
   }
 
+  @Override
+  public Scanner scan(Scan scan, String continuationToken) throws ExecutionException {
+    return storage.scan(scan, continuationToken);
+  }
+
   @Override
   public void put(Put put) throws ExecutionException {
     storage.put(put);
@@ -82,6 +88,12 @@ public class StorageService implements DistributedStorage {
     storage.put(puts);
   }
 
+  @Override
+  public long bulkLoad(String namespace, String table, Iterator<Put> puts)
+      throws ExecutionException {
+    return storage.bulkLoad(namespace, table, puts);
+  }
+
   @Override
   public void delete(Delete delete) throws ExecutionException {
     storage.delete(delete);
@@ -97,6 +109,16 @@ public class StorageService implements DistributedStorage {
     storage.mutate(mutations);
   }
 
+  @Override
+  public void mutateNonAtomically(List<? extends Mutation> mutations) throws ExecutionException {
+    storage.mutateNonAtomically(mutations);
+  }
+
+  @Override
+  public boolean isReady() {
+    return storage.isReady();
+  }
+
   @Override
   public void close() {
     storage.close();
@@ -208,6 +208,11 @@ public class TransactionService implements DistributedTransactionManager {
     manager.mutate(mutations);
   }
 
+  @Override
+  public boolean isReady() {
+    return manager.isReady();
+  }
+
   @Override
   public void close() {
     manager.close();
@@ -165,6 +165,11 @@ public class TwoPhaseCommitTransactionService implements TwoPhaseCommitTransacti
     manager.mutate(mutations);
   }
 
+  @Override
+  public boolean isReady() {
+    return manager.isReady();
+  }
+
   @Override
   public void close() {
     manager.close();
@@ -12,18 +12,23 @@ import com.scalar.db.api.Mutation;
 import com.scalar.db.api.Put;
 import com.scalar.db.api.Result;
 import com.scalar.db.api.Scan;
+import com.scalar.db.api.ScanAll;
 import com.scalar.db.api.Scanner;
 import com.scalar.db.common.AbstractDistributedStorage;
 import com.scalar.db.common.FilterableScanner;
+import com.scalar.db.common.SortingScanner;
 import com.scalar.db.common.TableMetadataManager;
 import com.scalar.db.common.checker.OperationChecker;
 import com.scalar.db.common.error.CoreError;
 import com.scalar.db.config.DatabaseConfig;
 import com.scalar.db.exception.storage.ExecutionException;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.Optional;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,16 +46,13 @@ public class Cassandra extends AbstractDistributedStorage {
   private final ClusterManager clusterManager;
   private final TableMetadataManager metadataManager;
   private final OperationChecker operationChecker;
+  private final int sortBufferSize;
+  @Nullable private final Path spillDirectory;
+  private final int scanPrefetchPages;
 
   @Inject
   public Cassandra(DatabaseConfig config) {
     super(config);
-
-    if (config.isCrossPartitionScanOrderingEnabled()) {
-      throw new IllegalArgumentException(
-          CoreError.CASSANDRA_CROSS_PARTITION_SCAN_WITH_ORDERING_NOT_SUPPORTED.buildMessage());
-    }
-
     clusterManager = new ClusterManager(config);
     Session session = clusterManager.getSession();
 
@@ -70,6 +72,10 @@ public class Cassandra extends AbstractDistributedStorage {
             new CassandraAdmin(clusterManager, config),
             config.getMetadataCacheExpirationTimeSecs());
     operationChecker = new OperationChecker(config, metadataManager);
+    sortBufferSize = config.getCrossPartitionScanOrderingSortBufferSize();
+    spillDirectory =
+        config.getCrossPartitionScanOrderingSpillDirectory().map(Paths::get).orElse(null);
+    scanPrefetchPages = config.getScanPrefetchPages();
   }
 
   @VisibleForTesting
@@ -86,6 +92,10 @@ public class Cassandra extends AbstractDistributedStorage {
     this.batch = batch;
     this.metadataManager = metadataManager;
     this.operationChecker = operationChecker;
+    sortBufferSize = config.getCrossPartitionScanOrderingSortBufferSize();
+    spillDirectory =
+        config.getCrossPartitionScanOrderingSpillDirectory().map(Paths::get).orElse(null);
+    scanPrefetchPages = config.getScanPrefetchPages();
   }
 
   // For the SpotBugs warning CT_CONSTRUCTOR_THROW
@@ -134,6 +144,20 @@ public class Cassandra extends AbstractDistributedStorage {
     scan = copyAndSetTargetToIfNot(scan);
     operationChecker.check(scan);
 
+    if (scan instanceof ScanAll && !scan.getOrderings().isEmpty()) {
+      // Cassandra can't order the results of a cross-partition scan, so sort them on the client
+      // side
+      return new SortingScanner(
+          scan,
+          scanWithFiltering(copyAndPrepareForSorting(scan)),
+          metadataManager.getTableMetadata(scan),
+          sortBufferSize,
+          spillDirectory);
+    }
+    return scanWithFiltering(scan);
+  }
+
+  private Scanner scanWithFiltering(Scan scan) throws ExecutionException {
     if (scan.getConjunctions().isEmpty()) {
       return scanInternal(scan);
     } else {
@@ -144,7 +168,8 @@ public class Cassandra extends AbstractDistributedStorage {
   private Scanner scanInternal(Scan scan) throws ExecutionException {
     return new ScannerImpl(
         handlers.select().handle(scan),
-        new ResultInterpreter(scan.getProjections(), metadataManager.getTableMetadata(scan)));
+        new ResultInterpreter(scan.getProjections(), metadataManager.getTableMetadata(scan)),
+        scanPrefetchPages);
   }
 
   @Override
@@ -28,6 +28,7 @@ import com.scalar.db.exception.storage.ExecutionException;
 import com.scalar.db.io.DataType;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -252,6 +253,40 @@ public class CassandraAdmin implements DistributedStorageAdmin {
     }
   }
 
+  /**
+   * Retrieves the table metadata of all the tables in the specified keyspace from the schema
+   * metadata that the driver keeps, so no query is issued.
+   *
+   * @param namespace a namespace
+   * @return a map from the table names to their table metadata
+   * @throws ExecutionException if the operation fails
+   */
+  @Override
+  public Map<String, TableMetadata> getTablesMetadata(String namespace) throws ExecutionException {
+    try {
+      KeyspaceMetadata keyspace =
+          clusterManager
+              .getSession()
+              .getCluster()
+              .getMetadata()
+              .getKeyspace(quoteIfNecessary(namespace));
+      if (keyspace == null) {
+        return Collections.emptyMap();
+      }
+      Map<String, TableMetadata> tablesMetadata = new HashMap<>();
+      for (com.datastax.driver.core.TableMetadata metadata : keyspace.getTables()) {
+        tablesMetadata.put(metadata.getName(), createTableMetadata(metadata));
+      }
+      return tablesMetadata;
+    } catch (RuntimeException e) {
+      throw new ExecutionException(
+          String.format(
+              "Getting the table metadata of the tables of the %s keyspace failed",
+              namespace),
+          e);
+    }
+  }
+
   private TableMetadata createTableMetadata(com.datastax.driver.core.TableMetadata metadata)
       throws ExecutionException {
     TableMetadata.Builder builder = TableMetadata.newBuilder();
@@ -2,6 +2,7 @@ package com.scalar.db.storage.cassandra;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.datastax.driver.core.QueryOptions;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
 import com.scalar.db.api.Result;
@@ -18,17 +19,52 @@ import javax.annotation.concurrent.NotThreadSafe;
 public final class ScannerImpl implements Scanner {
   private final ResultSet resultSet;
   private final ResultInterpreter resultInterpreter;
+  private final int prefetchThreshold;
 
   private ScannerIterator scannerIterator;
 
   public ScannerImpl(ResultSet resultSet, ResultInterpreter resultInterpreter) {
+    this(resultSet, resultInterpreter, 0);
+  }
+
+  /**
+   * Constructs a scanner that fetches the next pages of the result set asynchronously ahead of the
+   * rows being read when {@code prefetchPages} is greater than 0. The driver fetches a page at a
+   * time, and the next page is fetched once the rows left in the result set are as few as the
+   * rows of {@code prefetchPages} pages. The number of the buffered rows is bounded by the fetch
+   * size of the statement instead of a number of bytes.
+   *
+   * @param resultSet a result set
+   * @param resultInterpreter a result interpreter
+   * @param prefetchPages the number of pages to prefetch, or 0 to fetch a page when it's read
+   */
+  public ScannerImpl(ResultSet resultSet, ResultInterpreter resultInterpreter, int prefetchPages) {
     this.resultSet = checkNotNull(resultSet);
     this.resultInterpreter = checkNotNull(resultInterpreter);
+    if (prefetchPages > 0) {
+      int fetchSize = resultSet.getExecutionInfo().getStatement().getFetchSize();
+      if (fetchSize <= 0) {
+        fetchSize = QueryOptions.DEFAULT_FETCH_SIZE;
+      }
+      prefetchThreshold = fetchSize * prefetchPages;
+    } else {
+      prefetchThreshold = 0;
+    }
+  }
+
+  private void prefetchIfNeeded() {
+    if (prefetchThreshold > 0
+        && !resultSet.isFullyFetched()
+        && resultSet.getAvailableWithoutFetching() <= prefetchThreshold) {
+      // This doesn't start another fetch while the previous one is in progress
+      resultSet.fetchMoreResults();
+    }
   }
 
   @Override
   @Nonnull
   public Optional<Result> one() {
+    prefetchIfNeeded();
     Row row = resultSet.one();
     if (row == null) {
       return Optional.empty();
@@ -40,6 +76,16 @@ public final class ScannerImpl implements Scanner {
   @Nonnull
   public List<Result> all() {
     List<Result> results = new ArrayList<>();
+    if (prefetchThreshold > 0) {
+      while (true) {
+        Optional<Result> one = one();
+        if (!one.isPresent()) {
+          break;
+        }
+        results.add(one.get());
+      }
+      return results;
+    }
     resultSet.forEach(r -> results.add(resultInterpreter.interpret(r)));
     return results;
   }
@@ -12,18 +12,25 @@ import com.scalar.db.api.Mutation;
 import com.scalar.db.api.Put;
 import com.scalar.db.api.Result;
 import com.scalar.db.api.Scan;
+import com.scalar.db.api.ScanAll;
 import com.scalar.db.api.Scanner;
 import com.scalar.db.common.AbstractDistributedStorage;
 import com.scalar.db.common.FilterableScanner;
+import com.scalar.db.common.PagePrefetcher;
+import com.scalar.db.common.SortingScanner;
 import com.scalar.db.common.TableMetadataManager;
 import com.scalar.db.common.checker.OperationChecker;
 import com.scalar.db.common.error.CoreError;
 import com.scalar.db.config.DatabaseConfig;
 import com.scalar.db.exception.storage.ExecutionException;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,30 +49,42 @@ public class Cosmos extends AbstractDistributedStorage {
   private final PutStatementHandler putStatementHandler;
   private final DeleteStatementHandler deleteStatementHandler;
   private final BatchHandler batchHandler;
+  private final TableMetadataManager metadataManager;
   private final OperationChecker operationChecker;
+  private final int sortBufferSize;
+  @Nullable private final Path spillDirectory;
+  @Nullable private final ExecutorService scanPrefetchExecutor;
 
   @Inject
   public Cosmos(DatabaseConfig databaseConfig) {
     super(databaseConfig);
-
-    if (databaseConfig.isCrossPartitionScanOrderingEnabled()) {
-      throw new IllegalArgumentException(
-          CoreError.COSMOS_CROSS_PARTITION_SCAN_WITH_ORDERING_NOT_SUPPORTED.buildMessage());
-    }
-
     CosmosConfig config = new CosmosConfig(databaseConfig);
 
     client = CosmosUtils.buildCosmosClient(config);
 
-    TableMetadataManager metadataManager =
+    metadataManager =
         new TableMetadataManager(
             new CosmosAdmin(client, config), databaseConfig.getMetadataCacheExpirationTimeSecs());
     operationChecker = new CosmosOperationChecker(databaseConfig, metadataManager);
 
-    selectStatementHandler = new SelectStatementHandler(client, metadataManager);
+    scanPrefetchExecutor =
+        databaseConfig.getScanPrefetchPages() > 0
+            ? PagePrefetcher.createExecutor(
+                databaseConfig.getScanPrefetchMaxThreads(), "cosmos-scan-prefetch-%d")
+            : null;
+    selectStatementHandler =
+        new SelectStatementHandler(
+            client,
+            metadataManager,
+            databaseConfig.getScanPrefetchPages(),
+            databaseConfig.getScanPrefetchMaxBufferedBytes(),
+            scanPrefetchExecutor);
     putStatementHandler = new PutStatementHandler(client, metadataManager);
     deleteStatementHandler = new DeleteStatementHandler(client, metadataManager);
     batchHandler = new BatchHandler(client, metadataManager);
+    sortBufferSize = databaseConfig.getCrossPartitionScanOrderingSortBufferSize();
+    spillDirectory =
+        databaseConfig.getCrossPartitionScanOrderingSpillDirectory().map(Paths::get).orElse(null);
 
     logger.info("Cosmos DB object is created properly");
   }
@@ -78,6 +97,7 @@ public class Cosmos extends AbstractDistributedStorage {
       PutStatementHandler put,
       DeleteStatementHandler delete,
       BatchHandler batch,
+      TableMetadataManager metadataManager,
       OperationChecker operationChecker) {
     super(databaseConfig);
     this.client = client;
@@ -85,7 +105,12 @@ public class Cosmos extends AbstractDistributedStorage {
     this.putStatementHandler = put;
     this.deleteStatementHandler = delete;
     this.batchHandler = batch;
+    this.metadataManager = metadataManager;
     this.operationChecker = operationChecker;
+    sortBufferSize = databaseConfig.getCrossPartitionScanOrderingSortBufferSize();
+    spillDirectory =
+        databaseConfig.getCrossPartitionScanOrderingSpillDirectory().map(Paths::get).orElse(null);
+    scanPrefetchExecutor = null;
   }
 
   // For the SpotBugs warning CT_CONSTRUCTOR_THROW
@@ -129,6 +154,20 @@ public class Cosmos extends AbstractDistributedStorage {
     scan = copyAndSetTargetToIfNot(scan);
     operationChecker.check(scan);
 
+    if (scan instanceof ScanAll && !scan.getOrderings().isEmpty()) {
+      // Ordering a cross-partition query in Cosmos DB requires composite indexes that aren't
+      // created for arbitrary columns, so sort the results on the client side
+      return new SortingScanner(
+          scan,
+          scanInternal(copyAndPrepareForSorting(scan)),
+          metadataManager.getTableMetadata(scan),
+          sortBufferSize,
+          spillDirectory);
+    }
+    return scanInternal(scan);
+  }
+
+  private Scanner scanInternal(Scan scan) throws ExecutionException {
     if (scan.getConjunctions().isEmpty()) {
       return selectStatementHandler.handle(scan);
     } else {
@@ -184,6 +223,11 @@ public class Cosmos extends AbstractDistributedStorage {
 
   @Override
   public void close() {
+    if (scanPrefetchExecutor != null) {
+      // The queued fetches still run and fail against the closed client, so that their readers
+      // don't wait for them forever
+      scanPrefetchExecutor.shutdown();
+    }
     client.close();
   }
 }
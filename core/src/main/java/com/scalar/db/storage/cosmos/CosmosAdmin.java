@@ -18,6 +18,8 @@ import com.azure.cosmos.models.ExcludedPath;
 import com.azure.cosmos.models.IncludedPath;
 import com.azure.cosmos.models.IndexingPolicy;
 import com.azure.cosmos.models.PartitionKey;
+import com.azure.cosmos.models.SqlParameter;
+import com.azure.cosmos.models.SqlQuerySpec;
 import com.azure.cosmos.models.ThroughputProperties;
 import com.azure.cosmos.util.CosmosPagedIterable;
 import com.google.common.annotations.VisibleForTesting;
@@ -484,6 +486,57 @@ public class CosmosAdmin implements DistributedStorageAdmin {
     }
   }
 
+  /**
+   * Retrieves the table metadata of all the tables in the specified namespace with a single query
+   * to the table metadata container, instead of a read per table.
+   *
+   * @param namespace a namespace
+   * @return a map from the table names to their table metadata
+   * @throws ExecutionException if the operation fails
+   */
+  @Override
+  public Map<String, TableMetadata> getTablesMetadata(String namespace) throws ExecutionException {
+    try {
+      if (!tableMetadataContainerExists()) {
+        return Collections.emptyMap();
+      }
+      String prefix = namespace + ".";
+      // Pass the prefix as a parameter so that the namespace name isn't interpreted by the query
+      SqlQuerySpec selectTableMetadataOfNamespace =
+          new SqlQuerySpec(
+              "SELECT * FROM "
+                  + TABLE_METADATA_CONTAINER
+                  + " WHERE STARTSWITH("
+                  + TABLE_METADATA_CONTAINER
+                  + ".id, @prefix)",
+              new SqlParameter("@prefix", prefix));
+      Map<String, TableMetadata> tablesMetadata = new HashMap<>();
+      List<CosmosTableMetadata> cosmosTablesMetadata =
+          getTableMetadataContainer()
+              .queryItems(
+                  selectTableMetadataOfNamespace,
+                  new CosmosQueryRequestOptions(),
+                  CosmosTableMetadata.class)
+              .stream()
+              .collect(Collectors.toList());
+      for (CosmosTableMetadata cosmosTableMetadata : cosmosTablesMetadata) {
+        if (!cosmosTableMetadata.getId().startsWith(prefix)) {
+          continue;
+        }
+        tablesMetadata.put(
+            cosmosTableMetadata.getId().substring(prefix.length()),
+            convertToTableMetadata(cosmosTableMetadata));
+      }
+      return tablesMetadata;
+    } catch (RuntimeException e) {
+      throw new ExecutionException(
+          String.format(
+              "Getting the table metadata of the containers of the %s database failed",
+              namespace),
+          e);
+    }
+  }
+
   private TableMetadata convertToTableMetadata(CosmosTableMetadata cosmosTableMetadata)
       throws ExecutionException {
     TableMetadata.Builder builder = TableMetadata.newBuilder();
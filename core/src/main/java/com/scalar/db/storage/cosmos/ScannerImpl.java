@@ -5,20 +5,25 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import com.azure.cosmos.models.FeedResponse;
 import com.scalar.db.api.Result;
 import com.scalar.db.api.Scanner;
+import com.scalar.db.common.PagePrefetcher;
 import com.scalar.db.common.ScannerIterator;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
 @NotThreadSafe
 public final class ScannerImpl implements Scanner {
 
   private final ResultInterpreter resultInterpreter;
+  @Nullable private final PagePrefetcher<FeedResponse<Record>> prefetcher;
   private Iterator<FeedResponse<Record>> recordsPages;
   private Iterator<Record> currentPageRecords;
   private ScannerIterator scannerIterator;
@@ -30,14 +35,70 @@ public final class ScannerImpl implements Scanner {
    *     records.
    * @param resultInterpreter to interpret the result
    */
-  @SuppressFBWarnings("EI_EXPOSE_REP2")
   public ScannerImpl(
       Iterator<FeedResponse<Record>> recordsPages, ResultInterpreter resultInterpreter) {
-    this.recordsPages = checkNotNull(recordsPages);
+    this(recordsPages, resultInterpreter, 0, 0, null);
+  }
+
+  /**
+   * Create a Scanner for Cosmos DB query operations that fetches the pages in the background ahead
+   * of the page being read
+   *
+   * @param recordsPages an iterator over the pages {@code FeedResponse<Record>}, each containing
+   *     records.
+   * @param resultInterpreter to interpret the result
+   * @param prefetchPages the number of pages to prefetch, or 0 to fetch a page when it's read
+   * @param prefetchMaxBufferedBytes the approximate maximum number of bytes of the prefetched pages
+   * @param prefetchExecutor an executor to prefetch the pages with, which is required when {@code
+   *     prefetchPages} is greater than 0
+   */
+  @SuppressFBWarnings("EI_EXPOSE_REP2")
+  public ScannerImpl(
+      Iterator<FeedResponse<Record>> recordsPages,
+      ResultInterpreter resultInterpreter,
+      int prefetchPages,
+      long prefetchMaxBufferedBytes,
+      @Nullable Executor prefetchExecutor) {
+    checkNotNull(recordsPages);
+    if (prefetchPages > 0) {
+      prefetcher =
+          new PagePrefetcher<>(
+              recordsPages,
+              ScannerImpl::estimateSize,
+              prefetchPages,
+              prefetchMaxBufferedBytes,
+              checkNotNull(prefetchExecutor));
+      this.recordsPages = prefetcher;
+    } else {
+      prefetcher = null;
+      this.recordsPages = recordsPages;
+    }
     this.currentPageRecords = Collections.emptyIterator();
     this.resultInterpreter = checkNotNull(resultInterpreter);
   }
 
+  private static long estimateSize(FeedResponse<Record> page) {
+    long size = 0;
+    for (Record record : page.getResults()) {
+      size += record.getId().length() + record.getConcatenatedPartitionKey().length();
+      size += estimateSize(record.getPartitionKey());
+      size += estimateSize(record.getClusteringKey());
+      size += estimateSize(record.getValues());
+    }
+    return size;
+  }
+
+  private static long estimateSize(Map<String, Object> columns) {
+    long size = 0;
+    for (Map.Entry<String, Object> column : columns.entrySet()) {
+      Object value = column.getValue();
+      // A text and a blob, which is base64-encoded, take their length, and the other values take
+      // at most 8 bytes
+      size += column.getKey().length() + (value instanceof String ? ((String) value).length() : 8);
+    }
+    return size;
+  }
+
   @Override
   @Nonnull
   public Optional<Result> one() {
@@ -83,5 +144,9 @@ public final class ScannerImpl implements Scanner {
   }
 
   @Override
-  public void close() {}
+  public void close() {
+    if (prefetcher != null) {
+      prefetcher.close();
+    }
+  }
 }
@@ -17,16 +17,19 @@ import com.scalar.db.api.TableMetadata;
 import com.scalar.db.common.EmptyScanner;
 import com.scalar.db.common.TableMetadataManager;
 import com.scalar.db.common.error.CoreError;
+import com.scalar.db.config.DatabaseConfig;
 import com.scalar.db.exception.storage.ExecutionException;
 import com.scalar.db.io.Column;
 import com.scalar.db.util.ScalarDbUtils;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 import org.jooq.Field;
 import org.jooq.SQLDialect;
@@ -43,9 +46,29 @@ import org.jooq.impl.DSL;
  */
 @ThreadSafe
 public class SelectStatementHandler extends StatementHandler {
+  private final int scanPrefetchPages;
+  private final long scanPrefetchMaxBufferedBytes;
+  @Nullable private final Executor scanPrefetchExecutor;
 
   public SelectStatementHandler(CosmosClient client, TableMetadataManager metadataManager) {
+    this(
+        client,
+        metadataManager,
+        DatabaseConfig.DEFAULT_SCAN_PREFETCH_PAGES,
+        DatabaseConfig.DEFAULT_SCAN_PREFETCH_MAX_BUFFERED_BYTES,
+        null);
+  }
+
+  public SelectStatementHandler(
+      CosmosClient client,
+      TableMetadataManager metadataManager,
+      int scanPrefetchPages,
+      long scanPrefetchMaxBufferedBytes,
+      @Nullable Executor scanPrefetchExecutor) {
     super(client, metadataManager);
+    this.scanPrefetchPages = scanPrefetchPages;
+    this.scanPrefetchMaxBufferedBytes = scanPrefetchMaxBufferedBytes;
+    this.scanPrefetchExecutor = scanPrefetchExecutor;
   }
 
   /**
@@ -332,7 +355,11 @@ public class SelectStatementHandler extends StatementHandler {
             .iterator();
 
     return new ScannerImpl(
-        pagesIterator, new ResultInterpreter(selection.getProjections(), tableMetadata));
+        pagesIterator,
+        new ResultInterpreter(selection.getProjections(), tableMetadata),
+        scanPrefetchPages,
+        scanPrefetchMaxBufferedBytes,
+        scanPrefetchExecutor);
   }
 
   private Scanner executeQuery(Selection selection, TableMetadata tableMetadata, String query) {
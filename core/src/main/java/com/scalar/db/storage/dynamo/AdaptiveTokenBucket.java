@@ -0,0 +1,148 @@
+package com.scalar.db.storage.dynamo;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A token bucket of capacity units whose rate adapts to throttling, in the manner of additive
+ * increase and multiplicative decrease.
+ *
+ * <p>The bucket doesn't limit anything until it is throttled. When it is throttled, the rate is set
+ * to 70% of the consumption rate measured so far, or of the current rate if it is lower. Then,
+ * while no throttling happens, the rate grows by 5% of the throttled rate every second, and the
+ * bucket stops limiting when the rate reaches twice the throttled rate.
+ *
+ * <p>A request is admitted while the bucket has tokens, and the units that the request actually
+ * consumed are taken from the bucket when its response arrives. The bucket can hold up to a second
+ * of tokens to absorb bursts, and can go into debt by up to a second of tokens, which delays the
+ * following requests.
+ */
+@ThreadSafe
+class AdaptiveTokenBucket {
+  private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+  private static final double DECREASE_FACTOR = 0.7;
+  private static final double INCREASE_RATIO = 0.05;
+  private static final double UNLIMITED_RATIO = 2.0;
+  private static final double MIN_RATE = 1.0;
+  private static final double BURST_SECONDS = 1.0;
+  private static final long MEASUREMENT_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final Ticker ticker;
+  private double rate = Double.POSITIVE_INFINITY;
+  private double throttledRate;
+  private double tokens;
+  private long lastRefillNanos;
+  // The consumption rate smoothed over windows of a second
+  private double measuredRate;
+  private double windowUnits;
+  private long windowStartNanos;
+
+  AdaptiveTokenBucket() {
+    this(Ticker.systemTicker());
+  }
+
+  @VisibleForTesting
+  AdaptiveTokenBucket(Ticker ticker) {
+    this.ticker = ticker;
+    lastRefillNanos = ticker.read();
+    windowStartNanos = lastRefillNanos;
+  }
+
+  /**
+   * Blocks until the bucket has tokens. Returns immediately if the bucket isn't limiting.
+   *
+   * @throws InterruptedException if the current thread is interrupted while waiting
+   */
+  void acquire() throws InterruptedException {
+    long waitNanos;
+    while ((waitNanos = getWaitNanos()) > 0) {
+      TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+  }
+
+  @VisibleForTesting
+  synchronized long getWaitNanos() {
+    if (!isLimiting()) {
+      return 0;
+    }
+    refill(ticker.read());
+    if (tokens > 0) {
+      return 0;
+    }
+    return (long) Math.ceil(-tokens / rate * NANOS_PER_SECOND) + 1;
+  }
+
+  /**
+   * Takes the consumed units from the bucket.
+   *
+   * @param units the capacity units consumed by a request
+   */
+  synchronized void consume(double units) {
+    long now = ticker.read();
+    measure(now, units);
+    if (isLimiting()) {
+      refill(now);
+      tokens = Math.max(tokens - units, -rate * BURST_SECONDS);
+    }
+  }
+
+  /** Decreases the rate because a request was throttled. */
+  synchronized void throttle() {
+    long now = ticker.read();
+    measure(now, 0);
+    double measured = currentMeasuredRate(now);
+    double baseRate = isLimiting() ? Math.min(rate, measured) : measured;
+    throttledRate = Math.max(baseRate, MIN_RATE);
+    rate = Math.max(throttledRate * DECREASE_FACTOR, MIN_RATE);
+    tokens = Math.min(tokens, 0);
+    lastRefillNanos = now;
+  }
+
+  /** @return the current rate in units per second, or infinity if the bucket isn't limiting */
+  synchronized double getRate() {
+    if (isLimiting()) {
+      refill(ticker.read());
+    }
+    return rate;
+  }
+
+  private boolean isLimiting() {
+    return rate != Double.POSITIVE_INFINITY;
+  }
+
+  private void refill(long now) {
+    double elapsedSeconds = (now - lastRefillNanos) / NANOS_PER_SECOND;
+    if (elapsedSeconds <= 0) {
+      return;
+    }
+    lastRefillNanos = now;
+    tokens = Math.min(tokens + rate * elapsedSeconds, rate * BURST_SECONDS);
+    rate += throttledRate * INCREASE_RATIO * elapsedSeconds;
+    if (rate >= throttledRate * UNLIMITED_RATIO) {
+      rate = Double.POSITIVE_INFINITY;
+      tokens = 0;
+    }
+  }
+
+  private void measure(long now, double units) {
+    windowUnits += units;
+    long elapsedNanos = now - windowStartNanos;
+    if (elapsedNanos >= MEASUREMENT_WINDOW_NANOS) {
+      double windowRate = windowUnits / (elapsedNanos / NANOS_PER_SECOND);
+      measuredRate = measuredRate == 0 ? windowRate : (measuredRate + windowRate) / 2;
+      windowUnits = 0;
+      windowStartNanos = now;
+    }
+  }
+
+  private double currentMeasuredRate(long now) {
+    if (measuredRate > 0) {
+      return measuredRate;
+    }
+    // No window has completed yet, so use the consumption in the current window
+    double elapsedSeconds = Math.max((now - windowStartNanos) / NANOS_PER_SECOND, BURST_SECONDS);
+    return windowUnits / elapsedSeconds;
+  }
+}
@@ -1,5 +1,6 @@
 package com.scalar.db.storage.dynamo;
 
+import com.google.common.util.concurrent.Uninterruptibles;
 import com.scalar.db.api.DeleteIf;
 import com.scalar.db.api.DeleteIfExists;
 import com.scalar.db.api.Mutation;
@@ -15,20 +16,26 @@ import com.scalar.db.exception.storage.NoMutationException;
 import com.scalar.db.exception.storage.RetriableExecutionException;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import javax.annotation.concurrent.ThreadSafe;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
 import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
 import software.amazon.awssdk.services.dynamodb.model.Delete;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
 import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
 import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
 import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
 import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
 import software.amazon.awssdk.services.dynamodb.model.Update;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
 /**
  * A handler for a batch
@@ -37,6 +44,12 @@ import software.amazon.awssdk.services.dynamodb.model.Update;
  */
 @ThreadSafe
 public class BatchHandler {
+  private static final int TRANSACT_WRITE_MAX_ITEMS = 100;
+  private static final long TRANSACT_WRITE_MAX_REQUEST_BYTES = 4L * 1024 * 1024;
+  static final int BATCH_WRITE_MAX_ITEMS = 25;
+  private static final int BATCH_WRITE_MAX_RETRIES = 5;
+  private static final long BATCH_WRITE_INITIAL_BACKOFF_MILLIS = 50;
+
   private final DynamoDbClient client;
   private final TableMetadataManager metadataManager;
   private final String namespacePrefix;
@@ -63,21 +76,36 @@ public class BatchHandler {
    * Executes the specified list of {@link Mutation}s in batch. All the {@link Mutation}s in the
    * list must be for the same partition.
    *
+   * <p>The {@link Mutation}s are executed atomically with TransactWriteItems, so the batch is never
+   * split, and a batch beyond the limits of TransactWriteItems, i.e., 100 items and 4 MB, is
+   * rejected before it's sent. The {@link Mutation}s that don't need to be applied atomically
+   * should be executed with {@link Dynamo#mutateNonAtomically(List)}, which has no such limits.
+   *
    * @param mutations a list of {@code Mutation}s to execute
    * @throws NoMutationException if at least one of conditional {@code Mutation}s fails because it
    *     didn't meet the condition
    */
   public void handle(List<? extends Mutation> mutations) throws ExecutionException {
-    if (mutations.size() > 100) {
+    if (mutations.size() > TRANSACT_WRITE_MAX_ITEMS) {
       throw new IllegalArgumentException(CoreError.DYNAMO_BATCH_SIZE_EXCEEDED.buildMessage());
     }
 
     TableMetadata tableMetadata = metadataManager.getTableMetadata(mutations.get(0));
+    long requestSize = 0;
+    for (Mutation mutation : mutations) {
+      requestSize += ItemSizeEstimator.estimate(mutation, tableMetadata);
+    }
+    if (requestSize > TRANSACT_WRITE_MAX_REQUEST_BYTES) {
+      throw new IllegalArgumentException(
+          CoreError.DYNAMO_BATCH_REQUEST_SIZE_EXCEEDED.buildMessage(requestSize));
+    }
     mutations = copyAndAppendNamespacePrefix(mutations);
 
     TransactWriteItemsRequest.Builder builder = TransactWriteItemsRequest.builder();
     List<TransactWriteItem> transactItems = new ArrayList<>();
-    mutations.forEach(m -> transactItems.add(makeWriteItem(m, tableMetadata)));
+    // The mutations are for the same partition, so they usually share the partition key
+    KeyBytesCache keyBytesCache = new KeyBytesCache();
+    mutations.forEach(m -> transactItems.add(makeWriteItem(m, tableMetadata, keyBytesCache)));
     builder.transactItems(transactItems);
 
     try {
@@ -109,20 +137,79 @@ public class BatchHandler {
     }
   }
 
-  private TransactWriteItem makeWriteItem(Mutation mutation, TableMetadata tableMetadata) {
+  /**
+   * Executes the specified list of unconditional {@link com.scalar.db.api.Delete}s with
+   * BatchWriteItem, which doesn't apply them atomically but costs half the write capacity of a
+   * transactional batch. The {@link com.scalar.db.api.Delete}s can be for different partitions and
+   * tables, but they must be for different items. The items that DynamoDB leaves unprocessed, e.g.,
+   * due to throttling, are retried with exponential backoff.
+   *
+   * @param deletes a list of unconditional {@code Delete}s to execute. At most 25 can be specified
+   * @throws ExecutionException if the batch write fails or some items remain unprocessed after the
+   *     retries
+   */
+  public void handleBatchWrite(List<com.scalar.db.api.Delete> deletes) throws ExecutionException {
+    if (deletes.size() > BATCH_WRITE_MAX_ITEMS) {
+      throw new IllegalArgumentException(CoreError.DYNAMO_BATCH_WRITE_SIZE_EXCEEDED.buildMessage());
+    }
+
+    Map<String, List<WriteRequest>> requestItems = new HashMap<>();
+    KeyBytesCache keyBytesCache = new KeyBytesCache();
+    for (com.scalar.db.api.Delete delete : deletes) {
+      assert !delete.getCondition().isPresent();
+      TableMetadata tableMetadata = metadataManager.getTableMetadata(delete);
+      DynamoMutation dynamoMutation =
+          new DynamoMutation(copyAndAppendNamespacePrefix(delete), tableMetadata, keyBytesCache);
+      requestItems
+          .computeIfAbsent(dynamoMutation.getTableName(), t -> new ArrayList<>())
+          .add(
+              WriteRequest.builder()
+                  .deleteRequest(DeleteRequest.builder().key(dynamoMutation.getKeyMap()).build())
+                  .build());
+    }
+
+    try {
+      for (int retries = 0; ; retries++) {
+        BatchWriteItemResponse response =
+            client.batchWriteItem(
+                BatchWriteItemRequest.builder().requestItems(requestItems).build());
+        requestItems = response.unprocessedItems();
+        if (requestItems.isEmpty()) {
+          return;
+        }
+        if (retries == BATCH_WRITE_MAX_RETRIES) {
+          int unprocessedItems = requestItems.values().stream().mapToInt(List::size).sum();
+          throw new ExecutionException(
+              CoreError.DYNAMO_UNPROCESSED_ITEMS_REMAINED_IN_BATCH_WRITE.buildMessage(
+                  unprocessedItems));
+        }
+        Uninterruptibles.sleepUninterruptibly(
+            BATCH_WRITE_INITIAL_BACKOFF_MILLIS << retries, TimeUnit.MILLISECONDS);
+      }
+    } catch (DynamoDbException e) {
+      throw new ExecutionException(
+          CoreError.DYNAMO_ERROR_OCCURRED_IN_MUTATION.buildMessage(e.getMessage()), e);
+    }
+  }
+
+  private TransactWriteItem makeWriteItem(
+      Mutation mutation, TableMetadata tableMetadata, KeyBytesCache keyBytesCache) {
     TransactWriteItem.Builder itemBuilder = TransactWriteItem.builder();
 
     if (mutation instanceof com.scalar.db.api.Put) {
-      itemBuilder.update(makeUpdate((com.scalar.db.api.Put) mutation, tableMetadata));
+      itemBuilder.update(
+          makeUpdate((com.scalar.db.api.Put) mutation, tableMetadata, keyBytesCache));
     } else {
-      itemBuilder.delete(makeDelete((com.scalar.db.api.Delete) mutation, tableMetadata));
+      itemBuilder.delete(
+          makeDelete((com.scalar.db.api.Delete) mutation, tableMetadata, keyBytesCache));
     }
 
     return itemBuilder.build();
   }
 
-  private Update makeUpdate(com.scalar.db.api.Put put, TableMetadata tableMetadata) {
-    DynamoMutation dynamoMutation = new DynamoMutation(put, tableMetadata);
+  private Update makeUpdate(
+      com.scalar.db.api.Put put, TableMetadata tableMetadata, KeyBytesCache keyBytesCache) {
+    DynamoMutation dynamoMutation = new DynamoMutation(put, tableMetadata, keyBytesCache);
     Update.Builder updateBuilder = Update.builder();
     String expression;
     String condition = null;
@@ -163,8 +250,9 @@ public class BatchHandler {
         .build();
   }
 
-  private Delete makeDelete(com.scalar.db.api.Delete delete, TableMetadata tableMetadata) {
-    DynamoMutation dynamoMutation = new DynamoMutation(delete, tableMetadata);
+  private Delete makeDelete(
+      com.scalar.db.api.Delete delete, TableMetadata tableMetadata, KeyBytesCache keyBytesCache) {
+    DynamoMutation dynamoMutation = new DynamoMutation(delete, tableMetadata, keyBytesCache);
     Delete.Builder deleteBuilder =
         Delete.builder().tableName(dynamoMutation.getTableName()).key(dynamoMutation.getKeyMap());
 
@@ -0,0 +1,477 @@
+package com.scalar.db.storage.dynamo;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.Capacity;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
+
+/**
+ * An interceptor of the DynamoDB client that shapes the rate of the requests to each table and
+ * index with {@link AdaptiveTokenBucket}s, one for reads and one for writes.
+ *
+ * <p>The interceptor makes the item requests return their consumed capacity unless the callers
+ * specify it, and charges the buckets of the tables and the indexes with it. When an attempt of a
+ * request is throttled, the buckets of its targets are slowed down right away so that the
+ * following attempts, including the retries of the SDK and of the transaction layer, don't keep
+ * the table overloaded. The buckets are checked before each attempt, so a caller can be blocked
+ * while its targets are limited. If the caller is interrupted while blocked, the request is aborted
+ * with an {@link AbortedException}.
+ *
+ * <p>The consumed capacity is also published as an MXBean named {@code
+ * com.scalar.db:type=DynamoCapacity,id=<id>,table=<table>[,index=<index>]} for each table and index
+ * when an {@link MBeanServer} is given.
+ */
+@ThreadSafe
+public class CapacityRateLimiter implements ExecutionInterceptor, Closeable {
+  private static final Logger logger = LoggerFactory.getLogger(CapacityRateLimiter.class);
+  private static final AtomicInteger INSTANCE_ID = new AtomicInteger();
+  private static final int HTTP_STATUS_BAD_REQUEST = 400;
+  private static final ImmutableSet<String> THROTTLING_ERROR_TYPES =
+      ImmutableSet.of(
+          "ProvisionedThroughputExceededException", "ThrottlingException", "RequestLimitExceeded");
+  private static final String TRANSACTION_CANCELED_ERROR_TYPE = "TransactionCanceledException";
+
+  // The error type is in the "__type" field of the error response, prefixed with the service name
+  // and "#", e.g., "com.amazonaws.dynamodb.v20120808#ProvisionedThroughputExceededException"
+  private static final Pattern ERROR_TYPE_PATTERN =
+      Pattern.compile("\"__type\"\\s*:\\s*\"(?:[^\"#]*#)?([^\"]*)\"");
+  private static final Pattern THROTTLING_CANCELLATION_REASON_PATTERN =
+      Pattern.compile("\"Code\"\\s*:\\s*\"ThrottlingError\"");
+
+  private final Map<CapacityKey, TableCapacity> capacities = new ConcurrentHashMap<>();
+  @Nullable private final MBeanServer mBeanServer;
+  private final int id = INSTANCE_ID.incrementAndGet();
+
+  /**
+   * Creates a rate limiter.
+   *
+   * @param jmxEnabled whether to publish the consumed capacity on the platform MBean server
+   */
+  public CapacityRateLimiter(boolean jmxEnabled) {
+    this(jmxEnabled ? ManagementFactory.getPlatformMBeanServer() : null);
+  }
+
+  @VisibleForTesting
+  CapacityRateLimiter(@Nullable MBeanServer mBeanServer) {
+    this.mBeanServer = mBeanServer;
+  }
+
+  @Override
+  public SdkRequest modifyRequest(
+      Context.ModifyRequest context, ExecutionAttributes executionAttributes) {
+    // Make the requests return their consumed capacity unless the caller asks for it explicitly
+    SdkRequest request = context.request();
+    if (request instanceof GetItemRequest) {
+      GetItemRequest get = (GetItemRequest) request;
+      if (get.returnConsumedCapacity() == null) {
+        return get.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.INDEXES).build();
+      }
+    } else if (request instanceof QueryRequest) {
+      QueryRequest query = (QueryRequest) request;
+      if (query.returnConsumedCapacity() == null) {
+        return query.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.INDEXES).build();
+      }
+    } else if (request instanceof ScanRequest) {
+      ScanRequest scan = (ScanRequest) request;
+      if (scan.returnConsumedCapacity() == null) {
+        return scan.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.INDEXES).build();
+      }
+    } else if (request instanceof PutItemRequest) {
+      PutItemRequest put = (PutItemRequest) request;
+      if (put.returnConsumedCapacity() == null) {
+        return put.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.INDEXES).build();
+      }
+    } else if (request instanceof UpdateItemRequest) {
+      UpdateItemRequest update = (UpdateItemRequest) request;
+      if (update.returnConsumedCapacity() == null) {
+        return update.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.INDEXES).build();
+      }
+    } else if (request instanceof DeleteItemRequest) {
+      DeleteItemRequest delete = (DeleteItemRequest) request;
+      if (delete.returnConsumedCapacity() == null) {
+        return delete.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.INDEXES).build();
+      }
+    } else if (request instanceof TransactWriteItemsRequest) {
+      TransactWriteItemsRequest transaction = (TransactWriteItemsRequest) request;
+      if (transaction.returnConsumedCapacity() == null) {
+        return transaction
+            .toBuilder()
+            .returnConsumedCapacity(ReturnConsumedCapacity.INDEXES)
+            .build();
+      }
+    } else if (request instanceof BatchWriteItemRequest) {
+      BatchWriteItemRequest batch = (BatchWriteItemRequest) request;
+      if (batch.returnConsumedCapacity() == null) {
+        return batch.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.INDEXES).build();
+      }
+    }
+    return request;
+  }
+
+  @Override
+  public void beforeTransmission(
+      Context.BeforeTransmission context, ExecutionAttributes executionAttributes) {
+    boolean read = isRead(context.request());
+    try {
+      for (CapacityKey key : getTargets(context.request())) {
+        getCapacity(key).getBucket(read).acquire();
+      }
+    } catch (InterruptedException e) {
+      // Abort the request in the same way as the SDK does when it's interrupted
+      Thread.currentThread().interrupt();
+      throw AbortedException.builder()
+          .message("Interrupted while waiting for the capacity of the targets")
+          .cause(e)
+          .build();
+    }
+  }
+
+  @Override
+  public void afterExecution(
+      Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+    boolean read = isRead(context.request());
+    for (ConsumedCapacity consumed : getConsumedCapacities(context.response())) {
+      record(consumed, read);
+    }
+  }
+
+  /**
+   * Checks if the response is a throttling error. This is called for every attempt of a request,
+   * so the buckets are slowed down before the SDK retries a throttled request. DynamoDB returns
+   * throttling errors with the 400 status code, so only the bodies of such responses are read.
+   */
+  @Override
+  public Optional<InputStream> modifyHttpResponseContent(
+      Context.ModifyHttpResponse context, ExecutionAttributes executionAttributes) {
+    Optional<InputStream> body = context.responseBody();
+    if (context.httpResponse().statusCode() != HTTP_STATUS_BAD_REQUEST || !body.isPresent()) {
+      return body;
+    }
+
+    byte[] content;
+    try {
+      content = ByteStreams.toByteArray(body.get());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    if (isThrottlingError(new String(content, StandardCharsets.UTF_8))) {
+      boolean read = isRead(context.request());
+      for (CapacityKey key : getTargets(context.request())) {
+        TableCapacity capacity = getCapacity(key);
+        capacity.throttledRequestCount.increment();
+        capacity.getBucket(read).throttle();
+      }
+    }
+    // Return the content again since it's been consumed
+    return Optional.of(new ByteArrayInputStream(content));
+  }
+
+  @VisibleForTesting
+  DynamoCapacityMetricsMXBean getMetrics(String table, @Nullable String index) {
+    return getCapacity(new CapacityKey(table, index));
+  }
+
+  @VisibleForTesting
+  @Nullable
+  ObjectName getObjectName(String table, @Nullable String index) {
+    TableCapacity capacity = capacities.get(new CapacityKey(table, index));
+    return capacity == null ? null : capacity.objectName;
+  }
+
+  private void record(ConsumedCapacity consumed, boolean read) {
+    String table = consumed.tableName();
+    if (consumed.table() != null) {
+      charge(new CapacityKey(table, null), consumed.table(), read);
+    } else if (consumed.capacityUnits() != null) {
+      getCapacity(new CapacityKey(table, null)).consume(consumed.capacityUnits(), read);
+    }
+    consumed
+        .globalSecondaryIndexes()
+        .forEach((index, capacity) -> charge(new CapacityKey(table, index), capacity, read));
+    consumed
+        .localSecondaryIndexes()
+        .forEach((index, capacity) -> charge(new CapacityKey(table, index), capacity, read));
+  }
+
+  private void charge(CapacityKey key, Capacity capacity, boolean read) {
+    if (capacity.capacityUnits() != null) {
+      getCapacity(key).consume(capacity.capacityUnits(), read);
+    }
+  }
+
+  private TableCapacity getCapacity(CapacityKey key) {
+    // Call get() first since ConcurrentHashMap.computeIfAbsent() of JDK 8 can lock the bin even if
+    // the key exists
+    TableCapacity capacity = capacities.get(key);
+    if (capacity != null) {
+      return capacity;
+    }
+    return capacities.computeIfAbsent(key, this::createCapacity);
+  }
+
+  private TableCapacity createCapacity(CapacityKey key) {
+    TableCapacity capacity = new TableCapacity();
+    if (mBeanServer == null) {
+      return capacity;
+    }
+    try {
+      ObjectName objectName = key.toObjectName(id);
+      mBeanServer.registerMBean(capacity, objectName);
+      capacity.objectName = objectName;
+    } catch (JMException e) {
+      // The capacity is still limited, so don't fail the request because of JMX.
+      logger.warn("Failed to register the DynamoDB capacity metrics MXBean. Target: {}", key, e);
+    }
+    return capacity;
+  }
+
+  @Override
+  public void close() {
+    if (mBeanServer != null) {
+      for (TableCapacity capacity : capacities.values()) {
+        if (capacity.objectName == null) {
+          continue;
+        }
+        try {
+          mBeanServer.unregisterMBean(capacity.objectName);
+        } catch (JMException e) {
+          logger.warn(
+              "Failed to unregister the DynamoDB capacity metrics MXBean. Name: {}",
+              capacity.objectName,
+              e);
+        }
+      }
+    }
+    capacities.clear();
+  }
+
+  private static boolean isRead(SdkRequest request) {
+    return request instanceof GetItemRequest
+        || request instanceof QueryRequest
+        || request instanceof ScanRequest;
+  }
+
+  private static Set<CapacityKey> getTargets(SdkRequest request) {
+    if (request instanceof GetItemRequest) {
+      return Collections.singleton(new CapacityKey(((GetItemRequest) request).tableName(), null));
+    } else if (request instanceof QueryRequest) {
+      QueryRequest query = (QueryRequest) request;
+      return Collections.singleton(new CapacityKey(query.tableName(), query.indexName()));
+    } else if (request instanceof ScanRequest) {
+      ScanRequest scan = (ScanRequest) request;
+      return Collections.singleton(new CapacityKey(scan.tableName(), scan.indexName()));
+    } else if (request instanceof PutItemRequest) {
+      return Collections.singleton(new CapacityKey(((PutItemRequest) request).tableName(), null));
+    } else if (request instanceof UpdateItemRequest) {
+      return Collections.singleton(
+          new CapacityKey(((UpdateItemRequest) request).tableName(), null));
+    } else if (request instanceof DeleteItemRequest) {
+      return Collections.singleton(
+          new CapacityKey(((DeleteItemRequest) request).tableName(), null));
+    } else if (request instanceof TransactWriteItemsRequest) {
+      Set<CapacityKey> targets = new LinkedHashSet<>();
+      for (TransactWriteItem item : ((TransactWriteItemsRequest) request).transactItems()) {
+        targets.add(new CapacityKey(getTableName(item), null));
+      }
+      return targets;
+    } else if (request instanceof BatchWriteItemRequest) {
+      Set<CapacityKey> targets = new LinkedHashSet<>();
+      for (String table : ((BatchWriteItemRequest) request).requestItems().keySet()) {
+        targets.add(new CapacityKey(table, null));
+      }
+      return targets;
+    }
+    return Collections.emptySet();
+  }
+
+  private static String getTableName(TransactWriteItem item) {
+    if (item.put() != null) {
+      return item.put().tableName();
+    } else if (item.update() != null) {
+      return item.update().tableName();
+    } else if (item.delete() != null) {
+      return item.delete().tableName();
+    }
+    assert item.conditionCheck() != null;
+    return item.conditionCheck().tableName();
+  }
+
+  private static List<ConsumedCapacity> getConsumedCapacities(SdkResponse response) {
+    ConsumedCapacity consumed = null;
+    if (response instanceof GetItemResponse) {
+      consumed = ((GetItemResponse) response).consumedCapacity();
+    } else if (response instanceof QueryResponse) {
+      consumed = ((QueryResponse) response).consumedCapacity();
+    } else if (response instanceof ScanResponse) {
+      consumed = ((ScanResponse) response).consumedCapacity();
+    } else if (response instanceof PutItemResponse) {
+      consumed = ((PutItemResponse) response).consumedCapacity();
+    } else if (response instanceof UpdateItemResponse) {
+      consumed = ((UpdateItemResponse) response).consumedCapacity();
+    } else if (response instanceof DeleteItemResponse) {
+      consumed = ((DeleteItemResponse) response).consumedCapacity();
+    } else if (response instanceof TransactWriteItemsResponse) {
+      return ((TransactWriteItemsResponse) response).consumedCapacity();
+    } else if (response instanceof BatchWriteItemResponse) {
+      return ((BatchWriteItemResponse) response).consumedCapacity();
+    }
+    return consumed == null ? Collections.emptyList() : Collections.singletonList(consumed);
+  }
+
+  private static boolean isThrottlingError(String content) {
+    Matcher matcher = ERROR_TYPE_PATTERN.matcher(content);
+    if (!matcher.find()) {
+      return false;
+    }
+    String errorType = matcher.group(1);
+    if (errorType.equals(TRANSACTION_CANCELED_ERROR_TYPE)) {
+      // A transaction is canceled with a reason per item when one of the items is throttled
+      return THROTTLING_CANCELLATION_REASON_PATTERN.matcher(content).find();
+    }
+    return THROTTLING_ERROR_TYPES.contains(errorType);
+  }
+
+  @ThreadSafe
+  private static class TableCapacity implements DynamoCapacityMetricsMXBean {
+    private final AdaptiveTokenBucket readBucket = new AdaptiveTokenBucket();
+    private final AdaptiveTokenBucket writeBucket = new AdaptiveTokenBucket();
+    private final DoubleAdder consumedReadCapacityUnits = new DoubleAdder();
+    private final DoubleAdder consumedWriteCapacityUnits = new DoubleAdder();
+    private final LongAdder throttledRequestCount = new LongAdder();
+    @Nullable private volatile ObjectName objectName;
+
+    private AdaptiveTokenBucket getBucket(boolean read) {
+      return read ? readBucket : writeBucket;
+    }
+
+    private void consume(double units, boolean read) {
+      (read ? consumedReadCapacityUnits : consumedWriteCapacityUnits).add(units);
+      getBucket(read).consume(units);
+    }
+
+    @Override
+    public double getConsumedReadCapacityUnits() {
+      return consumedReadCapacityUnits.sum();
+    }
+
+    @Override
+    public double getConsumedWriteCapacityUnits() {
+      return consumedWriteCapacityUnits.sum();
+    }
+
+    @Override
+    public long getThrottledRequestCount() {
+      return throttledRequestCount.sum();
+    }
+
+    @Override
+    public double getReadRateLimit() {
+      return readBucket.getRate();
+    }
+
+    @Override
+    public double getWriteRateLimit() {
+      return writeBucket.getRate();
+    }
+  }
+
+  @Immutable
+  private static class CapacityKey {
+    private final String table;
+    @Nullable private final String index;
+
+    CapacityKey(String table, @Nullable String index) {
+      this.table = table;
+      this.index = index;
+    }
+
+    ObjectName toObjectName(int id) throws JMException {
+      StringBuilder builder =
+          new StringBuilder("com.scalar.db:type=DynamoCapacity")
+              .append(",id=")
+              .append(id)
+              .append(",table=")
+              .append(ObjectName.quote(table));
+      if (index != null) {
+        builder.append(",index=").append(ObjectName.quote(index));
+      }
+      return new ObjectName(builder.toString());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof CapacityKey)) {
+        return false;
+      }
+      CapacityKey that = (CapacityKey) o;
+      return table.equals(that.table) && Objects.equals(index, that.index);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(table, index);
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this).add("table", table).add("index", index).toString();
+    }
+  }
+}
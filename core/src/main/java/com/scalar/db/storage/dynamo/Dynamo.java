@@ -3,6 +3,11 @@ package com.scalar.db.storage.dynamo;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.Uninterruptibles;
 import com.google.inject.Inject;
 import com.scalar.db.api.Delete;
 import com.scalar.db.api.DistributedStorage;
@@ -11,24 +16,39 @@ import com.scalar.db.api.Mutation;
 import com.scalar.db.api.Put;
 import com.scalar.db.api.Result;
 import com.scalar.db.api.Scan;
+import com.scalar.db.api.ScanAll;
 import com.scalar.db.api.Scanner;
 import com.scalar.db.common.AbstractDistributedStorage;
 import com.scalar.db.common.FilterableScanner;
+import com.scalar.db.common.PagePrefetcher;
+import com.scalar.db.common.SortingScanner;
 import com.scalar.db.common.TableMetadataManager;
 import com.scalar.db.common.checker.OperationChecker;
 import com.scalar.db.common.error.CoreError;
 import com.scalar.db.config.DatabaseConfig;
 import com.scalar.db.exception.storage.ExecutionException;
+import com.scalar.db.util.metrics.JmxOperationMetricsProvider;
 import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClientBuilder;
@@ -42,26 +62,43 @@ import software.amazon.awssdk.services.dynamodb.DynamoDbClientBuilder;
 public class Dynamo extends AbstractDistributedStorage {
   private static final Logger logger = LoggerFactory.getLogger(Dynamo.class);
 
+  @FunctionalInterface
+  private interface MutationTask {
+    void run() throws ExecutionException;
+  }
+
   private final DynamoDbClient client;
   private final SelectStatementHandler selectStatementHandler;
   private final PutStatementHandler putStatementHandler;
   private final DeleteStatementHandler deleteStatementHandler;
   private final BatchHandler batchHandler;
+  private final TableMetadataManager metadataManager;
   private final OperationChecker operationChecker;
+  private final int sortBufferSize;
+  @Nullable private final Path spillDirectory;
+  private final ExecutorService mutationExecutor;
+  @Nullable private final ExecutorService parallelScanExecutor;
+  @Nullable private final ExecutorService scanPrefetchExecutor;
+  @Nullable private final CapacityRateLimiter capacityRateLimiter;
 
   @Inject
   public Dynamo(DatabaseConfig databaseConfig) {
     super(databaseConfig);
-
-    if (databaseConfig.isCrossPartitionScanOrderingEnabled()) {
-      throw new IllegalArgumentException(
-          CoreError.DYNAMO_CROSS_PARTITION_SCAN_WITH_ORDERING_NOT_SUPPORTED.buildMessage());
-    }
-
     DynamoConfig config = new DynamoConfig(databaseConfig);
 
     DynamoDbClientBuilder builder = DynamoDbClient.builder();
     config.getEndpointOverride().ifPresent(e -> builder.endpointOverride(URI.create(e)));
+    if (config.isRateLimiterEnabled()) {
+      capacityRateLimiter =
+          new CapacityRateLimiter(
+              JmxOperationMetricsProvider.NAME.equalsIgnoreCase(databaseConfig.getMetricsType()));
+      builder.overrideConfiguration(
+          ClientOverrideConfiguration.builder()
+              .addExecutionInterceptor(capacityRateLimiter)
+              .build());
+    } else {
+      capacityRateLimiter = null;
+    }
     client =
         builder
             .credentialsProvider(
@@ -71,18 +108,39 @@ public class Dynamo extends AbstractDistributedStorage {
             .region(Region.of(config.getRegion()))
             .build();
 
-    TableMetadataManager metadataManager =
+    metadataManager =
         new TableMetadataManager(
             new DynamoAdmin(client, config), databaseConfig.getMetadataCacheExpirationTimeSecs());
     operationChecker = new DynamoOperationChecker(databaseConfig, metadataManager);
 
+    parallelScanExecutor =
+        config.getParallelScanSegments() > 1
+            ? createParallelScanExecutor(config.getParallelScanMaxThreads())
+            : null;
+    scanPrefetchExecutor =
+        databaseConfig.getScanPrefetchPages() > 0
+            ? PagePrefetcher.createExecutor(
+                databaseConfig.getScanPrefetchMaxThreads(), "dynamo-scan-prefetch-%d")
+            : null;
     selectStatementHandler =
-        new SelectStatementHandler(client, metadataManager, config.getNamespacePrefix());
+        new SelectStatementHandler(
+            client,
+            metadataManager,
+            config.getNamespacePrefix(),
+            config.getParallelScanSegments(),
+            parallelScanExecutor,
+            databaseConfig.getScanPrefetchPages(),
+            databaseConfig.getScanPrefetchMaxBufferedBytes(),
+            scanPrefetchExecutor);
     putStatementHandler =
         new PutStatementHandler(client, metadataManager, config.getNamespacePrefix());
     deleteStatementHandler =
         new DeleteStatementHandler(client, metadataManager, config.getNamespacePrefix());
     batchHandler = new BatchHandler(client, metadataManager, config.getNamespacePrefix());
+    sortBufferSize = databaseConfig.getCrossPartitionScanOrderingSortBufferSize();
+    spillDirectory =
+        databaseConfig.getCrossPartitionScanOrderingSpillDirectory().map(Paths::get).orElse(null);
+    mutationExecutor = createMutationExecutor(config.getNonAtomicMutationParallelism());
 
     logger.info("DynamoDB object is created properly");
   }
@@ -95,14 +153,51 @@ public class Dynamo extends AbstractDistributedStorage {
       PutStatementHandler put,
       DeleteStatementHandler delete,
       BatchHandler batch,
-      OperationChecker operationChecker) {
+      TableMetadataManager metadataManager,
+      OperationChecker operationChecker,
+      ExecutorService mutationExecutor) {
     super(databaseConfig);
     this.client = client;
     this.selectStatementHandler = select;
     this.putStatementHandler = put;
     this.deleteStatementHandler = delete;
     this.batchHandler = batch;
+    this.metadataManager = metadataManager;
     this.operationChecker = operationChecker;
+    sortBufferSize = databaseConfig.getCrossPartitionScanOrderingSortBufferSize();
+    spillDirectory =
+        databaseConfig.getCrossPartitionScanOrderingSpillDirectory().map(Paths::get).orElse(null);
+    this.mutationExecutor = mutationExecutor;
+    parallelScanExecutor = null;
+    scanPrefetchExecutor = null;
+    capacityRateLimiter = null;
+  }
+
+  private static ExecutorService createMutationExecutor(int parallelism) {
+    return Executors.newFixedThreadPool(
+        parallelism,
+        new ThreadFactoryBuilder()
+            .setNameFormat("dynamo-non-atomic-mutation-%d")
+            .setDaemon(true)
+            .build());
+  }
+
+  private static ExecutorService createParallelScanExecutor(int maxThreads) {
+    // The segments beyond the maximum number of threads wait in the queue, and idle threads are
+    // released so that the storage doesn't keep the threads of a past burst of scans
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            maxThreads,
+            maxThreads,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder()
+                .setNameFormat("dynamo-parallel-scan-%d")
+                .setDaemon(true)
+                .build());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
   }
 
   // For the SpotBugs warning CT_CONSTRUCTOR_THROW
@@ -146,6 +241,19 @@ public class Dynamo extends AbstractDistributedStorage {
     scan = copyAndSetTargetToIfNot(scan);
     operationChecker.check(scan);
 
+    if (scan instanceof ScanAll && !scan.getOrderings().isEmpty()) {
+      // DynamoDB can't order the results of a cross-partition scan, so sort them on the client side
+      return new SortingScanner(
+          scan,
+          scanInternal(copyAndPrepareForSorting(scan)),
+          metadataManager.getTableMetadata(scan),
+          sortBufferSize,
+          spillDirectory);
+    }
+    return scanInternal(scan);
+  }
+
+  private Scanner scanInternal(Scan scan) throws ExecutionException {
     if (scan.getConjunctions().isEmpty()) {
       return selectStatementHandler.handle(scan);
     } else {
@@ -199,8 +307,93 @@ public class Dynamo extends AbstractDistributedStorage {
     batchHandler.handle(mutations);
   }
 
+  /**
+   * Mutates the entries without atomicity. Unconditional deletes are executed with BatchWriteItem
+   * in chunks of 25 items, and the other mutations are executed one by one with UpdateItem and
+   * DeleteItem because BatchWriteItem supports neither conditions nor partial updates. Unlike
+   * {@link #mutate(List)}, which uses TransactWriteItems, neither costs the doubled write capacity
+   * of a transaction, and there is no limit on the number of mutations. The chunks and the
+   * mutations are dispatched in parallel.
+   */
+  @Override
+  public void mutateNonAtomically(List<? extends Mutation> mutations) throws ExecutionException {
+    mutations = copyAndSetTargetToIfNot(mutations);
+
+    List<MutationTask> tasks = new ArrayList<>();
+    List<Delete> unconditionalDeletes = new ArrayList<>();
+    for (Mutation mutation : mutations) {
+      if (mutation instanceof Put) {
+        Put put = (Put) mutation;
+        operationChecker.check(put);
+        tasks.add(() -> putStatementHandler.handle(put));
+      } else {
+        assert mutation instanceof Delete;
+        Delete delete = (Delete) mutation;
+        operationChecker.check(delete);
+        if (delete.getCondition().isPresent()) {
+          tasks.add(() -> deleteStatementHandler.handle(delete));
+        } else {
+          unconditionalDeletes.add(delete);
+        }
+      }
+    }
+    for (List<Delete> chunk :
+        Lists.partition(unconditionalDeletes, BatchHandler.BATCH_WRITE_MAX_ITEMS)) {
+      tasks.add(() -> batchHandler.handleBatchWrite(chunk));
+    }
+
+    executeInParallel(tasks);
+  }
+
+  private void executeInParallel(List<MutationTask> tasks) throws ExecutionException {
+    if (tasks.size() == 1) {
+      tasks.get(0).run();
+      return;
+    }
+
+    List<Future<Void>> futures = new ArrayList<>(tasks.size());
+    for (MutationTask task : tasks) {
+      futures.add(
+          mutationExecutor.submit(
+              () -> {
+                task.run();
+                return null;
+              }));
+    }
+
+    // Wait for all the tasks to finish even if some of them fail so that no mutation is applied
+    // after this method returns, and then throw the first failure
+    Throwable failure = null;
+    for (Future<Void> future : futures) {
+      try {
+        Uninterruptibles.getUninterruptibly(future);
+      } catch (java.util.concurrent.ExecutionException e) {
+        if (failure == null) {
+          failure = e.getCause();
+        }
+      }
+    }
+    if (failure != null) {
+      Throwables.throwIfInstanceOf(failure, ExecutionException.class);
+      Throwables.throwIfUnchecked(failure);
+      throw new AssertionError(failure);
+    }
+  }
+
   @Override
   public void close() {
+    MoreExecutors.shutdownAndAwaitTermination(mutationExecutor, 10, TimeUnit.SECONDS);
+    if (parallelScanExecutor != null) {
+      // The queued segments still run and fail against the closed client, so that their readers
+      // don't wait for them forever
+      parallelScanExecutor.shutdown();
+    }
+    if (scanPrefetchExecutor != null) {
+      scanPrefetchExecutor.shutdown();
+    }
     client.close();
+    if (capacityRateLimiter != null) {
+      capacityRateLimiter.close();
+    }
   }
 }
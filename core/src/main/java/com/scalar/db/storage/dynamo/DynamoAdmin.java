@@ -1207,6 +1207,50 @@ public class DynamoAdmin implements DistributedStorageAdmin {
     }
   }
 
+  /**
+   * Retrieves the table metadata of all the tables in the specified namespace by scanning the
+   * metadata table, which takes a request per page instead of a request per table.
+   *
+   * @param nonPrefixedNamespace a namespace
+   * @return a map from the table names to their table metadata
+   * @throws ExecutionException if the operation fails
+   */
+  @Override
+  public Map<String, TableMetadata> getTablesMetadata(String nonPrefixedNamespace)
+      throws ExecutionException {
+    Namespace namespace = Namespace.of(namespacePrefix, nonPrefixedNamespace);
+    String prefix = namespace.prefixed() + ".";
+    Map<String, TableMetadata> tablesMetadata = new HashMap<>();
+    try {
+      Map<String, AttributeValue> lastEvaluatedKey = null;
+      do {
+        ScanResponse scanResponse =
+            client.scan(
+                ScanRequest.builder()
+                    .tableName(ScalarDbUtils.getFullTableName(metadataNamespace, METADATA_TABLE))
+                    .filterExpression("begins_with(#table, :prefix)")
+                    .expressionAttributeNames(ImmutableMap.of("#table", METADATA_ATTR_TABLE))
+                    .expressionAttributeValues(
+                        ImmutableMap.of(":prefix", AttributeValue.builder().s(prefix).build()))
+                    .exclusiveStartKey(lastEvaluatedKey)
+                    .consistentRead(true)
+                    .build());
+        for (Map<String, AttributeValue> metadata : scanResponse.items()) {
+          String fullName = metadata.get(METADATA_ATTR_TABLE).s();
+          tablesMetadata.put(fullName.substring(prefix.length()), createTableMetadata(metadata));
+        }
+        lastEvaluatedKey = scanResponse.lastEvaluatedKey();
+      } while (!lastEvaluatedKey.isEmpty());
+    } catch (ResourceNotFoundException e) {
+      // The metadata table doesn't exist
+      return Collections.emptyMap();
+    } catch (Exception e) {
+      throw new ExecutionException(
+          "Getting the table metadata of the tables of the " + namespace + " namespace failed", e);
+    }
+    return tablesMetadata;
+  }
+
   private TableMetadata createTableMetadata(Map<String, AttributeValue> metadata)
       throws ExecutionException {
     TableMetadata.Builder builder = TableMetadata.newBuilder();
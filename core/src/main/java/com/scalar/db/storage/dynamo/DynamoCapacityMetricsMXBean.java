@@ -0,0 +1,23 @@
+package com.scalar.db.storage.dynamo;
+
+/**
+ * The JMX view of the capacity consumed on a DynamoDB table or index, published by {@link
+ * CapacityRateLimiter}.
+ */
+public interface DynamoCapacityMetricsMXBean {
+
+  /** @return the total read capacity units consumed */
+  double getConsumedReadCapacityUnits();
+
+  /** @return the total write capacity units consumed */
+  double getConsumedWriteCapacityUnits();
+
+  /** @return the number of request attempts throttled, including the ones retried by the SDK */
+  long getThrottledRequestCount();
+
+  /** @return the current read rate limit in units per second, or infinity if not limited */
+  double getReadRateLimit();
+
+  /** @return the current write rate limit in units per second, or infinity if not limited */
+  double getWriteRateLimit();
+}
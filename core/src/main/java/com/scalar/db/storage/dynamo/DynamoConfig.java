@@ -1,5 +1,8 @@
 package com.scalar.db.storage.dynamo;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.scalar.db.config.ConfigUtils.getBoolean;
+import static com.scalar.db.config.ConfigUtils.getInt;
 import static com.scalar.db.config.ConfigUtils.getString;
 
 import com.scalar.db.common.error.CoreError;
@@ -23,6 +26,16 @@ public class DynamoConfig {
   public static final String TABLE_METADATA_NAMESPACE = PREFIX + "table_metadata.namespace";
 
   public static final String NAMESPACE_PREFIX = PREFIX + "namespace.prefix";
+  public static final String PARALLEL_SCAN_SEGMENTS = PREFIX + "parallel_scan.segments";
+  public static final String PARALLEL_SCAN_MAX_THREADS = PREFIX + "parallel_scan.max_threads";
+  public static final String NON_ATOMIC_MUTATION_PARALLELISM =
+      PREFIX + "non_atomic_mutation.parallelism";
+  public static final String RATE_LIMITER_ENABLED = PREFIX + "rate_limiter.enabled";
+
+  public static final int DEFAULT_PARALLEL_SCAN_SEGMENTS = 1;
+  public static final int DEFAULT_PARALLEL_SCAN_MAX_THREADS = 64;
+  public static final int DEFAULT_NON_ATOMIC_MUTATION_PARALLELISM = 8;
+  public static final boolean DEFAULT_RATE_LIMITER_ENABLED = false;
 
   private final String region;
   private final String accessKeyId;
@@ -30,6 +43,10 @@ public class DynamoConfig {
   @Nullable private final String endpointOverride;
   private final String metadataNamespace;
   @Nullable private final String namespacePrefix;
+  private final int parallelScanSegments;
+  private final int parallelScanMaxThreads;
+  private final int nonAtomicMutationParallelism;
+  private final boolean rateLimiterEnabled;
 
   public DynamoConfig(DatabaseConfig databaseConfig) {
     String storage = databaseConfig.getStorage();
@@ -75,6 +92,35 @@ public class DynamoConfig {
     }
 
     namespacePrefix = getString(databaseConfig.getProperties(), NAMESPACE_PREFIX, null);
+
+    parallelScanSegments =
+        getInt(
+            databaseConfig.getProperties(),
+            PARALLEL_SCAN_SEGMENTS,
+            DEFAULT_PARALLEL_SCAN_SEGMENTS);
+    checkArgument(
+        parallelScanSegments > 0, CoreError.DYNAMO_INVALID_PARALLEL_SCAN_SEGMENTS.buildMessage());
+    parallelScanMaxThreads =
+        getInt(
+            databaseConfig.getProperties(),
+            PARALLEL_SCAN_MAX_THREADS,
+            DEFAULT_PARALLEL_SCAN_MAX_THREADS);
+    checkArgument(
+        parallelScanMaxThreads > 0,
+        CoreError.DYNAMO_INVALID_PARALLEL_SCAN_MAX_THREADS.buildMessage());
+
+    nonAtomicMutationParallelism =
+        getInt(
+            databaseConfig.getProperties(),
+            NON_ATOMIC_MUTATION_PARALLELISM,
+            DEFAULT_NON_ATOMIC_MUTATION_PARALLELISM);
+    checkArgument(
+        nonAtomicMutationParallelism > 0,
+        CoreError.DYNAMO_INVALID_NON_ATOMIC_MUTATION_PARALLELISM.buildMessage());
+
+    rateLimiterEnabled =
+        getBoolean(
+            databaseConfig.getProperties(), RATE_LIMITER_ENABLED, DEFAULT_RATE_LIMITER_ENABLED);
   }
 
   // For the SpotBugs warning CT_CONSTRUCTOR_THROW
@@ -104,4 +150,20 @@ public class DynamoConfig {
   public Optional<String> getNamespacePrefix() {
     return Optional.ofNullable(namespacePrefix);
   }
+
+  public int getParallelScanSegments() {
+    return parallelScanSegments;
+  }
+
+  public int getParallelScanMaxThreads() {
+    return parallelScanMaxThreads;
+  }
+
+  public int getNonAtomicMutationParallelism() {
+    return nonAtomicMutationParallelism;
+  }
+
+  public boolean isRateLimiterEnabled() {
+    return rateLimiterEnabled;
+  }
 }
@@ -10,17 +10,21 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import javax.annotation.Nonnull;
-import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 /** A utility class for a mutation */
-@Immutable
+@NotThreadSafe
 public class DynamoMutation extends DynamoOperation {
 
   DynamoMutation(Mutation mutation, TableMetadata metadata) {
     super(mutation, metadata);
   }
 
+  DynamoMutation(Mutation mutation, TableMetadata metadata, KeyBytesCache keyBytesCache) {
+    super(mutation, metadata, keyBytesCache);
+  }
+
   @Nonnull
   public String getIfNotExistsCondition() {
     List<String> expressions = new ArrayList<>();
@@ -2,18 +2,18 @@ package com.scalar.db.storage.dynamo;
 
 import com.scalar.db.api.Operation;
 import com.scalar.db.api.TableMetadata;
-import com.scalar.db.storage.dynamo.bytes.KeyBytesEncoder;
 import java.nio.ByteBuffer;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import javax.annotation.Nonnull;
-import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 /** A utility class for an operation */
-@Immutable
+@NotThreadSafe
 public class DynamoOperation {
   static final String PARTITION_KEY = "concatenatedPartitionKey";
   static final String CLUSTERING_KEY = "concatenatedClusteringKey";
@@ -29,10 +29,16 @@ public class DynamoOperation {
 
   private final Operation operation;
   private final TableMetadata metadata;
+  private final KeyBytesCache keyBytesCache;
 
   public DynamoOperation(Operation operation, TableMetadata metadata) {
+    this(operation, metadata, new KeyBytesCache());
+  }
+
+  DynamoOperation(Operation operation, TableMetadata metadata, KeyBytesCache keyBytesCache) {
     this.operation = operation;
     this.metadata = metadata;
+    this.keyBytesCache = keyBytesCache;
   }
 
   @Nonnull
@@ -63,30 +69,35 @@ public class DynamoOperation {
   @Nonnull
   public Map<String, AttributeValue> getKeyMap() {
     Map<String, AttributeValue> keyMap = new HashMap<>();
-    ByteBuffer partitionKey = getConcatenatedPartitionKey();
     keyMap.put(
-        PARTITION_KEY, AttributeValue.builder().b(SdkBytes.fromByteBuffer(partitionKey)).build());
+        PARTITION_KEY,
+        AttributeValue.builder()
+            .b(SdkBytes.fromByteArrayUnsafe(getConcatenatedPartitionKeyBytes()))
+            .build());
 
-    getConcatenatedClusteringKey()
+    getConcatenatedClusteringKeyBytes()
         .ifPresent(
             k ->
                 keyMap.put(
                     CLUSTERING_KEY,
-                    AttributeValue.builder().b(SdkBytes.fromByteBuffer(k)).build()));
+                    AttributeValue.builder().b(SdkBytes.fromByteArrayUnsafe(k)).build()));
 
     return keyMap;
   }
 
   ByteBuffer getConcatenatedPartitionKey() {
-    return new KeyBytesEncoder().encode(operation.getPartitionKey());
+    return ByteBuffer.wrap(getConcatenatedPartitionKeyBytes());
+  }
+
+  byte[] getConcatenatedPartitionKeyBytes() {
+    return keyBytesCache.get(operation.getPartitionKey(), Collections.emptyMap());
   }
 
-  Optional<ByteBuffer> getConcatenatedClusteringKey() {
+  private Optional<byte[]> getConcatenatedClusteringKeyBytes() {
     if (!operation.getClusteringKey().isPresent()) {
       return Optional.empty();
     }
     return Optional.of(
-        new KeyBytesEncoder()
-            .encode(operation.getClusteringKey().get(), metadata.getClusteringOrders()));
+        keyBytesCache.get(operation.getClusteringKey().get(), metadata.getClusteringOrders()));
   }
 }
@@ -0,0 +1,115 @@
+package com.scalar.db.storage.dynamo;
+
+import com.google.common.base.Utf8;
+import com.scalar.db.api.ConditionalExpression;
+import com.scalar.db.api.Mutation;
+import com.scalar.db.api.Put;
+import com.scalar.db.api.TableMetadata;
+import com.scalar.db.io.Column;
+import com.scalar.db.io.Key;
+import com.scalar.db.storage.dynamo.bytes.KeyBytesEncodedLengthCalculator;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.concurrent.ThreadSafe;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * A utility class to estimate the size of DynamoDB items in bytes, following the way DynamoDB
+ * calculates item sizes: an attribute takes the UTF-8 length of its name plus the size of its
+ * value, where a string takes its UTF-8 length, a binary takes its length, a number takes about 1
+ * byte per 2 significant digits plus 1 byte, and a boolean and a null take 1 byte.
+ */
+@ThreadSafe
+final class ItemSizeEstimator {
+
+  private ItemSizeEstimator() {}
+
+  static long estimate(List<Map<String, AttributeValue>> items) {
+    long size = 0;
+    for (Map<String, AttributeValue> item : items) {
+      size += estimate(item);
+    }
+    return size;
+  }
+
+  static long estimate(Map<String, AttributeValue> item) {
+    long size = 0;
+    for (Map.Entry<String, AttributeValue> attribute : item.entrySet()) {
+      size += Utf8.encodedLength(attribute.getKey()) + estimate(attribute.getValue());
+    }
+    return size;
+  }
+
+  /**
+   * Estimates the size of the item that the specified mutation writes, or of the key of the item
+   * for a delete, plus the values of its condition, without converting the mutation to attribute
+   * values. The concatenated keys are estimated with their encoded lengths.
+   */
+  static long estimate(Mutation mutation, TableMetadata metadata) {
+    long size =
+        Utf8.encodedLength(DynamoOperation.PARTITION_KEY)
+            + new KeyBytesEncodedLengthCalculator()
+                .calculate(mutation.getPartitionKey(), Collections.emptyMap())
+            + estimateKeyColumns(mutation.getPartitionKey());
+    if (mutation.getClusteringKey().isPresent()) {
+      Key clusteringKey = mutation.getClusteringKey().get();
+      size +=
+          Utf8.encodedLength(DynamoOperation.CLUSTERING_KEY)
+              + new KeyBytesEncodedLengthCalculator()
+                  .calculate(clusteringKey, metadata.getClusteringOrders())
+              + estimateKeyColumns(clusteringKey);
+    }
+    if (mutation instanceof Put) {
+      for (Column<?> column : ((Put) mutation).getColumns().values()) {
+        size += estimateColumn(column);
+      }
+    }
+    if (mutation.getCondition().isPresent()) {
+      for (ConditionalExpression expression : mutation.getCondition().get().getExpressions()) {
+        size += estimateColumn(expression.getColumn());
+      }
+    }
+    return size;
+  }
+
+  private static long estimateKeyColumns(Key key) {
+    // The key columns are also stored as separate attributes
+    long size = 0;
+    for (Column<?> column : key.getColumns()) {
+      size += estimateColumn(column);
+    }
+    return size;
+  }
+
+  private static long estimateColumn(Column<?> column) {
+    long size = Utf8.encodedLength(column.getName());
+    if (column.hasNullValue()) {
+      return size + 1;
+    }
+    switch (column.getDataType()) {
+      case TEXT:
+        return size + Utf8.encodedLength(column.getTextValue());
+      case BLOB:
+        return size + column.getBlobValueAsByteBuffer().remaining();
+      case BOOLEAN:
+        return size + 1;
+      default:
+        return size + column.getValueAsObject().toString().length() / 2 + 1;
+    }
+  }
+
+  private static long estimate(AttributeValue value) {
+    if (value.s() != null) {
+      return Utf8.encodedLength(value.s());
+    }
+    if (value.n() != null) {
+      return value.n().length() / 2 + 1;
+    }
+    if (value.b() != null) {
+      return value.b().asByteBuffer().remaining();
+    }
+    // A boolean, a null, or a type that ScalarDB doesn't use
+    return 1;
+  }
+}
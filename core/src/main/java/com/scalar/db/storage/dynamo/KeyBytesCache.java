@@ -0,0 +1,47 @@
+package com.scalar.db.storage.dynamo;
+
+import com.scalar.db.api.Scan.Ordering.Order;
+import com.scalar.db.io.Key;
+import com.scalar.db.storage.dynamo.bytes.KeyBytesEncoder;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A cache of the encoded bytes of keys, which looks keys up by identity. It's created for a single
+ * request, so the operations of the request that share a key instance, e.g., the mutations of a
+ * batch for the same partition, encode the key only once. The cached bytes never leave the
+ * request, so they can be handed to the AWS SDK without being copied.
+ */
+@NotThreadSafe
+final class KeyBytesCache {
+  private final Map<Key, EncodedKey> cache = new IdentityHashMap<>();
+
+  /**
+   * Returns the bytes of the specified key encoded with the specified key orders. The returned
+   * bytes are shared among the callers and must not be modified.
+   *
+   * @param key a key to encode
+   * @param keyOrders the orders of the key columns
+   * @return the encoded bytes
+   */
+  byte[] get(Key key, Map<String, Order> keyOrders) {
+    EncodedKey cached = cache.get(key);
+    if (cached != null && cached.keyOrders.equals(keyOrders)) {
+      return cached.bytes;
+    }
+    byte[] bytes = new KeyBytesEncoder().encodeToBytes(key, keyOrders);
+    cache.put(key, new EncodedKey(keyOrders, bytes));
+    return bytes;
+  }
+
+  private static final class EncodedKey {
+    private final Map<String, Order> keyOrders;
+    private final byte[] bytes;
+
+    private EncodedKey(Map<String, Order> keyOrders, byte[] bytes) {
+      this.keyOrders = keyOrders;
+      this.bytes = bytes;
+    }
+  }
+}
@@ -0,0 +1,228 @@
+package com.scalar.db.storage.dynamo;
+
+import com.scalar.db.api.Result;
+import com.scalar.db.api.Scanner;
+import com.scalar.db.common.ScannerIterator;
+import com.scalar.db.common.error.CoreError;
+import com.scalar.db.exception.storage.ExecutionException;
+import com.scalar.db.storage.dynamo.request.PaginatedRequest;
+import com.scalar.db.storage.dynamo.request.PaginatedRequestResponse;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * A scanner that scans the segments of a parallel scan concurrently and returns the items of the
+ * segments in the order that their pages arrive. Each segment is paged through on its own thread,
+ * and the pages are buffered ahead of the reader up to the specified number of pages per segment
+ * and the specified number of bytes. The threads come from the bounded executor of the storage, so
+ * a segment waits for a thread when the executor is busy with the segments of other scans.
+ *
+ * <p>The scanner must be closed so that the segments that are still being scanned are stopped.
+ */
+@NotThreadSafe
+public class ParallelScanner implements Scanner {
+
+  private final ResultInterpreter resultInterpreter;
+  private final int maxBufferedPages;
+  private final long maxBufferedBytes;
+  private final List<Future<?>> segmentScans;
+
+  // Guarded by this
+  private final Deque<Page> pages = new ArrayDeque<>();
+  private long bufferedBytes;
+
+  private int remainingSegments;
+  private Iterator<Map<String, AttributeValue>> itemsIterator = Collections.emptyIterator();
+  private volatile boolean closed;
+
+  private ScannerIterator scannerIterator;
+
+  /**
+   * Constructs a scanner and starts scanning the segments.
+   *
+   * @param requests the requests of the segments, one per segment
+   * @param resultInterpreter a result interpreter
+   * @param bufferedPagesPerSegment the maximum number of pages buffered per segment. At least one
+   *     page per segment is buffered since the segments are scanned in the background
+   * @param maxBufferedBytes the approximate maximum number of bytes of the buffered pages
+   * @param executor an executor to scan the segments with, which is owned by the storage
+   */
+  public ParallelScanner(
+      List<PaginatedRequest> requests,
+      ResultInterpreter resultInterpreter,
+      int bufferedPagesPerSegment,
+      long maxBufferedBytes,
+      ExecutorService executor) {
+    this.resultInterpreter = resultInterpreter;
+    maxBufferedPages = requests.size() * Math.max(bufferedPagesPerSegment, 1);
+    this.maxBufferedBytes = maxBufferedBytes;
+    remainingSegments = requests.size();
+
+    segmentScans = new ArrayList<>(requests.size());
+    for (PaginatedRequest request : requests) {
+      segmentScans.add(executor.submit(() -> scanSegment(request)));
+    }
+  }
+
+  private void scanSegment(PaginatedRequest request) {
+    Page last = Page.END;
+    try {
+      PaginatedRequestResponse response = request.execute();
+      put(Page.of(response.items()));
+      while (response.hasLastEvaluatedKey() && !closed) {
+        response = request.execute(response.lastEvaluatedKey());
+        put(Page.of(response.items()));
+      }
+    } catch (InterruptedException e) {
+      // The scanner is closed
+      Thread.currentThread().interrupt();
+    } catch (RuntimeException e) {
+      last = Page.failed(e);
+    } finally {
+      // Always queue the last page, which doesn't wait for the buffer to have room, so that the
+      // reader doesn't wait for the segment forever
+      synchronized (this) {
+        pages.addLast(last);
+        notifyAll();
+      }
+    }
+  }
+
+  private synchronized void put(Page page) throws InterruptedException {
+    // Always allow a page to be buffered when the buffer is empty so that a page larger than the
+    // maximum number of bytes doesn't stop the scan
+    while (!closed
+        && !pages.isEmpty()
+        && (pages.size() >= maxBufferedPages || bufferedBytes >= maxBufferedBytes)) {
+      wait();
+    }
+    if (closed) {
+      return;
+    }
+    pages.addLast(page);
+    bufferedBytes += page.size;
+    notifyAll();
+  }
+
+  @Override
+  @Nonnull
+  public Optional<Result> one() throws ExecutionException {
+    while (!itemsIterator.hasNext()) {
+      if (remainingSegments == 0) {
+        return Optional.empty();
+      }
+
+      Page page = takePage();
+      if (page.error != null) {
+        close();
+        throw new ExecutionException(
+            CoreError.DYNAMO_ERROR_OCCURRED_IN_SELECTION.buildMessage(page.error.getMessage()),
+            page.error);
+      }
+      if (page == Page.END) {
+        remainingSegments--;
+      } else {
+        assert page.items != null;
+        itemsIterator = page.items.iterator();
+      }
+    }
+
+    return Optional.of(resultInterpreter.interpret(itemsIterator.next()));
+  }
+
+  private synchronized Page takePage() throws ExecutionException {
+    try {
+      while (pages.isEmpty()) {
+        wait();
+      }
+      Page page = pages.removeFirst();
+      bufferedBytes -= page.size;
+      notifyAll();
+      return page;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      close();
+      throw new ExecutionException(
+          CoreError.DYNAMO_ERROR_OCCURRED_IN_SELECTION.buildMessage(
+              "Interrupted while waiting for the parallel scan"),
+          e);
+    }
+  }
+
+  @Override
+  @Nonnull
+  public List<Result> all() throws ExecutionException {
+    List<Result> ret = new ArrayList<>();
+    while (true) {
+      Optional<Result> one = one();
+      if (!one.isPresent()) {
+        break;
+      }
+      ret.add(one.get());
+    }
+    return ret;
+  }
+
+  @Override
+  @Nonnull
+  public Iterator<Result> iterator() {
+    if (scannerIterator == null) {
+      scannerIterator = new ScannerIterator(this);
+    }
+    return scannerIterator;
+  }
+
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    // Stop the segment scans waiting for the buffer to have room
+    segmentScans.forEach(f -> f.cancel(true));
+    synchronized (this) {
+      pages.clear();
+      bufferedBytes = 0;
+      notifyAll();
+    }
+    remainingSegments = 0;
+    itemsIterator = Collections.emptyIterator();
+  }
+
+  private static class Page {
+    private static final Page END = new Page(null, null, 0);
+
+    @Nullable private final List<Map<String, AttributeValue>> items;
+    @Nullable private final RuntimeException error;
+    private final long size;
+
+    private Page(
+        @Nullable List<Map<String, AttributeValue>> items,
+        @Nullable RuntimeException error,
+        long size) {
+      this.items = items;
+      this.error = error;
+      this.size = size;
+    }
+
+    private static Page of(List<Map<String, AttributeValue>> items) {
+      return new Page(items, null, ItemSizeEstimator.estimate(items));
+    }
+
+    private static Page failed(RuntimeException error) {
+      return new Page(null, error, 0);
+    }
+  }
+}
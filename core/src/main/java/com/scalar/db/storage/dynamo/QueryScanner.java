@@ -2,6 +2,7 @@ package com.scalar.db.storage.dynamo;
 
 import com.scalar.db.api.Result;
 import com.scalar.db.api.Scanner;
+import com.scalar.db.common.PagePrefetcher;
 import com.scalar.db.common.ScannerIterator;
 import com.scalar.db.storage.dynamo.request.PaginatedRequest;
 import com.scalar.db.storage.dynamo.request.PaginatedRequestResponse;
@@ -10,7 +11,9 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
@@ -23,15 +26,47 @@ public class QueryScanner implements Scanner {
   private Iterator<Map<String, AttributeValue>> itemsIterator;
   @Nullable private Map<String, AttributeValue> lastEvaluatedKey;
   private int totalResultCount;
+  @Nullable private PagePrefetcher<PaginatedRequestResponse> prefetcher;
 
   private ScannerIterator scannerIterator;
 
-  @SuppressFBWarnings("EI_EXPOSE_REP2")
   public QueryScanner(PaginatedRequest request, ResultInterpreter resultInterpreter) {
+    this(request, resultInterpreter, 0, 0, null);
+  }
+
+  /**
+   * Constructs a scanner that executes the first page of the request. When {@code prefetchPages}
+   * is greater than 0, the following pages are fetched in the background ahead of the page being
+   * read.
+   *
+   * @param request a paginated request
+   * @param resultInterpreter a result interpreter
+   * @param prefetchPages the number of pages to prefetch, or 0 to fetch a page when it's read
+   * @param prefetchMaxBufferedBytes the approximate maximum number of bytes of the prefetched pages
+   * @param prefetchExecutor an executor to prefetch the pages with, which is required when {@code
+   *     prefetchPages} is greater than 0
+   */
+  @SuppressFBWarnings("EI_EXPOSE_REP2")
+  public QueryScanner(
+      PaginatedRequest request,
+      ResultInterpreter resultInterpreter,
+      int prefetchPages,
+      long prefetchMaxBufferedBytes,
+      @Nullable Executor prefetchExecutor) {
     this.request = request;
     this.resultInterpreter = resultInterpreter;
 
     handleResponse(request.execute());
+    if (prefetchPages > 0 && lastEvaluatedKey != null) {
+      assert prefetchExecutor != null;
+      prefetcher =
+          new PagePrefetcher<>(
+              new RemainingPages(lastEvaluatedKey, totalResultCount),
+              r -> ItemSizeEstimator.estimate(r.items()),
+              prefetchPages,
+              prefetchMaxBufferedBytes,
+              prefetchExecutor);
+    }
   }
 
   @Override
@@ -48,6 +83,15 @@ public class QueryScanner implements Scanner {
     if (itemsIterator.hasNext()) {
       return true;
     }
+    if (prefetcher != null) {
+      while (prefetcher.hasNext()) {
+        itemsIterator = prefetcher.next().items().iterator();
+        if (itemsIterator.hasNext()) {
+          return true;
+        }
+      }
+      return false;
+    }
     if (lastEvaluatedKey != null) {
       handleResponse(request.execute(lastEvaluatedKey));
       return itemsIterator.hasNext();
@@ -59,12 +103,17 @@ public class QueryScanner implements Scanner {
     List<Map<String, AttributeValue>> items = response.items();
     totalResultCount += items.size();
     itemsIterator = items.iterator();
-    if ((request.limit() == null || totalResultCount < request.limit())
+    lastEvaluatedKey = getNextStartKey(response, totalResultCount);
+  }
+
+  @Nullable
+  private Map<String, AttributeValue> getNextStartKey(
+      PaginatedRequestResponse response, int resultCount) {
+    if ((request.limit() == null || resultCount < request.limit())
         && response.hasLastEvaluatedKey()) {
-      lastEvaluatedKey = response.lastEvaluatedKey();
-    } else {
-      lastEvaluatedKey = null;
+      return response.lastEvaluatedKey();
     }
+    return null;
   }
 
   @Override
@@ -91,5 +140,36 @@ public class QueryScanner implements Scanner {
   }
 
   @Override
-  public void close() {}
+  public void close() {
+    if (prefetcher != null) {
+      prefetcher.close();
+    }
+  }
+
+  /** The pages after the first page, which the prefetcher fetches one at a time. */
+  private class RemainingPages implements Iterator<PaginatedRequestResponse> {
+    @Nullable private Map<String, AttributeValue> startKey;
+    private int resultCount;
+
+    private RemainingPages(Map<String, AttributeValue> startKey, int resultCount) {
+      this.startKey = startKey;
+      this.resultCount = resultCount;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return startKey != null;
+    }
+
+    @Override
+    public PaginatedRequestResponse next() {
+      if (startKey == null) {
+        throw new NoSuchElementException();
+      }
+      PaginatedRequestResponse response = request.execute(startKey);
+      resultCount += response.items().size();
+      startKey = getNextStartKey(response, resultCount);
+      return response;
+    }
+  }
 }
@@ -15,11 +15,13 @@ import com.scalar.db.api.TableMetadata;
 import com.scalar.db.common.EmptyScanner;
 import com.scalar.db.common.TableMetadataManager;
 import com.scalar.db.common.error.CoreError;
+import com.scalar.db.config.DatabaseConfig;
 import com.scalar.db.exception.storage.ExecutionException;
 import com.scalar.db.io.Column;
 import com.scalar.db.io.Key;
 import com.scalar.db.storage.dynamo.bytes.BytesUtils;
 import com.scalar.db.storage.dynamo.bytes.KeyBytesEncoder;
+import com.scalar.db.storage.dynamo.request.PaginatedRequest;
 import com.scalar.db.util.ScalarDbUtils;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.nio.ByteBuffer;
@@ -28,7 +30,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
@@ -49,6 +53,11 @@ public class SelectStatementHandler {
   private final DynamoDbClient client;
   private final TableMetadataManager metadataManager;
   private final String namespacePrefix;
+  private final int parallelScanSegments;
+  @Nullable private final ExecutorService parallelScanExecutor;
+  private final int scanPrefetchPages;
+  private final long scanPrefetchMaxBufferedBytes;
+  @Nullable private final ExecutorService scanPrefetchExecutor;
 
   /**
    * Constructs a {@code SelectStatementHandler} with the specified {@link DynamoDbClient} and a new
@@ -58,14 +67,56 @@ public class SelectStatementHandler {
    * @param metadataManager {@code TableMetadataManager}
    * @param namespacePrefix a namespace prefix
    */
-  @SuppressFBWarnings("EI_EXPOSE_REP2")
   public SelectStatementHandler(
       DynamoDbClient client,
       TableMetadataManager metadataManager,
       Optional<String> namespacePrefix) {
+    this(
+        client,
+        metadataManager,
+        namespacePrefix,
+        DynamoConfig.DEFAULT_PARALLEL_SCAN_SEGMENTS,
+        null,
+        DatabaseConfig.DEFAULT_SCAN_PREFETCH_PAGES,
+        DatabaseConfig.DEFAULT_SCAN_PREFETCH_MAX_BUFFERED_BYTES,
+        null);
+  }
+
+  /**
+   * Constructs a {@code SelectStatementHandler} with the specified {@link DynamoDbClient} and a new
+   * {@link TableMetadataManager}
+   *
+   * @param client {@code DynamoDbClient}
+   * @param metadataManager {@code TableMetadataManager}
+   * @param namespacePrefix a namespace prefix
+   * @param parallelScanSegments the number of segments to scan a table with concurrently
+   * @param parallelScanExecutor an executor to scan the segments with, which is required when
+   *     {@code parallelScanSegments} is greater than 1
+   * @param scanPrefetchPages the number of pages of a scan to prefetch, which is also the number of
+   *     pages buffered per segment of a parallel scan
+   * @param scanPrefetchMaxBufferedBytes the approximate maximum number of bytes of the prefetched
+   *     pages of a scan
+   * @param scanPrefetchExecutor an executor to prefetch the pages of a scan with, which is required
+   *     when {@code scanPrefetchPages} is greater than 0
+   */
+  @SuppressFBWarnings("EI_EXPOSE_REP2")
+  public SelectStatementHandler(
+      DynamoDbClient client,
+      TableMetadataManager metadataManager,
+      Optional<String> namespacePrefix,
+      int parallelScanSegments,
+      @Nullable ExecutorService parallelScanExecutor,
+      int scanPrefetchPages,
+      long scanPrefetchMaxBufferedBytes,
+      @Nullable ExecutorService scanPrefetchExecutor) {
     this.client = checkNotNull(client);
     this.metadataManager = checkNotNull(metadataManager);
     this.namespacePrefix = namespacePrefix.orElse("");
+    this.parallelScanSegments = parallelScanSegments;
+    this.parallelScanExecutor = parallelScanExecutor;
+    this.scanPrefetchPages = scanPrefetchPages;
+    this.scanPrefetchMaxBufferedBytes = scanPrefetchMaxBufferedBytes;
+    this.scanPrefetchExecutor = scanPrefetchExecutor;
   }
 
   @Nonnull
@@ -151,7 +202,11 @@ public class SelectStatementHandler {
     com.scalar.db.storage.dynamo.request.QueryRequest request =
         new com.scalar.db.storage.dynamo.request.QueryRequest(client, builder.build());
     return new QueryScanner(
-        request, new ResultInterpreter(selection.getProjections(), tableMetadata));
+        request,
+        new ResultInterpreter(selection.getProjections(), tableMetadata),
+        scanPrefetchPages,
+        scanPrefetchMaxBufferedBytes,
+        scanPrefetchExecutor);
   }
 
   private Scanner executeScan(Scan scan, TableMetadata tableMetadata) {
@@ -187,7 +242,11 @@ public class SelectStatementHandler {
     com.scalar.db.storage.dynamo.request.QueryRequest queryRequest =
         new com.scalar.db.storage.dynamo.request.QueryRequest(client, builder.build());
     return new QueryScanner(
-        queryRequest, new ResultInterpreter(scan.getProjections(), tableMetadata));
+        queryRequest,
+        new ResultInterpreter(scan.getProjections(), tableMetadata),
+        scanPrefetchPages,
+        scanPrefetchMaxBufferedBytes,
+        scanPrefetchExecutor);
   }
 
   private Scanner executeFullScan(ScanAll scan, TableMetadata tableMetadata) {
@@ -207,10 +266,34 @@ public class SelectStatementHandler {
     if (scan.getConsistency() != Consistency.EVENTUAL) {
       builder.consistentRead(true);
     }
+
+    // A scan with a limit reads the table sequentially to avoid reading the limit from every
+    // segment. An ordered scan is sorted on the client side, so it doesn't reach here with
+    // orderings
+    if (parallelScanSegments > 1 && scan.getLimit() == 0 && scan.getOrderings().isEmpty()) {
+      List<PaginatedRequest> segmentRequests = new ArrayList<>(parallelScanSegments);
+      for (int i = 0; i < parallelScanSegments; i++) {
+        segmentRequests.add(
+            new com.scalar.db.storage.dynamo.request.ScanRequest(
+                client, builder.segment(i).totalSegments(parallelScanSegments).build()));
+      }
+      assert parallelScanExecutor != null;
+      return new ParallelScanner(
+          segmentRequests,
+          new ResultInterpreter(scan.getProjections(), tableMetadata),
+          scanPrefetchPages,
+          scanPrefetchMaxBufferedBytes,
+          parallelScanExecutor);
+    }
+
     com.scalar.db.storage.dynamo.request.ScanRequest requestWrapper =
         new com.scalar.db.storage.dynamo.request.ScanRequest(client, builder.build());
     return new QueryScanner(
-        requestWrapper, new ResultInterpreter(scan.getProjections(), tableMetadata));
+        requestWrapper,
+        new ResultInterpreter(scan.getProjections(), tableMetadata),
+        scanPrefetchPages,
+        scanPrefetchMaxBufferedBytes,
+        scanPrefetchExecutor);
   }
 
   private void projectionExpression(
@@ -333,10 +416,10 @@ public class SelectStatementHandler {
     conditions.add(DynamoOperation.PARTITION_KEY + " = " + DynamoOperation.PARTITION_KEY_ALIAS);
 
     DynamoOperation dynamoOperation = new DynamoOperation(scan, tableMetadata);
-    ByteBuffer concatenatedPartitionKey = dynamoOperation.getConcatenatedPartitionKey();
+    byte[] concatenatedPartitionKey = dynamoOperation.getConcatenatedPartitionKeyBytes();
     bindMap.put(
         DynamoOperation.PARTITION_KEY_ALIAS,
-        AttributeValue.builder().b(SdkBytes.fromByteBuffer(concatenatedPartitionKey)).build());
+        AttributeValue.builder().b(SdkBytes.fromByteArrayUnsafe(concatenatedPartitionKey)).build());
   }
 
   private boolean setBetweenCondition(
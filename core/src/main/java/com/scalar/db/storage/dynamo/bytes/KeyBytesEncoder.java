@@ -40,6 +40,19 @@ public class KeyBytesEncoder implements ValueVisitor {
     return dst;
   }
 
+  /**
+   * Encodes the specified key to a byte array of the exact encoded length, which can be handed to
+   * the AWS SDK without being copied.
+   *
+   * @param key a key to encode
+   * @param keyOrders the orders of the key columns
+   * @return the encoded bytes
+   */
+  public byte[] encodeToBytes(Key key, Map<String, Order> keyOrders) {
+    // The buffer is allocated with the exact encoded length, so its backing array is the result
+    return encode(key, keyOrders).array();
+  }
+
   @Override
   public void visit(BooleanValue value) {
     BytesEncoders.BOOLEAN.encode(value, keyOrders.getOrDefault(value.getName(), Order.ASC), dst);
@@ -0,0 +1,146 @@
+package com.scalar.db.storage.inmemory;
+
+import com.scalar.db.api.DistributedStorageAdmin;
+import com.scalar.db.api.TableMetadata;
+import com.scalar.db.common.error.CoreError;
+import com.scalar.db.config.DatabaseConfig;
+import com.scalar.db.io.DataType;
+import com.scalar.db.util.ScalarDbUtils;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * An admin implementation for {@link InMemoryStorage}. The namespaces and the tables are kept in
+ * the {@link InMemoryDatabase} specified by the configuration, so they don't outlive the JVM.
+ */
+@ThreadSafe
+public class InMemoryAdmin implements DistributedStorageAdmin {
+  private final InMemoryDatabase database;
+
+  public InMemoryAdmin(DatabaseConfig databaseConfig) {
+    this(InMemoryDatabase.get(new InMemoryConfig(databaseConfig).getDatabaseName()));
+  }
+
+  InMemoryAdmin(InMemoryDatabase database) {
+    this.database = database;
+  }
+
+  @Override
+  public void createNamespace(String namespace, Map<String, String> options) {
+    database.createNamespace(namespace);
+  }
+
+  @Override
+  public void createTable(
+      String namespace, String table, TableMetadata metadata, Map<String, String> options) {
+    database.createTable(namespace, table, metadata);
+  }
+
+  @Override
+  public void dropTable(String namespace, String table) {
+    database.dropTable(namespace, table);
+  }
+
+  @Override
+  public void dropNamespace(String namespace) {
+    database.dropNamespace(namespace);
+  }
+
+  @Override
+  public void truncateTable(String namespace, String table) {
+    getTable(namespace, table).truncate();
+  }
+
+  @Override
+  public void createIndex(
+      String namespace, String table, String columnName, Map<String, String> options) {
+    getTable(namespace, table).createIndex(columnName);
+  }
+
+  @Override
+  public void dropIndex(String namespace, String table, String columnName) {
+    getTable(namespace, table).dropIndex(columnName);
+  }
+
+  @Nullable
+  @Override
+  public TableMetadata getTableMetadata(String namespace, String table) {
+    InMemoryTable inMemoryTable = database.getTable(namespace, table);
+    return inMemoryTable == null ? null : inMemoryTable.getMetadata();
+  }
+
+  @Override
+  public Set<String> getNamespaceTableNames(String namespace) {
+    return database.getTableNames(namespace);
+  }
+
+  @Override
+  public boolean namespaceExists(String namespace) {
+    return database.namespaceExists(namespace);
+  }
+
+  @Override
+  public void repairNamespace(String namespace, Map<String, String> options) {
+    database.createNamespace(namespace);
+  }
+
+  @Override
+  public void repairTable(
+      String namespace, String table, TableMetadata metadata, Map<String, String> options) {
+    // The records can't be lost partially, so there's nothing to repair other than the table
+    // itself
+    database.createTable(namespace, table, metadata);
+  }
+
+  @Override
+  public void addNewColumnToTable(
+      String namespace, String table, String columnName, DataType columnType) {
+    getTable(namespace, table).addColumn(columnName, columnType);
+  }
+
+  @Override
+  public TableMetadata getImportTableMetadata(String namespace, String table) {
+    throw new UnsupportedOperationException(
+        CoreError.IN_MEMORY_IMPORT_NOT_SUPPORTED.buildMessage());
+  }
+
+  @Override
+  public void addRawColumnToTable(
+      String namespace, String table, String columnName, DataType columnType) {
+    throw new UnsupportedOperationException(
+        CoreError.IN_MEMORY_IMPORT_NOT_SUPPORTED.buildMessage());
+  }
+
+  @Override
+  public void importTable(String namespace, String table, Map<String, String> options) {
+    throw new UnsupportedOperationException(
+        CoreError.IN_MEMORY_IMPORT_NOT_SUPPORTED.buildMessage());
+  }
+
+  @Override
+  public Set<String> getNamespaceNames() {
+    return database.getNamespaceNames();
+  }
+
+  @Override
+  public void upgrade(Map<String, String> options) {
+    // Nothing to upgrade since the data doesn't outlive the JVM
+  }
+
+  @Override
+  public void close() {
+    // The data is kept in the database so that other instances can use it
+  }
+
+  private InMemoryTable getTable(String namespace, String table) {
+    InMemoryTable inMemoryTable = database.getTable(namespace, table);
+    if (inMemoryTable == null) {
+      throw new IllegalArgumentException(
+          CoreError.TABLE_NOT_FOUND.buildMessage(
+              ScalarDbUtils.getFullTableName(namespace, table)));
+    }
+    return inMemoryTable;
+  }
+}
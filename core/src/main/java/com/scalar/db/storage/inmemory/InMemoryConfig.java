@@ -0,0 +1,31 @@
+package com.scalar.db.storage.inmemory;
+
+import com.scalar.db.config.DatabaseConfig;
+import javax.annotation.concurrent.Immutable;
+
+@Immutable
+public class InMemoryConfig {
+  public static final String STORAGE_NAME = "inmemory";
+  public static final String DEFAULT_DATABASE_NAME = "default";
+
+  private final String databaseName;
+
+  public InMemoryConfig(DatabaseConfig databaseConfig) {
+    String storage = databaseConfig.getStorage();
+    if (!storage.equals(STORAGE_NAME)) {
+      throw new IllegalArgumentException(
+          DatabaseConfig.STORAGE + " should be '" + STORAGE_NAME + "'");
+    }
+
+    // The contact point is used as the name of the database so that separate storage instances
+    // can share the same data or use isolated ones
+    databaseName =
+        databaseConfig.getContactPoints().isEmpty()
+            ? DEFAULT_DATABASE_NAME
+            : databaseConfig.getContactPoints().get(0);
+  }
+
+  public String getDatabaseName() {
+    return databaseName;
+  }
+}
@@ -0,0 +1,81 @@
+package com.scalar.db.storage.inmemory;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableSet;
+import com.scalar.db.api.TableMetadata;
+import com.scalar.db.util.ScalarDbUtils;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The namespaces and the tables of an in-memory database. A database lives as long as the JVM
+ * does, and it's shared by all the storage and admin instances configured with the same database
+ * name.
+ */
+@ThreadSafe
+public class InMemoryDatabase {
+  private static final ConcurrentMap<String, InMemoryDatabase> databases =
+      new ConcurrentHashMap<>();
+
+  private final Set<String> namespaces = ConcurrentHashMap.newKeySet();
+  private final ConcurrentMap<String, InMemoryTable> tables = new ConcurrentHashMap<>();
+
+  @VisibleForTesting
+  InMemoryDatabase() {}
+
+  static InMemoryDatabase get(String databaseName) {
+    return databases.computeIfAbsent(databaseName, n -> new InMemoryDatabase());
+  }
+
+  /**
+   * Discards the specified database and all its data. The storage and admin instances that are
+   * already created keep using the discarded data, so this is meant to be called between tests.
+   *
+   * @param databaseName a database name
+   */
+  public static void drop(String databaseName) {
+    databases.remove(databaseName);
+  }
+
+  void createNamespace(String namespace) {
+    namespaces.add(namespace);
+  }
+
+  void dropNamespace(String namespace) {
+    namespaces.remove(namespace);
+  }
+
+  boolean namespaceExists(String namespace) {
+    return namespaces.contains(namespace);
+  }
+
+  Set<String> getNamespaceNames() {
+    return ImmutableSet.copyOf(namespaces);
+  }
+
+  void createTable(String namespace, String table, TableMetadata metadata) {
+    tables.putIfAbsent(
+        ScalarDbUtils.getFullTableName(namespace, table), new InMemoryTable(metadata));
+  }
+
+  void dropTable(String namespace, String table) {
+    tables.remove(ScalarDbUtils.getFullTableName(namespace, table));
+  }
+
+  @Nullable
+  InMemoryTable getTable(String namespace, String table) {
+    return tables.get(ScalarDbUtils.getFullTableName(namespace, table));
+  }
+
+  Set<String> getTableNames(String namespace) {
+    String prefix = namespace + ".";
+    return tables.keySet().stream()
+        .filter(name -> name.startsWith(prefix))
+        .map(name -> name.substring(prefix.length()))
+        .collect(Collectors.toSet());
+  }
+}
@@ -0,0 +1,24 @@
+package com.scalar.db.storage.inmemory;
+
+import com.scalar.db.api.DistributedStorage;
+import com.scalar.db.api.DistributedStorageAdmin;
+import com.scalar.db.api.DistributedStorageProvider;
+import com.scalar.db.common.CheckedDistributedStorageAdmin;
+import com.scalar.db.config.DatabaseConfig;
+
+public class InMemoryProvider implements DistributedStorageProvider {
+  @Override
+  public String getName() {
+    return InMemoryConfig.STORAGE_NAME;
+  }
+
+  @Override
+  public DistributedStorage createDistributedStorage(DatabaseConfig config) {
+    return new InMemoryStorage(config);
+  }
+
+  @Override
+  public DistributedStorageAdmin createDistributedStorageAdmin(DatabaseConfig config) {
+    return new CheckedDistributedStorageAdmin(new InMemoryAdmin(config), config);
+  }
+}
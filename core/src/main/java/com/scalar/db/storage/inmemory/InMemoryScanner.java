@@ -0,0 +1,46 @@
+package com.scalar.db.storage.inmemory;
+
+import com.google.errorprone.annotations.concurrent.LazyInit;
+import com.scalar.db.api.Result;
+import com.scalar.db.api.Scanner;
+import com.scalar.db.common.ScannerIterator;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+
+@NotThreadSafe
+public class InMemoryScanner implements Scanner {
+  private final Iterator<Result> results;
+  @LazyInit private ScannerIterator scannerIterator;
+
+  public InMemoryScanner(Iterator<Result> results) {
+    this.results = results;
+  }
+
+  @Override
+  public Optional<Result> one() {
+    return results.hasNext() ? Optional.of(results.next()) : Optional.empty();
+  }
+
+  @Override
+  public List<Result> all() {
+    List<Result> ret = new ArrayList<>();
+    results.forEachRemaining(ret::add);
+    return ret;
+  }
+
+  @Override
+  @Nonnull
+  public Iterator<Result> iterator() {
+    if (scannerIterator == null) {
+      scannerIterator = new ScannerIterator(this);
+    }
+    return scannerIterator;
+  }
+
+  @Override
+  public void close() {}
+}
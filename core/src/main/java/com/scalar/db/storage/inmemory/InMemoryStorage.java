@@ -0,0 +1,201 @@
+package com.scalar.db.storage.inmemory;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Iterators;
+import com.scalar.db.api.Delete;
+import com.scalar.db.api.DistributedStorage;
+import com.scalar.db.api.Get;
+import com.scalar.db.api.Mutation;
+import com.scalar.db.api.Operation;
+import com.scalar.db.api.Put;
+import com.scalar.db.api.Result;
+import com.scalar.db.api.Scan;
+import com.scalar.db.api.ScanAll;
+import com.scalar.db.api.Scanner;
+import com.scalar.db.api.Selection;
+import com.scalar.db.api.TableMetadata;
+import com.scalar.db.common.AbstractDistributedStorage;
+import com.scalar.db.common.FilterableScanner;
+import com.scalar.db.common.ProjectedResult;
+import com.scalar.db.common.ResultImpl;
+import com.scalar.db.common.TableMetadataManager;
+import com.scalar.db.common.checker.OperationChecker;
+import com.scalar.db.common.error.CoreError;
+import com.scalar.db.config.DatabaseConfig;
+import com.scalar.db.exception.storage.ExecutionException;
+import com.scalar.db.io.Column;
+import com.scalar.db.util.ScalarDbUtils;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A storage implementation that keeps all the records in memory for {@link DistributedStorage}. It
+ * doesn't need any external database, so it's useful for tests and for measuring the overhead of
+ * the layers above the storage without the latency of a backend.
+ */
+@ThreadSafe
+public class InMemoryStorage extends AbstractDistributedStorage {
+  private static final Logger logger = LoggerFactory.getLogger(InMemoryStorage.class);
+
+  private final InMemoryDatabase database;
+  private final OperationChecker operationChecker;
+
+  public InMemoryStorage(DatabaseConfig databaseConfig) {
+    super(databaseConfig);
+    InMemoryConfig config = new InMemoryConfig(databaseConfig);
+    database = InMemoryDatabase.get(config.getDatabaseName());
+    operationChecker =
+        new OperationChecker(
+            databaseConfig,
+            new TableMetadataManager(
+                new InMemoryAdmin(database),
+                databaseConfig.getMetadataCacheExpirationTimeSecs()));
+
+    logger.info("InMemoryStorage object is created properly");
+  }
+
+  @VisibleForTesting
+  InMemoryStorage(
+      DatabaseConfig databaseConfig, InMemoryDatabase database, OperationChecker operationChecker) {
+    super(databaseConfig);
+    this.database = database;
+    this.operationChecker = operationChecker;
+  }
+
+  @Override
+  @Nonnull
+  public Optional<Result> get(Get get) throws ExecutionException {
+    get = copyAndSetTargetToIfNot(get);
+    operationChecker.check(get);
+
+    InMemoryTable table = getTable(get);
+    TableMetadata metadata = table.getMetadata();
+    Iterator<Map<String, Column<?>>> records;
+    if (ScalarDbUtils.isSecondaryIndexSpecified(get, metadata)) {
+      records = table.lookUpIndex(get.getPartitionKey().getColumns().get(0)).iterator();
+    } else {
+      Optional<Map<String, Column<?>>> record =
+          table.get(get.getPartitionKey(), get.getClusteringKey().orElse(null));
+      records =
+          record.isPresent()
+              ? Iterators.singletonIterator(record.get())
+              : Collections.emptyIterator();
+    }
+
+    Scanner scanner = createScanner(get, records, metadata);
+    Optional<Result> ret = scanner.one();
+    if (scanner.one().isPresent()) {
+      throw new IllegalArgumentException(
+          CoreError.GET_OPERATION_USED_FOR_NON_EXACT_MATCH_SELECTION.buildMessage(get));
+    }
+    return ret;
+  }
+
+  @Override
+  public Scanner scan(Scan scan) throws ExecutionException {
+    scan = copyAndSetTargetToIfNot(scan);
+    operationChecker.check(scan);
+
+    InMemoryTable table = getTable(scan);
+    TableMetadata metadata = table.getMetadata();
+    Iterator<Map<String, Column<?>>> records;
+    if (scan instanceof ScanAll) {
+      records = table.scanAll(scan.getOrderings());
+    } else if (ScalarDbUtils.isSecondaryIndexSpecified(scan, metadata)) {
+      records = table.lookUpIndex(scan.getPartitionKey().getColumns().get(0)).iterator();
+    } else {
+      List<Scan.Ordering> orderings = scan.getOrderings();
+      boolean reverse =
+          !orderings.isEmpty()
+              && orderings.get(0).getOrder()
+                  != metadata.getClusteringOrder(orderings.get(0).getColumnName());
+      records =
+          table.scan(
+              scan.getPartitionKey(),
+              scan.getStartClusteringKey().orElse(null),
+              scan.getStartInclusive(),
+              scan.getEndClusteringKey().orElse(null),
+              scan.getEndInclusive(),
+              reverse);
+    }
+    return createScanner(scan, records, metadata);
+  }
+
+  private Scanner createScanner(
+      Selection selection, Iterator<Map<String, Column<?>>> records, TableMetadata metadata) {
+    Iterator<Result> results = Iterators.transform(records, r -> new ResultImpl(r, metadata));
+    if (!selection.getConjunctions().isEmpty()) {
+      // FilterableScanner handles the limit and the projections after filtering
+      return new FilterableScanner(selection, new InMemoryScanner(results));
+    }
+
+    if (selection instanceof Scan && ((Scan) selection).getLimit() > 0) {
+      results = Iterators.limit(results, ((Scan) selection).getLimit());
+    }
+    List<String> projections = selection.getProjections();
+    if (!projections.isEmpty()) {
+      results = Iterators.transform(results, r -> new ProjectedResult(r, projections));
+    }
+    return new InMemoryScanner(results);
+  }
+
+  @Override
+  public void put(Put put) throws ExecutionException {
+    put = copyAndSetTargetToIfNot(put);
+    operationChecker.check(put);
+
+    getTable(put).mutate(put.getPartitionKey(), Collections.singletonList(put));
+  }
+
+  @Override
+  public void put(List<Put> puts) throws ExecutionException {
+    mutate(puts);
+  }
+
+  @Override
+  public void delete(Delete delete) throws ExecutionException {
+    delete = copyAndSetTargetToIfNot(delete);
+    operationChecker.check(delete);
+
+    getTable(delete).mutate(delete.getPartitionKey(), Collections.singletonList(delete));
+  }
+
+  @Override
+  public void delete(List<Delete> deletes) throws ExecutionException {
+    mutate(deletes);
+  }
+
+  @Override
+  public void mutate(List<? extends Mutation> mutations) throws ExecutionException {
+    checkArgument(!mutations.isEmpty(), CoreError.EMPTY_MUTATIONS_SPECIFIED.buildMessage());
+    mutations = copyAndSetTargetToIfNot(mutations);
+    // This checks that all the mutations are for the same partition
+    operationChecker.check(mutations);
+
+    Mutation first = mutations.get(0);
+    getTable(first).mutate(first.getPartitionKey(), mutations);
+  }
+
+  private InMemoryTable getTable(Operation operation) {
+    InMemoryTable table =
+        database.getTable(operation.forNamespace().get(), operation.forTable().get());
+    if (table == null) {
+      // The table was dropped after the operation was checked
+      throw new IllegalArgumentException(
+          CoreError.TABLE_NOT_FOUND.buildMessage(operation.forFullTableName().get()));
+    }
+    return table;
+  }
+
+  @Override
+  public void close() {}
+}
@@ -0,0 +1,499 @@
+package com.scalar.db.storage.inmemory;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.ImmutableMap;
+import com.scalar.db.api.DeleteIf;
+import com.scalar.db.api.DeleteIfExists;
+import com.scalar.db.api.Mutation;
+import com.scalar.db.api.MutationCondition;
+import com.scalar.db.api.Put;
+import com.scalar.db.api.PutIf;
+import com.scalar.db.api.PutIfExists;
+import com.scalar.db.api.PutIfNotExists;
+import com.scalar.db.api.Scan;
+import com.scalar.db.api.TableMetadata;
+import com.scalar.db.common.error.CoreError;
+import com.scalar.db.exception.storage.NoMutationException;
+import com.scalar.db.io.BigIntColumn;
+import com.scalar.db.io.BlobColumn;
+import com.scalar.db.io.BooleanColumn;
+import com.scalar.db.io.Column;
+import com.scalar.db.io.DataType;
+import com.scalar.db.io.DoubleColumn;
+import com.scalar.db.io.FloatColumn;
+import com.scalar.db.io.IntColumn;
+import com.scalar.db.io.Key;
+import com.scalar.db.io.TextColumn;
+import com.scalar.db.util.ScalarDbUtils;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The records of an in-memory table. Each partition is a concurrent sorted map from clustering
+ * keys to immutable records, so reads never block. Mutations lock only the partition they belong
+ * to, which makes conditional mutations and a batch of mutations within a partition atomic. A
+ * partition is created when a mutation writes its first record and removed when its last record
+ * is deleted, so failed conditional mutations and deletions don't leave empty partitions behind.
+ *
+ * <p>A secondary index is a map from the indexed values to the primary keys of the records. It's
+ * maintained under the lock of the partition of the mutated record, and the records looked up
+ * through it are checked against the indexed value again since the index can be ahead of the
+ * records for a moment.
+ */
+@ThreadSafe
+public class InMemoryTable {
+  private static final Key EMPTY_KEY = Key.of();
+  // Appended to a key to make it greater than all the keys that start with it. It's compared by
+  // identity, so it never matches a column of a record
+  private static final Column<?> UPPER_BOUND = TextColumn.of("", "");
+
+  private volatile TableMetadata metadata;
+  private final Comparator<Key> clusteringKeyComparator;
+  private final ConcurrentMap<Key, Partition> partitions = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, ConcurrentMap<Column<?>, Set<PrimaryKey>>> indexes =
+      new ConcurrentHashMap<>();
+
+  InMemoryTable(TableMetadata metadata) {
+    this.metadata = metadata;
+    clusteringKeyComparator = createClusteringKeyComparator(metadata);
+    metadata.getSecondaryIndexNames().forEach(name -> indexes.put(name, new ConcurrentHashMap<>()));
+  }
+
+  TableMetadata getMetadata() {
+    return metadata;
+  }
+
+  Optional<Map<String, Column<?>>> get(Key partitionKey, @Nullable Key clusteringKey) {
+    Partition partition = partitions.get(partitionKey);
+    if (partition == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(
+        partition.records.get(clusteringKey != null ? clusteringKey : EMPTY_KEY));
+  }
+
+  /**
+   * Returns the records in the specified range of a partition. As with the other storages, the
+   * start and end keys share all the columns except the last one, and the last columns are
+   * compared with their natural order.
+   */
+  Iterator<Map<String, Column<?>>> scan(
+      Key partitionKey,
+      @Nullable Key startClusteringKey,
+      boolean startInclusive,
+      @Nullable Key endClusteringKey,
+      boolean endInclusive,
+      boolean reverse) {
+    Partition partition = partitions.get(partitionKey);
+    if (partition == null) {
+      return Collections.emptyIterator();
+    }
+    ConcurrentNavigableMap<Key, Map<String, Column<?>>> records =
+        subMap(
+            partition.records, startClusteringKey, startInclusive, endClusteringKey, endInclusive);
+    return (reverse ? records.descendingMap() : records).values().iterator();
+  }
+
+  /** Returns all the records of the table, sorted with the specified orderings if any. */
+  Iterator<Map<String, Column<?>>> scanAll(List<Scan.Ordering> orderings) {
+    Iterator<Partition> partitionIterator = partitions.values().iterator();
+    Iterator<Map<String, Column<?>>> iterator =
+        new AbstractIterator<Map<String, Column<?>>>() {
+          private Iterator<Map<String, Column<?>>> records =
+              Collections.emptyIterator();
+
+          @Override
+          protected Map<String, Column<?>> computeNext() {
+            while (!records.hasNext()) {
+              if (!partitionIterator.hasNext()) {
+                return endOfData();
+              }
+              records = partitionIterator.next().records.values().iterator();
+            }
+            return records.next();
+          }
+        };
+    if (orderings.isEmpty()) {
+      return iterator;
+    }
+
+    List<Map<String, Column<?>>> sorted = new ArrayList<>();
+    iterator.forEachRemaining(sorted::add);
+    sorted.sort(createRecordComparator(orderings));
+    return sorted.iterator();
+  }
+
+  /** Returns the records whose indexed column has the same value as the specified column. */
+  List<Map<String, Column<?>>> lookUpIndex(Column<?> column) {
+    List<Map<String, Column<?>>> ret = new ArrayList<>();
+    ConcurrentMap<Column<?>, Set<PrimaryKey>> index = indexes.get(column.getName());
+    if (index == null) {
+      return ret;
+    }
+    Set<PrimaryKey> primaryKeys = index.get(column);
+    if (primaryKeys == null) {
+      return ret;
+    }
+    for (PrimaryKey primaryKey : primaryKeys) {
+      get(primaryKey.partitionKey, primaryKey.clusteringKey)
+          .filter(record -> column.equals(record.get(column.getName())))
+          .ifPresent(ret::add);
+    }
+    return ret;
+  }
+
+  /**
+   * Applies the mutations for a partition atomically. The condition of each mutation is evaluated
+   * against the result of the preceding mutations, and nothing is applied if any of the conditions
+   * is not satisfied.
+   *
+   * @throws NoMutationException if any of the conditions is not satisfied
+   */
+  void mutate(Key partitionKey, List<? extends Mutation> mutations) throws NoMutationException {
+    while (true) {
+      Partition partition = partitions.get(partitionKey);
+      boolean created = partition == null;
+      if (created) {
+        partition = new Partition();
+      }
+      synchronized (partition) {
+        if (partition.removed) {
+          // The partition became empty and was removed after it was looked up
+          continue;
+        }
+
+        TableMetadata metadata = this.metadata;
+        // A null value means that the record is deleted
+        Map<Key, Map<String, Column<?>>> staged = new LinkedHashMap<>();
+        for (Mutation mutation : mutations) {
+          Key clusteringKey = mutation.getClusteringKey().orElse(EMPTY_KEY);
+          Map<String, Column<?>> current =
+              staged.containsKey(clusteringKey)
+                  ? staged.get(clusteringKey)
+                  : partition.records.get(clusteringKey);
+          if (!conditionSatisfied(mutation, current)) {
+            throw new NoMutationException(CoreError.NO_MUTATION_APPLIED.buildMessage());
+          }
+          staged.put(
+              clusteringKey,
+              mutation instanceof Put ? merge(current, (Put) mutation, metadata) : null);
+        }
+
+        if (created) {
+          if (staged.values().stream().noneMatch(Objects::nonNull)) {
+            // Only deletions of records that don't exist
+            return;
+          }
+          if (partitions.putIfAbsent(partitionKey, partition) != null) {
+            // Another mutation created the partition first
+            continue;
+          }
+        }
+
+        for (Map.Entry<Key, Map<String, Column<?>>> entry : staged.entrySet()) {
+          Map<String, Column<?>> old;
+          if (entry.getValue() == null) {
+            old = partition.records.remove(entry.getKey());
+          } else {
+            old = partition.records.put(entry.getKey(), entry.getValue());
+          }
+          updateIndexes(new PrimaryKey(partitionKey, entry.getKey()), old, entry.getValue());
+        }
+
+        if (partition.records.isEmpty()) {
+          partition.removed = true;
+          partitions.remove(partitionKey, partition);
+        }
+        return;
+      }
+    }
+  }
+
+  @VisibleForTesting
+  int getPartitionCount() {
+    return partitions.size();
+  }
+
+  void truncate() {
+    partitions.clear();
+    indexes.values().forEach(Map::clear);
+  }
+
+  void createIndex(String columnName) {
+    ConcurrentMap<Column<?>, Set<PrimaryKey>> index = new ConcurrentHashMap<>();
+    if (indexes.putIfAbsent(columnName, index) != null) {
+      return;
+    }
+    // Mutations that lock the partitions after the index is registered maintain it by themselves
+    for (Map.Entry<Key, Partition> partition : partitions.entrySet()) {
+      synchronized (partition.getValue()) {
+        for (Map.Entry<Key, Map<String, Column<?>>> record :
+            partition.getValue().records.entrySet()) {
+          Column<?> value = record.getValue().get(columnName);
+          index
+              .computeIfAbsent(value, c -> ConcurrentHashMap.newKeySet())
+              .add(new PrimaryKey(partition.getKey(), record.getKey()));
+        }
+      }
+    }
+    metadata = TableMetadata.newBuilder(metadata).addSecondaryIndex(columnName).build();
+  }
+
+  void dropIndex(String columnName) {
+    metadata = TableMetadata.newBuilder(metadata).removeSecondaryIndex(columnName).build();
+    indexes.remove(columnName);
+  }
+
+  void addColumn(String columnName, DataType columnType) {
+    // The mutations that lock the partitions after this write the new column by themselves
+    metadata = TableMetadata.newBuilder(metadata).addColumn(columnName, columnType).build();
+    Column<?> nullColumn = createNullColumn(columnName, columnType);
+    for (Partition partition : partitions.values()) {
+      synchronized (partition) {
+        for (Map.Entry<Key, Map<String, Column<?>>> record : partition.records.entrySet()) {
+          if (!record.getValue().containsKey(columnName)) {
+            partition.records.put(
+                record.getKey(),
+                ImmutableMap.<String, Column<?>>builder()
+                    .putAll(record.getValue())
+                    .put(columnName, nullColumn)
+                    .build());
+          }
+        }
+      }
+    }
+  }
+
+  private boolean conditionSatisfied(Mutation mutation, @Nullable Map<String, Column<?>> current) {
+    if (!mutation.getCondition().isPresent()) {
+      return true;
+    }
+    MutationCondition condition = mutation.getCondition().get();
+    if (condition instanceof PutIfNotExists) {
+      return current == null;
+    }
+    if (current == null) {
+      return false;
+    }
+    if (condition instanceof PutIf || condition instanceof DeleteIf) {
+      return ScalarDbUtils.columnsMatchAllOfConditions(current, condition.getExpressions());
+    }
+    assert condition instanceof PutIfExists || condition instanceof DeleteIfExists;
+    return true;
+  }
+
+  private Map<String, Column<?>> merge(
+      @Nullable Map<String, Column<?>> current, Put put, TableMetadata metadata) {
+    Map<String, Column<?>> columns = new HashMap<>();
+    if (current == null) {
+      for (String name : metadata.getColumnNames()) {
+        columns.put(name, createNullColumn(name, metadata.getColumnDataType(name)));
+      }
+    } else {
+      columns.putAll(current);
+    }
+    put.getPartitionKey().getColumns().forEach(c -> columns.put(c.getName(), c));
+    put.getClusteringKey().ifPresent(k -> k.getColumns().forEach(c -> columns.put(c.getName(), c)));
+    columns.putAll(put.getColumns());
+    return ImmutableMap.copyOf(columns);
+  }
+
+  private void updateIndexes(
+      PrimaryKey primaryKey,
+      @Nullable Map<String, Column<?>> oldRecord,
+      @Nullable Map<String, Column<?>> newRecord) {
+    for (Map.Entry<String, ConcurrentMap<Column<?>, Set<PrimaryKey>>> index : indexes.entrySet()) {
+      Column<?> oldValue = oldRecord == null ? null : oldRecord.get(index.getKey());
+      Column<?> newValue = newRecord == null ? null : newRecord.get(index.getKey());
+      if (Objects.equals(oldValue, newValue)) {
+        continue;
+      }
+      if (oldValue != null) {
+        index
+            .getValue()
+            .computeIfPresent(
+                oldValue,
+                (c, keys) -> {
+                  keys.remove(primaryKey);
+                  return keys.isEmpty() ? null : keys;
+                });
+      }
+      if (newValue != null) {
+        index
+            .getValue()
+            .computeIfAbsent(newValue, c -> ConcurrentHashMap.newKeySet())
+            .add(primaryKey);
+      }
+    }
+  }
+
+  /**
+   * Returns the view of the records in the specified range. The start and end keys are converted to
+   * the bounds in the clustering order, and a key without the last column of a bound is used as
+   * the other bound if it's not specified.
+   */
+  private ConcurrentNavigableMap<Key, Map<String, Column<?>>> subMap(
+      ConcurrentNavigableMap<Key, Map<String, Column<?>>> records,
+      @Nullable Key start,
+      boolean startInclusive,
+      @Nullable Key end,
+      boolean endInclusive) {
+    Key bound = start != null ? start : end;
+    if (bound == null) {
+      return records;
+    }
+    List<Column<?>> boundColumns = bound.getColumns();
+    String lastColumnName = boundColumns.get(boundColumns.size() - 1).getName();
+    if (metadata.getClusteringOrder(lastColumnName) == Scan.Ordering.Order.DESC) {
+      Key tmp = start;
+      start = end;
+      end = tmp;
+      boolean tmpInclusive = startInclusive;
+      startInclusive = endInclusive;
+      endInclusive = tmpInclusive;
+    }
+
+    Key prefix = toKey(boundColumns.subList(0, boundColumns.size() - 1), false);
+    Key from;
+    if (start == null) {
+      from = prefix;
+    } else {
+      from = startInclusive ? start : toKey(start.getColumns(), true);
+    }
+    Key to;
+    if (end == null) {
+      to = toKey(prefix.getColumns(), true);
+    } else {
+      to = endInclusive ? toKey(end.getColumns(), true) : end;
+    }
+    if (clusteringKeyComparator.compare(from, to) > 0) {
+      return new ConcurrentSkipListMap<>(clusteringKeyComparator);
+    }
+    return records.subMap(from, true, to, false);
+  }
+
+  /**
+   * Creates a key with the specified columns. If {@code upperBound} is true, {@link #UPPER_BOUND}
+   * is appended so that the key is greater than all the keys that start with the columns.
+   */
+  private static Key toKey(List<Column<?>> columns, boolean upperBound) {
+    Key.Builder builder = Key.newBuilder();
+    columns.forEach(builder::add);
+    if (upperBound) {
+      builder.add(UPPER_BOUND);
+    }
+    return builder.build();
+  }
+
+  private static Comparator<Key> createClusteringKeyComparator(TableMetadata metadata) {
+    List<Boolean> descending = new ArrayList<>();
+    for (String name : metadata.getClusteringKeyNames()) {
+      descending.add(metadata.getClusteringOrder(name) == Scan.Ordering.Order.DESC);
+    }
+    return (k1, k2) -> {
+      List<Column<?>> columns1 = k1.getColumns();
+      List<Column<?>> columns2 = k2.getColumns();
+      for (int i = 0; i < Math.min(columns1.size(), columns2.size()); i++) {
+        Column<?> column1 = columns1.get(i);
+        Column<?> column2 = columns2.get(i);
+        if (column1 == UPPER_BOUND || column2 == UPPER_BOUND) {
+          return column1 == column2 ? 0 : column1 == UPPER_BOUND ? 1 : -1;
+        }
+        int c = compare(column1, column2);
+        if (c != 0) {
+          return descending.get(i) ? -c : c;
+        }
+      }
+      return Integer.compare(columns1.size(), columns2.size());
+    };
+  }
+
+  private static Comparator<Map<String, Column<?>>> createRecordComparator(
+      List<Scan.Ordering> orderings) {
+    return (r1, r2) -> {
+      for (Scan.Ordering ordering : orderings) {
+        int c = compare(r1.get(ordering.getColumnName()), r2.get(ordering.getColumnName()));
+        if (c != 0) {
+          return ordering.getOrder() == Scan.Ordering.Order.DESC ? -c : c;
+        }
+      }
+      return 0;
+    };
+  }
+
+  @SuppressWarnings("unchecked")
+  private static int compare(Column<?> column1, Column<?> column2) {
+    return ((Column<Object>) column1).compareTo((Column<Object>) column2);
+  }
+
+  private static Column<?> createNullColumn(String columnName, DataType dataType) {
+    switch (dataType) {
+      case BOOLEAN:
+        return BooleanColumn.ofNull(columnName);
+      case INT:
+        return IntColumn.ofNull(columnName);
+      case BIGINT:
+        return BigIntColumn.ofNull(columnName);
+      case FLOAT:
+        return FloatColumn.ofNull(columnName);
+      case DOUBLE:
+        return DoubleColumn.ofNull(columnName);
+      case TEXT:
+        return TextColumn.ofNull(columnName);
+      case BLOB:
+        return BlobColumn.ofNull(columnName);
+      default:
+        throw new AssertionError();
+    }
+  }
+
+  private class Partition {
+    private final ConcurrentSkipListMap<Key, Map<String, Column<?>>> records =
+        new ConcurrentSkipListMap<>(clusteringKeyComparator);
+    // Guarded by the lock of the partition
+    private boolean removed;
+  }
+
+  private static final class PrimaryKey {
+    private final Key partitionKey;
+    private final Key clusteringKey;
+
+    private PrimaryKey(Key partitionKey, Key clusteringKey) {
+      this.partitionKey = partitionKey;
+      this.clusteringKey = clusteringKey;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof PrimaryKey)) {
+        return false;
+      }
+      PrimaryKey that = (PrimaryKey) o;
+      return partitionKey.equals(that.partitionKey) && clusteringKey.equals(that.clusteringKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(partitionKey, clusteringKey);
+    }
+  }
+}
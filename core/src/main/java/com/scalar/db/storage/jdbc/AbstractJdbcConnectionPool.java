@@ -0,0 +1,44 @@
+package com.scalar.db.storage.jdbc;
+
+import com.scalar.db.util.metrics.Histogram;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A base class of {@link JdbcConnectionPool} that records how long it takes to borrow a
+ * connection. The time is recorded into a lock-free {@link Histogram}, so it doesn't add
+ * contention to the pool.
+ */
+@ThreadSafe
+abstract class AbstractJdbcConnectionPool implements JdbcConnectionPool {
+  private final Histogram waitTimeNanos = new Histogram();
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    long start = System.nanoTime();
+    try {
+      return borrowConnection();
+    } finally {
+      waitTimeNanos.record(System.nanoTime() - start);
+    }
+  }
+
+  @Override
+  public JdbcConnectionPoolMetrics getMetrics() {
+    return new JdbcConnectionPoolMetrics(
+        getActiveConnections(),
+        getIdleConnections(),
+        getMaxConnections(),
+        waitTimeNanos.snapshot(TimeUnit.MILLISECONDS.toNanos(1)));
+  }
+
+  protected abstract Connection borrowConnection() throws SQLException;
+
+  protected abstract int getActiveConnections();
+
+  protected abstract int getIdleConnections();
+
+  protected abstract int getMaxConnections();
+}
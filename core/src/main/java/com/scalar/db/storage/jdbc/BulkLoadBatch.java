@@ -0,0 +1,209 @@
+package com.scalar.db.storage.jdbc;
+
+import com.scalar.db.api.Put;
+import com.scalar.db.api.TableMetadata;
+import com.scalar.db.io.BigIntColumn;
+import com.scalar.db.io.BlobColumn;
+import com.scalar.db.io.BooleanColumn;
+import com.scalar.db.io.Column;
+import com.scalar.db.io.DataType;
+import com.scalar.db.io.DoubleColumn;
+import com.scalar.db.io.FloatColumn;
+import com.scalar.db.io.IntColumn;
+import com.scalar.db.io.TextColumn;
+import com.scalar.db.storage.jdbc.query.PreparedStatementBinder;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A batch of records to load into a table in bulk. All the records in a batch have the values of
+ * the same columns, which are the columns specified by any of the puts of the batch, in the order
+ * of the table metadata. A column that the put of a record doesn't specify is null.
+ */
+@NotThreadSafe
+public class BulkLoadBatch {
+  private final String namespace;
+  private final String table;
+  private final TableMetadata tableMetadata;
+  private final List<String> columnNames;
+  private final List<List<Column<?>>> rows;
+
+  @SuppressFBWarnings("EI_EXPOSE_REP2")
+  BulkLoadBatch(String namespace, String table, TableMetadata tableMetadata, List<Put> puts) {
+    this.namespace = namespace;
+    this.table = table;
+    this.tableMetadata = tableMetadata;
+
+    List<Map<String, Column<?>>> records = new ArrayList<>(puts.size());
+    Set<String> specifiedColumnNames = new HashSet<>();
+    for (Put put : puts) {
+      Map<String, Column<?>> record = new HashMap<>();
+      put.getPartitionKey().getColumns().forEach(c -> record.put(c.getName(), c));
+      put.getClusteringKey()
+          .ifPresent(k -> k.getColumns().forEach(c -> record.put(c.getName(), c)));
+      record.putAll(put.getColumns());
+      specifiedColumnNames.addAll(record.keySet());
+      records.add(record);
+    }
+    columnNames =
+        tableMetadata.getColumnNames().stream()
+            .filter(specifiedColumnNames::contains)
+            .collect(Collectors.toList());
+
+    rows = new ArrayList<>(records.size());
+    for (Map<String, Column<?>> record : records) {
+      List<Column<?>> row = new ArrayList<>(columnNames.size());
+      for (String columnName : columnNames) {
+        Column<?> column = record.get(columnName);
+        row.add(
+            column != null
+                ? column
+                : createNullColumn(columnName, tableMetadata.getColumnDataType(columnName)));
+      }
+      rows.add(row);
+    }
+  }
+
+  static Column<?> createNullColumn(String name, DataType dataType) {
+    switch (dataType) {
+      case BOOLEAN:
+        return BooleanColumn.ofNull(name);
+      case INT:
+        return IntColumn.ofNull(name);
+      case BIGINT:
+        return BigIntColumn.ofNull(name);
+      case FLOAT:
+        return FloatColumn.ofNull(name);
+      case DOUBLE:
+        return DoubleColumn.ofNull(name);
+      case TEXT:
+        return TextColumn.ofNull(name);
+      case BLOB:
+        return BlobColumn.ofNull(name);
+      default:
+        throw new AssertionError();
+    }
+  }
+
+  public String getNamespace() {
+    return namespace;
+  }
+
+  public String getTable() {
+    return table;
+  }
+
+  @SuppressFBWarnings("EI_EXPOSE_REP")
+  public TableMetadata getTableMetadata() {
+    return tableMetadata;
+  }
+
+  public List<String> getColumnNames() {
+    return Collections.unmodifiableList(columnNames);
+  }
+
+  public List<List<Column<?>>> getRows() {
+    return Collections.unmodifiableList(rows);
+  }
+
+  public int size() {
+    return rows.size();
+  }
+
+  /**
+   * Returns the rows as tab-separated text, which is the text format of both PostgreSQL
+   * {@code COPY} and MySQL {@code LOAD DATA}. Each row is terminated by a newline, a null value is
+   * written as {@code \N}, and backslashes, tabs, newlines, and carriage returns in a value are
+   * escaped with a backslash.
+   *
+   * @param formatter a function that formats a non-null value into its text representation
+   * @return the rows as tab-separated text
+   */
+  public String toTabSeparatedText(Function<Column<?>, String> formatter) {
+    StringBuilder builder = new StringBuilder();
+    for (List<Column<?>> row : rows) {
+      for (int i = 0; i < row.size(); i++) {
+        if (i > 0) {
+          builder.append('\t');
+        }
+        Column<?> column = row.get(i);
+        if (column.hasNullValue()) {
+          builder.append("\\N");
+        } else {
+          appendEscaped(builder, formatter.apply(column));
+        }
+      }
+      builder.append('\n');
+    }
+    return builder.toString();
+  }
+
+  private static void appendEscaped(StringBuilder builder, String value) {
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '\\':
+          builder.append("\\\\");
+          break;
+        case '\t':
+          builder.append("\\t");
+          break;
+        case '\n':
+          builder.append("\\n");
+          break;
+        case '\r':
+          builder.append("\\r");
+          break;
+        default:
+          builder.append(c);
+      }
+    }
+  }
+
+  /**
+   * Inserts the rows with a batch of INSERT statements, which is the way to load the rows into a
+   * database that doesn't provide a bulk-loading statement. The JDBC drivers that can rewrite a
+   * batch into multi-row statements do so.
+   *
+   * @param connection a connection
+   * @param rdbEngine the RDB engine of the connection
+   * @return the number of inserted rows
+   * @throws SQLException if a database access error occurs
+   */
+  long insertInBatch(Connection connection, RdbEngineStrategy rdbEngine) throws SQLException {
+    String sql =
+        "INSERT INTO "
+            + rdbEngine.encloseFullTableName(namespace, table)
+            + " ("
+            + columnNames.stream().map(rdbEngine::enclose).collect(Collectors.joining(","))
+            + ") VALUES ("
+            + columnNames.stream().map(n -> "?").collect(Collectors.joining(","))
+            + ")";
+    try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+      for (List<Column<?>> row : rows) {
+        PreparedStatementBinder binder =
+            new PreparedStatementBinder(preparedStatement, tableMetadata, rdbEngine);
+        for (Column<?> column : row) {
+          column.accept(binder);
+          binder.throwSQLExceptionIfOccurred();
+        }
+        preparedStatement.addBatch();
+      }
+      preparedStatement.executeBatch();
+    }
+    // A duplicate key fails the batch, so all the rows are inserted when it succeeds
+    return rows.size();
+  }
+}
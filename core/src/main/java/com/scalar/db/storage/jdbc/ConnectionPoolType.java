@@ -0,0 +1,6 @@
+package com.scalar.db.storage.jdbc;
+
+public enum ConnectionPoolType {
+  DBCP2,
+  HIKARI
+}
@@ -0,0 +1,112 @@
+package com.scalar.db.storage.jdbc;
+
+import com.scalar.db.api.Scan;
+import com.scalar.db.api.TableMetadata;
+import com.scalar.db.common.ColumnSerializer;
+import com.scalar.db.common.error.CoreError;
+import com.scalar.db.io.Column;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * A utility class to encode the position of a paginated scan into a continuation token and decode
+ * it. The token is a URL-safe Base64 string of the namespace and table names and the key columns of
+ * the last result returned by the scan. An empty key represents the beginning of the scan.
+ */
+final class ContinuationToken {
+  private static final byte VERSION = 1;
+
+  private ContinuationToken() {}
+
+  static String encode(String namespace, String table, List<Column<?>> lastKey) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeByte(VERSION);
+      out.writeUTF(namespace);
+      out.writeUTF(table);
+      out.writeInt(lastKey.size());
+      for (Column<?> column : lastKey) {
+        ColumnSerializer.write(out, column);
+      }
+    } catch (IOException e) {
+      // Writing to a byte array never fails
+      throw new UncheckedIOException(e);
+    }
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+  }
+
+  /**
+   * Decodes the last key from the specified token and checks that it's valid for the scan.
+   *
+   * @param token a continuation token
+   * @param namespace the namespace name of the scan
+   * @param table the table name of the scan
+   * @param keyOrderings the orderings of the key columns of the scan
+   * @param tableMetadata the metadata of the table
+   * @return the values of the key columns of the last result, or an empty list for the beginning
+   * @throws IllegalArgumentException if the token is malformed or for another scan
+   */
+  static List<Column<?>> decode(
+      String token,
+      String namespace,
+      String table,
+      List<Scan.Ordering> keyOrderings,
+      TableMetadata tableMetadata) {
+    byte[] bytes;
+    try {
+      bytes = Base64.getUrlDecoder().decode(token);
+    } catch (IllegalArgumentException e) {
+      throw invalidToken(e.getMessage(), e);
+    }
+
+    List<Column<?>> lastKey;
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+      if (in.readByte() != VERSION) {
+        throw invalidToken("Unknown version", null);
+      }
+      if (!in.readUTF().equals(namespace) || !in.readUTF().equals(table)) {
+        throw invalidToken("The table doesn't match", null);
+      }
+      int size = in.readInt();
+      if (size != 0 && size != keyOrderings.size()) {
+        throw invalidToken("The key doesn't match", null);
+      }
+      lastKey = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        lastKey.add(ColumnSerializer.read(in));
+      }
+      if (in.read() != -1) {
+        throw invalidToken("Unexpected trailing bytes", null);
+      }
+    } catch (EOFException e) {
+      throw invalidToken("The token is truncated", e);
+    } catch (IOException e) {
+      throw invalidToken(e.getMessage(), e);
+    }
+
+    for (int i = 0; i < lastKey.size(); i++) {
+      Column<?> column = lastKey.get(i);
+      String columnName = keyOrderings.get(i).getColumnName();
+      if (!column.getName().equals(columnName)
+          || column.getDataType() != tableMetadata.getColumnDataType(columnName)
+          || column.hasNullValue()) {
+        throw invalidToken("The key doesn't match", null);
+      }
+    }
+    return lastKey;
+  }
+
+  private static IllegalArgumentException invalidToken(String details, @Nullable Exception cause) {
+    return new IllegalArgumentException(
+        CoreError.JDBC_INVALID_CONTINUATION_TOKEN.buildMessage(details), cause);
+  }
+}
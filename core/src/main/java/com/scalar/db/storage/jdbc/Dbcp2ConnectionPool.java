@@ -0,0 +1,49 @@
+package com.scalar.db.storage.jdbc;
+
+import com.google.common.base.MoreObjects;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.annotation.concurrent.ThreadSafe;
+import org.apache.commons.dbcp2.BasicDataSource;
+
+/** A {@link JdbcConnectionPool} backed by Apache Commons DBCP2. */
+@ThreadSafe
+class Dbcp2ConnectionPool extends AbstractJdbcConnectionPool {
+  private final BasicDataSource dataSource;
+
+  @SuppressFBWarnings("EI_EXPOSE_REP2")
+  Dbcp2ConnectionPool(BasicDataSource dataSource) {
+    this.dataSource = dataSource;
+  }
+
+  @Override
+  protected Connection borrowConnection() throws SQLException {
+    return dataSource.getConnection();
+  }
+
+  @Override
+  protected int getActiveConnections() {
+    return dataSource.getNumActive();
+  }
+
+  @Override
+  protected int getIdleConnections() {
+    return dataSource.getNumIdle();
+  }
+
+  @Override
+  protected int getMaxConnections() {
+    return dataSource.getMaxTotal();
+  }
+
+  @Override
+  public void close() throws SQLException {
+    dataSource.close();
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this).add("url", dataSource.getUrl()).toString();
+  }
+}
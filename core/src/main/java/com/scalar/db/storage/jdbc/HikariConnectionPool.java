@@ -0,0 +1,56 @@
+package com.scalar.db.storage.jdbc;
+
+import com.google.common.base.MoreObjects;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A {@link JdbcConnectionPool} backed by HikariCP. HikariCP keeps the connections in a lock-free
+ * bag in which a thread first tries to reuse the connections it returned before, so borrowing and
+ * returning a connection rarely contend with other threads.
+ */
+@ThreadSafe
+class HikariConnectionPool extends AbstractJdbcConnectionPool {
+  private final HikariDataSource dataSource;
+
+  @SuppressFBWarnings("EI_EXPOSE_REP2")
+  HikariConnectionPool(HikariDataSource dataSource) {
+    this.dataSource = dataSource;
+  }
+
+  @Override
+  protected Connection borrowConnection() throws SQLException {
+    return dataSource.getConnection();
+  }
+
+  @Override
+  protected int getActiveConnections() {
+    HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+    return pool != null ? pool.getActiveConnections() : 0;
+  }
+
+  @Override
+  protected int getIdleConnections() {
+    HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+    return pool != null ? pool.getIdleConnections() : 0;
+  }
+
+  @Override
+  protected int getMaxConnections() {
+    return dataSource.getMaximumPoolSize();
+  }
+
+  @Override
+  public void close() {
+    dataSource.close();
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this).add("url", dataSource.getJdbcUrl()).toString();
+  }
+}
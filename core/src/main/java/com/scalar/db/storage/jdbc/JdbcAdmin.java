@@ -26,6 +26,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
@@ -60,21 +61,25 @@ public class JdbcAdmin implements DistributedStorageAdmin {
   private static final String INDEX_NAME_PREFIX = "index";
 
   private final RdbEngineStrategy rdbEngine;
-  private final BasicDataSource dataSource;
+  private final JdbcConnectionPool connectionPool;
   private final String metadataSchema;
 
   @Inject
   public JdbcAdmin(DatabaseConfig databaseConfig) {
     JdbcConfig config = new JdbcConfig(databaseConfig);
     rdbEngine = RdbEngineFactory.create(config);
-    dataSource = JdbcUtils.initDataSourceForAdmin(config, rdbEngine);
+    connectionPool = JdbcUtils.initConnectionPoolForAdmin(config, rdbEngine);
     metadataSchema = config.getMetadataSchema();
   }
 
-  @SuppressFBWarnings("EI_EXPOSE_REP2")
   public JdbcAdmin(BasicDataSource dataSource, JdbcConfig config) {
+    this(new Dbcp2ConnectionPool(dataSource), config);
+  }
+
+  @SuppressFBWarnings("EI_EXPOSE_REP2")
+  public JdbcAdmin(JdbcConnectionPool connectionPool, JdbcConfig config) {
     rdbEngine = RdbEngineFactory.create(config);
-    this.dataSource = dataSource;
+    this.connectionPool = connectionPool;
     metadataSchema = config.getMetadataSchema();
   }
 
@@ -85,7 +90,7 @@ public class JdbcAdmin implements DistributedStorageAdmin {
       throw new IllegalArgumentException(
           CoreError.JDBC_NAMESPACE_NAME_NOT_ACCEPTABLE.buildMessage(namespace));
     }
-    try (Connection connection = dataSource.getConnection()) {
+    try (Connection connection = connectionPool.getConnection()) {
       execute(connection, rdbEngine.createSchemaSqls(namespace));
       createNamespacesTableIfNotExists(connection);
       insertIntoNamespacesTable(connection, namespace);
@@ -98,7 +103,7 @@ public class JdbcAdmin implements DistributedStorageAdmin {
   public void createTable(
       String namespace, String table, TableMetadata metadata, Map<String, String> options)
       throws ExecutionException {
-    try (Connection connection = dataSource.getConnection()) {
+    try (Connection connection = connectionPool.getConnection()) {
       createNamespacesTableIfNotExists(connection);
       createTableInternal(connection, namespace, table, metadata, false);
       addTableMetadata(connection, namespace, table, metadata, true, false);
@@ -341,7 +346,7 @@ public class JdbcAdmin implements DistributedStorageAdmin {
 
   @Override
   public void dropTable(String namespace, String table) throws ExecutionException {
-    try (Connection connection = dataSource.getConnection()) {
+    try (Connection connection = connectionPool.getConnection()) {
       dropTableInternal(connection, namespace, table);
       deleteTableMetadata(connection, namespace, table);
       deleteNamespacesTableAndMetadataSchemaIfEmpty(connection);
@@ -411,7 +416,7 @@ public class JdbcAdmin implements DistributedStorageAdmin {
 
   @Override
   public void dropNamespace(String namespace) throws ExecutionException {
-    try (Connection connection = dataSource.getConnection()) {
+    try (Connection connection = connectionPool.getConnection()) {
       execute(connection, rdbEngine.dropNamespaceSql(namespace));
       deleteFromNamespacesTable(connection, namespace);
       deleteNamespacesTableAndMetadataSchemaIfEmpty(connection);
@@ -423,7 +428,7 @@ public class JdbcAdmin implements DistributedStorageAdmin {
   @Override
   public void truncateTable(String namespace, String table) throws ExecutionException {
     String truncateTableStatement = rdbEngine.truncateTableSql(namespace, table);
-    try (Connection connection = dataSource.getConnection()) {
+    try (Connection connection = connectionPool.getConnection()) {
       execute(connection, truncateTableStatement);
     } catch (SQLException e) {
       throw new ExecutionException(
@@ -436,7 +441,7 @@ public class JdbcAdmin implements DistributedStorageAdmin {
     TableMetadata.Builder builder = TableMetadata.newBuilder();
     boolean tableExists = false;
 
-    try (Connection connection = dataSource.getConnection();
+    try (Connection connection = connectionPool.getConnection();
         PreparedStatement preparedStatement =
             connection.prepareStatement(getSelectColumnsStatement())) {
       preparedStatement.setString(1, getFullTableName(namespace, table));
@@ -444,33 +449,7 @@ public class JdbcAdmin implements DistributedStorageAdmin {
       try (ResultSet resultSet = preparedStatement.executeQuery()) {
         while (resultSet.next()) {
           tableExists = true;
-
-          String columnName = resultSet.getString(METADATA_COL_COLUMN_NAME);
-          DataType dataType = DataType.valueOf(resultSet.getString(METADATA_COL_DATA_TYPE));
-          builder.addColumn(columnName, dataType);
-
-          boolean indexed = resultSet.getBoolean(METADATA_COL_INDEXED);
-          if (indexed) {
-            builder.addSecondaryIndex(columnName);
-          }
-
-          String keyType = resultSet.getString(METADATA_COL_KEY_TYPE);
-          if (keyType == null) {
-            continue;
-          }
-
-          switch (KeyType.valueOf(keyType)) {
-            case PARTITION:
-              builder.addPartitionKey(columnName);
-              break;
-            case CLUSTERING:
-              Scan.Ordering.Order clusteringOrder =
-                  Scan.Ordering.Order.valueOf(resultSet.getString(METADATA_COL_CLUSTERING_ORDER));
-              builder.addClusteringKey(columnName, clusteringOrder);
-              break;
-            default:
-              throw new AssertionError("Invalid key type: " + keyType);
-          }
+          addColumn(builder, resultSet);
         }
       }
     } catch (SQLException e) {
@@ -493,6 +472,101 @@ public class JdbcAdmin implements DistributedStorageAdmin {
     return builder.build();
   }
 
+  private void addColumn(TableMetadata.Builder builder, ResultSet resultSet) throws SQLException {
+    String columnName = resultSet.getString(METADATA_COL_COLUMN_NAME);
+    DataType dataType = DataType.valueOf(resultSet.getString(METADATA_COL_DATA_TYPE));
+    builder.addColumn(columnName, dataType);
+
+    boolean indexed = resultSet.getBoolean(METADATA_COL_INDEXED);
+    if (indexed) {
+      builder.addSecondaryIndex(columnName);
+    }
+
+    String keyType = resultSet.getString(METADATA_COL_KEY_TYPE);
+    if (keyType == null) {
+      return;
+    }
+
+    switch (KeyType.valueOf(keyType)) {
+      case PARTITION:
+        builder.addPartitionKey(columnName);
+        break;
+      case CLUSTERING:
+        Scan.Ordering.Order clusteringOrder =
+            Scan.Ordering.Order.valueOf(resultSet.getString(METADATA_COL_CLUSTERING_ORDER));
+        builder.addClusteringKey(columnName, clusteringOrder);
+        break;
+      default:
+        throw new AssertionError("Invalid key type: " + keyType);
+    }
+  }
+
+  /**
+   * Retrieves the table metadata of all the tables in the specified namespace with a single query
+   * to the metadata table, instead of a query per table.
+   *
+   * @param namespace a namespace
+   * @return a map from the table names to their table metadata
+   * @throws ExecutionException if the operation fails
+   */
+  @Override
+  public Map<String, TableMetadata> getTablesMetadata(String namespace) throws ExecutionException {
+    String selectColumnsOfNamespaceStatement =
+        "SELECT "
+            + enclose(METADATA_COL_FULL_TABLE_NAME)
+            + ","
+            + enclose(METADATA_COL_COLUMN_NAME)
+            + ","
+            + enclose(METADATA_COL_DATA_TYPE)
+            + ","
+            + enclose(METADATA_COL_KEY_TYPE)
+            + ","
+            + enclose(METADATA_COL_CLUSTERING_ORDER)
+            + ","
+            + enclose(METADATA_COL_INDEXED)
+            + " FROM "
+            + encloseFullTableName(metadataSchema, METADATA_TABLE)
+            + " WHERE "
+            + enclose(METADATA_COL_FULL_TABLE_NAME)
+            + " LIKE ? ORDER BY "
+            + enclose(METADATA_COL_FULL_TABLE_NAME)
+            + " ASC,"
+            + enclose(METADATA_COL_ORDINAL_POSITION)
+            + " ASC";
+    Map<String, TableMetadata.Builder> builders = new LinkedHashMap<>();
+    try (Connection connection = connectionPool.getConnection();
+        PreparedStatement preparedStatement =
+            connection.prepareStatement(selectColumnsOfNamespaceStatement)) {
+      String prefix = namespace + ".";
+      preparedStatement.setString(1, prefix + "%");
+      try (ResultSet resultSet = preparedStatement.executeQuery()) {
+        while (resultSet.next()) {
+          String fullTableName = resultSet.getString(METADATA_COL_FULL_TABLE_NAME);
+          // An underscore in the namespace matches any character in the LIKE pattern
+          if (!fullTableName.startsWith(prefix)) {
+            continue;
+          }
+          addColumn(
+              builders.computeIfAbsent(
+                  fullTableName.substring(prefix.length()), t -> TableMetadata.newBuilder()),
+              resultSet);
+        }
+      }
+    } catch (SQLException e) {
+      // An exception will be thrown if the metadata table does not exist when executing the select
+      // query
+      if (rdbEngine.isUndefinedTableError(e)) {
+        return Collections.emptyMap();
+      }
+      throw new ExecutionException(
+          "Getting the table metadata of the tables of the " + namespace + " schema failed", e);
+    }
+
+    Map<String, TableMetadata> tablesMetadata = new LinkedHashMap<>();
+    builders.forEach((table, builder) -> tablesMetadata.put(table, builder.build()));
+    return tablesMetadata;
+  }
+
   @Override
   public TableMetadata getImportTableMetadata(String namespace, String table)
       throws ExecutionException {
@@ -504,7 +578,7 @@ public class JdbcAdmin implements DistributedStorageAdmin {
           CoreError.JDBC_IMPORT_NOT_SUPPORTED.buildMessage(rdbEngine.getClass().getName()));
     }
 
-    try (Connection connection = dataSource.getConnection()) {
+    try (Connection connection = connectionPool.getConnection()) {
       String catalogName = rdbEngine.getCatalogName(namespace);
       String schemaName = rdbEngine.getSchemaName(namespace);
 
@@ -553,7 +627,7 @@ public class JdbcAdmin implements DistributedStorageAdmin {
   @Override
   public void importTable(String namespace, String table, Map<String, String> options)
       throws ExecutionException {
-    try (Connection connection = dataSource.getConnection()) {
+    try (Connection connection = connectionPool.getConnection()) {
       TableMetadata tableMetadata = getImportTableMetadata(namespace, table);
       createNamespacesTableIfNotExists(connection);
       upsertIntoNamespacesTable(connection, namespace);
@@ -594,7 +668,7 @@ public class JdbcAdmin implements DistributedStorageAdmin {
             + " WHERE "
             + enclose(METADATA_COL_FULL_TABLE_NAME)
             + " LIKE ?";
-    try (Connection connection = dataSource.getConnection();
+    try (Connection connection = connectionPool.getConnection();
         PreparedStatement preparedStatement =
             connection.prepareStatement(selectTablesOfNamespaceStatement)) {
       String prefix = namespace + ".";
@@ -627,7 +701,7 @@ public class JdbcAdmin implements DistributedStorageAdmin {
             + " WHERE "
             + enclose(NAMESPACE_COL_NAMESPACE_NAME)
             + " = ?";
-    try (Connection connection = dataSource.getConnection();
+    try (Connection connection = connectionPool.getConnection();
         PreparedStatement statement = connection.prepareStatement(selectQuery)) {
       statement.setString(1, namespace);
       try (ResultSet resultSet = statement.executeQuery()) {
@@ -646,9 +720,9 @@ public class JdbcAdmin implements DistributedStorageAdmin {
   @Override
   public void close() {
     try {
-      dataSource.close();
+      connectionPool.close();
     } catch (SQLException e) {
-      logger.warn("Failed to close the dataSource", e);
+      logger.warn("Failed to close the connection pool", e);
     }
   }
 
@@ -700,7 +774,7 @@ public class JdbcAdmin implements DistributedStorageAdmin {
   public void createIndex(
       String namespace, String table, String columnName, Map<String, String> options)
       throws ExecutionException {
-    try (Connection connection = dataSource.getConnection()) {
+    try (Connection connection = connectionPool.getConnection()) {
       alterToIndexColumnTypeIfNecessary(connection, namespace, table, columnName);
       createIndex(connection, namespace, table, columnName, false);
       updateTableMetadata(connection, namespace, table, columnName, true);
@@ -746,7 +820,7 @@ public class JdbcAdmin implements DistributedStorageAdmin {
   @Override
   public void dropIndex(String namespace, String table, String columnName)
       throws ExecutionException {
-    try (Connection connection = dataSource.getConnection()) {
+    try (Connection connection = connectionPool.getConnection()) {
       dropIndex(connection, namespace, table, columnName);
       alterToRegularColumnTypeIfNecessary(connection, namespace, table, columnName);
       updateTableMetadata(connection, namespace, table, columnName, false);
@@ -786,7 +860,7 @@ public class JdbcAdmin implements DistributedStorageAdmin {
       throw new IllegalArgumentException(
           CoreError.JDBC_NAMESPACE_NAME_NOT_ACCEPTABLE.buildMessage(namespace));
     }
-    try (Connection connection = dataSource.getConnection()) {
+    try (Connection connection = connectionPool.getConnection()) {
       createSchemaIfNotExists(connection, namespace);
       createNamespacesTableIfNotExists(connection);
       upsertIntoNamespacesTable(connection, namespace);
@@ -799,7 +873,7 @@ public class JdbcAdmin implements DistributedStorageAdmin {
   public void repairTable(
       String namespace, String table, TableMetadata metadata, Map<String, String> options)
       throws ExecutionException {
-    try (Connection connection = dataSource.getConnection()) {
+    try (Connection connection = connectionPool.getConnection()) {
       createTableInternal(connection, namespace, table, metadata, true);
       addTableMetadata(connection, namespace, table, metadata, true, true);
     } catch (SQLException e) {
@@ -823,7 +897,7 @@ public class JdbcAdmin implements DistributedStorageAdmin {
               + enclose(columnName)
               + " "
               + getVendorDbColumnType(updatedTableMetadata, columnName);
-      try (Connection connection = dataSource.getConnection()) {
+      try (Connection connection = connectionPool.getConnection()) {
         execute(connection, addNewColumnStatement);
         addTableMetadata(connection, namespace, table, updatedTableMetadata, false, true);
       }
@@ -840,7 +914,7 @@ public class JdbcAdmin implements DistributedStorageAdmin {
   public void addRawColumnToTable(
       String namespace, String table, String columnName, DataType columnType)
       throws ExecutionException {
-    try (Connection connection = dataSource.getConnection()) {
+    try (Connection connection = connectionPool.getConnection()) {
       if (!tableExistsInternal(connection, namespace, table)) {
         throw new IllegalArgumentException(
             CoreError.TABLE_NOT_FOUND.buildMessage(getFullTableName(namespace, table)));
@@ -947,7 +1021,7 @@ public class JdbcAdmin implements DistributedStorageAdmin {
 
   @Override
   public Set<String> getNamespaceNames() throws ExecutionException {
-    try (Connection connection = dataSource.getConnection()) {
+    try (Connection connection = connectionPool.getConnection()) {
       String selectQuery =
           "SELECT * FROM " + encloseFullTableName(metadataSchema, NAMESPACES_TABLE);
       Set<String> namespaces = new HashSet<>();
@@ -1083,7 +1157,7 @@ public class JdbcAdmin implements DistributedStorageAdmin {
 
   @Override
   public void upgrade(Map<String, String> options) throws ExecutionException {
-    try (Connection connection = dataSource.getConnection()) {
+    try (Connection connection = connectionPool.getConnection()) {
       if (tableExistsInternal(connection, metadataSchema, METADATA_TABLE)) {
         createNamespacesTableIfNotExists(connection);
         importNamespaceNamesOfExistingTables(connection);
@@ -2,10 +2,14 @@ package com.scalar.db.storage.jdbc;
 
 import static com.scalar.db.config.ConfigUtils.getBoolean;
 import static com.scalar.db.config.ConfigUtils.getInt;
+import static com.scalar.db.config.ConfigUtils.getLong;
 import static com.scalar.db.config.ConfigUtils.getString;
+import static com.scalar.db.config.ConfigUtils.getStringArray;
 
+import com.google.common.collect.ImmutableList;
 import com.scalar.db.common.error.CoreError;
 import com.scalar.db.config.DatabaseConfig;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 import javax.annotation.Nullable;
@@ -20,6 +24,7 @@ public class JdbcConfig {
   public static final String STORAGE_NAME = "jdbc";
   public static final String TRANSACTION_MANAGER_NAME = STORAGE_NAME;
   public static final String PREFIX = DatabaseConfig.PREFIX + STORAGE_NAME + ".";
+  public static final String CONNECTION_POOL_TYPE = PREFIX + "connection_pool.type";
   public static final String CONNECTION_POOL_MIN_IDLE = PREFIX + "connection_pool.min_idle";
   public static final String CONNECTION_POOL_MAX_IDLE = PREFIX + "connection_pool.max_idle";
   public static final String CONNECTION_POOL_MAX_TOTAL = PREFIX + "connection_pool.max_total";
@@ -29,6 +34,20 @@ public class JdbcConfig {
       PREFIX + "prepared_statements_pool.max_open";
 
   public static final String ISOLATION_LEVEL = PREFIX + "isolation_level";
+  public static final String SCAN_FETCH_SIZE = PREFIX + "scan_fetch_size";
+  public static final String SCAN_PAGINATION_ENABLED = PREFIX + "scan_pagination.enabled";
+  public static final String SCAN_PAGINATION_PAGE_SIZE = PREFIX + "scan_pagination.page_size";
+  public static final String BULK_LOAD_BATCH_SIZE = PREFIX + "bulk_load.batch_size";
+  public static final String TRANSACTION_WRITE_BEHIND_ENABLED =
+      PREFIX + "transaction.write_behind.enabled";
+
+  public static final String READ_REPLICA_URLS = PREFIX + "read_replica.urls";
+  public static final String READ_REPLICA_MAX_LAG_MILLIS = PREFIX + "read_replica.max_lag_millis";
+  public static final String READ_REPLICA_HEALTH_CHECK_INTERVAL_MILLIS =
+      PREFIX + "read_replica.health_check_interval_millis";
+
+  public static final String WARMUP_TABLES = PREFIX + "warmup.tables";
+  public static final String WARMUP_PARALLELISM = PREFIX + "warmup.parallelism";
 
   /** @deprecated As of 5.0, will be removed. */
   @Deprecated public static final String TABLE_METADATA_SCHEMA = PREFIX + "table_metadata.schema";
@@ -47,11 +66,23 @@ public class JdbcConfig {
   public static final String ADMIN_CONNECTION_POOL_MAX_TOTAL =
       PREFIX + "admin.connection_pool.max_total";
 
+  public static final ConnectionPoolType DEFAULT_CONNECTION_POOL_TYPE = ConnectionPoolType.DBCP2;
   public static final int DEFAULT_CONNECTION_POOL_MIN_IDLE = 20;
   public static final int DEFAULT_CONNECTION_POOL_MAX_IDLE = 50;
   public static final int DEFAULT_CONNECTION_POOL_MAX_TOTAL = 200;
   public static final boolean DEFAULT_PREPARED_STATEMENTS_POOL_ENABLED = false;
   public static final int DEFAULT_PREPARED_STATEMENTS_POOL_MAX_OPEN = -1;
+  // 0 leaves the fetch size to the JDBC driver, so scans behave as before unless it is set
+  public static final int DEFAULT_SCAN_FETCH_SIZE = 0;
+  public static final boolean DEFAULT_SCAN_PAGINATION_ENABLED = false;
+  public static final int DEFAULT_SCAN_PAGINATION_PAGE_SIZE = 1000;
+  public static final int DEFAULT_BULK_LOAD_BATCH_SIZE = 10000;
+  public static final boolean DEFAULT_TRANSACTION_WRITE_BEHIND_ENABLED = false;
+
+  public static final long DEFAULT_READ_REPLICA_MAX_LAG_MILLIS = 10000;
+  public static final long DEFAULT_READ_REPLICA_HEALTH_CHECK_INTERVAL_MILLIS = 5000;
+
+  public static final int DEFAULT_WARMUP_PARALLELISM = 4;
 
   public static final int DEFAULT_TABLE_METADATA_CONNECTION_POOL_MIN_IDLE = 5;
   public static final int DEFAULT_TABLE_METADATA_CONNECTION_POOL_MAX_IDLE = 10;
@@ -65,6 +96,7 @@ public class JdbcConfig {
   @Nullable private final String username;
   @Nullable private final String password;
 
+  private final ConnectionPoolType connectionPoolType;
   private final int connectionPoolMinIdle;
   private final int connectionPoolMaxIdle;
   private final int connectionPoolMaxTotal;
@@ -72,6 +104,18 @@ public class JdbcConfig {
   private final int preparedStatementsPoolMaxOpen;
 
   @Nullable private final Isolation isolation;
+  private final int scanFetchSize;
+  private final boolean scanPaginationEnabled;
+  private final int scanPaginationPageSize;
+  private final int bulkLoadBatchSize;
+  private final boolean transactionWriteBehindEnabled;
+
+  private final ImmutableList<String> readReplicaUrls;
+  private final long readReplicaMaxLagMillis;
+  private final long readReplicaHealthCheckIntervalMillis;
+
+  private final ImmutableList<String> warmupTables;
+  private final int warmupParallelism;
 
   private final String metadataSchema;
   private final int tableMetadataConnectionPoolMinIdle;
@@ -102,6 +146,11 @@ public class JdbcConfig {
     username = databaseConfig.getUsername().orElse(null);
     password = databaseConfig.getPassword().orElse(null);
 
+    String poolType = getString(databaseConfig.getProperties(), CONNECTION_POOL_TYPE, null);
+    connectionPoolType =
+        poolType != null
+            ? ConnectionPoolType.valueOf(poolType.toUpperCase(Locale.ROOT))
+            : DEFAULT_CONNECTION_POOL_TYPE;
     connectionPoolMinIdle =
         getInt(
             databaseConfig.getProperties(),
@@ -135,6 +184,68 @@ public class JdbcConfig {
       isolation = null;
     }
 
+    scanFetchSize =
+        getInt(databaseConfig.getProperties(), SCAN_FETCH_SIZE, DEFAULT_SCAN_FETCH_SIZE);
+    scanPaginationEnabled =
+        getBoolean(
+            databaseConfig.getProperties(),
+            SCAN_PAGINATION_ENABLED,
+            DEFAULT_SCAN_PAGINATION_ENABLED);
+    scanPaginationPageSize =
+        getInt(
+            databaseConfig.getProperties(),
+            SCAN_PAGINATION_PAGE_SIZE,
+            DEFAULT_SCAN_PAGINATION_PAGE_SIZE);
+    if (scanPaginationPageSize <= 0) {
+      throw new IllegalArgumentException(
+          CoreError.JDBC_INVALID_SCAN_PAGINATION_PAGE_SIZE.buildMessage());
+    }
+    bulkLoadBatchSize =
+        getInt(databaseConfig.getProperties(), BULK_LOAD_BATCH_SIZE, DEFAULT_BULK_LOAD_BATCH_SIZE);
+    if (bulkLoadBatchSize <= 0) {
+      throw new IllegalArgumentException(
+          CoreError.JDBC_INVALID_BULK_LOAD_BATCH_SIZE.buildMessage());
+    }
+    transactionWriteBehindEnabled =
+        getBoolean(
+            databaseConfig.getProperties(),
+            TRANSACTION_WRITE_BEHIND_ENABLED,
+            DEFAULT_TRANSACTION_WRITE_BEHIND_ENABLED);
+
+    readReplicaUrls =
+        ImmutableList.copyOf(
+            getStringArray(databaseConfig.getProperties(), READ_REPLICA_URLS, new String[0]));
+    readReplicaMaxLagMillis =
+        getLong(
+            databaseConfig.getProperties(),
+            READ_REPLICA_MAX_LAG_MILLIS,
+            DEFAULT_READ_REPLICA_MAX_LAG_MILLIS);
+    readReplicaHealthCheckIntervalMillis =
+        getLong(
+            databaseConfig.getProperties(),
+            READ_REPLICA_HEALTH_CHECK_INTERVAL_MILLIS,
+            DEFAULT_READ_REPLICA_HEALTH_CHECK_INTERVAL_MILLIS);
+    if (readReplicaHealthCheckIntervalMillis <= 0) {
+      throw new IllegalArgumentException(
+          CoreError.JDBC_INVALID_READ_REPLICA_HEALTH_CHECK_INTERVAL.buildMessage());
+    }
+
+    warmupTables =
+        ImmutableList.copyOf(
+            getStringArray(databaseConfig.getProperties(), WARMUP_TABLES, new String[0]));
+    for (String warmupTable : warmupTables) {
+      int index = warmupTable.indexOf('.');
+      if (index <= 0 || index == warmupTable.length() - 1) {
+        throw new IllegalArgumentException(
+            CoreError.JDBC_INVALID_WARMUP_TABLE.buildMessage(warmupTable));
+      }
+    }
+    warmupParallelism =
+        getInt(databaseConfig.getProperties(), WARMUP_PARALLELISM, DEFAULT_WARMUP_PARALLELISM);
+    if (warmupParallelism <= 0) {
+      throw new IllegalArgumentException(CoreError.JDBC_INVALID_WARMUP_PARALLELISM.buildMessage());
+    }
+
     tableMetadataConnectionPoolMinIdle =
         getInt(
             databaseConfig.getProperties(),
@@ -199,6 +310,10 @@ public class JdbcConfig {
     return Optional.ofNullable(password);
   }
 
+  public ConnectionPoolType getConnectionPoolType() {
+    return connectionPoolType;
+  }
+
   public int getConnectionPoolMinIdle() {
     return connectionPoolMinIdle;
   }
@@ -250,4 +365,57 @@ public class JdbcConfig {
   public int getAdminConnectionPoolMaxTotal() {
     return adminConnectionPoolMaxTotal;
   }
+
+  public int getScanFetchSize() {
+    return scanFetchSize;
+  }
+
+  public boolean isScanPaginationEnabled() {
+    return scanPaginationEnabled;
+  }
+
+  public int getScanPaginationPageSize() {
+    return scanPaginationPageSize;
+  }
+
+  public int getBulkLoadBatchSize() {
+    return bulkLoadBatchSize;
+  }
+
+  public boolean isTransactionWriteBehindEnabled() {
+    return transactionWriteBehindEnabled;
+  }
+
+  public List<String> getReadReplicaUrls() {
+    return readReplicaUrls;
+  }
+
+  /**
+   * Returns the maximum replication lag of a read replica. A replica that lags behind its primary
+   * more than this is not used until it catches up. A negative value disables the check.
+   *
+   * @return the maximum replication lag in milliseconds
+   */
+  public long getReadReplicaMaxLagMillis() {
+    return readReplicaMaxLagMillis;
+  }
+
+  public long getReadReplicaHealthCheckIntervalMillis() {
+    return readReplicaHealthCheckIntervalMillis;
+  }
+
+  /**
+   * Returns the full names of the tables to warm up at startup. The metadata of the tables is
+   * loaded and the statements of the common operations on them are prepared in the background, so
+   * the first operations don't pay for them. An empty list disables the warm-up.
+   *
+   * @return the full names of the tables in the form of {@code <namespace>.<table>}
+   */
+  public List<String> getWarmupTables() {
+    return warmupTables;
+  }
+
+  public int getWarmupParallelism() {
+    return warmupParallelism;
+  }
 }
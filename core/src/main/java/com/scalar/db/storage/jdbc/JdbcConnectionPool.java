@@ -0,0 +1,31 @@
+package com.scalar.db.storage.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * A pool of JDBC connections. A connection is borrowed from the pool with {@link
+ * #getConnection()}, and it's returned to the pool when it's closed.
+ *
+ * <p>The implementation is chosen with {@link JdbcConfig#CONNECTION_POOL_TYPE}.
+ */
+public interface JdbcConnectionPool extends AutoCloseable {
+
+  /**
+   * Borrows a connection from the pool.
+   *
+   * @return a connection
+   * @throws SQLException if a connection can't be obtained
+   */
+  Connection getConnection() throws SQLException;
+
+  /**
+   * Returns the current metrics of the pool.
+   *
+   * @return the metrics of the pool
+   */
+  JdbcConnectionPoolMetrics getMetrics();
+
+  @Override
+  void close() throws SQLException;
+}
@@ -0,0 +1,61 @@
+package com.scalar.db.storage.jdbc;
+
+import com.google.common.base.MoreObjects;
+import com.scalar.db.util.metrics.HistogramSnapshot;
+import javax.annotation.concurrent.Immutable;
+
+/** A snapshot of the metrics of a {@link JdbcConnectionPool}. */
+@Immutable
+public class JdbcConnectionPoolMetrics {
+  private final int activeConnections;
+  private final int idleConnections;
+  private final int maxConnections;
+  private final HistogramSnapshot waitTimeMillis;
+
+  public JdbcConnectionPoolMetrics(
+      int activeConnections,
+      int idleConnections,
+      int maxConnections,
+      HistogramSnapshot waitTimeMillis) {
+    this.activeConnections = activeConnections;
+    this.idleConnections = idleConnections;
+    this.maxConnections = maxConnections;
+    this.waitTimeMillis = waitTimeMillis;
+  }
+
+  /** @return the number of connections currently borrowed from the pool */
+  public int getActiveConnections() {
+    return activeConnections;
+  }
+
+  /** @return the number of connections currently idle in the pool */
+  public int getIdleConnections() {
+    return idleConnections;
+  }
+
+  /** @return the maximum number of connections of the pool */
+  public int getMaxConnections() {
+    return maxConnections;
+  }
+
+  /** @return the number of borrowed connections divided by the maximum number of connections */
+  public double getUtilization() {
+    return maxConnections > 0 ? (double) activeConnections / maxConnections : 0.0;
+  }
+
+  /** @return the distribution of the time taken to borrow a connection in milliseconds */
+  public HistogramSnapshot getWaitTimeMillis() {
+    return waitTimeMillis;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("activeConnections", activeConnections)
+        .add("idleConnections", idleConnections)
+        .add("maxConnections", maxConnections)
+        .add("utilization", getUtilization())
+        .add("waitTimeMillis", waitTimeMillis)
+        .toString();
+  }
+}
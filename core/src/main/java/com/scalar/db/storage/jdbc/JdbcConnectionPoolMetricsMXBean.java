@@ -0,0 +1,20 @@
+package com.scalar.db.storage.jdbc;
+
+import com.scalar.db.util.metrics.HistogramSnapshot;
+
+/**
+ * The JMX view of the metrics of a {@link JdbcConnectionPool}, published by {@link
+ * JmxJdbcConnectionPoolMetrics}. See {@link JdbcConnectionPoolMetrics} for the meaning of each
+ * attribute.
+ */
+public interface JdbcConnectionPoolMetricsMXBean {
+  int getActiveConnections();
+
+  int getIdleConnections();
+
+  int getMaxConnections();
+
+  double getUtilization();
+
+  HistogramSnapshot getWaitTimeMillis();
+}
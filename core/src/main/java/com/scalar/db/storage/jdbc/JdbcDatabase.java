@@ -2,14 +2,17 @@ package com.scalar.db.storage.jdbc;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Inject;
+import com.scalar.db.api.Consistency;
 import com.scalar.db.api.Delete;
 import com.scalar.db.api.DistributedStorage;
 import com.scalar.db.api.Get;
+import com.scalar.db.api.LockMode;
 import com.scalar.db.api.Mutation;
 import com.scalar.db.api.Put;
 import com.scalar.db.api.Result;
 import com.scalar.db.api.Scan;
 import com.scalar.db.api.Scanner;
+import com.scalar.db.api.Selection;
 import com.scalar.db.common.AbstractDistributedStorage;
 import com.scalar.db.common.TableMetadataManager;
 import com.scalar.db.common.checker.OperationChecker;
@@ -19,20 +22,40 @@ import com.scalar.db.exception.storage.ExecutionException;
 import com.scalar.db.exception.storage.NoMutationException;
 import com.scalar.db.exception.storage.RetriableExecutionException;
 import com.scalar.db.storage.jdbc.query.QueryBuilder;
+import com.scalar.db.util.metrics.JmxOperationMetricsProvider;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
-import org.apache.commons.dbcp2.BasicDataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * A storage implementation with JDBC for {@link DistributedStorage}.
  *
- * <p>Note that the consistency in an operation is always LINEARIZABLE in this implementation. Even
- * if consistency is specified in an operation, it will be ignored.
+ * <p>Note that the consistency in an operation is always LINEARIZABLE in this implementation unless
+ * read replicas are configured. When they are, gets and scans with EVENTUAL or SEQUENTIAL
+ * consistency are balanced across the available replicas, while LINEARIZABLE gets and scans and
+ * all mutations are executed on the primary.
+ *
+ * <p>Gets and scans with a {@link LockMode} other than {@link LockMode#NONE} are rejected in this
+ * implementation, as in the other storages. Each operation is executed in its own transaction, so
+ * the locks would be released as soon as the operation completes. Use the JDBC transaction manager
+ * for locking reads.
+ *
+ * <p>When scan pagination is enabled, a scan fetches its results page by page with keyset
+ * pagination and borrows a connection only while it fetches a page, instead of holding a connection
+ * until the scanner is closed. The scanners of such scans return continuation tokens, with which
+ * the scans can be resumed by {@link #scan(Scan, String)}.
+ *
+ * <p>When tables to warm up are configured, their metadata is loaded, the connection pool is filled
+ * up to its minimum number of idle connections, and the statements of the common operations on the
+ * tables are prepared in the background at startup. {@link #isReady()} tells whether the warm-up is
+ * done, so that a health check can wait for it before routing traffic to the instance.
  *
  * @author Toshihiro Suzuki
  */
@@ -40,10 +63,16 @@ import org.slf4j.LoggerFactory;
 public class JdbcDatabase extends AbstractDistributedStorage {
   private static final Logger logger = LoggerFactory.getLogger(JdbcDatabase.class);
 
-  private final BasicDataSource dataSource;
-  private final BasicDataSource tableMetadataDataSource;
+  private final JdbcConnectionPool connectionPool;
+  private final JdbcConnectionPool tableMetadataConnectionPool;
+  @Nullable private final JmxJdbcConnectionPoolMetrics connectionPoolMetrics;
+  @Nullable private final ReadReplicaRouter readReplicaRouter;
   private final RdbEngineStrategy rdbEngine;
   private final JdbcService jdbcService;
+  private final boolean scanPaginationEnabled;
+  private final int scanPaginationPageSize;
+  private final int bulkLoadBatchSize;
+  @Nullable private final JdbcWarmUp warmUp;
 
   @Inject
   public JdbcDatabase(DatabaseConfig databaseConfig) {
@@ -51,31 +80,108 @@ public class JdbcDatabase extends AbstractDistributedStorage {
     JdbcConfig config = new JdbcConfig(databaseConfig);
 
     rdbEngine = RdbEngineFactory.create(config);
-    dataSource = JdbcUtils.initDataSource(config, rdbEngine);
+    connectionPool = JdbcUtils.initConnectionPool(config, rdbEngine);
+    readReplicaRouter =
+        config.getReadReplicaUrls().isEmpty() ? null : new ReadReplicaRouter(config, rdbEngine);
+    connectionPoolMetrics =
+        JmxOperationMetricsProvider.NAME.equalsIgnoreCase(databaseConfig.getMetricsType())
+            ? new JmxJdbcConnectionPoolMetrics("storage", connectionPool)
+            : null;
 
-    tableMetadataDataSource = JdbcUtils.initDataSourceForTableMetadata(config, rdbEngine);
+    tableMetadataConnectionPool = JdbcUtils.initConnectionPoolForTableMetadata(config, rdbEngine);
     TableMetadataManager tableMetadataManager =
         new TableMetadataManager(
-            new JdbcAdmin(tableMetadataDataSource, config),
+            new JdbcAdmin(tableMetadataConnectionPool, config),
             databaseConfig.getMetadataCacheExpirationTimeSecs());
 
     OperationChecker operationChecker = new OperationChecker(databaseConfig, tableMetadataManager);
     QueryBuilder queryBuilder = new QueryBuilder(rdbEngine);
-    jdbcService = new JdbcService(tableMetadataManager, operationChecker, queryBuilder);
+    jdbcService =
+        new JdbcService(
+            tableMetadataManager,
+            operationChecker,
+            rdbEngine,
+            queryBuilder,
+            config.getScanFetchSize());
+    scanPaginationEnabled = config.isScanPaginationEnabled();
+    scanPaginationPageSize = config.getScanPaginationPageSize();
+    bulkLoadBatchSize = config.getBulkLoadBatchSize();
+    warmUp =
+        config.getWarmupTables().isEmpty()
+            ? null
+            : new JdbcWarmUp(config, connectionPool, tableMetadataManager, jdbcService);
+  }
+
+  @VisibleForTesting
+  JdbcDatabase(
+      DatabaseConfig databaseConfig,
+      JdbcConnectionPool connectionPool,
+      JdbcConnectionPool tableMetadataConnectionPool,
+      RdbEngineStrategy rdbEngine,
+      JdbcService jdbcService) {
+    this(
+        databaseConfig,
+        connectionPool,
+        tableMetadataConnectionPool,
+        null,
+        rdbEngine,
+        jdbcService);
   }
 
   @VisibleForTesting
   JdbcDatabase(
       DatabaseConfig databaseConfig,
-      BasicDataSource dataSource,
-      BasicDataSource tableMetadataDataSource,
+      JdbcConnectionPool connectionPool,
+      JdbcConnectionPool tableMetadataConnectionPool,
+      @Nullable ReadReplicaRouter readReplicaRouter,
       RdbEngineStrategy rdbEngine,
       JdbcService jdbcService) {
+    this(
+        databaseConfig,
+        connectionPool,
+        tableMetadataConnectionPool,
+        readReplicaRouter,
+        rdbEngine,
+        jdbcService,
+        JdbcConfig.DEFAULT_SCAN_PAGINATION_ENABLED,
+        JdbcConfig.DEFAULT_SCAN_PAGINATION_PAGE_SIZE,
+        JdbcConfig.DEFAULT_BULK_LOAD_BATCH_SIZE);
+  }
+
+  @VisibleForTesting
+  JdbcDatabase(
+      DatabaseConfig databaseConfig,
+      JdbcConnectionPool connectionPool,
+      JdbcConnectionPool tableMetadataConnectionPool,
+      @Nullable ReadReplicaRouter readReplicaRouter,
+      RdbEngineStrategy rdbEngine,
+      JdbcService jdbcService,
+      boolean scanPaginationEnabled,
+      int scanPaginationPageSize,
+      int bulkLoadBatchSize) {
     super(databaseConfig);
-    this.dataSource = dataSource;
-    this.tableMetadataDataSource = tableMetadataDataSource;
+    this.connectionPool = connectionPool;
+    this.tableMetadataConnectionPool = tableMetadataConnectionPool;
+    this.readReplicaRouter = readReplicaRouter;
     this.jdbcService = jdbcService;
     this.rdbEngine = rdbEngine;
+    this.scanPaginationEnabled = scanPaginationEnabled;
+    this.scanPaginationPageSize = scanPaginationPageSize;
+    this.bulkLoadBatchSize = bulkLoadBatchSize;
+    warmUp = null;
+    connectionPoolMetrics = null;
+  }
+
+  /**
+   * Returns whether this instance is ready to serve operations at full speed, which is when the
+   * warm-up configured with {@link JdbcConfig#WARMUP_TABLES} is done. Without a warm-up, this
+   * always returns true. Note that operations can be performed before this returns true.
+   *
+   * @return whether this instance is ready
+   */
+  @Override
+  public boolean isReady() {
+    return warmUp == null || warmUp.isDone();
   }
 
   @Override
@@ -83,7 +189,7 @@ public class JdbcDatabase extends AbstractDistributedStorage {
     get = copyAndSetTargetToIfNot(get);
     Connection connection = null;
     try {
-      connection = dataSource.getConnection();
+      connection = getConnection(get);
       return jdbcService.get(get, connection);
     } catch (SQLException e) {
       throw new ExecutionException(
@@ -96,9 +202,17 @@ public class JdbcDatabase extends AbstractDistributedStorage {
   @Override
   public Scanner scan(Scan scan) throws ExecutionException {
     scan = copyAndSetTargetToIfNot(scan);
+    if (scanPaginationEnabled) {
+      Optional<Scanner> scanner = getPaginatedScanner(scan, null);
+      if (scanner.isPresent()) {
+        return scanner.get();
+      }
+      // Fall back to a scanner that holds a connection since the scan can't be paginated
+    }
+
     Connection connection = null;
     try {
-      connection = dataSource.getConnection();
+      connection = getConnection(scan);
       return jdbcService.getScanner(scan, connection);
     } catch (SQLException e) {
       close(connection);
@@ -107,12 +221,28 @@ public class JdbcDatabase extends AbstractDistributedStorage {
     }
   }
 
+  @Override
+  public Scanner scan(Scan scan, String continuationToken) throws ExecutionException {
+    Scan target = copyAndSetTargetToIfNot(scan);
+    return getPaginatedScanner(target, continuationToken)
+        .orElseThrow(
+            () ->
+                new IllegalArgumentException(
+                    CoreError.JDBC_SCAN_NOT_RESUMABLE.buildMessage(target)));
+  }
+
+  private Optional<Scanner> getPaginatedScanner(Scan scan, @Nullable String continuationToken)
+      throws ExecutionException {
+    return jdbcService.getPaginatedScanner(
+        scan, () -> getConnection(scan), scanPaginationPageSize, continuationToken);
+  }
+
   @Override
   public void put(Put put) throws ExecutionException {
     put = copyAndSetTargetToIfNot(put);
     Connection connection = null;
     try {
-      connection = dataSource.getConnection();
+      connection = connectionPool.getConnection();
       if (!jdbcService.put(put, connection)) {
         throw new NoMutationException(CoreError.NO_MUTATION_APPLIED.buildMessage());
       }
@@ -129,12 +259,76 @@ public class JdbcDatabase extends AbstractDistributedStorage {
     mutate(puts);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The puts are loaded in batches of {@code scalar.db.jdbc.bulk_load.batch_size} records, each
+   * of which is committed in a transaction. The records are streamed with {@code COPY ... FROM
+   * STDIN} on PostgreSQL and YugabyteDB and with {@code LOAD DATA LOCAL INFILE} on MySQL, and they
+   * are inserted with batches of INSERT statements on the other databases. {@code LOAD DATA LOCAL
+   * INFILE} requires {@code allowLoadLocalInfile=true} in the JDBC URL and {@code local_infile}
+   * enabled on the server. Otherwise, batches of INSERT statements are used instead.
+   */
+  @Override
+  public long bulkLoad(String namespace, String table, Iterator<Put> puts)
+      throws ExecutionException {
+    long loaded = 0;
+    List<Put> batch = new ArrayList<>();
+    while (puts.hasNext()) {
+      batch.add(puts.next());
+      if (batch.size() == bulkLoadBatchSize || !puts.hasNext()) {
+        bulkLoadBatch(namespace, table, batch);
+        loaded += batch.size();
+        batch.clear();
+      }
+    }
+    return loaded;
+  }
+
+  private void bulkLoadBatch(String namespace, String table, List<Put> puts)
+      throws ExecutionException {
+    Connection connection = null;
+    try {
+      connection = connectionPool.getConnection();
+      connection.setAutoCommit(false);
+    } catch (SQLException e) {
+      close(connection);
+      throw new ExecutionException(
+          CoreError.JDBC_ERROR_OCCURRED_IN_MUTATION.buildMessage(e.getMessage()), e);
+    }
+
+    try {
+      if (!jdbcService.bulkLoad(namespace, table, puts, connection)) {
+        try {
+          connection.rollback();
+        } catch (SQLException e) {
+          throw new ExecutionException(
+              CoreError.JDBC_ERROR_OCCURRED_IN_MUTATION.buildMessage(e.getMessage()), e);
+        }
+        throw new NoMutationException(CoreError.NO_MUTATION_APPLIED.buildMessage());
+      } else {
+        connection.commit();
+      }
+    } catch (SQLException e) {
+      try {
+        connection.rollback();
+      } catch (SQLException sqlException) {
+        throw new ExecutionException(
+            CoreError.JDBC_ERROR_OCCURRED_IN_MUTATION.buildMessage(e.getMessage()), e);
+      }
+      throw new ExecutionException(
+          CoreError.JDBC_ERROR_OCCURRED_IN_MUTATION.buildMessage(e.getMessage()), e);
+    } finally {
+      close(connection);
+    }
+  }
+
   @Override
   public void delete(Delete delete) throws ExecutionException {
     delete = copyAndSetTargetToIfNot(delete);
     Connection connection = null;
     try {
-      connection = dataSource.getConnection();
+      connection = connectionPool.getConnection();
       if (!jdbcService.delete(delete, connection)) {
         throw new NoMutationException(CoreError.NO_MUTATION_APPLIED.buildMessage());
       }
@@ -167,7 +361,7 @@ public class JdbcDatabase extends AbstractDistributedStorage {
     mutations = copyAndSetTargetToIfNot(mutations);
     Connection connection = null;
     try {
-      connection = dataSource.getConnection();
+      connection = connectionPool.getConnection();
       connection.setAutoCommit(false);
     } catch (SQLException e) {
       close(connection);
@@ -208,6 +402,28 @@ public class JdbcDatabase extends AbstractDistributedStorage {
     }
   }
 
+  /**
+   * Returns the metrics of the connection pool for the primary database. When {@link
+   * DatabaseConfig#METRICS_TYPE} is "jmx", the metrics are also published through {@link
+   * JmxJdbcConnectionPoolMetrics}.
+   *
+   * @return the metrics of the connection pool
+   */
+  public JdbcConnectionPoolMetrics getConnectionPoolMetrics() {
+    return connectionPool.getMetrics();
+  }
+
+  private Connection getConnection(Selection selection) throws SQLException {
+    if (readReplicaRouter != null && selection.getConsistency() != Consistency.LINEARIZABLE) {
+      Connection connection = readReplicaRouter.getConnection();
+      if (connection != null) {
+        return connection;
+      }
+      // Fall back to the primary since no replica is available
+    }
+    return connectionPool.getConnection();
+  }
+
   private void close(Connection connection) {
     try {
       if (connection != null) {
@@ -220,15 +436,24 @@ public class JdbcDatabase extends AbstractDistributedStorage {
 
   @Override
   public void close() {
+    if (connectionPoolMetrics != null) {
+      connectionPoolMetrics.close();
+    }
+    if (warmUp != null) {
+      warmUp.close();
+    }
     try {
-      dataSource.close();
+      connectionPool.close();
     } catch (SQLException e) {
-      logger.warn("Failed to close the dataSource", e);
+      logger.warn("Failed to close the connection pool", e);
     }
     try {
-      tableMetadataDataSource.close();
+      tableMetadataConnectionPool.close();
     } catch (SQLException e) {
-      logger.warn("Failed to close the table metadata dataSource", e);
+      logger.warn("Failed to close the table metadata connection pool", e);
+    }
+    if (readReplicaRouter != null) {
+      readReplicaRouter.close();
     }
   }
 }
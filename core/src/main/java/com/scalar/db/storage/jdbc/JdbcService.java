@@ -2,6 +2,7 @@ package com.scalar.db.storage.jdbc;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
+import com.google.common.collect.Iterables;
 import com.scalar.db.api.Delete;
 import com.scalar.db.api.Get;
 import com.scalar.db.api.Mutation;
@@ -15,19 +16,33 @@ import com.scalar.db.common.TableMetadataManager;
 import com.scalar.db.common.checker.OperationChecker;
 import com.scalar.db.common.error.CoreError;
 import com.scalar.db.exception.storage.ExecutionException;
+import com.scalar.db.io.Column;
+import com.scalar.db.io.Key;
 import com.scalar.db.storage.jdbc.query.DeleteQuery;
+import com.scalar.db.storage.jdbc.query.Query;
 import com.scalar.db.storage.jdbc.query.QueryBuilder;
+import com.scalar.db.storage.jdbc.query.QueryUtils;
 import com.scalar.db.storage.jdbc.query.SelectQuery;
 import com.scalar.db.storage.jdbc.query.UpsertQuery;
+import com.scalar.db.util.ScalarDbUtils;
+import com.scalar.db.util.ThrowableSupplier;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
@@ -41,16 +56,22 @@ public class JdbcService {
 
   private final TableMetadataManager tableMetadataManager;
   private final OperationChecker operationChecker;
+  private final RdbEngineStrategy rdbEngine;
   private final QueryBuilder queryBuilder;
+  private final int scanFetchSize;
 
   @SuppressFBWarnings("EI_EXPOSE_REP2")
   public JdbcService(
       TableMetadataManager tableMetadataManager,
       OperationChecker operationChecker,
-      QueryBuilder queryBuilder) {
+      RdbEngineStrategy rdbEngine,
+      QueryBuilder queryBuilder,
+      int scanFetchSize) {
     this.tableMetadataManager = Objects.requireNonNull(tableMetadataManager);
     this.operationChecker = Objects.requireNonNull(operationChecker);
+    this.rdbEngine = Objects.requireNonNull(rdbEngine);
     this.queryBuilder = Objects.requireNonNull(queryBuilder);
+    this.scanFetchSize = scanFetchSize;
   }
 
   public Optional<Result> get(Get get, Connection connection)
@@ -63,6 +84,7 @@ public class JdbcService {
             .select(get.getProjections())
             .from(get.forNamespace().get(), get.forTable().get(), tableMetadata)
             .where(get.getPartitionKey(), get.getClusteringKey(), get.getConjunctions())
+            .lockMode(get.getLockMode())
             .build();
 
     try (PreparedStatement preparedStatement = connection.prepareStatement(selectQuery.sql())) {
@@ -92,6 +114,7 @@ public class JdbcService {
 
     SelectQuery selectQuery = buildSelectQuery(scan, tableMetadata);
     PreparedStatement preparedStatement = connection.prepareStatement(selectQuery.sql());
+    setFetchSize(connection, preparedStatement);
     selectQuery.bind(preparedStatement);
     ResultSet resultSet = preparedStatement.executeQuery();
     return new ScannerImpl(
@@ -109,6 +132,7 @@ public class JdbcService {
 
     SelectQuery selectQuery = buildSelectQuery(scan, tableMetadata);
     try (PreparedStatement preparedStatement = connection.prepareStatement(selectQuery.sql())) {
+      setFetchSize(connection, preparedStatement);
       selectQuery.bind(preparedStatement);
       try (ResultSet resultSet = preparedStatement.executeQuery()) {
         List<Result> ret = new ArrayList<>();
@@ -122,104 +146,388 @@ public class JdbcService {
     }
   }
 
-  private SelectQuery buildSelectQuery(Scan scan, TableMetadata tableMetadata) {
-    if (scan instanceof ScanAll) {
-      return buildSelectQuery((ScanAll) scan, tableMetadata);
+  private void setFetchSize(Connection connection, PreparedStatement preparedStatement)
+      throws SQLException {
+    // A non-positive fetch size means the default behavior of the JDBC driver
+    if (scanFetchSize > 0) {
+      rdbEngine.setFetchSize(connection, preparedStatement, scanFetchSize);
     }
+  }
 
-    return queryBuilder
-        .select(scan.getProjections())
-        .from(scan.forNamespace().get(), scan.forTable().get(), tableMetadata)
-        .where(
-            scan.getPartitionKey(),
-            scan.getStartClusteringKey(),
-            scan.getStartInclusive(),
-            scan.getEndClusteringKey(),
-            scan.getEndInclusive(),
-            scan.getConjunctions())
-        .orderBy(scan.getOrderings())
-        .limit(scan.getLimit())
-        .build();
+  /**
+   * Returns a scanner that fetches the results of the specified scan page by page with keyset
+   * pagination. The scanner borrows a connection from the specified supplier only while it fetches
+   * a page, so it doesn't occupy a connection while the results are iterated.
+   *
+   * @param scan a scan
+   * @param connectionSupplier a supplier of the connections to fetch the pages with
+   * @param pageSize the maximum number of results fetched at a time
+   * @param continuationToken a continuation token to resume the scan from, or null to start the
+   *     scan from the beginning
+   * @return an {@code Optional} with the scanner, or an empty {@code Optional} if the scan can't be
+   *     paginated since it's ordered by columns other than the primary-key columns
+   * @throws ExecutionException if the table metadata can't be retrieved
+   */
+  public Optional<Scanner> getPaginatedScanner(
+      Scan scan,
+      ThrowableSupplier<Connection, SQLException> connectionSupplier,
+      int pageSize,
+      @Nullable String continuationToken)
+      throws ExecutionException {
+    operationChecker.check(scan);
+
+    TableMetadata tableMetadata = tableMetadataManager.getTableMetadata(scan);
+
+    Optional<List<Scan.Ordering>> keyOrderings = getKeyOrderings(scan, tableMetadata);
+    if (!keyOrderings.isPresent()) {
+      return Optional.empty();
+    }
+
+    List<Column<?>> lastKey =
+        continuationToken == null
+            ? Collections.emptyList()
+            : ContinuationToken.decode(
+                continuationToken,
+                scan.forNamespace().get(),
+                scan.forTable().get(),
+                keyOrderings.get(),
+                tableMetadata);
+    return Optional.of(
+        new PaginatedScanner(
+            this,
+            connectionSupplier,
+            scan,
+            tableMetadata,
+            keyOrderings.get(),
+            lastKey,
+            pageSize));
   }
 
-  private SelectQuery buildSelectQuery(ScanAll scan, TableMetadata tableMetadata) {
-    return queryBuilder
-        .select(scan.getProjections())
-        .from(scan.forNamespace().get(), scan.forTable().get(), tableMetadata)
-        .where(scan.getConjunctions())
-        .orderBy(scan.getOrderings())
+  /*
+   * Returns the orderings of the columns that uniquely identify a result of the scan in the order
+   * the scan returns the results, or empty if the order of the scan isn't determined by the
+   * primary-key columns.
+   */
+  private Optional<List<Scan.Ordering>> getKeyOrderings(Scan scan, TableMetadata tableMetadata) {
+    if (scan instanceof ScanAll || ScalarDbUtils.isSecondaryIndexSpecified(scan, tableMetadata)) {
+      // The specified orderings are followed by the rest of the primary-key columns
+      List<Scan.Ordering> keyOrderings = new ArrayList<>(scan.getOrderings());
+      Set<String> orderedColumnNames = new HashSet<>();
+      for (Scan.Ordering ordering : scan.getOrderings()) {
+        if (!tableMetadata.getPartitionKeyNames().contains(ordering.getColumnName())
+            && !tableMetadata.getClusteringKeyNames().contains(ordering.getColumnName())) {
+          return Optional.empty();
+        }
+        orderedColumnNames.add(ordering.getColumnName());
+      }
+      for (String primaryKeyName :
+          Iterables.concat(
+              tableMetadata.getPartitionKeyNames(), tableMetadata.getClusteringKeyNames())) {
+        if (!orderedColumnNames.contains(primaryKeyName)) {
+          keyOrderings.add(Scan.Ordering.asc(primaryKeyName));
+        }
+      }
+      return Optional.of(keyOrderings);
+    }
+
+    // A scan within a partition follows the clustering order
+    return Optional.of(QueryUtils.getClusteringOrderings(scan.getOrderings(), tableMetadata));
+  }
+
+  /**
+   * Fetches a page of a paginated scan.
+   *
+   * @param scan a scan
+   * @param tableMetadata the metadata of the table
+   * @param projections the projections of the page, which must contain the key columns
+   * @param keyOrderings the orderings of the key columns
+   * @param lastKey the values of the key columns of the last result of the previous page, or an
+   *     empty list for the first page
+   * @param limit the maximum number of results in the page
+   * @param connection a connection
+   * @return the results in the page
+   * @throws SQLException if a database access error occurs
+   */
+  List<Result> scanPage(
+      Scan scan,
+      TableMetadata tableMetadata,
+      List<String> projections,
+      List<Scan.Ordering> keyOrderings,
+      List<Column<?>> lastKey,
+      int limit,
+      Connection connection)
+      throws SQLException {
+    SelectQuery selectQuery =
+        createSelectQueryBuilder(scan, tableMetadata, projections)
+            .keyset(keyOrderings, lastKey)
+            .limit(limit)
+            .build();
+    // The fetch size isn't set since a page is loaded into memory anyway
+    try (PreparedStatement preparedStatement = connection.prepareStatement(selectQuery.sql())) {
+      selectQuery.bind(preparedStatement);
+      try (ResultSet resultSet = preparedStatement.executeQuery()) {
+        List<Result> ret = new ArrayList<>();
+        ResultInterpreter resultInterpreter = new ResultInterpreter(projections, tableMetadata);
+        while (resultSet.next()) {
+          ret.add(resultInterpreter.interpret(resultSet));
+        }
+        return ret;
+      }
+    }
+  }
+
+  private SelectQuery buildSelectQuery(Scan scan, TableMetadata tableMetadata) {
+    return createSelectQueryBuilder(scan, tableMetadata, scan.getProjections())
         .limit(scan.getLimit())
         .build();
   }
 
+  private SelectQuery.Builder createSelectQueryBuilder(
+      Scan scan, TableMetadata tableMetadata, List<String> projections) {
+    SelectQuery.Builder builder =
+        queryBuilder
+            .select(projections)
+            .from(scan.forNamespace().get(), scan.forTable().get(), tableMetadata);
+    if (scan instanceof ScanAll) {
+      builder = builder.where(scan.getConjunctions());
+    } else {
+      builder =
+          builder.where(
+              scan.getPartitionKey(),
+              scan.getStartClusteringKey(),
+              scan.getStartInclusive(),
+              scan.getEndClusteringKey(),
+              scan.getEndInclusive(),
+              scan.getConjunctions());
+    }
+    return builder.orderBy(scan.getOrderings()).lockMode(scan.getLockMode());
+  }
+
   public boolean put(Put put, Connection connection) throws SQLException, ExecutionException {
     operationChecker.check(put);
-    return putInternal(put, connection);
+    return mutateInternal(put, connection);
   }
 
-  private boolean putInternal(Put put, Connection connection)
+  public boolean delete(Delete delete, Connection connection)
       throws SQLException, ExecutionException {
-    TableMetadata tableMetadata = tableMetadataManager.getTableMetadata(put);
-
-    if (!put.getCondition().isPresent()) {
-      UpsertQuery upsertQuery =
-          queryBuilder
-              .upsertInto(put.forNamespace().get(), put.forTable().get(), tableMetadata)
-              .values(put.getPartitionKey(), put.getClusteringKey(), put.getColumns())
-              .build();
-      try (PreparedStatement preparedStatement = connection.prepareStatement(upsertQuery.sql())) {
-        upsertQuery.bind(preparedStatement);
-        preparedStatement.executeUpdate();
-        return true;
-      }
+    operationChecker.check(delete);
+    return mutateInternal(delete, connection);
+  }
+
+  private boolean mutateInternal(Mutation mutation, Connection connection)
+      throws SQLException, ExecutionException {
+    MutationBatch batch = new MutationBatch(connection, rdbEngine);
+    batch.add(mutation, buildMutationQuery(mutation));
+    return batch.execute();
+  }
+
+  public boolean mutate(List<? extends Mutation> mutations, Connection connection)
+      throws SQLException, ExecutionException {
+    checkArgument(!mutations.isEmpty(), CoreError.EMPTY_MUTATIONS_SPECIFIED.buildMessage());
+    operationChecker.check(mutations);
+
+    MutationBatch batch = new MutationBatch(connection, rdbEngine);
+    for (Mutation mutation : mutations) {
+      batch.add(mutation, buildMutationQuery(mutation));
+    }
+    return batch.execute();
+  }
+
+  /**
+   * Checks the specified mutation without executing it, so that a mutation whose execution is
+   * deferred is rejected when it's issued.
+   *
+   * @param mutation a put or a delete
+   * @throws ExecutionException if the mutation is invalid or the table metadata can't be retrieved
+   */
+  public void check(Mutation mutation) throws ExecutionException {
+    if (mutation instanceof Put) {
+      operationChecker.check((Put) mutation);
     } else {
-      return new ConditionalMutator(put, tableMetadata, connection, queryBuilder).mutate();
+      assert mutation instanceof Delete;
+      operationChecker.check((Delete) mutation);
     }
   }
 
-  public boolean delete(Delete delete, Connection connection)
+  /**
+   * Executes the specified mutations, which must have been checked with {@link #check(Mutation)},
+   * in batches. Unlike {@link #mutate(List, Connection)}, the mutations can be for multiple
+   * partitions and tables, so the caller is responsible for their atomicity, typically with a
+   * transaction of the connection.
+   *
+   * @param mutations checked mutations
+   * @param connection a connection
+   * @return whether the conditions of all the conditional mutations are satisfied
+   * @throws SQLException if a database access error occurs
+   * @throws ExecutionException if the table metadata can't be retrieved
+   */
+  public boolean mutatePrechecked(List<? extends Mutation> mutations, Connection connection)
       throws SQLException, ExecutionException {
-    operationChecker.check(delete);
-    return deleteInternal(delete, connection);
+    MutationBatch batch = new MutationBatch(connection, rdbEngine);
+    for (Mutation mutation : mutations) {
+      batch.add(mutation, buildMutationQuery(mutation));
+    }
+    return batch.execute();
   }
 
-  private boolean deleteInternal(Delete delete, Connection connection)
+  /**
+   * Loads the records of the specified puts into the table in bulk.
+   *
+   * @param namespace a namespace
+   * @param table a table
+   * @param puts puts for the table
+   * @param connection a connection whose auto-commit mode is disabled
+   * @return whether all the records are loaded, which is false if any of them already exists
+   * @throws SQLException if a database access error occurs
+   * @throws ExecutionException if a put is invalid or the table metadata can't be retrieved
+   */
+  public boolean bulkLoad(String namespace, String table, List<Put> puts, Connection connection)
       throws SQLException, ExecutionException {
-    TableMetadata tableMetadata = tableMetadataManager.getTableMetadata(delete);
-
-    if (!delete.getCondition().isPresent()) {
-      DeleteQuery deleteQuery =
-          queryBuilder
-              .deleteFrom(delete.forNamespace().get(), delete.forTable().get(), tableMetadata)
-              .where(delete.getPartitionKey(), delete.getClusteringKey())
-              .build();
-      try (PreparedStatement preparedStatement = connection.prepareStatement(deleteQuery.sql())) {
-        deleteQuery.bind(preparedStatement);
-        preparedStatement.executeUpdate();
-        return true;
+    checkArgument(!puts.isEmpty(), CoreError.EMPTY_MUTATIONS_SPECIFIED.buildMessage());
+
+    List<Put> targetedPuts = new ArrayList<>(puts.size());
+    for (Put put : puts) {
+      if (!put.forNamespace().isPresent() || !put.forTable().isPresent()) {
+        put =
+            ScalarDbUtils.copyAndSetTargetToIfNot(put, Optional.of(namespace), Optional.of(table));
       }
-    } else {
-      return new ConditionalMutator(delete, tableMetadata, connection, queryBuilder).mutate();
+      if (!put.forNamespace().get().equals(namespace) || !put.forTable().get().equals(table)) {
+        throw new IllegalArgumentException(
+            CoreError.BULK_LOAD_PUT_FOR_ANOTHER_TABLE.buildMessage(
+                ScalarDbUtils.getFullTableName(namespace, table), put));
+      }
+      if (put.getCondition().isPresent()) {
+        throw new IllegalArgumentException(
+            CoreError.BULK_LOAD_CONDITIONAL_PUT_NOT_SUPPORTED.buildMessage(put));
+      }
+      operationChecker.check(put);
+      targetedPuts.add(put);
+    }
+
+    TableMetadata tableMetadata = tableMetadataManager.getTableMetadata(targetedPuts.get(0));
+    BulkLoadBatch batch = new BulkLoadBatch(namespace, table, tableMetadata, targetedPuts);
+    try {
+      return rdbEngine.bulkLoad(connection, batch) == batch.size();
+    } catch (SQLException e) {
+      // Use the exception of the failed statement if any so that its error code can be checked
+      SQLException cause =
+          e instanceof BatchUpdateException && e.getNextException() != null
+              ? e.getNextException()
+              : e;
+      if (rdbEngine.isDuplicateKeyError(cause)) {
+        return false;
+      }
+      throw cause;
     }
   }
 
-  public boolean mutate(List<? extends Mutation> mutations, Connection connection)
+  /**
+   * Prepares the statements of the operations commonly performed on the specified table without
+   * executing them, which are a get and a scan by the primary key, a put of all the columns, and a
+   * delete. This caches their SQL and, when prepared statement pooling is enabled, lets the
+   * connection pool cache the prepared statements of the connection.
+   *
+   * @param namespace a namespace
+   * @param table a table
+   * @param connection a connection
+   * @throws SQLException if a database access error occurs
+   * @throws ExecutionException if the table metadata can't be retrieved
+   */
+  public void prepareStatements(String namespace, String table, Connection connection)
       throws SQLException, ExecutionException {
-    checkArgument(!mutations.isEmpty(), CoreError.EMPTY_MUTATIONS_SPECIFIED.buildMessage());
-    operationChecker.check(mutations);
+    TableMetadata tableMetadata = tableMetadataManager.getTableMetadata(namespace, table);
+    if (tableMetadata == null) {
+      throw new IllegalArgumentException(
+          CoreError.TABLE_NOT_FOUND.buildMessage(ScalarDbUtils.getFullTableName(namespace, table)));
+    }
 
-    for (Mutation mutation : mutations) {
-      if (mutation instanceof Put) {
-        if (!putInternal((Put) mutation, connection)) {
-          return false;
-        }
-      } else {
-        assert mutation instanceof Delete;
-        if (!deleteInternal((Delete) mutation, connection)) {
-          return false;
-        }
+    // The SQL doesn't depend on the values, so null values are used as placeholders
+    Key partitionKey = createNullKey(tableMetadata.getPartitionKeyNames(), tableMetadata);
+    Optional<Key> clusteringKey =
+        tableMetadata.getClusteringKeyNames().isEmpty()
+            ? Optional.empty()
+            : Optional.of(createNullKey(tableMetadata.getClusteringKeyNames(), tableMetadata));
+    Map<String, Column<?>> columns = new LinkedHashMap<>();
+    for (String columnName : tableMetadata.getColumnNames()) {
+      if (!tableMetadata.getPartitionKeyNames().contains(columnName)
+          && !tableMetadata.getClusteringKeyNames().contains(columnName)) {
+        columns.put(
+            columnName,
+            BulkLoadBatch.createNullColumn(
+                columnName, tableMetadata.getColumnDataType(columnName)));
       }
     }
-    return true;
+
+    List<Query> queries = new ArrayList<>();
+    queries.add(
+        queryBuilder
+            .select(Collections.emptyList())
+            .from(namespace, table, tableMetadata)
+            .where(partitionKey, clusteringKey, Collections.emptySet())
+            .build());
+    queries.add(
+        queryBuilder
+            .select(Collections.emptyList())
+            .from(namespace, table, tableMetadata)
+            .where(
+                partitionKey,
+                Optional.empty(),
+                false,
+                Optional.empty(),
+                false,
+                Collections.emptySet())
+            .orderBy(Collections.emptyList())
+            .build());
+    queries.add(
+        queryBuilder
+            .upsertInto(namespace, table, tableMetadata)
+            .values(partitionKey, clusteringKey, columns)
+            .build());
+    queries.add(
+        queryBuilder
+            .deleteFrom(namespace, table, tableMetadata)
+            .where(partitionKey, clusteringKey)
+            .build());
+
+    for (Query query : queries) {
+      try (PreparedStatement ignored = connection.prepareStatement(query.sql())) {
+        // Preparing the statement is enough
+      }
+    }
+  }
+
+  private Key createNullKey(Collection<String> columnNames, TableMetadata tableMetadata) {
+    Key.Builder builder = Key.newBuilder();
+    for (String columnName : columnNames) {
+      builder.add(
+          BulkLoadBatch.createNullColumn(columnName, tableMetadata.getColumnDataType(columnName)));
+    }
+    return builder.build();
+  }
+
+  private Query buildMutationQuery(Mutation mutation) throws ExecutionException {
+    TableMetadata tableMetadata = tableMetadataManager.getTableMetadata(mutation);
+    if (mutation.getCondition().isPresent()) {
+      return new ConditionalQueryBuilder(mutation, tableMetadata, queryBuilder).build();
+    }
+    if (mutation instanceof Put) {
+      return buildUpsertQuery((Put) mutation, tableMetadata);
+    }
+    assert mutation instanceof Delete;
+    return buildDeleteQuery((Delete) mutation, tableMetadata);
+  }
+
+  private UpsertQuery buildUpsertQuery(Put put, TableMetadata tableMetadata) {
+    return queryBuilder
+        .upsertInto(put.forNamespace().get(), put.forTable().get(), tableMetadata)
+        .values(put.getPartitionKey(), put.getClusteringKey(), put.getColumns())
+        .build();
+  }
+
+  private DeleteQuery buildDeleteQuery(Delete delete, TableMetadata tableMetadata) {
+    return queryBuilder
+        .deleteFrom(delete.forNamespace().get(), delete.forTable().get(), tableMetadata)
+        .where(delete.getPartitionKey(), delete.getClusteringKey())
+        .build();
   }
 }
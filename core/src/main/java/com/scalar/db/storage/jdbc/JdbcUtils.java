@@ -1,5 +1,8 @@
 package com.scalar.db.storage.jdbc;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
 import java.sql.Connection;
 import java.sql.JDBCType;
 import org.apache.commons.dbcp2.BasicDataSource;
@@ -7,6 +10,111 @@ import org.apache.commons.dbcp2.BasicDataSource;
 public final class JdbcUtils {
   private JdbcUtils() {}
 
+  public static JdbcConnectionPool initConnectionPool(
+      JdbcConfig config, RdbEngineStrategy rdbEngine) {
+    return initConnectionPool(config, rdbEngine, false);
+  }
+
+  public static JdbcConnectionPool initConnectionPool(
+      JdbcConfig config, RdbEngineStrategy rdbEngine, boolean transactional) {
+    if (config.getConnectionPoolType() == ConnectionPoolType.HIKARI) {
+      return new HikariConnectionPool(
+          new HikariDataSource(createHikariConfig(config, rdbEngine, transactional)));
+    }
+    return new Dbcp2ConnectionPool(initDataSource(config, rdbEngine, transactional));
+  }
+
+  public static JdbcConnectionPool initConnectionPoolForReadReplica(
+      JdbcConfig config, RdbEngineStrategy rdbEngine, String jdbcUrl) {
+    if (config.getConnectionPoolType() == ConnectionPoolType.HIKARI) {
+      HikariConfig hikariConfig = createHikariConfig(config, rdbEngine, false);
+      hikariConfig.setJdbcUrl(jdbcUrl);
+      hikariConfig.setReadOnly(true);
+      return new HikariConnectionPool(new HikariDataSource(hikariConfig));
+    }
+    return new Dbcp2ConnectionPool(initDataSourceForReadReplica(config, rdbEngine, jdbcUrl));
+  }
+
+  public static JdbcConnectionPool initConnectionPoolForTableMetadata(
+      JdbcConfig config, RdbEngineStrategy rdbEngine) {
+    if (config.getConnectionPoolType() == ConnectionPoolType.HIKARI) {
+      return new HikariConnectionPool(
+          new HikariDataSource(
+              createHikariConfig(
+                  config,
+                  rdbEngine,
+                  config.getTableMetadataConnectionPoolMinIdle(),
+                  config.getTableMetadataConnectionPoolMaxTotal())));
+    }
+    return new Dbcp2ConnectionPool(initDataSourceForTableMetadata(config, rdbEngine));
+  }
+
+  public static JdbcConnectionPool initConnectionPoolForAdmin(
+      JdbcConfig config, RdbEngineStrategy rdbEngine) {
+    if (config.getConnectionPoolType() == ConnectionPoolType.HIKARI) {
+      return new HikariConnectionPool(
+          new HikariDataSource(
+              createHikariConfig(
+                  config,
+                  rdbEngine,
+                  config.getAdminConnectionPoolMinIdle(),
+                  config.getAdminConnectionPoolMaxTotal())));
+    }
+    return new Dbcp2ConnectionPool(initDataSourceForAdmin(config, rdbEngine));
+  }
+
+  @VisibleForTesting
+  static HikariConfig createHikariConfig(
+      JdbcConfig config, RdbEngineStrategy rdbEngine, boolean transactional) {
+    HikariConfig hikariConfig =
+        createHikariConfig(
+            config,
+            rdbEngine,
+            config.getConnectionPoolMinIdle(),
+            config.getConnectionPoolMaxTotal());
+
+    if (transactional) {
+      hikariConfig.setAutoCommit(false);
+      // if transactional, the default isolation level is SERIALIZABLE
+      hikariConfig.setTransactionIsolation("TRANSACTION_SERIALIZABLE");
+    }
+
+    // The names of the isolation levels are the same as those of the constants in Connection
+    config
+        .getIsolation()
+        .ifPresent(isolation -> hikariConfig.setTransactionIsolation("TRANSACTION_" + isolation));
+
+    rdbEngine.getConnectionProperties(config).forEach(hikariConfig::addDataSourceProperty);
+
+    // HikariCP doesn't pool prepared statements. Use the statement cache of the JDBC driver
+    // instead, e.g., "cachePrepStmts=true" for MySQL Connector/J
+    return hikariConfig;
+  }
+
+  private static HikariConfig createHikariConfig(
+      JdbcConfig config, RdbEngineStrategy rdbEngine, int minIdle, int maxTotal) {
+    HikariConfig hikariConfig = new HikariConfig();
+
+    // HikariCP connects through the driver directly instead of java.sql.DriverManager, so the
+    // "No suitable driver" error doesn't occur as long as the driver class can be loaded
+    hikariConfig.setDriverClassName(rdbEngine.getDriver().getClass().getName());
+
+    hikariConfig.setJdbcUrl(config.getJdbcUrl());
+    config.getUsername().ifPresent(hikariConfig::setUsername);
+    config.getPassword().ifPresent(hikariConfig::setPassword);
+
+    hikariConfig.setMinimumIdle(minIdle);
+    // A non-positive max total means no limit in DBCP2, but HikariCP requires a limit, and it
+    // allocates resources in proportion to it. Use the default max total of the main pool instead
+    hikariConfig.setMaximumPoolSize(
+        maxTotal > 0 ? maxTotal : JdbcConfig.DEFAULT_CONNECTION_POOL_MAX_TOTAL);
+
+    // Start the pool without connecting to the database in the same way as DBCP2, which creates
+    // connections lazily
+    hikariConfig.setInitializationFailTimeout(-1);
+    return hikariConfig;
+  }
+
   public static BasicDataSource initDataSource(JdbcConfig config, RdbEngineStrategy rdbEngine) {
     return initDataSource(config, rdbEngine, false);
   }
@@ -61,6 +169,24 @@ public final class JdbcUtils {
     dataSource.setMaxTotal(config.getConnectionPoolMaxTotal());
     dataSource.setPoolPreparedStatements(config.isPreparedStatementsPoolEnabled());
     dataSource.setMaxOpenPreparedStatements(config.getPreparedStatementsPoolMaxOpen());
+    rdbEngine.getConnectionProperties(config).forEach(dataSource::addConnectionProperty);
+    return dataSource;
+  }
+
+  /**
+   * Creates a data source for a read replica. It's configured in the same way as the data source
+   * for the primary except for the JDBC URL, and its connections are read-only.
+   *
+   * @param config a JDBC config
+   * @param rdbEngine an RDB engine
+   * @param jdbcUrl the JDBC URL of the read replica
+   * @return a data source for the read replica
+   */
+  public static BasicDataSource initDataSourceForReadReplica(
+      JdbcConfig config, RdbEngineStrategy rdbEngine, String jdbcUrl) {
+    BasicDataSource dataSource = initDataSource(config, rdbEngine);
+    dataSource.setUrl(jdbcUrl);
+    dataSource.setDefaultReadOnly(true);
     return dataSource;
   }
 
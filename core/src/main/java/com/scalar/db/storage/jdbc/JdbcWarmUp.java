@@ -0,0 +1,186 @@
+package com.scalar.db.storage.jdbc;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.scalar.db.common.TableMetadataManager;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.annotation.concurrent.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A warm-up that runs in the background at startup so that the first operations don't pay for
+ * loading table metadata, opening connections, and preparing statements. It loads the metadata of
+ * the specified tables in parallel, a namespace at a time, and then opens as many connections as
+ * the minimum number of idle connections of the pool and prepares the statements of the common
+ * operations on the tables on each of them.
+ *
+ * <p>The warm-up is best effort. A failure is logged and the rest of the warm-up continues, since
+ * the operations load what they need on demand anyway.
+ */
+@ThreadSafe
+class JdbcWarmUp implements Closeable {
+  private static final Logger logger = LoggerFactory.getLogger(JdbcWarmUp.class);
+
+  private final List<String> tables;
+  private final int connections;
+  private final JdbcConnectionPool connectionPool;
+  private final TableMetadataManager tableMetadataManager;
+  private final JdbcService jdbcService;
+  private final ExecutorService executor;
+  private final CompletableFuture<Void> completion;
+
+  JdbcWarmUp(
+      JdbcConfig config,
+      JdbcConnectionPool connectionPool,
+      TableMetadataManager tableMetadataManager,
+      JdbcService jdbcService) {
+    this(
+        config.getWarmupTables(),
+        config.getConnectionPoolMinIdle(),
+        config.getWarmupParallelism(),
+        connectionPool,
+        tableMetadataManager,
+        jdbcService);
+  }
+
+  /**
+   * Constructs a warm-up and starts it.
+   *
+   * @param tables the full names of the tables to warm up
+   * @param connections the number of connections to open
+   * @param parallelism the number of threads to load the table metadata with
+   * @param connectionPool a connection pool
+   * @param tableMetadataManager a table metadata manager
+   * @param jdbcService a JDBC service
+   */
+  @VisibleForTesting
+  JdbcWarmUp(
+      List<String> tables,
+      int connections,
+      int parallelism,
+      JdbcConnectionPool connectionPool,
+      TableMetadataManager tableMetadataManager,
+      JdbcService jdbcService) {
+    this.tables = tables;
+    this.connections = connections;
+    this.connectionPool = connectionPool;
+    this.tableMetadataManager = tableMetadataManager;
+    this.jdbcService = jdbcService;
+
+    executor =
+        Executors.newFixedThreadPool(
+            parallelism,
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("jdbc-warm-up-%d").build());
+    CompletableFuture<?>[] metadataLoads =
+        tables.stream()
+            .collect(Collectors.groupingBy(JdbcWarmUp::namespace, Collectors.toList()))
+            .entrySet()
+            .stream()
+            .map(
+                e ->
+                    CompletableFuture.runAsync(
+                        () -> loadTablesMetadata(e.getKey(), e.getValue()), executor))
+            .toArray(CompletableFuture[]::new);
+    completion =
+        CompletableFuture.allOf(metadataLoads)
+            .thenRunAsync(this::warmUpConnections, executor)
+            .whenComplete(
+                (r, e) -> {
+                  executor.shutdown();
+                  if (e != null) {
+                    logger.warn("The warm-up was aborted", e);
+                  } else {
+                    logger.info("The warm-up is done");
+                  }
+                });
+  }
+
+  private void loadTablesMetadata(String namespace, List<String> fullTableNames) {
+    try {
+      // Load the metadata of all the tables in the namespace at once
+      tableMetadataManager.loadTablesMetadata(namespace);
+    } catch (Exception e) {
+      logger.warn("Failed to load the table metadata. Namespace: {}", namespace, e);
+    }
+    for (String fullTableName : fullTableNames) {
+      try {
+        if (tableMetadataManager.getTableMetadata(namespace, table(fullTableName)) == null) {
+          logger.warn("The table to warm up doesn't exist. Table: {}", fullTableName);
+        }
+      } catch (Exception e) {
+        logger.warn("Failed to load the table metadata. Table: {}", fullTableName, e);
+      }
+    }
+  }
+
+  private void warmUpConnections() {
+    // Hold the connections until all of them are borrowed so that the pool opens distinct ones
+    List<Connection> borrowed = new ArrayList<>(connections);
+    try {
+      for (int i = 0; i < connections; i++) {
+        Connection connection = connectionPool.getConnection();
+        borrowed.add(connection);
+        for (String table : tables) {
+          prepareStatements(table, connection);
+        }
+      }
+    } catch (SQLException e) {
+      logger.warn("Failed to open a connection", e);
+    } finally {
+      for (Connection connection : borrowed) {
+        try {
+          connection.close();
+        } catch (SQLException e) {
+          logger.warn("Failed to close the connection", e);
+        }
+      }
+    }
+  }
+
+  private void prepareStatements(String fullTableName, Connection connection) {
+    try {
+      jdbcService.prepareStatements(namespace(fullTableName), table(fullTableName), connection);
+    } catch (Exception e) {
+      logger.warn("Failed to prepare the statements. Table: {}", fullTableName, e);
+    }
+  }
+
+  private static String namespace(String fullTableName) {
+    return fullTableName.substring(0, fullTableName.indexOf('.'));
+  }
+
+  private static String table(String fullTableName) {
+    return fullTableName.substring(fullTableName.indexOf('.') + 1);
+  }
+
+  /**
+   * Returns whether the warm-up is done, either because it completed or because it was aborted by
+   * {@link #close()}.
+   *
+   * @return whether the warm-up is done
+   */
+  boolean isDone() {
+    return completion.isDone();
+  }
+
+  @VisibleForTesting
+  CompletableFuture<Void> getCompletion() {
+    return completion;
+  }
+
+  @Override
+  public void close() {
+    MoreExecutors.shutdownAndAwaitTermination(executor, 10, TimeUnit.SECONDS);
+  }
+}
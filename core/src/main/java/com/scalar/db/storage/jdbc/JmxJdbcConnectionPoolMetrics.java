@@ -0,0 +1,107 @@
+package com.scalar.db.storage.jdbc;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.scalar.db.util.metrics.HistogramSnapshot;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Publishes the metrics of a {@link JdbcConnectionPool} as an MXBean named {@code
+ * com.scalar.db:type=JdbcConnectionPool,name=<label>,id=<id>} on the platform MBean server. The
+ * attributes are read from the pool when they are accessed, and the MXBean is unregistered when
+ * this is closed.
+ */
+@ThreadSafe
+public class JmxJdbcConnectionPoolMetrics implements JdbcConnectionPoolMetricsMXBean {
+  private static final Logger logger = LoggerFactory.getLogger(JmxJdbcConnectionPoolMetrics.class);
+  private static final AtomicInteger INSTANCE_ID = new AtomicInteger();
+
+  private final JdbcConnectionPool connectionPool;
+  @Nullable private final MBeanServer mBeanServer;
+  @Nullable private final ObjectName objectName;
+
+  /**
+   * Registers the MXBean of the specified pool on the platform MBean server.
+   *
+   * @param label a label used for the MXBean name, e.g. "storage"
+   * @param connectionPool a connection pool
+   */
+  public JmxJdbcConnectionPoolMetrics(String label, JdbcConnectionPool connectionPool) {
+    this(label, connectionPool, ManagementFactory.getPlatformMBeanServer());
+  }
+
+  @VisibleForTesting
+  JmxJdbcConnectionPoolMetrics(
+      String label, JdbcConnectionPool connectionPool, @Nullable MBeanServer mBeanServer) {
+    this.connectionPool = connectionPool;
+    this.mBeanServer = mBeanServer;
+    this.objectName = mBeanServer == null ? null : register(label, mBeanServer);
+  }
+
+  @Nullable
+  private ObjectName register(String label, MBeanServer mBeanServer) {
+    try {
+      ObjectName name =
+          new ObjectName(
+              String.format(
+                  "com.scalar.db:type=JdbcConnectionPool,name=%s,id=%d",
+                  ObjectName.quote(label), INSTANCE_ID.incrementAndGet()));
+      mBeanServer.registerMBean(this, name);
+      return name;
+    } catch (JMException e) {
+      // The metrics are still available from the pool, so don't fail because of JMX.
+      logger.warn("Failed to register the connection pool metrics MXBean. Label: {}", label, e);
+      return null;
+    }
+  }
+
+  @VisibleForTesting
+  @Nullable
+  ObjectName getObjectName() {
+    return objectName;
+  }
+
+  @Override
+  public int getActiveConnections() {
+    return connectionPool.getMetrics().getActiveConnections();
+  }
+
+  @Override
+  public int getIdleConnections() {
+    return connectionPool.getMetrics().getIdleConnections();
+  }
+
+  @Override
+  public int getMaxConnections() {
+    return connectionPool.getMetrics().getMaxConnections();
+  }
+
+  @Override
+  public double getUtilization() {
+    return connectionPool.getMetrics().getUtilization();
+  }
+
+  @Override
+  public HistogramSnapshot getWaitTimeMillis() {
+    return connectionPool.getMetrics().getWaitTimeMillis();
+  }
+
+  public void close() {
+    if (mBeanServer == null || objectName == null) {
+      return;
+    }
+    try {
+      mBeanServer.unregisterMBean(objectName);
+    } catch (JMException e) {
+      logger.warn(
+          "Failed to unregister the connection pool metrics MXBean. Name: {}", objectName, e);
+    }
+  }
+}
@@ -0,0 +1,157 @@
+package com.scalar.db.storage.jdbc;
+
+import com.scalar.db.api.Mutation;
+import com.scalar.db.api.PutIfNotExists;
+import com.scalar.db.storage.jdbc.query.Query;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A batch of the queries for mutations. The queries are grouped by their SQL, and each group is
+ * executed with a single prepared statement through {@link PreparedStatement#addBatch()} and {@link
+ * PreparedStatement#executeBatch()}, which saves the round trips of preparing and executing a
+ * statement for every record. JDBC drivers such as MySQL Connector/J with {@code
+ * rewriteBatchedStatements=true} and the PostgreSQL driver with {@code reWriteBatchedInserts=true}
+ * can further rewrite a batch into multi-row statements.
+ *
+ * <p>The condition of a conditional update or delete is checked with the update count of its query.
+ * Since drivers that rewrite a batch return {@link Statement#SUCCESS_NO_INFO} instead of the update
+ * count of each query, such queries are executed one by one, reusing the prepared statement of
+ * their group. The condition of {@link PutIfNotExists} is checked with a duplicate key error, so it
+ * is batched like unconditional mutations.
+ *
+ * <p>Since grouping reorders the queries, a batch is executed before a query for a record that it
+ * already contains is added, so the mutations for the same record are applied in order.
+ */
+@SuppressFBWarnings("OBL_UNSATISFIED_OBLIGATION")
+@NotThreadSafe
+class MutationBatch {
+  private final Connection connection;
+  private final RdbEngineStrategy rdbEngine;
+  private final Map<String, List<Entry>> entries = new LinkedHashMap<>();
+  private final Set<List<Object>> primaryKeys = new HashSet<>();
+  private boolean failed;
+
+  @SuppressFBWarnings("EI_EXPOSE_REP2")
+  MutationBatch(Connection connection, RdbEngineStrategy rdbEngine) {
+    this.connection = connection;
+    this.rdbEngine = rdbEngine;
+  }
+
+  /**
+   * Adds the query for the specified mutation to this batch.
+   *
+   * @param mutation a mutation
+   * @param query the query for the mutation
+   * @throws SQLException if executing the pending queries fails
+   */
+  void add(Mutation mutation, Query query) throws SQLException {
+    if (failed) {
+      return;
+    }
+
+    List<Object> primaryKey =
+        Arrays.asList(
+            mutation.forFullTableName().orElse(null),
+            mutation.getPartitionKey(),
+            mutation.getClusteringKey().orElse(null));
+    if (!primaryKeys.add(primaryKey)) {
+      if (!executePending()) {
+        failed = true;
+        return;
+      }
+      primaryKeys.add(primaryKey);
+    }
+    entries.computeIfAbsent(query.sql(), k -> new ArrayList<>()).add(new Entry(mutation, query));
+  }
+
+  /**
+   * Executes the queries in this batch.
+   *
+   * @return whether the conditions of all the conditional mutations are satisfied
+   * @throws SQLException if executing the queries fails
+   */
+  boolean execute() throws SQLException {
+    if (failed) {
+      return false;
+    }
+    return executePending();
+  }
+
+  private boolean executePending() throws SQLException {
+    try {
+      for (Map.Entry<String, List<Entry>> group : entries.entrySet()) {
+        if (!execute(group.getKey(), group.getValue())) {
+          return false;
+        }
+      }
+      return true;
+    } finally {
+      entries.clear();
+      primaryKeys.clear();
+    }
+  }
+
+  private boolean execute(String sql, List<Entry> group) throws SQLException {
+    try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+      if (group.size() == 1 || group.stream().anyMatch(entry -> entry.checksUpdateCount)) {
+        for (Entry entry : group) {
+          entry.query.bind(preparedStatement);
+          if (!entry.isApplied(preparedStatement.executeUpdate())) {
+            return false;
+          }
+        }
+        return true;
+      }
+
+      for (Entry entry : group) {
+        entry.query.bind(preparedStatement);
+        preparedStatement.addBatch();
+      }
+      // The update counts are not checked since none of the queries in the group needs them
+      preparedStatement.executeBatch();
+      return true;
+    } catch (SQLException e) {
+      // Use the exception of the failed statement if any so that its error code can be checked
+      SQLException cause =
+          e instanceof BatchUpdateException && e.getNextException() != null
+              ? e.getNextException()
+              : e;
+      if (group.stream().anyMatch(entry -> entry.ifNotExists)
+          && rdbEngine.isDuplicateKeyError(cause)) {
+        // The record already exists, so the condition of the PutIfNotExists is not satisfied
+        return false;
+      }
+      throw cause;
+    }
+  }
+
+  private static class Entry {
+    private final Query query;
+    private final boolean checksUpdateCount;
+    private final boolean ifNotExists;
+
+    private Entry(Mutation mutation, Query query) {
+      this.query = query;
+      ifNotExists = mutation.getCondition().orElse(null) instanceof PutIfNotExists;
+      // A conditional update or delete is applied only when it updates the record
+      checksUpdateCount = mutation.getCondition().isPresent() && !ifNotExists;
+    }
+
+    private boolean isApplied(int updateCount) {
+      return !checksUpdateCount || updateCount > 0;
+    }
+  }
+}
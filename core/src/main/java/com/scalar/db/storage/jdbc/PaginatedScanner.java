@@ -0,0 +1,185 @@
+package com.scalar.db.storage.jdbc;
+
+import com.scalar.db.api.Result;
+import com.scalar.db.api.Scan;
+import com.scalar.db.api.Scanner;
+import com.scalar.db.api.TableMetadata;
+import com.scalar.db.common.ProjectedResult;
+import com.scalar.db.common.ScannerIterator;
+import com.scalar.db.common.error.CoreError;
+import com.scalar.db.exception.storage.ExecutionException;
+import com.scalar.db.io.Column;
+import com.scalar.db.util.ThrowableSupplier;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A scanner that fetches the results page by page with keyset pagination. Each page is fetched with
+ * a query that selects the results after the key of the last result of the previous page, so a
+ * connection is borrowed only while a page is fetched and the scan can be resumed from a
+ * continuation token.
+ *
+ * <p>Note that each page sees the records at the time it's fetched, so the results don't
+ * necessarily reflect a single point in time.
+ */
+@NotThreadSafe
+public class PaginatedScanner implements Scanner {
+  private static final Logger logger = LoggerFactory.getLogger(PaginatedScanner.class);
+
+  private final JdbcService jdbcService;
+  private final ThrowableSupplier<Connection, SQLException> connectionSupplier;
+  private final Scan scan;
+  private final TableMetadata tableMetadata;
+  private final List<Scan.Ordering> keyOrderings;
+  private final List<String> projections;
+  private final int pageSize;
+  @Nullable private Integer left = null;
+
+  private List<Column<?>> lastKey;
+  private Iterator<Result> page = Collections.emptyIterator();
+  private boolean lastPage;
+
+  private ScannerIterator scannerIterator;
+
+  @SuppressFBWarnings("EI_EXPOSE_REP2")
+  public PaginatedScanner(
+      JdbcService jdbcService,
+      ThrowableSupplier<Connection, SQLException> connectionSupplier,
+      Scan scan,
+      TableMetadata tableMetadata,
+      List<Scan.Ordering> keyOrderings,
+      List<Column<?>> lastKey,
+      int pageSize) {
+    this.jdbcService = jdbcService;
+    this.connectionSupplier = connectionSupplier;
+    this.scan = scan;
+    this.tableMetadata = tableMetadata;
+    this.keyOrderings = keyOrderings;
+    this.lastKey = lastKey;
+    this.pageSize = pageSize;
+    if (scan.getLimit() > 0) {
+      left = scan.getLimit();
+    }
+
+    // The key columns are necessary to fetch the next page
+    if (scan.getProjections().isEmpty()) {
+      projections = Collections.emptyList();
+    } else {
+      projections = new ArrayList<>(scan.getProjections());
+      for (Scan.Ordering ordering : keyOrderings) {
+        if (!projections.contains(ordering.getColumnName())) {
+          projections.add(ordering.getColumnName());
+        }
+      }
+    }
+  }
+
+  @Override
+  public Optional<Result> one() throws ExecutionException {
+    if (left != null && left == 0) {
+      return Optional.empty();
+    }
+    if (!page.hasNext()) {
+      if (lastPage) {
+        return Optional.empty();
+      }
+      fetchNextPage();
+      if (!page.hasNext()) {
+        return Optional.empty();
+      }
+    }
+
+    Result result = page.next();
+    List<Column<?>> key = new ArrayList<>(keyOrderings.size());
+    for (Scan.Ordering ordering : keyOrderings) {
+      key.add(result.getColumns().get(ordering.getColumnName()));
+    }
+    lastKey = key;
+    if (left != null) {
+      left--;
+    }
+
+    if (projections.size() == scan.getProjections().size()) {
+      return Optional.of(result);
+    }
+    return Optional.of(new ProjectedResult(result, scan.getProjections()));
+  }
+
+  private void fetchNextPage() throws ExecutionException {
+    int limit = left == null ? pageSize : Math.min(pageSize, left);
+    List<Result> results;
+    Connection connection = null;
+    try {
+      connection = connectionSupplier.get();
+      results =
+          jdbcService.scanPage(
+              scan, tableMetadata, projections, keyOrderings, lastKey, limit, connection);
+    } catch (SQLException e) {
+      throw new ExecutionException(
+          CoreError.JDBC_ERROR_OCCURRED_IN_SELECTION.buildMessage(e.getMessage()), e);
+    } finally {
+      close(connection);
+    }
+
+    // Without key columns, a scan returns at most one result, which can't be paginated further
+    lastPage = results.size() < limit || keyOrderings.isEmpty();
+    page = results.iterator();
+  }
+
+  private void close(@Nullable Connection connection) {
+    try {
+      if (connection != null) {
+        connection.close();
+      }
+    } catch (SQLException e) {
+      logger.warn("Failed to close the connection", e);
+    }
+  }
+
+  @Override
+  public List<Result> all() throws ExecutionException {
+    List<Result> ret = new ArrayList<>();
+    while (true) {
+      Optional<Result> one = one();
+      if (!one.isPresent()) {
+        break;
+      }
+      ret.add(one.get());
+    }
+    return ret;
+  }
+
+  @Override
+  public Optional<String> getContinuationToken() {
+    if (lastPage && !page.hasNext()) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        ContinuationToken.encode(scan.forNamespace().get(), scan.forTable().get(), lastKey));
+  }
+
+  @Override
+  @Nonnull
+  public Iterator<Result> iterator() {
+    if (scannerIterator == null) {
+      scannerIterator = new ScannerIterator(this);
+    }
+    return scannerIterator;
+  }
+
+  @Override
+  public void close() {
+    // No connection is held between pages
+  }
+}
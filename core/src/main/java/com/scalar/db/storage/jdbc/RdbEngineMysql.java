@@ -1,18 +1,33 @@
 package com.scalar.db.storage.jdbc;
 
+import com.google.common.io.BaseEncoding;
+import com.mysql.cj.jdbc.JdbcStatement;
 import com.scalar.db.api.LikeExpression;
+import com.scalar.db.api.LockMode;
 import com.scalar.db.api.TableMetadata;
 import com.scalar.db.common.error.CoreError;
 import com.scalar.db.exception.storage.ExecutionException;
+import com.scalar.db.io.Column;
 import com.scalar.db.io.DataType;
 import com.scalar.db.storage.jdbc.query.InsertOnDuplicateKeyUpdateQuery;
 import com.scalar.db.storage.jdbc.query.SelectQuery;
 import com.scalar.db.storage.jdbc.query.SelectWithLimitQuery;
 import com.scalar.db.storage.jdbc.query.UpsertQuery;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
 import java.sql.Driver;
 import java.sql.JDBCType;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
@@ -21,6 +36,10 @@ import org.slf4j.LoggerFactory;
 
 class RdbEngineMysql implements RdbEngineStrategy {
   private static final Logger logger = LoggerFactory.getLogger(RdbEngineMysql.class);
+  private static final String USE_CURSOR_FETCH = "useCursorFetch";
+
+  // Set once loading local data turns out to be disabled so that it isn't tried for every batch
+  private volatile boolean loadDataLocalDisabled;
 
   @Override
   public String[] createSchemaSqls(String fullSchema) {
@@ -127,6 +146,16 @@ class RdbEngineMysql implements RdbEngineStrategy {
     return new InsertOnDuplicateKeyUpdateQuery(builder);
   }
 
+  @Override
+  public String getLockingClause(LockMode lockMode) {
+    if (lockMode == LockMode.SHARED) {
+      // "FOR SHARE" is supported only by MySQL 8.0 or later, while "LOCK IN SHARE MODE" is
+      // supported by all the MySQL and MariaDB versions
+      return " LOCK IN SHARE MODE";
+    }
+    return RdbEngineStrategy.super.getLockingClause(lockMode);
+  }
+
   @Override
   public boolean isDuplicateTableError(SQLException e) {
     // Error number: 1050; Symbol: ER_TABLE_EXISTS_ERROR; SQLSTATE: 42S01
@@ -331,6 +360,37 @@ class RdbEngineMysql implements RdbEngineStrategy {
     }
   }
 
+  @Override
+  public Map<String, String> getConnectionProperties(JdbcConfig config) {
+    // MySQL Connector/J ignores the fetch size and loads the whole result set unless a server-side
+    // cursor is enabled, so enable it only when a fetch size is explicitly configured. A cursor
+    // makes every statement a server-side prepare, so it is not enabled by default. A value in the
+    // JDBC URL is left as it is
+    if (config.getScanFetchSize() > 0 && !config.getJdbcUrl().contains(USE_CURSOR_FETCH)) {
+      return Collections.singletonMap(USE_CURSOR_FETCH, "true");
+    }
+    return Collections.emptyMap();
+  }
+
+  @Override
+  public OptionalLong getReplicationLagMillis(Connection connection) throws SQLException {
+    // "SHOW SLAVE STATUS" is deprecated in favor of "SHOW REPLICA STATUS" as of MySQL 8.0.22, but
+    // it's still supported by all the MySQL and MariaDB versions
+    try (Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery("SHOW SLAVE STATUS")) {
+      if (!resultSet.next()) {
+        // Not a replica
+        return OptionalLong.of(0);
+      }
+      long seconds = resultSet.getLong("Seconds_Behind_Master");
+      if (resultSet.wasNull()) {
+        // The replication threads are not running
+        return OptionalLong.of(Long.MAX_VALUE);
+      }
+      return OptionalLong.of(TimeUnit.SECONDS.toMillis(seconds));
+    }
+  }
+
   @Override
   public String getPattern(LikeExpression likeExpression) {
     String escape = likeExpression.getEscape();
@@ -371,4 +431,76 @@ class RdbEngineMysql implements RdbEngineStrategy {
     // method is used for filtering.
     return namespace;
   }
+
+  @Override
+  public boolean isRowValueComparisonSupported() {
+    return true;
+  }
+
+  @Override
+  public long bulkLoad(Connection connection, BulkLoadBatch batch) throws SQLException {
+    if (!loadDataLocalDisabled) {
+      try (Statement statement = connection.createStatement()) {
+        if (statement.isWrapperFor(JdbcStatement.class)) {
+          return loadDataLocal(statement.unwrap(JdbcStatement.class), batch);
+        }
+      } catch (SQLException e) {
+        // Error number: 3948; Symbol: ER_CLIENT_LOCAL_FILES_DISABLED; SQLSTATE: 42000
+        // Error number: 1148; Symbol: ER_NOT_ALLOWED_COMMAND; SQLSTATE: 42000
+        if (e.getErrorCode() != 3948 && e.getErrorCode() != 1148) {
+          throw e;
+        }
+        loadDataLocalDisabled = true;
+        logger.warn(
+            "Loading local data is disabled, so the records are inserted with batches of INSERT "
+                + "statements instead. Set \"allowLoadLocalInfile=true\" in the JDBC URL and "
+                + "enable \"local_infile\" on the server to load them with LOAD DATA",
+            e);
+      }
+    }
+    return RdbEngineStrategy.super.bulkLoad(connection, batch);
+  }
+
+  private long loadDataLocal(JdbcStatement statement, BulkLoadBatch batch) throws SQLException {
+    // BLOB values are sent as hexadecimal strings through user variables and decoded with UNHEX()
+    // since the data is read in a character set
+    List<String> targets = new ArrayList<>();
+    List<String> assignments = new ArrayList<>();
+    for (String columnName : batch.getColumnNames()) {
+      if (batch.getTableMetadata().getColumnDataType(columnName) == DataType.BLOB) {
+        String variable = "@v" + assignments.size();
+        targets.add(variable);
+        assignments.add(enclose(columnName) + "=UNHEX(" + variable + ")");
+      } else {
+        targets.add(enclose(columnName));
+      }
+    }
+
+    // The file name is ignored since the data is read from the input stream, and the default
+    // field and line formats are the tab-separated text of BulkLoadBatch
+    String sql =
+        "LOAD DATA LOCAL INFILE 'stream' INTO TABLE "
+            + encloseFullTableName(batch.getNamespace(), batch.getTable())
+            + " CHARACTER SET utf8mb4 ("
+            + String.join(",", targets)
+            + ")"
+            + (assignments.isEmpty() ? "" : " SET " + String.join(",", assignments));
+    statement.setLocalInfileInputStream(
+        new ByteArrayInputStream(
+            batch.toTabSeparatedText(this::formatForLoadData).getBytes(StandardCharsets.UTF_8)));
+    // Since the server can't stop reading the data in the middle, the rows for existing records are
+    // skipped with warnings instead of failing the statement, so they aren't counted
+    return statement.executeLargeUpdate(sql);
+  }
+
+  private String formatForLoadData(Column<?> column) {
+    switch (column.getDataType()) {
+      case BOOLEAN:
+        return column.getBooleanValue() ? "1" : "0";
+      case BLOB:
+        return BaseEncoding.base16().encode(column.getBlobValueAsBytes());
+      default:
+        return column.getValueAsObject().toString();
+    }
+  }
 }
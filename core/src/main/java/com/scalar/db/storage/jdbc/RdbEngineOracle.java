@@ -3,6 +3,7 @@ package com.scalar.db.storage.jdbc;
 import static com.scalar.db.util.ScalarDbUtils.getFullTableName;
 
 import com.scalar.db.api.LikeExpression;
+import com.scalar.db.api.LockMode;
 import com.scalar.db.api.TableMetadata;
 import com.scalar.db.common.error.CoreError;
 import com.scalar.db.exception.storage.ExecutionException;
@@ -146,6 +147,15 @@ class RdbEngineOracle implements RdbEngineStrategy {
     return new MergeIntoQuery(builder);
   }
 
+  @Override
+  public String getLockingClause(LockMode lockMode) {
+    if (lockMode == LockMode.SHARED) {
+      // Oracle doesn't lock rows in share mode with SELECT, so lock them exclusively instead
+      return " FOR UPDATE";
+    }
+    return RdbEngineStrategy.super.getLockingClause(lockMode);
+  }
+
   @Override
   public boolean isDuplicateTableError(SQLException e) {
     // ORA-00955: name is already used by an existing object
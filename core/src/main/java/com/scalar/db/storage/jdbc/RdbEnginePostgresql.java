@@ -2,21 +2,32 @@ package com.scalar.db.storage.jdbc;
 
 import static com.scalar.db.util.ScalarDbUtils.getFullTableName;
 
+import com.google.common.io.BaseEncoding;
 import com.scalar.db.api.TableMetadata;
 import com.scalar.db.common.error.CoreError;
 import com.scalar.db.exception.storage.ExecutionException;
+import com.scalar.db.io.Column;
 import com.scalar.db.io.DataType;
 import com.scalar.db.storage.jdbc.query.InsertOnConflictDoUpdateQuery;
 import com.scalar.db.storage.jdbc.query.SelectQuery;
 import com.scalar.db.storage.jdbc.query.SelectWithLimitQuery;
 import com.scalar.db.storage.jdbc.query.UpsertQuery;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.sql.Connection;
 import java.sql.Driver;
 import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.OptionalLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.postgresql.PGConnection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -314,8 +325,88 @@ class RdbEnginePostgresql implements RdbEngineStrategy {
     return new org.postgresql.Driver();
   }
 
+  @Override
+  public void setFetchSize(
+      Connection connection, PreparedStatement preparedStatement, int fetchSize)
+      throws SQLException {
+    // The PostgreSQL driver fetches the rows with a cursor only when auto-commit is disabled.
+    // Otherwise, it loads the whole result set regardless of the fetch size
+    if (connection.getAutoCommit()) {
+      connection.setAutoCommit(false);
+    }
+    preparedStatement.setFetchSize(fetchSize);
+  }
+
+  @Override
+  public OptionalLong getReplicationLagMillis(Connection connection) throws SQLException {
+    // A standby that has replayed all the received WAL is up to date even if the last replayed
+    // transaction is old, so the lag is measured only while it has WAL to replay
+    try (Statement statement = connection.createStatement();
+        ResultSet resultSet =
+            statement.executeQuery(
+                "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0"
+                    + " WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+                    + " ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000"
+                    + " END")) {
+      if (!resultSet.next()) {
+        return OptionalLong.empty();
+      }
+      long lag = resultSet.getLong(1);
+      return resultSet.wasNull() ? OptionalLong.empty() : OptionalLong.of(Math.max(lag, 0));
+    }
+  }
+
   @Override
   public String tryAddIfNotExistsToCreateIndexSql(String createIndexSql) {
     return createIndexSql.replace("CREATE INDEX", "CREATE INDEX IF NOT EXISTS");
   }
+
+  @Override
+  public boolean isRowValueComparisonSupported() {
+    return true;
+  }
+
+  @Override
+  public long bulkLoad(Connection connection, BulkLoadBatch batch) throws SQLException {
+    String sql =
+        "COPY "
+            + encloseFullTableName(batch.getNamespace(), batch.getTable())
+            + " ("
+            + batch.getColumnNames().stream().map(this::enclose).collect(Collectors.joining(","))
+            + ") FROM STDIN";
+    // COPY streams the rows in its text format, which is much faster than INSERT statements
+    String data = batch.toTabSeparatedText(this::formatForCopy);
+    try {
+      return copyIn(connection, sql, new StringReader(data));
+    } catch (IOException e) {
+      throw new SQLException("Failed to send the rows to COPY", e);
+    }
+  }
+
+  /**
+   * Executes the specified {@code COPY ... FROM STDIN} statement with the data read from the
+   * specified reader.
+   *
+   * @param connection a connection
+   * @param sql a {@code COPY ... FROM STDIN} statement
+   * @param reader a reader of the data
+   * @return the number of copied rows
+   * @throws SQLException if a database access error occurs
+   * @throws IOException if reading the data fails
+   */
+  long copyIn(Connection connection, String sql, Reader reader) throws SQLException, IOException {
+    return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql, reader);
+  }
+
+  private String formatForCopy(Column<?> column) {
+    switch (column.getDataType()) {
+      case BOOLEAN:
+        return computeBooleanValue(column.getBooleanValue());
+      case BLOB:
+        // The hex format of bytea
+        return "\\x" + BaseEncoding.base16().lowerCase().encode(column.getBlobValueAsBytes());
+      default:
+        return column.getValueAsObject().toString();
+    }
+  }
 }
@@ -1,6 +1,7 @@
 package com.scalar.db.storage.jdbc;
 
 import com.scalar.db.api.LikeExpression;
+import com.scalar.db.api.LockMode;
 import com.scalar.db.api.TableMetadata;
 import com.scalar.db.common.error.CoreError;
 import com.scalar.db.exception.storage.ExecutionException;
@@ -160,6 +161,26 @@ class RdbEngineSqlServer implements RdbEngineStrategy {
     return new MergeQuery(builder);
   }
 
+  @Override
+  public String getLockingTableHint(LockMode lockMode) {
+    switch (lockMode) {
+      case SHARED:
+        return " WITH (REPEATABLEREAD,ROWLOCK)";
+      case EXCLUSIVE:
+        return " WITH (UPDLOCK,ROWLOCK)";
+      case SKIP_LOCKED:
+        return " WITH (UPDLOCK,ROWLOCK,READPAST)";
+      default:
+        throw new AssertionError();
+    }
+  }
+
+  @Override
+  public String getLockingClause(LockMode lockMode) {
+    // SQL Server specifies a lock mode with a table hint
+    return "";
+  }
+
   @Override
   public String getDataTypeForEngine(DataType scalarDbDataType) {
     switch (scalarDbDataType) {
@@ -1,7 +1,9 @@
 package com.scalar.db.storage.jdbc;
 
 import com.scalar.db.api.LikeExpression;
+import com.scalar.db.api.LockMode;
 import com.scalar.db.api.TableMetadata;
+import com.scalar.db.common.error.CoreError;
 import com.scalar.db.io.DataType;
 import com.scalar.db.storage.jdbc.query.InsertOnConflictDoUpdateQuery;
 import com.scalar.db.storage.jdbc.query.SelectQuery;
@@ -259,6 +261,13 @@ class RdbEngineSqlite implements RdbEngineStrategy {
     return new InsertOnConflictDoUpdateQuery(builder);
   }
 
+  @Override
+  public String getLockingClause(LockMode lockMode) {
+    // SQLite doesn't have row-level locks
+    throw new IllegalArgumentException(
+        CoreError.JDBC_LOCK_MODE_NOT_SUPPORTED.buildMessage(lockMode, "SQLite"));
+  }
+
   @Override
   public Driver getDriver() {
     return new org.sqlite.JDBC();
@@ -279,4 +288,9 @@ class RdbEngineSqlite implements RdbEngineStrategy {
   public String tryAddIfNotExistsToCreateIndexSql(String createIndexSql) {
     return createIndexSql.replace("CREATE INDEX", "CREATE INDEX IF NOT EXISTS");
   }
+
+  @Override
+  public boolean isRowValueComparisonSupported() {
+    return true;
+  }
 }
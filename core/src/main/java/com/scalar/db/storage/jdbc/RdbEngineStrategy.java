@@ -1,14 +1,20 @@
 package com.scalar.db.storage.jdbc;
 
 import com.scalar.db.api.LikeExpression;
+import com.scalar.db.api.LockMode;
 import com.scalar.db.api.TableMetadata;
 import com.scalar.db.exception.storage.ExecutionException;
 import com.scalar.db.io.DataType;
 import com.scalar.db.storage.jdbc.query.SelectQuery;
 import com.scalar.db.storage.jdbc.query.UpsertQuery;
+import java.sql.Connection;
 import java.sql.Driver;
 import java.sql.JDBCType;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.OptionalLong;
 import javax.annotation.Nullable;
 
 /**
@@ -93,8 +99,108 @@ public interface RdbEngineStrategy {
 
   UpsertQuery buildUpsertQuery(UpsertQuery.Builder builder);
 
+  /**
+   * Returns the table hint that makes a SELECT statement lock the records it reads in the specified
+   * lock mode, which follows the table name in the FROM clause. The default implementation returns
+   * an empty string since most of the underlying databases specify a lock mode with a locking
+   * clause instead.
+   *
+   * @param lockMode a lock mode other than {@link LockMode#NONE}
+   * @return the table hint with a leading space, or an empty string
+   */
+  default String getLockingTableHint(LockMode lockMode) {
+    return "";
+  }
+
+  /**
+   * Returns the locking clause that makes a SELECT statement lock the records it reads in the
+   * specified lock mode, which is appended to the end of the statement.
+   *
+   * @param lockMode a lock mode other than {@link LockMode#NONE}
+   * @return the locking clause with a leading space, or an empty string
+   */
+  default String getLockingClause(LockMode lockMode) {
+    switch (lockMode) {
+      case SHARED:
+        return " FOR SHARE";
+      case EXCLUSIVE:
+        return " FOR UPDATE";
+      case SKIP_LOCKED:
+        return " FOR UPDATE SKIP LOCKED";
+      default:
+        throw new AssertionError();
+    }
+  }
+
   Driver getDriver();
 
+  /**
+   * Returns the properties passed to the JDBC driver when connecting in addition to the JDBC URL.
+   * The default implementation returns an empty map.
+   *
+   * @param config a JDBC config
+   * @return the properties of the connections
+   */
+  default Map<String, String> getConnectionProperties(JdbcConfig config) {
+    return Collections.emptyMap();
+  }
+
+  /**
+   * Sets the fetch size to the statement of a scan so that the driver fetches the rows from the
+   * underlying database in chunks instead of loading the whole result set into memory. The
+   * connection must not be used for other statements until the result set is closed.
+   *
+   * @param connection the connection of the statement
+   * @param preparedStatement the statement of a scan
+   * @param fetchSize the number of rows to fetch at a time
+   * @throws SQLException if a database access error occurs
+   */
+  default void setFetchSize(
+      Connection connection, PreparedStatement preparedStatement, int fetchSize)
+      throws SQLException {
+    preparedStatement.setFetchSize(fetchSize);
+  }
+
+  /**
+   * Returns how far the database of the specified connection lags behind its primary when the
+   * database is a read replica.
+   *
+   * @param connection a connection to a database
+   * @return the replication lag in milliseconds, which is 0 if the database is not a replica and
+   *     {@link Long#MAX_VALUE} if the replication is stopped, or empty if the lag can't be
+   *     determined for the underlying database
+   * @throws SQLException if a database access error occurs
+   */
+  default OptionalLong getReplicationLagMillis(Connection connection) throws SQLException {
+    return OptionalLong.empty();
+  }
+
+  /**
+   * Returns whether the underlying database supports row value comparisons like {@code (a, b) >
+   * (c, d)}. When it does, the keyset predicate of a paginated scan is expressed as a row value
+   * comparison, which the database can evaluate as a single index range.
+   *
+   * @return whether the underlying database supports row value comparisons
+   */
+  default boolean isRowValueComparisonSupported() {
+    return false;
+  }
+
+  /**
+   * Inserts the rows of the specified batch into its table in bulk. The default implementation
+   * inserts the rows with a batch of INSERT statements. An implementation must either insert all
+   * the rows or throw an exception, unless the underlying database skips the rows for existing
+   * records instead of failing, in which case only the inserted rows are counted.
+   *
+   * @param connection a connection whose auto-commit mode is disabled
+   * @param batch a batch of rows
+   * @return the number of inserted rows
+   * @throws SQLException if a database access error occurs
+   */
+  default long bulkLoad(Connection connection, BulkLoadBatch batch) throws SQLException {
+    return batch.insertInBatch(connection, this);
+  }
+
   default boolean isImportable() {
     return true;
   }
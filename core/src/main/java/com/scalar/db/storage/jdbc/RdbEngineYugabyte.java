@@ -1,10 +1,28 @@
 package com.scalar.db.storage.jdbc;
 
+import com.yugabyte.PGConnection;
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.Connection;
 import java.sql.Driver;
+import java.sql.SQLException;
+import java.util.OptionalLong;
 
 class RdbEngineYugabyte extends RdbEnginePostgresql {
   @Override
   public Driver getDriver() {
     return new com.yugabyte.Driver();
   }
+
+  @Override
+  public OptionalLong getReplicationLagMillis(Connection connection) {
+    // YugabyteDB doesn't provide the PostgreSQL functions for the WAL replay
+    return OptionalLong.empty();
+  }
+
+  @Override
+  long copyIn(Connection connection, String sql, Reader reader) throws SQLException, IOException {
+    // The YugabyteDB driver is a fork of the PostgreSQL driver in its own package
+    return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql, reader);
+  }
 }
@@ -0,0 +1,171 @@
+package com.scalar.db.storage.jdbc;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A router that balances reads across read replicas in a round-robin manner.
+ *
+ * <p>The replicas are checked periodically in the background. A replica is skipped while it can't
+ * be connected to or while its replication lag exceeds the limit, and it's used again once a later
+ * check succeeds. When no replica is available, {@link #getConnection()} returns null so that the
+ * caller can fall back to the primary.
+ */
+@ThreadSafe
+class ReadReplicaRouter implements Closeable {
+  private static final Logger logger = LoggerFactory.getLogger(ReadReplicaRouter.class);
+
+  private final ImmutableList<Replica> replicas;
+  private final RdbEngineStrategy rdbEngine;
+  private final long maxLagMillis;
+  private final AtomicInteger next = new AtomicInteger();
+  @Nullable private final ScheduledExecutorService healthChecker;
+
+  ReadReplicaRouter(JdbcConfig config, RdbEngineStrategy rdbEngine) {
+    this(
+        config.getReadReplicaUrls().stream()
+            .map(url -> JdbcUtils.initConnectionPoolForReadReplica(config, rdbEngine, url))
+            .collect(ImmutableList.toImmutableList()),
+        rdbEngine,
+        config.getReadReplicaMaxLagMillis(),
+        config.getReadReplicaHealthCheckIntervalMillis());
+  }
+
+  /**
+   * Constructs a router.
+   *
+   * @param connectionPools the connection pools of the replicas
+   * @param rdbEngine an RDB engine
+   * @param maxLagMillis the maximum replication lag. A negative value disables the check
+   * @param healthCheckIntervalMillis the interval of the health check. A non-positive value
+   *     disables the background health check
+   */
+  @VisibleForTesting
+  ReadReplicaRouter(
+      List<JdbcConnectionPool> connectionPools,
+      RdbEngineStrategy rdbEngine,
+      long maxLagMillis,
+      long healthCheckIntervalMillis) {
+    replicas = connectionPools.stream().map(Replica::new).collect(ImmutableList.toImmutableList());
+    this.rdbEngine = rdbEngine;
+    this.maxLagMillis = maxLagMillis;
+
+    if (healthCheckIntervalMillis > 0) {
+      healthChecker =
+          Executors.newSingleThreadScheduledExecutor(
+              new ThreadFactoryBuilder()
+                  .setDaemon(true)
+                  .setNameFormat("jdbc-read-replica-health-checker-%d")
+                  .build());
+      healthChecker.scheduleWithFixedDelay(
+          this::checkHealth,
+          healthCheckIntervalMillis,
+          healthCheckIntervalMillis,
+          TimeUnit.MILLISECONDS);
+    } else {
+      healthChecker = null;
+    }
+  }
+
+  /**
+   * Returns a connection to one of the available replicas.
+   *
+   * @return a connection to a replica, or null if no replica is available
+   */
+  @Nullable
+  Connection getConnection() {
+    int size = replicas.size();
+    int start = Math.floorMod(next.getAndIncrement(), size);
+    for (int i = 0; i < size; i++) {
+      Replica replica = replicas.get((start + i) % size);
+      if (!replica.available) {
+        continue;
+      }
+      try {
+        return replica.connectionPool.getConnection();
+      } catch (SQLException e) {
+        // Skip the replica until the next health check succeeds
+        logger.warn("Failed to connect to the read replica {}", replica.connectionPool, e);
+        replica.available = false;
+      }
+    }
+    return null;
+  }
+
+  @VisibleForTesting
+  void checkHealth() {
+    for (Replica replica : replicas) {
+      boolean available = isHealthy(replica);
+      if (available != replica.available) {
+        if (available) {
+          logger.info("The read replica {} is available", replica.connectionPool);
+        } else {
+          logger.warn("The read replica {} is unavailable", replica.connectionPool);
+        }
+      }
+      replica.available = available;
+    }
+  }
+
+  private boolean isHealthy(Replica replica) {
+    try (Connection connection = replica.connectionPool.getConnection()) {
+      if (maxLagMillis < 0) {
+        return connection.isValid(0);
+      }
+      OptionalLong lag = rdbEngine.getReplicationLagMillis(connection);
+      if (!lag.isPresent()) {
+        return connection.isValid(0);
+      }
+      if (lag.getAsLong() > maxLagMillis) {
+        logger.debug(
+            "The read replica {} lags behind the primary by {} ms",
+            replica.connectionPool,
+            lag.getAsLong());
+        return false;
+      }
+      return true;
+    } catch (SQLException | RuntimeException e) {
+      // Catch RuntimeException as well so that an unexpected error doesn't stop the scheduled check
+      logger.debug("The health check of the read replica {} failed", replica.connectionPool, e);
+      return false;
+    }
+  }
+
+  @Override
+  public void close() {
+    if (healthChecker != null) {
+      MoreExecutors.shutdownAndAwaitTermination(healthChecker, 10, TimeUnit.SECONDS);
+    }
+    for (Replica replica : replicas) {
+      try {
+        replica.connectionPool.close();
+      } catch (SQLException e) {
+        logger.warn("Failed to close the read replica connection pool", e);
+      }
+    }
+  }
+
+  private static class Replica {
+    private final JdbcConnectionPool connectionPool;
+    private volatile boolean available = true;
+
+    private Replica(JdbcConnectionPool connectionPool) {
+      this.connectionPool = connectionPool;
+    }
+  }
+}
@@ -1,8 +1,9 @@
 package com.scalar.db.storage.jdbc;
 
+import com.google.common.collect.ImmutableMap;
 import com.scalar.db.api.Result;
 import com.scalar.db.api.TableMetadata;
-import com.scalar.db.common.ResultImpl;
+import com.scalar.db.common.ArrayBackedResult;
 import com.scalar.db.io.BigIntColumn;
 import com.scalar.db.io.BlobColumn;
 import com.scalar.db.io.BooleanColumn;
@@ -15,90 +16,128 @@ import com.scalar.db.io.TextColumn;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import javax.annotation.concurrent.ThreadSafe;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
 
-@ThreadSafe
+/**
+ * An interpreter that converts the rows of a {@link ResultSet} into {@link Result}s.
+ *
+ * <p>The names, the readers, and the positions of the columns are resolved once when the
+ * interpreter is created, so each row is read by column index into an {@link ArrayBackedResult}
+ * without looking up the columns by name or building a map. When the projections are specified,
+ * the columns are at the positions of the projections in the select list. Otherwise, the query is
+ * {@code SELECT *} and the positions are resolved with {@link ResultSet#findColumn(String)} once
+ * for each result set.
+ */
+@NotThreadSafe
 public class ResultInterpreter {
 
-  private final List<String> projections;
   private final TableMetadata metadata;
+  private final boolean selectAll;
+  private final String[] columnNames;
+  private final ColumnReader[] columnReaders;
+  private final ImmutableMap<String, Integer> columnIndexes;
+
+  // The positions of the columns in the result set (1-based)
+  private final int[] resultSetIndexes;
+  @Nullable private ResultSet indexedResultSet;
 
   @SuppressFBWarnings("EI_EXPOSE_REP2")
   public ResultInterpreter(List<String> projections, TableMetadata metadata) {
-    this.projections = Objects.requireNonNull(projections);
     this.metadata = Objects.requireNonNull(metadata);
+    selectAll = Objects.requireNonNull(projections).isEmpty();
+
+    // Keep the first occurrence of each column since a projection can be specified twice
+    Map<String, Integer> positions = new LinkedHashMap<>();
+    List<String> names = selectAll ? new ArrayList<>(metadata.getColumnNames()) : projections;
+    for (int i = 0; i < names.size(); i++) {
+      positions.putIfAbsent(names.get(i), i + 1);
+    }
+
+    int size = positions.size();
+    columnNames = new String[size];
+    columnReaders = new ColumnReader[size];
+    resultSetIndexes = new int[size];
+    ImmutableMap.Builder<String, Integer> columnIndexesBuilder =
+        ImmutableMap.builderWithExpectedSize(size);
+    int i = 0;
+    for (Map.Entry<String, Integer> entry : positions.entrySet()) {
+      String name = entry.getKey();
+      columnNames[i] = name;
+      columnReaders[i] = createColumnReader(name, metadata.getColumnDataType(name));
+      resultSetIndexes[i] = entry.getValue();
+      columnIndexesBuilder.put(name, i);
+      i++;
+    }
+    columnIndexes = columnIndexesBuilder.build();
   }
 
   public Result interpret(ResultSet resultSet) throws SQLException {
-    Map<String, Column<?>> ret = new HashMap<>();
-    if (projections.isEmpty()) {
-      for (String projection : metadata.getColumnNames()) {
-        ret.put(projection, convert(projection, resultSet));
-      }
-    } else {
-      for (String projection : projections) {
-        ret.put(projection, convert(projection, resultSet));
+    if (selectAll && resultSet != indexedResultSet) {
+      for (int i = 0; i < columnNames.length; i++) {
+        resultSetIndexes[i] = resultSet.findColumn(columnNames[i]);
       }
+      indexedResultSet = resultSet;
     }
-    return new ResultImpl(ret, metadata);
-  }
 
-  private Column<?> convert(String name, ResultSet resultSet) throws SQLException {
-    Column<?> ret;
+    Column<?>[] columns = new Column<?>[columnReaders.length];
+    for (int i = 0; i < columnReaders.length; i++) {
+      columns[i] = columnReaders[i].read(resultSet, resultSetIndexes[i]);
+    }
+    return new ArrayBackedResult(columnIndexes, columns, metadata);
+  }
 
-    DataType dataType = metadata.getColumnDataType(name);
+  private static ColumnReader createColumnReader(String name, DataType dataType) {
     switch (dataType) {
       case BOOLEAN:
-        ret = BooleanColumn.of(name, resultSet.getBoolean(name));
-        if (resultSet.wasNull()) {
-          ret = BooleanColumn.ofNull(name);
-        }
-        break;
+        return (resultSet, index) -> {
+          boolean value = resultSet.getBoolean(index);
+          return resultSet.wasNull() ? BooleanColumn.ofNull(name) : BooleanColumn.of(name, value);
+        };
       case INT:
-        ret = IntColumn.of(name, resultSet.getInt(name));
-        if (resultSet.wasNull()) {
-          ret = IntColumn.ofNull(name);
-        }
-        break;
+        return (resultSet, index) -> {
+          int value = resultSet.getInt(index);
+          return resultSet.wasNull() ? IntColumn.ofNull(name) : IntColumn.of(name, value);
+        };
       case BIGINT:
-        ret = BigIntColumn.of(name, resultSet.getLong(name));
-        if (resultSet.wasNull()) {
-          ret = BigIntColumn.ofNull(name);
-        }
-        break;
+        return (resultSet, index) -> {
+          long value = resultSet.getLong(index);
+          return resultSet.wasNull() ? BigIntColumn.ofNull(name) : BigIntColumn.of(name, value);
+        };
       case FLOAT:
         // To handle Float.MAX_VALUE in MySQL, we need to get the value as double, then cast it to
         // float
-        ret = FloatColumn.of(name, (float) resultSet.getDouble(name));
-        if (resultSet.wasNull()) {
-          ret = FloatColumn.ofNull(name);
-        }
-        break;
+        return (resultSet, index) -> {
+          float value = (float) resultSet.getDouble(index);
+          return resultSet.wasNull() ? FloatColumn.ofNull(name) : FloatColumn.of(name, value);
+        };
       case DOUBLE:
-        ret = DoubleColumn.of(name, resultSet.getDouble(name));
-        if (resultSet.wasNull()) {
-          ret = DoubleColumn.ofNull(name);
-        }
-        break;
+        return (resultSet, index) -> {
+          double value = resultSet.getDouble(index);
+          return resultSet.wasNull() ? DoubleColumn.ofNull(name) : DoubleColumn.of(name, value);
+        };
       case TEXT:
-        ret = TextColumn.of(name, resultSet.getString(name));
-        if (resultSet.wasNull()) {
-          ret = TextColumn.ofNull(name);
-        }
-        break;
+        return (resultSet, index) -> {
+          String value = resultSet.getString(index);
+          return resultSet.wasNull() ? TextColumn.ofNull(name) : TextColumn.of(name, value);
+        };
       case BLOB:
-        ret = BlobColumn.of(name, resultSet.getBytes(name));
-        if (resultSet.wasNull()) {
-          ret = BlobColumn.ofNull(name);
-        }
-        break;
+        return (resultSet, index) -> {
+          byte[] value = resultSet.getBytes(index);
+          return resultSet.wasNull() ? BlobColumn.ofNull(name) : BlobColumn.of(name, value);
+        };
       default:
         throw new AssertionError();
     }
-    return ret;
+  }
+
+  @FunctionalInterface
+  private interface ColumnReader {
+    Column<?> read(ResultSet resultSet, int index) throws SQLException;
   }
 }
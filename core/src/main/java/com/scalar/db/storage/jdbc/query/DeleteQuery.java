@@ -12,6 +12,7 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -21,6 +22,7 @@ import javax.annotation.concurrent.ThreadSafe;
 public class DeleteQuery implements Query {
 
   private final RdbEngineStrategy rdbEngine;
+  private final SqlCache sqlCache;
   private final String schema;
   private final String table;
   private final TableMetadata tableMetadata;
@@ -30,6 +32,7 @@ public class DeleteQuery implements Query {
 
   private DeleteQuery(Builder builder) {
     rdbEngine = builder.rdbEngine;
+    sqlCache = builder.sqlCache;
     schema = builder.schema;
     table = builder.table;
     tableMetadata = builder.tableMetadata;
@@ -40,6 +43,25 @@ public class DeleteQuery implements Query {
 
   @Override
   public String sql() {
+    return sqlCache.get(sqlShape(), this::buildSql);
+  }
+
+  private List<Object> sqlShape() {
+    List<Object> conditionShapes = new ArrayList<>(otherConditions.size());
+    for (ConditionalExpression condition : otherConditions) {
+      conditionShapes.add(condition.getColumn().getName());
+      conditionShapes.add(condition.getOperator());
+    }
+    return Arrays.asList(
+        "DELETE",
+        schema,
+        table,
+        SqlCache.columnNames(partitionKey),
+        SqlCache.columnNames(clusteringKey),
+        conditionShapes);
+  }
+
+  private String buildSql() {
     return "DELETE FROM "
         + rdbEngine.encloseFullTableName(schema, table)
         + " WHERE "
@@ -87,6 +109,7 @@ public class DeleteQuery implements Query {
 
   public static class Builder {
     private final RdbEngineStrategy rdbEngine;
+    private final SqlCache sqlCache;
     private final String schema;
     private final String table;
     private final TableMetadata tableMetadata;
@@ -94,8 +117,14 @@ public class DeleteQuery implements Query {
     private Optional<Key> clusteringKey;
     private List<ConditionalExpression> otherConditions;
 
-    Builder(RdbEngineStrategy rdbEngine, String schema, String table, TableMetadata tableMetadata) {
+    Builder(
+        RdbEngineStrategy rdbEngine,
+        SqlCache sqlCache,
+        String schema,
+        String table,
+        TableMetadata tableMetadata) {
       this.rdbEngine = rdbEngine;
+      this.sqlCache = sqlCache;
       this.schema = schema;
       this.table = table;
       this.tableMetadata = tableMetadata;
@@ -8,6 +8,7 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -18,6 +19,7 @@ import javax.annotation.concurrent.ThreadSafe;
 public class InsertQuery implements Query {
 
   private final RdbEngineStrategy rdbEngine;
+  private final SqlCache sqlCache;
   private final String schema;
   private final String table;
   private final TableMetadata tableMetadata;
@@ -27,6 +29,7 @@ public class InsertQuery implements Query {
 
   private InsertQuery(Builder builder) {
     rdbEngine = builder.rdbEngine;
+    sqlCache = builder.sqlCache;
     schema = builder.schema;
     table = builder.table;
     tableMetadata = builder.tableMetadata;
@@ -37,6 +40,18 @@ public class InsertQuery implements Query {
 
   @Override
   public String sql() {
+    return sqlCache.get(
+        Arrays.asList(
+            "INSERT",
+            schema,
+            table,
+            SqlCache.columnNames(partitionKey),
+            SqlCache.columnNames(clusteringKey),
+            new ArrayList<>(columns.keySet())),
+        this::buildSql);
+  }
+
+  private String buildSql() {
     return "INSERT INTO "
         + rdbEngine.encloseFullTableName(schema, table)
         + " "
@@ -80,6 +95,7 @@ public class InsertQuery implements Query {
 
   public static class Builder {
     private final RdbEngineStrategy rdbEngine;
+    private final SqlCache sqlCache;
     private final String schema;
     private final String table;
     private final TableMetadata tableMetadata;
@@ -87,8 +103,14 @@ public class InsertQuery implements Query {
     private Optional<Key> clusteringKey;
     private Map<String, Column<?>> columns;
 
-    Builder(RdbEngineStrategy rdbEngine, String schema, String table, TableMetadata tableMetadata) {
+    Builder(
+        RdbEngineStrategy rdbEngine,
+        SqlCache sqlCache,
+        String schema,
+        String table,
+        TableMetadata tableMetadata) {
       this.rdbEngine = rdbEngine;
+      this.sqlCache = sqlCache;
       this.schema = schema;
       this.table = table;
       this.tableMetadata = tableMetadata;
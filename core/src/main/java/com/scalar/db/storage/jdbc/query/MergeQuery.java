@@ -18,6 +18,8 @@ import javax.annotation.concurrent.ThreadSafe;
 public class MergeQuery implements UpsertQuery {
 
   private final RdbEngineStrategy rdbEngine;
+  private final SqlCache sqlCache;
+  private final List<Object> sqlShape;
   private final String schema;
   private final String table;
   private final TableMetadata tableMetadata;
@@ -28,6 +30,8 @@ public class MergeQuery implements UpsertQuery {
   @SuppressFBWarnings("EI_EXPOSE_REP2")
   public MergeQuery(Builder builder) {
     rdbEngine = builder.rdbEngine;
+    sqlCache = builder.sqlCache;
+    sqlShape = builder.sqlShape();
     schema = builder.schema;
     table = builder.table;
     tableMetadata = builder.tableMetadata;
@@ -38,6 +42,10 @@ public class MergeQuery implements UpsertQuery {
 
   @Override
   public String sql() {
+    return sqlCache.get(sqlShape, this::buildSql);
+  }
+
+  private String buildSql() {
     List<String> enclosedKeyNames = new ArrayList<>();
     partitionKey.forEach(v -> enclosedKeyNames.add(rdbEngine.enclose(v.getName())));
     clusteringKey.ifPresent(
@@ -14,29 +14,35 @@ import java.util.Objects;
 public final class QueryBuilder {
 
   private final RdbEngineStrategy rdbEngine;
+  private final SqlCache sqlCache;
 
-  @SuppressFBWarnings("EI_EXPOSE_REP2")
   public QueryBuilder(RdbEngineStrategy rdbEngine) {
+    this(rdbEngine, new SqlCache());
+  }
+
+  @SuppressFBWarnings("EI_EXPOSE_REP2")
+  public QueryBuilder(RdbEngineStrategy rdbEngine, SqlCache sqlCache) {
     this.rdbEngine = Objects.requireNonNull(rdbEngine);
+    this.sqlCache = Objects.requireNonNull(sqlCache);
   }
 
   public SelectQuery.Builder select(List<String> projections) {
-    return new SelectQuery.Builder(rdbEngine, projections);
+    return new SelectQuery.Builder(rdbEngine, sqlCache, projections);
   }
 
   public InsertQuery.Builder insertInto(String schema, String table, TableMetadata tableMetadata) {
-    return new InsertQuery.Builder(rdbEngine, schema, table, tableMetadata);
+    return new InsertQuery.Builder(rdbEngine, sqlCache, schema, table, tableMetadata);
   }
 
   public UpdateQuery.Builder update(String schema, String table, TableMetadata tableMetadata) {
-    return new UpdateQuery.Builder(rdbEngine, schema, table, tableMetadata);
+    return new UpdateQuery.Builder(rdbEngine, sqlCache, schema, table, tableMetadata);
   }
 
   public DeleteQuery.Builder deleteFrom(String schema, String table, TableMetadata tableMetadata) {
-    return new DeleteQuery.Builder(rdbEngine, schema, table, tableMetadata);
+    return new DeleteQuery.Builder(rdbEngine, sqlCache, schema, table, tableMetadata);
   }
 
   public UpsertQuery.Builder upsertInto(String schema, String table, TableMetadata tableMetadata) {
-    return new UpsertQuery.Builder(rdbEngine, schema, table, tableMetadata);
+    return new UpsertQuery.Builder(rdbEngine, sqlCache, schema, table, tableMetadata);
   }
 }
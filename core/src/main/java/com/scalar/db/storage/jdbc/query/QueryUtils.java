@@ -1,7 +1,11 @@
 package com.scalar.db.storage.jdbc.query;
 
 import com.scalar.db.api.ConditionalExpression;
+import com.scalar.db.api.Scan;
+import com.scalar.db.api.TableMetadata;
 import com.scalar.db.storage.jdbc.RdbEngineStrategy;
+import java.util.ArrayList;
+import java.util.List;
 
 public final class QueryUtils {
 
@@ -30,4 +34,42 @@ public final class QueryUtils {
         throw new AssertionError();
     }
   }
+
+  /**
+   * Returns the orderings of all the clustering-key columns that a scan within a partition follows.
+   * The specified orderings are followed by the rest of the clustering-key columns, which are
+   * reversed from the clustering order of the table when the first specified ordering is.
+   *
+   * @param orderings the orderings of a scan
+   * @param tableMetadata the metadata of the table
+   * @return the orderings of all the clustering-key columns
+   */
+  public static List<Scan.Ordering> getClusteringOrderings(
+      List<Scan.Ordering> orderings, TableMetadata tableMetadata) {
+    List<Scan.Ordering> orderingList = new ArrayList<>(orderings);
+
+    Boolean reverse = null;
+    int i = 0;
+    for (String clusteringKeyName : tableMetadata.getClusteringKeyNames()) {
+      if (i < orderings.size()) {
+        Scan.Ordering ordering = orderings.get(i++);
+        if (reverse == null) {
+          reverse =
+              ordering.getOrder() != tableMetadata.getClusteringOrder(ordering.getColumnName());
+        }
+      } else {
+        Scan.Ordering.Order order = tableMetadata.getClusteringOrder(clusteringKeyName);
+
+        if (reverse != null && reverse) {
+          if (order == Scan.Ordering.Order.ASC) {
+            order = Scan.Ordering.Order.DESC;
+          } else {
+            order = Scan.Ordering.Order.ASC;
+          }
+        }
+        orderingList.add(new Scan.Ordering(clusteringKeyName, order));
+      }
+    }
+    return orderingList;
+  }
 }
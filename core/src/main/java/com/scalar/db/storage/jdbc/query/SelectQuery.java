@@ -1,6 +1,7 @@
 package com.scalar.db.storage.jdbc.query;
 
 import com.google.common.collect.ImmutableSet;
+import com.scalar.db.api.LockMode;
 import com.scalar.db.api.Scan;
 import com.scalar.db.api.Selection.Conjunction;
 import com.scalar.db.api.TableMetadata;
@@ -17,6 +18,7 @@ public interface SelectQuery extends Query {
 
   class Builder {
     final RdbEngineStrategy rdbEngine;
+    final SqlCache sqlCache;
     final List<String> projections;
     String schema;
     String table;
@@ -35,9 +37,13 @@ public interface SelectQuery extends Query {
     boolean isConditionalQuery;
     boolean isCrossPartitionQuery;
     Set<Conjunction> conjunctions = Collections.emptySet();
+    List<Scan.Ordering> keyOrderings = Collections.emptyList();
+    List<Column<?>> lastKey = Collections.emptyList();
+    LockMode lockMode = LockMode.NONE;
 
-    Builder(RdbEngineStrategy rdbEngine, List<String> projections) {
+    Builder(RdbEngineStrategy rdbEngine, SqlCache sqlCache, List<String> projections) {
       this.rdbEngine = rdbEngine;
+      this.sqlCache = sqlCache;
       this.projections = projections;
     }
 
@@ -143,6 +149,29 @@ public interface SelectQuery extends Query {
       return this;
     }
 
+    /**
+     * Makes the query fetch a page of keyset pagination. The results are ordered by the specified
+     * key columns instead of the orderings, and only the results after the specified last key in
+     * that order are fetched.
+     *
+     * @param keyOrderings the orderings of the columns that uniquely identify a result
+     * @param lastKey the values of the key columns of the last result of the previous page, or an
+     *     empty list for the first page
+     * @return this builder
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    public Builder keyset(List<Scan.Ordering> keyOrderings, List<Column<?>> lastKey) {
+      assert lastKey.isEmpty() || lastKey.size() == keyOrderings.size();
+      this.keyOrderings = keyOrderings;
+      this.lastKey = lastKey;
+      return this;
+    }
+
+    public Builder lockMode(LockMode lockMode) {
+      this.lockMode = lockMode;
+      return this;
+    }
+
     public Builder limit(int limit) {
       this.limit = limit;
       return this;
@@ -1,16 +1,20 @@
 package com.scalar.db.storage.jdbc.query;
 
+import com.scalar.db.api.LockMode;
+import com.scalar.db.common.error.CoreError;
 import javax.annotation.concurrent.ThreadSafe;
 
 @ThreadSafe
 public class SelectWithFetchFirstNRowsOnly extends SimpleSelectQuery {
 
   private final int limit;
+  private final LockMode lockMode;
 
   public SelectWithFetchFirstNRowsOnly(Builder builder, int limit) {
     super(builder);
     assert limit > 0;
     this.limit = limit;
+    lockMode = builder.lockMode;
   }
 
   // For the SpotBugs warning CT_CONSTRUCTOR_THROW
@@ -19,6 +23,12 @@ public class SelectWithFetchFirstNRowsOnly extends SimpleSelectQuery {
 
   @Override
   public String sql() {
-    return super.sql() + " FETCH FIRST " + limit + " ROWS ONLY";
+    if (lockMode != LockMode.NONE) {
+      // Oracle can't lock the rows of a query with a row-limiting clause (ORA-02014), and wrapping
+      // the query with ROWNUM doesn't help since it can't lock the rows of such a view either
+      throw new IllegalArgumentException(
+          CoreError.JDBC_ORACLE_LOCK_MODE_WITH_LIMIT_NOT_SUPPORTED.buildMessage(lockMode, limit));
+    }
+    return selectSql() + " FETCH FIRST " + limit + " ROWS ONLY";
   }
 }
@@ -19,6 +19,6 @@ public class SelectWithLimitQuery extends SimpleSelectQuery {
 
   @Override
   public String sql() {
-    return super.sql() + " LIMIT " + limit;
+    return withLockingClause(selectSql() + " LIMIT " + limit);
   }
 }
@@ -20,7 +20,8 @@ public class SelectWithTop extends SimpleSelectQuery {
   @Override
   public String sql() {
     // This inserts "TOP ${limit}" clause, specific to SqlServer, right after the "SELECT" clause of
-    // the query returned by super.sql()
-    return new StringBuilder(super.sql()).insert(7, "TOP " + limit + " ").toString();
+    // the query returned by selectSql()
+    return withLockingClause(
+        new StringBuilder(selectSql()).insert(7, "TOP " + limit + " ").toString());
   }
 }
@@ -3,6 +3,7 @@ package com.scalar.db.storage.jdbc.query;
 import com.scalar.db.api.ConditionalExpression;
 import com.scalar.db.api.ConditionalExpression.Operator;
 import com.scalar.db.api.LikeExpression;
+import com.scalar.db.api.LockMode;
 import com.scalar.db.api.Scan;
 import com.scalar.db.api.Selection.Conjunction;
 import com.scalar.db.api.TableMetadata;
@@ -12,6 +13,7 @@ import com.scalar.db.storage.jdbc.RdbEngineStrategy;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -23,6 +25,7 @@ public class SimpleSelectQuery implements SelectQuery {
 
   private final List<String> projections;
   private final RdbEngineStrategy rdbEngine;
+  private final SqlCache sqlCache;
   private final String schema;
   private final String table;
   private final TableMetadata tableMetadata;
@@ -39,10 +42,14 @@ public class SimpleSelectQuery implements SelectQuery {
   private final boolean isConditionalQuery;
   private final boolean isCrossPartitionQuery;
   private final Set<Conjunction> conjunctions;
+  private final List<Scan.Ordering> keyOrderings;
+  private final List<Column<?>> lastKey;
+  private final LockMode lockMode;
 
   SimpleSelectQuery(Builder builder) {
     projections = builder.projections;
     rdbEngine = builder.rdbEngine;
+    sqlCache = builder.sqlCache;
     schema = builder.schema;
     table = builder.table;
     tableMetadata = builder.tableMetadata;
@@ -59,26 +66,97 @@ public class SimpleSelectQuery implements SelectQuery {
     isConditionalQuery = builder.isConditionalQuery;
     isCrossPartitionQuery = builder.isCrossPartitionQuery;
     conjunctions = builder.conjunctions;
+    keyOrderings = builder.keyOrderings;
+    lastKey = builder.lastKey;
+    lockMode = builder.lockMode;
   }
 
   @Override
   public String sql() {
+    return withLockingClause(selectSql());
+  }
+
+  /*
+   * Returns the SQL without the locking clause, to which the subclasses add their row-limiting
+   * clauses
+   */
+  String selectSql() {
+    return sqlCache.get(sqlShape(), this::buildSql);
+  }
+
+  /*
+   * Appends the locking clause to the specified SQL. It must follow the row-limiting clause in most
+   * of the underlying databases.
+   */
+  String withLockingClause(String sql) {
+    if (lockMode == LockMode.NONE) {
+      return sql;
+    }
+    return sql + rdbEngine.getLockingClause(lockMode);
+  }
+
+  private List<Object> sqlShape() {
+    List<Object> conjunctionShapes = new ArrayList<>(conjunctions.size());
+    for (Conjunction conjunction : conjunctions) {
+      List<Object> conditionShapes = new ArrayList<>();
+      for (ConditionalExpression condition : conjunction.getConditions()) {
+        conditionShapes.add(condition.getColumn().getName());
+        conditionShapes.add(condition.getOperator());
+        if (condition instanceof LikeExpression) {
+          conditionShapes.add(rdbEngine.getEscape((LikeExpression) condition) != null);
+        }
+      }
+      conjunctionShapes.add(conditionShapes);
+    }
+    return Arrays.asList(
+        "SELECT",
+        schema,
+        table,
+        projections,
+        SqlCache.columnNames(partitionKey),
+        SqlCache.columnNames(clusteringKey),
+        SqlCache.columnNames(commonClusteringKey),
+        startColumn.map(Column::getName).orElse(null),
+        startInclusive,
+        endColumn.map(Column::getName).orElse(null),
+        endInclusive,
+        orderings,
+        isRangeQuery,
+        indexedColumn.orElse(null),
+        isConditionalQuery,
+        isCrossPartitionQuery,
+        conjunctionShapes,
+        keyOrderings,
+        lastKey.isEmpty(),
+        // The ORDER BY clause of a range query follows the clustering order of the table
+        isRangeQuery ? new ArrayList<>(tableMetadata.getClusteringKeyNames()) : null,
+        isRangeQuery ? tableMetadata.getClusteringOrders() : null,
+        lockMode);
+  }
+
+  private String buildSql() {
     StringBuilder builder =
         new StringBuilder("SELECT ")
             .append(projectionSqlString())
             .append(" FROM ")
             .append(rdbEngine.encloseFullTableName(schema, table));
+    if (lockMode != LockMode.NONE) {
+      builder.append(rdbEngine.getLockingTableHint(lockMode));
+    }
     if (isCrossPartitionQuery) {
       // for cross-partition scan
       builder.append(crossPartitionConditionSqlString());
-      builder.append(crossPartitionOrderBySqlString());
+      builder.append(
+          keyOrderings.isEmpty()
+              ? crossPartitionOrderBySqlString()
+              : orderBySqlString(keyOrderings));
     } else {
       // for multi-dimensional map scan
       if (isConditionalQuery) {
         builder.append(" WHERE ");
         builder.append(conditionSqlString());
       }
-      builder.append(orderBySqlString());
+      builder.append(keyOrderings.isEmpty() ? orderBySqlString() : orderBySqlString(keyOrderings));
     }
 
     return builder.toString();
@@ -103,6 +181,9 @@ public class SimpleSelectQuery implements SelectQuery {
         c -> conditions.add(rdbEngine.enclose(c.getName()) + (startInclusive ? ">=?" : ">?")));
     endColumn.ifPresent(
         c -> conditions.add(rdbEngine.enclose(c.getName()) + (endInclusive ? "<=?" : "<?")));
+    if (!lastKey.isEmpty()) {
+      conditions.add(keysetConditionSqlString());
+    }
 
     if (conjunctions.isEmpty()) {
       return String.join(" AND ", conditions);
@@ -116,11 +197,71 @@ public class SimpleSelectQuery implements SelectQuery {
   }
 
   private String crossPartitionConditionSqlString() {
+    if (lastKey.isEmpty()) {
+      if (conjunctions.isEmpty()) {
+        return "";
+      }
+      return " WHERE " + String.join(" OR ", conjunctionSqlStrings());
+    }
+
     if (conjunctions.isEmpty()) {
-      return "";
+      return " WHERE " + keysetConditionSqlString();
+    }
+    return " WHERE "
+        + keysetConditionSqlString()
+        + " AND ("
+        + String.join(" OR ", conjunctionSqlStrings())
+        + ")";
+  }
+
+  /*
+   * Returns the condition that selects the results after the last key in the order of the key
+   * columns. It's a row value comparison like "(k1,k2)>(?,?)" if the underlying database supports
+   * it and all the key columns are in the same order. Otherwise, it's expanded like
+   * "(k1>? OR (k1=? AND k2>?))".
+   */
+  private String keysetConditionSqlString() {
+    if (isRowValueKeyset()) {
+      String columns =
+          keyOrderings.stream()
+              .map(o -> rdbEngine.enclose(o.getColumnName()))
+              .collect(Collectors.joining(","));
+      String placeholders =
+          keyOrderings.stream().map(o -> "?").collect(Collectors.joining(","));
+      return "("
+          + columns
+          + ")"
+          + keysetOperator(keyOrderings.get(0).getOrder())
+          + "("
+          + placeholders
+          + ")";
+    }
+
+    List<String> disjuncts = new ArrayList<>(keyOrderings.size());
+    for (int i = 0; i < keyOrderings.size(); i++) {
+      List<String> conditions = new ArrayList<>(i + 1);
+      for (int j = 0; j < i; j++) {
+        conditions.add(rdbEngine.enclose(keyOrderings.get(j).getColumnName()) + "=?");
+      }
+      Scan.Ordering ordering = keyOrderings.get(i);
+      conditions.add(
+          rdbEngine.enclose(ordering.getColumnName()) + keysetOperator(ordering.getOrder()) + "?");
+      disjuncts.add(
+          conditions.size() == 1
+              ? conditions.get(0)
+              : "(" + String.join(" AND ", conditions) + ")");
     }
+    return disjuncts.size() == 1 ? disjuncts.get(0) : "(" + String.join(" OR ", disjuncts) + ")";
+  }
+
+  private boolean isRowValueKeyset() {
+    return keyOrderings.size() > 1
+        && rdbEngine.isRowValueComparisonSupported()
+        && keyOrderings.stream().allMatch(o -> o.getOrder() == keyOrderings.get(0).getOrder());
+  }
 
-    return " WHERE " + String.join(" OR ", conjunctionSqlStrings());
+  private String keysetOperator(Scan.Ordering.Order order) {
+    return order == Scan.Ordering.Order.ASC ? ">" : "<";
   }
 
   private List<String> conjunctionSqlStrings() {
@@ -178,35 +319,7 @@ public class SimpleSelectQuery implements SelectQuery {
       return "";
     }
 
-    List<Scan.Ordering> orderingList = new ArrayList<>(orderings);
-
-    Boolean reverse = null;
-    int i = 0;
-    for (String clusteringKeyName : tableMetadata.getClusteringKeyNames()) {
-      if (i < orderings.size()) {
-        Scan.Ordering ordering = orderings.get(i++);
-        if (reverse == null) {
-          reverse =
-              ordering.getOrder() != tableMetadata.getClusteringOrder(ordering.getColumnName());
-        }
-      } else {
-        Scan.Ordering.Order order = tableMetadata.getClusteringOrder(clusteringKeyName);
-
-        if (reverse != null && reverse) {
-          if (order == Scan.Ordering.Order.ASC) {
-            order = Scan.Ordering.Order.DESC;
-          } else {
-            order = Scan.Ordering.Order.ASC;
-          }
-        }
-        orderingList.add(new Scan.Ordering(clusteringKeyName, order));
-      }
-    }
-
-    return " ORDER BY "
-        + orderingList.stream()
-            .map(o -> rdbEngine.enclose(o.getColumnName()) + " " + o.getOrder())
-            .collect(Collectors.joining(","));
+    return orderBySqlString(QueryUtils.getClusteringOrderings(orderings, tableMetadata));
   }
 
   private String crossPartitionOrderBySqlString() {
@@ -214,8 +327,12 @@ public class SimpleSelectQuery implements SelectQuery {
       return "";
     }
 
+    return orderBySqlString(orderings);
+  }
+
+  private String orderBySqlString(List<Scan.Ordering> orderingList) {
     return " ORDER BY "
-        + orderings.stream()
+        + orderingList.stream()
             .map(o -> rdbEngine.enclose(o.getColumnName()) + " " + o.getOrder())
             .collect(Collectors.joining(","));
   }
@@ -255,6 +372,17 @@ public class SimpleSelectQuery implements SelectQuery {
       binder.throwSQLExceptionIfOccurred();
     }
 
+    if (!lastKey.isEmpty()) {
+      boolean rowValueKeyset = isRowValueKeyset();
+      for (int i = 0; i < lastKey.size(); i++) {
+        // The expanded keyset condition repeats the preceding key columns in each disjunct
+        for (int j = rowValueKeyset ? i : 0; j <= i; j++) {
+          lastKey.get(j).accept(binder);
+          binder.throwSQLExceptionIfOccurred();
+        }
+      }
+    }
+
     for (Conjunction conjunction : conjunctions) {
       for (ConditionalExpression condition : conjunction.getConditions()) {
         if ((condition.getOperator().equals(Operator.LIKE)
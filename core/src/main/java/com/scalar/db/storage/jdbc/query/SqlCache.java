@@ -0,0 +1,69 @@
+package com.scalar.db.storage.jdbc.query;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.scalar.db.io.Column;
+import com.scalar.db.io.Key;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A cache for SQL text. The SQL of a query depends only on its shape (the target table, the
+ * projected columns, the names of the key and value columns, the condition operators, and so on),
+ * not on the values bound to it, so the queries with the same shape share the same SQL instance
+ * and only bind their values. Sharing the SQL also lets the prepared statement pool of the
+ * connection pool hit for every query with the same shape. The cache will try to evict entries
+ * that haven't been used recently when it reaches or is approaching the size limit.
+ */
+@ThreadSafe
+public class SqlCache {
+  private static final int DEFAULT_CACHE_SIZE = 1024;
+  private final Cache<List<Object>, String> cache;
+
+  /** Constructs a cache with default cache size (= 1024). */
+  public SqlCache() {
+    this(DEFAULT_CACHE_SIZE);
+  }
+
+  /**
+   * Constructs a cache with the specified max size
+   *
+   * @param maxSize the max size
+   */
+  public SqlCache(int maxSize) {
+    cache = CacheBuilder.newBuilder().maximumSize(maxSize).build();
+  }
+
+  /**
+   * Returns the SQL associated with the specified query shape. If it's not cached, it's built
+   * with the specified builder and cached.
+   *
+   * @param shape the shape of a query. It must contain everything the SQL depends on
+   * @param sqlBuilder a builder of the SQL
+   * @return the SQL associated with the specified shape
+   */
+  String get(List<Object> shape, Supplier<String> sqlBuilder) {
+    String sql = cache.getIfPresent(shape);
+    if (sql == null) {
+      sql = sqlBuilder.get();
+      cache.put(shape, sql);
+    }
+    return sql;
+  }
+
+  static List<String> columnNames(Key key) {
+    List<String> names = new ArrayList<>(key.size());
+    for (Column<?> column : key.getColumns()) {
+      names.add(column.getName());
+    }
+    return names;
+  }
+
+  static List<String> columnNames(Optional<Key> key) {
+    return key.isPresent() ? columnNames(key.get()) : Collections.emptyList();
+  }
+}
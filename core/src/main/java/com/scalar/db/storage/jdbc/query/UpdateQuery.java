@@ -12,6 +12,7 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -23,6 +24,7 @@ import javax.annotation.concurrent.ThreadSafe;
 public class UpdateQuery implements Query {
 
   private final RdbEngineStrategy rdbEngine;
+  private final SqlCache sqlCache;
   private final String schema;
   private final String table;
   private final TableMetadata tableMetadata;
@@ -33,6 +35,7 @@ public class UpdateQuery implements Query {
 
   private UpdateQuery(Builder builder) {
     rdbEngine = builder.rdbEngine;
+    sqlCache = builder.sqlCache;
     schema = builder.schema;
     table = builder.table;
     tableMetadata = builder.tableMetadata;
@@ -44,6 +47,26 @@ public class UpdateQuery implements Query {
 
   @Override
   public String sql() {
+    return sqlCache.get(sqlShape(), this::buildSql);
+  }
+
+  private List<Object> sqlShape() {
+    List<Object> conditionShapes = new ArrayList<>(otherConditions.size());
+    for (ConditionalExpression condition : otherConditions) {
+      conditionShapes.add(condition.getColumn().getName());
+      conditionShapes.add(condition.getOperator());
+    }
+    return Arrays.asList(
+        "UPDATE",
+        schema,
+        table,
+        new ArrayList<>(columns.keySet()),
+        SqlCache.columnNames(partitionKey),
+        SqlCache.columnNames(clusteringKey),
+        conditionShapes);
+  }
+
+  private String buildSql() {
     return "UPDATE "
         + rdbEngine.encloseFullTableName(schema, table)
         + " SET "
@@ -104,6 +127,7 @@ public class UpdateQuery implements Query {
 
   public static class Builder {
     private final RdbEngineStrategy rdbEngine;
+    private final SqlCache sqlCache;
     private final String schema;
     private final String table;
     private final TableMetadata tableMetadata;
@@ -112,8 +136,14 @@ public class UpdateQuery implements Query {
     private Optional<Key> clusteringKey;
     private Map<String, Column<?>> columns;
 
-    Builder(RdbEngineStrategy rdbEngine, String schema, String table, TableMetadata tableMetadata) {
+    Builder(
+        RdbEngineStrategy rdbEngine,
+        SqlCache sqlCache,
+        String schema,
+        String table,
+        TableMetadata tableMetadata) {
       this.rdbEngine = rdbEngine;
+      this.sqlCache = sqlCache;
       this.schema = schema;
       this.table = table;
       this.tableMetadata = tableMetadata;
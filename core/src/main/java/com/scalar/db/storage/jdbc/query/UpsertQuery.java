@@ -5,6 +5,9 @@ import com.scalar.db.io.Column;
 import com.scalar.db.io.Key;
 import com.scalar.db.storage.jdbc.RdbEngineStrategy;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -12,6 +15,7 @@ public interface UpsertQuery extends Query {
 
   class Builder {
     final RdbEngineStrategy rdbEngine;
+    final SqlCache sqlCache;
     final String schema;
     final String table;
     final TableMetadata tableMetadata;
@@ -19,8 +23,14 @@ public interface UpsertQuery extends Query {
     Optional<Key> clusteringKey;
     Map<String, Column<?>> columns;
 
-    Builder(RdbEngineStrategy rdbEngine, String schema, String table, TableMetadata tableMetadata) {
+    Builder(
+        RdbEngineStrategy rdbEngine,
+        SqlCache sqlCache,
+        String schema,
+        String table,
+        TableMetadata tableMetadata) {
       this.rdbEngine = rdbEngine;
+      this.sqlCache = sqlCache;
       this.schema = schema;
       this.table = table;
       this.tableMetadata = tableMetadata;
@@ -35,6 +45,17 @@ public interface UpsertQuery extends Query {
       return this;
     }
 
+    // The implementations build their SQL only from these, so this is used as the key of SqlCache
+    List<Object> sqlShape() {
+      return Arrays.asList(
+          "UPSERT",
+          schema,
+          table,
+          SqlCache.columnNames(partitionKey),
+          SqlCache.columnNames(clusteringKey),
+          new ArrayList<>(columns.keySet()));
+    }
+
     public UpsertQuery build() {
       return rdbEngine.buildUpsertQuery(this);
     }
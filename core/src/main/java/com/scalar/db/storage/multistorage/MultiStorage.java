@@ -18,8 +18,11 @@ import com.scalar.db.common.error.CoreError;
 import com.scalar.db.config.DatabaseConfig;
 import com.scalar.db.exception.storage.ExecutionException;
 import com.scalar.db.service.StorageFactory;
+import com.scalar.db.util.ScalarDbUtils;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -99,6 +102,12 @@ public class MultiStorage extends AbstractDistributedStorage {
     return getStorage(scan).scan(scan);
   }
 
+  @Override
+  public Scanner scan(Scan scan, String continuationToken) throws ExecutionException {
+    scan = copyAndSetTargetToIfNot(scan);
+    return getStorage(scan).scan(scan, continuationToken);
+  }
+
   @Override
   public void put(Put put) throws ExecutionException {
     put = copyAndSetTargetToIfNot(put);
@@ -110,6 +119,12 @@ public class MultiStorage extends AbstractDistributedStorage {
     mutate(puts);
   }
 
+  @Override
+  public long bulkLoad(String namespace, String table, Iterator<Put> puts)
+      throws ExecutionException {
+    return getStorage(namespace, table).bulkLoad(namespace, table, puts);
+  }
+
   @Override
   public void delete(Delete delete) throws ExecutionException {
     delete = copyAndSetTargetToIfNot(delete);
@@ -139,17 +154,42 @@ public class MultiStorage extends AbstractDistributedStorage {
     getStorage(mutations.get(0)).mutate(mutations);
   }
 
+  @Override
+  public void mutateNonAtomically(List<? extends Mutation> mutations) throws ExecutionException {
+    mutations = copyAndSetTargetToIfNot(mutations);
+    Map<DistributedStorage, List<Mutation>> storageMutations = new LinkedHashMap<>();
+    for (Mutation mutation : mutations) {
+      storageMutations.computeIfAbsent(getStorage(mutation), s -> new ArrayList<>()).add(mutation);
+    }
+    for (Map.Entry<DistributedStorage, List<Mutation>> entry : storageMutations.entrySet()) {
+      entry.getKey().mutateNonAtomically(entry.getValue());
+    }
+  }
+
   private DistributedStorage getStorage(Operation operation) {
-    String fullTaleName = operation.forFullTableName().get();
-    DistributedStorage storage = tableStorageMap.get(fullTaleName);
+    return getStorage(operation.forNamespace().get(), operation.forTable().get());
+  }
+
+  private DistributedStorage getStorage(String namespace, String table) {
+    String fullTableName = ScalarDbUtils.getFullTableName(namespace, table);
+    DistributedStorage storage = tableStorageMap.get(fullTableName);
     if (storage != null) {
       return storage;
     }
-    String namespace = operation.forNamespace().get();
     storage = namespaceStorageMap.get(namespace);
     return storage != null ? storage : defaultStorage;
   }
 
+  @Override
+  public boolean isReady() {
+    for (DistributedStorage storage : storages) {
+      if (!storage.isReady()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   @Override
   public void close() {
     for (DistributedStorage storage : storages) {
@@ -18,6 +18,9 @@ import com.scalar.db.exception.transaction.ValidationConflictException;
 import com.scalar.db.exception.transaction.ValidationException;
 import com.scalar.db.transaction.consensuscommit.Coordinator.State;
 import com.scalar.db.transaction.consensuscommit.ParallelExecutor.ParallelExecutorTask;
+import com.scalar.db.util.metrics.NoOpOperationMetrics;
+import com.scalar.db.util.metrics.OperationMetrics;
+import com.scalar.db.util.metrics.OperationRecorder;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.ArrayList;
 import java.util.List;
@@ -29,21 +32,48 @@ import org.slf4j.LoggerFactory;
 @ThreadSafe
 public class CommitHandler {
   private static final Logger logger = LoggerFactory.getLogger(CommitHandler.class);
+  static final String METRICS_SCOPE = "consensus_commit";
   private final DistributedStorage storage;
   protected final Coordinator coordinator;
   private final TransactionTableMetadataManager tableMetadataManager;
   private final ParallelExecutor parallelExecutor;
+  private final OperationRecorder prepareRecorder;
+  private final OperationRecorder validateRecorder;
+  protected final OperationRecorder commitStateRecorder;
+  private final OperationRecorder commitRecordsRecorder;
+  private final OperationRecorder abortStateRecorder;
+  private final OperationRecorder rollbackRecordsRecorder;
 
-  @SuppressFBWarnings("EI_EXPOSE_REP2")
   public CommitHandler(
       DistributedStorage storage,
       Coordinator coordinator,
       TransactionTableMetadataManager tableMetadataManager,
       ParallelExecutor parallelExecutor) {
+    this(
+        storage,
+        coordinator,
+        tableMetadataManager,
+        parallelExecutor,
+        NoOpOperationMetrics.INSTANCE);
+  }
+
+  @SuppressFBWarnings("EI_EXPOSE_REP2")
+  public CommitHandler(
+      DistributedStorage storage,
+      Coordinator coordinator,
+      TransactionTableMetadataManager tableMetadataManager,
+      ParallelExecutor parallelExecutor,
+      OperationMetrics metrics) {
     this.storage = checkNotNull(storage);
     this.coordinator = checkNotNull(coordinator);
     this.tableMetadataManager = checkNotNull(tableMetadataManager);
     this.parallelExecutor = checkNotNull(parallelExecutor);
+    prepareRecorder = metrics.getRecorder(METRICS_SCOPE, "prepare");
+    validateRecorder = metrics.getRecorder(METRICS_SCOPE, "validate");
+    commitStateRecorder = metrics.getRecorder(METRICS_SCOPE, "commit_state");
+    commitRecordsRecorder = metrics.getRecorder(METRICS_SCOPE, "commit_records");
+    abortStateRecorder = metrics.getRecorder(METRICS_SCOPE, "abort_state");
+    rollbackRecordsRecorder = metrics.getRecorder(METRICS_SCOPE, "rollback_records");
   }
 
   protected void onPrepareFailure(Snapshot snapshot) {}
@@ -111,6 +141,10 @@ public class CommitHandler {
   }
 
   public void prepare(Snapshot snapshot) throws PreparationException {
+    prepareRecorder.time(() -> prepareAndTranslateException(snapshot));
+  }
+
+  private void prepareAndTranslateException(Snapshot snapshot) throws PreparationException {
     try {
       prepareRecords(snapshot);
     } catch (NoMutationException e) {
@@ -143,17 +177,28 @@ public class CommitHandler {
   }
 
   public void validate(Snapshot snapshot) throws ValidationException {
-    try {
-      // validation is executed when SERIALIZABLE with EXTRA_READ strategy is chosen.
-      snapshot.toSerializableWithExtraRead(storage);
-    } catch (ExecutionException e) {
-      throw new ValidationException(
-          CoreError.CONSENSUS_COMMIT_VALIDATION_FAILED.buildMessage(), e, snapshot.getId());
-    }
+    validateRecorder.time(
+        () -> {
+          try {
+            // validation is executed when SERIALIZABLE with EXTRA_READ strategy is chosen.
+            snapshot.toSerializableWithExtraRead(storage);
+          } catch (ExecutionException e) {
+            throw new ValidationException(
+                CoreError.CONSENSUS_COMMIT_VALIDATION_FAILED.buildMessage(), e, snapshot.getId());
+          }
+        });
   }
 
   public void commitState(Snapshot snapshot)
       throws CommitConflictException, UnknownTransactionStatusException {
+    commitStateRecorder.time(
+        () -> commitStateToCoordinator(snapshot),
+        CommitConflictException.class,
+        UnknownTransactionStatusException.class);
+  }
+
+  private void commitStateToCoordinator(Snapshot snapshot)
+      throws CommitConflictException, UnknownTransactionStatusException {
     String id = snapshot.getId();
     try {
       Coordinator.State state = new Coordinator.State(id, TransactionState.COMMITTED);
@@ -169,6 +214,10 @@ public class CommitHandler {
   }
 
   public void commitRecords(Snapshot snapshot) {
+    commitRecordsRecorder.time(() -> commitRecordsIgnoringFailure(snapshot));
+  }
+
+  private void commitRecordsIgnoringFailure(Snapshot snapshot) {
     try {
       CommitMutationComposer composer =
           new CommitMutationComposer(snapshot.getId(), tableMetadataManager);
@@ -177,8 +226,9 @@ public class CommitHandler {
 
       ImmutableList<PartitionedMutations.Key> orderedKeys = mutations.getOrderedKeys();
       List<ParallelExecutorTask> tasks = new ArrayList<>(orderedKeys.size());
+      // The records don't need to be committed atomically because they are recovered lazily
       for (PartitionedMutations.Key key : orderedKeys) {
-        tasks.add(() -> storage.mutate(mutations.get(key)));
+        tasks.add(() -> storage.mutateNonAtomically(mutations.get(key)));
       }
       parallelExecutor.commitRecords(tasks, snapshot.getId());
     } catch (Exception e) {
@@ -188,6 +238,11 @@ public class CommitHandler {
   }
 
   public TransactionState abortState(String id) throws UnknownTransactionStatusException {
+    return abortStateRecorder.time(() -> abortStateInCoordinator(id));
+  }
+
+  private TransactionState abortStateInCoordinator(String id)
+      throws UnknownTransactionStatusException {
     try {
       Coordinator.State state = new Coordinator.State(id, TransactionState.ABORTED);
       coordinator.putState(state);
@@ -216,6 +271,10 @@ public class CommitHandler {
   }
 
   public void rollbackRecords(Snapshot snapshot) {
+    rollbackRecordsRecorder.time(() -> rollbackRecordsIgnoringFailure(snapshot));
+  }
+
+  private void rollbackRecordsIgnoringFailure(Snapshot snapshot) {
     logger.debug("Rollback from snapshot for {}", snapshot.getId());
     try {
       RollbackMutationComposer composer =
@@ -225,8 +284,9 @@ public class CommitHandler {
 
       ImmutableList<PartitionedMutations.Key> orderedKeys = mutations.getOrderedKeys();
       List<ParallelExecutorTask> tasks = new ArrayList<>(orderedKeys.size());
+      // The records don't need to be rolled back atomically because they are recovered lazily
       for (PartitionedMutations.Key key : orderedKeys) {
-        tasks.add(() -> storage.mutate(mutations.get(key)));
+        tasks.add(() -> storage.mutateNonAtomically(mutations.get(key)));
       }
       parallelExecutor.rollbackRecords(tasks, snapshot.getId());
     } catch (Exception e) {
@@ -10,6 +10,8 @@ import com.scalar.db.transaction.consensuscommit.Coordinator.State;
 import com.scalar.db.util.groupcommit.Emittable;
 import com.scalar.db.util.groupcommit.GroupCommitConflictException;
 import com.scalar.db.util.groupcommit.GroupCommitException;
+import com.scalar.db.util.metrics.NoOpOperationMetrics;
+import com.scalar.db.util.metrics.OperationMetrics;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -22,14 +24,30 @@ public class CommitHandlerWithGroupCommit extends CommitHandler {
   private static final Logger logger = LoggerFactory.getLogger(CommitHandlerWithGroupCommit.class);
   private final CoordinatorGroupCommitter groupCommitter;
 
-  @SuppressFBWarnings("EI_EXPOSE_REP2")
   public CommitHandlerWithGroupCommit(
       DistributedStorage storage,
       Coordinator coordinator,
       TransactionTableMetadataManager tableMetadataManager,
       ParallelExecutor parallelExecutor,
       CoordinatorGroupCommitter groupCommitter) {
-    super(storage, coordinator, tableMetadataManager, parallelExecutor);
+    this(
+        storage,
+        coordinator,
+        tableMetadataManager,
+        parallelExecutor,
+        groupCommitter,
+        NoOpOperationMetrics.INSTANCE);
+  }
+
+  @SuppressFBWarnings("EI_EXPOSE_REP2")
+  public CommitHandlerWithGroupCommit(
+      DistributedStorage storage,
+      Coordinator coordinator,
+      TransactionTableMetadataManager tableMetadataManager,
+      ParallelExecutor parallelExecutor,
+      CoordinatorGroupCommitter groupCommitter,
+      OperationMetrics metrics) {
+    super(storage, coordinator, tableMetadataManager, parallelExecutor, metrics);
 
     checkNotNull(groupCommitter);
     // The methods of this emitter will be called via GroupCommitter.ready().
@@ -83,7 +101,10 @@ public class CommitHandlerWithGroupCommit extends CommitHandler {
   @Override
   public void commitState(Snapshot snapshot)
       throws CommitConflictException, UnknownTransactionStatusException {
-    commitStateViaGroupCommit(snapshot);
+    commitStateRecorder.time(
+        () -> commitStateViaGroupCommit(snapshot),
+        CommitConflictException.class,
+        UnknownTransactionStatusException.class);
   }
 
   @Override
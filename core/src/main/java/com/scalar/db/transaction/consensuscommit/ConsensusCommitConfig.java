@@ -56,6 +56,8 @@ public class ConsensusCommitConfig {
       COORDINATOR_GROUP_COMMIT_PREFIX + "timeout_check_interval_millis";
   public static final String COORDINATOR_GROUP_COMMIT_METRICS_MONITOR_LOG_ENABLED =
       COORDINATOR_GROUP_COMMIT_PREFIX + "metrics_monitor_log_enabled";
+  public static final String COORDINATOR_GROUP_COMMIT_METRICS_JMX_ENABLED =
+      COORDINATOR_GROUP_COMMIT_PREFIX + "metrics_jmx_enabled";
 
   public static final int DEFAULT_COORDINATOR_GROUP_COMMIT_SLOT_CAPACITY = 20;
   public static final int DEFAULT_COORDINATOR_GROUP_COMMIT_GROUP_SIZE_FIX_TIMEOUT_MILLIS = 40;
@@ -86,6 +88,7 @@ public class ConsensusCommitConfig {
   private final int coordinatorGroupCommitOldGroupAbortTimeoutMillis;
   private final int coordinatorGroupCommitTimeoutCheckIntervalMillis;
   private final boolean coordinatorGroupCommitMetricsMonitorLogEnabled;
+  private final boolean coordinatorGroupCommitMetricsJmxEnabled;
 
   public ConsensusCommitConfig(DatabaseConfig databaseConfig) {
     String transactionManager = databaseConfig.getTransactionManager();
@@ -187,6 +190,9 @@ public class ConsensusCommitConfig {
             databaseConfig.getProperties(),
             COORDINATOR_GROUP_COMMIT_METRICS_MONITOR_LOG_ENABLED,
             false);
+    coordinatorGroupCommitMetricsJmxEnabled =
+        getBoolean(
+            databaseConfig.getProperties(), COORDINATOR_GROUP_COMMIT_METRICS_JMX_ENABLED, false);
   }
 
   // For the SpotBugs warning CT_CONSTRUCTOR_THROW
@@ -269,6 +275,10 @@ public class ConsensusCommitConfig {
     return coordinatorGroupCommitMetricsMonitorLogEnabled;
   }
 
+  public boolean isCoordinatorGroupCommitMetricsJmxEnabled() {
+    return coordinatorGroupCommitMetricsJmxEnabled;
+  }
+
   private void validateCrossPartitionScanConfig(DatabaseConfig databaseConfig) {
     // It might be better to let each storage have metadata (e.g., linearizable cross-partition scan
     // is supported or not) and check it rather than checking specific storage types. We will
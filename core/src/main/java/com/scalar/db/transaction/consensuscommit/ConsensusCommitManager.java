@@ -31,6 +31,8 @@ import com.scalar.db.exception.transaction.UnknownTransactionStatusException;
 import com.scalar.db.service.StorageFactory;
 import com.scalar.db.transaction.consensuscommit.Coordinator.State;
 import com.scalar.db.util.ThrowableFunction;
+import com.scalar.db.util.metrics.OperationMetrics;
+import com.scalar.db.util.metrics.OperationMetricsFactory;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.List;
 import java.util.Optional;
@@ -68,9 +70,10 @@ public class ConsensusCommitManager extends ActiveTransactionManagedDistributedT
     tableMetadataManager =
         new TransactionTableMetadataManager(
             admin, databaseConfig.getMetadataCacheExpirationTimeSecs());
-    recovery = new RecoveryHandler(storage, coordinator, tableMetadataManager);
+    OperationMetrics metrics = OperationMetricsFactory.create(databaseConfig);
+    recovery = new RecoveryHandler(storage, coordinator, tableMetadataManager, metrics);
     groupCommitter = CoordinatorGroupCommitter.from(config).orElse(null);
-    commit = createCommitHandler();
+    commit = createCommitHandler(metrics);
     isIncludeMetadataEnabled = config.isIncludeMetadataEnabled();
     mutationOperationChecker = new ConsensusCommitMutationOperationChecker(tableMetadataManager);
   }
@@ -87,9 +90,10 @@ public class ConsensusCommitManager extends ActiveTransactionManagedDistributedT
     tableMetadataManager =
         new TransactionTableMetadataManager(
             admin, databaseConfig.getMetadataCacheExpirationTimeSecs());
-    recovery = new RecoveryHandler(storage, coordinator, tableMetadataManager);
+    OperationMetrics metrics = OperationMetricsFactory.create(databaseConfig);
+    recovery = new RecoveryHandler(storage, coordinator, tableMetadataManager, metrics);
     groupCommitter = CoordinatorGroupCommitter.from(config).orElse(null);
-    commit = createCommitHandler();
+    commit = createCommitHandler(metrics);
     isIncludeMetadataEnabled = config.isIncludeMetadataEnabled();
     mutationOperationChecker = new ConsensusCommitMutationOperationChecker(tableMetadataManager);
   }
@@ -124,12 +128,13 @@ public class ConsensusCommitManager extends ActiveTransactionManagedDistributedT
   }
 
   // `groupCommitter` must be set before calling this method.
-  private CommitHandler createCommitHandler() {
+  private CommitHandler createCommitHandler(OperationMetrics metrics) {
     if (isGroupCommitEnabled()) {
       return new CommitHandlerWithGroupCommit(
-          storage, coordinator, tableMetadataManager, parallelExecutor, groupCommitter);
+          storage, coordinator, tableMetadataManager, parallelExecutor, groupCommitter, metrics);
     } else {
-      return new CommitHandler(storage, coordinator, tableMetadataManager, parallelExecutor);
+      return new CommitHandler(
+          storage, coordinator, tableMetadataManager, parallelExecutor, metrics);
     }
   }
 
@@ -394,6 +399,11 @@ public class ConsensusCommitManager extends ActiveTransactionManagedDistributedT
     return groupCommitter != null;
   }
 
+  @Override
+  public boolean isReady() {
+    return storage.isReady();
+  }
+
   @Override
   public void close() {
     storage.close();
@@ -1,15 +1,24 @@
 package com.scalar.db.transaction.consensuscommit;
 
 import com.scalar.db.util.groupcommit.GroupCommitConfig;
+import com.scalar.db.util.groupcommit.GroupCommitMetricsRegistry;
 import com.scalar.db.util.groupcommit.GroupCommitter;
+import com.scalar.db.util.groupcommit.JmxGroupCommitMetricsRegistry;
 import com.scalar.db.util.groupcommit.KeyManipulator;
+import com.scalar.db.util.groupcommit.NoOpGroupCommitMetricsRegistry;
 import java.util.Optional;
 import java.util.concurrent.ThreadLocalRandom;
 
 public class CoordinatorGroupCommitter
     extends GroupCommitter<String, String, String, String, String, Snapshot> {
+  private static final String LABEL = "coordinator";
+
   CoordinatorGroupCommitter(GroupCommitConfig config) {
-    super("coordinator", config, new CoordinatorGroupCommitKeyManipulator());
+    this(config, NoOpGroupCommitMetricsRegistry.INSTANCE);
+  }
+
+  CoordinatorGroupCommitter(GroupCommitConfig config, GroupCommitMetricsRegistry metricsRegistry) {
+    super(LABEL, config, new CoordinatorGroupCommitKeyManipulator(), metricsRegistry);
   }
 
   public CoordinatorGroupCommitter(ConsensusCommitConfig config) {
@@ -20,7 +29,10 @@ public class CoordinatorGroupCommitter
             config.getCoordinatorGroupCommitDelayedSlotMoveTimeoutMillis(),
             config.getCoordinatorGroupCommitOldGroupAbortTimeoutMillis(),
             config.getCoordinatorGroupCommitTimeoutCheckIntervalMillis(),
-            config.isCoordinatorGroupCommitMetricsMonitorLogEnabled()));
+            config.isCoordinatorGroupCommitMetricsMonitorLogEnabled()),
+        config.isCoordinatorGroupCommitMetricsJmxEnabled()
+            ? new JmxGroupCommitMetricsRegistry(LABEL)
+            : NoOpGroupCommitMetricsRegistry.INSTANCE);
   }
 
   public static Optional<CoordinatorGroupCommitter> from(ConsensusCommitConfig config) {
@@ -305,7 +305,15 @@ public class CrudHandler {
       selection.withProjections(afterImageColumnNames);
     }
     selection.withConsistency(Consistency.LINEARIZABLE);
-    return selection;
+
+    // Consensus commit guarantees the isolation by itself, and the storage can't hold locks until
+    // the end of the transaction. Moreover, a lock mode like SKIP_LOCKED makes the storage skip
+    // records, which breaks the serializability. So we don't pass a lock mode to the storage
+    if (selection instanceof Get) {
+      return ScalarDbUtils.copyAndClearLockModeIfSet((Get) selection);
+    }
+    assert selection instanceof Scan;
+    return ScalarDbUtils.copyAndClearLockModeIfSet((Scan) selection);
   }
 
   private TransactionTableMetadata getTransactionTableMetadata(Operation operation)
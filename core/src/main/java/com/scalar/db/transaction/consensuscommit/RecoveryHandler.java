@@ -8,6 +8,8 @@ import com.scalar.db.api.Mutation;
 import com.scalar.db.api.Selection;
 import com.scalar.db.api.TransactionState;
 import com.scalar.db.exception.storage.ExecutionException;
+import com.scalar.db.util.metrics.NoOpOperationMetrics;
+import com.scalar.db.util.metrics.OperationMetrics;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.List;
 import java.util.Optional;
@@ -22,19 +24,39 @@ public class RecoveryHandler {
   private final DistributedStorage storage;
   private final Coordinator coordinator;
   private final TransactionTableMetadataManager tableMetadataManager;
+  private final OperationMetrics metrics;
 
-  @SuppressFBWarnings("EI_EXPOSE_REP2")
   public RecoveryHandler(
       DistributedStorage storage,
       Coordinator coordinator,
       TransactionTableMetadataManager tableMetadataManager) {
+    this(storage, coordinator, tableMetadataManager, NoOpOperationMetrics.INSTANCE);
+  }
+
+  @SuppressFBWarnings("EI_EXPOSE_REP2")
+  public RecoveryHandler(
+      DistributedStorage storage,
+      Coordinator coordinator,
+      TransactionTableMetadataManager tableMetadataManager,
+      OperationMetrics metrics) {
     this.storage = checkNotNull(storage);
     this.coordinator = checkNotNull(coordinator);
     this.tableMetadataManager = checkNotNull(tableMetadataManager);
+    this.metrics = checkNotNull(metrics);
   }
 
   // lazy recovery in read phase
   public void recover(Selection selection, TransactionResult result) {
+    metrics
+        .getRecorder(
+            CommitHandler.METRICS_SCOPE,
+            "recover",
+            selection.forNamespace().orElse(null),
+            selection.forTable().orElse(null))
+        .time(() -> recoverRecord(selection, result));
+  }
+
+  private void recoverRecord(Selection selection, TransactionResult result) {
     logger.debug("Recovering for {}", result.getId());
 
     Optional<Coordinator.State> state;
@@ -1,20 +1,23 @@
 package com.scalar.db.transaction.consensuscommit;
 
-import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.scalar.db.api.DistributedStorageAdmin;
 import com.scalar.db.api.Operation;
 import com.scalar.db.api.TableMetadata;
+import com.scalar.db.common.TableMetadataCacheUtils;
 import com.scalar.db.common.error.CoreError;
 import com.scalar.db.exception.storage.ExecutionException;
 import com.scalar.db.util.ScalarDbUtils;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
 
+/**
+ * A class that manages and caches transaction table metadata. See {@link
+ * TableMetadataCacheUtils} for how the cached table metadata expire.
+ */
 @ThreadSafe
 public class TransactionTableMetadataManager {
 
@@ -22,25 +25,23 @@ public class TransactionTableMetadataManager {
 
   public TransactionTableMetadataManager(
       DistributedStorageAdmin admin, long cacheExpirationTimeSecs) {
-
-    CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder();
-    if (cacheExpirationTimeSecs >= 0) {
-      builder.expireAfterWrite(cacheExpirationTimeSecs, TimeUnit.SECONDS);
-    }
     tableMetadataCache =
-        builder.build(
-            new CacheLoader<TableKey, Optional<TransactionTableMetadata>>() {
-              @Nonnull
-              @Override
-              public Optional<TransactionTableMetadata> load(@Nonnull TableKey key)
-                  throws ExecutionException {
-                TableMetadata tableMetadata = admin.getTableMetadata(key.namespace, key.table);
-                if (tableMetadata == null) {
-                  return Optional.empty();
-                }
-                return Optional.of(new TransactionTableMetadata(tableMetadata));
-              }
-            });
+        TableMetadataCacheUtils.newCacheBuilder(cacheExpirationTimeSecs)
+            .build(
+                TableMetadataCacheUtils.asyncReloading(
+                    new CacheLoader<TableKey, Optional<TransactionTableMetadata>>() {
+                      @Nonnull
+                      @Override
+                      public Optional<TransactionTableMetadata> load(@Nonnull TableKey key)
+                          throws ExecutionException {
+                        TableMetadata tableMetadata =
+                            admin.getTableMetadata(key.namespace, key.table);
+                        if (tableMetadata == null) {
+                          return Optional.empty();
+                        }
+                        return Optional.of(new TransactionTableMetadata(tableMetadata));
+                      }
+                    }));
   }
 
   /**
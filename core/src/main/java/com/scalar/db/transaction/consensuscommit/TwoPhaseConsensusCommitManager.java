@@ -32,6 +32,8 @@ import com.scalar.db.exception.transaction.ValidationConflictException;
 import com.scalar.db.service.StorageFactory;
 import com.scalar.db.transaction.consensuscommit.Coordinator.State;
 import com.scalar.db.util.ThrowableFunction;
+import com.scalar.db.util.metrics.OperationMetrics;
+import com.scalar.db.util.metrics.OperationMetricsFactory;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.List;
 import java.util.Optional;
@@ -72,8 +74,10 @@ public class TwoPhaseConsensusCommitManager
             admin, databaseConfig.getMetadataCacheExpirationTimeSecs());
     coordinator = new Coordinator(storage, config);
     parallelExecutor = new ParallelExecutor(config);
-    recovery = new RecoveryHandler(storage, coordinator, tableMetadataManager);
-    commit = new CommitHandler(storage, coordinator, tableMetadataManager, parallelExecutor);
+    OperationMetrics metrics = OperationMetricsFactory.create(databaseConfig);
+    recovery = new RecoveryHandler(storage, coordinator, tableMetadataManager, metrics);
+    commit =
+        new CommitHandler(storage, coordinator, tableMetadataManager, parallelExecutor, metrics);
     isIncludeMetadataEnabled = config.isIncludeMetadataEnabled();
     mutationOperationChecker = new ConsensusCommitMutationOperationChecker(tableMetadataManager);
   }
@@ -89,8 +93,10 @@ public class TwoPhaseConsensusCommitManager
             admin, databaseConfig.getMetadataCacheExpirationTimeSecs());
     coordinator = new Coordinator(storage, config);
     parallelExecutor = new ParallelExecutor(config);
-    recovery = new RecoveryHandler(storage, coordinator, tableMetadataManager);
-    commit = new CommitHandler(storage, coordinator, tableMetadataManager, parallelExecutor);
+    OperationMetrics metrics = OperationMetricsFactory.create(databaseConfig);
+    recovery = new RecoveryHandler(storage, coordinator, tableMetadataManager, metrics);
+    commit =
+        new CommitHandler(storage, coordinator, tableMetadataManager, parallelExecutor, metrics);
     isIncludeMetadataEnabled = config.isIncludeMetadataEnabled();
     mutationOperationChecker = new ConsensusCommitMutationOperationChecker(tableMetadataManager);
   }
@@ -349,6 +355,11 @@ public class TwoPhaseConsensusCommitManager
     }
   }
 
+  @Override
+  public boolean isReady() {
+    return storage.isReady();
+  }
+
   @Override
   public void close() {
     storage.close();
@@ -10,6 +10,7 @@ import com.scalar.db.api.Get;
 import com.scalar.db.api.Insert;
 import com.scalar.db.api.Mutation;
 import com.scalar.db.api.MutationCondition;
+import com.scalar.db.api.Operation;
 import com.scalar.db.api.Put;
 import com.scalar.db.api.PutBuilder;
 import com.scalar.db.api.PutIf;
@@ -34,6 +35,7 @@ import com.scalar.db.storage.jdbc.RdbEngineStrategy;
 import com.scalar.db.util.ScalarDbUtils;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -44,6 +46,16 @@ import org.slf4j.LoggerFactory;
 /**
  * This indicates a transaction session of JDBC.
  *
+ * <p>In the write-behind mode, unconditional puts, deletes, and upserts aren't executed when
+ * they're issued. They are buffered and executed in batches just before a get, a scan, or a
+ * conditional mutation on the same table, and at commit. Note that an error of a buffered mutation
+ * is thrown from the operation that executes it.
+ *
+ * <p>Gets and scans with a {@link com.scalar.db.api.LockMode} lock the records they read until the
+ * transaction is committed or rolled back, so that concurrent read-modify-write transactions on the
+ * same records wait for each other instead of failing with conflicts. Note that Oracle doesn't
+ * support a lock mode in a scan with a limit.
+ *
  * @author Toshihiro Suzuki
  */
 @NotThreadSafe
@@ -54,13 +66,25 @@ public class JdbcTransaction extends AbstractDistributedTransaction {
   private final JdbcService jdbcService;
   private final Connection connection;
   private final RdbEngineStrategy rdbEngine;
+  private final boolean writeBehindEnabled;
+  private final List<Mutation> bufferedMutations = new ArrayList<>();
 
   JdbcTransaction(
       String txId, JdbcService jdbcService, Connection connection, RdbEngineStrategy rdbEngine) {
+    this(txId, jdbcService, connection, rdbEngine, false);
+  }
+
+  JdbcTransaction(
+      String txId,
+      JdbcService jdbcService,
+      Connection connection,
+      RdbEngineStrategy rdbEngine,
+      boolean writeBehindEnabled) {
     this.txId = txId;
     this.jdbcService = jdbcService;
     this.connection = connection;
     this.rdbEngine = rdbEngine;
+    this.writeBehindEnabled = writeBehindEnabled;
   }
 
   @Override
@@ -71,6 +95,7 @@ public class JdbcTransaction extends AbstractDistributedTransaction {
   @Override
   public Optional<Result> get(Get get) throws CrudException {
     get = copyAndSetTargetToIfNot(get);
+    writeBufferedMutationsFor(get);
     try {
       return jdbcService.get(get, connection);
     } catch (SQLException e) {
@@ -84,6 +109,7 @@ public class JdbcTransaction extends AbstractDistributedTransaction {
   @Override
   public List<Result> scan(Scan scan) throws CrudException {
     scan = copyAndSetTargetToIfNot(scan);
+    writeBufferedMutationsFor(scan);
     try {
       return jdbcService.scan(scan, connection);
     } catch (SQLException e) {
@@ -99,6 +125,10 @@ public class JdbcTransaction extends AbstractDistributedTransaction {
   @Override
   public void put(Put put) throws CrudException {
     put = copyAndSetTargetToIfNot(put);
+    if (tryBuffer(put)) {
+      return;
+    }
+    writeBufferedMutationsFor(put);
 
     try {
       if (!jdbcService.put(put, connection)) {
@@ -123,6 +153,10 @@ public class JdbcTransaction extends AbstractDistributedTransaction {
   @Override
   public void delete(Delete delete) throws CrudException {
     delete = copyAndSetTargetToIfNot(delete);
+    if (tryBuffer(delete)) {
+      return;
+    }
+    writeBufferedMutationsFor(delete);
 
     try {
       if (!jdbcService.delete(delete, connection)) {
@@ -157,6 +191,7 @@ public class JdbcTransaction extends AbstractDistributedTransaction {
     insert.getColumns().values().forEach(buildable::value);
     buildable.condition(ConditionBuilder.putIfNotExists());
     Put put = buildable.build();
+    writeBufferedMutationsFor(put);
 
     try {
       if (!jdbcService.put(put, connection)) {
@@ -183,6 +218,9 @@ public class JdbcTransaction extends AbstractDistributedTransaction {
     upsert.getClusteringKey().ifPresent(buildable::clusteringKey);
     upsert.getColumns().values().forEach(buildable::value);
     Put put = buildable.build();
+    if (tryBuffer(put)) {
+      return;
+    }
 
     try {
       jdbcService.put(put, connection);
@@ -217,6 +255,7 @@ public class JdbcTransaction extends AbstractDistributedTransaction {
       buildable.condition(ConditionBuilder.putIfExists());
     }
     Put put = buildable.build();
+    writeBufferedMutationsFor(put);
 
     try {
       if (!jdbcService.put(put, connection)) {
@@ -254,21 +293,71 @@ public class JdbcTransaction extends AbstractDistributedTransaction {
     }
   }
 
+  /**
+   * Buffers the specified mutation if it's unconditional and the write-behind mode is enabled.
+   *
+   * @param mutation a put or a delete
+   * @return whether the mutation is buffered
+   * @throws CrudException if the mutation is invalid
+   */
+  private boolean tryBuffer(Mutation mutation) throws CrudException {
+    if (!writeBehindEnabled || mutation.getCondition().isPresent()) {
+      return false;
+    }
+    try {
+      jdbcService.check(mutation);
+    } catch (ExecutionException e) {
+      throw new CrudException(e.getMessage(), e, txId);
+    }
+    bufferedMutations.add(mutation);
+    return true;
+  }
+
+  /**
+   * Writes the buffered mutations if any of them is for the table of the specified operation, so
+   * that the operation observes them.
+   *
+   * @param operation an operation
+   * @throws CrudException if writing the buffered mutations fails
+   */
+  private void writeBufferedMutationsFor(Operation operation) throws CrudException {
+    if (bufferedMutations.stream()
+        .noneMatch(m -> m.forFullTableName().equals(operation.forFullTableName()))) {
+      return;
+    }
+    try {
+      writeBufferedMutations();
+    } catch (SQLException e) {
+      throw createCrudException(
+          e,
+          CoreError.JDBC_TRANSACTION_WRITING_BUFFERED_MUTATIONS_FAILED.buildMessage(
+              e.getMessage()));
+    } catch (ExecutionException e) {
+      throw new CrudException(e.getMessage(), e, txId);
+    }
+  }
+
+  private void writeBufferedMutations() throws SQLException, ExecutionException {
+    if (bufferedMutations.isEmpty()) {
+      return;
+    }
+    List<Mutation> mutations = new ArrayList<>(bufferedMutations);
+    bufferedMutations.clear();
+    // The buffered mutations are unconditional, so they are always applied
+    jdbcService.mutatePrechecked(mutations, connection);
+  }
+
   @Override
   public void commit() throws CommitException, UnknownTransactionStatusException {
     try {
+      writeBufferedMutations();
       connection.commit();
     } catch (SQLException e) {
-      try {
-        connection.rollback();
-      } catch (SQLException sqlException) {
-        throw new UnknownTransactionStatusException(
-            CoreError.JDBC_TRANSACTION_UNKNOWN_TRANSACTION_STATUS.buildMessage(
-                sqlException.getMessage()),
-            sqlException,
-            txId);
-      }
+      rollbackOnCommitFailure();
       throw createCommitException(e);
+    } catch (ExecutionException e) {
+      rollbackOnCommitFailure();
+      throw new CommitException(e.getMessage(), e, txId);
     } finally {
       try {
         connection.close();
@@ -278,6 +367,18 @@ public class JdbcTransaction extends AbstractDistributedTransaction {
     }
   }
 
+  private void rollbackOnCommitFailure() throws UnknownTransactionStatusException {
+    try {
+      connection.rollback();
+    } catch (SQLException sqlException) {
+      throw new UnknownTransactionStatusException(
+          CoreError.JDBC_TRANSACTION_UNKNOWN_TRANSACTION_STATUS.buildMessage(
+              sqlException.getMessage()),
+          sqlException,
+          txId);
+    }
+  }
+
   private void throwUnsatisfiedConditionException(Mutation mutation)
       throws UnsatisfiedConditionException {
     assert mutation instanceof Put || mutation instanceof Delete || mutation instanceof Update;
@@ -307,6 +408,7 @@ public class JdbcTransaction extends AbstractDistributedTransaction {
 
   @Override
   public void rollback() throws RollbackException {
+    bufferedMutations.clear();
     try {
       if (connection.isClosed()) {
         // If the connection is already closed, do nothing here
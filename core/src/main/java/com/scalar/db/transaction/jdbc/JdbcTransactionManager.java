@@ -29,18 +29,22 @@ import com.scalar.db.exception.transaction.TransactionNotFoundException;
 import com.scalar.db.exception.transaction.UnknownTransactionStatusException;
 import com.scalar.db.storage.jdbc.JdbcAdmin;
 import com.scalar.db.storage.jdbc.JdbcConfig;
+import com.scalar.db.storage.jdbc.JdbcConnectionPool;
+import com.scalar.db.storage.jdbc.JdbcConnectionPoolMetrics;
 import com.scalar.db.storage.jdbc.JdbcService;
 import com.scalar.db.storage.jdbc.JdbcUtils;
+import com.scalar.db.storage.jdbc.JmxJdbcConnectionPoolMetrics;
 import com.scalar.db.storage.jdbc.RdbEngineFactory;
 import com.scalar.db.storage.jdbc.RdbEngineStrategy;
 import com.scalar.db.storage.jdbc.query.QueryBuilder;
 import com.scalar.db.util.ThrowableFunction;
+import com.scalar.db.util.metrics.JmxOperationMetricsProvider;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
-import org.apache.commons.dbcp2.BasicDataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,10 +52,12 @@ import org.slf4j.LoggerFactory;
 public class JdbcTransactionManager extends ActiveTransactionManagedDistributedTransactionManager {
   private static final Logger logger = LoggerFactory.getLogger(JdbcTransactionManager.class);
 
-  private final BasicDataSource dataSource;
-  private final BasicDataSource tableMetadataDataSource;
+  private final JdbcConnectionPool connectionPool;
+  private final JdbcConnectionPool tableMetadataConnectionPool;
+  @Nullable private final JmxJdbcConnectionPoolMetrics connectionPoolMetrics;
   private final RdbEngineStrategy rdbEngine;
   private final JdbcService jdbcService;
+  private final boolean writeBehindEnabled;
 
   @Inject
   public JdbcTransactionManager(DatabaseConfig databaseConfig) {
@@ -59,31 +65,62 @@ public class JdbcTransactionManager extends ActiveTransactionManagedDistributedT
     JdbcConfig config = new JdbcConfig(databaseConfig);
 
     rdbEngine = RdbEngineFactory.create(config);
-    dataSource = JdbcUtils.initDataSource(config, rdbEngine, true);
+    connectionPool = JdbcUtils.initConnectionPool(config, rdbEngine, true);
+    connectionPoolMetrics =
+        JmxOperationMetricsProvider.NAME.equalsIgnoreCase(databaseConfig.getMetricsType())
+            ? new JmxJdbcConnectionPoolMetrics("transaction", connectionPool)
+            : null;
 
-    tableMetadataDataSource = JdbcUtils.initDataSourceForTableMetadata(config, rdbEngine);
+    tableMetadataConnectionPool = JdbcUtils.initConnectionPoolForTableMetadata(config, rdbEngine);
     TableMetadataManager tableMetadataManager =
         new TableMetadataManager(
-            new JdbcAdmin(tableMetadataDataSource, config),
+            new JdbcAdmin(tableMetadataConnectionPool, config),
             databaseConfig.getMetadataCacheExpirationTimeSecs());
 
-    OperationChecker operationChecker = new OperationChecker(databaseConfig, tableMetadataManager);
+    OperationChecker operationChecker =
+        new OperationChecker(databaseConfig, tableMetadataManager, true);
     QueryBuilder queryBuilder = new QueryBuilder(rdbEngine);
-    jdbcService = new JdbcService(tableMetadataManager, operationChecker, queryBuilder);
+    jdbcService =
+        new JdbcService(
+            tableMetadataManager,
+            operationChecker,
+            rdbEngine,
+            queryBuilder,
+            config.getScanFetchSize());
+    writeBehindEnabled = config.isTransactionWriteBehindEnabled();
   }
 
   @VisibleForTesting
   JdbcTransactionManager(
       DatabaseConfig databaseConfig,
-      BasicDataSource dataSource,
-      BasicDataSource tableMetadataDataSource,
+      JdbcConnectionPool connectionPool,
+      JdbcConnectionPool tableMetadataConnectionPool,
       RdbEngineStrategy rdbEngine,
       JdbcService jdbcService) {
+    this(
+        databaseConfig,
+        connectionPool,
+        tableMetadataConnectionPool,
+        rdbEngine,
+        jdbcService,
+        JdbcConfig.DEFAULT_TRANSACTION_WRITE_BEHIND_ENABLED);
+  }
+
+  @VisibleForTesting
+  JdbcTransactionManager(
+      DatabaseConfig databaseConfig,
+      JdbcConnectionPool connectionPool,
+      JdbcConnectionPool tableMetadataConnectionPool,
+      RdbEngineStrategy rdbEngine,
+      JdbcService jdbcService,
+      boolean writeBehindEnabled) {
     super(databaseConfig);
-    this.dataSource = dataSource;
-    this.tableMetadataDataSource = tableMetadataDataSource;
+    this.connectionPool = connectionPool;
+    this.tableMetadataConnectionPool = tableMetadataConnectionPool;
     this.rdbEngine = rdbEngine;
     this.jdbcService = jdbcService;
+    this.writeBehindEnabled = writeBehindEnabled;
+    connectionPoolMetrics = null;
   }
 
   @Override
@@ -100,7 +137,8 @@ public class JdbcTransactionManager extends ActiveTransactionManagedDistributedT
   private DistributedTransaction begin(String txId, boolean decorate) throws TransactionException {
     try {
       JdbcTransaction transaction =
-          new JdbcTransaction(txId, jdbcService, dataSource.getConnection(), rdbEngine);
+          new JdbcTransaction(
+              txId, jdbcService, connectionPool.getConnection(), rdbEngine, writeBehindEnabled);
       getNamespace().ifPresent(transaction::withNamespace);
       getTable().ifPresent(transaction::withTable);
       return decorate ? decorate(transaction) : transaction;
@@ -306,17 +344,31 @@ public class JdbcTransactionManager extends ActiveTransactionManagedDistributedT
         CoreError.JDBC_TRANSACTION_ROLLING_BACK_TRANSACTION_NOT_SUPPORTED.buildMessage());
   }
 
+  /**
+   * Returns the metrics of the connection pool used by the transactions. When {@link
+   * DatabaseConfig#METRICS_TYPE} is "jmx", the metrics are also published through {@link
+   * JmxJdbcConnectionPoolMetrics}.
+   *
+   * @return the metrics of the connection pool
+   */
+  public JdbcConnectionPoolMetrics getConnectionPoolMetrics() {
+    return connectionPool.getMetrics();
+  }
+
   @Override
   public void close() {
+    if (connectionPoolMetrics != null) {
+      connectionPoolMetrics.close();
+    }
     try {
-      dataSource.close();
+      connectionPool.close();
     } catch (SQLException e) {
-      logger.warn("Failed to close the dataSource", e);
+      logger.warn("Failed to close the connection pool", e);
     }
     try {
-      tableMetadataDataSource.close();
+      tableMetadataConnectionPool.close();
     } catch (SQLException e) {
-      logger.warn("Failed to close the table metadata dataSource", e);
+      logger.warn("Failed to close the table metadata connection pool", e);
     }
   }
 }
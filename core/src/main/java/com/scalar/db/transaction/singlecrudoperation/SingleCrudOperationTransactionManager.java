@@ -357,6 +357,11 @@ public class SingleCrudOperationTransactionManager extends AbstractDistributedTr
             .buildMessage());
   }
 
+  @Override
+  public boolean isReady() {
+    return storage.isReady();
+  }
+
   @Override
   public void close() {
     storage.close();
@@ -9,6 +9,7 @@ import com.scalar.db.api.Get;
 import com.scalar.db.api.GetWithIndex;
 import com.scalar.db.api.Insert;
 import com.scalar.db.api.LikeExpression;
+import com.scalar.db.api.LockMode;
 import com.scalar.db.api.Mutation;
 import com.scalar.db.api.Operation;
 import com.scalar.db.api.Put;
@@ -41,6 +42,7 @@ import com.scalar.db.io.Key;
 import com.scalar.db.io.TextColumn;
 import com.scalar.db.io.TextValue;
 import com.scalar.db.io.Value;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -301,6 +303,48 @@ public final class ScalarDbUtils {
     return ret;
   }
 
+  public static Scan copyAndPrepareForSorting(Scan scan) {
+    // Ignore orderings and limit to apply them after sorting the results on the client side
+    Scan ret = Scan.newBuilder(scan).clearOrderings().limit(0).build(); // copy
+    List<String> projections = ret.getProjections();
+    if (!projections.isEmpty()) {
+      // Add columns in orderings into projections to use them in sorting
+      scan.getOrderings().stream()
+          .map(Scan.Ordering::getColumnName)
+          .filter(columnName -> !projections.contains(columnName))
+          .forEach(ret::withProjection);
+    }
+    return ret;
+  }
+
+  /**
+   * Returns a copy of the specified get whose lock mode is {@link LockMode#NONE}, or the get itself
+   * if it doesn't have a lock mode.
+   *
+   * @param get a get
+   * @return a get without a lock mode
+   */
+  public static Get copyAndClearLockModeIfSet(Get get) {
+    if (get.getLockMode() == LockMode.NONE) {
+      return get;
+    }
+    return Get.newBuilder(get).lockMode(LockMode.NONE).build(); // copy
+  }
+
+  /**
+   * Returns a copy of the specified scan whose lock mode is {@link LockMode#NONE}, or the scan
+   * itself if it doesn't have a lock mode.
+   *
+   * @param scan a scan
+   * @return a scan without a lock mode
+   */
+  public static Scan copyAndClearLockModeIfSet(Scan scan) {
+    if (scan.getLockMode() == LockMode.NONE) {
+      return scan;
+    }
+    return Scan.newBuilder(scan).lockMode(LockMode.NONE).build(); // copy
+  }
+
   public static Set<String> getColumnNamesUsedIn(Set<Conjunction> conjunctions) {
     Set<String> columns = new HashSet<>();
     conjunctions.forEach(
@@ -314,21 +358,24 @@ public final class ScalarDbUtils {
   public static boolean columnsMatchAnyOfConjunctions(
       Map<String, Column<?>> columns, Set<Conjunction> conjunctions) {
     for (Conjunction conjunction : conjunctions) {
-      boolean allMatched = true;
-      for (ConditionalExpression condition : conjunction.getConditions()) {
-        if (!columns.containsKey(condition.getColumn().getName())
-            || !columnMatchesCondition(columns.get(condition.getColumn().getName()), condition)) {
-          allMatched = false;
-          break;
-        }
-      }
-      if (allMatched) {
+      if (columnsMatchAllOfConditions(columns, conjunction.getConditions())) {
         return true;
       }
     }
     return false;
   }
 
+  public static boolean columnsMatchAllOfConditions(
+      Map<String, Column<?>> columns, Collection<ConditionalExpression> conditions) {
+    for (ConditionalExpression condition : conditions) {
+      if (!columns.containsKey(condition.getColumn().getName())
+          || !columnMatchesCondition(columns.get(condition.getColumn().getName()), condition)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   @SuppressWarnings("unchecked")
   private static <T> boolean columnMatchesCondition(
       Column<T> column, ConditionalExpression condition) {
@@ -17,7 +17,17 @@ class DelayedGroup<PARENT_KEY, CHILD_KEY, FULL_KEY, EMIT_PARENT_KEY, EMIT_FULL_K
       Emittable<EMIT_PARENT_KEY, EMIT_FULL_KEY, V> emitter,
       KeyManipulator<PARENT_KEY, CHILD_KEY, FULL_KEY, EMIT_PARENT_KEY, EMIT_FULL_KEY>
           keyManipulator) {
-    super(emitter, keyManipulator, 1, config.oldGroupAbortTimeoutMillis());
+    this(config, fullKey, emitter, keyManipulator, NoOpGroupCommitMetricsRegistry.INSTANCE);
+  }
+
+  DelayedGroup(
+      GroupCommitConfig config,
+      FULL_KEY fullKey,
+      Emittable<EMIT_PARENT_KEY, EMIT_FULL_KEY, V> emitter,
+      KeyManipulator<PARENT_KEY, CHILD_KEY, FULL_KEY, EMIT_PARENT_KEY, EMIT_FULL_KEY>
+          keyManipulator,
+      GroupCommitMetricsRegistry metricsRegistry) {
+    super(emitter, keyManipulator, 1, config.oldGroupAbortTimeoutMillis(), metricsRegistry);
     this.fullKey = fullKey;
   }
 
@@ -39,9 +49,19 @@ class DelayedGroup<PARENT_KEY, CHILD_KEY, FULL_KEY, EMIT_PARENT_KEY, EMIT_FULL_K
         slots.values()) {
       // Pass `emitter` to ask the receiver's thread to emit the value
       slot.delegateTaskToWaiter(
-          () ->
+          () -> {
+            long emitStartedAtNanos = System.nanoTime();
+            metricsRegistry.recordSlotWaitTime(true, emitStartedAtNanos - slot.reservedAtNanos());
+            boolean succeeded = false;
+            try {
               emitter.emitDelayedGroup(
-                  keyManipulator.emitFullKeyFromFullKey(fullKey), slot.value()));
+                  keyManipulator.emitFullKeyFromFullKey(fullKey), slot.value());
+              succeeded = true;
+            } finally {
+              metricsRegistry.recordDelayedGroupEmit(
+                  System.nanoTime() - emitStartedAtNanos, succeeded);
+            }
+          });
       // Return since the number of the slots is only 1.
       return;
     }
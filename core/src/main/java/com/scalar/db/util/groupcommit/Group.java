@@ -16,6 +16,7 @@ abstract class Group<PARENT_KEY, CHILD_KEY, FULL_KEY, EMIT_PARENT_KEY, EMIT_FULL
   protected final Emittable<EMIT_PARENT_KEY, EMIT_FULL_KEY, V> emitter;
   protected final KeyManipulator<PARENT_KEY, CHILD_KEY, FULL_KEY, EMIT_PARENT_KEY, EMIT_FULL_KEY>
       keyManipulator;
+  protected final GroupCommitMetricsRegistry metricsRegistry;
   private final int capacity;
   private final AtomicReference<Integer> size = new AtomicReference<>();
   protected final Map<
@@ -64,9 +65,11 @@ abstract class Group<PARENT_KEY, CHILD_KEY, FULL_KEY, EMIT_PARENT_KEY, EMIT_FULL
       KeyManipulator<PARENT_KEY, CHILD_KEY, FULL_KEY, EMIT_PARENT_KEY, EMIT_FULL_KEY>
           keyManipulator,
       int capacity,
-      long oldGroupAbortTimeoutMillis) {
+      long oldGroupAbortTimeoutMillis,
+      GroupCommitMetricsRegistry metricsRegistry) {
     this.emitter = emitter;
     this.keyManipulator = keyManipulator;
+    this.metricsRegistry = metricsRegistry;
     this.capacity = capacity;
     this.slots = new HashMap<>(capacity);
     this.oldGroupAbortTimeoutAtMillis = System.currentTimeMillis() + oldGroupAbortTimeoutMillis;
@@ -244,6 +247,7 @@ abstract class Group<PARENT_KEY, CHILD_KEY, FULL_KEY, EMIT_PARENT_KEY, EMIT_FULL
   }
 
   synchronized void abort() {
+    metricsRegistry.recordGroupAbort(slots.size());
     for (Slot<PARENT_KEY, CHILD_KEY, FULL_KEY, EMIT_PARENT_KEY, EMIT_FULL_KEY, V> slot :
         slots.values()) {
       // Tell the clients that the slots are aborted.
@@ -0,0 +1,32 @@
+package com.scalar.db.util.groupcommit;
+
+import com.scalar.db.util.metrics.HistogramSnapshot;
+
+/**
+ * The JMX view of the group commit metrics published by {@link JmxGroupCommitMetricsRegistry}. All
+ * the time values are in milliseconds.
+ */
+public interface GroupCommitMetricsMXBean {
+  long getNormalGroupCount();
+
+  long getDelayedGroupCount();
+
+  /** @return the number of emitted delayed groups divided by that of emitted normal groups */
+  double getDelayedToNormalGroupRatio();
+
+  long getEmitFailureCount();
+
+  long getAbortedGroupCount();
+
+  long getAbortedSlotCount();
+
+  HistogramSnapshot getNormalGroupSize();
+
+  HistogramSnapshot getNormalGroupEmitLatencyMillis();
+
+  HistogramSnapshot getDelayedGroupEmitLatencyMillis();
+
+  HistogramSnapshot getNormalGroupSlotWaitTimeMillis();
+
+  HistogramSnapshot getDelayedGroupSlotWaitTimeMillis();
+}
@@ -0,0 +1,48 @@
+package com.scalar.db.util.groupcommit;
+
+import java.io.Closeable;
+
+/**
+ * A registry that receives the metrics of a {@link GroupCommitter}. The methods are called on the
+ * client threads that emit groups, so implementations must be thread-safe and should not block.
+ *
+ * <p>{@link NoOpGroupCommitMetricsRegistry} is used by default, and {@link
+ * JmxGroupCommitMetricsRegistry} publishes the metrics through JMX.
+ */
+public interface GroupCommitMetricsRegistry extends Closeable {
+  /**
+   * Records the emission of a {@link NormalGroup}.
+   *
+   * @param groupSize the number of slots emitted together
+   * @param emitLatencyNanos the time taken by the emitter in nanoseconds
+   * @param succeeded whether the emitter succeeded
+   */
+  void recordNormalGroupEmit(int groupSize, long emitLatencyNanos, boolean succeeded);
+
+  /**
+   * Records the emission of a {@link DelayedGroup}.
+   *
+   * @param emitLatencyNanos the time taken by the emitter in nanoseconds
+   * @param succeeded whether the emitter succeeded
+   */
+  void recordDelayedGroupEmit(long emitLatencyNanos, boolean succeeded);
+
+  /**
+   * Records how long a slot waited from its reservation until its group started to be emitted.
+   *
+   * @param delayed whether the slot was emitted in a {@link DelayedGroup}
+   * @param waitNanos the waiting time in nanoseconds
+   */
+  void recordSlotWaitTime(boolean delayed, long waitNanos);
+
+  /**
+   * Records a group aborted by {@link GroupCleanupWorker} or {@link DelayedSlotMoveWorker}
+   * because it got too old.
+   *
+   * @param slotCount the number of slots aborted with the group
+   */
+  void recordGroupAbort(int slotCount);
+
+  @Override
+  default void close() {}
+}
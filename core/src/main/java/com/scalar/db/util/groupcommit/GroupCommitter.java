@@ -44,6 +44,7 @@ public class GroupCommitter<PARENT_KEY, CHILD_KEY, FULL_KEY, EMIT_PARENT_KEY, EM
 
   // Monitor
   @Nullable private final GroupCommitMonitor groupCommitMonitor;
+  private final GroupCommitMetricsRegistry metricsRegistry;
 
   // This contains logics of how to treat keys.
   private final KeyManipulator<PARENT_KEY, CHILD_KEY, FULL_KEY, EMIT_PARENT_KEY, EMIT_FULL_KEY>
@@ -64,8 +65,25 @@ public class GroupCommitter<PARENT_KEY, CHILD_KEY, FULL_KEY, EMIT_PARENT_KEY, EM
       GroupCommitConfig config,
       KeyManipulator<PARENT_KEY, CHILD_KEY, FULL_KEY, EMIT_PARENT_KEY, EMIT_FULL_KEY>
           keyManipulator) {
+    this(label, config, keyManipulator, NoOpGroupCommitMetricsRegistry.INSTANCE);
+  }
+
+  /**
+   * @param label A label used for thread name.
+   * @param config A configuration.
+   * @param keyManipulator A key manipulator that contains logics how to treat keys.
+   * @param metricsRegistry A registry that receives the metrics. It's closed along with this
+   *     instance.
+   */
+  public GroupCommitter(
+      String label,
+      GroupCommitConfig config,
+      KeyManipulator<PARENT_KEY, CHILD_KEY, FULL_KEY, EMIT_PARENT_KEY, EMIT_FULL_KEY>
+          keyManipulator,
+      GroupCommitMetricsRegistry metricsRegistry) {
     logger.info("Starting GroupCommitter. Label: {}, Config: {}", label, config);
     this.keyManipulator = keyManipulator;
+    this.metricsRegistry = metricsRegistry;
     this.groupManager = createGroupManager(config, keyManipulator);
     this.groupCleanupWorker = createGroupCleanupWorker(label, config, groupManager);
     this.delayedSlotMoveWorker =
@@ -195,6 +213,7 @@ public class GroupCommitter<PARENT_KEY, CHILD_KEY, FULL_KEY, EMIT_PARENT_KEY, EM
         groupSizeFixWorker.close();
         delayedSlotMoveWorker.close();
         groupCleanupWorker.close();
+        metricsRegistry.close();
         break;
       }
       Instant now = Instant.now();
@@ -211,7 +230,7 @@ public class GroupCommitter<PARENT_KEY, CHILD_KEY, FULL_KEY, EMIT_PARENT_KEY, EM
           GroupCommitConfig config,
           KeyManipulator<PARENT_KEY, CHILD_KEY, FULL_KEY, EMIT_PARENT_KEY, EMIT_FULL_KEY>
               keyManipulator) {
-    return new GroupManager<>(config, keyManipulator);
+    return new GroupManager<>(config, keyManipulator, metricsRegistry);
   }
 
   @VisibleForTesting
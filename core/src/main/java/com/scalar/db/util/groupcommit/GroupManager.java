@@ -54,13 +54,23 @@ class GroupManager<PARENT_KEY, CHILD_KEY, FULL_KEY, EMIT_PARENT_KEY, EMIT_FULL_K
   @LazyInit private Emittable<EMIT_PARENT_KEY, EMIT_FULL_KEY, V> emitter;
 
   private final GroupCommitConfig config;
+  private final GroupCommitMetricsRegistry metricsRegistry;
 
   GroupManager(
       GroupCommitConfig config,
       KeyManipulator<PARENT_KEY, CHILD_KEY, FULL_KEY, EMIT_PARENT_KEY, EMIT_FULL_KEY>
           keyManipulator) {
+    this(config, keyManipulator, NoOpGroupCommitMetricsRegistry.INSTANCE);
+  }
+
+  GroupManager(
+      GroupCommitConfig config,
+      KeyManipulator<PARENT_KEY, CHILD_KEY, FULL_KEY, EMIT_PARENT_KEY, EMIT_FULL_KEY>
+          keyManipulator,
+      GroupCommitMetricsRegistry metricsRegistry) {
     this.keyManipulator = keyManipulator;
     this.config = config;
+    this.metricsRegistry = metricsRegistry;
   }
 
   void setGroupSizeFixWorker(
@@ -84,7 +94,7 @@ class GroupManager<PARENT_KEY, CHILD_KEY, FULL_KEY, EMIT_PARENT_KEY, EMIT_FULL_K
     long stamp = lock.writeLock();
     try {
       if (currentGroup == null || currentGroup.isSizeFixed()) {
-        currentGroup = new NormalGroup<>(config, emitter, keyManipulator);
+        currentGroup = new NormalGroup<>(config, emitter, keyManipulator, metricsRegistry);
         groupSizeFixWorker.add(currentGroup);
         normalGroupMap.put(currentGroup.parentKey(), currentGroup);
       }
@@ -196,7 +206,8 @@ class GroupManager<PARENT_KEY, CHILD_KEY, FULL_KEY, EMIT_PARENT_KEY, EMIT_FULL_K
         // Create a new DelayedGroup
         FULL_KEY fullKey = notReadySlot.fullKey();
         DelayedGroup<PARENT_KEY, CHILD_KEY, FULL_KEY, EMIT_PARENT_KEY, EMIT_FULL_KEY, V>
-            delayedGroup = new DelayedGroup<>(config, fullKey, emitter, keyManipulator);
+            delayedGroup =
+                new DelayedGroup<>(config, fullKey, emitter, keyManipulator, metricsRegistry);
 
         // Set the slot stored in the NormalGroup into the new DelayedGroup.
         // Internally delegate the emit-task to the client thread.
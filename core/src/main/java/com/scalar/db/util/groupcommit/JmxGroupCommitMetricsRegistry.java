@@ -0,0 +1,182 @@
+package com.scalar.db.util.groupcommit;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.scalar.db.util.metrics.Histogram;
+import com.scalar.db.util.metrics.HistogramSnapshot;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link GroupCommitMetricsRegistry} that aggregates the metrics in memory and publishes them as
+ * an MXBean named {@code com.scalar.db:type=GroupCommit,name=<label>,id=<id>} on the platform
+ * MBean server. The MXBean is unregistered when this registry is closed.
+ */
+@ThreadSafe
+public class JmxGroupCommitMetricsRegistry
+    implements GroupCommitMetricsRegistry, GroupCommitMetricsMXBean {
+  private static final Logger logger = LoggerFactory.getLogger(JmxGroupCommitMetricsRegistry.class);
+  private static final AtomicInteger INSTANCE_ID = new AtomicInteger();
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+  private final LongAdder normalGroupCount = new LongAdder();
+  private final LongAdder delayedGroupCount = new LongAdder();
+  private final LongAdder emitFailureCount = new LongAdder();
+  private final LongAdder abortedGroupCount = new LongAdder();
+  private final LongAdder abortedSlotCount = new LongAdder();
+  private final Histogram normalGroupSize = new Histogram();
+  private final Histogram normalGroupEmitLatency = new Histogram();
+  private final Histogram delayedGroupEmitLatency = new Histogram();
+  private final Histogram normalGroupSlotWaitTime = new Histogram();
+  private final Histogram delayedGroupSlotWaitTime = new Histogram();
+
+  @Nullable private final MBeanServer mBeanServer;
+  @Nullable private final ObjectName objectName;
+
+  /**
+   * Creates a registry and registers its MXBean on the platform MBean server.
+   *
+   * @param label A label used for the MXBean name, e.g. "coordinator".
+   */
+  public JmxGroupCommitMetricsRegistry(String label) {
+    this(label, ManagementFactory.getPlatformMBeanServer());
+  }
+
+  @VisibleForTesting
+  JmxGroupCommitMetricsRegistry(String label, @Nullable MBeanServer mBeanServer) {
+    this.mBeanServer = mBeanServer;
+    this.objectName = mBeanServer == null ? null : register(label, mBeanServer);
+  }
+
+  @Nullable
+  private ObjectName register(String label, MBeanServer mBeanServer) {
+    try {
+      ObjectName name =
+          new ObjectName(
+              String.format(
+                  "com.scalar.db:type=GroupCommit,name=%s,id=%d",
+                  ObjectName.quote(label), INSTANCE_ID.incrementAndGet()));
+      mBeanServer.registerMBean(this, name);
+      return name;
+    } catch (JMException e) {
+      // The metrics are still aggregated, so don't fail the group commit because of JMX.
+      logger.warn("Failed to register the group commit metrics MXBean. Label: {}", label, e);
+      return null;
+    }
+  }
+
+  @VisibleForTesting
+  @Nullable
+  ObjectName getObjectName() {
+    return objectName;
+  }
+
+  @Override
+  public void recordNormalGroupEmit(int groupSize, long emitLatencyNanos, boolean succeeded) {
+    normalGroupCount.increment();
+    normalGroupSize.record(groupSize);
+    normalGroupEmitLatency.record(emitLatencyNanos);
+    if (!succeeded) {
+      emitFailureCount.increment();
+    }
+  }
+
+  @Override
+  public void recordDelayedGroupEmit(long emitLatencyNanos, boolean succeeded) {
+    delayedGroupCount.increment();
+    delayedGroupEmitLatency.record(emitLatencyNanos);
+    if (!succeeded) {
+      emitFailureCount.increment();
+    }
+  }
+
+  @Override
+  public void recordSlotWaitTime(boolean delayed, long waitNanos) {
+    if (delayed) {
+      delayedGroupSlotWaitTime.record(waitNanos);
+    } else {
+      normalGroupSlotWaitTime.record(waitNanos);
+    }
+  }
+
+  @Override
+  public void recordGroupAbort(int slotCount) {
+    abortedGroupCount.increment();
+    abortedSlotCount.add(slotCount);
+  }
+
+  @Override
+  public long getNormalGroupCount() {
+    return normalGroupCount.sum();
+  }
+
+  @Override
+  public long getDelayedGroupCount() {
+    return delayedGroupCount.sum();
+  }
+
+  @Override
+  public double getDelayedToNormalGroupRatio() {
+    long normal = normalGroupCount.sum();
+    return normal == 0 ? 0.0 : (double) delayedGroupCount.sum() / normal;
+  }
+
+  @Override
+  public long getEmitFailureCount() {
+    return emitFailureCount.sum();
+  }
+
+  @Override
+  public long getAbortedGroupCount() {
+    return abortedGroupCount.sum();
+  }
+
+  @Override
+  public long getAbortedSlotCount() {
+    return abortedSlotCount.sum();
+  }
+
+  @Override
+  public HistogramSnapshot getNormalGroupSize() {
+    return normalGroupSize.snapshot();
+  }
+
+  @Override
+  public HistogramSnapshot getNormalGroupEmitLatencyMillis() {
+    return normalGroupEmitLatency.snapshot(NANOS_PER_MILLI);
+  }
+
+  @Override
+  public HistogramSnapshot getDelayedGroupEmitLatencyMillis() {
+    return delayedGroupEmitLatency.snapshot(NANOS_PER_MILLI);
+  }
+
+  @Override
+  public HistogramSnapshot getNormalGroupSlotWaitTimeMillis() {
+    return normalGroupSlotWaitTime.snapshot(NANOS_PER_MILLI);
+  }
+
+  @Override
+  public HistogramSnapshot getDelayedGroupSlotWaitTimeMillis() {
+    return delayedGroupSlotWaitTime.snapshot(NANOS_PER_MILLI);
+  }
+
+  @Override
+  public void close() {
+    if (mBeanServer == null || objectName == null) {
+      return;
+    }
+    try {
+      mBeanServer.unregisterMBean(objectName);
+    } catch (JMException e) {
+      logger.warn("Failed to unregister the group commit metrics MXBean. Name: {}", objectName, e);
+    }
+  }
+}
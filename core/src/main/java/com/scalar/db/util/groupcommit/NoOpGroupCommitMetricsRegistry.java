@@ -0,0 +1,24 @@
+package com.scalar.db.util.groupcommit;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/** A {@link GroupCommitMetricsRegistry} that discards all the metrics. */
+@ThreadSafe
+public final class NoOpGroupCommitMetricsRegistry implements GroupCommitMetricsRegistry {
+  public static final NoOpGroupCommitMetricsRegistry INSTANCE =
+      new NoOpGroupCommitMetricsRegistry();
+
+  private NoOpGroupCommitMetricsRegistry() {}
+
+  @Override
+  public void recordNormalGroupEmit(int groupSize, long emitLatencyNanos, boolean succeeded) {}
+
+  @Override
+  public void recordDelayedGroupEmit(long emitLatencyNanos, boolean succeeded) {}
+
+  @Override
+  public void recordSlotWaitTime(boolean delayed, long waitNanos) {}
+
+  @Override
+  public void recordGroupAbort(int slotCount) {}
+}
@@ -29,7 +29,21 @@ class NormalGroup<PARENT_KEY, CHILD_KEY, FULL_KEY, EMIT_PARENT_KEY, EMIT_FULL_KE
       Emittable<EMIT_PARENT_KEY, EMIT_FULL_KEY, V> emitter,
       KeyManipulator<PARENT_KEY, CHILD_KEY, FULL_KEY, EMIT_PARENT_KEY, EMIT_FULL_KEY>
           keyManipulator) {
-    super(emitter, keyManipulator, config.slotCapacity(), config.oldGroupAbortTimeoutMillis());
+    this(config, emitter, keyManipulator, NoOpGroupCommitMetricsRegistry.INSTANCE);
+  }
+
+  NormalGroup(
+      GroupCommitConfig config,
+      Emittable<EMIT_PARENT_KEY, EMIT_FULL_KEY, V> emitter,
+      KeyManipulator<PARENT_KEY, CHILD_KEY, FULL_KEY, EMIT_PARENT_KEY, EMIT_FULL_KEY>
+          keyManipulator,
+      GroupCommitMetricsRegistry metricsRegistry) {
+    super(
+        emitter,
+        keyManipulator,
+        config.slotCapacity(),
+        config.oldGroupAbortTimeoutMillis(),
+        metricsRegistry);
     this.delayedSlotMoveTimeoutMillis = config.delayedSlotMoveTimeoutMillis();
     this.groupSizeFixTimeoutAtMillis =
         System.currentTimeMillis() + config.groupSizeFixTimeoutMillis();
@@ -118,7 +132,16 @@ class NormalGroup<PARENT_KEY, CHILD_KEY, FULL_KEY, EMIT_PARENT_KEY, EMIT_FULL_KE
               logger.info("This group is already done, but trying to emit. Group: {}", this);
               return;
             }
-            emitter.emitNormalGroup(keyManipulator.emitParentKeyFromParentKey(parentKey), values);
+            long emitStartedAtNanos = System.nanoTime();
+            recordSlotWaitTimes(emitStartedAtNanos);
+            boolean succeeded = false;
+            try {
+              emitter.emitNormalGroup(keyManipulator.emitParentKeyFromParentKey(parentKey), values);
+              succeeded = true;
+            } finally {
+              metricsRegistry.recordNormalGroupEmit(
+                  values.size(), System.nanoTime() - emitStartedAtNanos, succeeded);
+            }
 
             synchronized (this) {
               // Wake up the other waiting threads.
@@ -152,6 +175,13 @@ class NormalGroup<PARENT_KEY, CHILD_KEY, FULL_KEY, EMIT_PARENT_KEY, EMIT_FULL_KE
     emitterSlot.get().delegateTaskToWaiter(taskForEmitterSlot);
   }
 
+  private synchronized void recordSlotWaitTimes(long emitStartedAtNanos) {
+    for (Slot<PARENT_KEY, CHILD_KEY, FULL_KEY, EMIT_PARENT_KEY, EMIT_FULL_KEY, V> slot :
+        slots.values()) {
+      metricsRegistry.recordSlotWaitTime(false, emitStartedAtNanos - slot.reservedAtNanos());
+    }
+  }
+
   void updateDelayedSlotMoveTimeoutAt() {
     delayedSlotMoveTimeoutAtMillis.set(System.currentTimeMillis() + delayedSlotMoveTimeoutMillis);
   }
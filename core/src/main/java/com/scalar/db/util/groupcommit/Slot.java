@@ -29,6 +29,8 @@ class Slot<PARENT_KEY, CHILD_KEY, FULL_KEY, EMIT_PARENT_KEY, EMIT_FULL_KEY, V> {
   //
   // This value changes only from false to true.
   private final AtomicBoolean isDone = new AtomicBoolean();
+  // Used for the slot wait time metrics. A slot keeps it even when moved to DelayedGroup.
+  private final long reservedAtNanos = System.nanoTime();
 
   Slot(
       CHILD_KEY key,
@@ -118,6 +120,10 @@ class Slot<PARENT_KEY, CHILD_KEY, FULL_KEY, EMIT_PARENT_KEY, EMIT_FULL_KEY, V> {
     completableFuture.complete(task);
   }
 
+  long reservedAtNanos() {
+    return reservedAtNanos;
+  }
+
   boolean isReady() {
     return value.get() != null;
   }
@@ -0,0 +1,127 @@
+package com.scalar.db.util.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A lock-free histogram for non-negative long values such as latencies in nanoseconds or group
+ * sizes. Like HdrHistogram, values are recorded into log-linear buckets: values below {@code 2 *
+ * 2^SUB_BUCKET_BITS} are counted exactly and larger values are counted in buckets whose width is
+ * at most 1/{@code 2^SUB_BUCKET_BITS} (about 3%) of their value. Recording a value is a few atomic
+ * increments and never blocks or allocates, so it's safe to call on hot paths.
+ */
+@ThreadSafe
+public class Histogram {
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int LINEAR_BUCKET_COUNT = SUB_BUCKET_COUNT * 2;
+  private static final int BUCKET_COUNT =
+      LINEAR_BUCKET_COUNT + (Long.SIZE - 2 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+  /**
+   * Records the specified value. Negative values are recorded as 0.
+   *
+   * @param value a value to record
+   */
+  public void record(long value) {
+    long v = Math.max(value, 0);
+    buckets.incrementAndGet(bucketIndex(v));
+    count.increment();
+    sum.add(v);
+    max.accumulate(v);
+  }
+
+  public long getCount() {
+    return count.sum();
+  }
+
+  public long getMax() {
+    return max.get();
+  }
+
+  public double getMean() {
+    long c = count.sum();
+    return c == 0 ? 0.0 : (double) sum.sum() / c;
+  }
+
+  /**
+   * Returns the highest value that the given percentage of the recorded values are less than or
+   * equal to, within the precision of the bucket the value falls into.
+   *
+   * @param percentile a percentile between 0 and 100
+   * @return the value at the given percentile, or 0 if nothing has been recorded
+   */
+  public long getValueAtPercentile(double percentile) {
+    if (percentile < 0 || percentile > 100) {
+      throw new IllegalArgumentException("The percentile must be between 0 and 100");
+    }
+
+    long total = 0;
+    long[] counts = new long[BUCKET_COUNT];
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] = buckets.get(i);
+      total += counts[i];
+    }
+    if (total == 0) {
+      return 0;
+    }
+
+    long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+    long seen = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return Math.min(highestValueOf(i), getMax());
+      }
+    }
+    return getMax();
+  }
+
+  /**
+   * Returns an immutable snapshot of the commonly used statistics of this histogram.
+   *
+   * @param scale a divisor applied to the values in the snapshot, e.g. 1,000,000 to convert
+   *     nanoseconds to milliseconds
+   * @return a snapshot of this histogram
+   */
+  public HistogramSnapshot snapshot(double scale) {
+    return new HistogramSnapshot(
+        getCount(),
+        getMean() / scale,
+        getValueAtPercentile(50) / scale,
+        getValueAtPercentile(90) / scale,
+        getValueAtPercentile(99) / scale,
+        getValueAtPercentile(99.9) / scale,
+        getMax() / scale);
+  }
+
+  public HistogramSnapshot snapshot() {
+    return snapshot(1.0);
+  }
+
+  static int bucketIndex(long value) {
+    if (value < LINEAR_BUCKET_COUNT) {
+      return (int) value;
+    }
+    int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    int shift = exponent - SUB_BUCKET_BITS;
+    int subBucket = (int) (value >>> shift);
+    return LINEAR_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_COUNT + (subBucket - SUB_BUCKET_COUNT);
+  }
+
+  static long highestValueOf(int bucketIndex) {
+    if (bucketIndex < LINEAR_BUCKET_COUNT) {
+      return bucketIndex;
+    }
+    int shift = (bucketIndex - LINEAR_BUCKET_COUNT) / SUB_BUCKET_COUNT + 1;
+    long subBucket = (bucketIndex - LINEAR_BUCKET_COUNT) % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+    return ((subBucket + 1) << shift) - 1;
+  }
+}
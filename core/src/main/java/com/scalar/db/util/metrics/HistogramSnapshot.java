@@ -0,0 +1,71 @@
+package com.scalar.db.util.metrics;
+
+import com.google.common.base.MoreObjects;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * An immutable snapshot of a {@link Histogram}. This class follows the JavaBeans getter
+ * convention so that it can be exposed as {@code CompositeData} through MXBeans.
+ */
+@Immutable
+public class HistogramSnapshot {
+  private final long count;
+  private final double mean;
+  private final double p50;
+  private final double p90;
+  private final double p99;
+  private final double p999;
+  private final double max;
+
+  public HistogramSnapshot(
+      long count, double mean, double p50, double p90, double p99, double p999, double max) {
+    this.count = count;
+    this.mean = mean;
+    this.p50 = p50;
+    this.p90 = p90;
+    this.p99 = p99;
+    this.p999 = p999;
+    this.max = max;
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  public double getMean() {
+    return mean;
+  }
+
+  public double getP50() {
+    return p50;
+  }
+
+  public double getP90() {
+    return p90;
+  }
+
+  public double getP99() {
+    return p99;
+  }
+
+  public double getP999() {
+    return p999;
+  }
+
+  public double getMax() {
+    return max;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("count", count)
+        .add("mean", mean)
+        .add("p50", p50)
+        .add("p90", p90)
+        .add("p99", p99)
+        .add("p999", p999)
+        .add("max", max)
+        .toString();
+  }
+}
@@ -0,0 +1,210 @@
+package com.scalar.db.util.metrics;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link OperationMetrics} that aggregates the metrics in memory with striped counters and
+ * lock-free histograms, and publishes each operation as an MXBean named {@code
+ * com.scalar.db:type=Operation,scope=<scope>,operation=<operation>}, followed by {@code
+ * namespace=<namespace>} and {@code table=<table>} if the operation targets a table. The MXBean of
+ * an operation is registered when the operation is recorded for the first time.
+ */
+@ThreadSafe
+public class JmxOperationMetrics implements OperationMetrics {
+  private static final Logger logger = LoggerFactory.getLogger(JmxOperationMetrics.class);
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+  private final MBeanServer mBeanServer;
+  private final Map<RecorderKey, JmxOperationRecorder> recorders = new ConcurrentHashMap<>();
+
+  public JmxOperationMetrics() {
+    this(ManagementFactory.getPlatformMBeanServer());
+  }
+
+  @VisibleForTesting
+  JmxOperationMetrics(MBeanServer mBeanServer) {
+    this.mBeanServer = mBeanServer;
+  }
+
+  @Override
+  public OperationRecorder getRecorder(
+      String scope, String operation, @Nullable String namespace, @Nullable String table) {
+    RecorderKey key = new RecorderKey(scope, operation, namespace, table);
+    // Call get() first since ConcurrentHashMap.computeIfAbsent() of JDK 8 can lock the bin even if
+    // the key exists
+    JmxOperationRecorder recorder = recorders.get(key);
+    if (recorder != null) {
+      return recorder;
+    }
+    return recorders.computeIfAbsent(key, this::createRecorder);
+  }
+
+  private JmxOperationRecorder createRecorder(RecorderKey key) {
+    JmxOperationRecorder recorder = new JmxOperationRecorder();
+    try {
+      ObjectName objectName = key.toObjectName();
+      mBeanServer.registerMBean(recorder, objectName);
+      recorder.objectName = objectName;
+    } catch (JMException e) {
+      // The metrics are still aggregated, so don't fail the operation because of JMX.
+      logger.warn("Failed to register the operation metrics MXBean. Operation: {}", key, e);
+    }
+    return recorder;
+  }
+
+  @VisibleForTesting
+  @Nullable
+  ObjectName getObjectName(
+      String scope, String operation, @Nullable String namespace, @Nullable String table) {
+    JmxOperationRecorder recorder =
+        recorders.get(new RecorderKey(scope, operation, namespace, table));
+    return recorder == null ? null : recorder.objectName;
+  }
+
+  @Override
+  public void close() {
+    for (JmxOperationRecorder recorder : recorders.values()) {
+      if (recorder.objectName == null) {
+        continue;
+      }
+      try {
+        mBeanServer.unregisterMBean(recorder.objectName);
+      } catch (JMException e) {
+        logger.warn(
+            "Failed to unregister the operation metrics MXBean. Name: {}", recorder.objectName, e);
+      }
+    }
+    recorders.clear();
+  }
+
+  @ThreadSafe
+  private static class JmxOperationRecorder implements OperationRecorder, OperationMetricsMXBean {
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errorCount = new LongAdder();
+    private final Histogram latency = new Histogram();
+    private final long createdAtNanos = System.nanoTime();
+    @Nullable private volatile ObjectName objectName;
+
+    @Override
+    public void record(long elapsedNanos, @Nullable Throwable failure) {
+      count.increment();
+      if (failure != null) {
+        errorCount.increment();
+      }
+      latency.record(elapsedNanos);
+    }
+
+    @Override
+    public long getCount() {
+      return count.sum();
+    }
+
+    @Override
+    public long getErrorCount() {
+      return errorCount.sum();
+    }
+
+    @Override
+    public double getErrorRate() {
+      long c = count.sum();
+      return c == 0 ? 0.0 : (double) errorCount.sum() / c;
+    }
+
+    @Override
+    public double getThroughputPerSecond() {
+      double elapsedSeconds = (System.nanoTime() - createdAtNanos) / 1_000_000_000.0;
+      return elapsedSeconds <= 0 ? 0.0 : count.sum() / elapsedSeconds;
+    }
+
+    @Override
+    public HistogramSnapshot getLatencyMillis() {
+      return latency.snapshot(NANOS_PER_MILLI);
+    }
+  }
+
+  @Immutable
+  private static class RecorderKey {
+    private final String scope;
+    private final String operation;
+    @Nullable private final String namespace;
+    @Nullable private final String table;
+
+    RecorderKey(
+        String scope, String operation, @Nullable String namespace, @Nullable String table) {
+      this.scope = scope;
+      this.operation = operation;
+      this.namespace = namespace;
+      this.table = table;
+    }
+
+    ObjectName toObjectName() throws JMException {
+      StringBuilder builder =
+          new StringBuilder("com.scalar.db:type=Operation")
+              .append(",scope=")
+              .append(quoteIfNecessary(scope))
+              .append(",operation=")
+              .append(quoteIfNecessary(operation));
+      if (namespace != null) {
+        builder.append(",namespace=").append(quoteIfNecessary(namespace));
+      }
+      if (table != null) {
+        builder.append(",table=").append(quoteIfNecessary(table));
+      }
+      return new ObjectName(builder.toString());
+    }
+
+    private static String quoteIfNecessary(String value) {
+      for (int i = 0; i < value.length(); i++) {
+        char c = value.charAt(i);
+        if (c == ',' || c == '=' || c == ':' || c == '"' || c == '*' || c == '?' || c == '\n') {
+          return ObjectName.quote(value);
+        }
+      }
+      return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof RecorderKey)) {
+        return false;
+      }
+      RecorderKey that = (RecorderKey) o;
+      return scope.equals(that.scope)
+          && operation.equals(that.operation)
+          && Objects.equals(namespace, that.namespace)
+          && Objects.equals(table, that.table);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(scope, operation, namespace, table);
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("scope", scope)
+          .add("operation", operation)
+          .add("namespace", namespace)
+          .add("table", table)
+          .toString();
+    }
+  }
+}
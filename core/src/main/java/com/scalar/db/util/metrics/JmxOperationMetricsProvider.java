@@ -0,0 +1,25 @@
+package com.scalar.db.util.metrics;
+
+import com.scalar.db.config.DatabaseConfig;
+
+/**
+ * A provider of {@link JmxOperationMetrics}. All the storages and transaction managers in the same
+ * JVM share a single instance so that they publish their metrics to the same MBeans.
+ */
+public class JmxOperationMetricsProvider implements OperationMetricsProvider {
+  public static final String NAME = "jmx";
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @Override
+  public OperationMetrics createOperationMetrics(DatabaseConfig config) {
+    return SharedInstanceHolder.INSTANCE;
+  }
+
+  private static class SharedInstanceHolder {
+    private static final OperationMetrics INSTANCE = new JmxOperationMetrics();
+  }
+}
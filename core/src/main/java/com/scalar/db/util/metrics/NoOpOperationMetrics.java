@@ -0,0 +1,25 @@
+package com.scalar.db.util.metrics;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/** An {@link OperationMetrics} that discards everything. */
+@ThreadSafe
+public final class NoOpOperationMetrics implements OperationMetrics {
+  public static final NoOpOperationMetrics INSTANCE = new NoOpOperationMetrics();
+
+  private static final OperationRecorder NO_OP_RECORDER = (elapsedNanos, failure) -> {};
+
+  private NoOpOperationMetrics() {}
+
+  @Override
+  public OperationRecorder getRecorder(
+      String scope, String operation, @Nullable String namespace, @Nullable String table) {
+    return NO_OP_RECORDER;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return false;
+  }
+}
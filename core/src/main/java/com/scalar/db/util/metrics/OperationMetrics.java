@@ -0,0 +1,59 @@
+package com.scalar.db.util.metrics;
+
+import java.io.Closeable;
+import javax.annotation.Nullable;
+
+/**
+ * A service provider interface to collect the latency, throughput and error rate of storage and
+ * transaction operations. Implementations are created by {@link OperationMetricsProvider}, and
+ * {@link NoOpOperationMetrics} is used when no metrics type is configured.
+ *
+ * <p>An operation is identified by the following:
+ *
+ * <ul>
+ *   <li>scope: the component executing the operation, e.g., {@code storage.jdbc} or {@code
+ *       consensus_commit}
+ *   <li>operation: the name of the operation, e.g., {@code get} or {@code prepare}
+ *   <li>namespace and table: the target of the operation if it has a single target table
+ * </ul>
+ */
+public interface OperationMetrics extends Closeable {
+
+  /**
+   * Returns a recorder for the specified operation that doesn't target a specific table.
+   * Implementations should cache the recorders since this method is called on hot paths.
+   *
+   * @param scope the component executing the operation
+   * @param operation the name of the operation
+   * @return a recorder
+   */
+  default OperationRecorder getRecorder(String scope, String operation) {
+    return getRecorder(scope, operation, null, null);
+  }
+
+  /**
+   * Returns a recorder for the specified operation on the specified table. Implementations should
+   * cache the recorders since this method is called on hot paths.
+   *
+   * @param scope the component executing the operation
+   * @param operation the name of the operation
+   * @param namespace the namespace of the target table, or null if not applicable
+   * @param table the target table, or null if not applicable
+   * @return a recorder
+   */
+  OperationRecorder getRecorder(
+      String scope, String operation, @Nullable String namespace, @Nullable String table);
+
+  /**
+   * Returns whether this instance actually records something. Callers can skip instrumentation
+   * when this returns false.
+   *
+   * @return whether this instance is enabled
+   */
+  default boolean isEnabled() {
+    return true;
+  }
+
+  @Override
+  default void close() {}
+}
@@ -0,0 +1,50 @@
+package com.scalar.db.util.metrics;
+
+import com.google.common.collect.ImmutableMap;
+import com.scalar.db.common.error.CoreError;
+import com.scalar.db.config.DatabaseConfig;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * A factory that creates an {@link OperationMetrics} instance based on {@link
+ * DatabaseConfig#METRICS_TYPE}. {@link OperationMetricsProvider} instances are loaded with {@link
+ * ServiceLoader} and cached.
+ */
+public final class OperationMetricsFactory {
+
+  // cache for OperationMetricsProvider instances
+  private static final Map<String, OperationMetricsProvider> OPERATION_METRICS_PROVIDERS;
+
+  private OperationMetricsFactory() {}
+
+  static {
+    ImmutableMap.Builder<String, OperationMetricsProvider> builder = ImmutableMap.builder();
+    for (OperationMetricsProvider provider : ServiceLoader.load(OperationMetricsProvider.class)) {
+      builder.put(provider.getName().toLowerCase(Locale.ROOT), provider);
+    }
+    OPERATION_METRICS_PROVIDERS = builder.build();
+  }
+
+  /**
+   * Returns an {@link OperationMetrics} instance for the specified config. If the metrics type is
+   * {@code none}, returns {@link NoOpOperationMetrics#INSTANCE}.
+   *
+   * @param config a database config
+   * @return an {@link OperationMetrics} instance
+   */
+  public static OperationMetrics create(DatabaseConfig config) {
+    String metricsType = config.getMetricsType();
+    if (metricsType == null || metricsType.equalsIgnoreCase(DatabaseConfig.DEFAULT_METRICS_TYPE)) {
+      return NoOpOperationMetrics.INSTANCE;
+    }
+    OperationMetricsProvider provider =
+        OPERATION_METRICS_PROVIDERS.get(metricsType.toLowerCase(Locale.ROOT));
+    if (provider == null) {
+      throw new IllegalArgumentException(
+          CoreError.METRICS_TYPE_NOT_FOUND.buildMessage(metricsType));
+    }
+    return provider.createOperationMetrics(config);
+  }
+}
@@ -0,0 +1,19 @@
+package com.scalar.db.util.metrics;
+
+/**
+ * The JMX view of the metrics of an operation published by {@link JmxOperationMetrics}. All the
+ * time values are in milliseconds.
+ */
+public interface OperationMetricsMXBean {
+  long getCount();
+
+  long getErrorCount();
+
+  /** @return the number of failed operations divided by that of all the operations */
+  double getErrorRate();
+
+  /** @return the average number of operations per second since the first operation */
+  double getThroughputPerSecond();
+
+  HistogramSnapshot getLatencyMillis();
+}
@@ -0,0 +1,26 @@
+package com.scalar.db.util.metrics;
+
+import com.scalar.db.config.DatabaseConfig;
+
+/**
+ * A provider of {@link OperationMetrics} loaded with {@link java.util.ServiceLoader}. The provider
+ * is selected by the name specified with {@link DatabaseConfig#METRICS_TYPE}.
+ */
+public interface OperationMetricsProvider {
+
+  /**
+   * Returns the name of this provider.
+   *
+   * @return the name of this provider
+   */
+  String getName();
+
+  /**
+   * Returns an {@link OperationMetrics} instance. Providers may return a shared instance so that
+   * multiple storages and transaction managers in the same JVM report to the same place.
+   *
+   * @param config a database config
+   * @return an {@link OperationMetrics} instance
+   */
+  OperationMetrics createOperationMetrics(DatabaseConfig config);
+}
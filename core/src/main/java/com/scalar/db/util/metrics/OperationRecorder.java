@@ -0,0 +1,91 @@
+package com.scalar.db.util.metrics;
+
+import com.google.common.base.Throwables;
+import com.scalar.db.util.ThrowableRunnable;
+import com.scalar.db.util.ThrowableSupplier;
+import javax.annotation.Nullable;
+
+/**
+ * A recorder of a single kind of operation, e.g., {@code get} on a specific table. Instances are
+ * obtained from {@link OperationMetrics} and are called on the threads that execute the operations,
+ * so implementations must be thread-safe and should not block.
+ */
+public interface OperationRecorder {
+
+  /**
+   * Records a finished operation. Tracing implementations can derive the start time of the
+   * operation by subtracting {@code elapsedNanos} from the current time.
+   *
+   * @param elapsedNanos the time taken by the operation in nanoseconds
+   * @param failure the cause if the operation failed, or null if it succeeded
+   */
+  void record(long elapsedNanos, @Nullable Throwable failure);
+
+  /**
+   * Executes the specified operation and records it.
+   *
+   * @param operation an operation to execute
+   * @param <R> the result type of the operation
+   * @param <T> the exception type thrown by the operation
+   * @return the result of the operation
+   * @throws T if the operation fails
+   */
+  default <R, T extends Throwable> R time(ThrowableSupplier<R, T> operation) throws T {
+    long start = System.nanoTime();
+    Throwable failure = null;
+    try {
+      return operation.get();
+    } catch (Throwable e) {
+      failure = e;
+      throw e;
+    } finally {
+      record(System.nanoTime() - start, failure);
+    }
+  }
+
+  /**
+   * Executes the specified operation and records it.
+   *
+   * @param operation an operation to execute
+   * @param <T> the exception type thrown by the operation
+   * @throws T if the operation fails
+   */
+  default <T extends Throwable> void time(ThrowableRunnable<T> operation) throws T {
+    long start = System.nanoTime();
+    Throwable failure = null;
+    try {
+      operation.run();
+    } catch (Throwable e) {
+      failure = e;
+      throw e;
+    } finally {
+      record(System.nanoTime() - start, failure);
+    }
+  }
+
+  /**
+   * Executes the specified operation that throws two types of checked exceptions, e.g., a commit
+   * that throws both {@code CommitException} and {@code UnknownTransactionStatusException}, and
+   * records it.
+   *
+   * @param operation an operation to execute
+   * @param exceptionType1 the first exception type thrown by the operation
+   * @param exceptionType2 the second exception type thrown by the operation
+   * @param <T1> the first exception type thrown by the operation
+   * @param <T2> the second exception type thrown by the operation
+   * @throws T1 if the operation fails with {@code exceptionType1}
+   * @throws T2 if the operation fails with {@code exceptionType2}
+   */
+  default <T1 extends Throwable, T2 extends Throwable> void time(
+      ThrowableRunnable<?> operation, Class<T1> exceptionType1, Class<T2> exceptionType2)
+      throws T1, T2 {
+    try {
+      time(operation);
+    } catch (Throwable e) {
+      Throwables.throwIfInstanceOf(e, exceptionType1);
+      Throwables.throwIfInstanceOf(e, exceptionType2);
+      Throwables.throwIfUnchecked(e);
+      throw new AssertionError(e);
+    }
+  }
+}
@@ -573,6 +573,36 @@ public class GetBuilderTest {
     assertThat(get).isEqualTo(new Get(partitionKey1).forNamespace(NAMESPACE_1).forTable(TABLE_1));
   }
 
+  @Test
+  public void buildGet_WithLockMode_ShouldBuildGetWithLockMode() {
+    // Arrange Act
+    Get get =
+        Get.newBuilder()
+            .namespace(NAMESPACE_1)
+            .table(TABLE_1)
+            .partitionKey(partitionKey1)
+            .lockMode(LockMode.EXCLUSIVE)
+            .build();
+    Get getWithIndex =
+        Get.newBuilder()
+            .namespace(NAMESPACE_1)
+            .table(TABLE_1)
+            .indexKey(indexKey1)
+            .lockMode(LockMode.SHARED)
+            .build();
+    Get copiedGet = Get.newBuilder(get).build();
+    Get updatedGet = Get.newBuilder(get).lockMode(LockMode.SKIP_LOCKED).build();
+
+    // Assert
+    assertThat(get.getLockMode()).isEqualTo(LockMode.EXCLUSIVE);
+    assertThat(getWithIndex.getLockMode()).isEqualTo(LockMode.SHARED);
+    assertThat(copiedGet).isEqualTo(get);
+    assertThat(updatedGet.getLockMode()).isEqualTo(LockMode.SKIP_LOCKED);
+    assertThat(updatedGet).isNotEqualTo(get);
+    assertThat(Get.newBuilder().table(TABLE_1).partitionKey(partitionKey1).build().getLockMode())
+        .isEqualTo(LockMode.NONE);
+  }
+
   @Test
   public void buildGet_FromExistingWithoutChange_ShouldCopy() {
     // Arrange
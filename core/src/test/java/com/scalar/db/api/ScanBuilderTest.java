@@ -172,6 +172,35 @@ public class ScanBuilderTest {
     assertThat(scan).isEqualTo(expectedScan);
   }
 
+  @Test
+  public void buildScan_WithLockMode_ShouldBuildScanWithLockMode() {
+    // Arrange Act
+    Scan scan =
+        Scan.newBuilder()
+            .namespace(NAMESPACE_1)
+            .table(TABLE_1)
+            .partitionKey(partitionKey1)
+            .limit(10)
+            .lockMode(LockMode.SKIP_LOCKED)
+            .build();
+    Scan scanAll =
+        Scan.newBuilder()
+            .namespace(NAMESPACE_1)
+            .table(TABLE_1)
+            .all()
+            .lockMode(LockMode.SHARED)
+            .build();
+    Scan copiedScan = Scan.newBuilder(scan).build();
+    Scan updatedScan = Scan.newBuilder(scan).lockMode(LockMode.EXCLUSIVE).build();
+
+    // Assert
+    assertThat(scan.getLockMode()).isEqualTo(LockMode.SKIP_LOCKED);
+    assertThat(scanAll.getLockMode()).isEqualTo(LockMode.SHARED);
+    assertThat(copiedScan).isEqualTo(scan);
+    assertThat(updatedScan.getLockMode()).isEqualTo(LockMode.EXCLUSIVE);
+    assertThat(updatedScan).isNotEqualTo(scan);
+  }
+
   @Test
   public void buildScan_FromExistingWithoutChange_ShouldCopy() {
     // Arrange
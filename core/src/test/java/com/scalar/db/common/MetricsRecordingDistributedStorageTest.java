@@ -0,0 +1,186 @@
+package com.scalar.db.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.scalar.db.api.DistributedStorage;
+import com.scalar.db.api.Get;
+import com.scalar.db.api.Put;
+import com.scalar.db.api.Result;
+import com.scalar.db.api.Scan;
+import com.scalar.db.api.Scanner;
+import com.scalar.db.exception.storage.ExecutionException;
+import com.scalar.db.io.Key;
+import com.scalar.db.util.metrics.OperationMetrics;
+import com.scalar.db.util.metrics.OperationRecorder;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class MetricsRecordingDistributedStorageTest {
+  private static final String NAMESPACE = "ns";
+  private static final String TABLE = "tbl";
+
+  @Mock private DistributedStorage storage;
+  @Mock private OperationMetrics metrics;
+
+  // Call the real default methods so that the time() methods call record()
+  @Mock(answer = Answers.CALLS_REAL_METHODS)
+  private OperationRecorder recorder;
+
+  @Mock private Result result;
+  @Mock private Scanner scanner;
+
+  private MetricsRecordingDistributedStorage metricsRecordingStorage;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    MockitoAnnotations.openMocks(this).close();
+
+    // Arrange
+    when(metrics.getRecorder(any(), any(), any(), any())).thenReturn(recorder);
+    metricsRecordingStorage = new MetricsRecordingDistributedStorage(storage, metrics, "jdbc");
+  }
+
+  @Test
+  public void get_ShouldDelegateAndRecordWithTargetTable() throws ExecutionException {
+    // Arrange
+    Get get =
+        Get.newBuilder()
+            .namespace(NAMESPACE)
+            .table(TABLE)
+            .partitionKey(Key.ofInt("id", 1))
+            .build();
+    when(storage.get(get)).thenReturn(Optional.of(result));
+
+    // Act
+    Optional<Result> actual = metricsRecordingStorage.get(get);
+
+    // Assert
+    assertThat(actual).hasValue(result);
+    verify(storage).get(get);
+    verify(metrics).getRecorder("storage.jdbc", "get", NAMESPACE, TABLE);
+    verify(recorder).record(anyLong(), isNull());
+  }
+
+  @Test
+  public void scan_ShouldRecordWhenScannerClosed() throws ExecutionException, IOException {
+    // Arrange
+    Scan scan =
+        Scan.newBuilder()
+            .namespace(NAMESPACE)
+            .table(TABLE)
+            .partitionKey(Key.ofInt("id", 1))
+            .build();
+    when(storage.scan(scan)).thenReturn(scanner);
+    when(scanner.one()).thenReturn(Optional.of(result));
+
+    // Act Assert
+    Scanner actual = metricsRecordingStorage.scan(scan);
+    assertThat(actual.one()).hasValue(result);
+    verify(recorder, never()).record(anyLong(), any());
+    actual.close();
+    actual.close();
+    verify(metrics).getRecorder("storage.jdbc", "scan", NAMESPACE, TABLE);
+    verify(scanner, times(2)).close();
+    verify(recorder).record(anyLong(), isNull());
+  }
+
+  @Test
+  public void scan_ScannerThrowsExecutionException_ShouldRecordFailureWhenScannerClosed()
+      throws ExecutionException, IOException {
+    // Arrange
+    Scan scan =
+        Scan.newBuilder()
+            .namespace(NAMESPACE)
+            .table(TABLE)
+            .partitionKey(Key.ofInt("id", 1))
+            .build();
+    ExecutionException exception = new ExecutionException("error");
+    when(storage.scan(scan)).thenReturn(scanner);
+    when(scanner.all()).thenThrow(exception);
+
+    // Act
+    try (Scanner actual = metricsRecordingStorage.scan(scan)) {
+      assertThatThrownBy(actual::all).isSameAs(exception);
+    }
+
+    // Assert
+    verify(recorder).record(anyLong(), eq(exception));
+  }
+
+  @Test
+  public void put_StorageThrowsExecutionException_ShouldRecordFailureAndRethrow()
+      throws ExecutionException {
+    // Arrange
+    Put put =
+        Put.newBuilder()
+            .namespace(NAMESPACE)
+            .table(TABLE)
+            .partitionKey(Key.ofInt("id", 1))
+            .intValue("val", 1)
+            .build();
+    ExecutionException exception = new ExecutionException("error");
+    doThrow(exception).when(storage).put(put);
+
+    // Act Assert
+    assertThatThrownBy(() -> metricsRecordingStorage.put(put)).isSameAs(exception);
+    verify(metrics).getRecorder("storage.jdbc", "put", NAMESPACE, TABLE);
+    verify(recorder).record(anyLong(), eq(exception));
+  }
+
+  @Test
+  public void mutate_ShouldRecordWithTableOfFirstMutation() throws ExecutionException {
+    // Arrange
+    Put put1 =
+        Put.newBuilder()
+            .namespace(NAMESPACE)
+            .table(TABLE)
+            .partitionKey(Key.ofInt("id", 1))
+            .intValue("val", 1)
+            .build();
+    Put put2 =
+        Put.newBuilder()
+            .namespace(NAMESPACE)
+            .table(TABLE)
+            .partitionKey(Key.ofInt("id", 1))
+            .clusteringKey(Key.ofInt("ck", 2))
+            .intValue("val", 2)
+            .build();
+
+    // Act
+    metricsRecordingStorage.mutate(Arrays.asList(put1, put2));
+
+    // Assert
+    verify(storage).mutate(Arrays.asList(put1, put2));
+    verify(metrics).getRecorder("storage.jdbc", "mutate", NAMESPACE, TABLE);
+    verify(recorder).record(anyLong(), isNull());
+  }
+
+  @Test
+  public void isReady_ShouldDelegate() {
+    // Arrange
+    when(storage.isReady()).thenReturn(false);
+
+    // Act
+    boolean actual = metricsRecordingStorage.isReady();
+
+    // Assert
+    assertThat(actual).isFalse();
+    verify(storage).isReady();
+  }
+}
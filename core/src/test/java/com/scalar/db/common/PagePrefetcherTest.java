@@ -0,0 +1,176 @@
+package com.scalar.db.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PagePrefetcherTest {
+
+  private ExecutorService executor;
+
+  /** Pages that count how many of them are fetched and wait for a latch before each fetch. */
+  private static class CountingPages implements Iterator<String> {
+    private final List<String> pages;
+    private final AtomicInteger fetched = new AtomicInteger();
+    private final CountDownLatch latch;
+
+    private CountingPages(CountDownLatch latch, String... pages) {
+      this.pages = Arrays.asList(pages);
+      this.latch = latch;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return fetched.get() < pages.size();
+    }
+
+    @Override
+    public String next() {
+      try {
+        latch.await();
+      } catch (InterruptedException e) {
+        throw new AssertionError(e);
+      }
+      return pages.get(fetched.getAndIncrement());
+    }
+  }
+
+  @BeforeEach
+  public void setUp() {
+    executor = PagePrefetcher.createExecutor(2, "page-prefetcher-test-%d");
+  }
+
+  @AfterEach
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void next_ShouldReturnAllPagesInOrder() {
+    // Arrange
+    CountingPages pages = new CountingPages(new CountDownLatch(0), "a", "b", "c");
+    List<String> actual = new ArrayList<>();
+
+    // Act
+    try (PagePrefetcher<String> prefetcher =
+        new PagePrefetcher<>(pages, String::length, 2, 10, executor)) {
+      prefetcher.forEachRemaining(actual::add);
+
+      // Assert
+      assertThat(actual).containsExactly("a", "b", "c");
+      assertThat(prefetcher.hasNext()).isFalse();
+      assertThatThrownBy(prefetcher::next).isInstanceOf(NoSuchElementException.class);
+    }
+  }
+
+  @Test
+  public void constructor_ShouldPrefetchUpToSpecifiedNumberOfPages() throws Exception {
+    // Arrange
+    CountingPages pages = new CountingPages(new CountDownLatch(0), "a", "b", "c", "d", "e");
+
+    // Act
+    try (PagePrefetcher<String> prefetcher =
+        new PagePrefetcher<>(pages, String::length, 2, 10, executor)) {
+      TimeUnit.MILLISECONDS.sleep(200);
+
+      // Assert
+      assertThat(pages.fetched.get()).isEqualTo(2);
+      assertThat(prefetcher.next()).isEqualTo("a");
+      TimeUnit.MILLISECONDS.sleep(200);
+      assertThat(pages.fetched.get()).isEqualTo(3);
+    }
+  }
+
+  @Test
+  public void constructor_ShouldPrefetchUpToSpecifiedNumberOfBytes() throws Exception {
+    // Arrange
+    CountingPages pages = new CountingPages(new CountDownLatch(0), "aaa", "bbb", "ccc");
+
+    // Act
+    try (PagePrefetcher<String> prefetcher =
+        new PagePrefetcher<>(pages, String::length, 10, 3, executor)) {
+      TimeUnit.MILLISECONDS.sleep(200);
+
+      // Assert
+      // A page is always fetched when no page is prefetched, even if it exceeds the bytes
+      assertThat(pages.fetched.get()).isEqualTo(1);
+      assertThat(prefetcher.next()).isEqualTo("aaa");
+      assertThat(prefetcher.next()).isEqualTo("bbb");
+      assertThat(prefetcher.next()).isEqualTo("ccc");
+    }
+  }
+
+  @Test
+  public void hasNext_ExceptionThrownWhileFetching_ShouldRethrowItAfterPrecedingPages() {
+    // Arrange
+    Iterator<String> pages =
+        new Iterator<String>() {
+          private int count;
+
+          @Override
+          public boolean hasNext() {
+            return true;
+          }
+
+          @Override
+          public String next() {
+            if (count++ == 0) {
+              return "a";
+            }
+            throw new IllegalStateException();
+          }
+        };
+
+    // Act Assert
+    try (PagePrefetcher<String> prefetcher =
+        new PagePrefetcher<>(pages, String::length, 2, 10, executor)) {
+      assertThat(prefetcher.next()).isEqualTo("a");
+      assertThatThrownBy(prefetcher::hasNext).isInstanceOf(IllegalStateException.class);
+    }
+  }
+
+  @Test
+  public void close_ShouldStopPrefetching() throws Exception {
+    // Arrange
+    CountDownLatch latch = new CountDownLatch(1);
+    CountingPages pages = new CountingPages(latch, "a", "b", "c");
+    PagePrefetcher<String> prefetcher =
+        new PagePrefetcher<>(pages, String::length, 1, 10, executor);
+
+    // Act
+    prefetcher.close();
+    latch.countDown();
+
+    // Assert
+    TimeUnit.MILLISECONDS.sleep(200);
+    assertThat(pages.fetched.get()).isEqualTo(1);
+    assertThat(prefetcher.hasNext()).isFalse();
+  }
+
+  @Test
+  public void hasNext_ExecutorShutDown_ShouldThrowRejectedExecutionException() {
+    // Arrange
+    CountingPages pages = new CountingPages(new CountDownLatch(0), "a", "b");
+    executor.shutdown();
+
+    // Act Assert
+    try (PagePrefetcher<String> prefetcher =
+        new PagePrefetcher<>(pages, String::length, 2, 10, executor)) {
+      assertThatThrownBy(prefetcher::hasNext).isInstanceOf(RejectedExecutionException.class);
+    }
+    assertThat(pages.fetched.get()).isEqualTo(0);
+  }
+}
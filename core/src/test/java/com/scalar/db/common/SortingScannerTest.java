@@ -0,0 +1,255 @@
+package com.scalar.db.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableMap;
+import com.scalar.db.api.Result;
+import com.scalar.db.api.Scan;
+import com.scalar.db.api.Scanner;
+import com.scalar.db.api.TableMetadata;
+import com.scalar.db.exception.storage.ExecutionException;
+import com.scalar.db.io.BlobColumn;
+import com.scalar.db.io.DataType;
+import com.scalar.db.io.IntColumn;
+import com.scalar.db.io.TextColumn;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class SortingScannerTest {
+
+  private static final TableMetadata METADATA =
+      TableMetadata.newBuilder()
+          .addColumn("pk", DataType.INT)
+          .addColumn("col", DataType.INT)
+          .addColumn("txt", DataType.TEXT)
+          .addColumn("blb", DataType.BLOB)
+          .addPartitionKey("pk")
+          .build();
+
+  @Mock private Scanner scanner;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    MockitoAnnotations.openMocks(this).close();
+
+    // Arrange
+    when(scanner.one())
+        .thenReturn(Optional.of(createResult(1, 30, "c")))
+        .thenReturn(Optional.of(createResult(2, 10, null)))
+        .thenReturn(Optional.of(createResult(3, 50, "e")))
+        .thenReturn(Optional.of(createResult(4, 20, "b")))
+        .thenReturn(Optional.of(createResult(5, 40, "d")))
+        .thenReturn(Optional.empty());
+  }
+
+  private Result createResult(int pk, int col, String txt) {
+    return new ResultImpl(
+        ImmutableMap.of(
+            "pk",
+            IntColumn.of("pk", pk),
+            "col",
+            IntColumn.of("col", col),
+            "txt",
+            txt == null ? TextColumn.ofNull("txt") : TextColumn.of("txt", txt),
+            "blb",
+            BlobColumn.of("blb", ("blob" + pk).getBytes(StandardCharsets.UTF_8))),
+        METADATA);
+  }
+
+  private List<Integer> getPartitionKeys(List<Result> results) {
+    return results.stream().map(r -> r.getInt("pk")).collect(Collectors.toList());
+  }
+
+  @Test
+  public void all_WithOrdering_ShouldReturnSortedResults() throws ExecutionException {
+    // Arrange
+    Scan scan =
+        Scan.newBuilder()
+            .namespace("ns")
+            .table("tbl")
+            .all()
+            .ordering(Scan.Ordering.asc("col"))
+            .build();
+    SortingScanner sortingScanner = new SortingScanner(scan, scanner, METADATA, 100, null);
+
+    // Act
+    List<Result> actual = sortingScanner.all();
+
+    // Assert
+    assertThat(getPartitionKeys(actual)).containsExactly(2, 4, 1, 5, 3);
+  }
+
+  @Test
+  public void all_WithDescendingOrderingOnNullableColumn_ShouldReturnNullLast()
+      throws ExecutionException {
+    // Arrange
+    Scan scan =
+        Scan.newBuilder()
+            .namespace("ns")
+            .table("tbl")
+            .all()
+            .ordering(Scan.Ordering.desc("txt"))
+            .build();
+    SortingScanner sortingScanner = new SortingScanner(scan, scanner, METADATA, 100, null);
+
+    // Act
+    List<Result> actual = sortingScanner.all();
+
+    // Assert
+    assertThat(getPartitionKeys(actual)).containsExactly(3, 5, 1, 4, 2);
+  }
+
+  @Test
+  public void all_WithLimit_ShouldReturnTopResults() throws ExecutionException {
+    // Arrange
+    Scan scan =
+        Scan.newBuilder()
+            .namespace("ns")
+            .table("tbl")
+            .all()
+            .ordering(Scan.Ordering.desc("col"))
+            .limit(2)
+            .build();
+    SortingScanner sortingScanner = new SortingScanner(scan, scanner, METADATA, 100, null);
+
+    // Act
+    List<Result> actual = sortingScanner.all();
+
+    // Assert
+    assertThat(getPartitionKeys(actual)).containsExactly(3, 5);
+  }
+
+  @Test
+  public void all_ResultsExceedingSortBuffer_ShouldReturnSortedResultsWithAllColumns()
+      throws ExecutionException {
+    // Arrange
+    Scan scan =
+        Scan.newBuilder()
+            .namespace("ns")
+            .table("tbl")
+            .all()
+            .ordering(Scan.Ordering.asc("txt"))
+            .limit(4)
+            .build();
+    SortingScanner sortingScanner = new SortingScanner(scan, scanner, METADATA, 2, null);
+
+    // Act
+    List<Result> actual = sortingScanner.all();
+
+    // Assert
+    assertThat(getPartitionKeys(actual)).containsExactly(2, 4, 1, 5);
+    assertThat(actual.get(0).isNull("txt")).isTrue();
+    assertThat(actual.get(1).getInt("col")).isEqualTo(20);
+    assertThat(actual.get(1).getText("txt")).isEqualTo("b");
+    assertThat(actual.get(1).getBlobAsBytes("blb"))
+        .isEqualTo("blob4".getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void all_MoreSpilledRunsThanMaxMergeFanInGiven_ShouldMergeThemAndReturnSortedResults(
+      @TempDir Path spillDirectory) throws ExecutionException, IOException {
+    // Arrange
+    Scan scan =
+        Scan.newBuilder()
+            .namespace("ns")
+            .table("tbl")
+            .all()
+            .ordering(Scan.Ordering.asc("col"))
+            .build();
+    SortingScanner sortingScanner =
+        new SortingScanner(scan, scanner, METADATA, 1, spillDirectory, 2);
+
+    // Act
+    List<Result> actual = sortingScanner.all();
+    sortingScanner.close();
+
+    // Assert
+    assertThat(getPartitionKeys(actual)).containsExactly(2, 4, 1, 5, 3);
+    try (Stream<Path> files = Files.list(spillDirectory)) {
+      assertThat(files).isEmpty();
+    }
+  }
+
+  @Test
+  public void one_UnderlyingScannerFailedWhileSorting_ShouldNotSortAgain()
+      throws ExecutionException {
+    // Arrange
+    Scan scan =
+        Scan.newBuilder()
+            .namespace("ns")
+            .table("tbl")
+            .all()
+            .ordering(Scan.Ordering.asc("col"))
+            .build();
+    ExecutionException exception = new ExecutionException("error");
+    when(scanner.one())
+        .thenReturn(Optional.of(createResult(1, 30, "c")))
+        .thenThrow(exception)
+        .thenReturn(Optional.empty());
+    SortingScanner sortingScanner = new SortingScanner(scan, scanner, METADATA, 100, null);
+    assertThatThrownBy(sortingScanner::one).isSameAs(exception);
+
+    // Act Assert
+    assertThatThrownBy(sortingScanner::one)
+        .isInstanceOf(ExecutionException.class)
+        .hasCause(exception);
+    verify(scanner, times(2)).one();
+  }
+
+  @Test
+  public void one_WithProjections_ShouldReturnProjectedResult() throws ExecutionException {
+    // Arrange
+    Scan scan =
+        Scan.newBuilder()
+            .namespace("ns")
+            .table("tbl")
+            .all()
+            .projections("pk", "txt")
+            .ordering(Scan.Ordering.asc("col"))
+            .build();
+    SortingScanner sortingScanner = new SortingScanner(scan, scanner, METADATA, 100, null);
+
+    // Act
+    Optional<Result> actual = sortingScanner.one();
+
+    // Assert
+    assertThat(actual).isPresent();
+    assertThat(actual.get().getContainedColumnNames()).containsExactlyInAnyOrder("pk", "txt");
+    assertThat(actual.get().getInt("pk")).isEqualTo(2);
+  }
+
+  @Test
+  public void close_ShouldCloseUnderlyingScanner() throws ExecutionException, IOException {
+    // Arrange
+    Scan scan =
+        Scan.newBuilder()
+            .namespace("ns")
+            .table("tbl")
+            .all()
+            .ordering(Scan.Ordering.asc("col"))
+            .build();
+    SortingScanner sortingScanner = new SortingScanner(scan, scanner, METADATA, 2, null);
+    sortingScanner.one();
+
+    // Act
+    sortingScanner.close();
+
+    // Assert
+    verify(scanner).close();
+  }
+}
@@ -2,10 +2,14 @@ package com.scalar.db.common;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.util.concurrent.Uninterruptibles;
 import com.scalar.db.api.DistributedStorageAdmin;
 import com.scalar.db.api.Get;
@@ -107,12 +111,12 @@ public class TableMetadataManagerTest {
 
     // Act
     tableMetadataManager.getTableMetadata(get);
-    // Wait for cache to be expired
+    // Wait for cache to be expired. The cached one is returned and reloaded in the background
     Uninterruptibles.sleepUninterruptibly(1200, TimeUnit.MILLISECONDS);
     TableMetadata actualTableMetadata = tableMetadataManager.getTableMetadata(get);
 
     // Assert
-    verify(admin, times(2)).getTableMetadata("ns", "tbl");
+    verify(admin, timeout(1000).times(2)).getTableMetadata("ns", "tbl");
     assertThat(actualTableMetadata).isEqualTo(expectedTableMetadata);
   }
 
@@ -215,12 +219,13 @@ public class TableMetadataManagerTest {
 
     // Act
     tableMetadataManager.getTableMetadata(get);
-    // Wait for cache to be expired
+    // Wait for cache to be expired. The cached one is returned and reloaded in the background
     Uninterruptibles.sleepUninterruptibly(1200, TimeUnit.MILLISECONDS);
     TableMetadata actualTableMetadata = tableMetadataManager.getTableMetadata(get);
 
     // Assert
-    verify(getTableMetadataFunc, times(2)).apply(new TableMetadataManager.TableKey("ns", "tbl"));
+    verify(getTableMetadataFunc, timeout(1000).times(2))
+        .apply(new TableMetadataManager.TableKey("ns", "tbl"));
     assertThat(actualTableMetadata).isEqualTo(expectedTableMetadata);
   }
 
@@ -244,4 +249,47 @@ public class TableMetadataManagerTest {
     // Assert
     verify(getTableMetadataFunc).apply(new TableMetadataManager.TableKey("ns", "tbl"));
   }
+
+  @Test
+  public void loadTablesMetadata_ShouldCacheAllTablesMetadataWithSingleCall()
+      throws ExecutionException {
+    // Arrange
+    TableMetadataManager tableMetadataManager = new TableMetadataManager(admin, -1);
+
+    TableMetadata tableMetadata1 =
+        TableMetadata.newBuilder()
+            .addColumn("c1", DataType.INT)
+            .addColumn("c2", DataType.INT)
+            .addPartitionKey("c1")
+            .build();
+    TableMetadata tableMetadata2 =
+        TableMetadata.newBuilder().addColumn("c1", DataType.TEXT).addPartitionKey("c1").build();
+
+    when(admin.getTablesMetadata("ns"))
+        .thenReturn(ImmutableMap.of("tbl1", tableMetadata1, "tbl2", tableMetadata2));
+
+    // Act
+    tableMetadataManager.loadTablesMetadata("ns");
+    TableMetadata actual1 = tableMetadataManager.getTableMetadata("ns", "tbl1");
+    TableMetadata actual2 = tableMetadataManager.getTableMetadata("ns", "tbl2");
+
+    // Assert
+    verify(admin).getTablesMetadata("ns");
+    verify(admin, never()).getTableMetadata(anyString(), anyString());
+    assertThat(actual1).isEqualTo(tableMetadata1);
+    assertThat(actual2).isEqualTo(tableMetadata2);
+  }
+
+  @Test
+  public void loadTablesMetadata_ExecutionExceptionThrownByAdmin_ShouldThrowExecutionException()
+      throws ExecutionException {
+    // Arrange
+    TableMetadataManager tableMetadataManager = new TableMetadataManager(admin, -1);
+
+    when(admin.getTablesMetadata("ns")).thenThrow(ExecutionException.class);
+
+    // Act Assert
+    assertThatThrownBy(() -> tableMetadataManager.loadTablesMetadata("ns"))
+        .isInstanceOf(ExecutionException.class);
+  }
 }
@@ -13,6 +13,7 @@ import com.scalar.db.api.DeleteIf;
 import com.scalar.db.api.DeleteIfExists;
 import com.scalar.db.api.Get;
 import com.scalar.db.api.Insert;
+import com.scalar.db.api.LockMode;
 import com.scalar.db.api.MutationCondition;
 import com.scalar.db.api.Put;
 import com.scalar.db.api.PutIf;
@@ -121,6 +122,57 @@ public class OperationCheckerTest {
     assertThatCode(() -> operationChecker.check(get)).doesNotThrowAnyException();
   }
 
+  @Test
+  public void whenCheckingGetOperationWithLockMode_shouldThrowIllegalArgumentException() {
+    // Arrange
+    Get get =
+        Get.newBuilder()
+            .namespace(NAMESPACE)
+            .table(TABLE_NAME)
+            .partitionKey(Key.of(PKEY1, 1, PKEY2, "val1"))
+            .clusteringKey(Key.of(CKEY1, 2, CKEY2, "val2"))
+            .lockMode(LockMode.EXCLUSIVE)
+            .build();
+
+    // Act Assert
+    assertThatThrownBy(() -> operationChecker.check(get))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void
+      whenCheckingGetOperationWithLockModeWhenLockModeSupported_shouldNotThrowAnyException() {
+    // Arrange
+    operationChecker = new OperationChecker(databaseConfig, metadataManager, true);
+    Get get =
+        Get.newBuilder()
+            .namespace(NAMESPACE)
+            .table(TABLE_NAME)
+            .partitionKey(Key.of(PKEY1, 1, PKEY2, "val1"))
+            .clusteringKey(Key.of(CKEY1, 2, CKEY2, "val2"))
+            .lockMode(LockMode.EXCLUSIVE)
+            .build();
+
+    // Act Assert
+    assertThatCode(() -> operationChecker.check(get)).doesNotThrowAnyException();
+  }
+
+  @Test
+  public void whenCheckingScanOperationWithLockMode_shouldThrowIllegalArgumentException() {
+    // Arrange
+    Scan scan =
+        Scan.newBuilder()
+            .namespace(NAMESPACE)
+            .table(TABLE_NAME)
+            .partitionKey(Key.of(PKEY1, 1, PKEY2, "val1"))
+            .lockMode(LockMode.SKIP_LOCKED)
+            .build();
+
+    // Act Assert
+    assertThatThrownBy(() -> operationChecker.check(scan))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
   @Test
   public void whenCheckingGetOperationWithInvalidProjections_shouldThrowIllegalArgumentException() {
     // Arrange
@@ -40,6 +40,14 @@ public class DatabaseConfigTest {
     assertThat(config.isCrossPartitionScanEnabled()).isFalse();
     assertThat(config.isCrossPartitionScanFilteringEnabled()).isFalse();
     assertThat(config.isCrossPartitionScanOrderingEnabled()).isFalse();
+    assertThat(config.getCrossPartitionScanOrderingSortBufferSize())
+        .isEqualTo(DatabaseConfig.DEFAULT_CROSS_PARTITION_SCAN_ORDERING_SORT_BUFFER_SIZE);
+    assertThat(config.getCrossPartitionScanOrderingSpillDirectory()).isEmpty();
+    assertThat(config.getScanPrefetchPages()).isEqualTo(DatabaseConfig.DEFAULT_SCAN_PREFETCH_PAGES);
+    assertThat(config.getScanPrefetchMaxBufferedBytes())
+        .isEqualTo(DatabaseConfig.DEFAULT_SCAN_PREFETCH_MAX_BUFFERED_BYTES);
+    assertThat(config.getScanPrefetchMaxThreads())
+        .isEqualTo(DatabaseConfig.DEFAULT_SCAN_PREFETCH_MAX_THREADS);
   }
 
   @Test
@@ -366,6 +374,8 @@ public class DatabaseConfigTest {
     props.setProperty(DatabaseConfig.CROSS_PARTITION_SCAN, ANY_TRUE);
     props.setProperty(DatabaseConfig.CROSS_PARTITION_SCAN_FILTERING, ANY_TRUE);
     props.setProperty(DatabaseConfig.CROSS_PARTITION_SCAN_ORDERING, ANY_FALSE);
+    props.setProperty(DatabaseConfig.CROSS_PARTITION_SCAN_ORDERING_SORT_BUFFER_SIZE, "500");
+    props.setProperty(DatabaseConfig.CROSS_PARTITION_SCAN_ORDERING_SPILL_DIRECTORY, "/tmp/spill");
 
     // Act
     DatabaseConfig config = new DatabaseConfig(props);
@@ -380,6 +390,8 @@ public class DatabaseConfigTest {
     assertThat(config.isCrossPartitionScanEnabled()).isTrue();
     assertThat(config.isCrossPartitionScanFilteringEnabled()).isTrue();
     assertThat(config.isCrossPartitionScanOrderingEnabled()).isFalse();
+    assertThat(config.getCrossPartitionScanOrderingSortBufferSize()).isEqualTo(500);
+    assertThat(config.getCrossPartitionScanOrderingSpillDirectory()).hasValue("/tmp/spill");
   }
 
   @Test
@@ -398,4 +410,58 @@ public class DatabaseConfigTest {
     assertThatThrownBy(() -> new DatabaseConfig(props))
         .isInstanceOf(IllegalArgumentException.class);
   }
+
+  @Test
+  public void
+      constructor_PropertiesWithNonPositiveSortBufferSizeGiven_ShouldThrowIllegalArgumentException() {
+    // Arrange
+    Properties props = new Properties();
+    props.setProperty(DatabaseConfig.CONTACT_POINTS, ANY_HOST);
+    props.setProperty(DatabaseConfig.CROSS_PARTITION_SCAN_ORDERING_SORT_BUFFER_SIZE, "0");
+
+    // Act Assert
+    assertThatThrownBy(() -> new DatabaseConfig(props))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void constructor_PropertiesWithScanPrefetchSettingsGiven_ShouldLoadProperly() {
+    // Arrange
+    Properties props = new Properties();
+    props.setProperty(DatabaseConfig.CONTACT_POINTS, ANY_HOST);
+    props.setProperty(DatabaseConfig.SCAN_PREFETCH_PAGES, "2");
+    props.setProperty(DatabaseConfig.SCAN_PREFETCH_MAX_BUFFERED_BYTES, "1048576");
+    props.setProperty(DatabaseConfig.SCAN_PREFETCH_MAX_THREADS, "8");
+
+    // Act
+    DatabaseConfig config = new DatabaseConfig(props);
+
+    // Assert
+    assertThat(config.getScanPrefetchPages()).isEqualTo(2);
+    assertThat(config.getScanPrefetchMaxBufferedBytes()).isEqualTo(1048576);
+    assertThat(config.getScanPrefetchMaxThreads()).isEqualTo(8);
+  }
+
+  @Test
+  public void
+      constructor_PropertiesWithInvalidScanPrefetchSettingsGiven_ShouldThrowIllegalArgumentException() {
+    // Arrange
+    Properties props1 = new Properties();
+    props1.setProperty(DatabaseConfig.CONTACT_POINTS, ANY_HOST);
+    props1.setProperty(DatabaseConfig.SCAN_PREFETCH_PAGES, "-1");
+    Properties props2 = new Properties();
+    props2.setProperty(DatabaseConfig.CONTACT_POINTS, ANY_HOST);
+    props2.setProperty(DatabaseConfig.SCAN_PREFETCH_MAX_BUFFERED_BYTES, "0");
+    Properties props3 = new Properties();
+    props3.setProperty(DatabaseConfig.CONTACT_POINTS, ANY_HOST);
+    props3.setProperty(DatabaseConfig.SCAN_PREFETCH_MAX_THREADS, "0");
+
+    // Act Assert
+    assertThatThrownBy(() -> new DatabaseConfig(props1))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new DatabaseConfig(props2))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new DatabaseConfig(props3))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
 }
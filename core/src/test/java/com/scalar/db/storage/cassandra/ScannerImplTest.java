@@ -0,0 +1,84 @@
+package com.scalar.db.storage.cassandra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Statement;
+import com.scalar.db.api.Result;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class ScannerImplTest {
+
+  @Mock private ResultSet resultSet;
+  @Mock private ExecutionInfo executionInfo;
+  @Mock private Statement statement;
+  @Mock private ResultInterpreter resultInterpreter;
+  @Mock private Row row;
+  @Mock private Result result;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    MockitoAnnotations.openMocks(this).close();
+
+    // Arrange
+    when(resultSet.getExecutionInfo()).thenReturn(executionInfo);
+    when(executionInfo.getStatement()).thenReturn(statement);
+    when(statement.getFetchSize()).thenReturn(100);
+    when(resultSet.one()).thenReturn(row);
+    when(resultInterpreter.interpret(row)).thenReturn(result);
+  }
+
+  @Test
+  public void one_WithPrefetchAndFewRowsLeft_ShouldFetchMoreResults() {
+    // Arrange
+    when(resultSet.isFullyFetched()).thenReturn(false);
+    when(resultSet.getAvailableWithoutFetching()).thenReturn(200);
+    ScannerImpl scanner = new ScannerImpl(resultSet, resultInterpreter, 2);
+
+    // Act
+    Optional<Result> actual = scanner.one();
+
+    // Assert
+    assertThat(actual).contains(result);
+    verify(resultSet).fetchMoreResults();
+  }
+
+  @Test
+  public void one_WithPrefetchAndManyRowsLeft_ShouldNotFetchMoreResults() {
+    // Arrange
+    when(resultSet.isFullyFetched()).thenReturn(false);
+    when(resultSet.getAvailableWithoutFetching()).thenReturn(201);
+    ScannerImpl scanner = new ScannerImpl(resultSet, resultInterpreter, 2);
+
+    // Act
+    Optional<Result> actual = scanner.one();
+
+    // Assert
+    assertThat(actual).contains(result);
+    verify(resultSet, never()).fetchMoreResults();
+  }
+
+  @Test
+  public void one_WithoutPrefetch_ShouldNotFetchMoreResults() {
+    // Arrange
+    when(resultSet.isFullyFetched()).thenReturn(false);
+    when(resultSet.getAvailableWithoutFetching()).thenReturn(0);
+    ScannerImpl scanner = new ScannerImpl(resultSet, resultInterpreter);
+
+    // Act
+    Optional<Result> actual = scanner.one();
+
+    // Assert
+    assertThat(actual).contains(result);
+    verify(resultSet, never()).fetchMoreResults();
+  }
+}
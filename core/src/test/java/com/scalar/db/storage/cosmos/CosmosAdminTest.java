@@ -4,6 +4,7 @@ import static com.scalar.db.util.ScalarDbUtils.getFullTableName;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -31,6 +32,8 @@ import com.azure.cosmos.models.CosmosQueryRequestOptions;
 import com.azure.cosmos.models.CosmosStoredProcedureProperties;
 import com.azure.cosmos.models.IndexingPolicy;
 import com.azure.cosmos.models.PartitionKey;
+import com.azure.cosmos.models.SqlParameter;
+import com.azure.cosmos.models.SqlQuerySpec;
 import com.azure.cosmos.models.ThroughputProperties;
 import com.azure.cosmos.util.CosmosPagedIterable;
 import com.google.common.collect.ImmutableMap;
@@ -41,6 +44,7 @@ import com.scalar.db.exception.storage.ExecutionException;
 import com.scalar.db.io.DataType;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -671,6 +675,68 @@ public class CosmosAdminTest {
     assertThat(actualTableNames).containsExactly("t1", "t2");
     verify(client, atLeastOnce()).getDatabase(METADATA_DATABASE);
     verify(database, atLeastOnce()).getContainer(CosmosAdmin.TABLE_METADATA_CONTAINER);
+    ArgumentCaptor<SqlQuerySpec> captor = ArgumentCaptor.forClass(SqlQuerySpec.class);
+    verify(container)
+        .queryItems(
+            captor.capture(), any(CosmosQueryRequestOptions.class), eq(CosmosTableMetadata.class));
+    assertThat(captor.getValue().getQueryText())
+        .isEqualTo("SELECT * FROM metadata WHERE STARTSWITH(metadata.id, @prefix)");
+    assertThat(captor.getValue().getParameters()).hasSize(1);
+    SqlParameter parameter = captor.getValue().getParameters().get(0);
+    assertThat(parameter.getName()).isEqualTo("@prefix");
+    assertThat(parameter.getValue(String.class)).isEqualTo("ns.");
+  }
+
+  @Test
+  public void getTablesMetadata_ShouldGetTablesMetadataWithSingleQuery() throws ExecutionException {
+    // Arrange
+    String namespace = "ns";
+
+    CosmosTableMetadata t1 =
+        CosmosTableMetadata.newBuilder()
+            .id(getFullTableName(namespace, "t1"))
+            .partitionKeyNames(Sets.newLinkedHashSet("c1"))
+            .columns(ImmutableMap.of("c1", "int"))
+            .build();
+    CosmosTableMetadata t2 =
+        CosmosTableMetadata.newBuilder()
+            .id(getFullTableName(namespace, "t2"))
+            .partitionKeyNames(Sets.newLinkedHashSet("c1"))
+            .columns(ImmutableMap.of("c1", "text"))
+            .build();
+    CosmosTableMetadata t3 =
+        CosmosTableMetadata.newBuilder()
+            .id(getFullTableName("ns2", "t3"))
+            .partitionKeyNames(Sets.newLinkedHashSet("c1"))
+            .columns(ImmutableMap.of("c1", "int"))
+            .build();
+
+    when(client.getDatabase(METADATA_DATABASE)).thenReturn(database);
+    when(database.getContainer(CosmosAdmin.TABLE_METADATA_CONTAINER)).thenReturn(container);
+    @SuppressWarnings("unchecked")
+    CosmosPagedIterable<CosmosTableMetadata> queryResults = mock(CosmosPagedIterable.class);
+    when(container.queryItems(any(SqlQuerySpec.class), any(), eq(CosmosTableMetadata.class)))
+        .thenReturn(queryResults);
+    when(queryResults.stream()).thenReturn(Stream.of(t1, t2, t3));
+
+    // Act
+    Map<String, TableMetadata> actual = admin.getTablesMetadata(namespace);
+
+    // Assert
+    assertThat(actual)
+        .containsOnly(
+            entry(
+                "t1",
+                TableMetadata.newBuilder()
+                    .addColumn("c1", DataType.INT)
+                    .addPartitionKey("c1")
+                    .build()),
+            entry(
+                "t2",
+                TableMetadata.newBuilder()
+                    .addColumn("c1", DataType.TEXT)
+                    .addPartitionKey("c1")
+                    .build()));
     verify(container)
         .queryItems(
             eq("SELECT * FROM metadata WHERE metadata.id LIKE 'ns.%'"),
@@ -13,7 +13,10 @@ import com.scalar.db.api.Get;
 import com.scalar.db.api.Result;
 import com.scalar.db.api.Scan;
 import com.scalar.db.api.Scanner;
+import com.scalar.db.api.TableMetadata;
 import com.scalar.db.common.FilterableScanner;
+import com.scalar.db.common.SortingScanner;
+import com.scalar.db.common.TableMetadataManager;
 import com.scalar.db.common.checker.OperationChecker;
 import com.scalar.db.config.DatabaseConfig;
 import com.scalar.db.exception.storage.ExecutionException;
@@ -36,6 +39,7 @@ public class CosmosTest {
   @Mock private PutStatementHandler putStatementHandler;
   @Mock private DeleteStatementHandler deleteStatementHandler;
   @Mock private BatchHandler batchHandler;
+  @Mock private TableMetadataManager metadataManager;
   @Mock private OperationChecker operationChecker;
   @Mock private ScannerImpl scanner;
   @Mock private Key partitionKey;
@@ -52,6 +56,7 @@ public class CosmosTest {
             putStatementHandler,
             deleteStatementHandler,
             batchHandler,
+            metadataManager,
             operationChecker);
   }
 
@@ -216,4 +221,33 @@ public class CosmosTest {
     Scan actualScan = captor.getValue();
     assertThat(actualScan.getProjections()).containsExactlyInAnyOrder("col1", "col2");
   }
+
+  @Test
+  public void scan_ScanAllWithOrderings_ShouldHandledWithoutOrderingsAndLimit()
+      throws ExecutionException {
+    // Arrange
+    Scan scan =
+        Scan.newBuilder()
+            .namespace("ns")
+            .table("tbl")
+            .all()
+            .projections("col1")
+            .ordering(Scan.Ordering.desc("col2"))
+            .limit(ANY_LIMIT)
+            .build();
+    when(selectStatementHandler.handle(any(Scan.class))).thenReturn(scanner);
+    when(metadataManager.getTableMetadata(any())).thenReturn(mock(TableMetadata.class));
+
+    // Act
+    Scanner actual = cosmos.scan(scan);
+
+    // Assert
+    assertThat(actual).isInstanceOf(SortingScanner.class);
+    ArgumentCaptor<Scan> captor = ArgumentCaptor.forClass(Scan.class);
+    verify(selectStatementHandler).handle(captor.capture());
+    Scan actualScan = captor.getValue();
+    assertThat(actualScan.getOrderings()).isEmpty();
+    assertThat(actualScan.getLimit()).isEqualTo(0);
+    assertThat(actualScan.getProjections()).containsExactlyInAnyOrder("col1", "col2");
+  }
 }
@@ -9,7 +9,10 @@ import com.scalar.db.api.Result;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.assertj.core.util.Lists;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
@@ -28,6 +31,12 @@ public class ScannerImplTest {
   @Mock Result result2;
   @Mock Result result3;
   @Mock Result result4;
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+
+  @AfterAll
+  public void tearDownAll() {
+    executor.shutdownNow();
+  }
 
   @BeforeEach
   public void setUp() throws Exception {
@@ -144,8 +153,38 @@ public class ScannerImplTest {
     assertThat(allResults).isEmpty();
   }
 
+  @Test
+  public void oneAndAll_WithTwoPagesAndPrefetch_ShouldReturnAllResults() {
+    // Arrange
+    Record prefetchedRecord1 = new Record("1", "p", null, null, null);
+    Record prefetchedRecord2 = new Record("2", "p", null, null, null);
+    Record prefetchedRecord3 = new Record("3", "p", null, null, null);
+    when(resultInterpreter.interpret(prefetchedRecord1)).thenReturn(result1);
+    when(resultInterpreter.interpret(prefetchedRecord2)).thenReturn(result2);
+    when(resultInterpreter.interpret(prefetchedRecord3)).thenReturn(result3);
+    ScannerImpl scanner =
+        buildPrefetchingScanner(
+            Lists.newArrayList(prefetchedRecord1, prefetchedRecord2),
+            Lists.newArrayList(prefetchedRecord3));
+
+    // Act
+    Optional<Result> oneResult = scanner.one();
+    List<Result> remainingResults = scanner.all();
+    scanner.close();
+
+    // Assert
+    assertThat(oneResult).contains(result1);
+    assertThat(remainingResults).containsExactly(result2, result3);
+  }
+
   @SafeVarargs
-  private final ScannerImpl buildScanner(List<Record>... pages) {
+  private final ScannerImpl buildPrefetchingScanner(List<Record>... pages) {
+    return new ScannerImpl(
+        buildPagesFeed(pages).iterator(), resultInterpreter, 1, 1024, executor);
+  }
+
+  @SafeVarargs
+  private final List<FeedResponse<Record>> buildPagesFeed(List<Record>... pages) {
     List<FeedResponse<Record>> pagesFeed = new ArrayList<>();
     for (List<Record> page : pages) {
       @SuppressWarnings("unchecked")
@@ -153,7 +192,11 @@ public class ScannerImplTest {
       when(pageFeed.getResults()).thenReturn(page);
       pagesFeed.add(pageFeed);
     }
+    return pagesFeed;
+  }
 
-    return new ScannerImpl(pagesFeed.iterator(), resultInterpreter);
+  @SafeVarargs
+  private final ScannerImpl buildScanner(List<Record>... pages) {
+    return new ScannerImpl(buildPagesFeed(pages).iterator(), resultInterpreter);
   }
 }
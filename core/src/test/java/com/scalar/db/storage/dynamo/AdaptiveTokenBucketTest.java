@@ -0,0 +1,131 @@
+package com.scalar.db.storage.dynamo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.base.Ticker;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveTokenBucketTest {
+
+  private final AtomicLong nanos = new AtomicLong();
+  private AdaptiveTokenBucket bucket;
+
+  @BeforeEach
+  public void setUp() {
+    Ticker ticker =
+        new Ticker() {
+          @Override
+          public long read() {
+            return nanos.get();
+          }
+        };
+    bucket = new AdaptiveTokenBucket(ticker);
+  }
+
+  private void advance(long seconds) {
+    nanos.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+  }
+
+  private void throttleAfterConsuming100UnitsPerSecond() {
+    bucket.consume(50);
+    advance(1);
+    bucket.consume(50);
+    bucket.throttle();
+  }
+
+  @Test
+  public void getWaitNanos_NotThrottled_ShouldReturnZero() {
+    // Arrange
+    bucket.consume(1000);
+
+    // Act
+    long actual = bucket.getWaitNanos();
+
+    // Assert
+    assertThat(actual).isEqualTo(0);
+    assertThat(bucket.getRate()).isEqualTo(Double.POSITIVE_INFINITY);
+  }
+
+  @Test
+  public void throttle_ShouldLimitRateTo70PercentOfMeasuredRate() {
+    // Arrange
+
+    // Act
+    throttleAfterConsuming100UnitsPerSecond();
+
+    // Assert
+    assertThat(bucket.getRate()).isCloseTo(70.0, Offset.offset(0.001));
+  }
+
+  @Test
+  public void throttle_AlreadyLimited_ShouldDecreaseRateFurther() {
+    // Arrange
+    throttleAfterConsuming100UnitsPerSecond();
+
+    // Act
+    bucket.throttle();
+
+    // Assert
+    assertThat(bucket.getRate()).isCloseTo(49.0, Offset.offset(0.001));
+  }
+
+  @Test
+  public void getWaitNanos_ConsumedMoreThanTokensAfterThrottled_ShouldReturnTimeToRefill() {
+    // Arrange
+    throttleAfterConsuming100UnitsPerSecond();
+    bucket.consume(35);
+
+    // Act
+    long actual = bucket.getWaitNanos();
+
+    // Assert
+    assertThat(actual).isCloseTo(TimeUnit.MILLISECONDS.toNanos(500), Offset.offset(10L));
+  }
+
+  @Test
+  public void getWaitNanos_RefilledAfterThrottled_ShouldReturnZero() {
+    // Arrange
+    throttleAfterConsuming100UnitsPerSecond();
+    bucket.consume(35);
+    advance(1);
+
+    // Act
+    long actual = bucket.getWaitNanos();
+
+    // Assert
+    assertThat(actual).isEqualTo(0);
+  }
+
+  @Test
+  public void getRate_NoThrottlingAfterThrottled_ShouldIncreaseRateAndStopLimiting() {
+    // Arrange
+    throttleAfterConsuming100UnitsPerSecond();
+
+    // Act Assert
+    advance(10);
+    assertThat(bucket.getRate()).isCloseTo(120.0, Offset.offset(0.001));
+    advance(20);
+    assertThat(bucket.getRate()).isEqualTo(Double.POSITIVE_INFINITY);
+    assertThat(bucket.getWaitNanos()).isEqualTo(0);
+  }
+
+  @Test
+  public void acquire_InterruptedWhileWaiting_ShouldThrowInterruptedException() {
+    // Arrange
+    throttleAfterConsuming100UnitsPerSecond();
+    bucket.consume(35);
+    Thread.currentThread().interrupt();
+
+    // Act Assert
+    try {
+      assertThatThrownBy(bucket::acquire).isInstanceOf(InterruptedException.class);
+    } finally {
+      Thread.interrupted();
+    }
+  }
+}
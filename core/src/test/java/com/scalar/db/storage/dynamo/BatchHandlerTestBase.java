@@ -5,6 +5,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -24,6 +26,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,10 +35,13 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
 import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
 import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
 import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
 import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
 public abstract class BatchHandlerTestBase {
   private static final String ANY_NAMESPACE_NAME = "namespace";
@@ -100,6 +106,22 @@ public abstract class BatchHandlerTestBase {
         .isInstanceOf(IllegalArgumentException.class);
   }
 
+  @Test
+  public void handle_TooLargeOperationsGiven_ShouldThrowIllegalArgumentException() {
+    // Arrange
+    char[] chars = new char[1024 * 1024];
+    Arrays.fill(chars, 'a');
+    String largeText = new String(chars);
+    List<Put> mutations = new ArrayList<>();
+    IntStream.range(0, 5)
+        .forEach(i -> mutations.add(preparePut().withValue(ANY_NAME_3, largeText)));
+
+    // Act Assert
+    assertThatThrownBy(() -> handler.handle(mutations))
+        .isInstanceOf(IllegalArgumentException.class);
+    verify(client, never()).transactWriteItems(any(TransactWriteItemsRequest.class));
+  }
+
   @Test
   public void
       handle_TransactionCanceledExceptionWithConditionCheckFailed_ShouldThrowNoMutationException() {
@@ -170,4 +192,54 @@ public abstract class BatchHandlerTestBase {
     assertThat(capturedRequest.transactItems().get(1).delete().tableName())
         .isEqualTo(getFullTableName());
   }
+
+  @Test
+  public void handleBatchWrite_TooManyDeletesGiven_ShouldThrowIllegalArgumentException() {
+    // Arrange
+    List<Delete> deletes = new ArrayList<>();
+    IntStream.range(0, 26).forEach(i -> deletes.add(prepareDelete()));
+
+    // Act Assert
+    assertThatThrownBy(() -> handler.handleBatchWrite(deletes))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void handleBatchWrite_UnprocessedItemsReturned_ShouldRetryThem()
+      throws ExecutionException {
+    // Arrange
+    Delete delete = prepareDelete();
+    Map<String, List<WriteRequest>> unprocessedItems =
+        Collections.singletonMap(
+            getFullTableName(), Collections.singletonList(WriteRequest.builder().build()));
+    when(client.batchWriteItem(any(BatchWriteItemRequest.class)))
+        .thenReturn(BatchWriteItemResponse.builder().unprocessedItems(unprocessedItems).build())
+        .thenReturn(BatchWriteItemResponse.builder().build());
+
+    // Act
+    handler.handleBatchWrite(Collections.singletonList(delete));
+
+    // Assert
+    ArgumentCaptor<BatchWriteItemRequest> argument =
+        ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+    verify(client, times(2)).batchWriteItem(argument.capture());
+    BatchWriteItemRequest firstRequest = argument.getAllValues().get(0);
+    assertThat(firstRequest.requestItems()).containsOnlyKeys(getFullTableName());
+    assertThat(firstRequest.requestItems().get(getFullTableName())).hasSize(1);
+    assertThat(firstRequest.requestItems().get(getFullTableName()).get(0).deleteRequest().key())
+        .containsKey(ANY_NAME_1);
+    assertThat(argument.getAllValues().get(1).requestItems()).isEqualTo(unprocessedItems);
+  }
+
+  @Test
+  public void handleBatchWrite_DynamoDbExceptionThrown_ShouldThrowExecutionException() {
+    // Arrange
+    DynamoDbException toThrow = mock(DynamoDbException.class);
+    doThrow(toThrow).when(client).batchWriteItem(any(BatchWriteItemRequest.class));
+
+    // Act Assert
+    assertThatThrownBy(() -> handler.handleBatchWrite(Collections.singletonList(prepareDelete())))
+        .isInstanceOf(ExecutionException.class)
+        .hasCause(toThrow);
+  }
 }
@@ -0,0 +1,324 @@
+package com.scalar.db.storage.dynamo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Optional;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.services.dynamodb.model.Capacity;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.Delete;
+import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
+
+public class CapacityRateLimiterTest {
+  private static final String ANY_TABLE_NAME = "ns.tbl";
+  private static final String ANY_TABLE_NAME_2 = "ns.tbl2";
+  private static final String ANY_INDEX_NAME = "ns.tbl.index.ns.tbl.col";
+
+  private MBeanServer mBeanServer;
+  private CapacityRateLimiter limiter;
+  private final ExecutionAttributes executionAttributes = new ExecutionAttributes();
+
+  @BeforeEach
+  public void setUp() {
+    mBeanServer = MBeanServerFactory.newMBeanServer();
+    limiter = new CapacityRateLimiter(mBeanServer);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    limiter.close();
+  }
+
+  @Test
+  public void modifyRequest_UpdateItemRequestGiven_ShouldRequestConsumedCapacityWithIndexes() {
+    // Arrange
+    Context.ModifyRequest context = mock(Context.ModifyRequest.class);
+    when(context.request())
+        .thenReturn(UpdateItemRequest.builder().tableName(ANY_TABLE_NAME).build());
+
+    // Act
+    SdkRequest actual = limiter.modifyRequest(context, executionAttributes);
+
+    // Assert
+    assertThat(actual).isInstanceOf(UpdateItemRequest.class);
+    assertThat(((UpdateItemRequest) actual).tableName()).isEqualTo(ANY_TABLE_NAME);
+    assertThat(((UpdateItemRequest) actual).returnConsumedCapacity())
+        .isEqualTo(ReturnConsumedCapacity.INDEXES);
+  }
+
+  @Test
+  public void modifyRequest_RequestWithReturnConsumedCapacityGiven_ShouldNotOverrideIt() {
+    // Arrange
+    Context.ModifyRequest context = mock(Context.ModifyRequest.class);
+    UpdateItemRequest request =
+        UpdateItemRequest.builder()
+            .tableName(ANY_TABLE_NAME)
+            .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+            .build();
+    when(context.request()).thenReturn(request);
+
+    // Act
+    SdkRequest actual = limiter.modifyRequest(context, executionAttributes);
+
+    // Assert
+    assertThat(actual).isSameAs(request);
+  }
+
+  @Test
+  public void afterExecution_QueryOnIndexGiven_ShouldRecordReadCapacityOfTableAndIndex() {
+    // Arrange
+    Context.AfterExecution context = mock(Context.AfterExecution.class);
+    when(context.request())
+        .thenReturn(
+            QueryRequest.builder().tableName(ANY_TABLE_NAME).indexName(ANY_INDEX_NAME).build());
+    when(context.response())
+        .thenReturn(
+            QueryResponse.builder()
+                .consumedCapacity(
+                    ConsumedCapacity.builder()
+                        .tableName(ANY_TABLE_NAME)
+                        .capacityUnits(3.0)
+                        .table(Capacity.builder().capacityUnits(0.5).build())
+                        .globalSecondaryIndexes(
+                            Collections.singletonMap(
+                                ANY_INDEX_NAME, Capacity.builder().capacityUnits(2.5).build()))
+                        .build())
+                .build());
+
+    // Act
+    limiter.afterExecution(context, executionAttributes);
+
+    // Assert
+    DynamoCapacityMetricsMXBean table = limiter.getMetrics(ANY_TABLE_NAME, null);
+    assertThat(table.getConsumedReadCapacityUnits()).isCloseTo(0.5, Offset.offset(0.001));
+    assertThat(table.getConsumedWriteCapacityUnits()).isEqualTo(0.0);
+    DynamoCapacityMetricsMXBean index = limiter.getMetrics(ANY_TABLE_NAME, ANY_INDEX_NAME);
+    assertThat(index.getConsumedReadCapacityUnits()).isCloseTo(2.5, Offset.offset(0.001));
+  }
+
+  @Test
+  public void afterExecution_TransactWriteItemsGiven_ShouldRecordWriteCapacityOfEachTable() {
+    // Arrange
+    Context.AfterExecution context = mock(Context.AfterExecution.class);
+    when(context.request()).thenReturn(TransactWriteItemsRequest.builder().build());
+    when(context.response())
+        .thenReturn(
+            TransactWriteItemsResponse.builder()
+                .consumedCapacity(
+                    ConsumedCapacity.builder()
+                        .tableName(ANY_TABLE_NAME)
+                        .table(Capacity.builder().capacityUnits(4.0).build())
+                        .build(),
+                    ConsumedCapacity.builder()
+                        .tableName(ANY_TABLE_NAME_2)
+                        .table(Capacity.builder().capacityUnits(2.0).build())
+                        .build())
+                .build());
+
+    // Act
+    limiter.afterExecution(context, executionAttributes);
+
+    // Assert
+    assertThat(limiter.getMetrics(ANY_TABLE_NAME, null).getConsumedWriteCapacityUnits())
+        .isCloseTo(4.0, Offset.offset(0.001));
+    assertThat(limiter.getMetrics(ANY_TABLE_NAME_2, null).getConsumedWriteCapacityUnits())
+        .isCloseTo(2.0, Offset.offset(0.001));
+    assertThat(limiter.getMetrics(ANY_TABLE_NAME, null).getConsumedReadCapacityUnits())
+        .isEqualTo(0.0);
+  }
+
+  @Test
+  public void modifyHttpResponseContent_ThrottledUpdateItemGiven_ShouldLimitWriteRateOfTable()
+      throws IOException {
+    // Arrange
+    String body =
+        "{\"__type\":\"com.amazonaws.dynamodb.v20120808#ProvisionedThroughputExceededException\","
+            + "\"message\":\"The level of configured provisioned throughput for the table was"
+            + " exceeded.\"}";
+    Context.ModifyHttpResponse context =
+        prepareModifyHttpResponseContext(
+            UpdateItemRequest.builder().tableName(ANY_TABLE_NAME).build(), 400, body);
+
+    // Act
+    Optional<InputStream> actual = limiter.modifyHttpResponseContent(context, executionAttributes);
+
+    // Assert
+    assertThat(actual).isPresent();
+    assertThat(new String(ByteStreams.toByteArray(actual.get()), StandardCharsets.UTF_8))
+        .isEqualTo(body);
+    DynamoCapacityMetricsMXBean metrics = limiter.getMetrics(ANY_TABLE_NAME, null);
+    assertThat(metrics.getThrottledRequestCount()).isEqualTo(1);
+    assertThat(metrics.getWriteRateLimit()).isNotEqualTo(Double.POSITIVE_INFINITY);
+    assertThat(metrics.getReadRateLimit()).isEqualTo(Double.POSITIVE_INFINITY);
+  }
+
+  @Test
+  public void
+      modifyHttpResponseContent_TransactionCanceledByThrottlingGiven_ShouldLimitWriteRateOfTables() {
+    // Arrange
+    String body =
+        "{\"__type\":\"com.amazonaws.dynamodb.v20120808#TransactionCanceledException\","
+            + "\"CancellationReasons\":[{\"Code\":\"None\"},"
+            + "{\"Code\":\"ThrottlingError\",\"Message\":\"Throughput exceeds the current"
+            + " capacity of your table or index.\"}],"
+            + "\"Message\":\"Transaction cancelled, please refer cancellation reasons for"
+            + " specific reasons [None, ThrottlingError]\"}";
+    Context.ModifyHttpResponse context =
+        prepareModifyHttpResponseContext(
+            TransactWriteItemsRequest.builder()
+                .transactItems(
+                    TransactWriteItem.builder()
+                        .put(Put.builder().tableName(ANY_TABLE_NAME).build())
+                        .build(),
+                    TransactWriteItem.builder()
+                        .delete(Delete.builder().tableName(ANY_TABLE_NAME_2).build())
+                        .build())
+                .build(),
+            400,
+            body);
+
+    // Act
+    limiter.modifyHttpResponseContent(context, executionAttributes);
+
+    // Assert
+    assertThat(limiter.getMetrics(ANY_TABLE_NAME, null).getWriteRateLimit())
+        .isNotEqualTo(Double.POSITIVE_INFINITY);
+    assertThat(limiter.getMetrics(ANY_TABLE_NAME_2, null).getWriteRateLimit())
+        .isNotEqualTo(Double.POSITIVE_INFINITY);
+  }
+
+  @Test
+  public void modifyHttpResponseContent_NonThrottlingErrorGiven_ShouldNotLimitRate()
+      throws IOException {
+    // Arrange
+    String body =
+        "{\"__type\":\"com.amazonaws.dynamodb.v20120808#ConditionalCheckFailedException\","
+            + "\"message\":\"The conditional request failed\"}";
+    Context.ModifyHttpResponse context =
+        prepareModifyHttpResponseContext(
+            UpdateItemRequest.builder().tableName(ANY_TABLE_NAME).build(), 400, body);
+
+    // Act
+    Optional<InputStream> actual = limiter.modifyHttpResponseContent(context, executionAttributes);
+
+    // Assert
+    assertThat(actual).isPresent();
+    assertThat(new String(ByteStreams.toByteArray(actual.get()), StandardCharsets.UTF_8))
+        .isEqualTo(body);
+    DynamoCapacityMetricsMXBean metrics = limiter.getMetrics(ANY_TABLE_NAME, null);
+    assertThat(metrics.getThrottledRequestCount()).isEqualTo(0);
+    assertThat(metrics.getWriteRateLimit()).isEqualTo(Double.POSITIVE_INFINITY);
+  }
+
+  @Test
+  public void modifyHttpResponseContent_SuccessfulResponseGiven_ShouldReturnBodyAsIs() {
+    // Arrange
+    InputStream body = new ByteArrayInputStream(new byte[] {'{', '}'});
+    Context.ModifyHttpResponse context = mock(Context.ModifyHttpResponse.class);
+    when(context.request())
+        .thenReturn(UpdateItemRequest.builder().tableName(ANY_TABLE_NAME).build());
+    when(context.httpResponse()).thenReturn(SdkHttpResponse.builder().statusCode(200).build());
+    when(context.responseBody()).thenReturn(Optional.of(body));
+
+    // Act
+    Optional<InputStream> actual = limiter.modifyHttpResponseContent(context, executionAttributes);
+
+    // Assert
+    assertThat(actual).containsSame(body);
+    assertThat(limiter.getMetrics(ANY_TABLE_NAME, null).getThrottledRequestCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void beforeTransmission_InterruptedWhileWaitingForLimitedTable_ShouldAbortRequest() {
+    // Arrange
+    UpdateItemRequest request = UpdateItemRequest.builder().tableName(ANY_TABLE_NAME).build();
+    limiter.modifyHttpResponseContent(
+        prepareModifyHttpResponseContext(
+            request,
+            400,
+            "{\"__type\":\"com.amazonaws.dynamodb.v20120808#ThrottlingException\"}"),
+        executionAttributes);
+    Context.AfterExecution afterExecution = mock(Context.AfterExecution.class);
+    when(afterExecution.request()).thenReturn(request);
+    when(afterExecution.response())
+        .thenReturn(
+            UpdateItemResponse.builder()
+                .consumedCapacity(
+                    ConsumedCapacity.builder()
+                        .tableName(ANY_TABLE_NAME)
+                        .capacityUnits(100.0)
+                        .build())
+                .build());
+    limiter.afterExecution(afterExecution, executionAttributes);
+    Context.BeforeTransmission context = mock(Context.BeforeTransmission.class);
+    when(context.request()).thenReturn(request);
+    Thread.currentThread().interrupt();
+
+    // Act Assert
+    try {
+      assertThatThrownBy(() -> limiter.beforeTransmission(context, executionAttributes))
+          .isInstanceOf(AbortedException.class)
+          .hasCauseInstanceOf(InterruptedException.class);
+      assertThat(Thread.currentThread().isInterrupted()).isTrue();
+    } finally {
+      Thread.interrupted();
+    }
+  }
+
+  @Test
+  public void close_ShouldUnregisterMXBeans() {
+    // Arrange
+    limiter.getMetrics(ANY_TABLE_NAME, ANY_INDEX_NAME);
+    ObjectName objectName = limiter.getObjectName(ANY_TABLE_NAME, ANY_INDEX_NAME);
+    assertThat(objectName).isNotNull();
+    assertThat(mBeanServer.isRegistered(objectName)).isTrue();
+    assertThat(objectName.getKeyProperty("type")).isEqualTo("DynamoCapacity");
+    assertThat(ObjectName.unquote(objectName.getKeyProperty("table"))).isEqualTo(ANY_TABLE_NAME);
+    assertThat(ObjectName.unquote(objectName.getKeyProperty("index"))).isEqualTo(ANY_INDEX_NAME);
+
+    // Act
+    limiter.close();
+
+    // Assert
+    assertThat(mBeanServer.isRegistered(objectName)).isFalse();
+  }
+
+  private Context.ModifyHttpResponse prepareModifyHttpResponseContext(
+      SdkRequest request, int statusCode, String body) {
+    Context.ModifyHttpResponse context = mock(Context.ModifyHttpResponse.class);
+    when(context.request()).thenReturn(request);
+    when(context.httpResponse())
+        .thenReturn(SdkHttpResponse.builder().statusCode(statusCode).build());
+    when(context.responseBody())
+        .thenReturn(Optional.of(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8))));
+    return context;
+  }
+}
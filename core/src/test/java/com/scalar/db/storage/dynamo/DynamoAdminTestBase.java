@@ -223,6 +223,69 @@ public abstract class DynamoAdminTestBase {
     assertThat(actualRequest.consistentRead()).isTrue();
   }
 
+  private Map<String, AttributeValue> createMetadataItem(String table, String partitionKeyType) {
+    return ImmutableMap.<String, AttributeValue>builder()
+        .put(
+            DynamoAdmin.METADATA_ATTR_TABLE,
+            AttributeValue.builder().s(getPrefixedNamespace() + "." + table).build())
+        .put(
+            DynamoAdmin.METADATA_ATTR_COLUMNS,
+            AttributeValue.builder()
+                .m(ImmutableMap.of("c1", AttributeValue.builder().s(partitionKeyType).build()))
+                .build())
+        .put(
+            DynamoAdmin.METADATA_ATTR_PARTITION_KEY,
+            AttributeValue.builder().l(AttributeValue.builder().s("c1").build()).build())
+        .build();
+  }
+
+  @Test
+  public void getTablesMetadata_ShouldScanMetadataTableAndReturnTablesMetadata()
+      throws ExecutionException {
+    // Arrange
+    Map<String, AttributeValue> lastEvaluatedKey =
+        ImmutableMap.of(
+            DynamoAdmin.METADATA_ATTR_TABLE,
+            AttributeValue.builder().s(getPrefixedNamespace() + ".tbl1").build());
+    when(client.scan(any(ScanRequest.class)))
+        .thenReturn(
+            ScanResponse.builder()
+                .items(Collections.singletonList(createMetadataItem("tbl1", "int")))
+                .lastEvaluatedKey(lastEvaluatedKey)
+                .build(),
+            ScanResponse.builder()
+                .items(Collections.singletonList(createMetadataItem("tbl2", "text")))
+                .build());
+
+    // Act
+    Map<String, TableMetadata> actual = admin.getTablesMetadata(NAMESPACE);
+
+    // Assert
+    assertThat(actual)
+        .containsOnly(
+            entry(
+                "tbl1",
+                TableMetadata.newBuilder()
+                    .addColumn("c1", DataType.INT)
+                    .addPartitionKey("c1")
+                    .build()),
+            entry(
+                "tbl2",
+                TableMetadata.newBuilder()
+                    .addColumn("c1", DataType.TEXT)
+                    .addPartitionKey("c1")
+                    .build()));
+
+    ArgumentCaptor<ScanRequest> captor = ArgumentCaptor.forClass(ScanRequest.class);
+    verify(client, times(2)).scan(captor.capture());
+    ScanRequest firstRequest = captor.getAllValues().get(0);
+    assertThat(firstRequest.tableName()).isEqualTo(getFullMetadataTableName());
+    assertThat(firstRequest.expressionAttributeValues().get(":prefix").s())
+        .isEqualTo(getPrefixedNamespace() + ".");
+    assertThat(firstRequest.consistentRead()).isTrue();
+    assertThat(captor.getAllValues().get(1).exclusiveStartKey()).isEqualTo(lastEvaluatedKey);
+  }
+
   @Test
   public void dropNamespace_WithOtherNamespacesExisting_ShouldDropNamespace()
       throws ExecutionException {
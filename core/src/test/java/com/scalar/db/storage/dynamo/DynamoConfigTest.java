@@ -28,6 +28,10 @@ public class DynamoConfigTest {
     props.setProperty(DatabaseConfig.SYSTEM_NAMESPACE_NAME, ANY_METADATA_NAMESPACE);
     props.setProperty(DynamoConfig.ENDPOINT_OVERRIDE, ANY_ENDPOINT_OVERRIDE);
     props.setProperty(DynamoConfig.NAMESPACE_PREFIX, ANY_NAMESPACE_PREFIX);
+    props.setProperty(DynamoConfig.PARALLEL_SCAN_SEGMENTS, "8");
+    props.setProperty(DynamoConfig.PARALLEL_SCAN_MAX_THREADS, "32");
+    props.setProperty(DynamoConfig.NON_ATOMIC_MUTATION_PARALLELISM, "16");
+    props.setProperty(DynamoConfig.RATE_LIMITER_ENABLED, "true");
 
     // Act
     DynamoConfig config = new DynamoConfig(new DatabaseConfig(props));
@@ -41,6 +45,10 @@ public class DynamoConfigTest {
     assertThat(config.getMetadataNamespace()).isEqualTo(ANY_METADATA_NAMESPACE);
     assertThat(config.getNamespacePrefix()).isPresent();
     assertThat(config.getNamespacePrefix().get()).isEqualTo(ANY_NAMESPACE_PREFIX);
+    assertThat(config.getParallelScanSegments()).isEqualTo(8);
+    assertThat(config.getParallelScanMaxThreads()).isEqualTo(32);
+    assertThat(config.getNonAtomicMutationParallelism()).isEqualTo(16);
+    assertThat(config.isRateLimiterEnabled()).isTrue();
   }
 
   @Test
@@ -136,6 +144,53 @@ public class DynamoConfigTest {
     assertThat(config.getAccessKeyId()).isEqualTo(ANY_ACCESS_KEY_ID);
     assertThat(config.getSecretAccessKey()).isEqualTo(ANY_SECRET_ACCESS_ID);
     assertThat(config.getNamespacePrefix()).isEmpty();
+    assertThat(config.getParallelScanSegments())
+        .isEqualTo(DynamoConfig.DEFAULT_PARALLEL_SCAN_SEGMENTS);
+    assertThat(config.getParallelScanMaxThreads())
+        .isEqualTo(DynamoConfig.DEFAULT_PARALLEL_SCAN_MAX_THREADS);
+    assertThat(config.getNonAtomicMutationParallelism())
+        .isEqualTo(DynamoConfig.DEFAULT_NON_ATOMIC_MUTATION_PARALLELISM);
+    assertThat(config.isRateLimiterEnabled()).isFalse();
+  }
+
+  @Test
+  public void constructor_InvalidParallelScanSegmentsGiven_ShouldThrowIllegalArgumentException() {
+    // Arrange
+    Properties props = new Properties();
+    props.setProperty(DatabaseConfig.CONTACT_POINTS, ANY_REGION);
+    props.setProperty(DatabaseConfig.STORAGE, DYNAMO_STORAGE);
+    props.setProperty(DynamoConfig.PARALLEL_SCAN_SEGMENTS, "0");
+
+    // Act Assert
+    assertThatThrownBy(() -> new DynamoConfig(new DatabaseConfig(props)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void constructor_InvalidParallelScanMaxThreadsGiven_ShouldThrowIllegalArgumentException() {
+    // Arrange
+    Properties props = new Properties();
+    props.setProperty(DatabaseConfig.CONTACT_POINTS, ANY_REGION);
+    props.setProperty(DatabaseConfig.STORAGE, DYNAMO_STORAGE);
+    props.setProperty(DynamoConfig.PARALLEL_SCAN_MAX_THREADS, "0");
+
+    // Act Assert
+    assertThatThrownBy(() -> new DynamoConfig(new DatabaseConfig(props)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void
+      constructor_InvalidNonAtomicMutationParallelismGiven_ShouldThrowIllegalArgumentException() {
+    // Arrange
+    Properties props = new Properties();
+    props.setProperty(DatabaseConfig.CONTACT_POINTS, ANY_REGION);
+    props.setProperty(DatabaseConfig.STORAGE, DYNAMO_STORAGE);
+    props.setProperty(DynamoConfig.NON_ATOMIC_MUTATION_PARALLELISM, "0");
+
+    // Act Assert
+    assertThatThrownBy(() -> new DynamoConfig(new DatabaseConfig(props)))
+        .isInstanceOf(IllegalArgumentException.class);
   }
 
   @Test
@@ -1,25 +1,41 @@
 package com.scalar.db.storage.dynamo;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import com.scalar.db.api.ConditionBuilder;
 import com.scalar.db.api.ConditionalExpression;
+import com.scalar.db.api.Delete;
 import com.scalar.db.api.Get;
+import com.scalar.db.api.Mutation;
+import com.scalar.db.api.Put;
 import com.scalar.db.api.Result;
 import com.scalar.db.api.Scan;
 import com.scalar.db.api.Scanner;
+import com.scalar.db.api.TableMetadata;
 import com.scalar.db.common.FilterableScanner;
+import com.scalar.db.common.SortingScanner;
+import com.scalar.db.common.TableMetadataManager;
 import com.scalar.db.common.checker.OperationChecker;
 import com.scalar.db.config.DatabaseConfig;
 import com.scalar.db.exception.storage.ExecutionException;
+import com.scalar.db.exception.storage.NoMutationException;
 import com.scalar.db.io.Key;
 import com.scalar.db.storage.cassandra.ScannerImpl;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -37,6 +53,7 @@ public class DynamoTest {
   @Mock private PutStatementHandler putStatementHandler;
   @Mock private DeleteStatementHandler deleteStatementHandler;
   @Mock private BatchHandler batchHandler;
+  @Mock private TableMetadataManager metadataManager;
   @Mock private OperationChecker operationChecker;
   @Mock private ScannerImpl scanner;
   @Mock private Key partitionKey;
@@ -53,7 +70,9 @@ public class DynamoTest {
             putStatementHandler,
             deleteStatementHandler,
             batchHandler,
-            operationChecker);
+            metadataManager,
+            operationChecker,
+            MoreExecutors.newDirectExecutorService());
   }
 
   @Test
@@ -217,4 +236,102 @@ public class DynamoTest {
     Scan actualScan = captor.getValue();
     assertThat(actualScan.getProjections()).containsExactlyInAnyOrder("col1", "col2");
   }
+
+  @Test
+  public void scan_ScanAllWithOrderings_ShouldHandledWithoutOrderingsAndLimit()
+      throws ExecutionException {
+    // Arrange
+    Scan scan =
+        Scan.newBuilder()
+            .namespace("ns")
+            .table("tbl")
+            .all()
+            .projections("col1")
+            .ordering(Scan.Ordering.desc("col2"))
+            .limit(ANY_LIMIT)
+            .build();
+    when(selectStatementHandler.handle(any(Scan.class))).thenReturn(scanner);
+    when(metadataManager.getTableMetadata(any())).thenReturn(mock(TableMetadata.class));
+
+    // Act
+    Scanner actual = dynamo.scan(scan);
+
+    // Assert
+    assertThat(actual).isInstanceOf(SortingScanner.class);
+    ArgumentCaptor<Scan> captor = ArgumentCaptor.forClass(Scan.class);
+    verify(selectStatementHandler).handle(captor.capture());
+    Scan actualScan = captor.getValue();
+    assertThat(actualScan.getOrderings()).isEmpty();
+    assertThat(actualScan.getLimit()).isEqualTo(0);
+    assertThat(actualScan.getProjections()).containsExactlyInAnyOrder("col1", "col2");
+  }
+
+  @Test
+  public void
+      mutateNonAtomically_ShouldBatchWriteUnconditionalDeletesAndExecuteOthersIndividually()
+          throws ExecutionException {
+    // Arrange
+    Put put =
+        Put.newBuilder()
+            .namespace("ns")
+            .table("tbl")
+            .partitionKey(partitionKey)
+            .intValue("col1", 1)
+            .build();
+    Delete conditionalDelete =
+        Delete.newBuilder()
+            .namespace("ns")
+            .table("tbl")
+            .partitionKey(partitionKey)
+            .condition(ConditionBuilder.deleteIfExists())
+            .build();
+    List<Mutation> mutations = new ArrayList<>(Arrays.asList(put, conditionalDelete));
+    for (int i = 0; i < 30; i++) {
+      mutations.add(
+          Delete.newBuilder()
+              .namespace("ns")
+              .table("tbl")
+              .partitionKey(Key.ofInt("col0", i))
+              .build());
+    }
+
+    // Act
+    dynamo.mutateNonAtomically(mutations);
+
+    // Assert
+    verify(putStatementHandler).handle(put);
+    verify(deleteStatementHandler).handle(conditionalDelete);
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<Delete>> captor = ArgumentCaptor.forClass(List.class);
+    verify(batchHandler, times(2)).handleBatchWrite(captor.capture());
+    assertThat(captor.getAllValues().stream().map(List::size).collect(Collectors.toList()))
+        .containsExactlyInAnyOrder(25, 5);
+    verify(batchHandler, never()).handle(any());
+  }
+
+  @Test
+  public void mutateNonAtomically_ExceptionThrownInOneMutation_ShouldThrowItAfterExecutingOthers()
+      throws ExecutionException {
+    // Arrange
+    Put put =
+        Put.newBuilder()
+            .namespace("ns")
+            .table("tbl")
+            .partitionKey(partitionKey)
+            .intValue("col1", 1)
+            .build();
+    Delete delete =
+        Delete.newBuilder()
+            .namespace("ns")
+            .table("tbl")
+            .partitionKey(partitionKey)
+            .condition(ConditionBuilder.deleteIfExists())
+            .build();
+    doThrow(NoMutationException.class).when(putStatementHandler).handle(put);
+
+    // Act Assert
+    assertThatThrownBy(() -> dynamo.mutateNonAtomically(Arrays.asList(put, delete)))
+        .isInstanceOf(NoMutationException.class);
+    verify(deleteStatementHandler).handle(delete);
+  }
 }
@@ -0,0 +1,91 @@
+package com.scalar.db.storage.dynamo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableMap;
+import com.scalar.db.api.ConditionBuilder;
+import com.scalar.db.api.Delete;
+import com.scalar.db.api.Put;
+import com.scalar.db.api.Scan.Ordering.Order;
+import com.scalar.db.api.TableMetadata;
+import com.scalar.db.io.DataType;
+import com.scalar.db.io.Key;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+public class ItemSizeEstimatorTest {
+
+  private static final TableMetadata METADATA =
+      TableMetadata.newBuilder()
+          .addColumn("p", DataType.TEXT)
+          .addColumn("c", DataType.INT)
+          .addColumn("v1", DataType.TEXT)
+          .addColumn("v2", DataType.BLOB)
+          .addColumn("v3", DataType.BIGINT)
+          .addPartitionKey("p")
+          .addClusteringKey("c", Order.DESC)
+          .build();
+
+  @Test
+  public void estimate_ItemGiven_ShouldReturnSumOfAttributeSizes() {
+    // Arrange
+    Map<String, AttributeValue> item =
+        ImmutableMap.of(
+            "s", AttributeValue.builder().s("abc").build(),
+            "n", AttributeValue.builder().n("12345").build(),
+            "b", AttributeValue.builder().b(SdkBytes.fromByteArray(new byte[10])).build());
+
+    // Act
+    long actual = ItemSizeEstimator.estimate(item);
+
+    // Assert
+    assertThat(actual).isEqualTo((1 + 3) + (1 + 3) + (1 + 10));
+  }
+
+  @Test
+  public void estimate_PutGiven_ShouldReturnSizeOfKeysAndColumns() {
+    // Arrange
+    Put put =
+        Put.newBuilder()
+            .namespace("ns")
+            .table("tbl")
+            .partitionKey(Key.ofText("p", "abc"))
+            .clusteringKey(Key.ofInt("c", 1))
+            .textValue("v1", "abcde")
+            .blobValue("v2", new byte[100])
+            .bigIntValue("v3", 12345L)
+            .build();
+
+    // Act
+    long actual = ItemSizeEstimator.estimate(put, METADATA);
+
+    // Assert
+    long partitionKey = DynamoOperation.PARTITION_KEY.length() + (3 + 1) + (1 + 3);
+    long clusteringKey = DynamoOperation.CLUSTERING_KEY.length() + 4 + (1 + 1 / 2 + 1);
+    long columns = (2 + 5) + (2 + 100) + (2 + 5 / 2 + 1);
+    assertThat(actual).isEqualTo(partitionKey + clusteringKey + columns);
+  }
+
+  @Test
+  public void estimate_DeleteWithConditionGiven_ShouldReturnSizeOfKeysAndConditionValues() {
+    // Arrange
+    Delete delete =
+        Delete.newBuilder()
+            .namespace("ns")
+            .table("tbl")
+            .partitionKey(Key.ofText("p", "abc"))
+            .condition(
+                ConditionBuilder.deleteIf(ConditionBuilder.column("v1").isEqualToText("xyz"))
+                    .build())
+            .build();
+
+    // Act
+    long actual = ItemSizeEstimator.estimate(delete, METADATA);
+
+    // Assert
+    long partitionKey = DynamoOperation.PARTITION_KEY.length() + (3 + 1) + (1 + 3);
+    assertThat(actual).isEqualTo(partitionKey + (2 + 3));
+  }
+}
@@ -0,0 +1,61 @@
+package com.scalar.db.storage.dynamo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.scalar.db.api.Scan.Ordering.Order;
+import com.scalar.db.io.Key;
+import com.scalar.db.storage.dynamo.bytes.KeyBytesEncoder;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class KeyBytesCacheTest {
+
+  @Test
+  public void get_SameKeyInstanceGiven_ShouldReturnCachedBytes() {
+    // Arrange
+    KeyBytesCache cache = new KeyBytesCache();
+    Key key = Key.of("c1", 1, "c2", "aaa");
+    Map<String, Order> keyOrders = Collections.singletonMap("c2", Order.DESC);
+
+    // Act
+    byte[] actual1 = cache.get(key, keyOrders);
+    byte[] actual2 = cache.get(key, keyOrders);
+
+    // Assert
+    assertThat(actual2).isSameAs(actual1);
+    assertThat(ByteBuffer.wrap(actual1)).isEqualTo(new KeyBytesEncoder().encode(key, keyOrders));
+  }
+
+  @Test
+  public void get_EqualButDifferentKeyInstanceGiven_ShouldEncodeAgain() {
+    // Arrange
+    KeyBytesCache cache = new KeyBytesCache();
+    Map<String, Order> keyOrders = Collections.emptyMap();
+
+    // Act
+    byte[] actual1 = cache.get(Key.ofInt("c1", 1), keyOrders);
+    byte[] actual2 = cache.get(Key.ofInt("c1", 1), keyOrders);
+
+    // Assert
+    assertThat(actual2).isNotSameAs(actual1).isEqualTo(actual1);
+  }
+
+  @Test
+  public void get_DifferentKeyOrdersGiven_ShouldEncodeWithGivenKeyOrders() {
+    // Arrange
+    KeyBytesCache cache = new KeyBytesCache();
+    Key key = Key.ofText("c1", "aaa");
+    Map<String, Order> descOrders = Collections.singletonMap("c1", Order.DESC);
+
+    // Act
+    byte[] actual1 = cache.get(key, Collections.emptyMap());
+    byte[] actual2 = cache.get(key, descOrders);
+
+    // Assert
+    assertThat(ByteBuffer.wrap(actual1))
+        .isEqualTo(new KeyBytesEncoder().encode(key, Collections.emptyMap()));
+    assertThat(ByteBuffer.wrap(actual2)).isEqualTo(new KeyBytesEncoder().encode(key, descOrders));
+  }
+}
@@ -0,0 +1,179 @@
+package com.scalar.db.storage.dynamo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import com.scalar.db.api.Result;
+import com.scalar.db.exception.storage.ExecutionException;
+import com.scalar.db.storage.dynamo.request.PaginatedRequest;
+import com.scalar.db.storage.dynamo.request.PaginatedRequestResponse;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+
+public class ParallelScannerTest {
+  private static final long MAX_BUFFERED_BYTES = 1024;
+
+  @Mock private PaginatedRequest request1;
+  @Mock private PaginatedRequest request2;
+  @Mock private ResultInterpreter resultInterpreter;
+  @Mock private Result result1;
+  @Mock private Result result2;
+  @Mock private Result result3;
+
+  private final Map<String, AttributeValue> item1 = createItem("1");
+  private final Map<String, AttributeValue> item2 = createItem("2");
+  private final Map<String, AttributeValue> item3 = createItem("3");
+  private final Map<String, AttributeValue> lastEvaluatedKey = createItem("2");
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    MockitoAnnotations.openMocks(this).close();
+    executor = Executors.newCachedThreadPool();
+
+    // Arrange
+    when(resultInterpreter.interpret(item1)).thenReturn(result1);
+    when(resultInterpreter.interpret(item2)).thenReturn(result2);
+    when(resultInterpreter.interpret(item3)).thenReturn(result3);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  private static Map<String, AttributeValue> createItem(String value) {
+    return Collections.singletonMap("key", AttributeValue.builder().s(value).build());
+  }
+
+  private static PaginatedRequestResponse createResponse(
+      List<Map<String, AttributeValue>> items, Map<String, AttributeValue> lastEvaluatedKey) {
+    return new PaginatedRequestResponse(items, !lastEvaluatedKey.isEmpty(), lastEvaluatedKey);
+  }
+
+  @Test
+  public void all_ShouldReturnResultsOfAllPagesOfAllSegments() throws ExecutionException {
+    // Arrange
+    when(request1.execute())
+        .thenReturn(createResponse(Collections.singletonList(item1), lastEvaluatedKey));
+    when(request1.execute(lastEvaluatedKey))
+        .thenReturn(createResponse(Collections.singletonList(item2), Collections.emptyMap()));
+    when(request2.execute())
+        .thenReturn(createResponse(Collections.singletonList(item3), Collections.emptyMap()));
+
+    // Act
+    List<Result> actual;
+    try (ParallelScanner scanner =
+        new ParallelScanner(
+            Arrays.asList(request1, request2),
+            resultInterpreter,
+            1,
+            MAX_BUFFERED_BYTES,
+            executor)) {
+      actual = scanner.all();
+    }
+
+    // Assert
+    assertThat(actual).containsExactlyInAnyOrder(result1, result2, result3);
+    // The pages of a segment are returned in order
+    assertThat(actual.indexOf(result1)).isLessThan(actual.indexOf(result2));
+  }
+
+  @Test
+  public void one_DynamoDbExceptionThrownInSegment_ShouldThrowExecutionException() {
+    // Arrange
+    when(request1.execute())
+        .thenReturn(createResponse(Collections.emptyList(), Collections.emptyMap()));
+    when(request2.execute()).thenThrow(DynamoDbException.builder().message("error").build());
+
+    // Act Assert
+    try (ParallelScanner scanner =
+        new ParallelScanner(
+            Arrays.asList(request1, request2),
+            resultInterpreter,
+            1,
+            MAX_BUFFERED_BYTES,
+            executor)) {
+      assertThatThrownBy(scanner::one)
+          .isInstanceOf(ExecutionException.class)
+          .hasCauseInstanceOf(DynamoDbException.class);
+    }
+  }
+
+  @Test
+  public void one_RuntimeExceptionThrownInSegment_ShouldThrowExecutionException() {
+    // Arrange
+    when(request1.execute())
+        .thenReturn(createResponse(Collections.singletonList(item1), lastEvaluatedKey));
+    when(request1.execute(lastEvaluatedKey)).thenThrow(new IllegalStateException("error"));
+
+    // Act Assert
+    try (ParallelScanner scanner =
+        new ParallelScanner(
+            Collections.singletonList(request1),
+            resultInterpreter,
+            1,
+            MAX_BUFFERED_BYTES,
+            executor)) {
+      assertThatThrownBy(scanner::all)
+          .isInstanceOf(ExecutionException.class)
+          .hasCauseInstanceOf(IllegalStateException.class);
+    }
+  }
+
+  @Test
+  public void close_WhileSegmentIsScanned_ShouldStopScanningSegment() throws Exception {
+    // Arrange
+    AtomicInteger executions = new AtomicInteger();
+    CountDownLatch executing = new CountDownLatch(1);
+    CountDownLatch closed = new CountDownLatch(1);
+    when(request1.execute())
+        .thenReturn(createResponse(Collections.singletonList(item1), lastEvaluatedKey));
+    when(request1.execute(lastEvaluatedKey))
+        .thenAnswer(
+            i -> {
+              executions.incrementAndGet();
+              executing.countDown();
+              closed.await();
+              return createResponse(Collections.singletonList(item1), lastEvaluatedKey);
+            });
+    ExecutorService singleThreadExecutor = Executors.newSingleThreadExecutor();
+    ParallelScanner scanner =
+        new ParallelScanner(
+            Collections.singletonList(request1),
+            resultInterpreter,
+            1,
+            MAX_BUFFERED_BYTES,
+            singleThreadExecutor);
+    Optional<Result> first = scanner.one();
+    executing.await();
+
+    // Act
+    scanner.close();
+    closed.countDown();
+
+    // Assert
+    assertThat(first).contains(result1);
+    assertThat(scanner.one()).isEmpty();
+    singleThreadExecutor.shutdown();
+    assertThat(singleThreadExecutor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(executions.get()).isEqualTo(1);
+  }
+}
@@ -16,11 +16,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
 
 public class QueryScannerTest {
 
@@ -28,10 +32,17 @@ public class QueryScannerTest {
   @Mock private ResultInterpreter resultInterpreter;
   @Mock private PaginatedRequestResponse response;
   @Mock private Result result;
+  private ExecutorService executor;
 
   @BeforeEach
   public void setUp() throws Exception {
     MockitoAnnotations.openMocks(this).close();
+    executor = Executors.newCachedThreadPool();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    executor.shutdownNow();
   }
 
   @Test
@@ -200,4 +211,61 @@ public class QueryScannerTest {
     verify(request).execute(lastEvaluatedKey);
     verify(request).execute();
   }
+
+  @Test
+  public void all_WithPrefetch_ShouldReturnResultsOfAllPagesUpToLimit() {
+    // Arrange
+    Map<String, AttributeValue> item = Collections.emptyMap();
+    Map<String, AttributeValue> lastEvaluatedKey1 =
+        Collections.singletonMap("key", AttributeValue.builder().s("1").build());
+    Map<String, AttributeValue> lastEvaluatedKey2 =
+        Collections.singletonMap("key", AttributeValue.builder().s("2").build());
+    when(request.limit()).thenReturn(5);
+    when(request.execute())
+        .thenReturn(
+            new PaginatedRequestResponse(Arrays.asList(item, item), true, lastEvaluatedKey1));
+    when(request.execute(lastEvaluatedKey1))
+        .thenReturn(
+            new PaginatedRequestResponse(Arrays.asList(item, item), true, lastEvaluatedKey2));
+    when(request.execute(lastEvaluatedKey2))
+        .thenReturn(
+            new PaginatedRequestResponse(Arrays.asList(item, item), true, lastEvaluatedKey1));
+    when(resultInterpreter.interpret(item)).thenReturn(result);
+
+    // Act
+    List<Result> results;
+    try (QueryScanner queryScanner =
+        new QueryScanner(request, resultInterpreter, 2, 1024, executor)) {
+      results = queryScanner.all();
+    }
+
+    // Assert
+    assertThat(results).hasSize(6);
+    verify(request).execute();
+    verify(request).execute(lastEvaluatedKey1);
+    // The page that reaches the limit is the last page
+    verify(request).execute(lastEvaluatedKey2);
+  }
+
+  @Test
+  public void one_WithPrefetchAndDynamoDbExceptionThrownForNextPage_ShouldThrowIt() {
+    // Arrange
+    Map<String, AttributeValue> item = Collections.emptyMap();
+    Map<String, AttributeValue> lastEvaluatedKey =
+        Collections.singletonMap("key", AttributeValue.builder().s("1").build());
+    when(request.limit()).thenReturn(null);
+    when(request.execute())
+        .thenReturn(
+            new PaginatedRequestResponse(Collections.singletonList(item), true, lastEvaluatedKey));
+    when(request.execute(lastEvaluatedKey)).thenThrow(DynamoDbException.class);
+    when(resultInterpreter.interpret(item)).thenReturn(result);
+    QueryScanner queryScanner = new QueryScanner(request, resultInterpreter, 1, 1024, executor);
+
+    // Act
+    Optional<Result> actual = queryScanner.one();
+
+    // Assert
+    assertThat(actual).contains(result);
+    assertThatThrownBy(queryScanner::one).isInstanceOf(DynamoDbException.class);
+  }
 }
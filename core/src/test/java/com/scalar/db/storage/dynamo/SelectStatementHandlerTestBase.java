@@ -6,6 +6,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -32,6 +33,8 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -2000,4 +2003,62 @@ public abstract class SelectStatementHandlerTestBase {
             DynamoOperation.COLUMN_NAME_ALIAS + "0," + DynamoOperation.COLUMN_NAME_ALIAS + "1");
     assertThat(actualRequest.tableName()).isEqualTo(getFullTableName());
   }
+
+  @Test
+  public void handle_ScanAllOperationWithParallelScanSegments_ShouldScanSegmentsConcurrently()
+      throws Exception {
+    // Arrange
+    ExecutorService executor = Executors.newCachedThreadPool();
+    handler =
+        new SelectStatementHandler(
+            client, metadataManager, getNamespacePrefix(), 3, executor, 0, 0, null);
+    when(client.scan(any(ScanRequest.class))).thenReturn(scanResponse);
+    when(scanResponse.items()).thenReturn(Collections.singletonList(new HashMap<>()));
+
+    ScanAll scanAll = prepareScanAll();
+
+    // Act
+    List<Result> actual;
+    try (Scanner scanner = handler.handle(scanAll)) {
+      actual = scanner.all();
+    } finally {
+      executor.shutdown();
+    }
+
+    // Assert
+    assertThat(actual).hasSize(3);
+    ArgumentCaptor<ScanRequest> captor = ArgumentCaptor.forClass(ScanRequest.class);
+    verify(client, times(3)).scan(captor.capture());
+    assertThat(captor.getAllValues())
+        .extracting(ScanRequest::segment)
+        .containsExactlyInAnyOrder(0, 1, 2);
+    assertThat(captor.getAllValues()).extracting(ScanRequest::totalSegments).containsOnly(3);
+    assertThat(captor.getAllValues())
+        .extracting(ScanRequest::tableName)
+        .containsOnly(getFullTableName());
+  }
+
+  @Test
+  public void handle_ScanAllOperationWithLimitAndParallelScanSegments_ShouldScanSequentially()
+      throws Exception {
+    // Arrange
+    ExecutorService executor = mock(ExecutorService.class);
+    handler =
+        new SelectStatementHandler(
+            client, metadataManager, getNamespacePrefix(), 3, executor, 0, 0, null);
+    when(client.scan(any(ScanRequest.class))).thenReturn(scanResponse);
+    when(scanResponse.items()).thenReturn(Collections.singletonList(new HashMap<>()));
+
+    ScanAll scanAll = prepareScanAll().withLimit(ANY_LIMIT);
+
+    // Act
+    Scanner scanner = handler.handle(scanAll);
+
+    // Assert
+    assertThat(scanner).isInstanceOf(QueryScanner.class);
+    ArgumentCaptor<ScanRequest> captor = ArgumentCaptor.forClass(ScanRequest.class);
+    verify(client).scan(captor.capture());
+    assertThat(captor.getValue().segment()).isNull();
+    assertThat(captor.getValue().totalSegments()).isNull();
+  }
 }
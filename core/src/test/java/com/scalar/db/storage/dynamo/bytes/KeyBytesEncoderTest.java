@@ -65,6 +65,22 @@ public class KeyBytesEncoderTest {
     System.out.println("The seed used in KeyBytesEncoderTest is " + seed);
   }
 
+  @Test
+  public void encodeToBytes_KeyGiven_ShouldReturnSameBytesAsEncode() {
+    // Arrange
+    Key key = Key.newBuilder().addInt("c1", 1).addText("c2", "aaa").addBigInt("c3", 2L).build();
+    Map<String, Order> keyOrders = new HashMap<>();
+    keyOrders.put("c2", Order.DESC);
+    ByteBuffer expected = new KeyBytesEncoder().encode(key, keyOrders);
+
+    // Act
+    byte[] actual = new KeyBytesEncoder().encodeToBytes(key, keyOrders);
+
+    // Assert
+    assertThat(ByteBuffer.wrap(actual)).isEqualTo(expected);
+    assertThat(actual).hasSize(expected.remaining());
+  }
+
   @Test
   public void encode_SingleKeysGiven_ShouldEncodeProperlyWithPreservingSortOrder() {
     random.setSeed(seed);
@@ -0,0 +1,271 @@
+package com.scalar.db.storage.inmemory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.scalar.db.api.ConditionBuilder;
+import com.scalar.db.api.Delete;
+import com.scalar.db.api.DistributedStorage;
+import com.scalar.db.api.DistributedStorageAdmin;
+import com.scalar.db.api.Get;
+import com.scalar.db.api.Put;
+import com.scalar.db.api.Result;
+import com.scalar.db.api.Scan;
+import com.scalar.db.api.TableMetadata;
+import com.scalar.db.config.DatabaseConfig;
+import com.scalar.db.exception.storage.ExecutionException;
+import com.scalar.db.exception.storage.NoMutationException;
+import com.scalar.db.io.DataType;
+import com.scalar.db.io.Key;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class InMemoryStorageTest {
+  private static final String NAMESPACE = "ns";
+  private static final String TABLE = "tbl";
+  private static final String PARTITION_KEY = "p";
+  private static final String CLUSTERING_KEY = "c";
+  private static final String VALUE = "v";
+  private static final String INDEXED_VALUE = "iv";
+
+  private String databaseName;
+  private DistributedStorageAdmin admin;
+  private DistributedStorage storage;
+
+  @BeforeEach
+  public void setUp() throws ExecutionException {
+    databaseName = UUID.randomUUID().toString();
+    Properties properties = new Properties();
+    properties.setProperty(DatabaseConfig.STORAGE, InMemoryConfig.STORAGE_NAME);
+    properties.setProperty(DatabaseConfig.CONTACT_POINTS, databaseName);
+    properties.setProperty(DatabaseConfig.CROSS_PARTITION_SCAN, "true");
+    properties.setProperty(DatabaseConfig.CROSS_PARTITION_SCAN_FILTERING, "true");
+    properties.setProperty(DatabaseConfig.CROSS_PARTITION_SCAN_ORDERING, "true");
+    DatabaseConfig config = new DatabaseConfig(properties);
+
+    InMemoryProvider provider = new InMemoryProvider();
+    admin = provider.createDistributedStorageAdmin(config);
+    admin.createNamespace(NAMESPACE);
+    admin.createTable(
+        NAMESPACE,
+        TABLE,
+        TableMetadata.newBuilder()
+            .addColumn(PARTITION_KEY, DataType.INT)
+            .addColumn(CLUSTERING_KEY, DataType.INT)
+            .addColumn(VALUE, DataType.INT)
+            .addColumn(INDEXED_VALUE, DataType.TEXT)
+            .addPartitionKey(PARTITION_KEY)
+            .addClusteringKey(CLUSTERING_KEY, Scan.Ordering.Order.DESC)
+            .addSecondaryIndex(INDEXED_VALUE)
+            .build());
+    storage = provider.createDistributedStorage(config);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    storage.close();
+    admin.close();
+    InMemoryDatabase.drop(databaseName);
+  }
+
+  private Put put(int partitionKey, int clusteringKey, int value) {
+    return Put.newBuilder()
+        .namespace(NAMESPACE)
+        .table(TABLE)
+        .partitionKey(Key.ofInt(PARTITION_KEY, partitionKey))
+        .clusteringKey(Key.ofInt(CLUSTERING_KEY, clusteringKey))
+        .intValue(VALUE, value)
+        .textValue(INDEXED_VALUE, "iv" + value)
+        .build();
+  }
+
+  private Get get(int partitionKey, int clusteringKey) {
+    return Get.newBuilder()
+        .namespace(NAMESPACE)
+        .table(TABLE)
+        .partitionKey(Key.ofInt(PARTITION_KEY, partitionKey))
+        .clusteringKey(Key.ofInt(CLUSTERING_KEY, clusteringKey))
+        .build();
+  }
+
+  private List<Integer> values(List<Result> results) {
+    return results.stream().map(r -> r.getInt(VALUE)).collect(Collectors.toList());
+  }
+
+  @Test
+  public void get_AfterPut_ShouldReturnRecord() throws ExecutionException {
+    // Arrange
+    storage.put(put(0, 1, 10));
+
+    // Act
+    Optional<Result> actual = storage.get(get(0, 1));
+    Optional<Result> notFound = storage.get(get(0, 2));
+
+    // Assert
+    assertThat(actual).isPresent();
+    assertThat(actual.get().getInt(VALUE)).isEqualTo(10);
+    assertThat(actual.get().getText(INDEXED_VALUE)).isEqualTo("iv10");
+    assertThat(notFound).isEmpty();
+  }
+
+  @Test
+  public void put_WithUnsatisfiedCondition_ShouldThrowNoMutationException()
+      throws ExecutionException {
+    // Arrange
+    storage.put(put(0, 1, 10));
+    Put putIf =
+        Put.newBuilder(put(0, 1, 20))
+            .condition(
+                ConditionBuilder.putIf(ConditionBuilder.column(VALUE).isEqualToInt(99)).build())
+            .build();
+    Put putIfNotExists =
+        Put.newBuilder(put(0, 1, 30)).condition(ConditionBuilder.putIfNotExists()).build();
+
+    // Act Assert
+    assertThatThrownBy(() -> storage.put(putIf)).isInstanceOf(NoMutationException.class);
+    assertThatThrownBy(() -> storage.put(putIfNotExists))
+        .isInstanceOf(NoMutationException.class);
+    assertThat(storage.get(get(0, 1)).get().getInt(VALUE)).isEqualTo(10);
+  }
+
+  @Test
+  public void mutate_WithUnsatisfiedConditionInBatch_ShouldApplyNothing()
+      throws ExecutionException {
+    // Arrange
+    storage.put(put(0, 1, 10));
+    Delete deleteIfExists =
+        Delete.newBuilder()
+            .namespace(NAMESPACE)
+            .table(TABLE)
+            .partitionKey(Key.ofInt(PARTITION_KEY, 0))
+            .clusteringKey(Key.ofInt(CLUSTERING_KEY, 3))
+            .condition(ConditionBuilder.deleteIfExists())
+            .build();
+
+    // Act Assert
+    assertThatThrownBy(() -> storage.mutate(Arrays.asList(put(0, 2, 20), deleteIfExists)))
+        .isInstanceOf(NoMutationException.class);
+    assertThat(storage.get(get(0, 2))).isEmpty();
+  }
+
+  @Test
+  public void mutate_WithUnsatisfiedConditionOrDeletion_ShouldNotLeaveEmptyPartitions()
+      throws ExecutionException {
+    // Arrange
+    InMemoryTable table = InMemoryDatabase.get(databaseName).getTable(NAMESPACE, TABLE);
+    Put putIfExists =
+        Put.newBuilder(put(1, 1, 10)).condition(ConditionBuilder.putIfExists()).build();
+    Delete delete =
+        Delete.newBuilder()
+            .namespace(NAMESPACE)
+            .table(TABLE)
+            .partitionKey(Key.ofInt(PARTITION_KEY, 0))
+            .clusteringKey(Key.ofInt(CLUSTERING_KEY, 1))
+            .build();
+
+    // Act Assert
+    assertThatThrownBy(() -> storage.put(putIfExists)).isInstanceOf(NoMutationException.class);
+    assertThat(table.getPartitionCount()).isEqualTo(0);
+    storage.put(put(0, 1, 10));
+    assertThat(table.getPartitionCount()).isEqualTo(1);
+    storage.delete(delete);
+    assertThat(table.getPartitionCount()).isEqualTo(0);
+    storage.put(put(0, 1, 20));
+    assertThat(storage.get(get(0, 1)).get().getInt(VALUE)).isEqualTo(20);
+  }
+
+  @Test
+  public void scan_WithRangeAndOrdering_ShouldReturnRecordsInOrder() throws ExecutionException {
+    // Arrange
+    for (int i = 0; i < 5; i++) {
+      storage.put(put(0, i, i));
+    }
+    storage.put(put(1, 0, 100));
+    Scan scan =
+        Scan.newBuilder()
+            .namespace(NAMESPACE)
+            .table(TABLE)
+            .partitionKey(Key.ofInt(PARTITION_KEY, 0))
+            .start(Key.ofInt(CLUSTERING_KEY, 1))
+            .end(Key.ofInt(CLUSTERING_KEY, 4), false)
+            .build();
+    Scan reversed =
+        Scan.newBuilder(scan).ordering(Scan.Ordering.asc(CLUSTERING_KEY)).limit(2).build();
+
+    // Act
+    List<Result> actual = storage.scan(scan).all();
+    List<Result> actualReversed = storage.scan(reversed).all();
+
+    // Assert
+    assertThat(values(actual)).containsExactly(3, 2, 1);
+    assertThat(values(actualReversed)).containsExactly(1, 2);
+  }
+
+  @Test
+  public void scan_WithIndex_ShouldReturnMatchedRecordsOnly() throws ExecutionException {
+    // Arrange
+    storage.put(put(0, 0, 1));
+    storage.put(put(1, 0, 1));
+    storage.put(put(2, 0, 2));
+    storage.put(put(2, 0, 1));
+    storage.put(put(1, 0, 3));
+    Scan scan =
+        Scan.newBuilder()
+            .namespace(NAMESPACE)
+            .table(TABLE)
+            .indexKey(Key.ofText(INDEXED_VALUE, "iv1"))
+            .build();
+
+    // Act
+    List<Result> actual = storage.scan(scan).all();
+
+    // Assert
+    assertThat(actual.stream().map(r -> r.getInt(PARTITION_KEY)).collect(Collectors.toList()))
+        .containsExactlyInAnyOrder(0, 2);
+  }
+
+  @Test
+  public void scanAll_WithFilteringAndOrdering_ShouldReturnFilteredRecordsInOrder()
+      throws ExecutionException {
+    // Arrange
+    for (int i = 0; i < 10; i++) {
+      storage.put(put(i, 0, i));
+    }
+    Scan scan =
+        Scan.newBuilder()
+            .namespace(NAMESPACE)
+            .table(TABLE)
+            .all()
+            .where(ConditionBuilder.column(VALUE).isGreaterThanOrEqualToInt(5))
+            .ordering(Scan.Ordering.desc(VALUE))
+            .limit(3)
+            .projection(VALUE)
+            .build();
+
+    // Act
+    List<Result> actual = storage.scan(scan).all();
+
+    // Assert
+    assertThat(values(actual)).containsExactly(9, 8, 7);
+    assertThat(actual.get(0).getContainedColumnNames()).containsOnly(VALUE);
+  }
+
+  @Test
+  public void truncateTable_ShouldRemoveAllRecords() throws ExecutionException {
+    // Arrange
+    storage.put(put(0, 0, 0));
+
+    // Act
+    admin.truncateTable(NAMESPACE, TABLE);
+
+    // Assert
+    assertThat(storage.get(get(0, 0))).isEmpty();
+  }
+}
@@ -0,0 +1,97 @@
+package com.scalar.db.storage.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.scalar.db.api.Put;
+import com.scalar.db.api.PutBuilder;
+import com.scalar.db.api.TableMetadata;
+import com.scalar.db.io.BigIntColumn;
+import com.scalar.db.io.Column;
+import com.scalar.db.io.DataType;
+import com.scalar.db.io.IntColumn;
+import com.scalar.db.io.Key;
+import com.scalar.db.io.TextColumn;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+public class BulkLoadBatchTest {
+
+  private static final String NAMESPACE = "ns";
+  private static final String TABLE = "tbl";
+  private static final TableMetadata METADATA =
+      TableMetadata.newBuilder()
+          .addColumn("c1", DataType.INT)
+          .addColumn("p1", DataType.INT)
+          .addColumn("v1", DataType.TEXT)
+          .addColumn("v2", DataType.BIGINT)
+          .addColumn("v3", DataType.TEXT)
+          .addPartitionKey("p1")
+          .addClusteringKey("c1")
+          .build();
+
+  private PutBuilder.Buildable preparePut(int p1, int c1) {
+    return Put.newBuilder()
+        .namespace(NAMESPACE)
+        .table(TABLE)
+        .partitionKey(Key.ofInt("p1", p1))
+        .clusteringKey(Key.ofInt("c1", c1));
+  }
+
+  @Test
+  public void constructor_PutsWithDifferentColumnsGiven_ShouldFillUnspecifiedColumnsWithNull() {
+    // Arrange
+    Put put1 = preparePut(1, 1).textValue("v1", "a").build();
+    Put put2 = preparePut(1, 2).bigIntValue("v2", 10L).build();
+
+    // Act
+    BulkLoadBatch batch = new BulkLoadBatch(NAMESPACE, TABLE, METADATA, Arrays.asList(put1, put2));
+
+    // Assert
+    assertThat(batch.size()).isEqualTo(2);
+    assertThat(batch.getColumnNames()).containsExactly("c1", "p1", "v1", "v2");
+    assertThat(batch.getRows().get(0))
+        .containsExactly(
+            IntColumn.of("c1", 1),
+            IntColumn.of("p1", 1),
+            TextColumn.of("v1", "a"),
+            BigIntColumn.ofNull("v2"));
+    assertThat(batch.getRows().get(1))
+        .containsExactly(
+            IntColumn.of("c1", 2),
+            IntColumn.of("p1", 1),
+            TextColumn.ofNull("v1"),
+            BigIntColumn.of("v2", 10L));
+  }
+
+  @Test
+  public void toTabSeparatedText_ShouldEscapeSpecialCharactersAndWriteNullAsBackslashN() {
+    // Arrange
+    Put put1 = preparePut(1, 1).textValue("v1", "a\tb\nc\rd\\e").textValue("v3", null).build();
+    Put put2 = preparePut(2, 1).textValue("v1", "\\N").textValue("v3", "x").build();
+    BulkLoadBatch batch = new BulkLoadBatch(NAMESPACE, TABLE, METADATA, Arrays.asList(put1, put2));
+
+    // Act
+    String actual = batch.toTabSeparatedText(column -> column.getValueAsObject().toString());
+
+    // Assert
+    assertThat(actual)
+        .isEqualTo("1\t1\ta\\tb\\nc\\rd\\\\e\t\\N\n1\t2\t\\\\N\tx\n");
+  }
+
+  @Test
+  public void toTabSeparatedText_ShouldFormatValuesWithGivenFormatter() {
+    // Arrange
+    Put put = preparePut(1, 1).textValue("v1", "a").build();
+    BulkLoadBatch batch =
+        new BulkLoadBatch(NAMESPACE, TABLE, METADATA, Collections.singletonList(put));
+
+    // Act
+    String actual =
+        batch.toTabSeparatedText(
+            (Column<?> column) -> column.getDataType() == DataType.TEXT ? "'text'" : "num");
+
+    // Assert
+    assertThat(actual).isEqualTo("num\tnum\t'text'\n");
+  }
+}
@@ -0,0 +1,104 @@
+package com.scalar.db.storage.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.scalar.db.api.Scan;
+import com.scalar.db.api.TableMetadata;
+import com.scalar.db.io.Column;
+import com.scalar.db.io.DataType;
+import com.scalar.db.io.IntColumn;
+import com.scalar.db.io.TextColumn;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class ContinuationTokenTest {
+
+  private static final String NAMESPACE = "ns";
+  private static final String TABLE = "tbl";
+  private static final TableMetadata METADATA =
+      TableMetadata.newBuilder()
+          .addColumn("p", DataType.TEXT)
+          .addColumn("c", DataType.INT)
+          .addColumn("v", DataType.TEXT)
+          .addPartitionKey("p")
+          .addClusteringKey("c")
+          .build();
+  private static final List<Scan.Ordering> KEY_ORDERINGS =
+      Arrays.asList(Scan.Ordering.asc("p"), Scan.Ordering.asc("c"));
+
+  @Test
+  public void decode_TokenEncodedForSameScanGiven_ShouldReturnLastKey() {
+    // Arrange
+    List<Column<?>> lastKey = Arrays.asList(TextColumn.of("p", "aaa"), IntColumn.of("c", 10));
+    String token = ContinuationToken.encode(NAMESPACE, TABLE, lastKey);
+
+    // Act
+    List<Column<?>> actual =
+        ContinuationToken.decode(token, NAMESPACE, TABLE, KEY_ORDERINGS, METADATA);
+
+    // Assert
+    assertThat(actual).isEqualTo(lastKey);
+  }
+
+  @Test
+  public void decode_TokenForBeginningGiven_ShouldReturnEmptyKey() {
+    // Arrange
+    String token = ContinuationToken.encode(NAMESPACE, TABLE, Collections.emptyList());
+
+    // Act
+    List<Column<?>> actual =
+        ContinuationToken.decode(token, NAMESPACE, TABLE, KEY_ORDERINGS, METADATA);
+
+    // Assert
+    assertThat(actual).isEmpty();
+  }
+
+  @Test
+  public void decode_TokenForAnotherTableGiven_ShouldThrowIllegalArgumentException() {
+    // Arrange
+    String token = ContinuationToken.encode(NAMESPACE, "another", Collections.emptyList());
+
+    // Act Assert
+    assertThatThrownBy(
+            () -> ContinuationToken.decode(token, NAMESPACE, TABLE, KEY_ORDERINGS, METADATA))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void decode_TokenWithDifferentKeyColumnsGiven_ShouldThrowIllegalArgumentException() {
+    // Arrange
+    String token =
+        ContinuationToken.encode(
+            NAMESPACE, TABLE, Arrays.asList(TextColumn.of("p", "aaa"), TextColumn.of("v", "bbb")));
+
+    // Act Assert
+    assertThatThrownBy(
+            () -> ContinuationToken.decode(token, NAMESPACE, TABLE, KEY_ORDERINGS, METADATA))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void decode_MalformedTokenGiven_ShouldThrowIllegalArgumentException() {
+    // Arrange
+    String token =
+        ContinuationToken.encode(
+            NAMESPACE, TABLE, Arrays.asList(TextColumn.of("p", "aaa"), IntColumn.of("c", 10)));
+
+    // Act Assert
+    assertThatThrownBy(
+            () ->
+                ContinuationToken.decode(
+                    token.substring(0, token.length() / 2),
+                    NAMESPACE,
+                    TABLE,
+                    KEY_ORDERINGS,
+                    METADATA))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(
+            () -> ContinuationToken.decode("!", NAMESPACE, TABLE, KEY_ORDERINGS, METADATA))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
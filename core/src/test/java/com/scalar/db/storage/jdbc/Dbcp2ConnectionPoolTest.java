@@ -0,0 +1,85 @@
+package com.scalar.db.storage.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class Dbcp2ConnectionPoolTest {
+
+  @Mock private BasicDataSource dataSource;
+  @Mock private Connection connection;
+
+  private Dbcp2ConnectionPool connectionPool;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    MockitoAnnotations.openMocks(this).close();
+
+    connectionPool = new Dbcp2ConnectionPool(dataSource);
+  }
+
+  @Test
+  public void getConnection_ShouldReturnConnectionFromDataSourceAndRecordWaitTime()
+      throws SQLException {
+    // Arrange
+    when(dataSource.getConnection()).thenReturn(connection);
+
+    // Act
+    Connection actual1 = connectionPool.getConnection();
+    Connection actual2 = connectionPool.getConnection();
+
+    // Assert
+    assertThat(actual1).isEqualTo(connection);
+    assertThat(actual2).isEqualTo(connection);
+    assertThat(connectionPool.getMetrics().getWaitTimeMillis().getCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void getConnection_DataSourceFailed_ShouldRecordWaitTimeAndThrowSQLException()
+      throws SQLException {
+    // Arrange
+    when(dataSource.getConnection()).thenThrow(SQLException.class);
+
+    // Act Assert
+    assertThatThrownBy(() -> connectionPool.getConnection()).isInstanceOf(SQLException.class);
+    assertThat(connectionPool.getMetrics().getWaitTimeMillis().getCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void getMetrics_ShouldReturnProperMetrics() {
+    // Arrange
+    when(dataSource.getNumActive()).thenReturn(3);
+    when(dataSource.getNumIdle()).thenReturn(1);
+    when(dataSource.getMaxTotal()).thenReturn(4);
+
+    // Act
+    JdbcConnectionPoolMetrics metrics = connectionPool.getMetrics();
+
+    // Assert
+    assertThat(metrics.getActiveConnections()).isEqualTo(3);
+    assertThat(metrics.getIdleConnections()).isEqualTo(1);
+    assertThat(metrics.getMaxConnections()).isEqualTo(4);
+    assertThat(metrics.getUtilization()).isEqualTo(0.75);
+    assertThat(metrics.getWaitTimeMillis().getCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void close_ShouldCloseDataSource() throws SQLException {
+    // Arrange
+
+    // Act
+    connectionPool.close();
+
+    // Assert
+    verify(dataSource).close();
+  }
+}
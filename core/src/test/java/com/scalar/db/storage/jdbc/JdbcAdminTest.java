@@ -10,6 +10,7 @@ import static com.scalar.db.util.ScalarDbUtils.getFullTableName;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -47,7 +48,6 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import org.apache.commons.dbcp2.BasicDataSource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -79,7 +79,7 @@ public class JdbcAdminTest {
           RdbEngine.SQLITE, RdbEngineFactory.create("jdbc:sqlite:"),
           RdbEngine.YUGABYTE, RdbEngineFactory.create("jdbc:yugabytedb:"));
 
-  @Mock private BasicDataSource dataSource;
+  @Mock private JdbcConnectionPool connectionPool;
   @Mock private Connection connection;
   @Mock private JdbcConfig config;
 
@@ -96,7 +96,7 @@ public class JdbcAdminTest {
     RdbEngineStrategy st = RdbEngine.createRdbEngineStrategy(rdbEngine);
     try (MockedStatic<RdbEngineFactory> mocked = mockStatic(RdbEngineFactory.class)) {
       mocked.when(() -> RdbEngineFactory.create(any(JdbcConfig.class))).thenReturn(st);
-      return new JdbcAdmin(dataSource, config);
+      return new JdbcAdmin(connectionPool, config);
     }
   }
 
@@ -198,7 +198,7 @@ public class JdbcAdminTest {
                 "c7", DataType.FLOAT.toString(), null, null, false));
     when(selectStatement.executeQuery()).thenReturn(resultSet);
     when(connection.prepareStatement(any())).thenReturn(selectStatement);
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
 
     JdbcAdmin admin = createJdbcAdminFor(rdbEngine);
 
@@ -273,7 +273,7 @@ public class JdbcAdminTest {
     Connection connection = mock(Connection.class);
     PreparedStatement selectStatement = mock(PreparedStatement.class);
 
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
     when(connection.prepareStatement(any())).thenReturn(selectStatement);
     SQLException sqlException = mock(SQLException.class);
     mockUndefinedTableError(rdbEngine, sqlException);
@@ -286,6 +286,91 @@ public class JdbcAdminTest {
     assertThat(actual).isNull();
   }
 
+  @Test
+  public void getTablesMetadata_forMysql_ShouldReturnTablesMetadataWithSingleQuery()
+      throws SQLException, ExecutionException {
+    // Arrange
+    PreparedStatement selectStatement = mock(PreparedStatement.class);
+    ResultSet resultSet = mock(ResultSet.class);
+    when(resultSet.next()).thenReturn(true, true, true, true, false);
+    when(resultSet.getString(JdbcAdmin.METADATA_COL_FULL_TABLE_NAME))
+        .thenReturn("ns.tbl1", "ns.tbl1", "ns.tbl2", "ns.tbl2");
+    when(resultSet.getString(JdbcAdmin.METADATA_COL_COLUMN_NAME))
+        .thenReturn("c1", "c2", "c1", "c2");
+    when(resultSet.getString(JdbcAdmin.METADATA_COL_DATA_TYPE))
+        .thenReturn(
+            DataType.INT.toString(),
+            DataType.TEXT.toString(),
+            DataType.TEXT.toString(),
+            DataType.INT.toString());
+    when(resultSet.getString(JdbcAdmin.METADATA_COL_KEY_TYPE))
+        .thenReturn("PARTITION", "CLUSTERING", "PARTITION", null);
+    when(resultSet.getString(JdbcAdmin.METADATA_COL_CLUSTERING_ORDER))
+        .thenReturn(Order.DESC.toString());
+    when(resultSet.getBoolean(JdbcAdmin.METADATA_COL_INDEXED))
+        .thenReturn(false, false, false, true);
+    when(selectStatement.executeQuery()).thenReturn(resultSet);
+    when(connection.prepareStatement(any())).thenReturn(selectStatement);
+    when(connectionPool.getConnection()).thenReturn(connection);
+
+    JdbcAdmin admin = createJdbcAdminFor(RdbEngine.MYSQL);
+
+    // Act
+    Map<String, TableMetadata> actual = admin.getTablesMetadata("ns");
+
+    // Assert
+    assertThat(actual)
+        .containsOnly(
+            entry(
+                "tbl1",
+                TableMetadata.newBuilder()
+                    .addColumn("c1", DataType.INT)
+                    .addColumn("c2", DataType.TEXT)
+                    .addPartitionKey("c1")
+                    .addClusteringKey("c2", Order.DESC)
+                    .build()),
+            entry(
+                "tbl2",
+                TableMetadata.newBuilder()
+                    .addColumn("c1", DataType.TEXT)
+                    .addColumn("c2", DataType.INT)
+                    .addPartitionKey("c1")
+                    .addSecondaryIndex("c2")
+                    .build()));
+    verify(connection)
+        .prepareStatement(
+            "SELECT `full_table_name`,`column_name`,`data_type`,`key_type`,`clustering_order`,"
+                + "`indexed` FROM `"
+                + METADATA_SCHEMA
+                + "`.`metadata` WHERE `full_table_name` LIKE ? "
+                + "ORDER BY `full_table_name` ASC,`ordinal_position` ASC");
+    verify(selectStatement).setString(1, "ns.%");
+  }
+
+  @Test
+  public void getTablesMetadata_MetadataTableNotExistsForX_ShouldReturnEmptyMap()
+      throws SQLException, ExecutionException {
+    for (RdbEngine rdbEngine : RDB_ENGINES.keySet()) {
+      // Arrange
+      JdbcAdmin admin = createJdbcAdminFor(rdbEngine);
+
+      Connection connection = mock(Connection.class);
+      PreparedStatement selectStatement = mock(PreparedStatement.class);
+
+      when(connectionPool.getConnection()).thenReturn(connection);
+      when(connection.prepareStatement(any())).thenReturn(selectStatement);
+      SQLException sqlException = mock(SQLException.class);
+      mockUndefinedTableError(rdbEngine, sqlException);
+      when(selectStatement.executeQuery()).thenThrow(sqlException);
+
+      // Act
+      Map<String, TableMetadata> actual = admin.getTablesMetadata("my_ns");
+
+      // Assert
+      assertThat(actual).isEmpty();
+    }
+  }
+
   @Test
   public void createNamespace_forMysql_shouldExecuteCreateNamespaceStatement()
       throws ExecutionException, SQLException {
@@ -407,7 +492,7 @@ public class JdbcAdminTest {
     when(connection.prepareStatement(insertNamespaceSql))
         .thenReturn(mockedInsertNamespaceStatement1, mockedInsertNamespaceStatement2);
 
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
 
     // Act
     admin.createNamespace(namespace);
@@ -530,7 +615,7 @@ public class JdbcAdminTest {
         .thenReturn(
             mockedStatements.get(0),
             mockedStatements.subList(1, mockedStatements.size()).toArray(new Statement[0]));
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
 
     JdbcAdmin admin = createJdbcAdminFor(rdbEngine);
 
@@ -627,7 +712,7 @@ public class JdbcAdminTest {
         .thenReturn(
             mockedStatements.get(0),
             mockedStatements.subList(1, mockedStatements.size()).toArray(new Statement[0]));
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
 
     JdbcAdmin admin = createJdbcAdminFor(rdbEngine);
 
@@ -736,7 +821,7 @@ public class JdbcAdminTest {
         .thenReturn(
             mockedStatements.get(0),
             mockedStatements.subList(1, mockedStatements.size()).toArray(new Statement[0]));
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
 
     JdbcAdmin admin = createJdbcAdminFor(rdbEngine);
 
@@ -902,7 +987,7 @@ public class JdbcAdminTest {
         .thenReturn(
             mockedStatements.get(0),
             mockedStatements.subList(1, mockedStatements.size()).toArray(new Statement[0]));
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
 
     JdbcAdmin admin = createJdbcAdminFor(rdbEngine);
 
@@ -1137,7 +1222,7 @@ public class JdbcAdminTest {
         .thenReturn(
             mockedStatements.get(0),
             mockedStatements.subList(1, mockedStatements.size()).toArray(new Statement[0]));
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
 
     JdbcAdmin admin = createJdbcAdminFor(rdbEngine);
 
@@ -1173,7 +1258,7 @@ public class JdbcAdminTest {
             .addSecondaryIndex("c4")
             .build();
     when(connection.createStatement()).thenReturn(mock(Statement.class));
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
 
     JdbcAdmin adminSpy = spy(createJdbcAdminFor(rdbEngine));
 
@@ -1208,7 +1293,7 @@ public class JdbcAdminTest {
             .addSecondaryIndex("c4")
             .build();
     when(connection.createStatement()).thenReturn(mock(Statement.class));
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
 
     JdbcAdmin adminSpy = spy(createJdbcAdminFor(rdbEngine));
 
@@ -1301,7 +1386,7 @@ public class JdbcAdminTest {
 
     Statement truncateTableStatement = mock(Statement.class);
     when(connection.createStatement()).thenReturn(truncateTableStatement);
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
 
     // Act
     admin.truncateTable(namespace, table);
@@ -1404,7 +1489,7 @@ public class JdbcAdminTest {
         .thenReturn(
             mockedStatements.get(0),
             mockedStatements.subList(1, mockedStatements.size()).toArray(new Statement[0]));
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
 
     ResultSet resultSetForSelectAllNamespacesTable =
         mockResultSet(
@@ -1521,7 +1606,7 @@ public class JdbcAdminTest {
         .thenReturn(
             mockedStatements.get(0),
             mockedStatements.subList(1, mockedStatements.size()).toArray(new Statement[0]));
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
 
     ResultSet resultSetForSelectAllNamespacesTable =
         mockResultSet(
@@ -1619,14 +1704,14 @@ public class JdbcAdminTest {
     Statement selectAllFromNamespaceTablePrepStmt = mock(Statement.class);
     Statement selectAllFromMetadataTablePrepStmt = mock(Statement.class);
     Statement dropNamespaceTableStmt = mock(Statement.class);
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
     when(connection.createStatement())
         .thenReturn(
             selectAllFromNamespaceTablePrepStmt,
             selectAllFromMetadataTablePrepStmt,
             dropNamespaceTableStmt);
     when(connection.prepareStatement(anyString())).thenReturn(deleteFromNamespaceTablePrepStmt);
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
     // Only the metadata schema is left
     ResultSet resultSet1 =
         mockResultSet(
@@ -1668,7 +1753,7 @@ public class JdbcAdminTest {
     Statement selectAllFromMetadataTablePrepStmt = mock(Statement.class);
     Statement dropNamespaceTableStmt = mock(Statement.class);
     Statement dropMetadataSchemaStmt = mock(Statement.class);
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
     when(connection.createStatement())
         .thenReturn(
             dropNamespaceStmt,
@@ -1677,7 +1762,7 @@ public class JdbcAdminTest {
             dropNamespaceTableStmt,
             dropMetadataSchemaStmt);
     when(connection.prepareStatement(anyString())).thenReturn(deleteFromNamespaceTablePrepStmt);
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
     // Only the metadata schema is left
     ResultSet resultSet =
         mockResultSet(
@@ -1773,7 +1858,7 @@ public class JdbcAdminTest {
       when(connection.createStatement()).thenReturn(selectNamespaceStatementMock);
     }
     when(connection.prepareStatement(anyString())).thenReturn(deleteFromNamespaceTableMock);
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
     // Namespaces table contains other namespaces
     ResultSet resultSet =
         mockResultSet(
@@ -1859,7 +1944,7 @@ public class JdbcAdminTest {
     PreparedStatement preparedStatement = mock(PreparedStatement.class);
     when(preparedStatement.executeQuery()).thenReturn(resultSet);
     when(connection.prepareStatement(any())).thenReturn(preparedStatement);
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
 
     JdbcAdmin admin = createJdbcAdminFor(rdbEngine);
 
@@ -1919,7 +2004,7 @@ public class JdbcAdminTest {
     PreparedStatement selectStatement = mock(PreparedStatement.class);
     ResultSet results = mock(ResultSet.class);
 
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
     when(connection.prepareStatement(any())).thenReturn(selectStatement);
     when(results.next()).thenReturn(true);
     when(selectStatement.executeQuery()).thenReturn(results);
@@ -2030,7 +2115,7 @@ public class JdbcAdminTest {
     when(connection.prepareStatement(any())).thenReturn(selectStatement);
     Statement statement = mock(Statement.class);
 
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
     when(connection.createStatement()).thenReturn(statement);
 
     // Act
@@ -2127,7 +2212,7 @@ public class JdbcAdminTest {
 
     Statement statement = mock(Statement.class);
 
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
     when(connection.createStatement()).thenReturn(statement);
 
     // Act
@@ -2239,7 +2324,7 @@ public class JdbcAdminTest {
 
     Statement statement = mock(Statement.class);
 
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
     when(connection.createStatement()).thenReturn(statement);
 
     // Act
@@ -2330,7 +2415,7 @@ public class JdbcAdminTest {
 
     Statement statement = mock(Statement.class);
 
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
     when(connection.createStatement()).thenReturn(statement);
 
     // Act
@@ -2469,7 +2554,7 @@ public class JdbcAdminTest {
             expectedStatements.get(0),
             expectedStatements.subList(1, expectedStatements.size()).toArray(new Statement[0]));
 
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
     JdbcAdmin admin = createJdbcAdminFor(rdbEngine);
 
     // Act
@@ -2523,7 +2608,7 @@ public class JdbcAdminTest {
             new SelectNamespaceNameFromNamespaceTableResultSetMocker.Row(namespace1),
             new SelectNamespaceNameFromNamespaceTableResultSetMocker.Row(namespace2));
     PreparedStatement mockPreparedStatement = mock(PreparedStatement.class);
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
     when(connection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
     when(mockPreparedStatement.executeQuery()).thenReturn(resultSet);
 
@@ -2559,7 +2644,7 @@ public class JdbcAdminTest {
     DatabaseMetaData metadata = mock(DatabaseMetaData.class);
     ResultSet primaryKeyResults = mock(ResultSet.class);
     ResultSet columnResults = mock(ResultSet.class);
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
     when(connection.createStatement()).thenReturn(checkTableExistStatement);
     when(connection.getMetaData()).thenReturn(metadata);
     when(primaryKeyResults.next()).thenReturn(true).thenReturn(true).thenReturn(false);
@@ -2653,7 +2738,7 @@ public class JdbcAdminTest {
     // Arrange
     Statement checkTableExistStatement = mock(Statement.class);
     when(connection.createStatement()).thenReturn(checkTableExistStatement);
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
 
     JdbcAdmin admin = createJdbcAdminFor(rdbEngine);
     SQLException sqlException = mock(SQLException.class);
@@ -2675,7 +2760,7 @@ public class JdbcAdminTest {
     Statement checkTableExistStatement = mock(Statement.class);
     DatabaseMetaData metadata = mock(DatabaseMetaData.class);
     ResultSet primaryKeyResults = mock(ResultSet.class);
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
     when(connection.createStatement()).thenReturn(checkTableExistStatement);
     when(connection.getMetaData()).thenReturn(metadata);
     when(primaryKeyResults.next()).thenReturn(false);
@@ -2716,7 +2801,7 @@ public class JdbcAdminTest {
     DatabaseMetaData metadata = mock(DatabaseMetaData.class);
     ResultSet primaryKeyResults = mock(ResultSet.class);
     ResultSet columnResults = mock(ResultSet.class);
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
     when(connection.createStatement()).thenReturn(checkTableExistStatement);
     when(connection.getMetaData()).thenReturn(metadata);
     when(primaryKeyResults.next()).thenReturn(true).thenReturn(false);
@@ -2774,7 +2859,7 @@ public class JdbcAdminTest {
             expectedStatements.get(0),
             expectedStatements.subList(1, expectedStatements.size()).toArray(new Statement[0]));
 
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
     JdbcAdmin admin = createJdbcAdminFor(rdbEngine);
 
     // Act
@@ -2803,7 +2888,7 @@ public class JdbcAdminTest {
     // Arrange
     Statement checkTableExistStatement = mock(Statement.class);
     when(connection.createStatement()).thenReturn(checkTableExistStatement);
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
 
     JdbcAdmin admin = createJdbcAdminFor(rdbEngine);
     SQLException sqlException = mock(SQLException.class);
@@ -2831,7 +2916,7 @@ public class JdbcAdminTest {
     // Arrange
     JdbcAdmin adminSpy = spy(createJdbcAdminFor(rdbEngine));
 
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
     TableMetadata importedTableMetadata = mock(TableMetadata.class);
     doReturn(importedTableMetadata).when(adminSpy).getImportTableMetadata(anyString(), anyString());
     doNothing().when(adminSpy).createNamespacesTableIfNotExists(connection);
@@ -3026,7 +3111,7 @@ public class JdbcAdminTest {
     PreparedStatement mockedInsertNamespaceStatement2 = mock(PreparedStatement.class);
     when(connection.prepareStatement(insertNamespaceSql))
         .thenReturn(mockedInsertNamespaceStatement1, mockedInsertNamespaceStatement2);
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
 
     // Act
     admin.repairNamespace(namespace, Collections.emptyMap());
@@ -3162,7 +3247,7 @@ public class JdbcAdminTest {
             statementsMock.get(0),
             statementsMock.subList(1, statementsMock.size()).toArray(new Statement[0]));
     Connection connection2 = mock(Connection.class);
-    when(dataSource.getConnection()).thenReturn(connection, connection2);
+    when(connectionPool.getConnection()).thenReturn(connection, connection2);
 
     SQLException sqlException = mock(SQLException.class);
     mockUndefinedTableError(rdbEngine, sqlException);
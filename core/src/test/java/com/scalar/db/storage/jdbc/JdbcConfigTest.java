@@ -24,12 +24,23 @@ public class JdbcConfigTest {
     props.setProperty(DatabaseConfig.PASSWORD, ANY_PASSWORD);
     props.setProperty(DatabaseConfig.STORAGE, JDBC_STORAGE);
     props.setProperty(DatabaseConfig.SYSTEM_NAMESPACE_NAME, ANY_METADATA_SCHEMA);
+    props.setProperty(JdbcConfig.CONNECTION_POOL_TYPE, "hikari");
     props.setProperty(JdbcConfig.CONNECTION_POOL_MIN_IDLE, "1");
     props.setProperty(JdbcConfig.CONNECTION_POOL_MAX_IDLE, "100");
     props.setProperty(JdbcConfig.CONNECTION_POOL_MAX_TOTAL, "500");
     props.setProperty(JdbcConfig.PREPARED_STATEMENTS_POOL_ENABLED, "true");
     props.setProperty(JdbcConfig.PREPARED_STATEMENTS_POOL_MAX_OPEN, "300");
     props.setProperty(JdbcConfig.ISOLATION_LEVEL, Isolation.SERIALIZABLE.name());
+    props.setProperty(JdbcConfig.SCAN_FETCH_SIZE, "1000");
+    props.setProperty(JdbcConfig.SCAN_PAGINATION_ENABLED, "true");
+    props.setProperty(JdbcConfig.SCAN_PAGINATION_PAGE_SIZE, "500");
+    props.setProperty(
+        JdbcConfig.READ_REPLICA_URLS, "jdbc:mysql://replica1:3306/,jdbc:mysql://replica2:3306/");
+    props.setProperty(JdbcConfig.READ_REPLICA_MAX_LAG_MILLIS, "3000");
+    props.setProperty(JdbcConfig.READ_REPLICA_HEALTH_CHECK_INTERVAL_MILLIS, "1000");
+    props.setProperty(JdbcConfig.TRANSACTION_WRITE_BEHIND_ENABLED, "true");
+    props.setProperty(JdbcConfig.WARMUP_TABLES, "ns1.tbl1,ns2.tbl2");
+    props.setProperty(JdbcConfig.WARMUP_PARALLELISM, "8");
     props.setProperty(JdbcConfig.TABLE_METADATA_CONNECTION_POOL_MIN_IDLE, "100");
     props.setProperty(JdbcConfig.TABLE_METADATA_CONNECTION_POOL_MAX_IDLE, "200");
     props.setProperty(JdbcConfig.TABLE_METADATA_CONNECTION_POOL_MAX_TOTAL, "300");
@@ -46,6 +57,7 @@ public class JdbcConfigTest {
     assertThat(config.getUsername().get()).isEqualTo(ANY_USERNAME);
     assertThat(config.getPassword().isPresent()).isTrue();
     assertThat(config.getPassword().get()).isEqualTo(ANY_PASSWORD);
+    assertThat(config.getConnectionPoolType()).isEqualTo(ConnectionPoolType.HIKARI);
     assertThat(config.getConnectionPoolMinIdle()).isEqualTo(1);
     assertThat(config.getConnectionPoolMaxIdle()).isEqualTo(100);
     assertThat(config.getConnectionPoolMaxTotal()).isEqualTo(500);
@@ -53,6 +65,16 @@ public class JdbcConfigTest {
     assertThat(config.getPreparedStatementsPoolMaxOpen()).isEqualTo(300);
     assertThat(config.getIsolation()).isPresent();
     assertThat(config.getIsolation().get()).isEqualTo(Isolation.SERIALIZABLE);
+    assertThat(config.getScanFetchSize()).isEqualTo(1000);
+    assertThat(config.isScanPaginationEnabled()).isTrue();
+    assertThat(config.getScanPaginationPageSize()).isEqualTo(500);
+    assertThat(config.getReadReplicaUrls())
+        .containsExactly("jdbc:mysql://replica1:3306/", "jdbc:mysql://replica2:3306/");
+    assertThat(config.getReadReplicaMaxLagMillis()).isEqualTo(3000);
+    assertThat(config.getReadReplicaHealthCheckIntervalMillis()).isEqualTo(1000);
+    assertThat(config.isTransactionWriteBehindEnabled()).isTrue();
+    assertThat(config.getWarmupTables()).containsExactly("ns1.tbl1", "ns2.tbl2");
+    assertThat(config.getWarmupParallelism()).isEqualTo(8);
     assertThat(config.getMetadataSchema()).isEqualTo(ANY_METADATA_SCHEMA);
     assertThat(config.getTableMetadataConnectionPoolMinIdle()).isEqualTo(100);
     assertThat(config.getTableMetadataConnectionPoolMaxIdle()).isEqualTo(200);
@@ -81,6 +103,8 @@ public class JdbcConfigTest {
     assertThat(config.getUsername().get()).isEqualTo(ANY_USERNAME);
     assertThat(config.getPassword().isPresent()).isTrue();
     assertThat(config.getPassword().get()).isEqualTo(ANY_PASSWORD);
+    assertThat(config.getConnectionPoolType())
+        .isEqualTo(JdbcConfig.DEFAULT_CONNECTION_POOL_TYPE);
     assertThat(config.getConnectionPoolMinIdle())
         .isEqualTo(JdbcConfig.DEFAULT_CONNECTION_POOL_MIN_IDLE);
     assertThat(config.getConnectionPoolMaxIdle())
@@ -92,6 +116,20 @@ public class JdbcConfigTest {
     assertThat(config.getPreparedStatementsPoolMaxOpen())
         .isEqualTo(JdbcConfig.DEFAULT_PREPARED_STATEMENTS_POOL_MAX_OPEN);
     assertThat(config.getIsolation()).isNotPresent();
+    assertThat(config.getScanFetchSize()).isEqualTo(JdbcConfig.DEFAULT_SCAN_FETCH_SIZE);
+    assertThat(config.isScanPaginationEnabled())
+        .isEqualTo(JdbcConfig.DEFAULT_SCAN_PAGINATION_ENABLED);
+    assertThat(config.getScanPaginationPageSize())
+        .isEqualTo(JdbcConfig.DEFAULT_SCAN_PAGINATION_PAGE_SIZE);
+    assertThat(config.getReadReplicaUrls()).isEmpty();
+    assertThat(config.getReadReplicaMaxLagMillis())
+        .isEqualTo(JdbcConfig.DEFAULT_READ_REPLICA_MAX_LAG_MILLIS);
+    assertThat(config.getReadReplicaHealthCheckIntervalMillis())
+        .isEqualTo(JdbcConfig.DEFAULT_READ_REPLICA_HEALTH_CHECK_INTERVAL_MILLIS);
+    assertThat(config.isTransactionWriteBehindEnabled())
+        .isEqualTo(JdbcConfig.DEFAULT_TRANSACTION_WRITE_BEHIND_ENABLED);
+    assertThat(config.getWarmupTables()).isEmpty();
+    assertThat(config.getWarmupParallelism()).isEqualTo(JdbcConfig.DEFAULT_WARMUP_PARALLELISM);
     assertThat(config.getMetadataSchema()).isEqualTo(DatabaseConfig.DEFAULT_SYSTEM_NAMESPACE_NAME);
     assertThat(config.getTableMetadataConnectionPoolMinIdle())
         .isEqualTo(JdbcConfig.DEFAULT_TABLE_METADATA_CONNECTION_POOL_MIN_IDLE);
@@ -115,6 +153,48 @@ public class JdbcConfigTest {
         .isInstanceOf(IllegalArgumentException.class);
   }
 
+  @Test
+  public void
+      constructor_NonPositiveReadReplicaHealthCheckIntervalGiven_ShouldThrowIllegalArgumentException() {
+    // Arrange
+    Properties props = new Properties();
+    props.setProperty(DatabaseConfig.CONTACT_POINTS, ANY_JDBC_URL);
+    props.setProperty(DatabaseConfig.STORAGE, JDBC_STORAGE);
+    props.setProperty(JdbcConfig.READ_REPLICA_URLS, ANY_JDBC_URL);
+    props.setProperty(JdbcConfig.READ_REPLICA_HEALTH_CHECK_INTERVAL_MILLIS, "0");
+
+    // Act Assert
+    assertThatThrownBy(() -> new JdbcConfig(new DatabaseConfig(props)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void constructor_WarmupTableWithoutNamespaceGiven_ShouldThrowIllegalArgumentException() {
+    // Arrange
+    Properties props = new Properties();
+    props.setProperty(DatabaseConfig.CONTACT_POINTS, ANY_JDBC_URL);
+    props.setProperty(DatabaseConfig.STORAGE, JDBC_STORAGE);
+    props.setProperty(JdbcConfig.WARMUP_TABLES, "ns1.tbl1,tbl2");
+
+    // Act Assert
+    assertThatThrownBy(() -> new JdbcConfig(new DatabaseConfig(props)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void
+      constructor_NonPositiveScanPaginationPageSizeGiven_ShouldThrowIllegalArgumentException() {
+    // Arrange
+    Properties props = new Properties();
+    props.setProperty(DatabaseConfig.CONTACT_POINTS, ANY_JDBC_URL);
+    props.setProperty(DatabaseConfig.STORAGE, JDBC_STORAGE);
+    props.setProperty(JdbcConfig.SCAN_PAGINATION_PAGE_SIZE, "0");
+
+    // Act Assert
+    assertThatThrownBy(() -> new JdbcConfig(new DatabaseConfig(props)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
   @Test
   public void
       constructor_PropertiesWithInvalidConnectionPoolPropertiesGiven_ShouldThrowIllegalArgumentException() {
@@ -1,13 +1,21 @@
 package com.scalar.db.storage.jdbc;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.scalar.db.api.Consistency;
 import com.scalar.db.api.Delete;
 import com.scalar.db.api.DeleteIfExists;
 import com.scalar.db.api.Get;
+import com.scalar.db.api.LockMode;
 import com.scalar.db.api.Put;
 import com.scalar.db.api.PutIfNotExists;
 import com.scalar.db.api.Scan;
@@ -22,9 +30,14 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
-import org.apache.commons.dbcp2.BasicDataSource;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
@@ -34,9 +47,12 @@ public class JdbcDatabaseTest {
   private static final String TABLE = "tbl";
 
   @Mock private DatabaseConfig databaseConfig;
-  @Mock private BasicDataSource dataSource;
-  @Mock private BasicDataSource tableMetadataDataSource;
+  @Mock private JdbcConnectionPool connectionPool;
+  @Mock private JdbcConnectionPool tableMetadataConnectionPool;
   @Mock private JdbcService jdbcService;
+  @Mock private ReadReplicaRouter readReplicaRouter;
+  @Mock private Connection replicaConnection;
+  @Mock private Scanner paginatedScanner;
 
   @Mock private ResultInterpreter resultInterpreter;
   @Mock private Connection connection;
@@ -51,13 +67,13 @@ public class JdbcDatabaseTest {
     MockitoAnnotations.openMocks(this).close();
 
     // Arrange
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
 
     jdbcDatabase =
         new JdbcDatabase(
             databaseConfig,
-            dataSource,
-            tableMetadataDataSource,
+            connectionPool,
+            tableMetadataConnectionPool,
             RdbEngine.createRdbEngineStrategy(RdbEngine.MYSQL),
             jdbcService);
   }
@@ -92,6 +108,114 @@ public class JdbcDatabaseTest {
     verify(connection).close();
   }
 
+  @Test
+  public void whenGetOperationWithSequentialConsistencyExecuted_shouldUseReadReplica()
+      throws Exception {
+    // Arrange
+    when(readReplicaRouter.getConnection()).thenReturn(replicaConnection);
+    JdbcDatabase jdbcDatabase = createJdbcDatabaseWithReadReplicas();
+
+    // Act
+    Get get =
+        new Get(new Key("p1", "val"))
+            .forNamespace(NAMESPACE)
+            .forTable(TABLE)
+            .withConsistency(Consistency.SEQUENTIAL);
+    jdbcDatabase.get(get);
+
+    // Assert
+    verify(jdbcService).get(any(), eq(replicaConnection));
+    verify(connectionPool, never()).getConnection();
+    verify(replicaConnection).close();
+  }
+
+  @Test
+  public void whenGetOperationWithLinearizableConsistencyExecuted_shouldUsePrimary()
+      throws Exception {
+    // Arrange
+    JdbcDatabase jdbcDatabase = createJdbcDatabaseWithReadReplicas();
+
+    // Act
+    Get get =
+        new Get(new Key("p1", "val"))
+            .forNamespace(NAMESPACE)
+            .forTable(TABLE)
+            .withConsistency(Consistency.LINEARIZABLE);
+    jdbcDatabase.get(get);
+
+    // Assert
+    verify(jdbcService).get(any(), eq(connection));
+    verify(readReplicaRouter, never()).getConnection();
+    verify(connection).close();
+  }
+
+  @Test
+  public void
+      whenGetOperationWithLockModeExecuted_shouldPassLockModeToJdbcServiceAndThrowExceptionFromIt()
+          throws Exception {
+    // Arrange
+    // The operation checker of JdbcService rejects a lock mode in the JDBC storage
+    when(jdbcService.get(any(), any())).thenThrow(IllegalArgumentException.class);
+    Get get =
+        Get.newBuilder()
+            .namespace(NAMESPACE)
+            .table(TABLE)
+            .partitionKey(Key.ofText("p1", "val"))
+            .lockMode(LockMode.SKIP_LOCKED)
+            .build();
+
+    // Act Assert
+    assertThatThrownBy(() -> jdbcDatabase.get(get)).isInstanceOf(IllegalArgumentException.class);
+    ArgumentCaptor<Get> captor = ArgumentCaptor.forClass(Get.class);
+    verify(jdbcService).get(captor.capture(), eq(connection));
+    assertThat(captor.getValue().getLockMode()).isEqualTo(LockMode.SKIP_LOCKED);
+    verify(connection).close();
+  }
+
+  @Test
+  public void whenScanOperationExecutedAndNoReadReplicaAvailable_shouldFallBackToPrimary()
+      throws Exception {
+    // Arrange
+    when(readReplicaRouter.getConnection()).thenReturn(null);
+    when(jdbcService.getScanner(any(), any()))
+        .thenReturn(new ScannerImpl(resultInterpreter, connection, preparedStatement, resultSet));
+    JdbcDatabase jdbcDatabase = createJdbcDatabaseWithReadReplicas();
+
+    // Act
+    Scan scan =
+        new Scan(new Key("p1", "val"))
+            .forNamespace(NAMESPACE)
+            .forTable(TABLE)
+            .withConsistency(Consistency.EVENTUAL);
+    Scanner scanner = jdbcDatabase.scan(scan);
+    scanner.close();
+
+    // Assert
+    verify(readReplicaRouter).getConnection();
+    verify(jdbcService).getScanner(any(), eq(connection));
+    verify(connection).close();
+  }
+
+  @Test
+  public void whenPutOperationExecutedWithReadReplicas_shouldUsePrimary() throws Exception {
+    // Arrange
+    when(jdbcService.put(any(), any())).thenReturn(true);
+    JdbcDatabase jdbcDatabase = createJdbcDatabaseWithReadReplicas();
+
+    // Act
+    Put put =
+        new Put(new Key("p1", "val1"))
+            .withValue("v1", "val2")
+            .forNamespace(NAMESPACE)
+            .forTable(TABLE)
+            .withConsistency(Consistency.EVENTUAL);
+    jdbcDatabase.put(put);
+
+    // Assert
+    verify(jdbcService).put(any(), eq(connection));
+    verify(readReplicaRouter, never()).getConnection();
+  }
+
   @Test
   public void whenScanOperationExecutedAndScannerClosed_shouldCallJdbcService() throws Exception {
     // Arrange
@@ -125,6 +249,78 @@ public class JdbcDatabaseTest {
     verify(connection).close();
   }
 
+  @Test
+  public void whenScanOperationExecutedWithScanPaginationEnabled_shouldReturnPaginatedScanner()
+      throws Exception {
+    // Arrange
+    when(jdbcService.getPaginatedScanner(any(), any(), anyInt(), any()))
+        .thenReturn(Optional.of(paginatedScanner));
+    JdbcDatabase jdbcDatabase = createJdbcDatabaseWithScanPagination();
+
+    // Act
+    Scan scan = new Scan(new Key("p1", "val")).forNamespace(NAMESPACE).forTable(TABLE);
+    Scanner scanner = jdbcDatabase.scan(scan);
+
+    // Assert
+    assertThat(scanner).isEqualTo(paginatedScanner);
+    verify(jdbcService).getPaginatedScanner(any(), any(), eq(100), isNull());
+    verify(jdbcService, never()).getScanner(any(), any());
+    verify(connectionPool, never()).getConnection();
+  }
+
+  @Test
+  public void
+      whenScanOperationExecutedWithScanPaginationEnabledAndScanCannotBePaginated_shouldFallBackToScannerHoldingConnection()
+          throws Exception {
+    // Arrange
+    when(jdbcService.getPaginatedScanner(any(), any(), anyInt(), any()))
+        .thenReturn(Optional.empty());
+    when(jdbcService.getScanner(any(), any()))
+        .thenReturn(new ScannerImpl(resultInterpreter, connection, preparedStatement, resultSet));
+    JdbcDatabase jdbcDatabase = createJdbcDatabaseWithScanPagination();
+
+    // Act
+    Scan scan = new Scan(new Key("p1", "val")).forNamespace(NAMESPACE).forTable(TABLE);
+    Scanner scanner = jdbcDatabase.scan(scan);
+    scanner.close();
+
+    // Assert
+    verify(jdbcService).getScanner(any(), eq(connection));
+    verify(connection).close();
+  }
+
+  @Test
+  public void whenScanOperationWithContinuationTokenExecuted_shouldResumePaginatedScanner()
+      throws Exception {
+    // Arrange
+    when(jdbcService.getPaginatedScanner(any(), any(), anyInt(), any()))
+        .thenReturn(Optional.of(paginatedScanner));
+
+    // Act
+    Scan scan = new Scan(new Key("p1", "val")).forNamespace(NAMESPACE).forTable(TABLE);
+    Scanner scanner = jdbcDatabase.scan(scan, "token");
+
+    // Assert
+    assertThat(scanner).isEqualTo(paginatedScanner);
+    verify(jdbcService)
+        .getPaginatedScanner(
+            any(), any(), eq(JdbcConfig.DEFAULT_SCAN_PAGINATION_PAGE_SIZE), eq("token"));
+  }
+
+  @Test
+  public void
+      whenScanOperationWithContinuationTokenExecutedAndScanCannotBePaginated_shouldThrowIllegalArgumentException()
+          throws Exception {
+    // Arrange
+    when(jdbcService.getPaginatedScanner(any(), any(), anyInt(), any()))
+        .thenReturn(Optional.empty());
+
+    // Act Assert
+    Scan scan = new Scan(new Key("p1", "val")).forNamespace(NAMESPACE).forTable(TABLE);
+    assertThatThrownBy(() -> jdbcDatabase.scan(scan, "token"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
   @Test
   public void whenPutOperationExecuted_shouldCallJdbcService() throws Exception {
     // Arrange
@@ -330,4 +526,116 @@ public class JdbcDatabaseTest {
         .isInstanceOf(RetriableExecutionException.class);
     verify(connection).close();
   }
+
+  @Test
+  public void bulkLoad_ShouldLoadPutsInBatchesEachCommittedInTransaction() throws Exception {
+    // Arrange
+    JdbcDatabase jdbcDatabase = createJdbcDatabaseWithBulkLoadBatchSize(2);
+    when(jdbcService.bulkLoad(any(), any(), any(), any())).thenReturn(true);
+    List<Put> puts =
+        IntStream.range(0, 5)
+            .mapToObj(
+                i ->
+                    Put.newBuilder()
+                        .namespace(NAMESPACE)
+                        .table(TABLE)
+                        .partitionKey(Key.ofInt("p1", i))
+                        .build())
+            .collect(Collectors.toList());
+
+    // Act
+    long actual = jdbcDatabase.bulkLoad(NAMESPACE, TABLE, puts.iterator());
+
+    // Assert
+    assertThat(actual).isEqualTo(5);
+    verify(jdbcService).bulkLoad(NAMESPACE, TABLE, puts.subList(0, 2), connection);
+    verify(jdbcService).bulkLoad(NAMESPACE, TABLE, puts.subList(2, 4), connection);
+    verify(jdbcService).bulkLoad(NAMESPACE, TABLE, puts.subList(4, 5), connection);
+    verify(connection, times(3)).setAutoCommit(false);
+    verify(connection, times(3)).commit();
+    verify(connection, times(3)).close();
+  }
+
+  @Test
+  public void bulkLoad_JdbcServiceReturnsFalse_ShouldRollbackAndThrowNoMutationException()
+      throws Exception {
+    // Arrange
+    JdbcDatabase jdbcDatabase = createJdbcDatabaseWithBulkLoadBatchSize(2);
+    when(jdbcService.bulkLoad(any(), any(), any(), any())).thenReturn(false);
+    Put put =
+        Put.newBuilder()
+            .namespace(NAMESPACE)
+            .table(TABLE)
+            .partitionKey(Key.ofText("p1", "val1"))
+            .build();
+
+    // Act Assert
+    assertThatThrownBy(
+            () ->
+                jdbcDatabase.bulkLoad(
+                    NAMESPACE, TABLE, Collections.singletonList(put).iterator()))
+        .isInstanceOf(NoMutationException.class);
+    verify(connection).rollback();
+    verify(connection, never()).commit();
+    verify(connection).close();
+  }
+
+  @Test
+  public void bulkLoad_JdbcServiceThrowsSQLException_ShouldRollbackAndThrowExecutionException()
+      throws Exception {
+    // Arrange
+    JdbcDatabase jdbcDatabase = createJdbcDatabaseWithBulkLoadBatchSize(2);
+    when(jdbcService.bulkLoad(any(), any(), any(), any())).thenThrow(sqlException);
+    Put put =
+        Put.newBuilder()
+            .namespace(NAMESPACE)
+            .table(TABLE)
+            .partitionKey(Key.ofText("p1", "val1"))
+            .build();
+
+    // Act Assert
+    assertThatThrownBy(
+            () ->
+                jdbcDatabase.bulkLoad(
+                    NAMESPACE, TABLE, Collections.singletonList(put).iterator()))
+        .isInstanceOf(ExecutionException.class);
+    verify(connection).rollback();
+    verify(connection).close();
+  }
+
+  private JdbcDatabase createJdbcDatabaseWithScanPagination() {
+    return new JdbcDatabase(
+        databaseConfig,
+        connectionPool,
+        tableMetadataConnectionPool,
+        null,
+        RdbEngine.createRdbEngineStrategy(RdbEngine.MYSQL),
+        jdbcService,
+        true,
+        100,
+        JdbcConfig.DEFAULT_BULK_LOAD_BATCH_SIZE);
+  }
+
+  private JdbcDatabase createJdbcDatabaseWithBulkLoadBatchSize(int bulkLoadBatchSize) {
+    return new JdbcDatabase(
+        databaseConfig,
+        connectionPool,
+        tableMetadataConnectionPool,
+        null,
+        RdbEngine.createRdbEngineStrategy(RdbEngine.MYSQL),
+        jdbcService,
+        JdbcConfig.DEFAULT_SCAN_PAGINATION_ENABLED,
+        JdbcConfig.DEFAULT_SCAN_PAGINATION_PAGE_SIZE,
+        bulkLoadBatchSize);
+  }
+
+  private JdbcDatabase createJdbcDatabaseWithReadReplicas() {
+    return new JdbcDatabase(
+        databaseConfig,
+        connectionPool,
+        tableMetadataConnectionPool,
+        readReplicaRouter,
+        RdbEngine.createRdbEngineStrategy(RdbEngine.MYSQL),
+        jdbcService);
+  }
 }
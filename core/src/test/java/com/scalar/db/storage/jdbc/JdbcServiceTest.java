@@ -1,11 +1,15 @@
 package com.scalar.db.storage.jdbc;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -20,13 +24,18 @@ import com.scalar.db.api.Put;
 import com.scalar.db.api.PutIf;
 import com.scalar.db.api.PutIfExists;
 import com.scalar.db.api.PutIfNotExists;
+import com.scalar.db.api.Result;
 import com.scalar.db.api.Scan;
 import com.scalar.db.api.ScanAll;
+import com.scalar.db.api.Scanner;
 import com.scalar.db.api.TableMetadata;
 import com.scalar.db.common.TableMetadataManager;
 import com.scalar.db.common.checker.OperationChecker;
+import com.scalar.db.exception.storage.ExecutionException;
+import com.scalar.db.io.Column;
 import com.scalar.db.io.DataType;
 import com.scalar.db.io.Key;
+import com.scalar.db.io.TextColumn;
 import com.scalar.db.io.TextValue;
 import com.scalar.db.storage.jdbc.query.DeleteQuery;
 import com.scalar.db.storage.jdbc.query.InsertQuery;
@@ -34,14 +43,19 @@ import com.scalar.db.storage.jdbc.query.QueryBuilder;
 import com.scalar.db.storage.jdbc.query.SelectQuery;
 import com.scalar.db.storage.jdbc.query.UpdateQuery;
 import com.scalar.db.storage.jdbc.query.UpsertQuery;
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
@@ -49,6 +63,7 @@ public class JdbcServiceTest {
 
   private static final String NAMESPACE = "ns";
   private static final String TABLE = "tbl";
+  private static final int SCAN_FETCH_SIZE = 100;
 
   @Mock private QueryBuilder queryBuilder;
   @Mock private OperationChecker operationChecker;
@@ -77,7 +92,13 @@ public class JdbcServiceTest {
   @BeforeEach
   public void setUp() throws Exception {
     MockitoAnnotations.openMocks(this).close();
-    jdbcService = new JdbcService(tableMetadataManager, operationChecker, queryBuilder);
+    jdbcService =
+        new JdbcService(
+            tableMetadataManager,
+            operationChecker,
+            RdbEngine.createRdbEngineStrategy(RdbEngine.MYSQL),
+            queryBuilder,
+            SCAN_FETCH_SIZE);
 
     // Arrange
     when(tableMetadataManager.getTableMetadata(any(Operation.class)))
@@ -96,6 +117,7 @@ public class JdbcServiceTest {
     when(queryBuilder.select(any())).thenReturn(selectQueryBuilder);
     when(selectQueryBuilder.from(any(), any(), any())).thenReturn(selectQueryBuilder);
     when(selectQueryBuilder.where(any(), any(), anySet())).thenReturn(selectQueryBuilder);
+    when(selectQueryBuilder.lockMode(any())).thenReturn(selectQueryBuilder);
     when(selectQueryBuilder.build()).thenReturn(selectQuery);
     when(connection.prepareStatement(any())).thenReturn(preparedStatement);
     when(preparedStatement.executeQuery()).thenReturn(resultSet);
@@ -119,6 +141,7 @@ public class JdbcServiceTest {
     when(selectQueryBuilder.where(any(), any(), anyBoolean(), any(), anyBoolean(), anySet()))
         .thenReturn(selectQueryBuilder);
     when(selectQueryBuilder.orderBy(any())).thenReturn(selectQueryBuilder);
+    when(selectQueryBuilder.lockMode(any())).thenReturn(selectQueryBuilder);
     when(selectQueryBuilder.limit(anyInt())).thenReturn(selectQueryBuilder);
     when(selectQueryBuilder.build()).thenReturn(selectQuery);
 
@@ -143,6 +166,7 @@ public class JdbcServiceTest {
     when(selectQueryBuilder.from(any(), any(), any())).thenReturn(selectQueryBuilder);
     when(selectQueryBuilder.where(any())).thenReturn(selectQueryBuilder);
     when(selectQueryBuilder.orderBy(any())).thenReturn(selectQueryBuilder);
+    when(selectQueryBuilder.lockMode(any())).thenReturn(selectQueryBuilder);
     when(selectQueryBuilder.limit(anyInt())).thenReturn(selectQueryBuilder);
     when(selectQueryBuilder.build()).thenReturn(selectQuery);
 
@@ -157,6 +181,39 @@ public class JdbcServiceTest {
     // Assert
     verify(operationChecker).check(any(ScanAll.class));
     verify(queryBuilder).select(any());
+    verify(preparedStatement).setFetchSize(SCAN_FETCH_SIZE);
+  }
+
+  @Test
+  public void whenGetScannerExecuted_withDefaultScanFetchSize_shouldNotSetFetchSize()
+      throws Exception {
+    // Arrange
+    JdbcService service =
+        new JdbcService(
+            tableMetadataManager,
+            operationChecker,
+            RdbEngine.createRdbEngineStrategy(RdbEngine.MYSQL),
+            queryBuilder,
+            JdbcConfig.DEFAULT_SCAN_FETCH_SIZE);
+    when(queryBuilder.select(any())).thenReturn(selectQueryBuilder);
+
+    when(selectQueryBuilder.from(any(), any(), any())).thenReturn(selectQueryBuilder);
+    when(selectQueryBuilder.where(any())).thenReturn(selectQueryBuilder);
+    when(selectQueryBuilder.orderBy(any())).thenReturn(selectQueryBuilder);
+    when(selectQueryBuilder.lockMode(any())).thenReturn(selectQueryBuilder);
+    when(selectQueryBuilder.limit(anyInt())).thenReturn(selectQueryBuilder);
+    when(selectQueryBuilder.build()).thenReturn(selectQuery);
+
+    when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+    when(preparedStatement.executeQuery()).thenReturn(resultSet);
+    when(resultSet.next()).thenReturn(false);
+
+    // Act
+    Scan scan = new ScanAll().forNamespace(NAMESPACE).forTable(TABLE);
+    service.getScanner(scan, connection);
+
+    // Assert
+    verify(preparedStatement, never()).setFetchSize(anyInt());
   }
 
   @Test
@@ -168,6 +225,7 @@ public class JdbcServiceTest {
     when(selectQueryBuilder.from(any(), any(), any())).thenReturn(selectQueryBuilder);
     when(selectQueryBuilder.where(anySet())).thenReturn(selectQueryBuilder);
     when(selectQueryBuilder.orderBy(any())).thenReturn(selectQueryBuilder);
+    when(selectQueryBuilder.lockMode(any())).thenReturn(selectQueryBuilder);
     when(selectQueryBuilder.limit(anyInt())).thenReturn(selectQueryBuilder);
     when(selectQueryBuilder.build()).thenReturn(selectQuery);
 
@@ -203,6 +261,7 @@ public class JdbcServiceTest {
     when(selectQueryBuilder.where(any(), any(), anyBoolean(), any(), anyBoolean(), anySet()))
         .thenReturn(selectQueryBuilder);
     when(selectQueryBuilder.orderBy(any())).thenReturn(selectQueryBuilder);
+    when(selectQueryBuilder.lockMode(any())).thenReturn(selectQueryBuilder);
     when(selectQueryBuilder.limit(anyInt())).thenReturn(selectQueryBuilder);
     when(selectQueryBuilder.build()).thenReturn(selectQuery);
 
@@ -227,6 +286,7 @@ public class JdbcServiceTest {
     when(selectQueryBuilder.from(any(), any(), any())).thenReturn(selectQueryBuilder);
     when(selectQueryBuilder.where(any())).thenReturn(selectQueryBuilder);
     when(selectQueryBuilder.orderBy(any())).thenReturn(selectQueryBuilder);
+    when(selectQueryBuilder.lockMode(any())).thenReturn(selectQueryBuilder);
     when(selectQueryBuilder.limit(anyInt())).thenReturn(selectQueryBuilder);
     when(selectQueryBuilder.build()).thenReturn(selectQuery);
 
@@ -250,6 +310,7 @@ public class JdbcServiceTest {
     when(selectQueryBuilder.from(any(), any(), any())).thenReturn(selectQueryBuilder);
     when(selectQueryBuilder.where(any())).thenReturn(selectQueryBuilder);
     when(selectQueryBuilder.orderBy(any())).thenReturn(selectQueryBuilder);
+    when(selectQueryBuilder.lockMode(any())).thenReturn(selectQueryBuilder);
     when(selectQueryBuilder.limit(anyInt())).thenReturn(selectQueryBuilder);
     when(selectQueryBuilder.build()).thenReturn(selectQuery);
 
@@ -276,6 +337,84 @@ public class JdbcServiceTest {
     verify(selectQueryBuilder).limit(anyInt());
   }
 
+  @Test
+  public void whenGetPaginatedScannerExecuted_withScanAll_shouldReturnScannerWithoutConnection()
+      throws Exception {
+    // Arrange
+    Scan scan = new ScanAll().forNamespace(NAMESPACE).forTable(TABLE);
+
+    // Act
+    Optional<Scanner> actual =
+        jdbcService.getPaginatedScanner(
+            scan,
+            () -> {
+              throw new AssertionError("A connection must not be borrowed until a page is fetched");
+            },
+            10,
+            null);
+
+    // Assert
+    verify(operationChecker).check(any(ScanAll.class));
+    assertThat(actual).isPresent();
+    assertThat(actual.get()).isInstanceOf(PaginatedScanner.class);
+  }
+
+  @Test
+  public void
+      whenGetPaginatedScannerExecuted_withScanAllOrderedByNonPrimaryKeyColumn_shouldReturnEmpty()
+          throws Exception {
+    // Arrange
+    Scan scan =
+        Scan.newBuilder()
+            .namespace(NAMESPACE)
+            .table(TABLE)
+            .all()
+            .ordering(Scan.Ordering.asc("v1"))
+            .build();
+
+    // Act
+    Optional<Scanner> actual = jdbcService.getPaginatedScanner(scan, () -> connection, 10, null);
+
+    // Assert
+    assertThat(actual).isEmpty();
+  }
+
+  @Test
+  public void whenScanPageExecuted_shouldCallQueryBuilderWithKeysetAndLimit() throws Exception {
+    // Arrange
+    when(queryBuilder.select(any())).thenReturn(selectQueryBuilder);
+    when(selectQueryBuilder.from(any(), any(), any())).thenReturn(selectQueryBuilder);
+    when(selectQueryBuilder.where(any())).thenReturn(selectQueryBuilder);
+    when(selectQueryBuilder.orderBy(any())).thenReturn(selectQueryBuilder);
+    when(selectQueryBuilder.lockMode(any())).thenReturn(selectQueryBuilder);
+    when(selectQueryBuilder.keyset(any(), any())).thenReturn(selectQueryBuilder);
+    when(selectQueryBuilder.limit(anyInt())).thenReturn(selectQueryBuilder);
+    when(selectQueryBuilder.build()).thenReturn(selectQuery);
+
+    when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+    when(preparedStatement.executeQuery()).thenReturn(resultSet);
+    when(resultSet.next()).thenReturn(false);
+
+    Scan scan = new ScanAll().forNamespace(NAMESPACE).forTable(TABLE);
+    TableMetadata tableMetadata =
+        TableMetadata.newBuilder().addColumn("p1", DataType.TEXT).addPartitionKey("p1").build();
+    List<Scan.Ordering> keyOrderings = Collections.singletonList(Scan.Ordering.asc("p1"));
+    List<Column<?>> lastKey = Collections.singletonList(TextColumn.of("p1", "val"));
+
+    // Act
+    List<Result> actual =
+        jdbcService.scanPage(
+            scan, tableMetadata, Collections.emptyList(), keyOrderings, lastKey, 5, connection);
+
+    // Assert
+    assertThat(actual).isEmpty();
+    verify(selectQueryBuilder).keyset(keyOrderings, lastKey);
+    verify(selectQueryBuilder).limit(5);
+    // A page is loaded into memory, so the rows are not streamed
+    verify(preparedStatement, never()).setFetchSize(anyInt());
+    verify(preparedStatement).close();
+  }
+
   @Test
   public void whenPutOperationExecuted_shouldReturnTrueAndCallQueryBuilder() throws Exception {
     // Arrange
@@ -610,4 +749,332 @@ public class JdbcServiceTest {
     verify(queryBuilder).upsertInto(any(), any(), any());
     verify(queryBuilder).deleteFrom(any(), any(), any());
   }
+
+  @Test
+  public void mutate_UnconditionalMutationsForDifferentRecordsGiven_ShouldExecuteThemInBatch()
+      throws Exception {
+    // Arrange
+    when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+
+    when(queryBuilder.upsertInto(any(), any(), any())).thenReturn(upsertQueryBuilder);
+    when(upsertQueryBuilder.values(any(), any(), any())).thenReturn(upsertQueryBuilder);
+    when(upsertQueryBuilder.build()).thenReturn(upsertQuery);
+    when(upsertQuery.sql()).thenReturn("UPSERT");
+    when(preparedStatement.executeBatch()).thenReturn(new int[] {1, 1, 1});
+
+    Put put1 =
+        Put.newBuilder()
+            .namespace(NAMESPACE)
+            .table(TABLE)
+            .partitionKey(Key.ofText("p1", "val1"))
+            .textValue("v1", "val2")
+            .build();
+    Put put2 = Put.newBuilder(put1).partitionKey(Key.ofText("p1", "val3")).build();
+    Put put3 = Put.newBuilder(put1).partitionKey(Key.ofText("p1", "val4")).build();
+
+    // Act
+    boolean ret = jdbcService.mutate(Arrays.asList(put1, put2, put3), connection);
+
+    // Assert
+    assertThat(ret).isTrue();
+    verify(connection).prepareStatement("UPSERT");
+    verify(upsertQuery, times(3)).bind(preparedStatement);
+    verify(preparedStatement, times(3)).addBatch();
+    verify(preparedStatement).executeBatch();
+    verify(preparedStatement, never()).executeUpdate();
+  }
+
+  @Test
+  public void mutatePrechecked_MutationsForDifferentPartitionsGiven_ShouldExecuteThemWithoutCheck()
+      throws Exception {
+    // Arrange
+    when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+
+    when(queryBuilder.upsertInto(any(), any(), any())).thenReturn(upsertQueryBuilder);
+    when(upsertQueryBuilder.values(any(), any(), any())).thenReturn(upsertQueryBuilder);
+    when(upsertQueryBuilder.build()).thenReturn(upsertQuery);
+    when(upsertQuery.sql()).thenReturn("UPSERT");
+    when(preparedStatement.executeBatch()).thenReturn(new int[] {1, 1});
+
+    Put put1 =
+        Put.newBuilder()
+            .namespace(NAMESPACE)
+            .table(TABLE)
+            .partitionKey(Key.ofText("p1", "val1"))
+            .textValue("v1", "val2")
+            .build();
+    Put put2 = Put.newBuilder(put1).partitionKey(Key.ofText("p1", "val3")).build();
+
+    // Act
+    boolean ret = jdbcService.mutatePrechecked(Arrays.asList(put1, put2), connection);
+
+    // Assert
+    assertThat(ret).isTrue();
+    verify(operationChecker, never()).check(anyList());
+    verify(upsertQuery, times(2)).bind(preparedStatement);
+    verify(preparedStatement).executeBatch();
+  }
+
+  @Test
+  public void mutate_MutationsForSameRecordGiven_ShouldExecuteThemInOrder() throws Exception {
+    // Arrange
+    when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+
+    when(queryBuilder.upsertInto(any(), any(), any())).thenReturn(upsertQueryBuilder);
+    when(upsertQueryBuilder.values(any(), any(), any())).thenReturn(upsertQueryBuilder);
+    when(upsertQueryBuilder.build()).thenReturn(upsertQuery);
+    when(upsertQuery.sql()).thenReturn("UPSERT");
+
+    Put put =
+        Put.newBuilder()
+            .namespace(NAMESPACE)
+            .table(TABLE)
+            .partitionKey(Key.ofText("p1", "val1"))
+            .textValue("v1", "val2")
+            .build();
+
+    // Act
+    boolean ret = jdbcService.mutate(Arrays.asList(put, put), connection);
+
+    // Assert
+    assertThat(ret).isTrue();
+    verify(connection, times(2)).prepareStatement("UPSERT");
+    verify(preparedStatement, times(2)).executeUpdate();
+    verify(preparedStatement, never()).executeBatch();
+  }
+
+  @Test
+  public void mutate_ConditionalMutationsForDifferentRecordsGiven_ShouldExecuteThemOneByOne()
+      throws Exception {
+    // Arrange
+    when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+
+    when(queryBuilder.update(any(), any(), any())).thenReturn(updateQueryBuilder);
+    when(updateQueryBuilder.set(any())).thenReturn(updateQueryBuilder);
+    when(updateQueryBuilder.where(any(), any())).thenReturn(updateQueryBuilder);
+    when(updateQueryBuilder.build()).thenReturn(updateQuery);
+    when(updateQuery.sql()).thenReturn("UPDATE");
+    when(preparedStatement.executeUpdate()).thenReturn(1);
+
+    Put put1 =
+        Put.newBuilder()
+            .namespace(NAMESPACE)
+            .table(TABLE)
+            .partitionKey(Key.ofText("p1", "val1"))
+            .textValue("v1", "val2")
+            .condition(ConditionBuilder.putIfExists())
+            .build();
+    Put put2 = Put.newBuilder(put1).partitionKey(Key.ofText("p1", "val3")).build();
+
+    // Act
+    boolean ret = jdbcService.mutate(Arrays.asList(put1, put2), connection);
+
+    // Assert
+    assertThat(ret).isTrue();
+    verify(connection).prepareStatement("UPDATE");
+    verify(preparedStatement, times(2)).executeUpdate();
+    verify(preparedStatement, never()).executeBatch();
+  }
+
+  @Test
+  public void mutate_ConditionalMutationNotApplied_ShouldReturnFalseWithoutExecutingRest()
+      throws Exception {
+    // Arrange
+    when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+
+    when(queryBuilder.update(any(), any(), any())).thenReturn(updateQueryBuilder);
+    when(updateQueryBuilder.set(any())).thenReturn(updateQueryBuilder);
+    when(updateQueryBuilder.where(any(), any())).thenReturn(updateQueryBuilder);
+    when(updateQueryBuilder.build()).thenReturn(updateQuery);
+    when(updateQuery.sql()).thenReturn("UPDATE");
+    when(preparedStatement.executeUpdate()).thenReturn(0);
+
+    Put put1 =
+        Put.newBuilder()
+            .namespace(NAMESPACE)
+            .table(TABLE)
+            .partitionKey(Key.ofText("p1", "val1"))
+            .textValue("v1", "val2")
+            .condition(ConditionBuilder.putIfExists())
+            .build();
+    Put put2 = Put.newBuilder(put1).partitionKey(Key.ofText("p1", "val3")).build();
+
+    // Act
+    boolean ret = jdbcService.mutate(Arrays.asList(put1, put2), connection);
+
+    // Assert
+    assertThat(ret).isFalse();
+    verify(preparedStatement).executeUpdate();
+  }
+
+  @Test
+  public void mutate_PutIfNotExistsFailsWithDuplicateKeyErrorInBatch_ShouldReturnFalse()
+      throws Exception {
+    // Arrange
+    when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+
+    when(queryBuilder.insertInto(any(), any(), any())).thenReturn(insertQueryBuilder);
+    when(insertQueryBuilder.values(any(), any(), any())).thenReturn(insertQueryBuilder);
+    when(insertQueryBuilder.build()).thenReturn(insertQuery);
+    when(insertQuery.sql()).thenReturn("INSERT");
+    BatchUpdateException batchUpdateException = new BatchUpdateException();
+    batchUpdateException.setNextException(sqlException);
+    when(preparedStatement.executeBatch()).thenThrow(batchUpdateException);
+    when(sqlException.getSQLState()).thenReturn("23000");
+
+    Put put1 =
+        Put.newBuilder()
+            .namespace(NAMESPACE)
+            .table(TABLE)
+            .partitionKey(Key.ofText("p1", "val1"))
+            .textValue("v1", "val2")
+            .condition(ConditionBuilder.putIfNotExists())
+            .build();
+    Put put2 = Put.newBuilder(put1).partitionKey(Key.ofText("p1", "val3")).build();
+
+    // Act
+    boolean ret = jdbcService.mutate(Arrays.asList(put1, put2), connection);
+
+    // Assert
+    assertThat(ret).isFalse();
+  }
+
+  @Test
+  public void bulkLoad_PutsWithDifferentColumns_ShouldInsertSpecifiedColumnsInBatch()
+      throws Exception {
+    // Arrange
+    when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+    Put put1 =
+        Put.newBuilder()
+            .namespace(NAMESPACE)
+            .table(TABLE)
+            .partitionKey(Key.ofText("p1", "val1"))
+            .textValue("v1", "val2")
+            .build();
+    // A put without its target is applied to the table
+    Put put2 = new Put(Key.ofText("p1", "val3"));
+
+    // Act
+    boolean ret = jdbcService.bulkLoad(NAMESPACE, TABLE, Arrays.asList(put1, put2), connection);
+
+    // Assert
+    assertThat(ret).isTrue();
+    verify(connection).prepareStatement("INSERT INTO `ns`.`tbl` (`p1`,`v1`) VALUES (?,?)");
+    verify(preparedStatement).setString(1, "val1");
+    verify(preparedStatement).setString(2, "val2");
+    verify(preparedStatement).setString(1, "val3");
+    verify(preparedStatement).setNull(eq(2), anyInt());
+    verify(preparedStatement, times(2)).addBatch();
+    verify(preparedStatement).executeBatch();
+    verify(operationChecker, times(2)).check(any(Put.class));
+  }
+
+  @Test
+  public void bulkLoad_DuplicateKeyErrorInBatch_ShouldReturnFalse() throws Exception {
+    // Arrange
+    when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+    BatchUpdateException batchUpdateException = new BatchUpdateException();
+    batchUpdateException.setNextException(sqlException);
+    when(preparedStatement.executeBatch()).thenThrow(batchUpdateException);
+    when(sqlException.getSQLState()).thenReturn("23000");
+    Put put =
+        Put.newBuilder()
+            .namespace(NAMESPACE)
+            .table(TABLE)
+            .partitionKey(Key.ofText("p1", "val1"))
+            .build();
+
+    // Act
+    boolean ret =
+        jdbcService.bulkLoad(NAMESPACE, TABLE, Collections.singletonList(put), connection);
+
+    // Assert
+    assertThat(ret).isFalse();
+  }
+
+  @Test
+  public void bulkLoad_ConditionalPut_ShouldThrowIllegalArgumentException() {
+    // Arrange
+    Put put =
+        Put.newBuilder()
+            .namespace(NAMESPACE)
+            .table(TABLE)
+            .partitionKey(Key.ofText("p1", "val1"))
+            .condition(ConditionBuilder.putIfNotExists())
+            .build();
+
+    // Act Assert
+    assertThatThrownBy(
+            () ->
+                jdbcService.bulkLoad(NAMESPACE, TABLE, Collections.singletonList(put), connection))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void bulkLoad_PutForAnotherTable_ShouldThrowIllegalArgumentException() {
+    // Arrange
+    Put put =
+        Put.newBuilder()
+            .namespace(NAMESPACE)
+            .table("another_tbl")
+            .partitionKey(Key.ofText("p1", "val1"))
+            .build();
+
+    // Act Assert
+    assertThatThrownBy(
+            () ->
+                jdbcService.bulkLoad(NAMESPACE, TABLE, Collections.singletonList(put), connection))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void prepareStatements_ShouldPrepareStatementsOfCommonOperations() throws Exception {
+    // Arrange
+    when(tableMetadataManager.getTableMetadata(NAMESPACE, TABLE))
+        .thenReturn(
+            TableMetadata.newBuilder()
+                .addColumn("p1", DataType.TEXT)
+                .addColumn("c1", DataType.INT)
+                .addColumn("v1", DataType.TEXT)
+                .addPartitionKey("p1")
+                .addClusteringKey("c1")
+                .build());
+    when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+    RdbEngineStrategy rdbEngine = RdbEngine.createRdbEngineStrategy(RdbEngine.MYSQL);
+    JdbcService service =
+        new JdbcService(
+            tableMetadataManager,
+            operationChecker,
+            rdbEngine,
+            new QueryBuilder(rdbEngine),
+            JdbcConfig.DEFAULT_SCAN_FETCH_SIZE);
+
+    // Act
+    service.prepareStatements(NAMESPACE, TABLE, connection);
+
+    // Assert
+    ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+    verify(connection, times(4)).prepareStatement(captor.capture());
+    assertThat(captor.getAllValues())
+        .containsExactly(
+            "SELECT * FROM `ns`.`tbl` WHERE `p1`=? AND `c1`=?",
+            "SELECT * FROM `ns`.`tbl` WHERE `p1`=? ORDER BY `c1` ASC",
+            "INSERT INTO `ns`.`tbl` (`p1`,`c1`,`v1`) VALUES (?,?,?) ON DUPLICATE KEY UPDATE `v1`=?",
+            "DELETE FROM `ns`.`tbl` WHERE `p1`=? AND `c1`=?");
+    verify(preparedStatement, times(4)).close();
+    verify(preparedStatement, never()).execute();
+    verify(preparedStatement, never()).executeQuery();
+    verify(preparedStatement, never()).executeUpdate();
+  }
+
+  @Test
+  public void prepareStatements_NonExistingTableGiven_ShouldThrowIllegalArgumentException()
+      throws ExecutionException {
+    // Arrange
+    when(tableMetadataManager.getTableMetadata(NAMESPACE, TABLE)).thenReturn(null);
+
+    // Act Assert
+    assertThatThrownBy(() -> jdbcService.prepareStatements(NAMESPACE, TABLE, connection))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
 }
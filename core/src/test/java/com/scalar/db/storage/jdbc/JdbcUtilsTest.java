@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
 import com.scalar.db.config.DatabaseConfig;
+import com.zaxxer.hikari.HikariConfig;
 import java.sql.Connection;
 import java.sql.Driver;
 import java.sql.SQLException;
@@ -107,6 +108,40 @@ public class JdbcUtilsTest {
     dataSource.close();
   }
 
+  @Test
+  public void initDataSourceForReadReplica_ShouldReturnProperDataSource() throws SQLException {
+    // Arrange
+    Properties properties = new Properties();
+    properties.setProperty(DatabaseConfig.CONTACT_POINTS, "jdbc:mysql://localhost:3306/");
+    properties.setProperty(DatabaseConfig.USERNAME, "root");
+    properties.setProperty(DatabaseConfig.PASSWORD, "mysql");
+    properties.setProperty(DatabaseConfig.STORAGE, "jdbc");
+    properties.setProperty(JdbcConfig.CONNECTION_POOL_MIN_IDLE, "10");
+    properties.setProperty(JdbcConfig.CONNECTION_POOL_MAX_IDLE, "20");
+    properties.setProperty(JdbcConfig.CONNECTION_POOL_MAX_TOTAL, "30");
+
+    JdbcConfig config = new JdbcConfig(new DatabaseConfig(properties));
+    Driver driver = new com.mysql.cj.jdbc.Driver();
+    when(rdbEngine.getDriver()).thenReturn(driver);
+
+    // Act
+    BasicDataSource dataSource =
+        JdbcUtils.initDataSourceForReadReplica(config, rdbEngine, "jdbc:mysql://replica:3306/");
+
+    // Assert
+    assertThat(dataSource.getDriver()).isEqualTo(driver);
+    assertThat(dataSource.getUrl()).isEqualTo("jdbc:mysql://replica:3306/");
+    assertThat(dataSource.getUsername()).isEqualTo("root");
+    assertThat(dataSource.getPassword()).isEqualTo("mysql");
+    assertThat(dataSource.getDefaultReadOnly()).isTrue();
+
+    assertThat(dataSource.getMinIdle()).isEqualTo(10);
+    assertThat(dataSource.getMaxIdle()).isEqualTo(20);
+    assertThat(dataSource.getMaxTotal()).isEqualTo(30);
+
+    dataSource.close();
+  }
+
   @Test
   public void initDataSourceForTableMetadata_ShouldReturnProperDataSource() throws SQLException {
     // Arrange
@@ -173,4 +208,140 @@ public class JdbcUtilsTest {
 
     adminDataSource.close();
   }
+
+  @Test
+  public void initConnectionPool_DefaultConnectionPoolType_ShouldReturnDbcp2ConnectionPool()
+      throws SQLException {
+    // Arrange
+    Properties properties = new Properties();
+    properties.setProperty(DatabaseConfig.CONTACT_POINTS, "jdbc:mysql://localhost:3306/");
+    properties.setProperty(DatabaseConfig.STORAGE, "jdbc");
+
+    JdbcConfig config = new JdbcConfig(new DatabaseConfig(properties));
+    when(rdbEngine.getDriver()).thenReturn(new com.mysql.cj.jdbc.Driver());
+
+    // Act
+    JdbcConnectionPool connectionPool = JdbcUtils.initConnectionPool(config, rdbEngine);
+
+    // Assert
+    assertThat(connectionPool).isInstanceOf(Dbcp2ConnectionPool.class);
+
+    connectionPool.close();
+  }
+
+  @Test
+  public void createHikariConfig_NonTransactional_ShouldReturnProperConfig() {
+    // Arrange
+    Properties properties = new Properties();
+    properties.setProperty(DatabaseConfig.CONTACT_POINTS, "jdbc:mysql://localhost:3306/");
+    properties.setProperty(DatabaseConfig.USERNAME, "root");
+    properties.setProperty(DatabaseConfig.PASSWORD, "mysql");
+    properties.setProperty(DatabaseConfig.STORAGE, "jdbc");
+    properties.setProperty(JdbcConfig.CONNECTION_POOL_TYPE, "HIKARI");
+    properties.setProperty(JdbcConfig.ISOLATION_LEVEL, "READ_COMMITTED");
+    properties.setProperty(JdbcConfig.CONNECTION_POOL_MIN_IDLE, "10");
+    properties.setProperty(JdbcConfig.CONNECTION_POOL_MAX_TOTAL, "30");
+
+    JdbcConfig config = new JdbcConfig(new DatabaseConfig(properties));
+    when(rdbEngine.getDriver()).thenReturn(new com.mysql.cj.jdbc.Driver());
+
+    // Act
+    HikariConfig hikariConfig = JdbcUtils.createHikariConfig(config, rdbEngine, false);
+
+    // Assert
+    assertThat(hikariConfig.getDriverClassName())
+        .isEqualTo(com.mysql.cj.jdbc.Driver.class.getName());
+    assertThat(hikariConfig.getJdbcUrl()).isEqualTo("jdbc:mysql://localhost:3306/");
+    assertThat(hikariConfig.getUsername()).isEqualTo("root");
+    assertThat(hikariConfig.getPassword()).isEqualTo("mysql");
+
+    assertThat(hikariConfig.isAutoCommit()).isEqualTo(true);
+    assertThat(hikariConfig.getTransactionIsolation()).isEqualTo("TRANSACTION_READ_COMMITTED");
+
+    assertThat(hikariConfig.getMinimumIdle()).isEqualTo(10);
+    assertThat(hikariConfig.getMaximumPoolSize()).isEqualTo(30);
+  }
+
+  @Test
+  public void createHikariConfig_Transactional_ShouldReturnProperConfig() {
+    // Arrange
+    Properties properties = new Properties();
+    properties.setProperty(DatabaseConfig.CONTACT_POINTS, "jdbc:postgresql://localhost:5432/");
+    properties.setProperty(DatabaseConfig.STORAGE, "jdbc");
+    properties.setProperty(JdbcConfig.CONNECTION_POOL_TYPE, "HIKARI");
+    properties.setProperty(JdbcConfig.CONNECTION_POOL_MAX_TOTAL, "-1");
+
+    JdbcConfig config = new JdbcConfig(new DatabaseConfig(properties));
+    when(rdbEngine.getDriver()).thenReturn(new org.postgresql.Driver());
+
+    // Act
+    HikariConfig hikariConfig = JdbcUtils.createHikariConfig(config, rdbEngine, true);
+
+    // Assert
+    assertThat(hikariConfig.getDriverClassName()).isEqualTo(org.postgresql.Driver.class.getName());
+    assertThat(hikariConfig.getJdbcUrl()).isEqualTo("jdbc:postgresql://localhost:5432/");
+
+    assertThat(hikariConfig.isAutoCommit()).isEqualTo(false);
+    assertThat(hikariConfig.getTransactionIsolation()).isEqualTo("TRANSACTION_SERIALIZABLE");
+
+    assertThat(hikariConfig.getMaximumPoolSize())
+        .isEqualTo(JdbcConfig.DEFAULT_CONNECTION_POOL_MAX_TOTAL);
+  }
+
+  @Test
+  public void createHikariConfig_MysqlWithoutScanFetchSize_ShouldNotEnableCursorFetch() {
+    // Arrange
+    Properties properties = new Properties();
+    properties.setProperty(DatabaseConfig.CONTACT_POINTS, "jdbc:mysql://localhost:3306/");
+    properties.setProperty(DatabaseConfig.STORAGE, "jdbc");
+    properties.setProperty(JdbcConfig.CONNECTION_POOL_TYPE, "HIKARI");
+
+    JdbcConfig config = new JdbcConfig(new DatabaseConfig(properties));
+    RdbEngineStrategy mysql = RdbEngine.createRdbEngineStrategy(RdbEngine.MYSQL);
+
+    // Act
+    HikariConfig hikariConfig = JdbcUtils.createHikariConfig(config, mysql, false);
+
+    // Assert
+    assertThat(hikariConfig.getDataSourceProperties()).doesNotContainKey("useCursorFetch");
+  }
+
+  @Test
+  public void createHikariConfig_MysqlWithScanFetchSize_ShouldEnableCursorFetch() {
+    // Arrange
+    Properties properties = new Properties();
+    properties.setProperty(DatabaseConfig.CONTACT_POINTS, "jdbc:mysql://localhost:3306/");
+    properties.setProperty(DatabaseConfig.STORAGE, "jdbc");
+    properties.setProperty(JdbcConfig.CONNECTION_POOL_TYPE, "HIKARI");
+    properties.setProperty(JdbcConfig.SCAN_FETCH_SIZE, "100");
+
+    JdbcConfig config = new JdbcConfig(new DatabaseConfig(properties));
+    RdbEngineStrategy mysql = RdbEngine.createRdbEngineStrategy(RdbEngine.MYSQL);
+
+    // Act
+    HikariConfig hikariConfig = JdbcUtils.createHikariConfig(config, mysql, false);
+
+    // Assert
+    assertThat(hikariConfig.getDataSourceProperties()).containsEntry("useCursorFetch", "true");
+  }
+
+  @Test
+  public void createHikariConfig_MysqlWithCursorFetchInJdbcUrl_ShouldNotOverrideIt() {
+    // Arrange
+    Properties properties = new Properties();
+    properties.setProperty(
+        DatabaseConfig.CONTACT_POINTS, "jdbc:mysql://localhost:3306/?useCursorFetch=false");
+    properties.setProperty(DatabaseConfig.STORAGE, "jdbc");
+    properties.setProperty(JdbcConfig.CONNECTION_POOL_TYPE, "HIKARI");
+    properties.setProperty(JdbcConfig.SCAN_FETCH_SIZE, "100");
+
+    JdbcConfig config = new JdbcConfig(new DatabaseConfig(properties));
+    RdbEngineStrategy mysql = RdbEngine.createRdbEngineStrategy(RdbEngine.MYSQL);
+
+    // Act
+    HikariConfig hikariConfig = JdbcUtils.createHikariConfig(config, mysql, false);
+
+    // Assert
+    assertThat(hikariConfig.getDataSourceProperties()).doesNotContainKey("useCursorFetch");
+  }
 }
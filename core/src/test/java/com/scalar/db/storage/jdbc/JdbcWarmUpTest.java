@@ -0,0 +1,100 @@
+package com.scalar.db.storage.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.scalar.db.common.TableMetadataManager;
+import com.scalar.db.exception.storage.ExecutionException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class JdbcWarmUpTest {
+
+  @Mock private JdbcConnectionPool connectionPool;
+  @Mock private TableMetadataManager tableMetadataManager;
+  @Mock private JdbcService jdbcService;
+  @Mock private Connection connection1;
+  @Mock private Connection connection2;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    MockitoAnnotations.openMocks(this).close();
+
+    // Arrange
+    when(connectionPool.getConnection()).thenReturn(connection1, connection2);
+  }
+
+  @Test
+  public void constructor_ShouldLoadMetadataAndPrepareStatementsOnEachConnection()
+      throws Exception {
+    // Arrange
+
+    // Act
+    try (JdbcWarmUp warmUp =
+        new JdbcWarmUp(
+            Arrays.asList("ns1.tbl1", "ns2.tbl2"),
+            2,
+            2,
+            connectionPool,
+            tableMetadataManager,
+            jdbcService)) {
+      warmUp.getCompletion().get(10, TimeUnit.SECONDS);
+
+      // Assert
+      assertThat(warmUp.isDone()).isTrue();
+      verify(tableMetadataManager).loadTablesMetadata("ns1");
+      verify(tableMetadataManager).loadTablesMetadata("ns2");
+      verify(tableMetadataManager).getTableMetadata("ns1", "tbl1");
+      verify(tableMetadataManager).getTableMetadata("ns2", "tbl2");
+      verify(connectionPool, times(2)).getConnection();
+      verify(jdbcService).prepareStatements("ns1", "tbl1", connection1);
+      verify(jdbcService).prepareStatements("ns2", "tbl2", connection1);
+      verify(jdbcService).prepareStatements("ns1", "tbl1", connection2);
+      verify(jdbcService).prepareStatements("ns2", "tbl2", connection2);
+      verify(connection1).close();
+      verify(connection2).close();
+    }
+  }
+
+  @Test
+  public void constructor_FailuresOccurred_ShouldContinueAndCompleteWarmUp() throws Exception {
+    // Arrange
+    when(tableMetadataManager.getTableMetadata("ns1", "tbl1"))
+        .thenThrow(ExecutionException.class);
+    doThrow(SQLException.class)
+        .when(jdbcService)
+        .prepareStatements(eq("ns1"), eq("tbl1"), any());
+    when(connectionPool.getConnection())
+        .thenReturn(connection1)
+        .thenThrow(SQLException.class);
+
+    // Act
+    try (JdbcWarmUp warmUp =
+        new JdbcWarmUp(
+            Arrays.asList("ns1.tbl1", "ns2.tbl2"),
+            2,
+            2,
+            connectionPool,
+            tableMetadataManager,
+            jdbcService)) {
+      warmUp.getCompletion().get(10, TimeUnit.SECONDS);
+
+      // Assert
+      assertThat(warmUp.isDone()).isTrue();
+      verify(tableMetadataManager).getTableMetadata("ns2", "tbl2");
+      verify(jdbcService).prepareStatements("ns2", "tbl2", connection1);
+      verify(connection1).close();
+    }
+  }
+}
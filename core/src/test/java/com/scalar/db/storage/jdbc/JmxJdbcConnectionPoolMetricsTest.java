@@ -0,0 +1,78 @@
+package com.scalar.db.storage.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.scalar.db.util.metrics.HistogramSnapshot;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JmxJdbcConnectionPoolMetricsTest {
+  private MBeanServer mBeanServer;
+  private JdbcConnectionPool connectionPool;
+  private JmxJdbcConnectionPoolMetrics metrics;
+
+  @BeforeEach
+  public void setUp() {
+    mBeanServer = MBeanServerFactory.newMBeanServer();
+    connectionPool = mock(JdbcConnectionPool.class);
+    metrics = new JmxJdbcConnectionPoolMetrics("test", connectionPool, mBeanServer);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    metrics.close();
+  }
+
+  @Test
+  public void constructor_ShouldRegisterMXBean() {
+    // Arrange
+    ObjectName objectName = metrics.getObjectName();
+
+    // Act Assert
+    assertThat(objectName).isNotNull();
+    assertThat(mBeanServer.isRegistered(objectName)).isTrue();
+    assertThat(objectName.getKeyProperty("type")).isEqualTo("JdbcConnectionPool");
+  }
+
+  @Test
+  public void close_ShouldUnregisterMXBean() {
+    // Arrange
+    ObjectName objectName = metrics.getObjectName();
+
+    // Act
+    metrics.close();
+
+    // Assert
+    assertThat(mBeanServer.isRegistered(objectName)).isFalse();
+  }
+
+  @Test
+  public void getAttribute_ShouldExposeCurrentMetricsOfPoolThroughJmx() throws JMException {
+    // Arrange
+    when(connectionPool.getMetrics())
+        .thenReturn(
+            new JdbcConnectionPoolMetrics(
+                5, 3, 10, new HistogramSnapshot(2, 1.5, 1.0, 2.0, 2.0, 2.0, 2.0)));
+    ObjectName objectName = metrics.getObjectName();
+
+    // Act
+    Object activeConnections = mBeanServer.getAttribute(objectName, "ActiveConnections");
+    Object utilization = mBeanServer.getAttribute(objectName, "Utilization");
+    CompositeData waitTimeMillis =
+        (CompositeData) mBeanServer.getAttribute(objectName, "WaitTimeMillis");
+
+    // Assert
+    assertThat(activeConnections).isEqualTo(5);
+    assertThat(utilization).isEqualTo(0.5);
+    assertThat(waitTimeMillis.get("count")).isEqualTo(2L);
+    assertThat(waitTimeMillis.get("max")).isEqualTo(2.0);
+  }
+}
@@ -0,0 +1,208 @@
+package com.scalar.db.storage.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableMap;
+import com.scalar.db.api.Result;
+import com.scalar.db.api.Scan;
+import com.scalar.db.api.ScanBuilder;
+import com.scalar.db.api.TableMetadata;
+import com.scalar.db.common.ResultImpl;
+import com.scalar.db.exception.storage.ExecutionException;
+import com.scalar.db.io.Column;
+import com.scalar.db.io.DataType;
+import com.scalar.db.io.IntColumn;
+import com.scalar.db.io.Key;
+import com.scalar.db.io.TextColumn;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class PaginatedScannerTest {
+
+  private static final String NAMESPACE = "ns";
+  private static final String TABLE = "tbl";
+  private static final TableMetadata METADATA =
+      TableMetadata.newBuilder()
+          .addColumn("p", DataType.INT)
+          .addColumn("c", DataType.INT)
+          .addColumn("v", DataType.TEXT)
+          .addPartitionKey("p")
+          .addClusteringKey("c")
+          .build();
+  private static final List<Scan.Ordering> KEY_ORDERINGS =
+      Collections.singletonList(Scan.Ordering.asc("c"));
+
+  @Mock private JdbcService jdbcService;
+  @Mock private Connection connection;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    MockitoAnnotations.openMocks(this).close();
+  }
+
+  private Result createResult(int c) {
+    return new ResultImpl(
+        ImmutableMap.of(
+            "p", IntColumn.of("p", 0), "c", IntColumn.of("c", c), "v", TextColumn.of("v", "v" + c)),
+        METADATA);
+  }
+
+  private PaginatedScanner createScanner(Scan scan, int pageSize) {
+    return new PaginatedScanner(
+        jdbcService,
+        () -> connection,
+        scan,
+        METADATA,
+        KEY_ORDERINGS,
+        Collections.emptyList(),
+        pageSize);
+  }
+
+  private ScanBuilder.BuildableScanWithPartitionKey prepareScan() {
+    return Scan.newBuilder().namespace(NAMESPACE).table(TABLE).partitionKey(Key.ofInt("p", 0));
+  }
+
+  private List<Integer> getClusteringKeys(List<Result> results) {
+    return results.stream().map(r -> r.getInt("c")).collect(Collectors.toList());
+  }
+
+  @Test
+  public void all_ShouldFetchPagesAfterLastKeysAndReleaseConnectionForEachPage()
+      throws SQLException, ExecutionException {
+    // Arrange
+    Scan scan = prepareScan().build();
+    List<Column<?>> lastKeyOfFirstPage = Collections.singletonList(IntColumn.of("c", 2));
+    when(jdbcService.scanPage(
+            any(), any(), anyList(), anyList(), eq(Collections.emptyList()), anyInt(), any()))
+        .thenReturn(Arrays.asList(createResult(1), createResult(2)));
+    when(jdbcService.scanPage(
+            any(), any(), anyList(), anyList(), eq(lastKeyOfFirstPage), anyInt(), any()))
+        .thenReturn(Collections.singletonList(createResult(3)));
+    PaginatedScanner scanner = createScanner(scan, 2);
+
+    // Act
+    List<Result> actual = scanner.all();
+
+    // Assert
+    assertThat(getClusteringKeys(actual)).containsExactly(1, 2, 3);
+    verify(jdbcService)
+        .scanPage(
+            scan,
+            METADATA,
+            Collections.emptyList(),
+            KEY_ORDERINGS,
+            Collections.emptyList(),
+            2,
+            connection);
+    verify(jdbcService)
+        .scanPage(
+            scan,
+            METADATA,
+            Collections.emptyList(),
+            KEY_ORDERINGS,
+            lastKeyOfFirstPage,
+            2,
+            connection);
+    verify(connection, times(2)).close();
+    assertThat(scanner.getContinuationToken()).isEmpty();
+  }
+
+  @Test
+  public void one_WithLimit_ShouldStopAtLimitAndReturnContinuationTokenForRest()
+      throws SQLException, ExecutionException {
+    // Arrange
+    Scan scan = prepareScan().limit(3).build();
+    when(jdbcService.scanPage(
+            any(), any(), anyList(), anyList(), eq(Collections.emptyList()), anyInt(), any()))
+        .thenReturn(Arrays.asList(createResult(1), createResult(2)));
+    when(jdbcService.scanPage(
+            any(),
+            any(),
+            anyList(),
+            anyList(),
+            eq(Collections.singletonList(IntColumn.of("c", 2))),
+            anyInt(),
+            any()))
+        .thenReturn(Collections.singletonList(createResult(3)));
+    PaginatedScanner scanner = createScanner(scan, 2);
+
+    // Act
+    List<Result> actual = scanner.all();
+    Optional<String> continuationToken = scanner.getContinuationToken();
+
+    // Assert
+    assertThat(getClusteringKeys(actual)).containsExactly(1, 2, 3);
+    // The second page fetches only the rest of the limit
+    verify(jdbcService)
+        .scanPage(
+            any(),
+            any(),
+            anyList(),
+            anyList(),
+            eq(Collections.singletonList(IntColumn.of("c", 2))),
+            eq(1),
+            any());
+    assertThat(continuationToken).isPresent();
+    assertThat(
+            ContinuationToken.decode(
+                continuationToken.get(), NAMESPACE, TABLE, KEY_ORDERINGS, METADATA))
+        .containsExactly(IntColumn.of("c", 3));
+  }
+
+  @Test
+  public void one_WithProjections_ShouldFetchKeyColumnsAndReturnProjectedResults()
+      throws SQLException, ExecutionException {
+    // Arrange
+    Scan scan = prepareScan().projections("v").build();
+    when(jdbcService.scanPage(any(), any(), anyList(), anyList(), anyList(), anyInt(), any()))
+        .thenReturn(Collections.singletonList(createResult(1)));
+    PaginatedScanner scanner = createScanner(scan, 2);
+
+    // Act
+    Optional<Result> actual = scanner.one();
+
+    // Assert
+    assertThat(actual).isPresent();
+    assertThat(actual.get().getContainedColumnNames()).containsExactly("v");
+    verify(jdbcService)
+        .scanPage(
+            any(),
+            any(),
+            eq(Arrays.asList("v", "c")),
+            anyList(),
+            eq(Collections.emptyList()),
+            eq(2),
+            any());
+  }
+
+  @Test
+  public void one_SQLExceptionThrown_ShouldThrowExecutionExceptionAndReleaseConnection()
+      throws SQLException {
+    // Arrange
+    Scan scan = prepareScan().build();
+    when(jdbcService.scanPage(any(), any(), anyList(), anyList(), anyList(), anyInt(), any()))
+        .thenThrow(SQLException.class);
+    PaginatedScanner scanner = createScanner(scan, 2);
+
+    // Act Assert
+    assertThatThrownBy(scanner::one).isInstanceOf(ExecutionException.class);
+    verify(connection).close();
+  }
+}
@@ -1,11 +1,29 @@
 package com.scalar.db.storage.jdbc;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import com.google.common.io.CharStreams;
+import com.scalar.db.api.Put;
 import com.scalar.db.api.Scan.Ordering.Order;
 import com.scalar.db.api.TableMetadata;
 import com.scalar.db.io.DataType;
+import com.scalar.db.io.Key;
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
 
 class RdbEnginePostgresqlTest {
 
@@ -55,4 +73,90 @@ class RdbEnginePostgresqlTest {
     assertThat(sqls).hasSize(1);
     assertThat(sqls[0]).startsWith("CREATE UNIQUE INDEX ");
   }
+
+  @Test
+  void setFetchSize_AutoCommitConnectionGiven_ShouldDisableAutoCommitAndSetFetchSize()
+      throws SQLException {
+    // Arrange
+    RdbEngineStrategy rdbEngine = new RdbEnginePostgresql();
+    Connection connection = mock(Connection.class);
+    PreparedStatement preparedStatement = mock(PreparedStatement.class);
+    when(connection.getAutoCommit()).thenReturn(true);
+
+    // Act
+    rdbEngine.setFetchSize(connection, preparedStatement, 100);
+
+    // Assert
+    verify(connection).setAutoCommit(false);
+    verify(preparedStatement).setFetchSize(100);
+  }
+
+  @Test
+  void setFetchSize_NonAutoCommitConnectionGiven_ShouldOnlySetFetchSize() throws SQLException {
+    // Arrange
+    RdbEngineStrategy rdbEngine = new RdbEnginePostgresql();
+    Connection connection = mock(Connection.class);
+    PreparedStatement preparedStatement = mock(PreparedStatement.class);
+    when(connection.getAutoCommit()).thenReturn(false);
+
+    // Act
+    rdbEngine.setFetchSize(connection, preparedStatement, 100);
+
+    // Assert
+    verify(connection, never()).setAutoCommit(anyBoolean());
+    verify(preparedStatement).setFetchSize(100);
+  }
+
+  @Test
+  void bulkLoad_ShouldCopyRowsInTextFormat() throws Exception {
+    // Arrange
+    RdbEngineStrategy rdbEngine = new RdbEnginePostgresql();
+    Connection connection = mock(Connection.class);
+    PGConnection pgConnection = mock(PGConnection.class);
+    CopyManager copyManager = mock(CopyManager.class);
+    when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+    when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+    when(copyManager.copyIn(any(), any(Reader.class))).thenReturn(2L);
+    TableMetadata metadata =
+        TableMetadata.newBuilder()
+            .addColumn("pk", DataType.INT)
+            .addColumn("bool", DataType.BOOLEAN)
+            .addColumn("txt", DataType.TEXT)
+            .addColumn("blb", DataType.BLOB)
+            .addPartitionKey("pk")
+            .build();
+    BulkLoadBatch batch =
+        new BulkLoadBatch(
+            "ns",
+            "tbl",
+            metadata,
+            Arrays.asList(
+                Put.newBuilder()
+                    .namespace("ns")
+                    .table("tbl")
+                    .partitionKey(Key.ofInt("pk", 1))
+                    .booleanValue("bool", true)
+                    .textValue("txt", "a\tb")
+                    .blobValue("blb", new byte[] {1, (byte) 0xab})
+                    .build(),
+                Put.newBuilder()
+                    .namespace("ns")
+                    .table("tbl")
+                    .partitionKey(Key.ofInt("pk", 2))
+                    .textValue("txt", null)
+                    .build()));
+
+    // Act
+    long actual = rdbEngine.bulkLoad(connection, batch);
+
+    // Assert
+    assertThat(actual).isEqualTo(2);
+    ArgumentCaptor<Reader> captor = ArgumentCaptor.forClass(Reader.class);
+    verify(copyManager)
+        .copyIn(
+            eq("COPY \"ns\".\"tbl\" (\"pk\",\"bool\",\"txt\",\"blb\") FROM STDIN"),
+            captor.capture());
+    assertThat(CharStreams.toString(captor.getValue()))
+        .isEqualTo("1\ttrue\ta\\tb\t\\\\x01ab\n2\t\\N\t\\N\t\\N\n");
+  }
 }
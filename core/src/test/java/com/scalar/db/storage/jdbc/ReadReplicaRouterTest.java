@@ -0,0 +1,138 @@
+package com.scalar.db.storage.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.OptionalLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class ReadReplicaRouterTest {
+
+  private static final long MAX_LAG_MILLIS = 1000;
+
+  @Mock private JdbcConnectionPool connectionPool1;
+  @Mock private JdbcConnectionPool connectionPool2;
+  @Mock private Connection connection1;
+  @Mock private Connection connection2;
+  @Mock private RdbEngineStrategy rdbEngine;
+
+  private ReadReplicaRouter router;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    MockitoAnnotations.openMocks(this).close();
+
+    // Arrange
+    when(connectionPool1.getConnection()).thenReturn(connection1);
+    when(connectionPool2.getConnection()).thenReturn(connection2);
+    when(connection1.isValid(anyInt())).thenReturn(true);
+    when(connection2.isValid(anyInt())).thenReturn(true);
+    when(rdbEngine.getReplicationLagMillis(any())).thenReturn(OptionalLong.of(0));
+
+    // Disable the background health check to call it explicitly
+    router =
+        new ReadReplicaRouter(
+            Arrays.asList(connectionPool1, connectionPool2), rdbEngine, MAX_LAG_MILLIS, 0);
+  }
+
+  @Test
+  public void getConnection_ShouldBalanceConnectionsAcrossReplicas() {
+    // Arrange
+
+    // Act
+    Connection actual1 = router.getConnection();
+    Connection actual2 = router.getConnection();
+    Connection actual3 = router.getConnection();
+
+    // Assert
+    assertThat(actual1).isEqualTo(connection1);
+    assertThat(actual2).isEqualTo(connection2);
+    assertThat(actual3).isEqualTo(connection1);
+  }
+
+  @Test
+  public void getConnection_ReplicaFailedToConnect_ShouldSkipReplicaUntilHealthCheckSucceeds()
+      throws SQLException {
+    // Arrange
+    when(connectionPool1.getConnection()).thenThrow(SQLException.class).thenReturn(connection1);
+
+    // Act Assert
+    assertThat(router.getConnection()).isEqualTo(connection2);
+    assertThat(router.getConnection()).isEqualTo(connection2);
+    assertThat(router.getConnection()).isEqualTo(connection2);
+
+    router.checkHealth();
+
+    assertThat(Arrays.asList(router.getConnection(), router.getConnection()))
+        .containsExactlyInAnyOrder(connection1, connection2);
+  }
+
+  @Test
+  public void checkHealth_ReplicaLaggingBehind_ShouldSkipReplicaUntilItCatchesUp()
+      throws SQLException {
+    // Arrange
+    when(rdbEngine.getReplicationLagMillis(connection1))
+        .thenReturn(OptionalLong.of(MAX_LAG_MILLIS + 1))
+        .thenReturn(OptionalLong.of(MAX_LAG_MILLIS));
+
+    // Act Assert
+    router.checkHealth();
+    assertThat(router.getConnection()).isEqualTo(connection2);
+    assertThat(router.getConnection()).isEqualTo(connection2);
+
+    router.checkHealth();
+    assertThat(router.getConnection()).isEqualTo(connection1);
+  }
+
+  @Test
+  public void checkHealth_ReplicationLagUnknown_ShouldCheckConnectionValidity()
+      throws SQLException {
+    // Arrange
+    when(rdbEngine.getReplicationLagMillis(any())).thenReturn(OptionalLong.empty());
+    when(connection2.isValid(anyInt())).thenReturn(false);
+
+    // Act
+    router.checkHealth();
+
+    // Assert
+    assertThat(router.getConnection()).isEqualTo(connection1);
+    assertThat(router.getConnection()).isEqualTo(connection1);
+  }
+
+  @Test
+  public void getConnection_NoReplicaAvailable_ShouldReturnNull() throws SQLException {
+    // Arrange
+    when(connectionPool1.getConnection()).thenThrow(SQLException.class);
+    when(connectionPool2.getConnection()).thenThrow(SQLException.class);
+
+    // Act
+    router.checkHealth();
+    Connection actual = router.getConnection();
+
+    // Assert
+    assertThat(actual).isNull();
+  }
+
+  @Test
+  public void close_ShouldCloseDataSources() throws SQLException {
+    // Arrange
+
+    // Act
+    router.close();
+
+    // Assert
+    verify(connectionPool1).close();
+    verify(connectionPool2).close();
+    verify(rdbEngine, never()).getReplicationLagMillis(any());
+  }
+}
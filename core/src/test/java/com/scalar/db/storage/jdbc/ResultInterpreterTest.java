@@ -1,7 +1,11 @@
 package com.scalar.db.storage.jdbc;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.scalar.db.api.Result;
@@ -12,6 +16,7 @@ import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -56,18 +61,31 @@ public class ResultInterpreterTest {
     MockitoAnnotations.openMocks(this).close();
   }
 
+  private void mockColumnPositions() throws SQLException {
+    when(resultSet.findColumn(ANY_NAME_1)).thenReturn(1);
+    when(resultSet.findColumn(ANY_NAME_2)).thenReturn(2);
+    when(resultSet.findColumn(ANY_COLUMN_NAME_1)).thenReturn(3);
+    when(resultSet.findColumn(ANY_COLUMN_NAME_2)).thenReturn(4);
+    when(resultSet.findColumn(ANY_COLUMN_NAME_3)).thenReturn(5);
+    when(resultSet.findColumn(ANY_COLUMN_NAME_4)).thenReturn(6);
+    when(resultSet.findColumn(ANY_COLUMN_NAME_5)).thenReturn(7);
+    when(resultSet.findColumn(ANY_COLUMN_NAME_6)).thenReturn(8);
+    when(resultSet.findColumn(ANY_COLUMN_NAME_7)).thenReturn(9);
+  }
+
   @Test
   public void interpret_ShouldReturnWhatsSet() throws SQLException {
     // Arrange
-    when(resultSet.getString(ANY_NAME_1)).thenReturn(ANY_TEXT_1);
-    when(resultSet.getString(ANY_NAME_2)).thenReturn(ANY_TEXT_2);
-    when(resultSet.getBoolean(ANY_COLUMN_NAME_1)).thenReturn(true);
-    when(resultSet.getInt(ANY_COLUMN_NAME_2)).thenReturn(Integer.MAX_VALUE);
-    when(resultSet.getLong(ANY_COLUMN_NAME_3)).thenReturn(BigIntValue.MAX_VALUE);
-    when(resultSet.getDouble(ANY_COLUMN_NAME_4)).thenReturn((double) Float.MAX_VALUE);
-    when(resultSet.getDouble(ANY_COLUMN_NAME_5)).thenReturn(Double.MAX_VALUE);
-    when(resultSet.getString(ANY_COLUMN_NAME_6)).thenReturn("string");
-    when(resultSet.getBytes(ANY_COLUMN_NAME_7))
+    mockColumnPositions();
+    when(resultSet.getString(1)).thenReturn(ANY_TEXT_1);
+    when(resultSet.getString(2)).thenReturn(ANY_TEXT_2);
+    when(resultSet.getBoolean(3)).thenReturn(true);
+    when(resultSet.getInt(4)).thenReturn(Integer.MAX_VALUE);
+    when(resultSet.getLong(5)).thenReturn(BigIntValue.MAX_VALUE);
+    when(resultSet.getDouble(6)).thenReturn((double) Float.MAX_VALUE);
+    when(resultSet.getDouble(7)).thenReturn(Double.MAX_VALUE);
+    when(resultSet.getString(8)).thenReturn("string");
+    when(resultSet.getBytes(9))
         .thenReturn("bytes".getBytes(StandardCharsets.UTF_8));
 
     List<String> projections = Collections.emptyList();
@@ -154,15 +172,16 @@ public class ResultInterpreterTest {
   @Test
   public void interpret_ShouldReturnWhatsSetWithNullValues() throws SQLException {
     // Arrange
-    when(resultSet.getString(ANY_NAME_1)).thenReturn(ANY_TEXT_1);
-    when(resultSet.getString(ANY_NAME_2)).thenReturn(ANY_TEXT_2);
-    when(resultSet.getBoolean(ANY_COLUMN_NAME_1)).thenReturn(false);
-    when(resultSet.getInt(ANY_COLUMN_NAME_2)).thenReturn(0);
-    when(resultSet.getLong(ANY_COLUMN_NAME_3)).thenReturn(0L);
-    when(resultSet.getDouble(ANY_COLUMN_NAME_4)).thenReturn(0.0D);
-    when(resultSet.getDouble(ANY_COLUMN_NAME_5)).thenReturn(0.0D);
-    when(resultSet.getString(ANY_COLUMN_NAME_6)).thenReturn(null);
-    when(resultSet.getBytes(ANY_COLUMN_NAME_7)).thenReturn(null);
+    mockColumnPositions();
+    when(resultSet.getString(1)).thenReturn(ANY_TEXT_1);
+    when(resultSet.getString(2)).thenReturn(ANY_TEXT_2);
+    when(resultSet.getBoolean(3)).thenReturn(false);
+    when(resultSet.getInt(4)).thenReturn(0);
+    when(resultSet.getLong(5)).thenReturn(0L);
+    when(resultSet.getDouble(6)).thenReturn(0.0D);
+    when(resultSet.getDouble(7)).thenReturn(0.0D);
+    when(resultSet.getString(8)).thenReturn(null);
+    when(resultSet.getBytes(9)).thenReturn(null);
     when(resultSet.wasNull()).thenReturn(false).thenReturn(false).thenReturn(true);
 
     List<String> projections = Collections.emptyList();
@@ -238,4 +257,48 @@ public class ResultInterpreterTest {
     assertThat(result.getBlob(ANY_COLUMN_NAME_7)).isNull();
     assertThat(result.getBlobAsBytes(ANY_COLUMN_NAME_7)).isNull();
   }
+
+  @Test
+  public void interpret_ProjectionsGiven_ShouldReadColumnsAtPositionsOfProjections()
+      throws SQLException {
+    // Arrange
+    when(resultSet.getInt(1)).thenReturn(10);
+    when(resultSet.getString(2)).thenReturn(ANY_TEXT_1);
+
+    List<String> projections = Arrays.asList(ANY_COLUMN_NAME_2, ANY_NAME_1);
+
+    ResultInterpreter interpreter = new ResultInterpreter(projections, TABLE_METADATA);
+
+    // Act
+    Result result = interpreter.interpret(resultSet);
+
+    // Assert
+    assertThat(result.getContainedColumnNames())
+        .containsExactlyInAnyOrder(ANY_COLUMN_NAME_2, ANY_NAME_1);
+    assertThat(result.getInt(ANY_COLUMN_NAME_2)).isEqualTo(10);
+    assertThat(result.getText(ANY_NAME_1)).isEqualTo(ANY_TEXT_1);
+    assertThat(result.getColumns().keySet())
+        .containsExactlyInAnyOrder(ANY_COLUMN_NAME_2, ANY_NAME_1);
+    verify(resultSet, never()).findColumn(anyString());
+  }
+
+  @Test
+  public void interpret_CalledForSameResultSetTwice_ShouldFindColumnPositionsOnlyOnce()
+      throws SQLException {
+    // Arrange
+    mockColumnPositions();
+
+    ResultInterpreter interpreter =
+        new ResultInterpreter(Collections.emptyList(), TABLE_METADATA);
+
+    // Act
+    interpreter.interpret(resultSet);
+    interpreter.interpret(resultSet);
+
+    // Assert
+    verify(resultSet, times(1)).findColumn(ANY_NAME_1);
+    verify(resultSet, times(1)).findColumn(ANY_COLUMN_NAME_7);
+    verify(resultSet, times(2)).getString(1);
+    verify(resultSet, times(2)).getBytes(9);
+  }
 }
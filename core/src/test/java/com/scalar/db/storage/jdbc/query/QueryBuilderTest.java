@@ -1,18 +1,24 @@
 package com.scalar.db.storage.jdbc.query;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.google.common.collect.ImmutableSet;
 import com.scalar.db.api.ConditionBuilder;
 import com.scalar.db.api.ConditionalExpression;
 import com.scalar.db.api.ConditionalExpression.Operator;
+import com.scalar.db.api.LockMode;
 import com.scalar.db.api.Scan;
 import com.scalar.db.api.Selection.Conjunction;
 import com.scalar.db.api.TableMetadata;
 import com.scalar.db.io.Column;
 import com.scalar.db.io.DataType;
+import com.scalar.db.io.IntColumn;
 import com.scalar.db.io.Key;
 import com.scalar.db.io.TextColumn;
 import com.scalar.db.io.TextValue;
@@ -24,6 +30,7 @@ import java.sql.Types;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -912,6 +919,187 @@ public class QueryBuilderTest {
     verify(preparedStatement).setString(2, "p2Value");
   }
 
+  @ParameterizedTest
+  @EnumSource(RdbEngine.class)
+  public void selectQueryWithKeysetTest(RdbEngine rdbEngineType) throws SQLException {
+    RdbEngineStrategy rdbEngine = RdbEngine.createRdbEngineStrategy(rdbEngineType);
+    QueryBuilder queryBuilder = new QueryBuilder(rdbEngine);
+
+    SelectQuery query;
+    PreparedStatement preparedStatement;
+
+    // The first page
+    preparedStatement = mock(PreparedStatement.class);
+    query =
+        queryBuilder
+            .select(Collections.emptyList())
+            .from(NAMESPACE, TABLE, CROSS_PARTITION_TABLE_METADATA)
+            .where(Collections.emptySet())
+            .orderBy(Collections.emptyList())
+            .keyset(
+                Arrays.asList(Scan.Ordering.asc("p1"), Scan.Ordering.asc("p2")),
+                Collections.emptyList())
+            .build();
+    assertThat(query.sql())
+        .isEqualTo(encloseSql("SELECT * FROM n1.t1 ORDER BY p1 ASC,p2 ASC", rdbEngine));
+    query.bind(preparedStatement);
+    verify(preparedStatement, never()).setString(anyInt(), any());
+
+    // The next page of a cross-partition scan
+    preparedStatement = mock(PreparedStatement.class);
+    query =
+        queryBuilder
+            .select(Collections.emptyList())
+            .from(NAMESPACE, TABLE, CROSS_PARTITION_TABLE_METADATA)
+            .where(Collections.emptySet())
+            .orderBy(Collections.emptyList())
+            .keyset(
+                Arrays.asList(Scan.Ordering.asc("p1"), Scan.Ordering.asc("p2")),
+                Arrays.asList(TextColumn.of("p1", "p1Value"), IntColumn.of("p2", 10)))
+            .build();
+    query.bind(preparedStatement);
+    if (rdbEngine.isRowValueComparisonSupported()) {
+      assertThat(query.sql())
+          .isEqualTo(
+              encloseSql(
+                  "SELECT * FROM n1.t1 WHERE (p1,p2)>(?,?) ORDER BY p1 ASC,p2 ASC", rdbEngine));
+      verify(preparedStatement).setString(1, "p1Value");
+      verify(preparedStatement).setInt(2, 10);
+    } else {
+      assertThat(query.sql())
+          .isEqualTo(
+              encloseSql(
+                  "SELECT * FROM n1.t1 WHERE (p1>? OR (p1=? AND p2>?)) ORDER BY p1 ASC,p2 ASC",
+                  rdbEngine));
+      verify(preparedStatement).setString(1, "p1Value");
+      verify(preparedStatement).setString(2, "p1Value");
+      verify(preparedStatement).setInt(3, 10);
+    }
+
+    // The next page of a scan within a partition in different orders
+    preparedStatement = mock(PreparedStatement.class);
+    query =
+        queryBuilder
+            .select(Arrays.asList("c1", "c2"))
+            .from(NAMESPACE, TABLE, TABLE_METADATA)
+            .where(
+                new Key("p1", "p1Value"),
+                Optional.empty(),
+                false,
+                Optional.empty(),
+                false,
+                ImmutableSet.of())
+            .orderBy(Collections.emptyList())
+            .keyset(
+                Arrays.asList(Scan.Ordering.asc("c1"), Scan.Ordering.desc("c2")),
+                Arrays.asList(TextColumn.of("c1", "c1Value"), TextColumn.of("c2", "c2Value")))
+            .build();
+    assertThat(query.sql())
+        .isEqualTo(
+            encloseSql(
+                "SELECT c1,c2 FROM n1.t1 WHERE p1=? AND (c1>? OR (c1=? AND c2<?)) "
+                    + "ORDER BY c1 ASC,c2 DESC",
+                rdbEngine));
+    query.bind(preparedStatement);
+    verify(preparedStatement).setString(1, "p1Value");
+    verify(preparedStatement).setString(2, "c1Value");
+    verify(preparedStatement).setString(3, "c1Value");
+    verify(preparedStatement).setString(4, "c2Value");
+  }
+
+  @ParameterizedTest
+  @EnumSource(RdbEngine.class)
+  public void selectQueryWithLockModeTest(RdbEngine rdbEngineType) {
+    RdbEngineStrategy rdbEngine = RdbEngine.createRdbEngineStrategy(rdbEngineType);
+    QueryBuilder queryBuilder = new QueryBuilder(rdbEngine);
+
+    SelectQuery sharedGetQuery =
+        queryBuilder
+            .select(Collections.emptyList())
+            .from(NAMESPACE, TABLE, TABLE_METADATA)
+            .where(new Key("p1", "p1Value"), Optional.empty(), Collections.emptySet())
+            .lockMode(LockMode.SHARED)
+            .build();
+    SelectQuery exclusiveGetQuery =
+        queryBuilder
+            .select(Collections.emptyList())
+            .from(NAMESPACE, TABLE, TABLE_METADATA)
+            .where(new Key("p1", "p1Value"), Optional.empty(), Collections.emptySet())
+            .lockMode(LockMode.EXCLUSIVE)
+            .build();
+    SelectQuery skipLockedScanQuery =
+        queryBuilder
+            .select(Collections.emptyList())
+            .from(NAMESPACE, TABLE, TABLE_METADATA)
+            .where(
+                new Key("p1", "p1Value"),
+                Optional.empty(),
+                false,
+                Optional.empty(),
+                false,
+                ImmutableSet.of())
+            .lockMode(LockMode.SKIP_LOCKED)
+            .limit(10)
+            .build();
+
+    switch (rdbEngineType) {
+      case MYSQL:
+        assertThat(sharedGetQuery.sql())
+            .isEqualTo(encloseSql("SELECT * FROM n1.t1 WHERE p1=? LOCK IN SHARE MODE", rdbEngine));
+        assertThat(exclusiveGetQuery.sql())
+            .isEqualTo(encloseSql("SELECT * FROM n1.t1 WHERE p1=? FOR UPDATE", rdbEngine));
+        assertThat(skipLockedScanQuery.sql())
+            .isEqualTo(
+                encloseSql(
+                    "SELECT * FROM n1.t1 WHERE p1=? ORDER BY c1 ASC,c2 DESC LIMIT 10 "
+                        + "FOR UPDATE SKIP LOCKED",
+                    rdbEngine));
+        break;
+      case POSTGRESQL:
+      case YUGABYTE:
+        assertThat(sharedGetQuery.sql())
+            .isEqualTo(encloseSql("SELECT * FROM n1.t1 WHERE p1=? FOR SHARE", rdbEngine));
+        assertThat(exclusiveGetQuery.sql())
+            .isEqualTo(encloseSql("SELECT * FROM n1.t1 WHERE p1=? FOR UPDATE", rdbEngine));
+        assertThat(skipLockedScanQuery.sql())
+            .isEqualTo(
+                encloseSql(
+                    "SELECT * FROM n1.t1 WHERE p1=? ORDER BY c1 ASC,c2 DESC LIMIT 10 "
+                        + "FOR UPDATE SKIP LOCKED",
+                    rdbEngine));
+        break;
+      case ORACLE:
+        assertThat(sharedGetQuery.sql())
+            .isEqualTo(encloseSql("SELECT * FROM n1.t1 WHERE p1=? FOR UPDATE", rdbEngine));
+        assertThat(exclusiveGetQuery.sql())
+            .isEqualTo(encloseSql("SELECT * FROM n1.t1 WHERE p1=? FOR UPDATE", rdbEngine));
+        assertThatThrownBy(skipLockedScanQuery::sql).isInstanceOf(IllegalArgumentException.class);
+        break;
+      case SQL_SERVER:
+        assertThat(sharedGetQuery.sql())
+            .isEqualTo(
+                encloseSql(
+                    "SELECT * FROM n1.t1 WITH (REPEATABLEREAD,ROWLOCK) WHERE p1=?", rdbEngine));
+        assertThat(exclusiveGetQuery.sql())
+            .isEqualTo(
+                encloseSql("SELECT * FROM n1.t1 WITH (UPDLOCK,ROWLOCK) WHERE p1=?", rdbEngine));
+        assertThat(skipLockedScanQuery.sql())
+            .isEqualTo(
+                encloseSql(
+                    "SELECT TOP 10 * FROM n1.t1 WITH (UPDLOCK,ROWLOCK,READPAST) WHERE p1=? "
+                        + "ORDER BY c1 ASC,c2 DESC",
+                    rdbEngine));
+        break;
+      case SQLITE:
+        assertThatThrownBy(sharedGetQuery::sql).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(exclusiveGetQuery::sql).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(skipLockedScanQuery::sql).isInstanceOf(IllegalArgumentException.class);
+        break;
+      default:
+        throw new AssertionError();
+    }
+  }
+
   @ParameterizedTest
   @EnumSource(RdbEngine.class)
   public void insertQueryTest(RdbEngine rdbEngineType) throws SQLException {
@@ -1773,6 +1961,127 @@ public class QueryBuilderTest {
     }
   }
 
+  @ParameterizedTest
+  @EnumSource(RdbEngine.class)
+  public void sql_QueriesWithSameShapeGiven_ShouldReturnSameSqlInstance(RdbEngine rdbEngineType) {
+    RdbEngineStrategy rdbEngine = RdbEngine.createRdbEngineStrategy(rdbEngineType);
+    QueryBuilder queryBuilder = new QueryBuilder(rdbEngine);
+
+    // Select
+    String sql1 =
+        queryBuilder
+            .select(Arrays.asList("c1", "c2"))
+            .from(NAMESPACE, TABLE, TABLE_METADATA)
+            .where(
+                Key.of("p1", "p1Value1", "p2", "p2Value1"),
+                Optional.of(Key.ofText("c1", "c1StartValue1")),
+                true,
+                Optional.of(Key.ofText("c1", "c1EndValue1")),
+                false,
+                Collections.emptySet())
+            .build()
+            .sql();
+    String sql2 =
+        queryBuilder
+            .select(Arrays.asList("c1", "c2"))
+            .from(NAMESPACE, TABLE, TABLE_METADATA)
+            .where(
+                Key.of("p1", "p1Value2", "p2", "p2Value2"),
+                Optional.of(Key.ofText("c1", "c1StartValue2")),
+                true,
+                Optional.of(Key.ofText("c1", "c1EndValue2")),
+                false,
+                Collections.emptySet())
+            .build()
+            .sql();
+    String sql3 =
+        queryBuilder
+            .select(Arrays.asList("c1", "c2"))
+            .from(NAMESPACE, TABLE, TABLE_METADATA)
+            .where(
+                Key.of("p1", "p1Value2", "p2", "p2Value2"),
+                Optional.of(Key.ofText("c1", "c1StartValue2")),
+                false,
+                Optional.of(Key.ofText("c1", "c1EndValue2")),
+                false,
+                Collections.emptySet())
+            .build()
+            .sql();
+    assertThat(sql2).isSameAs(sql1);
+    assertThat(sql3)
+        .isEqualTo(
+            encloseSql(
+                "SELECT c1,c2 FROM n1.t1 WHERE p1=? AND p2=? AND c1>? AND c1<? "
+                    + "ORDER BY c1 ASC,c2 DESC",
+                rdbEngine));
+
+    // Upsert
+    Map<String, Column<?>> columns1 = new LinkedHashMap<>();
+    columns1.put("v1", TextColumn.of("v1", "v1Value1"));
+    columns1.put("v2", TextColumn.of("v2", "v2Value1"));
+    Map<String, Column<?>> columns2 = new LinkedHashMap<>();
+    columns2.put("v1", TextColumn.of("v1", "v1Value2"));
+    columns2.put("v2", TextColumn.of("v2", "v2Value2"));
+    Map<String, Column<?>> columns3 = new LinkedHashMap<>();
+    columns3.put("v2", TextColumn.of("v2", "v2Value2"));
+    columns3.put("v1", TextColumn.of("v1", "v1Value2"));
+    sql1 =
+        queryBuilder
+            .upsertInto(NAMESPACE, TABLE, TABLE_METADATA)
+            .values(
+                Key.of("p1", "p1Value1", "p2", "p2Value1"),
+                Optional.of(Key.of("c1", "c1Value1", "c2", "c2Value1")),
+                columns1)
+            .build()
+            .sql();
+    sql2 =
+        queryBuilder
+            .upsertInto(NAMESPACE, TABLE, TABLE_METADATA)
+            .values(
+                Key.of("p1", "p1Value2", "p2", "p2Value2"),
+                Optional.of(Key.of("c1", "c1Value2", "c2", "c2Value2")),
+                columns2)
+            .build()
+            .sql();
+    sql3 =
+        queryBuilder
+            .upsertInto(NAMESPACE, TABLE, TABLE_METADATA)
+            .values(
+                Key.of("p1", "p1Value2", "p2", "p2Value2"),
+                Optional.of(Key.of("c1", "c1Value2", "c2", "c2Value2")),
+                columns3)
+            .build()
+            .sql();
+    assertThat(sql2).isSameAs(sql1);
+    assertThat(sql3).isNotEqualTo(sql1);
+
+    // Delete
+    sql1 =
+        queryBuilder
+            .deleteFrom(NAMESPACE, TABLE, TABLE_METADATA)
+            .where(
+                Key.of("p1", "p1Value1", "p2", "p2Value1"),
+                Optional.of(Key.of("c1", "c1Value1", "c2", "c2Value1")))
+            .build()
+            .sql();
+    sql2 =
+        queryBuilder
+            .deleteFrom(NAMESPACE, TABLE, TABLE_METADATA)
+            .where(
+                Key.of("p1", "p1Value2", "p2", "p2Value2"),
+                Optional.of(Key.of("c1", "c1Value2", "c2", "c2Value2")))
+            .build()
+            .sql();
+    sql3 =
+        queryBuilder
+            .deleteFrom(NAMESPACE, TABLE, TABLE_METADATA)
+            .where(Key.of("p1", "p1Value2", "p2", "p2Value2"), Optional.empty())
+            .build()
+            .sql();
+    assertThat(sql2).isSameAs(sql1);
+    assertThat(sql3).isEqualTo(encloseSql("DELETE FROM n1.t1 WHERE p1=? AND p2=?", rdbEngine));
+  }
+
   private String encloseSql(String sql, RdbEngineStrategy rdbEngine) {
     return sql.replace("n1.t1", rdbEngine.encloseFullTableName("n1", "t1"))
         .replace("p1", rdbEngine.enclose("p1"))
@@ -324,6 +324,25 @@ public class MultiStorageTest {
     verify(storage3).mutate(anyList());
   }
 
+  @Test
+  public void whenMutateNonAtomicallyDataToTable1AndTable3_ShouldExecuteForEachStorage()
+      throws ExecutionException {
+    // Arrange
+    Key partitionKey = new Key(COL_NAME1, 1);
+    Put put1 =
+        new Put(partitionKey).withValue(COL_NAME3, 3).forNamespace(NAMESPACE1).forTable(TABLE1);
+    Put put2 =
+        new Put(partitionKey).withValue(COL_NAME3, 3).forNamespace(NAMESPACE1).forTable(TABLE3);
+    Delete delete = new Delete(new Key(COL_NAME1, 2)).forNamespace(NAMESPACE1).forTable(TABLE1);
+
+    // Act
+    multiStorage.mutateNonAtomically(Arrays.asList(put1, put2, delete));
+
+    // Assert
+    verify(storage1).mutateNonAtomically(Arrays.asList(put1, delete));
+    verify(storage3).mutateNonAtomically(Collections.singletonList(put2));
+  }
+
   @Test
   public void whenCallMutateWithEmptyList_ShouldThrowIllegalArgumentException() {
     // Arrange Act Assert
@@ -156,7 +156,8 @@ public class CommitHandlerTest {
     handler.commit(snapshot);
 
     // Assert
-    verify(storage, times(4)).mutate(anyList());
+    verify(storage, times(2)).mutate(anyList());
+    verify(storage, times(2)).mutateNonAtomically(anyList());
     verifyCoordinatorPutState(TransactionState.COMMITTED);
   }
 
@@ -173,7 +174,8 @@ public class CommitHandlerTest {
     handler.commit(snapshot);
 
     // Assert
-    verify(storage, times(2)).mutate(anyList());
+    verify(storage).mutate(anyList());
+    verify(storage).mutateNonAtomically(anyList());
     verifyCoordinatorPutState(TransactionState.COMMITTED);
   }
 
@@ -527,7 +529,8 @@ public class CommitHandlerTest {
     handler.commit(snapshot);
 
     // Assert
-    verify(storage, times(4)).mutate(anyList());
+    verify(storage, times(2)).mutate(anyList());
+    verify(storage, times(2)).mutateNonAtomically(anyList());
     verifyCoordinatorPutState(TransactionState.COMMITTED);
     verify(coordinator).getState(anyId());
     verify(handler, never()).rollbackRecords(snapshot);
@@ -936,4 +936,16 @@ public class ConsensusCommitManagerTest {
     verify(transaction).mutate(mutations);
     verify(transaction).commit();
   }
+
+  @Test
+  public void isReady_StorageNotReady_ShouldReturnFalse() {
+    // Arrange
+    when(storage.isReady()).thenReturn(false);
+
+    // Act
+    boolean actual = manager.isReady();
+
+    // Assert
+    assertThat(actual).isFalse();
+  }
 }
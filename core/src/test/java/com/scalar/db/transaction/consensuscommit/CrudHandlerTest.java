@@ -18,6 +18,7 @@ import com.scalar.db.api.Consistency;
 import com.scalar.db.api.Delete;
 import com.scalar.db.api.DistributedStorage;
 import com.scalar.db.api.Get;
+import com.scalar.db.api.LockMode;
 import com.scalar.db.api.Put;
 import com.scalar.db.api.Result;
 import com.scalar.db.api.Scan;
@@ -253,6 +254,23 @@ public class CrudHandlerTest {
     assertThat(result.isPresent()).isFalse();
   }
 
+  @Test
+  public void get_GetWithLockModeGiven_ShouldGetFromStorageWithoutLockMode()
+      throws CrudException, ExecutionException {
+    // Arrange
+    Get get = Get.newBuilder(prepareGet()).lockMode(LockMode.SKIP_LOCKED).build();
+    Get getForStorage = Get.newBuilder(toGetForStorageFrom(get)).lockMode(LockMode.NONE).build();
+    when(snapshot.containsKeyInGetSet(getForStorage)).thenReturn(false);
+    when(storage.get(getForStorage)).thenReturn(Optional.empty());
+
+    // Act
+    Optional<Result> result = handler.get(get);
+
+    // Assert
+    assertThat(result.isPresent()).isFalse();
+    verify(storage).get(getForStorage);
+  }
+
   @Test
   public void get_GetNotExistsInSnapshotAndExceptionThrownInStorage_ShouldThrowCrudException()
       throws ExecutionException {
@@ -2,6 +2,7 @@ package com.scalar.db.transaction.consensuscommit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -111,12 +112,12 @@ public class TransactionTableMetadataManagerTest {
 
     // Act
     tableMetadataManager.getTransactionTableMetadata(get);
-    // Wait for cache to be expired
+    // Wait for cache to be expired. The cached one is returned and reloaded in the background
     Uninterruptibles.sleepUninterruptibly(1200, TimeUnit.MILLISECONDS);
     TransactionTableMetadata actual = tableMetadataManager.getTransactionTableMetadata(get);
 
     // Assert
-    verify(admin, times(2)).getTableMetadata(anyString(), anyString());
+    verify(admin, timeout(1000).times(2)).getTableMetadata(anyString(), anyString());
     assertTransactionMetadata(actual);
   }
 
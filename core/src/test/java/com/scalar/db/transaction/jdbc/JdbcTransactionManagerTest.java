@@ -33,6 +33,7 @@ import com.scalar.db.exception.transaction.TransactionException;
 import com.scalar.db.exception.transaction.TransactionNotFoundException;
 import com.scalar.db.exception.transaction.UnknownTransactionStatusException;
 import com.scalar.db.io.Key;
+import com.scalar.db.storage.jdbc.JdbcConnectionPool;
 import com.scalar.db.storage.jdbc.JdbcService;
 import com.scalar.db.storage.jdbc.RdbEngine;
 import java.sql.Connection;
@@ -41,7 +42,6 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import org.apache.commons.dbcp2.BasicDataSource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -54,8 +54,8 @@ public class JdbcTransactionManagerTest {
   private static final String ANY_ID = "id";
 
   @Mock private DatabaseConfig databaseConfig;
-  @Mock private BasicDataSource dataSource;
-  @Mock private BasicDataSource tableMetadataDataSource;
+  @Mock private JdbcConnectionPool connectionPool;
+  @Mock private JdbcConnectionPool tableMetadataConnectionPool;
   @Mock private JdbcService jdbcService;
   @Mock private Connection connection;
   @Mock private SQLException sqlException;
@@ -67,12 +67,12 @@ public class JdbcTransactionManagerTest {
     MockitoAnnotations.openMocks(this).close();
 
     // Arrange
-    when(dataSource.getConnection()).thenReturn(connection);
+    when(connectionPool.getConnection()).thenReturn(connection);
     manager =
         new JdbcTransactionManager(
             databaseConfig,
-            dataSource,
-            tableMetadataDataSource,
+            connectionPool,
+            tableMetadataConnectionPool,
             RdbEngine.createRdbEngineStrategy(RdbEngine.MYSQL),
             jdbcService);
   }
@@ -3,32 +3,43 @@ package com.scalar.db.transaction.jdbc;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.scalar.db.api.ConditionBuilder;
 import com.scalar.db.api.Delete;
+import com.scalar.db.api.Get;
 import com.scalar.db.api.Insert;
 import com.scalar.db.api.MutationCondition;
 import com.scalar.db.api.Put;
 import com.scalar.db.api.Update;
 import com.scalar.db.api.Upsert;
 import com.scalar.db.exception.storage.ExecutionException;
+import com.scalar.db.exception.transaction.CommitException;
 import com.scalar.db.exception.transaction.CrudConflictException;
 import com.scalar.db.exception.transaction.CrudException;
+import com.scalar.db.exception.transaction.TransactionException;
 import com.scalar.db.exception.transaction.UnsatisfiedConditionException;
 import com.scalar.db.io.Key;
 import com.scalar.db.storage.jdbc.JdbcService;
 import com.scalar.db.storage.jdbc.RdbEngineStrategy;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
@@ -653,4 +664,159 @@ public class JdbcTransactionTest {
     // Act Assert
     assertThatThrownBy(() -> transaction.update(update)).isInstanceOf(CrudException.class);
   }
+
+  @Test
+  public void put_UnconditionalPutGivenInWriteBehindMode_ShouldBufferPutUntilCommit()
+      throws SQLException, ExecutionException, TransactionException {
+    // Arrange
+    JdbcTransaction writeBehindTransaction =
+        new JdbcTransaction(ANY_TX_ID, jdbcService, connection, rdbEngineStrategy, true);
+    Put put = preparePut(ANY_TEXT_1);
+    Delete delete = prepareDelete(ANY_TEXT_2);
+
+    // Act
+    writeBehindTransaction.put(put);
+    writeBehindTransaction.delete(delete);
+
+    // Assert
+    verify(jdbcService).check(put);
+    verify(jdbcService).check(delete);
+    verify(jdbcService, never()).put(any(), any());
+    verify(jdbcService, never()).delete(any(), any());
+    verify(jdbcService, never()).mutatePrechecked(anyList(), any());
+
+    // Act
+    writeBehindTransaction.commit();
+
+    // Assert
+    InOrder inOrder = inOrder(jdbcService, connection);
+    inOrder.verify(jdbcService).mutatePrechecked(Arrays.asList(put, delete), connection);
+    inOrder.verify(connection).commit();
+  }
+
+  @Test
+  public void get_GetForTableOfBufferedMutationGivenInWriteBehindMode_ShouldWriteBufferFirst()
+      throws SQLException, ExecutionException, CrudException {
+    // Arrange
+    JdbcTransaction writeBehindTransaction =
+        new JdbcTransaction(ANY_TX_ID, jdbcService, connection, rdbEngineStrategy, true);
+    Put put = preparePut(ANY_TEXT_1);
+    Upsert upsert =
+        Upsert.newBuilder()
+            .namespace(ANY_NAMESPACE)
+            .table(ANY_TABLE_NAME)
+            .partitionKey(Key.ofText(ANY_NAME_1, ANY_TEXT_2))
+            .textValue(ANY_NAME_3, ANY_TEXT_3)
+            .build();
+    Get get =
+        Get.newBuilder()
+            .namespace(ANY_NAMESPACE)
+            .table(ANY_TABLE_NAME)
+            .partitionKey(Key.ofText(ANY_NAME_1, ANY_TEXT_1))
+            .build();
+    when(jdbcService.get(any(), any())).thenReturn(Optional.empty());
+    writeBehindTransaction.put(put);
+    writeBehindTransaction.upsert(upsert);
+
+    // Act
+    writeBehindTransaction.get(get);
+
+    // Assert
+    InOrder inOrder = inOrder(jdbcService);
+    inOrder.verify(jdbcService).mutatePrechecked(anyList(), eq(connection));
+    inOrder.verify(jdbcService).get(get, connection);
+    verify(jdbcService, never()).put(any(), any());
+  }
+
+  @Test
+  public void get_GetForAnotherTableGivenInWriteBehindMode_ShouldNotWriteBuffer()
+      throws SQLException, ExecutionException, CrudException {
+    // Arrange
+    JdbcTransaction writeBehindTransaction =
+        new JdbcTransaction(ANY_TX_ID, jdbcService, connection, rdbEngineStrategy, true);
+    Get get =
+        Get.newBuilder()
+            .namespace(ANY_NAMESPACE)
+            .table("another_table")
+            .partitionKey(Key.ofText(ANY_NAME_1, ANY_TEXT_1))
+            .build();
+    when(jdbcService.get(any(), any())).thenReturn(Optional.empty());
+    writeBehindTransaction.put(preparePut(ANY_TEXT_1));
+
+    // Act
+    writeBehindTransaction.get(get);
+
+    // Assert
+    verify(jdbcService).get(get, connection);
+    verify(jdbcService, never()).mutatePrechecked(anyList(), any());
+  }
+
+  @Test
+  public void put_ConditionalPutGivenInWriteBehindMode_ShouldWriteBufferAndExecutePut()
+      throws SQLException, ExecutionException, CrudException {
+    // Arrange
+    JdbcTransaction writeBehindTransaction =
+        new JdbcTransaction(ANY_TX_ID, jdbcService, connection, rdbEngineStrategy, true);
+    Put put = preparePut(ANY_TEXT_1);
+    Put conditionalPut =
+        Put.newBuilder(preparePut(ANY_TEXT_2)).condition(ConditionBuilder.putIfExists()).build();
+    when(jdbcService.put(any(), any())).thenReturn(true);
+    writeBehindTransaction.put(put);
+
+    // Act
+    writeBehindTransaction.put(conditionalPut);
+
+    // Assert
+    InOrder inOrder = inOrder(jdbcService);
+    inOrder.verify(jdbcService).mutatePrechecked(Collections.singletonList(put), connection);
+    inOrder.verify(jdbcService).put(conditionalPut, connection);
+  }
+
+  @Test
+  public void commit_WritingBufferFailedInWriteBehindMode_ShouldRollbackAndThrowCommitException()
+      throws SQLException, ExecutionException, CrudException {
+    // Arrange
+    JdbcTransaction writeBehindTransaction =
+        new JdbcTransaction(ANY_TX_ID, jdbcService, connection, rdbEngineStrategy, true);
+    when(jdbcService.mutatePrechecked(anyList(), any())).thenThrow(SQLException.class);
+    writeBehindTransaction.put(preparePut(ANY_TEXT_1));
+
+    // Act Assert
+    assertThatThrownBy(writeBehindTransaction::commit).isInstanceOf(CommitException.class);
+    verify(connection).rollback();
+    verify(connection, never()).commit();
+  }
+
+  @Test
+  public void rollback_InWriteBehindMode_ShouldDiscardBuffer()
+      throws SQLException, ExecutionException, TransactionException {
+    // Arrange
+    JdbcTransaction writeBehindTransaction =
+        new JdbcTransaction(ANY_TX_ID, jdbcService, connection, rdbEngineStrategy, true);
+    writeBehindTransaction.put(preparePut(ANY_TEXT_1));
+
+    // Act
+    writeBehindTransaction.rollback();
+
+    // Assert
+    verify(jdbcService, never()).mutatePrechecked(anyList(), any());
+    verify(connection).rollback();
+  }
+
+  private Put preparePut(String partitionKeyValue) {
+    return Put.newBuilder()
+        .namespace(ANY_NAMESPACE)
+        .table(ANY_TABLE_NAME)
+        .partitionKey(Key.ofText(ANY_NAME_1, partitionKeyValue))
+        .textValue(ANY_NAME_3, ANY_TEXT_3)
+        .build();
+  }
+
+  private Delete prepareDelete(String partitionKeyValue) {
+    return Delete.newBuilder()
+        .namespace(ANY_NAMESPACE)
+        .table(ANY_TABLE_NAME)
+        .partitionKey(Key.ofText(ANY_NAME_1, partitionKeyValue))
+        .build();
+  }
 }
@@ -0,0 +1,96 @@
+package com.scalar.db.util.groupcommit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JmxGroupCommitMetricsRegistryTest {
+  private MBeanServer mBeanServer;
+  private JmxGroupCommitMetricsRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    mBeanServer = MBeanServerFactory.newMBeanServer();
+    registry = new JmxGroupCommitMetricsRegistry("test", mBeanServer);
+  }
+
+  @AfterEach
+  void tearDown() {
+    registry.close();
+  }
+
+  @Test
+  void constructor_ShouldRegisterMXBean() {
+    // Arrange
+    ObjectName objectName = registry.getObjectName();
+
+    // Act Assert
+    assertThat(objectName).isNotNull();
+    assertThat(mBeanServer.isRegistered(objectName)).isTrue();
+    assertThat(objectName.getKeyProperty("type")).isEqualTo("GroupCommit");
+  }
+
+  @Test
+  void close_ShouldUnregisterMXBean() {
+    // Arrange
+    ObjectName objectName = registry.getObjectName();
+
+    // Act
+    registry.close();
+
+    // Assert
+    assertThat(mBeanServer.isRegistered(objectName)).isFalse();
+  }
+
+  @Test
+  void recordXXX_ShouldAggregateMetrics() {
+    // Arrange
+
+    // Act
+    registry.recordNormalGroupEmit(4, 2_000_000, true);
+    registry.recordNormalGroupEmit(2, 4_000_000, false);
+    registry.recordDelayedGroupEmit(1_000_000, true);
+    registry.recordSlotWaitTime(false, 10_000_000);
+    registry.recordSlotWaitTime(true, 1_000_000_000);
+    registry.recordGroupAbort(3);
+
+    // Assert
+    assertThat(registry.getNormalGroupCount()).isEqualTo(2);
+    assertThat(registry.getDelayedGroupCount()).isEqualTo(1);
+    assertThat(registry.getDelayedToNormalGroupRatio()).isEqualTo(0.5);
+    assertThat(registry.getEmitFailureCount()).isEqualTo(1);
+    assertThat(registry.getAbortedGroupCount()).isEqualTo(1);
+    assertThat(registry.getAbortedSlotCount()).isEqualTo(3);
+    assertThat(registry.getNormalGroupSize().getCount()).isEqualTo(2);
+    assertThat(registry.getNormalGroupSize().getMax()).isEqualTo(4.0);
+    assertThat(registry.getNormalGroupSize().getMean()).isEqualTo(3.0);
+    assertThat(registry.getNormalGroupEmitLatencyMillis().getMax()).isEqualTo(4.0);
+    assertThat(registry.getDelayedGroupEmitLatencyMillis().getMax()).isEqualTo(1.0);
+    assertThat(registry.getNormalGroupSlotWaitTimeMillis().getMax()).isEqualTo(10.0);
+    assertThat(registry.getDelayedGroupSlotWaitTimeMillis().getMax()).isEqualTo(1000.0);
+  }
+
+  @Test
+  void getAttribute_ShouldExposeMetricsThroughJmx() throws JMException {
+    // Arrange
+    registry.recordNormalGroupEmit(4, 2_000_000, true);
+    ObjectName objectName = registry.getObjectName();
+
+    // Act
+    Object normalGroupCount = mBeanServer.getAttribute(objectName, "NormalGroupCount");
+    CompositeData normalGroupSize =
+        (CompositeData) mBeanServer.getAttribute(objectName, "NormalGroupSize");
+
+    // Assert
+    assertThat(normalGroupCount).isEqualTo(1L);
+    assertThat(normalGroupSize.get("count")).isEqualTo(1L);
+    assertThat(normalGroupSize.get("max")).isEqualTo(4.0);
+  }
+}
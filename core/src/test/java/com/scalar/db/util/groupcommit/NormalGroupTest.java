@@ -2,7 +2,10 @@ package com.scalar.db.util.groupcommit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.google.common.util.concurrent.Uninterruptibles;
@@ -25,6 +28,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class NormalGroupTest {
   @Mock private Emittable<String, String, Integer> emitter;
+  @Mock private GroupCommitMetricsRegistry metricsRegistry;
   private TestableKeyManipulator keyManipulator;
 
   @BeforeEach
@@ -209,6 +213,44 @@ class NormalGroupTest {
     assertThat(emitted.get()).isTrue();
   }
 
+  @Test
+  void putValueToSlotAndWait_WithMetricsRegistry_ShouldRecordMetrics()
+      throws InterruptedException, ExecutionException {
+    // Arrange
+    GroupCommitConfig config = new GroupCommitConfig(2, 100, 1000, 60000, 20);
+    NormalGroup<String, String, String, String, String, Integer> group =
+        new NormalGroup<>(config, createEmitter(() -> {}), keyManipulator, metricsRegistry);
+    Slot<String, String, String, String, String, Integer> slot1 = new Slot<>("child-key-1", group);
+    Slot<String, String, String, String, String, Integer> slot2 = new Slot<>("child-key-2", group);
+    ExecutorService executorService = Executors.newCachedThreadPool();
+
+    group.reserveNewSlot(slot1);
+    group.reserveNewSlot(slot2);
+
+    // Act
+    List<Future<Void>> futures = new ArrayList<>();
+    futures.add(
+        executorService.submit(
+            () -> {
+              group.putValueToSlotAndWait(slot1.key(), 42);
+              return null;
+            }));
+    futures.add(
+        executorService.submit(
+            () -> {
+              group.putValueToSlotAndWait(slot2.key(), 43);
+              return null;
+            }));
+    executorService.shutdown();
+    for (Future<Void> future : futures) {
+      future.get();
+    }
+
+    // Assert
+    verify(metricsRegistry).recordNormalGroupEmit(eq(2), anyLong(), eq(true));
+    verify(metricsRegistry, times(2)).recordSlotWaitTime(eq(false), anyLong());
+  }
+
   @Test
   void removeNotReadySlots_WhenBothReadyAndNonReadySlotsExist_ShouldExecuteEmitTaskProperly()
       throws InterruptedException, ExecutionException {
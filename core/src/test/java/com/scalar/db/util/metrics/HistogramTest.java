@@ -0,0 +1,147 @@
+package com.scalar.db.util.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+
+  @Test
+  public void bucketIndex_ShouldBeContiguousAndMonotonic() {
+    // Arrange
+    long previousHighest = -1;
+
+    // Act Assert
+    for (int i = 0; i < 1000; i++) {
+      long highest = Histogram.highestValueOf(i);
+      assertThat(Histogram.bucketIndex(previousHighest + 1)).isEqualTo(i);
+      assertThat(Histogram.bucketIndex(highest)).isEqualTo(i);
+      previousHighest = highest;
+    }
+    assertThat(Histogram.highestValueOf(Histogram.bucketIndex(Long.MAX_VALUE)))
+        .isEqualTo(Long.MAX_VALUE);
+  }
+
+  @Test
+  public void record_SmallValuesGiven_ShouldReturnExactStatistics() {
+    // Arrange
+    Histogram histogram = new Histogram();
+
+    // Act
+    for (int i = 1; i <= 10; i++) {
+      histogram.record(i);
+    }
+
+    // Assert
+    assertThat(histogram.getCount()).isEqualTo(10);
+    assertThat(histogram.getMax()).isEqualTo(10);
+    assertThat(histogram.getMean()).isEqualTo(5.5);
+    assertThat(histogram.getValueAtPercentile(50)).isEqualTo(5);
+    assertThat(histogram.getValueAtPercentile(90)).isEqualTo(9);
+    assertThat(histogram.getValueAtPercentile(100)).isEqualTo(10);
+  }
+
+  @Test
+  public void record_LargeValuesGiven_ShouldReturnPercentilesWithinPrecision() {
+    // Arrange
+    Histogram histogram = new Histogram();
+
+    // Act
+    for (long i = 1; i <= 100_000; i++) {
+      histogram.record(i * 1000);
+    }
+
+    // Assert
+    assertThat((double) histogram.getValueAtPercentile(50))
+        .isCloseTo(50_000_000, within(50_000_000 * 0.04));
+    assertThat((double) histogram.getValueAtPercentile(99))
+        .isCloseTo(99_000_000, within(99_000_000 * 0.04));
+    assertThat(histogram.getValueAtPercentile(100)).isEqualTo(100_000_000);
+  }
+
+  @Test
+  public void record_NegativeValueGiven_ShouldRecordZero() {
+    // Arrange
+    Histogram histogram = new Histogram();
+
+    // Act
+    histogram.record(-1);
+
+    // Assert
+    assertThat(histogram.getCount()).isEqualTo(1);
+    assertThat(histogram.getMax()).isEqualTo(0);
+    assertThat(histogram.getValueAtPercentile(100)).isEqualTo(0);
+  }
+
+  @Test
+  public void getValueAtPercentile_NothingRecorded_ShouldReturnZero() {
+    // Arrange
+    Histogram histogram = new Histogram();
+
+    // Act Assert
+    assertThat(histogram.getValueAtPercentile(99)).isEqualTo(0);
+    assertThat(histogram.getMean()).isEqualTo(0.0);
+  }
+
+  @Test
+  public void getValueAtPercentile_InvalidPercentileGiven_ShouldThrowIllegalArgumentException() {
+    // Arrange
+    Histogram histogram = new Histogram();
+
+    // Act Assert
+    assertThatThrownBy(() -> histogram.getValueAtPercentile(101))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void record_CalledConcurrently_ShouldCountAllValues()
+      throws ExecutionException, InterruptedException {
+    // Arrange
+    Histogram histogram = new Histogram();
+    ExecutorService executorService = Executors.newFixedThreadPool(4);
+    List<Future<?>> futures = new ArrayList<>();
+
+    // Act
+    for (int i = 0; i < 4; i++) {
+      futures.add(
+          executorService.submit(
+              () -> {
+                for (int j = 0; j < 10000; j++) {
+                  histogram.record(j);
+                }
+              }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executorService.shutdown();
+
+    // Assert
+    assertThat(histogram.getCount()).isEqualTo(40000);
+    assertThat(histogram.getMax()).isEqualTo(9999);
+  }
+
+  @Test
+  public void snapshot_ScaleGiven_ShouldReturnScaledValues() {
+    // Arrange
+    Histogram histogram = new Histogram();
+    histogram.record(2_000_000);
+
+    // Act
+    HistogramSnapshot snapshot = histogram.snapshot(1_000_000.0);
+
+    // Assert
+    assertThat(snapshot.getCount()).isEqualTo(1);
+    assertThat(snapshot.getMean()).isEqualTo(2.0);
+    assertThat(snapshot.getMax()).isEqualTo(2.0);
+    assertThat(snapshot.getP50()).isEqualTo(2.0);
+  }
+}
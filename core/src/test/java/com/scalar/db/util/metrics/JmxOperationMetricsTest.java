@@ -0,0 +1,124 @@
+package com.scalar.db.util.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JmxOperationMetricsTest {
+  private MBeanServer mBeanServer;
+  private JmxOperationMetrics metrics;
+
+  @BeforeEach
+  public void setUp() {
+    mBeanServer = MBeanServerFactory.newMBeanServer();
+    metrics = new JmxOperationMetrics(mBeanServer);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    metrics.close();
+  }
+
+  @Test
+  public void getRecorder_CalledTwiceWithSameOperation_ShouldReturnSameRecorder() {
+    // Arrange
+
+    // Act
+    OperationRecorder recorder1 = metrics.getRecorder("storage.jdbc", "get", "ns", "tbl");
+    OperationRecorder recorder2 = metrics.getRecorder("storage.jdbc", "get", "ns", "tbl");
+    OperationRecorder recorder3 = metrics.getRecorder("storage.jdbc", "get", "ns", "tbl2");
+
+    // Assert
+    assertThat(recorder1).isSameAs(recorder2);
+    assertThat(recorder1).isNotSameAs(recorder3);
+  }
+
+  @Test
+  public void getRecorder_ShouldRegisterMXBean() {
+    // Arrange
+
+    // Act
+    metrics.getRecorder("storage.jdbc", "get", "ns", "tbl");
+    metrics.getRecorder("consensus_commit", "prepare");
+
+    // Assert
+    ObjectName objectName1 = metrics.getObjectName("storage.jdbc", "get", "ns", "tbl");
+    assertThat(objectName1).isNotNull();
+    assertThat(mBeanServer.isRegistered(objectName1)).isTrue();
+    assertThat(objectName1.getKeyProperty("type")).isEqualTo("Operation");
+    assertThat(objectName1.getKeyProperty("scope")).isEqualTo("storage.jdbc");
+    assertThat(objectName1.getKeyProperty("operation")).isEqualTo("get");
+    assertThat(objectName1.getKeyProperty("namespace")).isEqualTo("ns");
+    assertThat(objectName1.getKeyProperty("table")).isEqualTo("tbl");
+
+    ObjectName objectName2 = metrics.getObjectName("consensus_commit", "prepare", null, null);
+    assertThat(objectName2).isNotNull();
+    assertThat(mBeanServer.isRegistered(objectName2)).isTrue();
+    assertThat(objectName2.getKeyProperty("namespace")).isNull();
+    assertThat(objectName2.getKeyProperty("table")).isNull();
+  }
+
+  @Test
+  public void getRecorder_WithSpecialCharacters_ShouldQuoteObjectNameValue() {
+    // Arrange
+
+    // Act
+    metrics.getRecorder("storage.jdbc", "get", "ns", "a,b=c");
+
+    // Assert
+    ObjectName objectName = metrics.getObjectName("storage.jdbc", "get", "ns", "a,b=c");
+    assertThat(objectName).isNotNull();
+    assertThat(ObjectName.unquote(objectName.getKeyProperty("table"))).isEqualTo("a,b=c");
+  }
+
+  @Test
+  public void time_ShouldRecordCountErrorsAndLatency() throws Exception {
+    // Arrange
+    OperationRecorder recorder = metrics.getRecorder("storage.jdbc", "put", "ns", "tbl");
+
+    // Act
+    int result = recorder.time(() -> 1);
+    recorder.time(() -> {});
+    assertThatThrownBy(
+            () ->
+                recorder.time(
+                    () -> {
+                      throw new IOException("error");
+                    }))
+        .isInstanceOf(IOException.class);
+    recorder.record(3_000_000, null);
+
+    // Assert
+    assertThat(result).isEqualTo(1);
+    ObjectName objectName = metrics.getObjectName("storage.jdbc", "put", "ns", "tbl");
+    assertThat(mBeanServer.getAttribute(objectName, "Count")).isEqualTo(4L);
+    assertThat(mBeanServer.getAttribute(objectName, "ErrorCount")).isEqualTo(1L);
+    assertThat(mBeanServer.getAttribute(objectName, "ErrorRate")).isEqualTo(0.25);
+    CompositeData latency = (CompositeData) mBeanServer.getAttribute(objectName, "LatencyMillis");
+    assertThat(latency.get("count")).isEqualTo(4L);
+    assertThat((double) latency.get("max")).isGreaterThanOrEqualTo(3.0);
+  }
+
+  @Test
+  public void close_ShouldUnregisterMXBeans() throws JMException {
+    // Arrange
+    metrics.getRecorder("storage.jdbc", "get", "ns", "tbl");
+    metrics.getRecorder("storage.jdbc", "scan", "ns", "tbl");
+
+    // Act
+    metrics.close();
+
+    // Assert
+    assertThat(mBeanServer.queryNames(new ObjectName("com.scalar.db:type=Operation,*"), null))
+        .isEmpty();
+  }
+}
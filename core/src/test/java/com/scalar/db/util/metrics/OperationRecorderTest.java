@@ -0,0 +1,46 @@
+package com.scalar.db.util.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.scalar.db.exception.transaction.CommitException;
+import com.scalar.db.exception.transaction.UnknownTransactionStatusException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class OperationRecorderTest {
+
+  private final List<Throwable> failures = new ArrayList<>();
+  private final OperationRecorder recorder = (elapsedNanos, failure) -> failures.add(failure);
+
+  @Test
+  public void time_WithTwoExceptionTypes_OperationSucceeded_ShouldRecordSuccess() throws Exception {
+    // Arrange
+
+    // Act
+    recorder.time(() -> {}, CommitException.class, UnknownTransactionStatusException.class);
+
+    // Assert
+    assertThat(failures).containsExactly((Throwable) null);
+  }
+
+  @Test
+  public void time_WithTwoExceptionTypes_OperationFailed_ShouldRecordAndRethrowFailure() {
+    // Arrange
+    UnknownTransactionStatusException exception =
+        new UnknownTransactionStatusException("error", "txId");
+
+    // Act Assert
+    assertThatThrownBy(
+            () ->
+                recorder.time(
+                    () -> {
+                      throw exception;
+                    },
+                    CommitException.class,
+                    UnknownTransactionStatusException.class))
+        .isSameAs(exception);
+    assertThat(failures).containsExactly(exception);
+  }
+}